@@ -0,0 +1,32 @@
+package ch.jtaf.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class ReportingConfiguration {
+
+    /**
+     * Renders the parts of large reports, by default on as many threads as there are cores. If the queue is full the
+     * caller renders the part itself, so a single report cannot flood the executor.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    ExecutorService reportExecutor(@Value("${jtaf.reporting.threads:0}") int threads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        var threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(poolSize * 4),
+            runnable -> {
+                var thread = new Thread(runnable, "report-rendering-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
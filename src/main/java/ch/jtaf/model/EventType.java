@@ -1,5 +1,7 @@
 package ch.jtaf.model;
 
+import ch.jtaf.util.ResultParser;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,4 +15,11 @@ public enum EventType {
         }
         return valuesAsStrings;
     }
+
+    /**
+     * @return the result in hundredths or {@link ResultParser#INVALID}
+     */
+    public long parseResult(CharSequence result) {
+        return this == RUN_LONG ? ResultParser.parseClock(result) : ResultParser.parse(result);
+    }
 }
@@ -1,26 +1,22 @@
 package ch.jtaf.reporting.data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class ClubRankingData {
 
     private final String seriesName;
 
-    private final List<ClubResultData> results = new ArrayList<>();
+    private final List<ClubResultData> results;
 
-    public ClubRankingData(String seriesName) {
+    /**
+     * @param results the clubs in ranking order
+     */
+    public ClubRankingData(String seriesName, List<ClubResultData> results) {
         this.seriesName = seriesName;
+        this.results = List.copyOf(results);
     }
 
     public List<ClubResultData> getResults() {
-        results.sort((o1, o2) -> o2.getPoints().compareTo(o1.getPoints()));
-
-        int rank = 0;
-        for (ClubResultData result : results) {
-            result.setRank(++rank);
-        }
-
         return results;
     }
 
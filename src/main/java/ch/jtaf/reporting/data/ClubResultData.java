@@ -1,22 +1,17 @@
 package ch.jtaf.reporting.data;
 
-import java.math.BigDecimal;
-
 public class ClubResultData {
 
-    private int rank;
+    private final int rank;
     private final String club;
-    private final BigDecimal points;
+    private final int points;
 
-    public ClubResultData(String club, BigDecimal points) {
+    public ClubResultData(int rank, String club, int points) {
+        this.rank = rank;
         this.club = club;
         this.points = points;
     }
 
-    public void setRank(int rank) {
-        this.rank = rank;
-    }
-
     public int getRank() {
         return rank;
     }
@@ -25,7 +20,7 @@ public class ClubResultData {
         return club;
     }
 
-    public BigDecimal getPoints() {
+    public int getPoints() {
         return points;
     }
 }
@@ -1,51 +1,49 @@
 package ch.jtaf.reporting.data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class CompetitionRankingAthlete {
 
-    private int rank;
-    private final Long id;
+    private final int rank;
+    private final long id;
     private final String firstName;
     private final String lastName;
     private final int yearOfBirth;
     private final Long clubId;
+    private final int totalPoints;
 
-    public CompetitionRankingAthlete(Long id, String firstName, String lastName, int yearOfBirth, Long clubId) {
+    private final List<CompetitionRankingResult> results;
+
+    public CompetitionRankingAthlete(int rank, long id, String firstName, String lastName, int yearOfBirth, Long clubId,
+                                     List<CompetitionRankingResult> results) {
+        this.rank = rank;
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
         this.yearOfBirth = yearOfBirth;
         this.clubId = clubId;
+        this.results = results.stream()
+            .sorted(comparingInt(CompetitionRankingResult::getPosition))
+            .collect(toUnmodifiableList());
+        this.totalPoints = this.results.stream().mapToInt(CompetitionRankingResult::getPoints).sum();
     }
 
-    private final List<CompetitionRankingResult> results = new ArrayList<>();
-
     public int getTotalPoints() {
-        return results.stream().mapToInt(CompetitionRankingResult::getPoints).sum();
+        return totalPoints;
     }
 
     public List<CompetitionRankingResult> getResults() {
-        results.sort(comparingInt(CompetitionRankingResult::getPosition));
         return results;
     }
 
-    public void setRank(int rank) {
-        this.rank = rank;
-    }
-
-    public void addResult(CompetitionRankingResult result) {
-        results.add(result);
-    }
-
     public int getRank() {
         return rank;
     }
 
-    public Long getId() {
+    public long getId() {
         return id;
     }
 
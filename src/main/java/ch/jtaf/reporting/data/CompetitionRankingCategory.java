@@ -1,41 +1,49 @@
 package ch.jtaf.reporting.data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class CompetitionRankingCategory {
 
-    private final Long id;
+    private final long id;
     private final String abbreviation;
     private final String name;
     private final int yearFrom;
     private final int yearTo;
+    private final int numberOfMedals;
 
-    private final List<CompetitionRankingAthlete> athletes = new ArrayList<>();
+    private final List<CompetitionRankingAthlete> athletes;
 
-    public CompetitionRankingCategory(Long id, String abbreviation, String name, int yearFrom, int yearTo) {
+    /**
+     * @param athletes the athletes in ranking order
+     */
+    public CompetitionRankingCategory(long id, String abbreviation, String name, int yearFrom, int yearTo,
+                                      List<CompetitionRankingAthlete> athletes, int medalPercentage,
+                                      boolean alwaysFirstThreeMedals) {
         this.id = id;
         this.abbreviation = abbreviation;
         this.name = name;
         this.yearFrom = yearFrom;
         this.yearTo = yearTo;
+        this.athletes = List.copyOf(athletes);
+        this.numberOfMedals = calculateNumberOfMedals(this.athletes.size(), medalPercentage, alwaysFirstThreeMedals);
     }
 
-    public List<CompetitionRankingAthlete> getAthletes() {
-        athletes.sort((o1, o2) -> Integer.compare(o2.getTotalPoints(), o1.getTotalPoints()));
-
-        int i = 0;
-        for (CompetitionRankingAthlete athlete : athletes) {
-            athlete.setRank(++i);
+    private static int calculateNumberOfMedals(int numberOfAthletes, int medalPercentage, boolean alwaysFirstThreeMedals) {
+        double numberOfMedals = 0;
+        if (medalPercentage > 0) {
+            numberOfMedals = numberOfAthletes * (medalPercentage / 100d);
+            if (numberOfMedals < 3 && alwaysFirstThreeMedals) {
+                numberOfMedals = 3;
+            }
         }
-        return athletes;
+        return (int) numberOfMedals;
     }
 
-    public void addAthlete(CompetitionRankingAthlete athlete) {
-        athletes.add(athlete);
+    public List<CompetitionRankingAthlete> getAthletes() {
+        return athletes;
     }
 
-    public Long getId() {
+    public long getId() {
         return id;
     }
 
@@ -54,4 +62,8 @@ public class CompetitionRankingCategory {
     public int getYearTo() {
         return yearTo;
     }
+
+    public int getNumberOfMedals() {
+        return numberOfMedals;
+    }
 }
@@ -1,7 +1,6 @@
 package ch.jtaf.reporting.data;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 public class CompetitionRankingData {
@@ -11,13 +10,15 @@ public class CompetitionRankingData {
     private final boolean alwaysFirstThreeMedals;
     private final int medalPercentage;
 
-    private final List<CompetitionRankingCategory> categories = new ArrayList<>();
+    private final List<CompetitionRankingCategory> categories;
 
-    public CompetitionRankingData(String name, LocalDate competitionDate, boolean alwaysFirstThreeMedals, int medalPercentage) {
+    public CompetitionRankingData(String name, LocalDate competitionDate, boolean alwaysFirstThreeMedals, int medalPercentage,
+                                  List<CompetitionRankingCategory> categories) {
         this.name = name;
         this.competitionDate = competitionDate;
         this.alwaysFirstThreeMedals = alwaysFirstThreeMedals;
         this.medalPercentage = medalPercentage;
+        this.categories = List.copyOf(categories);
     }
 
     public String getName() {
@@ -1,7 +1,6 @@
 package ch.jtaf.reporting.data;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 public class EventsRankingData {
@@ -9,11 +8,12 @@ public class EventsRankingData {
     private final String name;
     private final LocalDate competitionDate;
 
-    private final List<EventsRankingEvent> events = new ArrayList<>();
+    private final List<EventsRankingEvent> events;
 
-    public EventsRankingData(String name, LocalDate competitionDate) {
+    public EventsRankingData(String name, LocalDate competitionDate, List<EventsRankingEvent> events) {
         this.name = name;
         this.competitionDate = competitionDate;
+        this.events = List.copyOf(events);
     }
 
     public String getName() {
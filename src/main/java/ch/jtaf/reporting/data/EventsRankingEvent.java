@@ -1,8 +1,5 @@
 package ch.jtaf.reporting.data;
 
-import ch.jtaf.model.EventType;
-
-import java.util.ArrayList;
 import java.util.List;
 
 public class EventsRankingEvent {
@@ -10,23 +7,18 @@ public class EventsRankingEvent {
     private final String abbreviation;
     private final String gender;
 
-    private final List<EventsRankingResult> results = new ArrayList<>();
+    private final List<EventsRankingResult> results;
 
-    public EventsRankingEvent(String abbreviation, String gender) {
+    /**
+     * @param results the results in ranking order, best first
+     */
+    public EventsRankingEvent(String abbreviation, String gender, List<EventsRankingResult> results) {
         this.abbreviation = abbreviation;
         this.gender = gender;
+        this.results = List.copyOf(results);
     }
 
     public List<EventsRankingResult> getResults() {
-        results.sort((o1, o2) -> {
-            if (o1.getEventType().equals(EventType.JUMP_THROW.name())) {
-                // Higher results are better
-                return Double.compare(o2.getResultAsDouble(), o1.getResultAsDouble());
-            } else {
-                // Lower results are better
-                return Double.compare(o1.getResultAsDouble(), o2.getResultAsDouble());
-            }
-        });
         return results;
     }
 
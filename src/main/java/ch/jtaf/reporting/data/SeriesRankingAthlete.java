@@ -1,52 +1,49 @@
 package ch.jtaf.reporting.data;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class SeriesRankingAthlete {
 
-    private int rank;
-    private final Long id;
+    private final int rank;
+    private final long id;
     private final String firstName;
     private final String lastName;
     private final int yearOfBirth;
     private final Long clubId;
+    private final int totalPoints;
 
-    private final List<SeriesRankingResult> results = new ArrayList<>();
+    private final List<SeriesRankingResult> results;
 
-    public SeriesRankingAthlete(Long id, String firstName, String lastName, int yearOfBirth, Long clubId) {
+    public SeriesRankingAthlete(int rank, long id, String firstName, String lastName, int yearOfBirth, Long clubId,
+                                int totalPoints, List<SeriesRankingResult> results) {
+        this.rank = rank;
         this.id = id;
         this.firstName = firstName;
         this.lastName = lastName;
         this.yearOfBirth = yearOfBirth;
         this.clubId = clubId;
+        this.totalPoints = totalPoints;
+        this.results = results.stream()
+            .sorted(comparing(SeriesRankingResult::getCompetitionDate))
+            .collect(toUnmodifiableList());
     }
 
     public int getTotalPoints() {
-        return results.stream().map(SeriesRankingResult::getPoints).mapToInt(BigDecimal::intValue).sum();
+        return totalPoints;
     }
 
     public List<SeriesRankingResult> getResults() {
-        results.sort(comparing(SeriesRankingResult::getCompetitionDate));
         return results;
     }
 
-    public void setRank(int rank) {
-        this.rank = rank;
-    }
-
-    public void addResult(SeriesRankingResult result) {
-        results.add(result);
-    }
-
     public int getRank() {
         return rank;
     }
 
-    public Long getId() {
+    public long getId() {
         return id;
     }
 
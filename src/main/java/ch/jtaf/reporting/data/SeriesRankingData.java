@@ -1,6 +1,5 @@
 package ch.jtaf.reporting.data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class SeriesRankingData {
@@ -8,11 +7,12 @@ public class SeriesRankingData {
     private final String name;
     private final int numberOfCompetitions;
 
-    private final List<SeriesRankingCategory> categories = new ArrayList<>();
+    private final List<SeriesRankingCategory> categories;
 
-    public SeriesRankingData(String name, int numberOfCompetitions) {
+    public SeriesRankingData(String name, int numberOfCompetitions, List<SeriesRankingCategory> categories) {
         this.name = name;
         this.numberOfCompetitions = numberOfCompetitions;
+        this.categories = List.copyOf(categories);
     }
 
     public String getName() {
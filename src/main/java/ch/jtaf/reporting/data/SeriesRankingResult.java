@@ -1,34 +1,29 @@
 package ch.jtaf.reporting.data;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public class SeriesRankingResult {
 
-    private final Long athleteId;
-    private final Long competionId;
+    private final long athleteId;
+    private final long competitionId;
     private final String competitionName;
     private final LocalDate competitionDate;
-    private BigDecimal points;
+    private final int points;
 
-    public SeriesRankingResult(Long athleteId, Long competionId, String competitionName, LocalDate competitionDate, BigDecimal points) {
+    public SeriesRankingResult(long athleteId, long competitionId, String competitionName, LocalDate competitionDate, int points) {
         this.athleteId = athleteId;
-        this.competionId = competionId;
+        this.competitionId = competitionId;
         this.competitionName = competitionName;
         this.competitionDate = competitionDate;
         this.points = points;
     }
 
-    public void addPoints(BigDecimal points) {
-        this.points = this.points.add(points);
-    }
-
-    public Long getAthleteId() {
+    public long getAthleteId() {
         return athleteId;
     }
 
-    public Long getCompetionId() {
-        return competionId;
+    public long getCompetitionId() {
+        return competitionId;
     }
 
     public String getCompetitionName() {
@@ -39,11 +34,7 @@ public class SeriesRankingResult {
         return competitionDate;
     }
 
-    public BigDecimal getPoints() {
+    public int getPoints() {
         return points;
     }
-
-    public void setPoints(BigDecimal points) {
-        this.points = points;
-    }
 }
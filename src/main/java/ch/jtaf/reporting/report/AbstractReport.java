@@ -8,8 +8,12 @@ import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfPageEventHelper;
 import com.lowagie.text.pdf.PdfWriter;
+import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -22,6 +26,8 @@ import static com.lowagie.text.FontFactory.HELVETICA;
 
 public abstract class AbstractReport {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractReport.class);
+
     static final float HEADER_FONT = 16f;
     static final float HEADER_FONT_SMALL = 12f;
 
@@ -41,6 +47,28 @@ public abstract class AbstractReport {
         this.messages = ResourceBundle.getBundle("messages", locale);
     }
 
+    public byte[] create() {
+        try (var baos = new ByteArrayOutputStream()) {
+            create(baos);
+            return baos.toByteArray();
+        } catch (DocumentException | IOException e) {
+            LOGGER.error(e.getMessage(), e);
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Writes the report into the output stream while it is created, every finished page is written out immediately.
+     * The stream is flushed but not closed.
+     */
+    public abstract void create(OutputStream outputStream);
+
+    PdfWriter createPdfWriter(Document document, OutputStream outputStream) {
+        var pdfWriter = PdfWriter.getInstance(document, outputStream);
+        pdfWriter.setCloseStream(false);
+        return pdfWriter;
+    }
+
     protected float cmToPixel(float cm) {
         return cm / CM_PER_INCH * DPI;
     }
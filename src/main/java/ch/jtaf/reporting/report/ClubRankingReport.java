@@ -3,14 +3,9 @@ package ch.jtaf.reporting.report;
 import ch.jtaf.reporting.data.ClubRankingData;
 import ch.jtaf.reporting.data.ClubResultData;
 import com.lowagie.text.Document;
-import com.lowagie.text.DocumentException;
 import com.lowagie.text.pdf.PdfPTable;
-import com.lowagie.text.pdf.PdfWriter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 import java.util.Map;
 
@@ -18,8 +13,6 @@ import static com.lowagie.text.PageSize.A4;
 
 public class ClubRankingReport extends RankingReport {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ClubRankingReport.class);
-
     private final ClubRankingData ranking;
     private Document document;
 
@@ -28,29 +21,20 @@ public class ClubRankingReport extends RankingReport {
         this.ranking = ranking;
     }
 
-    public byte[] create() {
-        try {
-            try (var baos = new ByteArrayOutputStream()) {
-                var border = cmToPixel(1.5f);
-                document = new Document(A4, border, border, border, border);
-
-                var pdfWriter = PdfWriter.getInstance(document, baos);
-                pdfWriter.setPageEvent(
-                    new HeaderFooter(messages.getString("Club.Ranking"), ranking.getSeriesName(), ""));
+    @Override
+    public void create(OutputStream outputStream) {
+        var border = cmToPixel(1.5f);
+        document = new Document(A4, border, border, border, border);
 
-                document.open();
+        var pdfWriter = createPdfWriter(document, outputStream);
+        pdfWriter.setPageEvent(
+            new HeaderFooter(messages.getString("Club.Ranking"), ranking.getSeriesName(), ""));
 
-                createRanking();
+        document.open();
 
-                document.close();
+        createRanking();
 
-                pdfWriter.flush();
-                return baos.toByteArray();
-            }
-        } catch (IOException | DocumentException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
-        }
+        document.close();
     }
 
     private void createRanking() {
@@ -5,23 +5,17 @@ import ch.jtaf.reporting.data.CompetitionRankingCategory;
 import ch.jtaf.reporting.data.CompetitionRankingData;
 import ch.jtaf.reporting.data.CompetitionRankingResult;
 import com.lowagie.text.Document;
-import com.lowagie.text.DocumentException;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 import java.util.Map;
 
 @SuppressWarnings("DuplicatedCode")
 public class CompetitionRankingReport extends RankingReport {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(CompetitionRankingReport.class);
-
     private final CompetitionRankingData ranking;
     private Document document;
 
@@ -30,29 +24,18 @@ public class CompetitionRankingReport extends RankingReport {
         this.ranking = ranking;
     }
 
-    public byte[] create() {
-        try {
-            byte[] ba;
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                float border = cmToPixel(1.5f);
-                document = new Document(PageSize.A4, border, border, border, border);
-                PdfWriter pdfWriter = PdfWriter.getInstance(document, baos);
-                pdfWriter.setPageEvent(new HeaderFooter(messages.getString("Competition.Ranking"), ranking.getName(),
-                    DATE_TIME_FORMATTER.format(ranking.getCompetitionDate())));
-                document.open();
-
-                createRanking();
-
-                document.close();
-                pdfWriter.flush();
-                ba = baos.toByteArray();
-            }
+    @Override
+    public void create(OutputStream outputStream) {
+        float border = cmToPixel(1.5f);
+        document = new Document(PageSize.A4, border, border, border, border);
+        PdfWriter pdfWriter = createPdfWriter(document, outputStream);
+        pdfWriter.setPageEvent(new HeaderFooter(messages.getString("Competition.Ranking"), ranking.getName(),
+            DATE_TIME_FORMATTER.format(ranking.getCompetitionDate())));
+        document.open();
 
-            return ba;
-        } catch (DocumentException | IOException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
-        }
+        createRanking();
+
+        document.close();
     }
 
     private void createRanking() {
@@ -64,33 +47,19 @@ public class CompetitionRankingReport extends RankingReport {
             createCategoryTitle(table, category);
             numberOfRows += 2;
 
-            int rank = 1;
             for (CompetitionRankingAthlete athlete : category.getAthletes()) {
                 if (numberOfRows > 23) {
                     document.add(table);
                     table = createAthletesTable();
                     document.newPage();
                 }
-                createAthleteRow(table, rank, athlete, calculateNumberOfMedals(category));
-                rank++;
+                createAthleteRow(table, athlete, category.getNumberOfMedals());
                 numberOfRows += 1;
             }
             document.add(table);
         }
     }
 
-    private int calculateNumberOfMedals(CompetitionRankingCategory category) {
-        double numberOfMedals = 0;
-        if (ranking.getMedalPercentage() > 0) {
-            double percentage = ranking.getMedalPercentage();
-            numberOfMedals = category.getAthletes().size() * (percentage / 100);
-            if (numberOfMedals < 3 && ranking.isAlwaysFirstThreeMedals()) {
-                numberOfMedals = 3;
-            }
-        }
-        return (int) numberOfMedals;
-    }
-
     private PdfPTable createAthletesTable() {
         PdfPTable table = new PdfPTable(new float[]{2f, 10f, 10f, 2f, 5f, 5f});
         table.setWidthPercentage(100);
@@ -106,7 +75,8 @@ public class CompetitionRankingReport extends RankingReport {
         addCategoryTitleCellWithColspan(table, " ", 6);
     }
 
-    private void createAthleteRow(PdfPTable table, int rank, CompetitionRankingAthlete athlete, int numberOfMedals) {
+    private void createAthleteRow(PdfPTable table, CompetitionRankingAthlete athlete, int numberOfMedals) {
+        int rank = athlete.getRank();
         if (rank <= numberOfMedals) {
             addCell(table, "* " + rank + ".");
         } else {
@@ -8,14 +8,16 @@ import com.lowagie.text.DocumentException;
 import com.lowagie.text.FontFactory;
 import com.lowagie.text.Image;
 import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfContentByte;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfTemplate;
 import com.lowagie.text.pdf.PdfWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -30,8 +32,11 @@ public class DiplomaReport extends AbstractReport {
     static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d. MMMM yyyy");
     private final CompetitionRankingData ranking;
     private final byte[] logo;
+    private Image logoImage;
+    private float athleteInfoTop;
 
     private Document document;
+    private PdfWriter pdfWriter;
 
     public DiplomaReport(CompetitionRankingData competitionRankingData, byte[] logo, Locale locale) {
         super(locale);
@@ -39,50 +44,67 @@ public class DiplomaReport extends AbstractReport {
         this.logo = logo;
     }
 
-    public byte[] create() {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            document = new Document(A5, cmToPixel(1.5f), cmToPixel(1.5f), cmToPixel(1f), cmToPixel(1.5f));
-            var pdfWriter = PdfWriter.getInstance(document, baos);
-            document.open();
-
-            for (var category : ranking.getCategories()) {
-                for (var athlete : category.getAthletes()) {
-                    createTitle();
-                    createLogo();
-                    createCompetitionInfo();
-                    createAthleteInfo(athlete, category);
-
-                    document.newPage();
-                }
-            }
+    @Override
+    public void create(OutputStream outputStream) {
+        document = new Document(A5, cmToPixel(1.5f), cmToPixel(1.5f), cmToPixel(1f), cmToPixel(1.5f));
+        pdfWriter = createPdfWriter(document, outputStream);
+        document.open();
+        logoImage = createLogoImage();
+        var pageTemplate = createPageTemplate();
+
+        for (var category : ranking.getCategories()) {
+            for (var athlete : category.getAthletes()) {
+                pdfWriter.getDirectContent().addTemplate(pageTemplate, 0, 0);
+                createAthleteInfo(athlete, category);
 
-            document.close();
-            pdfWriter.flush();
-            return baos.toByteArray();
-        } catch (IOException | DocumentException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
+                document.newPage();
+            }
         }
+
+        document.close();
     }
 
-    private void createLogo() throws DocumentException {
+    private Image createLogoImage() {
         if (logo != null) {
             try {
                 var image = Image.getInstance(logo);
                 image.scaleToFit(cmToPixel(11f), cmToPixel(11f));
                 image.setAbsolutePosition((cmToPixel(14.85f) - image.getScaledWidth()) / 2,
                     (cmToPixel(11f) - image.getScaledHeight()) / 2 + cmToPixel(5.5f));
-                document.add(image);
+                return image;
             } catch (IOException e) {
                 LOGGER.error(e.getMessage(), e);
             }
         }
+        return null;
+    }
+
+    /**
+     * The title, the logo and the competition are the same on every diploma, so they are laid out once and only the
+     * athlete info is written on each page.
+     */
+    private PdfTemplate createPageTemplate() throws DocumentException {
+        var template = pdfWriter.getDirectContent().createTemplate(document.getPageSize().getWidth(), document.getPageSize().getHeight());
+        if (logoImage != null) {
+            template.addImage(logoImage);
+        }
+        // The same positions as if the tables were added to the document
+        float y = writeTable(createTitle(), document.top(), template);
+        var competitionInfo = createCompetitionInfo();
+        y = writeTable(competitionInfo, y - competitionInfo.spacingBefore(), template);
+        athleteInfoTop = y - cmToPixel(1.5f);
+        return template;
+    }
+
+    private float writeTable(PdfPTable table, float top, PdfContentByte canvas) {
+        table.setTotalWidth(document.right() - document.left());
+        table.setLockedWidth(true);
+        return table.writeSelectedRows(0, -1, document.left(), top, canvas);
     }
 
-    private void createAthleteInfo(CompetitionRankingAthlete athlete, CompetitionRankingCategory category) throws DocumentException {
+    private void createAthleteInfo(CompetitionRankingAthlete athlete, CompetitionRankingCategory category) {
         var table = new PdfPTable(new float[]{2f, 10f, 10f, 3f, 2f});
         table.setWidthPercentage(100f);
-        table.setSpacingBefore(cmToPixel(1.5f));
 
         float athleteFontSize = 12f;
         addCell(table, athlete.getRank() + ".", athleteFontSize);
@@ -91,10 +113,10 @@ public class DiplomaReport extends AbstractReport {
         addCell(table, "" + athlete.getYearOfBirth(), athleteFontSize);
         addCell(table, category.getAbbreviation(), athleteFontSize);
 
-        document.add(table);
+        writeTable(table, athleteInfoTop, pdfWriter.getDirectContent());
     }
 
-    private void createTitle() throws DocumentException {
+    private PdfPTable createTitle() {
         var table = new PdfPTable(1);
         table.setWidthPercentage(100f);
 
@@ -103,10 +125,10 @@ public class DiplomaReport extends AbstractReport {
         cell.setHorizontalAlignment(ALIGN_CENTER);
 
         table.addCell(cell);
-        document.add(table);
+        return table;
     }
 
-    private void createCompetitionInfo() throws DocumentException {
+    private PdfPTable createCompetitionInfo() {
         var table = new PdfPTable(1);
         table.setWidthPercentage(100f);
         table.setSpacingBefore(cmToPixel(12f));
@@ -121,6 +143,6 @@ public class DiplomaReport extends AbstractReport {
         cell.setHorizontalAlignment(ALIGN_CENTER);
         table.addCell(cell);
 
-        document.add(table);
+        return table;
     }
 }
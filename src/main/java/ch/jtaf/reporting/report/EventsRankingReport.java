@@ -4,14 +4,10 @@ import ch.jtaf.reporting.data.EventsRankingData;
 import ch.jtaf.reporting.data.EventsRankingEvent;
 import ch.jtaf.reporting.data.EventsRankingResult;
 import com.lowagie.text.Document;
-import com.lowagie.text.DocumentException;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 import java.util.Map;
 
@@ -19,8 +15,6 @@ import static com.lowagie.text.PageSize.A4;
 
 public class EventsRankingReport extends RankingReport {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(EventsRankingReport.class);
-
     private final EventsRankingData ranking;
 
     private Document document;
@@ -30,27 +24,16 @@ public class EventsRankingReport extends RankingReport {
         this.ranking = ranking;
     }
 
-    public byte[] create() {
-        try {
-            byte[] ba;
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                float border = cmToPixel(1.5f);
-                document = new Document(A4, border, border, border, border);
-                PdfWriter pdfWriter = PdfWriter.getInstance(document, baos);
-                pdfWriter.setPageEvent(new HeaderFooter(messages.getString("Event.Ranking"), ranking.getName(),
-                    DATE_TIME_FORMATTER.format(ranking.getCompetitionDate())));
-                document.open();
-                createRanking();
-                document.close();
-                pdfWriter.flush();
-                ba = baos.toByteArray();
-            }
-
-            return ba;
-        } catch (DocumentException | IOException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
-        }
+    @Override
+    public void create(OutputStream outputStream) {
+        float border = cmToPixel(1.5f);
+        document = new Document(A4, border, border, border, border);
+        PdfWriter pdfWriter = createPdfWriter(document, outputStream);
+        pdfWriter.setPageEvent(new HeaderFooter(messages.getString("Event.Ranking"), ranking.getName(),
+            DATE_TIME_FORMATTER.format(ranking.getCompetitionDate())));
+        document.open();
+        createRanking();
+        document.close();
     }
 
     private void createRanking() {
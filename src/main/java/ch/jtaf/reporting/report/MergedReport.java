@@ -0,0 +1,155 @@
+package ch.jtaf.reporting.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfSmartCopy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntConsumer;
+
+/**
+ * Renders the parts of a report in parallel and merges their pages into one document in the order of the parts. Parts
+ * are taken from the iterable while the first ones are already rendered, and every part is copied into the output as
+ * soon as all parts before it are. At most twice as many parts as there are threads are rendered ahead of the output,
+ * so finished parts don't pile up in memory behind a slow one.
+ */
+public class MergedReport extends AbstractReport {
+
+    private final Iterable<? extends AbstractReport> parts;
+    private final Executor executor;
+    private final IntConsumer pageListener;
+    private final int maximumPending;
+
+    public MergedReport(Iterable<? extends AbstractReport> parts, Executor executor, Locale locale) {
+        this(parts, executor, pages -> {
+        }, locale);
+    }
+
+    /**
+     * @param pageListener gets the number of pages written so far, every time a part has been added
+     */
+    public MergedReport(Iterable<? extends AbstractReport> parts, Executor executor, IntConsumer pageListener, Locale locale) {
+        super(locale);
+        this.parts = parts;
+        this.executor = executor;
+        this.pageListener = pageListener;
+        this.maximumPending = getMaximumPending(executor);
+    }
+
+    /**
+     * Splits the items into parts of the given size. The factory gets the number of the first item of the part, counted
+     * from 1, so the numbering is the same as if all items were in one report.
+     */
+    public static <T> Iterable<AbstractReport> split(Iterable<T> items, int partSize, PartFactory<T> partFactory) {
+        return split(items, 1, partSize, partFactory);
+    }
+
+    /**
+     * Like {@link #split(Iterable, int, PartFactory)}, but the numbering starts at the given number.
+     */
+    public static <T> Iterable<AbstractReport> split(Iterable<T> items, int firstNumber, int partSize, PartFactory<T> partFactory) {
+        return () -> new Iterator<>() {
+
+            private final Iterator<T> iterator = items.iterator();
+            private int number = firstNumber;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public AbstractReport next() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> part = new ArrayList<>(partSize);
+                while (iterator.hasNext() && part.size() < partSize) {
+                    part.add(iterator.next());
+                }
+                var report = partFactory.create(part, number);
+                number += part.size();
+                return report;
+            }
+        };
+    }
+
+    @Override
+    public void create(OutputStream outputStream) {
+        var document = new Document();
+        var copy = new PdfSmartCopy(document, outputStream);
+        copy.setCloseStream(false);
+        document.open();
+
+        Deque<CompletableFuture<byte[]>> renderings = new ArrayDeque<>();
+        int pages = 0;
+        try {
+            for (var part : parts) {
+                renderings.add(CompletableFuture.supplyAsync(() -> render(part), executor));
+                while (!renderings.isEmpty() && (renderings.peek().isDone() || renderings.size() >= maximumPending)) {
+                    pages += addPages(copy, renderings.poll().join());
+                    pageListener.accept(pages);
+                }
+            }
+            while (!renderings.isEmpty()) {
+                pages += addPages(copy, renderings.poll().join());
+                pageListener.accept(pages);
+            }
+        } catch (RuntimeException e) {
+            renderings.forEach(rendering -> rendering.cancel(true));
+            throw e;
+        }
+
+        document.close();
+    }
+
+    /**
+     * @return how many parts are rendered ahead of the output, twice the number of threads of the executor
+     */
+    static int getMaximumPending(Executor executor) {
+        int threads = executor instanceof ThreadPoolExecutor
+            ? ((ThreadPoolExecutor) executor).getMaximumPoolSize()
+            : Runtime.getRuntime().availableProcessors();
+        return threads * 2;
+    }
+
+    static byte[] render(AbstractReport part) {
+        var baos = new ByteArrayOutputStream();
+        part.create(baos);
+        return baos.toByteArray();
+    }
+
+    static int addPages(PdfSmartCopy copy, byte[] pdf) {
+        try {
+            var reader = new PdfReader(pdf);
+            int numberOfPages = reader.getNumberOfPages();
+            for (int i = 1; i <= numberOfPages; i++) {
+                copy.addPage(copy.getImportedPage(reader, i));
+            }
+            copy.freeReader(reader);
+            reader.close();
+            return numberOfPages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface PartFactory<T> {
+
+        AbstractReport create(List<T> items, int firstNumber);
+    }
+}
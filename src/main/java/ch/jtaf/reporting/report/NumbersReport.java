@@ -2,18 +2,12 @@ package ch.jtaf.reporting.report;
 
 import ch.jtaf.reporting.data.NumbersAndSheetsAthlete;
 import com.lowagie.text.Document;
-import com.lowagie.text.DocumentException;
 import com.lowagie.text.FontFactory;
 import com.lowagie.text.Phrase;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
-import com.lowagie.text.pdf.PdfWriter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
 import java.util.Locale;
 
 import static com.lowagie.text.Element.ALIGN_CENTER;
@@ -23,53 +17,61 @@ import static com.lowagie.text.PageSize.A4;
 
 public class NumbersReport extends AbstractReport {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(NumbersReport.class);
+    public static final int ATHLETES_PER_PAGE = 10;
 
     private static final float FONT_SIZE_INFO = 12f;
     private static final float FONT_SIZE_TEXT = 90f;
 
-    private final List<NumbersAndSheetsAthlete> athletes;
+    private final Iterable<NumbersAndSheetsAthlete> athletes;
+    private final int firstNumber;
 
-    public NumbersReport(List<NumbersAndSheetsAthlete> athletes, Locale locale) {
+    public NumbersReport(Iterable<NumbersAndSheetsAthlete> athletes, Locale locale) {
+        this(athletes, 1, locale);
+    }
+
+    /**
+     * @param firstNumber the number of the first athlete, if the athletes are a part of a larger report. Parts must
+     *                    contain full pages of {@link #ATHLETES_PER_PAGE} athletes.
+     */
+    public NumbersReport(Iterable<NumbersAndSheetsAthlete> athletes, int firstNumber, Locale locale) {
         super(locale);
         this.athletes = athletes;
+        this.firstNumber = firstNumber;
     }
 
-    public byte[] create() {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            Document document = new Document(A4, cmToPixel(1.5f), cmToPixel(1.7f), cmToPixel(0.8f), cmToPixel(0f));
-            PdfWriter pdfWriter = PdfWriter.getInstance(document, baos);
-            document.open();
-
-            int i = 0;
-            int number = 1;
-            PdfPTable table = createMainTable();
-            for (var athlete : athletes) {
-                if (i > 9) {
-                    document.add(table);
-                    document.newPage();
-                    i = 0;
-                    table = createMainTable();
-                }
-                addAthleteInfo(table, athlete, number);
-                if (i % 2 == 0) {
-                    addEmptyCell(table);
-                }
-                if (i == 1 || i == 3 || i == 5 || i == 7) {
-                    addEmptyRow(table);
-                }
-                i++;
-                number++;
+    @Override
+    public void create(OutputStream outputStream) {
+        Document document = new Document(A4, cmToPixel(1.5f), cmToPixel(1.7f), cmToPixel(0.8f), cmToPixel(0f));
+        createPdfWriter(document, outputStream);
+        document.open();
+
+        int i = 0;
+        int number = firstNumber;
+        PdfPTable table = createMainTable();
+        for (var athlete : athletes) {
+            if (i == ATHLETES_PER_PAGE) {
+                document.add(table);
+                document.newPage();
+                i = 0;
+                table = createMainTable();
+            }
+            addAthleteInfo(table, athlete, number);
+            if (i % 2 == 0) {
+                addEmptyCell(table);
             }
-            document.add(table);
-
-            document.close();
-            pdfWriter.flush();
-            return baos.toByteArray();
-        } catch (DocumentException | IOException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
+            if (i == 1 || i == 3 || i == 5 || i == 7) {
+                addEmptyRow(table);
+            }
+            i++;
+            number++;
+        }
+        if (i % 2 == 1) {
+            // An incomplete row would not be shown
+            addEmptyCell(table);
         }
+        document.add(table);
+
+        document.close();
     }
 
     private PdfPTable createMainTable() {
@@ -11,7 +11,7 @@ import java.util.Map;
 import static com.lowagie.text.FontFactory.HELVETICA;
 import static com.lowagie.text.FontFactory.HELVETICA_BOLD;
 
-public class RankingReport extends AbstractReport {
+public abstract class RankingReport extends AbstractReport {
 
     final Map<Long, String> clubs;
 
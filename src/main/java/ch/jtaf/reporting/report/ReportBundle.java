@@ -0,0 +1,133 @@
+package ch.jtaf.reporting.report;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.pdf.PdfSmartCopy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders several reports and writes them into one ZIP file in the order in which they were added. The parts of all
+ * reports are rendered in parallel, and every part is written into its entry as soon as all parts before it are. Like
+ * in the {@link MergedReport} only twice as many parts as there are threads are rendered ahead of the output, so the
+ * next reports are rendered while the first ones are written.
+ */
+public class ReportBundle {
+
+    private final Executor executor;
+    private final int maximumPending;
+    private final List<Report> reports = new ArrayList<>();
+
+    // The parts rendered ahead of the output, in the order of the reports
+    private final Deque<Part> pending = new ArrayDeque<>();
+    private ZipOutputStream zip;
+    private Report current;
+    private Document document;
+    private PdfSmartCopy copy;
+    private int pages;
+
+    public ReportBundle(Executor executor) {
+        this.executor = executor;
+        this.maximumPending = MergedReport.getMaximumPending(executor);
+    }
+
+    /**
+     * Adds a report, its parts are taken from the iterable while the bundle is created. A report without parts is left
+     * out.
+     */
+    public void add(String name, Iterable<? extends AbstractReport> parts) {
+        reports.add(new Report(name, parts));
+    }
+
+    /**
+     * Renders the reports and writes them into the output stream, which is not closed.
+     *
+     * @param pageListener gets the number of pages written so far, every time a part has been added
+     */
+    public void create(OutputStream outputStream, IntConsumer pageListener) {
+        try {
+            zip = new ZipOutputStream(outputStream);
+            // The PDFs are compressed already
+            zip.setLevel(Deflater.BEST_SPEED);
+            for (var report : reports) {
+                for (var part : report.parts) {
+                    pending.add(new Part(report, CompletableFuture.supplyAsync(() -> MergedReport.render(part), executor)));
+                    while (!pending.isEmpty() && (pending.peek().rendering.isDone() || pending.size() >= maximumPending)) {
+                        write(pending.poll(), pageListener);
+                    }
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), pageListener);
+            }
+            closeEntry();
+            zip.finish();
+        } catch (IOException e) {
+            cancel();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            cancel();
+            throw e;
+        }
+    }
+
+    private void write(Part part, IntConsumer pageListener) throws IOException {
+        var pdf = part.rendering.join();
+        if (current != part.report) {
+            closeEntry();
+            current = part.report;
+            zip.putNextEntry(new ZipEntry(current.name));
+            document = new Document();
+            copy = new PdfSmartCopy(document, zip);
+            copy.setCloseStream(false);
+            document.open();
+        }
+        pages += MergedReport.addPages(copy, pdf);
+        pageListener.accept(pages);
+    }
+
+    private void closeEntry() throws IOException {
+        if (current != null) {
+            document.close();
+            zip.closeEntry();
+            current = null;
+        }
+    }
+
+    private void cancel() {
+        pending.forEach(part -> part.rendering.cancel(true));
+    }
+
+    private static class Report {
+
+        private final String name;
+        private final Iterable<? extends AbstractReport> parts;
+
+        private Report(String name, Iterable<? extends AbstractReport> parts) {
+            this.name = name;
+            this.parts = parts;
+        }
+    }
+
+    private static class Part {
+
+        private final Report report;
+        private final CompletableFuture<byte[]> rendering;
+
+        private Part(Report report, CompletableFuture<byte[]> rendering) {
+            this.report = report;
+            this.rendering = rendering;
+        }
+    }
+}
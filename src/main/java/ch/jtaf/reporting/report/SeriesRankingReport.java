@@ -8,11 +8,8 @@ import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Locale;
 import java.util.Map;
 
@@ -20,8 +17,6 @@ import static com.lowagie.text.PageSize.A4;
 
 public class SeriesRankingReport extends RankingReport {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(SeriesRankingReport.class);
-
     private final SeriesRankingData ranking;
     private Document document;
 
@@ -30,27 +25,17 @@ public class SeriesRankingReport extends RankingReport {
         this.ranking = ranking;
     }
 
-    public byte[] create() {
-        try {
-            byte[] ba;
-            try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                document = new Document(A4);
-                PdfWriter pdfWriter = PdfWriter.getInstance(document, baos);
-                pdfWriter.setPageEvent(new HeaderFooter(
-                    messages.getString("Series.Ranking"), ranking.getName(), ""));
-                document.open();
-
-                createRanking();
-
-                document.close();
-                pdfWriter.flush();
-                ba = baos.toByteArray();
-            }
-            return ba;
-        } catch (DocumentException | IOException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
-        }
+    @Override
+    public void create(OutputStream outputStream) {
+        document = new Document(A4);
+        PdfWriter pdfWriter = createPdfWriter(document, outputStream);
+        pdfWriter.setPageEvent(new HeaderFooter(
+            messages.getString("Series.Ranking"), ranking.getName(), ""));
+        document.open();
+
+        createRanking();
+
+        document.close();
     }
 
     private void createRanking() throws DocumentException {
@@ -62,15 +47,13 @@ public class SeriesRankingReport extends RankingReport {
             createCategoryTitle(table, category);
             numberOfRows += 2;
 
-            int position = 1;
             for (SeriesRankingAthlete athlete : category.getAthletes()) {
                 if (numberOfRows > 23) {
                     document.add(table);
                     document.newPage();
                     table = createAthletesTable();
                 }
-                createAthleteRow(table, position, athlete);
-                position++;
+                createAthleteRow(table, athlete);
                 numberOfRows += 1;
             }
             document.add(table);
@@ -92,8 +75,8 @@ public class SeriesRankingReport extends RankingReport {
         addCategoryTitleCellWithColspan(table, " ", 6);
     }
 
-    private void createAthleteRow(PdfPTable table, int position, SeriesRankingAthlete athlete) {
-        addCell(table, position + ".");
+    private void createAthleteRow(PdfPTable table, SeriesRankingAthlete athlete) {
+        addCell(table, athlete.getRank() + ".");
         addCell(table, athlete.getLastName());
         addCell(table, athlete.getFirstName());
         addCell(table, athlete.getYearOfBirth() + "");
@@ -9,17 +9,20 @@ import com.lowagie.text.FontFactory;
 import com.lowagie.text.Image;
 import com.lowagie.text.Phrase;
 import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfContentByte;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfTemplate;
 import com.lowagie.text.pdf.PdfWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.OutputStream;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static com.lowagie.text.Element.ALIGN_RIGHT;
 import static com.lowagie.text.PageSize.A5;
@@ -35,85 +38,151 @@ public class SheetsReport extends AbstractReport {
     private Document document;
     private PdfWriter pdfWriter;
     private final NumbersAndSheetsCompetition competition;
-    private final List<NumbersAndSheetsAthlete> athletes;
+    private final Iterable<NumbersAndSheetsAthlete> athletes;
+    private final int firstNumber;
     private final byte[] logo;
+    private Image logoImage;
+    private final Map<String, PdfTemplate> headerTemplates = new HashMap<>();
+    private final Map<String, PdfTemplate> eventTemplates = new HashMap<>();
 
     public SheetsReport(NumbersAndSheetsAthlete athlete, byte[] logo, Locale locale) {
         super(locale);
         this.competition = null;
-        this.athletes = new ArrayList<>();
-        this.athletes.add(athlete);
+        this.athletes = List.of(athlete);
+        this.firstNumber = 1;
         this.logo = logo;
     }
 
     public SheetsReport(NumbersAndSheetsCompetition competition, NumbersAndSheetsAthlete athlete, byte[] logo, Locale locale) {
         super(locale);
         this.competition = competition;
-        this.athletes = new ArrayList<>();
-        this.athletes.add(athlete);
+        this.athletes = List.of(athlete);
+        this.firstNumber = 1;
         this.logo = logo;
     }
 
-    public SheetsReport(NumbersAndSheetsCompetition competition, List<NumbersAndSheetsAthlete> athletes, byte[] logo, Locale locale) {
+    public SheetsReport(NumbersAndSheetsCompetition competition, Iterable<NumbersAndSheetsAthlete> athletes, byte[] logo, Locale locale) {
+        this(competition, athletes, 1, logo, locale);
+    }
+
+    /**
+     * @param firstNumber the number of the first athlete, if the athletes are a part of a larger report
+     */
+    public SheetsReport(NumbersAndSheetsCompetition competition, Iterable<NumbersAndSheetsAthlete> athletes, int firstNumber,
+                        byte[] logo, Locale locale) {
         super(locale);
         this.competition = competition;
         this.athletes = athletes;
+        this.firstNumber = firstNumber;
         this.logo = logo;
     }
 
-    public byte[] create() {
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            float oneCm = cmToPixel(1f);
-            document = new Document(A5, oneCm, oneCm, cmToPixel(4.5f), oneCm);
-            pdfWriter = PdfWriter.getInstance(document, baos);
-            document.open();
-            boolean first = true;
-            int number = 1;
-            for (var athlete : athletes) {
-                if (!first) {
-                    document.newPage();
-                }
-                createLogo();
-                createCategory(athlete);
-                createAthleteInfo(athlete, number);
-                createCompetitionRow();
-                createEventTable(athlete);
-                first = false;
-                number++;
+    @Override
+    public void create(OutputStream outputStream) {
+        float oneCm = cmToPixel(1f);
+        document = new Document(A5, oneCm, oneCm, cmToPixel(4.5f), oneCm);
+        pdfWriter = createPdfWriter(document, outputStream);
+        document.open();
+        logoImage = createLogoImage();
+        boolean first = true;
+        int number = firstNumber;
+        for (var athlete : athletes) {
+            if (!first) {
+                document.newPage();
             }
-            document.close();
-            pdfWriter.flush();
-            return baos.toByteArray();
-        } catch (DocumentException | IOException e) {
-            LOGGER.error(e.getMessage(), e);
-            return new byte[0];
+            pdfWriter.getDirectContent().addTemplate(
+                headerTemplates.computeIfAbsent(athlete.getCategory(), category -> createHeaderTemplate(athlete)), 0, 0);
+            createPage(athlete, number);
+            first = false;
+            number++;
+        }
+        document.close();
+    }
+
+    /**
+     * Only the athlete info is laid out for every page. The competition and the events are the same for all athletes
+     * of a category, so they are laid out once and stamped below the athlete info.
+     */
+    private void createPage(NumbersAndSheetsAthlete athlete, int number) throws DocumentException {
+        var athleteInfo = createAthleteInfo(athlete, number);
+        athleteInfo.setTotalWidth(document.right() - document.left());
+        athleteInfo.setLockedWidth(true);
+
+        var eventTemplate = eventTemplates.computeIfAbsent(getEventTemplateKey(athlete), key -> createEventTemplate(athlete));
+        float eventTemplateTop = document.top() - athleteInfo.getTotalHeight();
+
+        if (eventTemplateTop - eventTemplate.getHeight() >= document.bottom()) {
+            athleteInfo.writeSelectedRows(0, -1, document.left(), document.top(), pdfWriter.getDirectContent());
+            pdfWriter.getDirectContent().addTemplate(eventTemplate, document.left(), eventTemplateTop - eventTemplate.getHeight());
+        } else {
+            // Too many events for one page, the tables are added to the document so they break across pages
+            document.add(athleteInfo);
+            document.add(createCompetitionRow());
+            document.add(createEventTable(athlete));
+        }
+    }
+
+    private PdfTemplate createHeaderTemplate(NumbersAndSheetsAthlete athlete) throws DocumentException {
+        var template = pdfWriter.getDirectContent().createTemplate(document.getPageSize().getWidth(), document.getPageSize().getHeight());
+        if (logoImage != null) {
+            template.addImage(logoImage);
+        }
+        createCategory(athlete, template);
+        return template;
+    }
+
+    private PdfTemplate createEventTemplate(NumbersAndSheetsAthlete athlete) throws DocumentException {
+        float width = document.right() - document.left();
+
+        var competitionRow = createCompetitionRow();
+        competitionRow.setTotalWidth(width);
+        competitionRow.setLockedWidth(true);
+        var eventTable = createEventTable(athlete);
+        eventTable.setTotalWidth(width);
+        eventTable.setLockedWidth(true);
+
+        // The same spacing as if the tables were added to the document below the athlete info
+        float height = competitionRow.spacingBefore() + competitionRow.getTotalHeight() + competitionRow.spacingAfter()
+            + eventTable.spacingBefore() + eventTable.getTotalHeight();
+        var template = pdfWriter.getDirectContent().createTemplate(width, height);
+        float y = competitionRow.writeSelectedRows(0, -1, 0, height - competitionRow.spacingBefore(), template);
+        eventTable.writeSelectedRows(0, -1, 0, y - competitionRow.spacingAfter() - eventTable.spacingBefore(), template);
+        return template;
+    }
+
+    private static String getEventTemplateKey(NumbersAndSheetsAthlete athlete) {
+        var key = new StringBuilder(athlete.getCategory());
+        for (var event : athlete.getEvents()) {
+            key.append('|').append(event.getName()).append('|').append(event.getType());
         }
+        return key.toString();
     }
 
-    private void createLogo() throws DocumentException {
+    private Image createLogoImage() {
         if (logo != null) {
             try {
                 Image image = Image.getInstance(logo);
                 image.setAbsolutePosition(cmToPixel(1f), cmToPixel(17.5f));
                 image.scaleToFit(120, 60);
-                document.add(image);
+                return image;
             } catch (IOException e) {
                 LOGGER.error(e.getMessage(), e);
             }
         }
+        return null;
     }
 
-    private void createCategory(NumbersAndSheetsAthlete athlete) {
+    private void createCategory(NumbersAndSheetsAthlete athlete, PdfContentByte canvas) {
         PdfPTable table = new PdfPTable(1);
         table.setWidthPercentage(100);
         addCategoryCell(table, athlete.getCategory());
 
         Rectangle page = document.getPageSize();
         table.setTotalWidth(page.getWidth() - document.leftMargin() - document.rightMargin());
-        table.writeSelectedRows(0, 1, document.leftMargin(), cmToPixel(20.5f), pdfWriter.getDirectContent());
+        table.writeSelectedRows(0, 1, document.leftMargin(), cmToPixel(20.5f), canvas);
     }
 
-    private void createAthleteInfo(NumbersAndSheetsAthlete athlete, int number) throws DocumentException {
+    private PdfPTable createAthleteInfo(NumbersAndSheetsAthlete athlete, int number) {
         PdfPTable table = new PdfPTable(2);
         table.setWidthPercentage(100);
         table.setSpacingBefore(cmToPixel(1f));
@@ -150,10 +219,10 @@ public class SheetsReport extends AbstractReport {
             addInfoCell(table, athlete.getClub());
         }
 
-        document.add(table);
+        return table;
     }
 
-    private void createCompetitionRow() throws DocumentException {
+    private PdfPTable createCompetitionRow() {
         PdfPTable table = new PdfPTable(1);
         table.setWidthPercentage(100);
         table.setSpacingBefore(cmToPixel(0.5f));
@@ -162,11 +231,11 @@ public class SheetsReport extends AbstractReport {
         addCompetitionCell(table, competition == null ? ""
             : competition.getName() + " " + DATE_TIME_FORMATTER.format(competition.getCompetitionDate()));
 
-        document.add(table);
+        return table;
     }
 
     @SuppressWarnings("IfStatementWithIdenticalBranches")
-    private void createEventTable(NumbersAndSheetsAthlete athlete) throws DocumentException {
+    private PdfPTable createEventTable(NumbersAndSheetsAthlete athlete) {
         PdfPTable table = new PdfPTable(4);
         table.setWidthPercentage(100);
         table.setSpacingBefore(cmToPixel(1f));
@@ -183,7 +252,7 @@ public class SheetsReport extends AbstractReport {
             }
         }
 
-        document.add(table);
+        return table;
     }
 
     protected void addCategoryCell(PdfPTable table, String text) {
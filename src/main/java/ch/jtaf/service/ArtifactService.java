@@ -0,0 +1,435 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.AthleteRecord;
+import ch.jtaf.db.tables.records.CategoryAthleteRecord;
+import ch.jtaf.db.tables.records.CategoryEventRecord;
+import ch.jtaf.db.tables.records.CategoryRecord;
+import ch.jtaf.db.tables.records.ClubRecord;
+import ch.jtaf.db.tables.records.CompetitionRecord;
+import ch.jtaf.db.tables.records.EventRecord;
+import ch.jtaf.db.tables.records.ResultRecord;
+import ch.jtaf.db.tables.records.SeriesRecord;
+import ch.jtaf.util.Sha256;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.Category.CATEGORY;
+import static ch.jtaf.db.tables.CategoryAthlete.CATEGORY_ATHLETE;
+import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
+import static ch.jtaf.db.tables.Club.CLUB;
+import static ch.jtaf.db.tables.Competition.COMPETITION;
+import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.OrganizationUser.ORGANIZATION_USER;
+import static ch.jtaf.db.tables.Result.RESULT;
+import static ch.jtaf.db.tables.SecurityUser.SECURITY_USER;
+import static ch.jtaf.db.tables.Series.SERIES;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Stores the reports of locked competitions and series as files. A locked report is rendered in the background through
+ * the {@link ReportScheduler}, never on a request, and rendered again whenever the data it shows changes. The
+ * competition and series rankings are public, the other reports only for the users of the organization.
+ */
+@Service
+public class ArtifactService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactService.class);
+
+    public enum Report {
+        COMPETITION_RANKING(true, true),
+        EVENTS_RANKING(true, false),
+        DIPLOMAS(true, false),
+        SERIES_RANKING(false, true),
+        CLUB_RANKING(false, false);
+
+        private final boolean ofCompetition;
+        private final boolean publicReport;
+
+        Report(boolean ofCompetition, boolean publicReport) {
+            this.ofCompetition = ofCompetition;
+            this.publicReport = publicReport;
+        }
+
+        public boolean isOfCompetition() {
+            return ofCompetition;
+        }
+
+        /**
+         * @return true if the report is shown on the dashboard, the others contain the names and years of birth of
+         * the athletes
+         */
+        public boolean isPublic() {
+            return publicReport;
+        }
+
+        public String getName() {
+            return name().toLowerCase().replace('_', '-');
+        }
+
+        public static Optional<Report> of(String name) {
+            for (Report report : values()) {
+                if (report.getName().equals(name)) {
+                    return Optional.of(report);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final DSLContext dsl;
+    private final CompetitionRankingService competitionRankingService;
+    private final SeriesRankingService seriesRankingService;
+    private final ReportScheduler reportScheduler;
+    private final Path directory;
+
+    // Guarded by artifacts together with the files and generations
+    private final Map<Path, Artifact> artifacts = new ConcurrentHashMap<>();
+    // Incremented whenever a report is deleted, a report rendered from the data before is thrown away
+    private final Map<Path, Long> generations = new ConcurrentHashMap<>();
+    // Reports waiting in the ReportScheduler, a waiting report renders the newest data anyway
+    private final Map<Path, Object> queued = new ConcurrentHashMap<>();
+
+    public ArtifactService(DSLContext dsl, CompetitionRankingService competitionRankingService,
+                           SeriesRankingService seriesRankingService, ReportScheduler reportScheduler,
+                           @Value("${jtaf.artifacts.directory:${java.io.tmpdir}/jtaf4/artifacts}") Path directory) {
+        this.dsl = dsl;
+        this.competitionRankingService = competitionRankingService;
+        this.seriesRankingService = seriesRankingService;
+        this.reportScheduler = reportScheduler;
+        this.directory = directory;
+    }
+
+    public boolean isLocked(Report report, Long id) {
+        if (report.isOfCompetition()) {
+            return dsl.fetchExists(dsl
+                .selectOne()
+                .from(COMPETITION)
+                .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+                .where(COMPETITION.ID.eq(id))
+                .and(COMPETITION.LOCKED.isTrue().or(SERIES.LOCKED.isTrue())));
+        } else {
+            return dsl.fetchExists(dsl
+                .selectOne()
+                .from(SERIES)
+                .where(SERIES.ID.eq(id))
+                .and(SERIES.LOCKED.isTrue()));
+        }
+    }
+
+    /**
+     * @return true if the report of the locked competition or series has been rendered already
+     */
+    public boolean isStored(Report report, Long id) {
+        var path = getPath(report, id);
+        return artifacts.containsKey(path) || Files.exists(path);
+    }
+
+    /**
+     * Returns the stored report if the competition or series is locked and the report has been rendered already. A
+     * missing report is queued for rendering, so it is there on one of the next requests.
+     *
+     * @param username the user of the request, null if anonymous
+     */
+    public Optional<Artifact> getArtifact(Report report, Long id, String username) {
+        if (!isLocked(report, id) || !report.isPublic() && !isOfOrganizationOfUser(report, id, username)) {
+            return Optional.empty();
+        }
+        var path = getPath(report, id);
+        var artifact = artifacts.get(path);
+        if (artifact == null) {
+            synchronized (artifacts) {
+                artifact = artifacts.get(path);
+                if (artifact == null && Files.exists(path)) {
+                    // Stored before the application was restarted
+                    artifact = load(path);
+                    artifacts.put(path, artifact);
+                }
+            }
+        }
+        if (artifact == null) {
+            prerender(report, id);
+        }
+        return Optional.ofNullable(artifact);
+    }
+
+    private boolean isOfOrganizationOfUser(Report report, Long id, String username) {
+        return username != null && dsl.fetchExists(dsl
+            .selectOne()
+            .from(ORGANIZATION_USER)
+            .join(SECURITY_USER).on(SECURITY_USER.ID.eq(ORGANIZATION_USER.USER_ID))
+            .where(SECURITY_USER.EMAIL.eq(username))
+            .and(ORGANIZATION_USER.ORGANIZATION_ID.eq(getOrganizationId(id, report.isOfCompetition()))));
+    }
+
+    // After the DataVersions, so the reports are rendered from the new data
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(COMPETITION)) {
+            // Locking or unlocking stores or deletes the reports
+            CompetitionRecord competition = event.getRecord();
+            refreshCompetition(competition.getId(), isLocked(Report.COMPETITION_RANKING, competition.getId()));
+            refreshSeriesReports(competition.getSeriesId(), isLocked(Report.SERIES_RANKING, competition.getSeriesId()));
+        } else if (event.isOf(SERIES)) {
+            SeriesRecord series = event.getRecord();
+            refreshSeries(series.getId(), Boolean.TRUE.equals(series.getLocked()));
+        } else if (event.isOf(RESULT)) {
+            ResultRecord result = event.getRecord();
+            refreshCompetitionOfResult(result.getCompetitionId());
+        } else if (event.isOf(CATEGORY)) {
+            CategoryRecord category = event.getRecord();
+            refreshLockedSeries(SERIES.ID.eq(category.getSeriesId()));
+        } else if (event.isOf(CATEGORY_ATHLETE)) {
+            CategoryAthleteRecord categoryAthlete = event.getRecord();
+            refreshLockedSeries(SERIES.ID.in(dsl
+                .select(CATEGORY.SERIES_ID)
+                .from(CATEGORY)
+                .where(CATEGORY.ID.eq(categoryAthlete.getCategoryId()))));
+        } else if (event.isOf(CATEGORY_EVENT)) {
+            CategoryEventRecord categoryEvent = event.getRecord();
+            refreshLockedSeries(SERIES.ID.in(dsl
+                .select(CATEGORY.SERIES_ID)
+                .from(CATEGORY)
+                .where(CATEGORY.ID.eq(categoryEvent.getCategoryId()))));
+        } else if (event.isOf(EVENT)) {
+            // Also published after the points of the event have been recalculated
+            EventRecord eventRecord = event.getRecord();
+            refreshLockedSeries(SERIES.ID.in(dsl
+                .select(CATEGORY.SERIES_ID)
+                .from(CATEGORY)
+                .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
+                .where(CATEGORY_EVENT.EVENT_ID.eq(eventRecord.getId()))));
+        } else if (event.isOf(ATHLETE)) {
+            // A deleted athlete has no categories anymore, so all series of the organization are refreshed
+            AthleteRecord athlete = event.getRecord();
+            refreshLockedSeries(SERIES.ORGANIZATION_ID.eq(athlete.getOrganizationId()));
+        } else if (event.isOf(CLUB)) {
+            ClubRecord club = event.getRecord();
+            refreshLockedSeries(SERIES.ORGANIZATION_ID.eq(club.getOrganizationId()));
+        }
+    }
+
+    /**
+     * Only the reports of locked competitions and series are stored, so a result of an unlocked competition changes
+     * nothing. It's looked up with one query, as a result is stored for every athlete and event.
+     */
+    private void refreshCompetitionOfResult(Long competitionId) {
+        var competition = dsl
+            .select(COMPETITION.SERIES_ID, COMPETITION.LOCKED, SERIES.LOCKED)
+            .from(COMPETITION)
+            .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+            .where(COMPETITION.ID.eq(competitionId))
+            .fetchOne();
+        if (competition == null) {
+            return;
+        }
+        boolean seriesLocked = competition.value3();
+        if (competition.value2() || seriesLocked) {
+            refreshCompetition(competitionId, true);
+        }
+        if (seriesLocked) {
+            refreshSeriesReports(competition.value1(), true);
+        }
+    }
+
+    /**
+     * Refreshes the reports of the locked series that match the condition and of their locked competitions.
+     */
+    private void refreshLockedSeries(Condition condition) {
+        var competitions = dsl
+            .select(SERIES.ID, SERIES.LOCKED, COMPETITION.ID, COMPETITION.LOCKED)
+            .from(SERIES)
+            .leftJoin(COMPETITION).on(COMPETITION.SERIES_ID.eq(SERIES.ID))
+            .where(condition)
+            .and(SERIES.LOCKED.isTrue().or(COMPETITION.LOCKED.isTrue()))
+            .fetch();
+        Set<Long> seriesIds = new HashSet<>();
+        for (var competition : competitions) {
+            boolean seriesLocked = competition.value2();
+            if (seriesLocked && seriesIds.add(competition.value1())) {
+                refreshSeriesReports(competition.value1(), true);
+            }
+            // The series has no competitions if the competition is null
+            if (competition.value3() != null && (seriesLocked || Boolean.TRUE.equals(competition.value4()))) {
+                refreshCompetition(competition.value3(), true);
+            }
+        }
+    }
+
+    private void refreshSeries(Long seriesId, boolean locked) {
+        refreshSeriesReports(seriesId, locked);
+        dsl.select(COMPETITION.ID, COMPETITION.LOCKED)
+            .from(COMPETITION)
+            .where(COMPETITION.SERIES_ID.eq(seriesId))
+            .fetch()
+            .forEach(competition -> refreshCompetition(competition.value1(), locked || competition.value2()));
+    }
+
+    private void refreshSeriesReports(Long seriesId, boolean locked) {
+        refresh(Report.SERIES_RANKING, seriesId, locked);
+        refresh(Report.CLUB_RANKING, seriesId, locked);
+    }
+
+    private void refreshCompetition(Long competitionId, boolean locked) {
+        refresh(Report.COMPETITION_RANKING, competitionId, locked);
+        refresh(Report.EVENTS_RANKING, competitionId, locked);
+        refresh(Report.DIPLOMAS, competitionId, locked);
+    }
+
+    private void refresh(Report report, Long id, boolean locked) {
+        var path = getPath(report, id);
+        synchronized (artifacts) {
+            generations.merge(path, 1L, Long::sum);
+            artifacts.remove(path);
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (locked) {
+            prerender(report, id);
+        }
+    }
+
+    private void prerender(Report report, Long id) {
+        var path = getPath(report, id);
+        var token = new Object();
+        if (queued.putIfAbsent(path, token) != null) {
+            return;
+        }
+        try {
+            reportScheduler.submit(getOrganizationId(id, report.isOfCompetition()), () -> {
+                queued.remove(path, token);
+                store(path, report, id);
+            }).exceptionally(e -> {
+                queued.remove(path, token);
+                LOGGER.warn(e.getMessage(), e);
+                return null;
+            });
+        } catch (ReportBusyException e) {
+            // Queued again on the next request
+            queued.remove(path, token);
+            LOGGER.warn(e.getMessage());
+        }
+    }
+
+    private Long getOrganizationId(Long id, boolean ofCompetition) {
+        if (ofCompetition) {
+            return dsl
+                .select(SERIES.ORGANIZATION_ID)
+                .from(COMPETITION)
+                .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+                .where(COMPETITION.ID.eq(id))
+                .fetchOne(SERIES.ORGANIZATION_ID);
+        } else {
+            return dsl
+                .select(SERIES.ORGANIZATION_ID)
+                .from(SERIES)
+                .where(SERIES.ID.eq(id))
+                .fetchOne(SERIES.ORGANIZATION_ID);
+        }
+    }
+
+    private void render(Report report, Long id, OutputStream outputStream) throws IOException {
+        switch (report) {
+            case COMPETITION_RANKING -> competitionRankingService.writeCompetitionRankingAsPdf(id, outputStream);
+            case EVENTS_RANKING -> competitionRankingService.writeEventRankingAsPdf(id, outputStream);
+            case DIPLOMAS -> competitionRankingService.writeDiplomasAsPdf(id, outputStream);
+            case SERIES_RANKING -> seriesRankingService.writeSeriesRankingAsPdf(id, outputStream);
+            case CLUB_RANKING -> seriesRankingService.writeClubRankingAsPdf(id, outputStream);
+        }
+    }
+
+    private Path getPath(Report report, Long id) {
+        return directory.resolve(report.getName() + "-" + id + ".pdf");
+    }
+
+    private void store(Path path, Report report, Long id) {
+        long generation = generations.getOrDefault(path, 0L);
+        if (!isLocked(report, id)) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            // Written to a temporary file first, so a concurrent request never sees half of a report
+            var temporaryFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            var digest = Sha256.newDigest();
+            try (var outputStream = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)), digest)) {
+                render(report, id, outputStream);
+            }
+            synchronized (artifacts) {
+                if (generations.getOrDefault(path, 0L) == generation) {
+                    Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    artifacts.put(path, new Artifact(path, Files.size(path), Sha256.toHex(digest.digest())));
+                } else {
+                    // Changed while it was rendered, the report of the new data is queued already
+                    Files.delete(temporaryFile);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Artifact load(Path path) {
+        try (var channel = FileChannel.open(path, READ)) {
+            var digest = Sha256.newDigest();
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return new Artifact(path, channel.size(), Sha256.toHex(digest.digest()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A stored report, the ETag is the SHA-256 hash of its content.
+     */
+    public static class Artifact {
+
+        private final Path path;
+        private final long size;
+        private final String etag;
+
+        private Artifact(Path path, long size, String hash) {
+            this.path = path;
+            this.size = size;
+            this.etag = "\"" + hash + "\"";
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.AthleteRecord;
+import ch.jtaf.util.KoelnerPhonetik;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.function.LongPredicate;
+import java.util.regex.Pattern;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+
+/**
+ * Searches the athletes of an organization in memory, so typing into a search field doesn't query the database. The
+ * athletes of an organization are loaded on the first search and kept up to date from the stored and deleted records.
+ * <p>
+ * Every word of the search has to match. A number matches the id or, unless only ids are searched, the year of birth.
+ * Any other word matches the
+ * names that start with it, that sound alike according to the {@link KoelnerPhonetik} or that share most of its
+ * trigrams, so "Mueller" finds "Müller" and "Muller".
+ */
+@Service
+public class AthleteSearchService {
+
+    // A word matches a name if at least this part of its trigrams are in the name
+    private static final double MINIMUM_TRIGRAM_SIMILARITY = 0.5;
+    // Shorter codes match too many names
+    private static final int MINIMUM_CODE_LENGTH = 2;
+    // Removes the accents after the letters are decomposed
+    private static final Pattern NOT_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]");
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s,-]+");
+
+    // The best match first, matches with the same score in the order of the names
+    private static final Comparator<Match> MATCH_ORDER = Comparator.<Match>comparingDouble(match -> -match.score)
+        .thenComparing(match -> match.entry.sortName);
+
+    private final DSLContext dsl;
+    private final Map<Long, Index> indexes = new ConcurrentHashMap<>();
+    private final Timer searchTime;
+
+    public AthleteSearchService(DSLContext dsl, MeterRegistry meterRegistry) {
+        this.dsl = dsl;
+        this.searchTime = Timer.builder("jtaf.athlete.search").register(meterRegistry);
+    }
+
+    /**
+     * @param filter       only athletes with an id that is accepted are returned
+     * @param yearsOfBirth false if a number only matches the id, like a start number
+     * @return copies of the best matching athletes, the best first
+     */
+    public List<AthleteRecord> search(Long organizationId, String search, LongPredicate filter, boolean yearsOfBirth,
+                                      int limit) {
+        var words = split(search);
+        if (words.length == 0) {
+            return List.of();
+        }
+        var index = getIndex(organizationId);
+        return searchTime.record(() -> {
+            synchronized (index) {
+                return index.search(words, filter, yearsOfBirth, limit);
+            }
+        });
+    }
+
+    public List<AthleteRecord> search(Long organizationId, String search, int limit) {
+        return search(organizationId, search, id -> true, true, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(ATHLETE)) {
+            AthleteRecord athlete = event.getRecord();
+            var index = athlete.getOrganizationId() == null ? null : indexes.get(athlete.getOrganizationId());
+            if (index != null) {
+                synchronized (index) {
+                    // An index that isn't loaded yet will read the change from the database
+                    if (index.loaded) {
+                        index.remove(athlete.getId());
+                        if (!event.isDeleted()) {
+                            index.add(athlete);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Index getIndex(Long organizationId) {
+        var index = indexes.computeIfAbsent(organizationId, id -> new Index());
+        synchronized (index) {
+            // A change that is committed while loading waits and is applied afterwards
+            if (!index.loaded) {
+                dsl.selectFrom(ATHLETE)
+                    .where(ATHLETE.ORGANIZATION_ID.eq(organizationId))
+                    .fetch()
+                    .forEach(index::add);
+                index.loaded = true;
+            }
+        }
+        return index;
+    }
+
+    private static String[] split(String text) {
+        var trimmed = text == null ? "" : text.trim();
+        return trimmed.isEmpty() ? new String[0] : SEPARATORS.split(trimmed);
+    }
+
+    /**
+     * Lower case without accents, umlauts are written with "e" like "ue" for "ü".
+     */
+    private static String normalize(String word) {
+        var lowerCase = word.toLowerCase()
+            .replace("ä", "ae")
+            .replace("ö", "oe")
+            .replace("ü", "ue")
+            .replace("ß", "ss");
+        return NOT_ALPHANUMERIC.matcher(Normalizer.normalize(lowerCase, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    /**
+     * The trigrams of the word with two spaces in front, so the beginning of a word counts more and a word with one
+     * letter has a trigram too.
+     */
+    private static Set<String> trigrams(String normalizedWord) {
+        var padded = "  " + normalizedWord;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static AthleteRecord copy(AthleteRecord athlete) {
+        // Record.from(Object) maps the values with reflection, which takes longer than the search
+        var copy = new AthleteRecord(athlete.getId(), athlete.getFirstName(), athlete.getLastName(), athlete.getGender(),
+            athlete.getYearOfBirth(), athlete.getClubId(), athlete.getOrganizationId());
+        copy.changed(false);
+        return copy;
+    }
+
+    /**
+     * Every athlete has a slot, so a search can score the athletes in arrays instead of maps.
+     */
+    private static class Index {
+
+        private boolean loaded;
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+        private final List<Entry> slots = new ArrayList<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+        private final NavigableMap<String, Slots> names = new TreeMap<>();
+        private final NavigableMap<String, Slots> codes = new TreeMap<>();
+        private final Map<String, Slots> trigrams = new HashMap<>();
+        private final Map<Integer, Slots> years = new HashMap<>();
+
+        private void add(AthleteRecord athlete) {
+            int slot = freeSlots.isEmpty() ? slots.size() : freeSlots.pop();
+            var entry = new Entry(copy(athlete), slot);
+            entries.put(athlete.getId(), entry);
+            if (slot == slots.size()) {
+                slots.add(entry);
+            } else {
+                slots.set(slot, entry);
+            }
+
+            for (var name : entry.names) {
+                names.computeIfAbsent(name, key -> new Slots()).add(slot);
+            }
+            for (var trigram : entry.trigrams) {
+                trigrams.computeIfAbsent(trigram, key -> new Slots()).add(slot);
+            }
+            for (var code : entry.codes) {
+                codes.computeIfAbsent(code, key -> new Slots()).add(slot);
+            }
+            if (athlete.getYearOfBirth() != null) {
+                years.computeIfAbsent(athlete.getYearOfBirth(), key -> new Slots()).add(slot);
+            }
+        }
+
+        private void remove(Long id) {
+            var entry = entries.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (var name : entry.names) {
+                removeSlot(names, name, entry.slot);
+            }
+            for (var trigram : entry.trigrams) {
+                removeSlot(trigrams, trigram, entry.slot);
+            }
+            for (var code : entry.codes) {
+                removeSlot(codes, code, entry.slot);
+            }
+            removeSlot(years, entry.athlete.getYearOfBirth(), entry.slot);
+            slots.set(entry.slot, null);
+            freeSlots.push(entry.slot);
+        }
+
+        private <K> void removeSlot(Map<K, Slots> map, K key, int slot) {
+            var postings = map.get(key);
+            if (postings != null && postings.remove(slot)) {
+                map.remove(key);
+            }
+        }
+
+        private List<AthleteRecord> search(String[] words, LongPredicate filter, boolean yearsOfBirth, int limit) {
+            double[] scores = new double[slots.size()];
+            int[] matchedWords = new int[slots.size()];
+            double[] wordScores = new double[slots.size()];
+            int[] sharedTrigrams = new int[slots.size()];
+            for (var word : words) {
+                Arrays.fill(wordScores, 0);
+                score(word, yearsOfBirth, wordScores, sharedTrigrams);
+                for (int slot = 0; slot < wordScores.length; slot++) {
+                    if (wordScores[slot] > 0) {
+                        scores[slot] += wordScores[slot];
+                        matchedWords[slot]++;
+                    }
+                }
+            }
+
+            // Only the best matches are kept, the worst of them is at the head
+            PriorityQueue<Match> best = new PriorityQueue<>(Math.max(1, limit), MATCH_ORDER.reversed());
+            for (int slot = 0; slot < scores.length; slot++) {
+                // Every word has to match
+                if (matchedWords[slot] < words.length
+                    || best.size() == limit && scores[slot] < best.peek().score
+                    || !filter.test(slots.get(slot).athlete.getId())) {
+                    continue;
+                }
+                best.add(new Match(slots.get(slot), scores[slot]));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(MATCH_ORDER);
+
+            List<AthleteRecord> athletes = new ArrayList<>(matches.size());
+            for (var match : matches) {
+                athletes.add(copy(match.entry.athlete));
+            }
+            return athletes;
+        }
+
+        private void score(String word, boolean yearsOfBirth, double[] scores, int[] sharedTrigrams) {
+            if (word.chars().allMatch(Character::isDigit) && word.length() < 19) {
+                long number = Long.parseLong(word);
+                var entry = entries.get(number);
+                if (entry != null) {
+                    scores[entry.slot] += 3;
+                }
+                if (yearsOfBirth && number <= Integer.MAX_VALUE) {
+                    var born = years.get((int) number);
+                    if (born != null) {
+                        born.forEach(slot -> scores[slot] += 2);
+                    }
+                }
+                return;
+            }
+
+            var normalized = normalize(word);
+            if (normalized.isEmpty()) {
+                return;
+            }
+            // The names and codes that start with the word, it may not have been typed completely
+            names.subMap(normalized, true, normalized + Character.MAX_VALUE, false).forEach((name, postings) -> {
+                double score = name.equals(normalized) ? 4 : 3;
+                postings.forEach(slot -> scores[slot] = Math.max(scores[slot], score));
+            });
+
+            var code = KoelnerPhonetik.encode(word);
+            if (code.length() >= MINIMUM_CODE_LENGTH) {
+                codes.subMap(code, true, code + Character.MAX_VALUE, false).values().forEach(postings ->
+                    postings.forEach(slot -> scores[slot] += 2));
+            }
+
+            var wordTrigrams = trigrams(normalized);
+            Arrays.fill(sharedTrigrams, 0);
+            for (var trigram : wordTrigrams) {
+                var postings = trigrams.get(trigram);
+                if (postings != null) {
+                    postings.forEach(slot -> sharedTrigrams[slot]++);
+                }
+            }
+            for (int slot = 0; slot < sharedTrigrams.length; slot++) {
+                double similarity = (double) sharedTrigrams[slot] / wordTrigrams.size();
+                if (similarity >= MINIMUM_TRIGRAM_SIMILARITY) {
+                    scores[slot] += 2 * similarity;
+                }
+            }
+        }
+    }
+
+    /**
+     * The slots of the athletes that have a name, code, trigram or year.
+     */
+    private static class Slots {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        /**
+         * @return true if no slot is left
+         */
+        private boolean remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    break;
+                }
+            }
+            return size == 0;
+        }
+
+        private void forEach(IntConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(slots[i]);
+            }
+        }
+    }
+
+    private static class Match {
+
+        private final Entry entry;
+        private final double score;
+
+        private Match(Entry entry, double score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+
+    private static class Entry {
+
+        private final AthleteRecord athlete;
+        private final int slot;
+        private final String sortName;
+        private final List<String> names = new ArrayList<>();
+        private final List<String> codes = new ArrayList<>();
+        // Of all names, a trigram that is in the first and the last name counts once
+        private final Set<String> trigrams = new HashSet<>();
+
+        private Entry(AthleteRecord athlete, int slot) {
+            this.athlete = athlete;
+            this.slot = slot;
+            this.sortName = Objects.toString(athlete.getLastName(), "") + "\0" + Objects.toString(athlete.getFirstName(), "");
+            for (var name : new String[]{athlete.getLastName(), athlete.getFirstName()}) {
+                for (var word : split(name)) {
+                    var normalized = normalize(word);
+                    if (!normalized.isEmpty() && !names.contains(normalized)) {
+                        names.add(normalized);
+                        trigrams.addAll(trigrams(normalized));
+                    }
+                    var code = KoelnerPhonetik.encode(word);
+                    if (!code.isEmpty() && !codes.contains(code)) {
+                        codes.add(code);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.AthleteRecord;
+import ch.jtaf.db.tables.records.CategoryAthleteRecord;
+import ch.jtaf.db.tables.records.CategoryEventRecord;
+import ch.jtaf.db.tables.records.CategoryRecord;
+import ch.jtaf.db.tables.records.CompetitionRecord;
+import ch.jtaf.db.tables.records.EventRecord;
+import ch.jtaf.db.tables.records.ResultRecord;
+import ch.jtaf.reporting.data.CompetitionRankingAthlete;
+import ch.jtaf.reporting.data.CompetitionRankingCategory;
+import ch.jtaf.reporting.data.CompetitionRankingData;
+import ch.jtaf.reporting.data.CompetitionRankingResult;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.Category.CATEGORY;
+import static ch.jtaf.db.tables.CategoryAthlete.CATEGORY_ATHLETE;
+import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
+import static ch.jtaf.db.tables.Competition.COMPETITION;
+import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.Result.RESULT;
+import static org.jooq.impl.DSL.partitionBy;
+import static org.jooq.impl.DSL.rank;
+import static org.jooq.impl.DSL.sum;
+
+/**
+ * Keeps the rankings of the most recently used competitions in memory. A competition is loaded from the database when
+ * it is requested for the first time, afterwards every stored result only moves the affected athlete within its
+ * category.
+ */
+@Service
+public class CompetitionRankingEngine {
+
+    private static final Comparator<AthleteState> RANKING_ORDER = Comparator
+        .comparingInt((AthleteState athlete) -> athlete.totalPoints).reversed()
+        .thenComparing(athlete -> athlete.id);
+
+    private static final String TOTAL_POINTS = "total_points";
+    private static final String ATHLETE_RANK = "athlete_rank";
+    private static final int FETCH_SIZE = 1000;
+
+    private final DSLContext dsl;
+
+    // Access order turns the map into a LRU cache, it is also the lock for the loads
+    private final Map<Long, CompetitionState> competitions = new LinkedHashMap<>(16, 0.75f, true);
+    private final List<Load> loads = new ArrayList<>();
+    private final int maximumCompetitions;
+
+    public CompetitionRankingEngine(DSLContext dsl,
+                                    @Value("${jtaf.ranking-engine.maximum-competitions:50}") int maximumCompetitions) {
+        this.dsl = dsl;
+        this.maximumCompetitions = maximumCompetitions;
+    }
+
+    public CompetitionRankingData getCompetitionRanking(Long competitionId) {
+        CompetitionState competition;
+        Load load = null;
+        synchronized (competitions) {
+            competition = competitions.get(competitionId);
+            if (competition == null) {
+                load = new Load(competitionId);
+                loads.add(load);
+            }
+        }
+
+        if (load != null) {
+            // Loaded outside of the lock, so the queries don't block the rankings of the other competitions
+            try {
+                competition = load(competitionId);
+            } catch (RuntimeException e) {
+                synchronized (competitions) {
+                    loads.remove(load);
+                }
+                throw e;
+            }
+            synchronized (competitions) {
+                loads.remove(load);
+                // A competition that changed while it was loaded is returned once and loaded again next time
+                if (!load.stale) {
+                    competitions.put(competitionId, competition);
+                    removeEldestCompetitions();
+                }
+            }
+        }
+
+        synchronized (competition) {
+            return competition.toData();
+        }
+    }
+
+    // Before DataVersions, so a ranking is never cached with the new version before the change is applied
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(RESULT)) {
+            ResultRecord result = event.getRecord();
+            if (event.isDeleted()) {
+                invalidate(result.getCompetitionId(), competition -> competition.id.equals(result.getCompetitionId()));
+            } else {
+                update(result);
+            }
+        } else if (event.isOf(COMPETITION)) {
+            CompetitionRecord record = event.getRecord();
+            invalidate(record.getId(), competition -> competition.id.equals(record.getId()));
+        } else if (event.isOf(CATEGORY)) {
+            CategoryRecord category = event.getRecord();
+            invalidate(null, competition -> Objects.equals(competition.seriesId, category.getSeriesId()));
+        } else if (event.isOf(CATEGORY_ATHLETE)) {
+            CategoryAthleteRecord categoryAthlete = event.getRecord();
+            invalidate(null, competition -> competition.categories.containsKey(categoryAthlete.getCategoryId()));
+        } else if (event.isOf(CATEGORY_EVENT)) {
+            CategoryEventRecord categoryEvent = event.getRecord();
+            invalidate(null, competition -> competition.categories.containsKey(categoryEvent.getCategoryId()));
+        } else if (event.isOf(EVENT)) {
+            EventRecord record = event.getRecord();
+            invalidate(null, competition -> competition.events.containsKey(record.getId()));
+        } else if (event.isOf(ATHLETE)) {
+            AthleteRecord athlete = event.getRecord();
+            invalidate(null, competition -> competition.categories.values().stream()
+                .anyMatch(category -> category.athletes.containsKey(athlete.getId())));
+        }
+    }
+
+    /**
+     * Removes the competitions that match and marks the running loads as stale, either those of the competition or all
+     * if the competition is not known.
+     */
+    private void invalidate(Long competitionId, Predicate<CompetitionState> predicate) {
+        synchronized (competitions) {
+            competitions.values().removeIf(competition -> {
+                synchronized (competition) {
+                    return predicate.test(competition);
+                }
+            });
+            for (var load : loads) {
+                if (competitionId == null || load.competitionId.equals(competitionId)) {
+                    load.stale = true;
+                }
+            }
+        }
+    }
+
+    private void update(ResultRecord result) {
+        CompetitionState competition;
+        synchronized (competitions) {
+            competition = competitions.get(result.getCompetitionId());
+            // A running load may have read the results before this one
+            for (var load : loads) {
+                if (load.competitionId.equals(result.getCompetitionId())) {
+                    load.stale = true;
+                }
+            }
+        }
+        if (competition == null) {
+            return;
+        }
+
+        boolean categoryFound;
+        boolean athleteFound;
+        boolean eventFound;
+        synchronized (competition) {
+            var category = competition.categories.get(result.getCategoryId());
+            categoryFound = category != null;
+            athleteFound = categoryFound && category.athletes.containsKey(result.getAthleteId());
+            eventFound = competition.events.containsKey(result.getEventId());
+        }
+
+        // The athlete and the event are loaded outside of the locks, so the queries don't block the rankings
+        var athlete = categoryFound && !athleteFound ? loadAthlete(result.getAthleteId()) : null;
+        var eventAbbreviation = categoryFound && !eventFound ? loadEventAbbreviation(result.getEventId()) : null;
+
+        boolean updated;
+        synchronized (competition) {
+            updated = update(competition, result, athlete, eventAbbreviation);
+        }
+        if (!updated) {
+            invalidate(result.getCompetitionId(), candidate -> candidate == competition);
+        }
+    }
+
+    private boolean update(CompetitionState competition, ResultRecord result, AthleteState loadedAthlete,
+                           String loadedEventAbbreviation) {
+        var category = competition.categories.get(result.getCategoryId());
+        if (category == null) {
+            return false;
+        }
+
+        var athlete = category.athletes.get(result.getAthleteId());
+        if (athlete == null && loadedAthlete == null) {
+            return false;
+        }
+        var eventAbbreviation = competition.events.get(result.getEventId());
+        if (eventAbbreviation == null && loadedEventAbbreviation == null) {
+            return false;
+        }
+
+        if (athlete == null) {
+            athlete = loadedAthlete;
+            category.athletes.put(athlete.id, athlete);
+        } else {
+            category.ranking.remove(athlete);
+        }
+        if (eventAbbreviation == null) {
+            eventAbbreviation = loadedEventAbbreviation;
+            competition.events.put(result.getEventId(), eventAbbreviation);
+        }
+        athlete.putResult(result.getEventId(), new CompetitionRankingResult(eventAbbreviation,
+            result.getResult(), result.getPoints(), result.getPosition()));
+        category.insert(athlete);
+        competition.snapshot = null;
+
+        return true;
+    }
+
+    private void removeEldestCompetitions() {
+        var iterator = competitions.values().iterator();
+        while (competitions.size() > maximumCompetitions && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private CompetitionState load(Long competitionId) {
+        var competitionRecord = dsl
+            .select(COMPETITION.NAME, COMPETITION.COMPETITION_DATE, COMPETITION.ALWAYS_FIRST_THREE_MEDALS,
+                COMPETITION.MEDAL_PERCENTAGE, COMPETITION.SERIES_ID)
+            .from(COMPETITION)
+            .where(COMPETITION.ID.eq(competitionId))
+            .fetchOne();
+
+        var competition = new CompetitionState(competitionId, competitionRecord.get(COMPETITION.SERIES_ID),
+            competitionRecord.get(COMPETITION.NAME), competitionRecord.get(COMPETITION.COMPETITION_DATE),
+            competitionRecord.get(COMPETITION.ALWAYS_FIRST_THREE_MEDALS), competitionRecord.get(COMPETITION.MEDAL_PERCENTAGE));
+
+        Field<Integer> points = sum(RESULT.POINTS).coerce(Integer.class);
+        var totals = dsl
+            .select(RESULT.CATEGORY_ID, RESULT.ATHLETE_ID,
+                points.as(TOTAL_POINTS),
+                rank().over(partitionBy(RESULT.CATEGORY_ID).orderBy(points.desc())).as(ATHLETE_RANK))
+            .from(RESULT)
+            .join(CATEGORY_ATHLETE).on(CATEGORY_ATHLETE.CATEGORY_ID.eq(RESULT.CATEGORY_ID))
+            .and(CATEGORY_ATHLETE.ATHLETE_ID.eq(RESULT.ATHLETE_ID))
+            .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(RESULT.CATEGORY_ID))
+            .and(CATEGORY_EVENT.EVENT_ID.eq(RESULT.EVENT_ID))
+            .where(RESULT.COMPETITION_ID.eq(competitionId))
+            .groupBy(RESULT.CATEGORY_ID, RESULT.ATHLETE_ID)
+            .asTable("totals");
+        var totalPoints = totals.field(TOTAL_POINTS, Integer.class);
+        var athleteRank = totals.field(ATHLETE_RANK, Integer.class);
+
+        var results = dsl
+            .select(
+                CATEGORY.ID, CATEGORY.ABBREVIATION, CATEGORY.NAME, CATEGORY.YEAR_FROM, CATEGORY.YEAR_TO,
+                ATHLETE.ID, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME, ATHLETE.YEAR_OF_BIRTH,
+                ATHLETE.CLUB_ID,
+                totalPoints,
+                EVENT.ID, EVENT.ABBREVIATION,
+                RESULT.RESULT_,
+                RESULT.POINTS,
+                RESULT.POSITION
+            )
+            .from(totals)
+            .join(CATEGORY).on(CATEGORY.ID.eq(totals.field(RESULT.CATEGORY_ID)))
+            .join(ATHLETE).on(ATHLETE.ID.eq(totals.field(RESULT.ATHLETE_ID)))
+            .join(RESULT).on(RESULT.COMPETITION_ID.eq(competitionId))
+            .and(RESULT.CATEGORY_ID.eq(CATEGORY.ID))
+            .and(RESULT.ATHLETE_ID.eq(ATHLETE.ID))
+            .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
+            .and(CATEGORY_EVENT.EVENT_ID.eq(RESULT.EVENT_ID))
+            .join(EVENT).on(EVENT.ID.eq(RESULT.EVENT_ID))
+            .orderBy(CATEGORY.ABBREVIATION, CATEGORY.ID, athleteRank, ATHLETE.ID)
+            .fetchSize(FETCH_SIZE)
+            .fetchLazy();
+
+        // The rows arrive ranked, so the athletes are appended in the order of the database. The cursor is read row by
+        // row and the columns by their position in the select.
+        try (results) {
+            CategoryState category = null;
+            AthleteState athlete = null;
+            for (var result : results) {
+                if (category == null || !category.id.equals(result.value1())) {
+                    category = new CategoryState(result.value1(), result.value2(), result.value3(), result.value4(),
+                        result.value5());
+                    competition.categories.put(category.id, category);
+                    athlete = null;
+                }
+
+                if (athlete == null || !athlete.id.equals(result.value6())) {
+                    athlete = new AthleteState(result.value6(), result.value8(), result.value7(), result.value9(),
+                        result.value10(), result.value11());
+                    category.athletes.put(athlete.id, athlete);
+                    category.ranking.add(athlete);
+                }
+
+                competition.events.put(result.value12(), result.value13());
+                athlete.results.put(result.value12(), new CompetitionRankingResult(result.value13(), result.value14(),
+                    result.value15(), result.value16()));
+            }
+        }
+
+        return competition;
+    }
+
+    private AthleteState loadAthlete(Long athleteId) {
+        return dsl
+            .select(ATHLETE.ID, ATHLETE.FIRST_NAME, ATHLETE.LAST_NAME, ATHLETE.YEAR_OF_BIRTH, ATHLETE.CLUB_ID)
+            .from(ATHLETE)
+            .where(ATHLETE.ID.eq(athleteId))
+            .fetchOptional(record -> new AthleteState(record.get(ATHLETE.ID), record.get(ATHLETE.FIRST_NAME),
+                record.get(ATHLETE.LAST_NAME), record.get(ATHLETE.YEAR_OF_BIRTH), record.get(ATHLETE.CLUB_ID), 0))
+            .orElse(null);
+    }
+
+    private String loadEventAbbreviation(Long eventId) {
+        return dsl
+            .select(EVENT.ABBREVIATION)
+            .from(EVENT)
+            .where(EVENT.ID.eq(eventId))
+            .fetchOne(EVENT.ABBREVIATION);
+    }
+
+    private static class Load {
+
+        private final Long competitionId;
+        private boolean stale;
+
+        Load(Long competitionId) {
+            this.competitionId = competitionId;
+        }
+    }
+
+    private static class CompetitionState {
+
+        private final Long id;
+        private final Long seriesId;
+        private final String name;
+        private final LocalDate competitionDate;
+        private final boolean alwaysFirstThreeMedals;
+        private final int medalPercentage;
+
+        private final Map<Long, CategoryState> categories = new LinkedHashMap<>();
+        private final Map<Long, String> events = new HashMap<>();
+
+        // The snapshot is immutable, so it is shared until the next result changes the competition
+        private CompetitionRankingData snapshot;
+
+        CompetitionState(Long id, Long seriesId, String name, LocalDate competitionDate, boolean alwaysFirstThreeMedals,
+                         int medalPercentage) {
+            this.id = id;
+            this.seriesId = seriesId;
+            this.name = name;
+            this.competitionDate = competitionDate;
+            this.alwaysFirstThreeMedals = alwaysFirstThreeMedals;
+            this.medalPercentage = medalPercentage;
+        }
+
+        CompetitionRankingData toData() {
+            if (snapshot == null) {
+                List<CompetitionRankingCategory> competitionRankingCategories = new ArrayList<>(categories.size());
+                for (var category : categories.values()) {
+                    List<CompetitionRankingAthlete> competitionRankingAthletes = new ArrayList<>(category.ranking.size());
+                    int rank = 0;
+                    for (int i = 0; i < category.ranking.size(); i++) {
+                        var athlete = category.ranking.get(i);
+                        // Same semantics as RANK(): athletes with equal points share the rank
+                        if (i == 0 || category.ranking.get(i - 1).totalPoints != athlete.totalPoints) {
+                            rank = i + 1;
+                        }
+                        competitionRankingAthletes.add(new CompetitionRankingAthlete(rank, athlete.id, athlete.firstName,
+                            athlete.lastName, athlete.yearOfBirth, athlete.clubId, new ArrayList<>(athlete.results.values())));
+                    }
+                    competitionRankingCategories.add(new CompetitionRankingCategory(category.id, category.abbreviation,
+                        category.name, category.yearFrom, category.yearTo, competitionRankingAthletes, medalPercentage,
+                        alwaysFirstThreeMedals));
+                }
+                snapshot = new CompetitionRankingData(name, competitionDate, alwaysFirstThreeMedals, medalPercentage,
+                    competitionRankingCategories);
+            }
+            return snapshot;
+        }
+    }
+
+    private static class CategoryState {
+
+        private final Long id;
+        private final String abbreviation;
+        private final String name;
+        private final int yearFrom;
+        private final int yearTo;
+
+        private final Map<Long, AthleteState> athletes = new HashMap<>();
+        private final List<AthleteState> ranking = new ArrayList<>();
+
+        CategoryState(Long id, String abbreviation, String name, int yearFrom, int yearTo) {
+            this.id = id;
+            this.abbreviation = abbreviation;
+            this.name = name;
+            this.yearFrom = yearFrom;
+            this.yearTo = yearTo;
+        }
+
+        void insert(AthleteState athlete) {
+            int index = Collections.binarySearch(ranking, athlete, RANKING_ORDER);
+            ranking.add(index < 0 ? -index - 1 : index, athlete);
+        }
+    }
+
+    private static class AthleteState {
+
+        private final Long id;
+        private final String firstName;
+        private final String lastName;
+        private final int yearOfBirth;
+        private final Long clubId;
+
+        private final Map<Long, CompetitionRankingResult> results = new HashMap<>();
+        private int totalPoints;
+
+        AthleteState(Long id, String firstName, String lastName, int yearOfBirth, Long clubId, int totalPoints) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.yearOfBirth = yearOfBirth;
+            this.clubId = clubId;
+            this.totalPoints = totalPoints;
+        }
+
+        void putResult(Long eventId, CompetitionRankingResult result) {
+            var previous = results.put(eventId, result);
+            totalPoints += result.getPoints() - (previous == null ? 0 : previous.getPoints());
+        }
+    }
+}
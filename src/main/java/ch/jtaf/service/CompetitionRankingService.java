@@ -1,25 +1,26 @@
 package ch.jtaf.service;
 
-import ch.jtaf.reporting.data.CompetitionRankingAthlete;
-import ch.jtaf.reporting.data.CompetitionRankingCategory;
+import ch.jtaf.model.EventType;
 import ch.jtaf.reporting.data.CompetitionRankingData;
-import ch.jtaf.reporting.data.CompetitionRankingResult;
 import ch.jtaf.reporting.data.EventsRankingData;
 import ch.jtaf.reporting.data.EventsRankingEvent;
 import ch.jtaf.reporting.data.EventsRankingResult;
 import ch.jtaf.reporting.report.CompetitionRankingReport;
 import ch.jtaf.reporting.report.DiplomaReport;
 import ch.jtaf.reporting.report.EventsRankingReport;
+import ch.jtaf.reporting.report.MergedReport;
 import org.jooq.DSLContext;
-import org.jooq.Record14;
-import org.jooq.Record9;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.jooq.Result;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import static ch.jtaf.db.tables.Athlete.ATHLETE;
 import static ch.jtaf.db.tables.Category.CATEGORY;
@@ -28,172 +29,164 @@ import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
 import static ch.jtaf.db.tables.Club.CLUB;
 import static ch.jtaf.db.tables.Competition.COMPETITION;
 import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.Logo.LOGO;
+import static ch.jtaf.db.tables.LogoThumbnail.LOGO_THUMBNAIL;
 import static ch.jtaf.db.tables.Result.RESULT;
 import static ch.jtaf.db.tables.Series.SERIES;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.when;
 
 @Service
 public class CompetitionRankingService {
 
     private final DSLContext dsl;
-
-    public CompetitionRankingService(DSLContext dsl) {
+    private final CompetitionRankingEngine competitionRankingEngine;
+    private final DataVersions dataVersions;
+    private final ReportCache reportCache;
+    private final ExecutorService reportExecutor;
+    private final ReportScheduler reportScheduler;
+
+    public CompetitionRankingService(DSLContext dsl, CompetitionRankingEngine competitionRankingEngine,
+                                     DataVersions dataVersions, ReportCache reportCache, ExecutorService reportExecutor,
+                                     ReportScheduler reportScheduler) {
         this.dsl = dsl;
+        this.competitionRankingEngine = competitionRankingEngine;
+        this.dataVersions = dataVersions;
+        this.reportCache = reportCache;
+        this.reportExecutor = reportExecutor;
+        this.reportScheduler = reportScheduler;
     }
 
+    // Reports that are not cached are rendered through the ReportScheduler like all other reports. Requests of a report
+    // that is rendered already wait for it in the ReportCache, so they don't take another place in the queue.
+
     public byte[] getCompetitionRankingAsPdf(Long competitionId) {
-        return new CompetitionRankingReport(getCompetitionRanking(competitionId), new Locale("de", "CH"), getClubs()).create();
+        return reportCache.get("competition-ranking-pdf", competitionId, dataVersions.getCompetitionVersion(competitionId),
+            () -> reportScheduler.render(getOrganizationId(competitionId),
+                () -> new CompetitionRankingReport(getCompetitionRanking(competitionId), new Locale("de", "CH"), getClubs()).create()));
     }
 
-    public byte[] getDiplomasAsPdf(Long competitionId) {
-        return new DiplomaReport(getCompetitionRanking(competitionId), getLogo(competitionId), new Locale("de", "CH")).create();
+    public void writeCompetitionRankingAsPdf(Long competitionId, OutputStream outputStream) throws IOException {
+        outputStream.write(getCompetitionRankingAsPdf(competitionId));
     }
 
-    public byte[] getEventRankingAsPdf(Long competitionId) {
-        return new EventsRankingReport(getEventsRanking(competitionId), new Locale("de", "CH"), getClubs()).create();
+    /**
+     * Diplomas are one page per athlete, so they are written directly into the stream instead of being cached. The
+     * categories are rendered in parallel.
+     */
+    public void writeDiplomasAsPdf(Long competitionId, OutputStream outputStream) {
+        writeDiplomasAsPdf(competitionId, outputStream, ReportProgress.NONE);
     }
 
-    public CompetitionRankingData getCompetitionRanking(Long competitionId) {
-        var competition = dsl
-            .select(COMPETITION.NAME, COMPETITION.COMPETITION_DATE, COMPETITION.ALWAYS_FIRST_THREE_MEDALS, COMPETITION.MEDAL_PERCENTAGE)
-            .from(COMPETITION)
-            .where(COMPETITION.ID.eq(competitionId))
-            .fetchOne();
-
-        var competitionRanking = new CompetitionRankingData(
-            competition.get(COMPETITION.NAME), competition.get(COMPETITION.COMPETITION_DATE),
-            competition.get(COMPETITION.ALWAYS_FIRST_THREE_MEDALS), competition.get(COMPETITION.MEDAL_PERCENTAGE));
+    public void writeDiplomasAsPdf(Long competitionId, OutputStream outputStream, ReportProgress progress) {
+        var ranking = getCompetitionRanking(competitionId);
+        int totalPages = ranking.getCategories().stream().mapToInt(category -> category.getAthletes().size()).sum();
+        var logo = getLogo(competitionId);
+        var parts = ranking.getCategories().stream()
+            .filter(category -> !category.getAthletes().isEmpty())
+            .map(category -> new DiplomaReport(
+                new CompetitionRankingData(ranking.getName(), ranking.getCompetitionDate(), ranking.isAlwaysFirstThreeMedals(),
+                    ranking.getMedalPercentage(), List.of(category)),
+                logo, new Locale("de", "CH")))
+            .collect(toList());
+        new MergedReport(parts, reportExecutor, pages -> progress.pagesWritten(pages, totalPages), new Locale("de", "CH"))
+            .create(outputStream);
+    }
 
-        var results = dsl.
-            selectDistinct(
-                CATEGORY.ID, CATEGORY.ABBREVIATION, CATEGORY.NAME, CATEGORY.YEAR_FROM, CATEGORY.YEAR_TO,
-                ATHLETE.ID, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME, ATHLETE.YEAR_OF_BIRTH,
-                ATHLETE.CLUB_ID,
-                EVENT.ABBREVIATION,
-                RESULT.RESULT_,
-                RESULT.POINTS,
-                RESULT.POSITION
-            )
-            .from(COMPETITION, CATEGORY, CATEGORY_ATHLETE, ATHLETE, CATEGORY_EVENT, EVENT, RESULT)
-            .where(COMPETITION.ID.eq(competitionId))
-            .and(CATEGORY.SERIES_ID.eq(COMPETITION.SERIES_ID))
-            .and(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
-            .and(CATEGORY_ATHLETE.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(CATEGORY.ID.eq(CATEGORY_EVENT.CATEGORY_ID))
-            .and(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(CATEGORY_EVENT.EVENT_ID.eq(EVENT.ID))
-            .and(RESULT.COMPETITION_ID.eq(COMPETITION.ID))
-            .and(RESULT.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(RESULT.ATHLETE_ID.eq(ATHLETE.ID))
-            .and(EVENT.ID.eq(RESULT.EVENT_ID))
-            .orderBy(CATEGORY.ABBREVIATION, ATHLETE.ID)
-            .fetch();
+    public byte[] getEventRankingAsPdf(Long competitionId) {
+        return reportCache.get("events-ranking-pdf", competitionId, dataVersions.getCompetitionVersion(competitionId),
+            () -> reportScheduler.render(getOrganizationId(competitionId),
+                () -> new EventsRankingReport(getEventsRanking(competitionId), new Locale("de", "CH"), getClubs()).create()));
+    }
 
-        competitionRanking.getCategories().addAll(getCategories(results));
+    public void writeEventRankingAsPdf(Long competitionId, OutputStream outputStream) throws IOException {
+        outputStream.write(getEventRankingAsPdf(competitionId));
+    }
 
-        return competitionRanking;
+    public CompetitionRankingData getCompetitionRanking(Long competitionId) {
+        return competitionRankingEngine.getCompetitionRanking(competitionId);
     }
 
     public EventsRankingData getEventsRanking(Long competitionId) {
+        return reportCache.get("events-ranking", competitionId, dataVersions.getCompetitionVersion(competitionId),
+            () -> fetchEventsRanking(competitionId));
+    }
+
+    private EventsRankingData fetchEventsRanking(Long competitionId) {
         var competition = dsl
             .select(COMPETITION.NAME, COMPETITION.COMPETITION_DATE)
             .from(COMPETITION)
             .where(COMPETITION.ID.eq(competitionId))
             .fetchOne();
 
-        var eventsRanking = new EventsRankingData(competition.get(COMPETITION.NAME), competition.get(COMPETITION.COMPETITION_DATE));
-
-        var results = dsl.
-            selectDistinct(
+        // Higher results are better for jumps and throws, lower results for runs
+        var results = dsl
+            .select(
+                EVENT.ABBREVIATION, EVENT.GENDER,
                 ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME, ATHLETE.YEAR_OF_BIRTH,
                 CATEGORY.ABBREVIATION,
                 ATHLETE.CLUB_ID,
-                EVENT.ABBREVIATION, EVENT.GENDER, EVENT.EVENT_TYPE,
                 RESULT.RESULT_
             )
-            .from(COMPETITION, CATEGORY, CATEGORY_ATHLETE, ATHLETE, CATEGORY_EVENT, EVENT, RESULT)
-            .where(COMPETITION.ID.eq(competitionId))
-            .and(CATEGORY.SERIES_ID.eq(COMPETITION.SERIES_ID))
-            .and(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
-            .and(CATEGORY_ATHLETE.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(CATEGORY.ID.eq(CATEGORY_EVENT.CATEGORY_ID))
-            .and(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(CATEGORY_EVENT.EVENT_ID.eq(EVENT.ID))
-            .and(RESULT.COMPETITION_ID.eq(COMPETITION.ID))
-            .and(RESULT.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(RESULT.ATHLETE_ID.eq(ATHLETE.ID))
-            .and(EVENT.ID.eq(RESULT.EVENT_ID))
-            .orderBy(EVENT.ABBREVIATION, EVENT.GENDER)
+            .from(RESULT)
+            .join(EVENT).on(EVENT.ID.eq(RESULT.EVENT_ID))
+            .join(CATEGORY).on(CATEGORY.ID.eq(RESULT.CATEGORY_ID))
+            .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(RESULT.CATEGORY_ID))
+            .and(CATEGORY_EVENT.EVENT_ID.eq(RESULT.EVENT_ID))
+            .join(CATEGORY_ATHLETE).on(CATEGORY_ATHLETE.CATEGORY_ID.eq(RESULT.CATEGORY_ID))
+            .and(CATEGORY_ATHLETE.ATHLETE_ID.eq(RESULT.ATHLETE_ID))
+            .join(ATHLETE).on(ATHLETE.ID.eq(RESULT.ATHLETE_ID))
+            .where(RESULT.COMPETITION_ID.eq(competitionId))
+            .orderBy(EVENT.ABBREVIATION, EVENT.GENDER,
+                when(EVENT.EVENT_TYPE.eq(EventType.JUMP_THROW.name()), RESULT.RESULT_VALUE.neg())
+                    .otherwise(RESULT.RESULT_VALUE).asc().nullsLast())
             .fetch();
 
-        eventsRanking.getEvents().addAll(getEvents(results));
-
-        return eventsRanking;
+        return new EventsRankingData(competition.get(COMPETITION.NAME), competition.get(COMPETITION.COMPETITION_DATE),
+            getEvents(results));
     }
 
-    private List<CompetitionRankingCategory> getCategories(Result<Record14<Long, String, String, Integer, Integer, Long, String, String, Integer, Long, String, String, Integer, Integer>> results) {
-        List<CompetitionRankingCategory> categories = new ArrayList<>();
-
-        CompetitionRankingCategory category = null;
-        CompetitionRankingAthlete athlete = null;
-
-        for (var result : results) {
-            if (category == null || !category.getId().equals(result.get(CATEGORY.ID))) {
-                category = new CompetitionRankingCategory(result.get(CATEGORY.ID), result.get(CATEGORY.ABBREVIATION),
-                    result.get(CATEGORY.NAME), result.get(CATEGORY.YEAR_FROM), result.get(CATEGORY.YEAR_TO));
-                categories.add(category);
-            }
-
-            if (athlete == null || !athlete.getId().equals(result.get(ATHLETE.ID))) {
-                athlete = new CompetitionRankingAthlete(result.get(ATHLETE.ID), result.get(ATHLETE.FIRST_NAME),
-                    result.get(ATHLETE.LAST_NAME), result.get(ATHLETE.YEAR_OF_BIRTH), result.get(ATHLETE.CLUB_ID));
-                category.addAthlete(athlete);
-            }
-
-            CompetitionRankingResult competitionRankingResult = new CompetitionRankingResult(result.get(EVENT.ABBREVIATION),
-                result.get(RESULT.RESULT_), result.get(RESULT.POINTS), result.get(RESULT.POSITION));
-            athlete.addResult(competitionRankingResult);
-        }
-
-        return categories;
+    private Long getOrganizationId(Long competitionId) {
+        return dsl
+            .select(SERIES.ORGANIZATION_ID)
+            .from(COMPETITION)
+            .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+            .where(COMPETITION.ID.eq(competitionId))
+            .fetchOne(SERIES.ORGANIZATION_ID);
     }
 
     private byte[] getLogo(Long competitionId) {
-        var logoRecord = dsl
-            .select(SERIES.LOGO)
+        // The thumbnail for diplomas, or the original if there is none
+        var content = coalesce(LOGO_THUMBNAIL.CONTENT, LOGO.CONTENT);
+        return dsl
+            .select(content)
             .from(SERIES)
             .join(COMPETITION).on(COMPETITION.SERIES_ID.eq(SERIES.ID))
+            .join(LOGO).on(LOGO.HASH.eq(SERIES.LOGO_HASH))
+            .leftOuterJoin(LOGO_THUMBNAIL).on(LOGO_THUMBNAIL.HASH.eq(LOGO.HASH))
+            .and(LOGO_THUMBNAIL.SIZE.eq(LogoService.Size.DIPLOMA.getName()))
             .where(COMPETITION.ID.eq(competitionId))
-            .fetchOne();
-        return logoRecord.get(SERIES.LOGO);
+            .fetchOne(content);
     }
 
-    private List<EventsRankingEvent> getEvents(Result<Record9<String, String, Integer, String, Long, String, String, String, String>> records) {
-        List<EventsRankingEvent> events = new ArrayList<>();
-
-        EventsRankingEvent event = null;
-
-        for (var record : records) {
-            if (event == null
-                || (!event.getAbbreviation().equals(record.get(EVENT.ABBREVIATION))
-                && !event.getAbbreviation().equals(record.get(EVENT.GENDER)))) {
-                event = new EventsRankingEvent(record.get(EVENT.ABBREVIATION), record.get(EVENT.GENDER));
-                events.add(event);
-            }
-            EventsRankingResult result = new EventsRankingResult(record.get(ATHLETE.FIRST_NAME), record.get(ATHLETE.LAST_NAME),
-                record.get(ATHLETE.YEAR_OF_BIRTH), record.get(CATEGORY.ABBREVIATION), record.get(ATHLETE.CLUB_ID),
-                record.get(EVENT.ABBREVIATION), record.get(EVENT.EVENT_TYPE), record.get(RESULT.RESULT_));
-            event.getResults().add(result);
-        }
-
-        return events;
+    private List<EventsRankingEvent> getEvents(Result<? extends Record> records) {
+        // intoGroups keeps the order of the records, so the results stay ranked
+        return records.intoGroups(new Field<?>[]{EVENT.ABBREVIATION, EVENT.GENDER}).values().stream()
+            .map(eventRecords -> new EventsRankingEvent(eventRecords.get(0).get(EVENT.ABBREVIATION),
+                eventRecords.get(0).get(EVENT.GENDER),
+                eventRecords.map(record -> new EventsRankingResult(record.get(ATHLETE.FIRST_NAME),
+                    record.get(ATHLETE.LAST_NAME), record.get(ATHLETE.YEAR_OF_BIRTH), record.get(CATEGORY.ABBREVIATION),
+                    record.get(ATHLETE.CLUB_ID), record.get(RESULT.RESULT_)))))
+            .collect(toList());
     }
 
     private Map<Long, String> getClubs() {
-        return dsl.
-            select(CLUB.ID, CLUB.ABBREVIATION)
+        return reportCache.get("clubs", 0L, dataVersions.getClubsVersion(), () -> dsl
+            .select(CLUB.ID, CLUB.ABBREVIATION)
             .from(CLUB)
             .stream()
-            .collect(toMap(club -> club.get(CLUB.ID), club -> club.get(CLUB.ABBREVIATION)));
+            .collect(toMap(club -> club.get(CLUB.ID), club -> club.get(CLUB.ABBREVIATION))));
     }
 }
@@ -0,0 +1,171 @@
+package ch.jtaf.service;
+
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static ch.jtaf.db.tables.Competition.COMPETITION;
+import static ch.jtaf.db.tables.Series.SERIES;
+
+/**
+ * The series and competitions shown on the dashboard. The dashboard is the public landing page, so the model is loaded
+ * with one query and shared by all sessions until a series or a competition changes.
+ */
+@Service
+public class DashboardService {
+
+    private final DSLContext dsl;
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Dashboard dashboard;
+
+    public DashboardService(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    /**
+     * @return the series, the one with the latest competition first
+     */
+    public List<Series> getSeries() {
+        var current = dashboard;
+        if (current != null && current.version == version.get()) {
+            return current.series;
+        }
+        // The version is read before the data, so a model that is loaded while the data changes is never reused
+        long loadedVersion = version.get();
+        var loaded = new Dashboard(loadedVersion, load());
+        synchronized (this) {
+            if (dashboard == null || dashboard.version < loadedVersion) {
+                dashboard = loaded;
+            }
+        }
+        return loaded.series;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(SERIES) || event.isOf(COMPETITION)) {
+            version.incrementAndGet();
+        }
+    }
+
+    private List<Series> load() {
+        Map<Long, Series> series = new LinkedHashMap<>();
+        dsl.select(SERIES.ID, SERIES.NAME, SERIES.LOGO_HASH, SERIES.LOCKED,
+                COMPETITION.ID, COMPETITION.NAME, COMPETITION.COMPETITION_DATE, COMPETITION.LOCKED)
+            .from(SERIES)
+            .leftJoin(COMPETITION).on(COMPETITION.SERIES_ID.eq(SERIES.ID))
+            .orderBy(SERIES.ID, COMPETITION.COMPETITION_DATE, COMPETITION.ID)
+            .fetch()
+            .forEach(record -> {
+                var s = series.computeIfAbsent(record.get(SERIES.ID), id -> new Series(id, record.get(SERIES.NAME),
+                    record.get(SERIES.LOGO_HASH), Boolean.TRUE.equals(record.get(SERIES.LOCKED))));
+                if (record.get(COMPETITION.ID) != null) {
+                    s.competitions.add(new Competition(record.get(COMPETITION.ID), record.get(COMPETITION.NAME),
+                        record.get(COMPETITION.COMPETITION_DATE), Boolean.TRUE.equals(record.get(COMPETITION.LOCKED))));
+                }
+            });
+
+        List<Series> sorted = new ArrayList<>(series.values());
+        sorted.sort(Comparator.comparing(Series::getLatestCompetitionDate, Comparator.nullsLast(Comparator.reverseOrder())));
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static class Dashboard {
+
+        private final long version;
+        private final List<Series> series;
+
+        private Dashboard(long version, List<Series> series) {
+            this.version = version;
+            this.series = series;
+        }
+    }
+
+    public static class Series {
+
+        private final Long id;
+        private final String name;
+        private final String logoHash;
+        private final boolean locked;
+        private final List<Competition> competitions = new ArrayList<>();
+
+        private Series(Long id, String name, String logoHash, boolean locked) {
+            this.id = id;
+            this.name = name;
+            this.logoHash = logoHash;
+            this.locked = locked;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLogoHash() {
+            return logoHash;
+        }
+
+        public boolean isLocked() {
+            return locked;
+        }
+
+        /**
+         * @return the competitions in the order of their dates
+         */
+        public List<Competition> getCompetitions() {
+            return Collections.unmodifiableList(competitions);
+        }
+
+        private LocalDate getLatestCompetitionDate() {
+            return competitions.stream()
+                .map(Competition::getCompetitionDate)
+                .filter(date -> date != null)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        }
+    }
+
+    public static class Competition {
+
+        private final Long id;
+        private final String name;
+        private final LocalDate competitionDate;
+        private final boolean locked;
+
+        private Competition(Long id, String name, LocalDate competitionDate, boolean locked) {
+            this.id = id;
+            this.name = name;
+            this.competitionDate = competitionDate;
+            this.locked = locked;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LocalDate getCompetitionDate() {
+            return competitionDate;
+        }
+
+        public boolean isLocked() {
+            return locked;
+        }
+    }
+}
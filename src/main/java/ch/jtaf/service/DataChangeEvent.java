@@ -0,0 +1,48 @@
+package ch.jtaf.service;
+
+import org.jooq.Record;
+import org.jooq.Table;
+
+public class DataChangeEvent {
+
+    private final Table<?> table;
+    private final Record record;
+    private final Record original;
+    private final boolean deleted;
+
+    DataChangeEvent(Table<?> table, Record record, boolean deleted) {
+        this(table, record, record, deleted);
+    }
+
+    DataChangeEvent(Table<?> table, Record record, Record original, boolean deleted) {
+        this.table = table;
+        this.record = record;
+        this.original = original;
+        this.deleted = deleted;
+    }
+
+    public boolean isOf(Table<?> table) {
+        return this.table.equals(table);
+    }
+
+    public Table<?> getTable() {
+        return table;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <R extends Record> R getRecord() {
+        return (R) record;
+    }
+
+    /**
+     * Returns the values the record had in the database before it was stored, all values are null for a new record.
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends Record> R getOriginal() {
+        return (R) original;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,56 @@
+package ch.jtaf.service;
+
+import org.jooq.Record;
+import org.jooq.RecordContext;
+import org.jooq.RecordListener;
+import org.jooq.RecordListenerProvider;
+import org.jooq.TableRecord;
+import org.jooq.impl.DefaultRecordListener;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes a {@link DataChangeEvent} for every record that is stored or deleted with jOOQ, so that in-memory state
+ * can follow the writes. The event carries a copy of the record because the UI keeps editing the original instance.
+ */
+@Component
+public class DataChangeRecordListenerProvider implements RecordListenerProvider {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public DataChangeRecordListenerProvider(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public RecordListener provide() {
+        return new DefaultRecordListener() {
+
+            // The original values are replaced by the stored ones before storeEnd
+            private Record original;
+
+            @Override
+            public void storeStart(RecordContext ctx) {
+                original = ctx.record().original();
+            }
+
+            @Override
+            public void storeEnd(RecordContext ctx) {
+                publish(ctx.record(), original, false);
+            }
+
+            @Override
+            public void deleteEnd(RecordContext ctx) {
+                publish(ctx.record(), ctx.record().original(), true);
+            }
+        };
+    }
+
+    private void publish(Record record, Record original, boolean deleted) {
+        if (record instanceof TableRecord<?> tableRecord) {
+            var table = tableRecord.getTable();
+            applicationEventPublisher.publishEvent(new DataChangeEvent(table, record.into(table), original.into(table),
+                deleted));
+        }
+    }
+}
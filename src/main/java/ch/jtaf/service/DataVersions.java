@@ -0,0 +1,159 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.AthleteRecord;
+import ch.jtaf.db.tables.records.CategoryAthleteRecord;
+import ch.jtaf.db.tables.records.CategoryEventRecord;
+import ch.jtaf.db.tables.records.CategoryRecord;
+import ch.jtaf.db.tables.records.ClubRecord;
+import ch.jtaf.db.tables.records.CompetitionRecord;
+import ch.jtaf.db.tables.records.EventRecord;
+import ch.jtaf.db.tables.records.ResultRecord;
+import ch.jtaf.db.tables.records.SeriesRecord;
+import org.jooq.DSLContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.Category.CATEGORY;
+import static ch.jtaf.db.tables.CategoryAthlete.CATEGORY_ATHLETE;
+import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
+import static ch.jtaf.db.tables.Club.CLUB;
+import static ch.jtaf.db.tables.Competition.COMPETITION;
+import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.Result.RESULT;
+import static ch.jtaf.db.tables.Series.SERIES;
+
+/**
+ * Versions of the data of every competition and series, bumped after each committed write. All versions are taken
+ * from one clock, so the version of a competition is simply the newer one of the competition and its series.
+ */
+@Service
+public class DataVersions {
+
+    private final DSLContext dsl;
+
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long clubsVersion;
+
+    // Results and the competition record itself
+    private final Map<Long, Long> competitionVersions = new ConcurrentHashMap<>();
+    // Series, categories, athletes, clubs and events that are shared by all competitions of a series
+    private final Map<Long, Long> seriesVersions = new ConcurrentHashMap<>();
+    // Results and competitions of a series, they don't change the other competitions of the series
+    private final Map<Long, Long> seriesResultVersions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> seriesIdsOfCompetitions = new ConcurrentHashMap<>();
+
+    public DataVersions(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    public long getCompetitionVersion(Long competitionId) {
+        var seriesId = getSeriesIdOfCompetition(competitionId);
+        return Math.max(competitionVersions.getOrDefault(competitionId, 0L),
+            seriesId == null ? 0L : seriesVersions.getOrDefault(seriesId, 0L));
+    }
+
+    public long getSeriesVersion(Long seriesId) {
+        return Math.max(seriesVersions.getOrDefault(seriesId, 0L), seriesResultVersions.getOrDefault(seriesId, 0L));
+    }
+
+    /**
+     * @return the version of the series without its results, it changes with the categories and athletes of the series
+     */
+    public long getSeriesDataVersion(Long seriesId) {
+        return seriesVersions.getOrDefault(seriesId, 0L);
+    }
+
+    public long getClubsVersion() {
+        return clubsVersion;
+    }
+
+    // After the in-memory state like the CompetitionRankingEngine, before the ArtifactService renders the new data
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(RESULT)) {
+            ResultRecord result = event.getRecord();
+            bump(competitionVersions, result.getCompetitionId());
+            bump(seriesResultVersions, getSeriesIdOfCompetition(result.getCompetitionId()));
+        } else if (event.isOf(COMPETITION)) {
+            CompetitionRecord competition = event.getRecord();
+            seriesIdsOfCompetitions.remove(competition.getId());
+            bump(competitionVersions, competition.getId());
+            bump(seriesResultVersions, competition.getSeriesId());
+        } else if (event.isOf(SERIES)) {
+            SeriesRecord series = event.getRecord();
+            bump(seriesVersions, series.getId());
+        } else if (event.isOf(CATEGORY)) {
+            CategoryRecord category = event.getRecord();
+            bump(seriesVersions, category.getSeriesId());
+        } else if (event.isOf(CATEGORY_ATHLETE)) {
+            CategoryAthleteRecord categoryAthlete = event.getRecord();
+            bumpSeriesOfCategory(categoryAthlete.getCategoryId());
+        } else if (event.isOf(CATEGORY_EVENT)) {
+            CategoryEventRecord categoryEvent = event.getRecord();
+            bumpSeriesOfCategory(categoryEvent.getCategoryId());
+        } else if (event.isOf(EVENT)) {
+            EventRecord eventRecord = event.getRecord();
+            dsl.selectDistinct(CATEGORY.SERIES_ID)
+                .from(CATEGORY)
+                .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
+                .where(CATEGORY_EVENT.EVENT_ID.eq(eventRecord.getId()))
+                .fetch(CATEGORY.SERIES_ID)
+                .forEach(seriesId -> bump(seriesVersions, seriesId));
+        } else if (event.isOf(ATHLETE)) {
+            // A deleted athlete has no categories anymore, so all series of the organization are bumped
+            AthleteRecord athlete = event.getRecord();
+            bumpSeriesOfOrganization(athlete.getOrganizationId());
+        } else if (event.isOf(CLUB)) {
+            ClubRecord club = event.getRecord();
+            clubsVersion = clock.incrementAndGet();
+            bumpSeriesOfOrganization(club.getOrganizationId());
+        }
+    }
+
+    private Long getSeriesIdOfCompetition(Long competitionId) {
+        var seriesId = seriesIdsOfCompetitions.get(competitionId);
+        if (seriesId == null) {
+            seriesId = dsl
+                .select(COMPETITION.SERIES_ID)
+                .from(COMPETITION)
+                .where(COMPETITION.ID.eq(competitionId))
+                .fetchOne(COMPETITION.SERIES_ID);
+            if (seriesId != null) {
+                seriesIdsOfCompetitions.put(competitionId, seriesId);
+            }
+        }
+        return seriesId;
+    }
+
+    private void bumpSeriesOfCategory(Long categoryId) {
+        bump(seriesVersions, dsl
+            .select(CATEGORY.SERIES_ID)
+            .from(CATEGORY)
+            .where(CATEGORY.ID.eq(categoryId))
+            .fetchOne(CATEGORY.SERIES_ID));
+    }
+
+    private void bumpSeriesOfOrganization(Long organizationId) {
+        if (organizationId != null) {
+            dsl.select(SERIES.ID)
+                .from(SERIES)
+                .where(SERIES.ORGANIZATION_ID.eq(organizationId))
+                .fetch(SERIES.ID)
+                .forEach(seriesId -> bump(seriesVersions, seriesId));
+        }
+    }
+
+    private void bump(Map<Long, Long> versions, Long id) {
+        if (id != null) {
+            versions.merge(id, clock.incrementAndGet(), Math::max);
+        }
+    }
+}
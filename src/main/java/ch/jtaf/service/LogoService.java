@@ -0,0 +1,274 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.LogoRecord;
+import ch.jtaf.db.tables.records.LogoThumbnailRecord;
+import ch.jtaf.util.Sha256;
+import org.jooq.DSLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ch.jtaf.db.tables.Logo.LOGO;
+import static ch.jtaf.db.tables.LogoThumbnail.LOGO_THUMBNAIL;
+
+/**
+ * Stores the logos by the SHA-256 hash of their content. A logo with the same content is stored only once, and a
+ * stored logo never changes. When a logo is stored its dimensions are read and thumbnails in the fixed
+ * {@link Size sizes} are created, so showing a logo never needs to decode it.
+ */
+@Service
+public class LogoService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogoService.class);
+
+    // The formats of ImageIO that are accepted as logos
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "png", "image/png",
+        "jpeg", "image/jpeg",
+        "gif", "image/gif");
+    // A decoded image takes 4 bytes per pixel, 100 MB for a logo of 5000 x 5000 pixels
+    private static final long MAXIMUM_PIXELS = 25_000_000;
+
+    /**
+     * The boxes the thumbnails are scaled into, keeping the aspect ratio. Logos are never scaled up.
+     */
+    public enum Size {
+        // 60px high in the UI, twice that for high density displays
+        SMALL(240, 120),
+        // 120 x 60 points in the header of the sheets, about 300 dpi
+        SHEET(500, 250),
+        // 11 x 11 cm on the diplomas, about 300 dpi
+        DIPLOMA(1300, 1300);
+
+        private final int maxWidth;
+        private final int maxHeight;
+
+        Size(int maxWidth, int maxHeight) {
+            this.maxWidth = maxWidth;
+            this.maxHeight = maxHeight;
+        }
+
+        public String getName() {
+            return name().toLowerCase();
+        }
+
+        public static Optional<Size> of(String name) {
+            for (Size size : values()) {
+                if (size.getName().equals(name)) {
+                    return Optional.of(size);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final DSLContext dsl;
+
+    // The dimensions of a thumbnail never change
+    private final Map<String, Dimensions> dimensions = new ConcurrentHashMap<>();
+
+    public LogoService(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    /**
+     * Stores the logo with the content type of the format that is detected from its content, the content type sent by
+     * the browser is never trusted.
+     *
+     * @return the hash of the logo, empty if the content is not a PNG, JPEG or GIF image
+     */
+    public Optional<String> store(byte[] content) {
+        String contentType;
+        BufferedImage image;
+        try (var imageInputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            var readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            var reader = readers.next();
+            try {
+                contentType = CONTENT_TYPES.get(reader.getFormatName().toLowerCase());
+                if (contentType == null) {
+                    return Optional.empty();
+                }
+                reader.setInput(imageInputStream);
+                // The dimensions are in the header, a small file can declare an image that doesn't fit into memory
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAXIMUM_PIXELS) {
+                    LOGGER.warn("Logo is too large: {} x {} pixels", reader.getWidth(0), reader.getHeight(0));
+                    return Optional.empty();
+                }
+                // Not only the format must match, the whole image must be readable
+                image = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Logo is not a readable image: {}", e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(store(content, contentType, image));
+    }
+
+    /**
+     * @return true if logos with this content type can be served, PNG, JPEG or GIF
+     */
+    public static boolean isImage(String contentType) {
+        return CONTENT_TYPES.containsValue(contentType);
+    }
+
+    private String store(byte[] content, String contentType, BufferedImage image) {
+        var hash = Sha256.hash(content);
+        if (!dsl.fetchExists(LOGO, LOGO.HASH.eq(hash))) {
+            dsl.insertInto(LOGO)
+                .set(LOGO.HASH, hash)
+                .set(LOGO.CONTENT, content)
+                .set(LOGO.CONTENT_TYPE, contentType)
+                .onDuplicateKeyIgnore()
+                .execute();
+            createThumbnails(hash, content, contentType, image);
+        }
+        return hash;
+    }
+
+    public Optional<LogoRecord> getLogo(String hash) {
+        return dsl.selectFrom(LOGO).where(LOGO.HASH.eq(hash)).fetchOptional();
+    }
+
+    public Optional<LogoThumbnailRecord> getThumbnail(String hash, Size size) {
+        return dsl.selectFrom(LOGO_THUMBNAIL)
+            .where(LOGO_THUMBNAIL.HASH.eq(hash))
+            .and(LOGO_THUMBNAIL.SIZE.eq(size.getName()))
+            .fetchOptional();
+    }
+
+    /**
+     * @return the dimensions of the thumbnail, empty if there is no thumbnail
+     */
+    public Optional<Dimensions> getDimensions(String hash, Size size) {
+        var key = hash + "/" + size.getName();
+        var cached = dimensions.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Missing thumbnails may still be created, so only found dimensions are kept
+        var found = dsl
+            .select(LOGO_THUMBNAIL.WIDTH, LOGO_THUMBNAIL.HEIGHT)
+            .from(LOGO_THUMBNAIL)
+            .where(LOGO_THUMBNAIL.HASH.eq(hash))
+            .and(LOGO_THUMBNAIL.SIZE.eq(size.getName()))
+            .fetchOptional(record -> new Dimensions(record.value1(), record.value2()));
+        found.ifPresent(d -> dimensions.put(key, d));
+        return found;
+    }
+
+    /**
+     * Logos that were stored before thumbnails existed, or by the test data, are processed once at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingThumbnails() {
+        dsl.select(LOGO.HASH)
+            .from(LOGO)
+            .where(LOGO.WIDTH.isNull())
+            .fetch(LOGO.HASH)
+            .forEach(hash -> getLogo(hash).ifPresent(logo -> createThumbnails(hash, logo.getContent(), logo.getContentType())));
+    }
+
+    private void createThumbnails(String hash, byte[] content, String contentType) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            image = null;
+        }
+        if (image == null) {
+            LOGGER.warn("Logo {} is not a readable image, it is shown without thumbnails", hash);
+            return;
+        }
+        createThumbnails(hash, content, contentType, image);
+    }
+
+    private void createThumbnails(String hash, byte[] content, String contentType, BufferedImage image) {
+        for (Size size : Size.values()) {
+            double scale = Math.min(1.0, Math.min((double) size.maxWidth / image.getWidth(), (double) size.maxHeight / image.getHeight()));
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            byte[] thumbnail = content;
+            String thumbnailContentType = contentType;
+            if (scale < 1.0) {
+                // JPEG stays JPEG, everything else becomes PNG to keep the transparency
+                String format = "image/jpeg".equals(contentType) ? "jpg" : "png";
+                byte[] scaled = scale(image, width, height, format);
+                // Barely scaled images may get larger than the original
+                if (scaled.length < content.length) {
+                    thumbnail = scaled;
+                    thumbnailContentType = "jpg".equals(format) ? "image/jpeg" : "image/png";
+                } else {
+                    width = image.getWidth();
+                    height = image.getHeight();
+                }
+            }
+            dsl.insertInto(LOGO_THUMBNAIL)
+                .set(LOGO_THUMBNAIL.HASH, hash)
+                .set(LOGO_THUMBNAIL.SIZE, size.getName())
+                .set(LOGO_THUMBNAIL.CONTENT, thumbnail)
+                .set(LOGO_THUMBNAIL.CONTENT_TYPE, thumbnailContentType)
+                .set(LOGO_THUMBNAIL.WIDTH, width)
+                .set(LOGO_THUMBNAIL.HEIGHT, height)
+                .onDuplicateKeyIgnore()
+                .execute();
+        }
+        dsl.update(LOGO)
+            .set(LOGO.WIDTH, image.getWidth())
+            .set(LOGO.HEIGHT, image.getHeight())
+            .where(LOGO.HASH.eq(hash))
+            .execute();
+    }
+
+    private byte[] scale(BufferedImage image, int width, int height, String format) {
+        boolean alpha = image.getColorModel().hasAlpha() && !"jpg".equals(format);
+        var thumbnail = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        var graphics = thumbnail.createGraphics();
+        // Area averaging looks much better than bilinear when scaling down by large factors
+        graphics.drawImage(image.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING), 0, 0, null);
+        graphics.dispose();
+        try {
+            var outputStream = new ByteArrayOutputStream();
+            ImageIO.write(thumbnail, format, outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class Dimensions {
+
+        private final int width;
+        private final int height;
+
+        private Dimensions(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+    }
+}
@@ -3,16 +3,35 @@ package ch.jtaf.service;
 import ch.jtaf.reporting.data.NumbersAndSheetsAthlete;
 import ch.jtaf.reporting.data.NumbersAndSheetsCompetition;
 import ch.jtaf.reporting.data.NumbersAndSheetsEvent;
+import ch.jtaf.reporting.report.MergedReport;
 import ch.jtaf.reporting.report.NumbersReport;
+import ch.jtaf.reporting.report.ReportBundle;
 import ch.jtaf.reporting.report.SheetsReport;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.Field;
-import org.jooq.Record;
+import org.jooq.Record11;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static ch.jtaf.db.tables.Athlete.ATHLETE;
 import static ch.jtaf.db.tables.Category.CATEGORY;
@@ -21,27 +40,132 @@ import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
 import static ch.jtaf.db.tables.Club.CLUB;
 import static ch.jtaf.db.tables.Competition.COMPETITION;
 import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.Logo.LOGO;
+import static ch.jtaf.db.tables.LogoThumbnail.LOGO_THUMBNAIL;
 import static ch.jtaf.db.tables.Series.SERIES;
 
 @Service
 public class NumberAndSheetsService {
 
+    private static final int FETCH_SIZE = 500;
+    private static final int NUMBERS_PER_PART = 10 * NumbersReport.ATHLETES_PER_PAGE;
+    private static final int SHEETS_PER_PART = 50;
+    // The thumbnail for sheets, or the original if there is none
+    private static final Field<byte[]> SHEET_LOGO = DSL.coalesce(LOGO_THUMBNAIL.CONTENT, LOGO.CONTENT);
+
     private final DSLContext dsl;
+    private final ExecutorService reportExecutor;
 
-    public NumberAndSheetsService(DSLContext dsl) {
+    public NumberAndSheetsService(DSLContext dsl, ExecutorService reportExecutor) {
         this.dsl = dsl;
+        this.reportExecutor = reportExecutor;
     }
 
-    public byte[] createNumbers(Long competitionId, Field<?>... orderBy) {
-        return new NumbersReport(getAthletes(competitionId, orderBy), new Locale("de", "CH")).create();
+    // Numbers and sheets are one page per athlete, so they are written directly into the stream instead of being cached
+
+    public void createNumbers(Long competitionId, OutputStream outputStream, ReportProgress progress, Field<?>... orderBy) {
+        int totalPages = (countAthletes(competitionId) + NumbersReport.ATHLETES_PER_PAGE - 1) / NumbersReport.ATHLETES_PER_PAGE;
+        // The parts are rendered in parallel while the next athletes are read from the database
+        try (var cursor = fetchAthletes(competitionId, orderBy)) {
+            var parts = MergedReport.split(athletesOf(cursor), NUMBERS_PER_PART,
+                (athletes, firstNumber) -> new NumbersReport(athletes, firstNumber, new Locale("de", "CH")));
+            new MergedReport(parts, reportExecutor, pages -> progress.pagesWritten(pages, totalPages), new Locale("de", "CH"))
+                .create(outputStream);
+        }
     }
 
-    public byte[] createSheets(Long competitionId, Field<?>... orderBy) {
-        return new SheetsReport(getCompetition(competitionId), getAthletes(competitionId, orderBy), getLogo(competitionId), new Locale("de", "CH")).create();
+    public void createSheets(Long competitionId, OutputStream outputStream, ReportProgress progress, Field<?>... orderBy) {
+        int totalPages = countAthletes(competitionId);
+        var competition = getCompetition(competitionId);
+        var logo = getLogoOfCompetition(competitionId);
+        try (var cursor = fetchAthletes(competitionId, orderBy)) {
+            var parts = MergedReport.split(athletesOf(cursor), SHEETS_PER_PART,
+                (athletes, firstNumber) -> new SheetsReport(competition, athletes, firstNumber, logo, new Locale("de", "CH")));
+            new MergedReport(parts, reportExecutor, pages -> progress.pagesWritten(pages, totalPages), new Locale("de", "CH"))
+                .create(outputStream);
+        }
+    }
+
+    /**
+     * Writes all the documents that are needed before a competition into one ZIP file: sheets and numbers ordered by
+     * athlete and by club, and empty sheets for every category. If perClub is set the sheets and numbers of every club
+     * are added as separate files too, numbered like in the documents ordered by club. The athletes are loaded once,
+     * and every document is written as soon as it is rendered.
+     */
+    public void createBundle(Long competitionId, boolean perClub, OutputStream outputStream, ReportProgress progress) {
+        var locale = new Locale("de", "CH");
+        var competition = getCompetition(competitionId);
+        var logo = getLogoOfCompetition(competitionId);
+        List<NumbersAndSheetsAthlete> athletes = new ArrayList<>();
+        try (var cursor = fetchAthletes(competitionId)) {
+            new AthleteIterator(cursor).forEachRemaining(athletes::add);
+        }
+
+        // The same order as CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME in the database
+        Comparator<String> text = Comparator.nullsFirst(Collator.getInstance(locale)::compare);
+        Comparator<NumbersAndSheetsAthlete> byAthlete = Comparator.comparing(NumbersAndSheetsAthlete::getCategory, text)
+            .thenComparing(NumbersAndSheetsAthlete::getLastName, text)
+            .thenComparing(NumbersAndSheetsAthlete::getFirstName, text)
+            .thenComparing(NumbersAndSheetsAthlete::getId);
+        var orderedByAthlete = athletes.stream().sorted(byAthlete).collect(Collectors.toList());
+        var orderedByClub = athletes.stream()
+            .sorted(Comparator.comparing(NumbersAndSheetsAthlete::getClub, text).thenComparing(byAthlete))
+            .collect(Collectors.toList());
+
+        var bundle = new ReportBundle(reportExecutor);
+        int totalPages = addSheetsAndNumbers(bundle, "", competition, orderedByAthlete, 1, logo, locale);
+        totalPages += addSheetsAndNumbers(bundle, "-by-club", competition, orderedByClub, 1, logo, locale);
+        if (perClub) {
+            // The entries of the whole competition end with "-by-club" too
+            Set<String> clubFileNames = new HashSet<>(Set.of("by-club"));
+            int from = 0;
+            while (from < orderedByClub.size()) {
+                var club = orderedByClub.get(from).getClub();
+                int to = from + 1;
+                while (to < orderedByClub.size() && Objects.equals(orderedByClub.get(to).getClub(), club)) {
+                    to++;
+                }
+                var suffix = "-" + toFileName(club != null ? club : "-", clubFileNames);
+                totalPages += addSheetsAndNumbers(bundle, suffix, competition, orderedByClub.subList(from, to), from + 1,
+                    logo, locale);
+                from = to;
+            }
+        }
+        Set<String> categoryFileNames = new HashSet<>();
+        for (var category : getDummyAthletes(competitionId)) {
+            bundle.add("empty-sheets-" + toFileName(category.getCategory(), categoryFileNames) + ".pdf",
+                List.of(new SheetsReport(category, logo, locale)));
+            totalPages++;
+        }
+
+        int finalTotalPages = totalPages;
+        bundle.create(outputStream, pages -> progress.pagesWritten(pages, finalTotalPages));
     }
 
-    public byte[] createEmptySheets(Long seriesId, Long categoryId) {
-        return new SheetsReport(createDummyAthlete(categoryId), getLogo(seriesId), new Locale("de", "CH")).create();
+    private int addSheetsAndNumbers(ReportBundle bundle, String suffix, NumbersAndSheetsCompetition competition,
+                                    List<NumbersAndSheetsAthlete> athletes, int firstNumber, byte[] logo, Locale locale) {
+        bundle.add("sheets" + suffix + ".pdf", MergedReport.split(athletes, firstNumber, SHEETS_PER_PART,
+            (part, number) -> new SheetsReport(competition, part, number, logo, locale)));
+        bundle.add("numbers" + suffix + ".pdf", MergedReport.split(athletes, firstNumber, NUMBERS_PER_PART,
+            (part, number) -> new NumbersReport(part, number, locale)));
+        return athletes.size() + (athletes.size() + NumbersReport.ATHLETES_PER_PAGE - 1) / NumbersReport.ATHLETES_PER_PAGE;
+    }
+
+    /**
+     * Different names can have the same file name, those get a number because the entries of a ZIP file must be
+     * unique.
+     */
+    private String toFileName(String name, Set<String> fileNames) {
+        var fileName = name.replaceAll("[^\\w-]", "_");
+        var uniqueFileName = fileName;
+        for (int i = 2; !fileNames.add(uniqueFileName); i++) {
+            uniqueFileName = fileName + "-" + i;
+        }
+        return uniqueFileName;
+    }
+
+    public void createEmptySheets(Long seriesId, Long categoryId, OutputStream outputStream) {
+        new SheetsReport(createDummyAthlete(categoryId), getLogo(seriesId), new Locale("de", "CH")).create(outputStream);
     }
 
     private NumbersAndSheetsAthlete createDummyAthlete(Long categoryId) {
@@ -66,6 +190,39 @@ public class NumberAndSheetsService {
         return athlete;
     }
 
+    /**
+     * One athlete without a name for every category of the series of the competition, with the events of the category.
+     */
+    private List<NumbersAndSheetsAthlete> getDummyAthletes(Long competitionId) {
+        var records = dsl
+            .select(CATEGORY.ID, CATEGORY.ABBREVIATION,
+                EVENT.ABBREVIATION, EVENT.NAME, EVENT.EVENT_TYPE, EVENT.GENDER,
+                CATEGORY_EVENT.POSITION)
+            .from(COMPETITION)
+            .join(CATEGORY).on(CATEGORY.SERIES_ID.eq(COMPETITION.SERIES_ID))
+            .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
+            .join(EVENT).on(EVENT.ID.eq(CATEGORY_EVENT.EVENT_ID))
+            .where(COMPETITION.ID.eq(competitionId))
+            .orderBy(CATEGORY.ABBREVIATION, CATEGORY.ID, CATEGORY_EVENT.POSITION)
+            .fetch();
+
+        Map<Long, NumbersAndSheetsAthlete> athletes = new LinkedHashMap<>();
+        for (var record : records) {
+            athletes.computeIfAbsent(record.get(CATEGORY.ID),
+                    id -> new NumbersAndSheetsAthlete(null, null, null, 0, record.get(CATEGORY.ABBREVIATION), null))
+                .getEvents().add(new NumbersAndSheetsEvent(record.get(EVENT.ABBREVIATION), record.get(EVENT.NAME),
+                    record.get(EVENT.EVENT_TYPE), record.get(EVENT.GENDER), record.get(CATEGORY_EVENT.POSITION)));
+        }
+        return new ArrayList<>(athletes.values());
+    }
+
+    private int countAthletes(Long competitionId) {
+        return dsl.fetchCount(CATEGORY_ATHLETE
+                .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
+                .join(COMPETITION).on(COMPETITION.SERIES_ID.eq(CATEGORY.SERIES_ID)),
+            COMPETITION.ID.eq(competitionId));
+    }
+
     private NumbersAndSheetsCompetition getCompetition(Long competitionId) {
         return dsl
             .select(COMPETITION.ID, COMPETITION.NAME, COMPETITION.COMPETITION_DATE)
@@ -74,19 +231,36 @@ public class NumberAndSheetsService {
             .fetchOneInto(NumbersAndSheetsCompetition.class);
     }
 
+    private byte[] getLogoOfCompetition(Long competitionId) {
+        return dsl
+            .select(SHEET_LOGO)
+            .from(COMPETITION)
+            .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+            .join(LOGO).on(LOGO.HASH.eq(SERIES.LOGO_HASH))
+            .leftOuterJoin(LOGO_THUMBNAIL).on(LOGO_THUMBNAIL.HASH.eq(LOGO.HASH))
+            .and(LOGO_THUMBNAIL.SIZE.eq(LogoService.Size.SHEET.getName()))
+            .where(COMPETITION.ID.eq(competitionId))
+            .fetchOne(SHEET_LOGO);
+    }
+
     private byte[] getLogo(Long id) {
-        var logoRecord = dsl
-            .select(SERIES.LOGO)
+        return dsl
+            .select(SHEET_LOGO)
             .from(SERIES)
+            .join(LOGO).on(LOGO.HASH.eq(SERIES.LOGO_HASH))
+            .leftOuterJoin(LOGO_THUMBNAIL).on(LOGO_THUMBNAIL.HASH.eq(LOGO.HASH))
+            .and(LOGO_THUMBNAIL.SIZE.eq(LogoService.Size.SHEET.getName()))
             .where(SERIES.ID.eq(id))
-            .fetchOne();
-        return logoRecord.get(SERIES.LOGO);
+            .fetchOne(SHEET_LOGO);
     }
 
-    private List<NumbersAndSheetsAthlete> getAthletes(Long competitionId, Field<?>... orderBy) {
-        var athletes = new ArrayList<NumbersAndSheetsAthlete>();
+    private Cursor<Record11<Long, String, String, Integer, String, String, String, String, String, String, Integer>> fetchAthletes(
+        Long competitionId, Field<?>... orderBy) {
+        // The rows of an athlete must follow each other, even if two athletes are equal in the given order
+        var orderByAndId = Arrays.copyOf(orderBy, orderBy.length + 1);
+        orderByAndId[orderBy.length] = ATHLETE.ID;
 
-        var records = dsl
+        return dsl
             .select(ATHLETE.ID, ATHLETE.FIRST_NAME, ATHLETE.LAST_NAME, ATHLETE.YEAR_OF_BIRTH,
                 CATEGORY.ABBREVIATION,
                 CLUB.ABBREVIATION,
@@ -100,23 +274,58 @@ public class NumberAndSheetsService {
             .join(CATEGORY_EVENT).on(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
             .join(EVENT).on(EVENT.ID.eq(CATEGORY_EVENT.EVENT_ID))
             .where(COMPETITION.ID.eq(competitionId))
-            .orderBy(orderBy)
-            .fetch();
-
-        NumbersAndSheetsAthlete athlete = null;
+            .orderBy(orderByAndId)
+            // MySQL streams the rows one by one with this fetch size, without cursors on the server for all queries
+            .fetchSize(dsl.dialect().family() == SQLDialect.MYSQL ? Integer.MIN_VALUE : FETCH_SIZE)
+            .fetchLazy();
+    }
 
-        for (Record record : records) {
-            if (athlete == null || !athlete.getId().equals(record.get(ATHLETE.ID))) {
-                athlete = new NumbersAndSheetsAthlete(record.get(ATHLETE.ID), record.get(ATHLETE.FIRST_NAME), record.get(ATHLETE.LAST_NAME),
-                    record.get(ATHLETE.YEAR_OF_BIRTH), record.get(CATEGORY.ABBREVIATION), record.get(CLUB.ABBREVIATION));
-                athletes.add(athlete);
+    /**
+     * The athletes of the cursor, they can be iterated once only.
+     */
+    private static Iterable<NumbersAndSheetsAthlete> athletesOf(
+        Cursor<Record11<Long, String, String, Integer, String, String, String, String, String, String, Integer>> cursor) {
+        var iterated = new AtomicBoolean();
+        return () -> {
+            if (iterated.getAndSet(true)) {
+                throw new IllegalStateException("The athletes of a cursor can be iterated once only");
             }
-            athlete.getEvents().add(new NumbersAndSheetsEvent(record.get(EVENT.ABBREVIATION), record.get(EVENT.NAME),
-                record.get(EVENT.GENDER), record.get(EVENT.EVENT_TYPE), record.get(CATEGORY_EVENT.POSITION)));
+            return new AthleteIterator(cursor);
+        };
+    }
+
+    /**
+     * Assembles one athlete after the other from the rows of the cursor, so only the current athlete is held in memory.
+     * It can be iterated once only.
+     */
+    private static class AthleteIterator implements Iterator<NumbersAndSheetsAthlete> {
+
+        private final Cursor<Record11<Long, String, String, Integer, String, String, String, String, String, String, Integer>> cursor;
+        private Record11<Long, String, String, Integer, String, String, String, String, String, String, Integer> next;
+
+        AthleteIterator(Cursor<Record11<Long, String, String, Integer, String, String, String, String, String, String, Integer>> cursor) {
+            this.cursor = cursor;
+            this.next = cursor.fetchNext();
         }
 
-        return athletes;
-    }
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
 
+        @Override
+        public NumbersAndSheetsAthlete next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            var athlete = new NumbersAndSheetsAthlete(next.value1(), next.value2(), next.value3(), next.value4(),
+                next.value5(), next.value6());
+            do {
+                athlete.getEvents().add(new NumbersAndSheetsEvent(next.value7(), next.value8(), next.value9(),
+                    next.value10(), next.value11()));
+                next = cursor.fetchNext();
+            } while (next != null && next.value1().equals(athlete.getId()));
+            return athlete;
+        }
+    }
 }
-
@@ -0,0 +1,219 @@
+package ch.jtaf.service;
+
+import ch.jtaf.service.PointsSummaryService.PointsChange;
+import org.jooq.DSLContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.Result.RESULT;
+import static ch.jtaf.util.ResultParser.INVALID;
+
+/**
+ * Recalculates the points of all results of an event, for example after its coefficients were changed. The results
+ * are read by id in chunks and only changed points are written back with a JDBC batch. Every chunk has its own short
+ * transaction, so the result table is never locked for the whole recalculation. The rows of a chunk are locked while
+ * they are read, so a result that is captured at the same time is not overwritten with points of its old value.
+ */
+@Service
+public class PointsRecalculationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PointsRecalculationService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final DSLContext dsl;
+    private final TransactionTemplate transactionTemplate;
+    private final ScoringService scoringService;
+    private final PointsSummaryService pointsSummaryService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    // One recalculation at a time, so two edits of the same event can't overtake each other
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "points-recalculation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PointsRecalculationService(DSLContext dsl, TransactionTemplate transactionTemplate, ScoringService scoringService,
+                                      PointsSummaryService pointsSummaryService,
+                                      ApplicationEventPublisher applicationEventPublisher) {
+        this.dsl = dsl;
+        this.transactionTemplate = transactionTemplate;
+        this.scoringService = scoringService;
+        this.pointsSummaryService = pointsSummaryService;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    /**
+     * Starts the recalculation in the background. If a transaction is active, the recalculation waits until it is
+     * committed, so it sees the changed event.
+     */
+    public CompletableFuture<Progress> recalculateAfterCommit(long eventId, Consumer<Progress> progressListener) {
+        var future = new CompletableFuture<Progress>();
+        Runnable submit = () -> executor.execute(() -> {
+            try {
+                future.complete(recalculate(eventId, progressListener));
+            } catch (RuntimeException e) {
+                LOGGER.error(e.getMessage(), e);
+                future.completeExceptionally(e);
+            }
+        });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+        return future;
+    }
+
+    public Progress recalculate(long eventId, Consumer<Progress> progressListener) {
+        var event = dsl.selectFrom(EVENT).where(EVENT.ID.eq(eventId)).fetchOne();
+        if (event == null) {
+            return new Progress(0, 0, 0, 0);
+        }
+        var scorer = scoringService.getScorer(event);
+
+        int total = dsl.fetchCount(RESULT, RESULT.EVENT_ID.eq(eventId));
+        long start = System.nanoTime();
+        int processed = 0;
+        int changed = 0;
+        long lastId = 0;
+
+        var progress = new Progress(total, 0, 0, 0);
+        progressListener.accept(progress);
+        while (true) {
+            long after = lastId;
+            var chunk = transactionTemplate.execute(transactionStatus -> recalculateChunk(eventId, scorer, after));
+            if (chunk == null || chunk.size == 0) {
+                break;
+            }
+
+            processed += chunk.size;
+            changed += chunk.changed;
+            lastId = chunk.lastId;
+
+            progress = new Progress(total, processed, changed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            progressListener.accept(progress);
+        }
+
+        // The batch updates bypass the record listener, so the cached rankings are told explicitly. The points
+        // summaries have already been updated with every chunk.
+        applicationEventPublisher.publishEvent(new DataChangeEvent(EVENT, event, false));
+
+        LOGGER.info("Recalculated points of {} results of event {}, {} changed, in {} ms ({} results/s)",
+            progress.getProcessed(), eventId, progress.getChanged(), progress.getElapsedMillis(), progress.getThroughput());
+        return progress;
+    }
+
+    private Chunk recalculateChunk(long eventId, ScoringService.Scorer scorer, long after) {
+        var records = dsl
+            .select(RESULT.ID, RESULT.RESULT_VALUE, RESULT.POINTS,
+                RESULT.ATHLETE_ID, RESULT.CATEGORY_ID, RESULT.COMPETITION_ID, ATHLETE.CLUB_ID)
+            .from(RESULT)
+            .join(ATHLETE).on(ATHLETE.ID.eq(RESULT.ATHLETE_ID))
+            .where(RESULT.EVENT_ID.eq(eventId))
+            .and(RESULT.ID.gt(after))
+            .orderBy(RESULT.ID)
+            .limit(CHUNK_SIZE)
+            .forUpdate().of(RESULT)
+            .fetch();
+        if (records.isEmpty()) {
+            return new Chunk(0, 0, after);
+        }
+
+        var batch = dsl.batch(dsl.update(RESULT).set(RESULT.POINTS, (Integer) null).where(RESULT.ID.eq((Long) null)));
+        List<PointsChange> pointsChanges = new ArrayList<>();
+        for (var record : records) {
+            Long value = record.get(RESULT.RESULT_VALUE);
+            int points = scorer.score(value == null ? INVALID : value);
+            if (points != record.get(RESULT.POINTS)) {
+                batch = batch.bind(points, record.get(RESULT.ID));
+                pointsChanges.add(new PointsChange(record.get(RESULT.ATHLETE_ID), record.get(RESULT.CATEGORY_ID),
+                    record.get(RESULT.COMPETITION_ID), record.get(ATHLETE.CLUB_ID), points - record.get(RESULT.POINTS)));
+            }
+        }
+        if (!pointsChanges.isEmpty()) {
+            batch.execute();
+            pointsSummaryService.addPoints(pointsChanges);
+        }
+        return new Chunk(records.size(), pointsChanges.size(), records.get(records.size() - 1).get(RESULT.ID));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class Chunk {
+
+        private final int size;
+        private final int changed;
+        private final long lastId;
+
+        private Chunk(int size, int changed, long lastId) {
+            this.size = size;
+            this.changed = changed;
+            this.lastId = lastId;
+        }
+    }
+
+    public static class Progress {
+
+        private final int total;
+        private final int processed;
+        private final int changed;
+        private final long elapsedMillis;
+
+        Progress(int total, int processed, int changed, long elapsedMillis) {
+            this.total = total;
+            this.processed = processed;
+            this.changed = changed;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getProcessed() {
+            return processed;
+        }
+
+        public int getChanged() {
+            return changed;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * @return the processed results per second
+         */
+        public long getThroughput() {
+            return elapsedMillis == 0 ? processed : processed * 1000L / elapsedMillis;
+        }
+    }
+}
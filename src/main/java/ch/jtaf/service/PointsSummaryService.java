@@ -0,0 +1,171 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.AthleteRecord;
+import ch.jtaf.db.tables.records.ResultRecord;
+import org.jooq.DSLContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.AthletePoints.ATHLETE_POINTS;
+import static ch.jtaf.db.tables.ClubPoints.CLUB_POINTS;
+import static ch.jtaf.db.tables.Result.RESULT;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.sum;
+
+/**
+ * Maintains the points summaries ATHLETE_POINTS and CLUB_POINTS. The events of the record listener are handled
+ * synchronously, so the summaries are changed in the same transaction as the results and the series and club
+ * rankings can read them instead of summing up all results.
+ */
+@Service
+public class PointsSummaryService {
+
+    private final DSLContext dsl;
+
+    public PointsSummaryService(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    @EventListener
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(RESULT)) {
+            ResultRecord result = event.getRecord();
+            refreshAthletePoints(result.getAthleteId(), result.getCategoryId(), result.getCompetitionId());
+        } else if (event.isOf(ATHLETE) && !event.isDeleted()) {
+            AthleteRecord athlete = event.getRecord();
+            AthleteRecord original = event.getOriginal();
+            if (!Objects.equals(original.getClubId(), athlete.getClubId())) {
+                moveClubPoints(athlete.getId(), original.getClubId(), athlete.getClubId());
+            }
+        }
+    }
+
+    /**
+     * Applies points of results that were updated without the record listener. Must be called in the transaction
+     * that updated the results.
+     */
+    public void addPoints(List<PointsChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        var athletePoints = dsl.batch(dsl
+            .update(ATHLETE_POINTS)
+            .set(ATHLETE_POINTS.POINTS, ATHLETE_POINTS.POINTS.plus((Integer) null))
+            .where(ATHLETE_POINTS.ATHLETE_ID.eq((Long) null))
+            .and(ATHLETE_POINTS.CATEGORY_ID.eq((Long) null))
+            .and(ATHLETE_POINTS.COMPETITION_ID.eq((Long) null)));
+        var clubPoints = dsl.batch(dsl
+            .update(CLUB_POINTS)
+            .set(CLUB_POINTS.POINTS, CLUB_POINTS.POINTS.plus((Integer) null))
+            .where(CLUB_POINTS.CLUB_ID.eq((Long) null))
+            .and(CLUB_POINTS.COMPETITION_ID.eq((Long) null)));
+
+        boolean hasClubPoints = false;
+        for (var change : changes) {
+            athletePoints = athletePoints.bind(change.points, change.athleteId, change.categoryId, change.competitionId);
+            if (change.clubId != null) {
+                clubPoints = clubPoints.bind(change.points, change.clubId, change.competitionId);
+                hasClubPoints = true;
+            }
+        }
+
+        athletePoints.execute();
+        if (hasClubPoints) {
+            clubPoints.execute();
+        }
+    }
+
+    private void refreshAthletePoints(Long athleteId, Long categoryId, Long competitionId) {
+        var athletePointsCondition = ATHLETE_POINTS.ATHLETE_ID.eq(athleteId)
+            .and(ATHLETE_POINTS.CATEGORY_ID.eq(categoryId))
+            .and(ATHLETE_POINTS.COMPETITION_ID.eq(competitionId));
+
+        // Creates the row or locks the existing one, so concurrently stored results of the same athlete are summed up
+        // one after the other. Locking a row that doesn't exist yet with FOR UPDATE would lock nothing, or a gap.
+        dsl.insertInto(ATHLETE_POINTS)
+            .columns(ATHLETE_POINTS.ATHLETE_ID, ATHLETE_POINTS.CATEGORY_ID, ATHLETE_POINTS.COMPETITION_ID, ATHLETE_POINTS.POINTS)
+            .values(athleteId, categoryId, competitionId, 0)
+            .onDuplicateKeyUpdate()
+            .set(ATHLETE_POINTS.POINTS, ATHLETE_POINTS.POINTS)
+            .execute();
+        int previous = dsl
+            .select(ATHLETE_POINTS.POINTS)
+            .from(ATHLETE_POINTS)
+            .where(athletePointsCondition)
+            .forUpdate()
+            .fetchOne(ATHLETE_POINTS.POINTS);
+
+        var total = dsl
+            .select(sum(RESULT.POINTS).coerce(Integer.class), count())
+            .from(RESULT)
+            .where(RESULT.ATHLETE_ID.eq(athleteId))
+            .and(RESULT.CATEGORY_ID.eq(categoryId))
+            .and(RESULT.COMPETITION_ID.eq(competitionId))
+            .fetchOne();
+        int points = total.value1() == null ? 0 : total.value1();
+
+        if (total.value2() == 0) {
+            dsl.deleteFrom(ATHLETE_POINTS).where(athletePointsCondition).execute();
+        } else if (previous != points) {
+            dsl.update(ATHLETE_POINTS).set(ATHLETE_POINTS.POINTS, points).where(athletePointsCondition).execute();
+        }
+
+        var clubId = dsl.select(ATHLETE.CLUB_ID).from(ATHLETE).where(ATHLETE.ID.eq(athleteId)).fetchOne(ATHLETE.CLUB_ID);
+        if (clubId != null) {
+            addClubPoints(clubId, competitionId, points - previous);
+        }
+    }
+
+    private void addClubPoints(Long clubId, Long competitionId, int points) {
+        // One statement, so the first results of two athletes of the same club can be stored at the same time
+        dsl.insertInto(CLUB_POINTS)
+            .columns(CLUB_POINTS.CLUB_ID, CLUB_POINTS.COMPETITION_ID, CLUB_POINTS.POINTS)
+            .values(clubId, competitionId, points)
+            .onDuplicateKeyUpdate()
+            .set(CLUB_POINTS.POINTS, CLUB_POINTS.POINTS.plus(points))
+            .execute();
+    }
+
+    private void moveClubPoints(Long athleteId, Long previousClubId, Long clubId) {
+        var competitionPoints = dsl
+            .select(ATHLETE_POINTS.COMPETITION_ID, sum(ATHLETE_POINTS.POINTS).coerce(Integer.class))
+            .from(ATHLETE_POINTS)
+            .where(ATHLETE_POINTS.ATHLETE_ID.eq(athleteId))
+            .groupBy(ATHLETE_POINTS.COMPETITION_ID)
+            .fetch();
+
+        for (var competition : competitionPoints) {
+            if (previousClubId != null) {
+                addClubPoints(previousClubId, competition.value1(), -competition.value2());
+            }
+            if (clubId != null) {
+                addClubPoints(clubId, competition.value1(), competition.value2());
+            }
+        }
+    }
+
+    /**
+     * The difference of the points of one result.
+     */
+    public static class PointsChange {
+
+        private final Long athleteId;
+        private final Long categoryId;
+        private final Long competitionId;
+        private final Long clubId;
+        private final int points;
+
+        public PointsChange(Long athleteId, Long categoryId, Long competitionId, Long clubId, int points) {
+            this.athleteId = athleteId;
+            this.categoryId = categoryId;
+            this.competitionId = competitionId;
+            this.clubId = clubId;
+            this.points = points;
+        }
+    }
+}
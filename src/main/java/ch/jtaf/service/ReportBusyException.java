@@ -0,0 +1,13 @@
+package ch.jtaf.service;
+
+/**
+ * Thrown if a report is not rendered because too many reports are waiting already, see {@link ReportScheduler}.
+ */
+public class ReportBusyException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ReportBusyException(String message) {
+        super(message);
+    }
+}
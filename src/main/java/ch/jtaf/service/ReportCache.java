@@ -0,0 +1,154 @@
+package ch.jtaf.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the most recently used rankings and reports in memory. An entry is identified by type and id and is only
+ * returned as long as the version of the data it was created from is unchanged, see {@link DataVersions}. The cache
+ * is limited by the bytes of the PDFs it holds, other values count with an estimated size.
+ */
+@Service
+public class ReportCache {
+
+    // Rankings and lists are small compared to PDFs
+    private static final long ESTIMATED_BYTES = 16 * 1024;
+
+    private final ReportScheduler reportScheduler;
+
+    // Access order turns the map into a LRU cache
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maximumBytes;
+    private long bytes;
+    // Values that are being created, by type, id and version, guarded by entries
+    private final Map<String, CompletableFuture<Object>> creations = new HashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter merged;
+
+    public ReportCache(MeterRegistry meterRegistry, ReportScheduler reportScheduler,
+                       @Value("${jtaf.report-cache.maximum-megabytes:64}") long maximumMegabytes) {
+        this.reportScheduler = reportScheduler;
+        this.maximumBytes = maximumMegabytes * 1024 * 1024;
+
+        hits = Counter.builder("jtaf.report.cache").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("jtaf.report.cache").tag("result", "miss").register(meterRegistry);
+        merged = Counter.builder("jtaf.report.cache").tag("result", "merged").register(meterRegistry);
+        Gauge.builder("jtaf.report.cache.size", this, ReportCache::size).register(meterRegistry);
+        Gauge.builder("jtaf.report.cache.bytes", this, ReportCache::bytes).baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value or creates it. The version must be read before the data is, so a value that is created
+     * while the data changes is stored with the old version. Callers that ask for a value that is being created already
+     * wait for it instead of creating it again.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String type, Long id, long version, Supplier<T> supplier) {
+        var key = type + ":" + id;
+        var creationKey = key + ":" + version;
+        CompletableFuture<Object> running;
+        CompletableFuture<Object> creation = null;
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry != null && entry.version == version) {
+                hits.increment();
+                return (T) entry.value;
+            }
+            running = creations.get(creationKey);
+            if (running == null) {
+                creation = new CompletableFuture<>();
+                creations.put(creationKey, creation);
+            }
+        }
+        // A report that runs in a slot of the ReportScheduler doesn't wait, the value may be created by a report that
+        // waits for a slot itself
+        if (running != null && !reportScheduler.isInSlot()) {
+            merged.increment();
+            try {
+                return (T) running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        misses.increment();
+
+        // Created outside of the lock, so a large report doesn't block the others
+        T value;
+        try {
+            value = supplier.get();
+        } catch (RuntimeException | Error e) {
+            if (creation != null) {
+                synchronized (entries) {
+                    creations.remove(creationKey);
+                }
+                creation.completeExceptionally(e);
+            }
+            throw e;
+        }
+        var newEntry = new Entry(version, value);
+        synchronized (entries) {
+            var entry = entries.get(key);
+            // A report that is larger than the whole cache would only push out all the others
+            if ((entry == null || entry.version < version) && newEntry.bytes <= maximumBytes) {
+                var previous = entries.put(key, newEntry);
+                bytes += newEntry.bytes - (previous == null ? 0 : previous.bytes);
+                removeEldestEntries();
+            }
+            if (creation != null) {
+                creations.remove(creationKey);
+            }
+        }
+        if (creation != null) {
+            creation.complete(value);
+        }
+        return value;
+    }
+
+    private void removeEldestEntries() {
+        var iterator = entries.values().iterator();
+        while (bytes > maximumBytes && iterator.hasNext()) {
+            bytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private long bytes() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    private static class Entry {
+
+        private final long version;
+        private final Object value;
+        private final long bytes;
+
+        private Entry(long version, Object value) {
+            this.version = version;
+            this.value = value;
+            this.bytes = value instanceof byte[] content ? content.length : ESTIMATED_BYTES;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package ch.jtaf.service;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static ch.jtaf.db.tables.Competition.COMPETITION;
+import static ch.jtaf.db.tables.Series.SERIES;
+
+/**
+ * Creates the large reports in the background, so no request thread has to wait until they are rendered. A request
+ * gets its job back immediately and can listen to its progress. The finished report is kept in a temporary file until
+ * the job expires. A request for a report that is already queued or being rendered gets the pending job. The jobs are
+ * run by the {@link ReportScheduler}, which shares the render slots fairly between the organizations.
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReportJobService.class);
+
+    public enum Status {
+        QUEUED, RUNNING, DONE, FAILED, REJECTED
+    }
+
+    private final DSLContext dsl;
+    private final NumberAndSheetsService numberAndSheetsService;
+    private final CompetitionRankingService competitionRankingService;
+    private final ReportScheduler reportScheduler;
+    private final Path directory;
+    private final long expiryMillis;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Job> pendingJobs = new ConcurrentHashMap<>();
+
+    public ReportJobService(DSLContext dsl, NumberAndSheetsService numberAndSheetsService,
+                            CompetitionRankingService competitionRankingService, ReportScheduler reportScheduler,
+                            @Value("${jtaf.report-jobs.directory:${java.io.tmpdir}/jtaf4/report-jobs}") Path directory,
+                            @Value("${jtaf.report-jobs.expiry-minutes:30}") long expiryMinutes) {
+        this.dsl = dsl;
+        this.numberAndSheetsService = numberAndSheetsService;
+        this.competitionRankingService = competitionRankingService;
+        this.reportScheduler = reportScheduler;
+        this.directory = directory;
+        this.expiryMillis = TimeUnit.MINUTES.toMillis(expiryMinutes);
+    }
+
+    /**
+     * @throws ReportBusyException if too many reports are waiting to be rendered
+     */
+    public Job submitSheets(Long competitionId, Field<?>... orderBy) {
+        return submit(competitionId, "sheets:" + competitionId + ":" + Arrays.toString(orderBy), "sheets" + competitionId + ".pdf",
+            (outputStream, progress) -> numberAndSheetsService.createSheets(competitionId, outputStream, progress, orderBy));
+    }
+
+    public Job submitNumbers(Long competitionId, Field<?>... orderBy) {
+        return submit(competitionId, "numbers:" + competitionId + ":" + Arrays.toString(orderBy), "numbers" + competitionId + ".pdf",
+            (outputStream, progress) -> numberAndSheetsService.createNumbers(competitionId, outputStream, progress, orderBy));
+    }
+
+    public Job submitDiplomas(Long competitionId) {
+        return submit(competitionId, "diplomas:" + competitionId, "diplomas" + competitionId + ".pdf",
+            (outputStream, progress) -> competitionRankingService.writeDiplomasAsPdf(competitionId, outputStream, progress));
+    }
+
+    /**
+     * A ZIP file with all the documents that are needed before the competition, see
+     * {@link NumberAndSheetsService#createBundle(Long, boolean, OutputStream, ReportProgress)}
+     */
+    public Job submitBundle(Long competitionId, boolean perClub) {
+        return submit(competitionId, "bundle:" + competitionId + ":" + perClub, "competition" + competitionId + ".zip",
+            (outputStream, progress) -> numberAndSheetsService.createBundle(competitionId, perClub, outputStream, progress));
+    }
+
+    public Optional<Job> getJob(String id) {
+        removeExpiredJobs();
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(this::delete);
+    }
+
+    private Job submit(Long competitionId, String key, String fileName, ReportWriter reportWriter) {
+        removeExpiredJobs();
+
+        var job = new Job(UUID.randomUUID().toString(), fileName);
+        var pendingJob = pendingJobs.putIfAbsent(key, job);
+        if (pendingJob != null) {
+            return pendingJob;
+        }
+        try {
+            reportScheduler.submit(getOrganizationId(competitionId), () -> run(job, reportWriter))
+                .whenComplete((result, e) -> {
+                    if (e != null && job.getStatus() == Status.QUEUED) {
+                        // Waited too long in the queue
+                        job.finishedAt = System.currentTimeMillis();
+                        job.setStatus(Status.REJECTED);
+                    }
+                    pendingJobs.remove(key, job);
+                });
+        } catch (ReportBusyException e) {
+            pendingJobs.remove(key, job);
+            throw e;
+        }
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    private Long getOrganizationId(Long competitionId) {
+        return dsl
+            .select(SERIES.ORGANIZATION_ID)
+            .from(COMPETITION)
+            .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+            .where(COMPETITION.ID.eq(competitionId))
+            .fetchOne(SERIES.ORGANIZATION_ID);
+    }
+
+    private void run(Job job, ReportWriter reportWriter) {
+        job.setStatus(Status.RUNNING);
+        try {
+            Files.createDirectories(directory);
+            var fileName = job.getFileName();
+            var path = directory.resolve(job.getId() + fileName.substring(fileName.lastIndexOf('.')));
+            job.path = path;
+            try (var outputStream = new BufferedOutputStream(Files.newOutputStream(path))) {
+                reportWriter.write(outputStream, job::setProgress);
+            }
+            job.setStatus(Status.DONE);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error(e.getMessage(), e);
+            delete(job);
+            job.setStatus(Status.FAILED);
+        } finally {
+            job.finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    private void removeExpiredJobs() {
+        long expiredBefore = System.currentTimeMillis() - expiryMillis;
+        jobs.values().removeIf(job -> {
+            boolean expired = job.finishedAt > 0 && job.finishedAt < expiredBefore;
+            if (expired) {
+                delete(job);
+            }
+            return expired;
+        });
+    }
+
+    private void delete(Job job) {
+        if (job.path != null) {
+            try {
+                Files.deleteIfExists(job.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReportWriter {
+
+        void write(OutputStream outputStream, ReportProgress progress) throws IOException;
+    }
+
+    public static class Job {
+
+        private final String id;
+        private final String fileName;
+        private final List<Consumer<Job>> listeners = new CopyOnWriteArrayList<>();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile int pages;
+        private volatile int totalPages;
+        private volatile Path path;
+        private volatile long finishedAt;
+
+        Job(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public int getTotalPages() {
+            return totalPages;
+        }
+
+        /**
+         * @return the file of the finished report
+         */
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * The listener is called from the thread that renders the report, whenever the status or the progress changes.
+         */
+        public void addListener(Consumer<Job> listener) {
+            listeners.add(listener);
+        }
+
+        public void removeListener(Consumer<Job> listener) {
+            listeners.remove(listener);
+        }
+
+        private void setStatus(Status status) {
+            this.status = status;
+            notifyListeners();
+        }
+
+        private void setProgress(int pages, int totalPages) {
+            this.pages = pages;
+            this.totalPages = totalPages;
+            notifyListeners();
+        }
+
+        private void notifyListeners() {
+            for (var listener : listeners) {
+                try {
+                    listener.accept(this);
+                } catch (RuntimeException e) {
+                    LOGGER.warn(e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package ch.jtaf.service;
+
+/**
+ * Is told how many pages of a report have been written while the report is created.
+ */
+@FunctionalInterface
+public interface ReportProgress {
+
+    ReportProgress NONE = (pages, totalPages) -> {
+    };
+
+    void pagesWritten(int pages, int totalPages);
+}
@@ -0,0 +1,229 @@
+package ch.jtaf.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many reports are rendered at the same time, so one organization printing a large series doesn't slow
+ * down the others. Waiting reports are queued per organization. A free slot goes to the organization with the fewest
+ * reports running, and among those to the one that was served least recently. A report is rejected with a
+ * {@link ReportBusyException} if the queue is full or if it waited longer than the queue timeout.
+ */
+@Service
+public class ReportScheduler {
+
+    private final int maximumRunning;
+    private final int maximumQueued;
+    private final int maximumQueuedPerOrganization;
+    private final long queueTimeoutMillis;
+
+    // Guarded by this, an organization moves to the end when one of its reports is started
+    private final Map<Long, Deque<Task>> queues = new LinkedHashMap<>();
+    private final Map<Long, Integer> runningPerOrganization = new HashMap<>();
+    private int queued;
+    private int running;
+
+    private final ExecutorService executor;
+    // Set while a report runs, so the reports it renders itself don't wait for another slot
+    private final ThreadLocal<Boolean> inSlot = ThreadLocal.withInitial(() -> false);
+
+    private final Timer waitTime;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public ReportScheduler(MeterRegistry meterRegistry,
+                           @Value("${jtaf.report-scheduler.maximum-running:2}") int maximumRunning,
+                           @Value("${jtaf.report-scheduler.maximum-queued:50}") int maximumQueued,
+                           @Value("${jtaf.report-scheduler.maximum-queued-per-organization:10}") int maximumQueuedPerOrganization,
+                           @Value("${jtaf.report-scheduler.queue-timeout-seconds:120}") long queueTimeoutSeconds) {
+        this.maximumRunning = maximumRunning;
+        this.maximumQueued = maximumQueued;
+        this.maximumQueuedPerOrganization = maximumQueuedPerOrganization;
+        this.queueTimeoutMillis = TimeUnit.SECONDS.toMillis(queueTimeoutSeconds);
+
+        // Never more tasks than threads are handed to the executor, the waiting ones stay in the queues
+        var threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maximumRunning, runnable -> {
+            var thread = new Thread(runnable, "report-scheduler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        waitTime = Timer.builder("jtaf.report.scheduler.wait").register(meterRegistry);
+        rejectedQueueFull = Counter.builder("jtaf.report.scheduler.rejected").tag("reason", "queue-full").register(meterRegistry);
+        rejectedTimeout = Counter.builder("jtaf.report.scheduler.rejected").tag("reason", "timeout").register(meterRegistry);
+        Gauge.builder("jtaf.report.scheduler.queued", this, ReportScheduler::getQueued).register(meterRegistry);
+        Gauge.builder("jtaf.report.scheduler.running", this, ReportScheduler::getRunning).register(meterRegistry);
+    }
+
+    /**
+     * Queues the report of the organization.
+     *
+     * @return completes when the report has been rendered, or exceptionally with a {@link ReportBusyException} if it
+     * waited too long
+     * @throws ReportBusyException if the queue is full
+     */
+    public CompletableFuture<Void> submit(Long organizationId, Runnable report) {
+        var task = new Task(organizationId, report);
+        synchronized (this) {
+            var queue = queues.computeIfAbsent(organizationId, id -> new ArrayDeque<>());
+            if (queued >= maximumQueued || queue.size() >= maximumQueuedPerOrganization) {
+                if (queue.isEmpty()) {
+                    queues.remove(organizationId);
+                }
+                rejectedQueueFull.increment();
+                throw new ReportBusyException("Too many reports are waiting to be rendered");
+            }
+            queue.add(task);
+            queued++;
+            dispatch();
+        }
+        if (!task.future.isDone()) {
+            CompletableFuture.delayedExecutor(queueTimeoutMillis, TimeUnit.MILLISECONDS).execute(() -> expire(task));
+        }
+        return task.future;
+    }
+
+    /**
+     * Renders the report of the organization in a slot and waits for it. Within a report that runs in a slot already,
+     * the report is rendered directly.
+     *
+     * @throws ReportBusyException if the queue is full or the report waited too long
+     */
+    public <T> T render(Long organizationId, Supplier<T> report) {
+        if (isInSlot()) {
+            return report.get();
+        }
+        var result = new AtomicReference<T>();
+        try {
+            submit(organizationId, () -> result.set(report.get())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return result.get();
+    }
+
+    /**
+     * @return true if the current thread renders a report in a slot
+     */
+    public boolean isInSlot() {
+        return inSlot.get();
+    }
+
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    public synchronized int getRunning() {
+        return running;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized void dispatch() {
+        while (running < maximumRunning && queued > 0) {
+            // Only organizations with waiting tasks have a queue
+            Long organizationId = null;
+            for (var id : queues.keySet()) {
+                if (organizationId == null || getRunning(id) < getRunning(organizationId)) {
+                    organizationId = id;
+                }
+            }
+            var queue = queues.remove(organizationId);
+            var task = queue.poll();
+            if (!queue.isEmpty()) {
+                queues.put(organizationId, queue);
+            }
+            queued--;
+            running++;
+            runningPerOrganization.merge(organizationId, 1, Integer::sum);
+
+            waitTime.record(System.currentTimeMillis() - task.queuedAt, TimeUnit.MILLISECONDS);
+            executor.execute(task);
+        }
+    }
+
+    private int getRunning(Long organizationId) {
+        return runningPerOrganization.getOrDefault(organizationId, 0);
+    }
+
+    private synchronized void finished(Task task) {
+        running--;
+        runningPerOrganization.computeIfPresent(task.organizationId, (id, count) -> count == 1 ? null : count - 1);
+        dispatch();
+    }
+
+    private void expire(Task task) {
+        synchronized (this) {
+            var queue = queues.get(task.organizationId);
+            if (queue == null || !queue.remove(task)) {
+                // Already running
+                return;
+            }
+            if (queue.isEmpty()) {
+                queues.remove(task.organizationId);
+            }
+            queued--;
+        }
+        rejectedTimeout.increment();
+        task.future.completeExceptionally(new ReportBusyException("The report waited too long to be rendered"));
+    }
+
+    private class Task implements Runnable {
+
+        private final Long organizationId;
+        private final Runnable report;
+        private final long queuedAt = System.currentTimeMillis();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Task(Long organizationId, Runnable report) {
+            this.organizationId = organizationId;
+            this.report = report;
+        }
+
+        @Override
+        public void run() {
+            RuntimeException failure = null;
+            try {
+                inSlot.set(true);
+                report.run();
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                inSlot.remove();
+                // The slot is free before anybody waiting for the report continues
+                finished(this);
+            }
+            if (failure == null) {
+                future.complete(null);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package ch.jtaf.service;
+
+import ch.jtaf.db.tables.records.EventPointsRecord;
+import ch.jtaf.db.tables.records.EventRecord;
+import ch.jtaf.model.EventType;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.EventPoints.EVENT_POINTS;
+
+/**
+ * Calculates the points of results. The scoring of an event is compiled once into a {@link Scorer} and cached until
+ * the event or its points table changes. Events with entries in EVENT_POINTS are scored with a binary search in the
+ * table, all others with the formula using A, B and C.
+ */
+@Service
+public class ScoringService {
+
+    private static final Scorer NO_POINTS = value -> 0;
+
+    private final DSLContext dsl;
+
+    private final Map<Long, CompiledScorer> scorers = new ConcurrentHashMap<>();
+
+    public ScoringService(DSLContext dsl) {
+        this.dsl = dsl;
+    }
+
+    /**
+     * @param value the result in hundredths as returned by EventType.parseResult
+     */
+    public int score(EventRecord event, long value) {
+        return getScorer(event).score(value);
+    }
+
+    /**
+     * Scores many results of the same event, for example when importing or recalculating.
+     *
+     * @param values the results in hundredths
+     * @return the points in the same order as the values
+     */
+    public int[] score(EventRecord event, long[] values) {
+        var scorer = getScorer(event);
+        int[] points = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            points[i] = scorer.score(values[i]);
+        }
+        return points;
+    }
+
+    public Scorer getScorer(EventRecord event) {
+        if (event.getId() == null) {
+            return compile(event);
+        }
+        var compiledScorer = scorers.get(event.getId());
+        // The event may have been edited but not stored yet, so the coefficients are compared as well
+        if (compiledScorer == null || !compiledScorer.isCompiledFrom(event)) {
+            compiledScorer = new CompiledScorer(event, compile(event));
+            scorers.put(event.getId(), compiledScorer);
+        }
+        return compiledScorer.scorer;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDataChange(DataChangeEvent event) {
+        if (event.isOf(EVENT)) {
+            EventRecord eventRecord = event.getRecord();
+            scorers.remove(eventRecord.getId());
+        } else if (event.isOf(EVENT_POINTS)) {
+            EventPointsRecord eventPointsRecord = event.getRecord();
+            scorers.remove(eventPointsRecord.getEventId());
+        }
+    }
+
+    private Scorer compile(EventRecord event) {
+        boolean higherIsBetter = EventType.JUMP_THROW.name().equals(event.getEventType());
+
+        if (event.getId() != null) {
+            var table = dsl
+                .select(EVENT_POINTS.RESULT_VALUE, EVENT_POINTS.POINTS)
+                .from(EVENT_POINTS)
+                .where(EVENT_POINTS.EVENT_ID.eq(event.getId()))
+                .orderBy(EVENT_POINTS.RESULT_VALUE)
+                .fetch();
+            if (table.isNotEmpty()) {
+                long[] values = new long[table.size()];
+                int[] points = new int[table.size()];
+                for (int i = 0; i < table.size(); i++) {
+                    values[i] = table.get(i).value1();
+                    points[i] = table.get(i).value2();
+                }
+                return higherIsBetter ? higherIsBetterTable(values, points) : lowerIsBetterTable(values, points);
+            }
+        }
+
+        if (event.getA() == null || event.getB() == null || event.getC() == null) {
+            return NO_POINTS;
+        }
+        double a = event.getA();
+        double b = event.getB();
+        double c = event.getC();
+        if (higherIsBetter) {
+            return value -> value > 0 ? (int) Math.round(a * Math.pow((value - b) / 100, c)) : 0;
+        } else {
+            return value -> value > 0 ? (int) Math.round(a * Math.pow((b - value) / 100, c)) : 0;
+        }
+    }
+
+    /**
+     * A result gets the points of the highest entry it reaches.
+     */
+    private static Scorer higherIsBetterTable(long[] values, int[] points) {
+        return value -> {
+            if (value <= 0) {
+                return 0;
+            }
+            int index = Arrays.binarySearch(values, value);
+            index = index >= 0 ? index : -index - 2;
+            return index >= 0 ? points[index] : 0;
+        };
+    }
+
+    /**
+     * A result gets the points of the lowest entry it is faster than or equal to.
+     */
+    private static Scorer lowerIsBetterTable(long[] values, int[] points) {
+        return value -> {
+            if (value <= 0) {
+                return 0;
+            }
+            int index = Arrays.binarySearch(values, value);
+            index = index >= 0 ? index : -index - 1;
+            return index < values.length ? points[index] : 0;
+        };
+    }
+
+    @FunctionalInterface
+    public interface Scorer {
+
+        /**
+         * @param value the result in hundredths
+         */
+        int score(long value);
+    }
+
+    private static class CompiledScorer {
+
+        private final String eventType;
+        private final Double a;
+        private final Double b;
+        private final Double c;
+        private final Scorer scorer;
+
+        CompiledScorer(EventRecord event, Scorer scorer) {
+            this.eventType = event.getEventType();
+            this.a = event.getA();
+            this.b = event.getB();
+            this.c = event.getC();
+            this.scorer = scorer;
+        }
+
+        boolean isCompiledFrom(EventRecord event) {
+            return Objects.equals(eventType, event.getEventType()) && Objects.equals(a, event.getA())
+                && Objects.equals(b, event.getB()) && Objects.equals(c, event.getC());
+        }
+    }
+}
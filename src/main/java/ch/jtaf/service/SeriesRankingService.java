@@ -9,47 +9,71 @@ import ch.jtaf.reporting.data.SeriesRankingResult;
 import ch.jtaf.reporting.report.ClubRankingReport;
 import ch.jtaf.reporting.report.SeriesRankingReport;
 import org.jooq.DSLContext;
-import org.jooq.Record14;
-import org.jooq.Record2;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.jooq.Result;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.AthletePoints.ATHLETE_POINTS;
 import static ch.jtaf.db.tables.Category.CATEGORY;
 import static ch.jtaf.db.tables.CategoryAthlete.CATEGORY_ATHLETE;
-import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
 import static ch.jtaf.db.tables.Club.CLUB;
+import static ch.jtaf.db.tables.ClubPoints.CLUB_POINTS;
 import static ch.jtaf.db.tables.Competition.COMPETITION;
-import static ch.jtaf.db.tables.Event.EVENT;
-import static ch.jtaf.db.tables.Result.RESULT;
 import static ch.jtaf.db.tables.Series.SERIES;
-import static java.math.BigDecimal.ZERO;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.orderBy;
+import static org.jooq.impl.DSL.partitionBy;
+import static org.jooq.impl.DSL.rank;
 import static org.jooq.impl.DSL.sum;
 
 @Service
 public class SeriesRankingService {
 
+    private static final String TOTAL_POINTS = "total_points";
+    private static final String ATHLETE_RANK = "athlete_rank";
+
     private final DSLContext dsl;
+    private final DataVersions dataVersions;
+    private final ReportCache reportCache;
+    private final ReportScheduler reportScheduler;
 
-    public SeriesRankingService(DSLContext dsl) {
+    public SeriesRankingService(DSLContext dsl, DataVersions dataVersions, ReportCache reportCache,
+                                ReportScheduler reportScheduler) {
         this.dsl = dsl;
+        this.dataVersions = dataVersions;
+        this.reportCache = reportCache;
+        this.reportScheduler = reportScheduler;
     }
 
+    // Reports that are not cached are rendered through the ReportScheduler like all other reports. Requests of a report
+    // that is rendered already wait for it in the ReportCache, so they don't take another place in the queue.
+
     public byte[] getSeriesRankingAsPdf(Long seriesId) {
-        return new SeriesRankingReport(getSeriesRanking(seriesId), new Locale("de", "CH"), getClubs()).create();
+        return reportCache.get("series-ranking-pdf", seriesId, dataVersions.getSeriesVersion(seriesId),
+            () -> reportScheduler.render(getOrganizationId(seriesId),
+                () -> new SeriesRankingReport(getSeriesRanking(seriesId), new Locale("de", "CH"), getClubs()).create()));
+    }
+
+    public void writeSeriesRankingAsPdf(Long seriesId, OutputStream outputStream) throws IOException {
+        outputStream.write(getSeriesRankingAsPdf(seriesId));
     }
 
     public SeriesRankingData getSeriesRanking(Long seriesId) {
+        return reportCache.get("series-ranking", seriesId, dataVersions.getSeriesVersion(seriesId),
+            () -> fetchSeriesRanking(seriesId));
+    }
+
+    private SeriesRankingData fetchSeriesRanking(Long seriesId) {
         var series = dsl
             .select(SERIES.ID, SERIES.NAME, count(COMPETITION.ID))
             .from(SERIES)
@@ -58,112 +82,134 @@ public class SeriesRankingService {
             .groupBy(SERIES.ID, SERIES.NAME)
             .fetchOne();
 
-        var seriesRanking = new SeriesRankingData(series.get(SERIES.NAME), series.get(count(COMPETITION.ID)));
+        int numberOfCompetitions = series.get(count(COMPETITION.ID));
 
-        var results = dsl.
-            select(
+        // The points per competition are maintained by the PointsSummaryService
+        var perCompetition = dsl
+            .select(ATHLETE_POINTS.CATEGORY_ID, ATHLETE_POINTS.ATHLETE_ID, ATHLETE_POINTS.COMPETITION_ID, ATHLETE_POINTS.POINTS)
+            .from(ATHLETE_POINTS)
+            .join(COMPETITION).on(COMPETITION.ID.eq(ATHLETE_POINTS.COMPETITION_ID))
+            .join(CATEGORY_ATHLETE).on(CATEGORY_ATHLETE.CATEGORY_ID.eq(ATHLETE_POINTS.CATEGORY_ID))
+            .and(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE_POINTS.ATHLETE_ID))
+            .where(COMPETITION.SERIES_ID.eq(seriesId))
+            .and(ATHLETE_POINTS.POINTS.gt(0))
+            .asTable("per_competition");
+        var points = perCompetition.field(ATHLETE_POINTS.POINTS);
+
+        // Only athletes that took part in every competition are ranked, the window is applied after the having
+        Field<Integer> totalPoints = sum(points).coerce(Integer.class);
+        var perAthlete = dsl
+            .select(perCompetition.field(ATHLETE_POINTS.CATEGORY_ID), perCompetition.field(ATHLETE_POINTS.ATHLETE_ID),
+                totalPoints.as(TOTAL_POINTS),
+                rank().over(partitionBy(perCompetition.field(ATHLETE_POINTS.CATEGORY_ID)).orderBy(totalPoints.desc())).as(ATHLETE_RANK))
+            .from(perCompetition)
+            .groupBy(perCompetition.field(ATHLETE_POINTS.CATEGORY_ID), perCompetition.field(ATHLETE_POINTS.ATHLETE_ID))
+            .having(count().eq(numberOfCompetitions))
+            .asTable("per_athlete");
+        var athleteTotalPoints = perAthlete.field(TOTAL_POINTS, Integer.class);
+        var athleteRank = perAthlete.field(ATHLETE_RANK, Integer.class);
+
+        var results = dsl
+            .select(
                 CATEGORY.ID, CATEGORY.ABBREVIATION, CATEGORY.NAME, CATEGORY.YEAR_FROM, CATEGORY.YEAR_TO,
+                athleteRank,
                 ATHLETE.ID, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME, ATHLETE.YEAR_OF_BIRTH,
                 ATHLETE.CLUB_ID,
+                athleteTotalPoints,
                 COMPETITION.ID, COMPETITION.NAME, COMPETITION.COMPETITION_DATE,
-                sum(RESULT.POINTS)
+                points
             )
-            .from(COMPETITION, CATEGORY, CATEGORY_ATHLETE, ATHLETE, CATEGORY_EVENT, EVENT, RESULT)
-            .where(COMPETITION.SERIES_ID.eq(seriesId))
-            .and(CATEGORY.SERIES_ID.eq(COMPETITION.SERIES_ID))
-            .and(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
-            .and(CATEGORY_ATHLETE.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(CATEGORY.ID.eq(CATEGORY_EVENT.CATEGORY_ID))
-            .and(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(CATEGORY_EVENT.EVENT_ID.eq(EVENT.ID))
-            .and(RESULT.COMPETITION_ID.eq(COMPETITION.ID))
-            .and(RESULT.CATEGORY_ID.eq(CATEGORY.ID))
-            .and(RESULT.ATHLETE_ID.eq(ATHLETE.ID))
-            .and(EVENT.ID.eq(RESULT.EVENT_ID))
-            .groupBy(CATEGORY.ID, ATHLETE.ID, COMPETITION.ID)
-            .having(sum(RESULT.POINTS).gt(ZERO))
-            .orderBy(CATEGORY.ID, ATHLETE.ID, COMPETITION.ID)
+            .from(perAthlete)
+            .join(perCompetition).on(perCompetition.field(ATHLETE_POINTS.CATEGORY_ID).eq(perAthlete.field(ATHLETE_POINTS.CATEGORY_ID)))
+            .and(perCompetition.field(ATHLETE_POINTS.ATHLETE_ID).eq(perAthlete.field(ATHLETE_POINTS.ATHLETE_ID)))
+            .join(CATEGORY).on(CATEGORY.ID.eq(perAthlete.field(ATHLETE_POINTS.CATEGORY_ID)))
+            .join(ATHLETE).on(ATHLETE.ID.eq(perAthlete.field(ATHLETE_POINTS.ATHLETE_ID)))
+            .join(COMPETITION).on(COMPETITION.ID.eq(perCompetition.field(ATHLETE_POINTS.COMPETITION_ID)))
+            .orderBy(CATEGORY.ID, athleteRank, ATHLETE.ID, COMPETITION.COMPETITION_DATE)
             .fetch();
 
-        seriesRanking.getCategories().addAll(getCategories(seriesRanking, results));
-
-        return seriesRanking;
+        return new SeriesRankingData(series.get(SERIES.NAME), numberOfCompetitions,
+            getCategories(numberOfCompetitions, results));
     }
 
     public byte[] getClubRankingAsPdf(Long seriesId) {
-        return new ClubRankingReport(getClubRanking(seriesId), new Locale("de", "CH"), getClubs()).create();
+        return reportCache.get("club-ranking-pdf", seriesId, dataVersions.getSeriesVersion(seriesId),
+            () -> reportScheduler.render(getOrganizationId(seriesId),
+                () -> new ClubRankingReport(getClubRanking(seriesId), new Locale("de", "CH"), getClubs()).create()));
+    }
+
+    public void writeClubRankingAsPdf(Long seriesId, OutputStream outputStream) throws IOException {
+        outputStream.write(getClubRankingAsPdf(seriesId));
     }
 
     public ClubRankingData getClubRanking(Long seriesId) {
+        return reportCache.get("club-ranking", seriesId, dataVersions.getSeriesVersion(seriesId),
+            () -> fetchClubRanking(seriesId));
+    }
+
+    private ClubRankingData fetchClubRanking(Long seriesId) {
         var series = dsl
             .select(SERIES.NAME)
             .from(SERIES)
             .where(SERIES.ID.eq(seriesId))
             .fetchOne();
 
-        var clubRanking = new ClubRankingData(series.get(SERIES.NAME));
-
-        var results = dsl.
-            select(CLUB.NAME, sum(RESULT.POINTS))
-            .from(RESULT, COMPETITION, EVENT, CATEGORY_EVENT, CATEGORY, ATHLETE)
-            .leftOuterJoin(CLUB).on(CLUB.ID.eq(ATHLETE.CLUB_ID))
+        // The points per club and competition are maintained by the PointsSummaryService
+        Field<Integer> points = sum(CLUB_POINTS.POINTS).coerce(Integer.class);
+        var clubRank = rank().over(orderBy(points.desc()));
+        var results = dsl
+            .select(clubRank, CLUB.NAME, points)
+            .from(CLUB_POINTS)
+            .join(COMPETITION).on(COMPETITION.ID.eq(CLUB_POINTS.COMPETITION_ID))
+            .join(CLUB).on(CLUB.ID.eq(CLUB_POINTS.CLUB_ID))
             .where(COMPETITION.SERIES_ID.eq(seriesId))
-            .and(COMPETITION.ID.eq(RESULT.COMPETITION_ID))
-            .and(EVENT.ID.eq(RESULT.EVENT_ID))
-            .and(CATEGORY_EVENT.CATEGORY_ID.eq(CATEGORY.ID)).and(CATEGORY_EVENT.EVENT_ID.eq(EVENT.ID))
-            .and(CATEGORY.ID.eq(CATEGORY_EVENT.CATEGORY_ID))
-            .and(ATHLETE.ID.eq(RESULT.ATHLETE_ID))
-            .groupBy(CLUB.NAME)
-            .fetch();
+            .groupBy(CLUB.ID, CLUB.NAME)
+            .orderBy(points.desc(), CLUB.NAME)
+            .fetch(record -> new ClubResultData(record.get(clubRank), record.get(CLUB.NAME), record.get(points)));
 
-        clubRanking.getResults().addAll(getResults(results));
-
-        return clubRanking;
+        return new ClubRankingData(series.get(SERIES.NAME), results);
     }
 
-    private List<SeriesRankingCategory> getCategories(SeriesRankingData seriesRankingData, Result<Record14<Long, String, String, Integer, Integer, Long, String, String, Integer, Long, Long, String, LocalDate, BigDecimal>> records) {
-        List<SeriesRankingCategory> categories = new ArrayList<>();
-
-        SeriesRankingCategory category = null;
-        SeriesRankingAthlete athlete = null;
-        SeriesRankingResult result = null;
-
-        for (var record : records) {
-            if (category == null || !category.getId().equals(record.get(CATEGORY.ID))) {
-                category = new SeriesRankingCategory(record.get(CATEGORY.ID), record.get(CATEGORY.ABBREVIATION),
+    private List<SeriesRankingCategory> getCategories(int numberOfCompetitions, Result<? extends Record> records) {
+        // intoGroups keeps the order of the records, so categories and athletes stay ranked
+        return records.intoGroups(CATEGORY.ID).values().stream()
+            .map(categoryRecords -> {
+                var record = categoryRecords.get(0);
+                var athletes = categoryRecords.intoGroups(ATHLETE.ID).values().stream()
+                    .map(this::getAthlete)
+                    .collect(toList());
+                return new SeriesRankingCategory(record.get(CATEGORY.ID), record.get(CATEGORY.ABBREVIATION),
                     record.get(CATEGORY.NAME), record.get(CATEGORY.YEAR_FROM), record.get(CATEGORY.YEAR_TO),
-                    seriesRankingData.getNumberOfCompetitions());
-                categories.add(category);
-            }
-
-            if (athlete == null || !athlete.getId().equals(record.get(ATHLETE.ID))) {
-                athlete = new SeriesRankingAthlete(record.get(ATHLETE.ID), record.get(ATHLETE.FIRST_NAME),
-                    record.get(ATHLETE.LAST_NAME), record.get(ATHLETE.YEAR_OF_BIRTH), record.get(ATHLETE.CLUB_ID));
-                category.addAthlete(athlete);
-            }
-
-            if (result != null && result.getAthleteId().equals(record.get(ATHLETE.ID)) && result.getCompetionId().equals(record.get(COMPETITION.ID))) {
-                result.addPoints(record.get(sum(RESULT.POINTS)));
-            } else {
-                result = new SeriesRankingResult(record.get(ATHLETE.ID), record.get(COMPETITION.ID),
-                    record.get(COMPETITION.NAME), record.get(COMPETITION.COMPETITION_DATE), record.get(sum(RESULT.POINTS)));
-                athlete.addResult(result);
-            }
-        }
-        return categories;
+                    numberOfCompetitions, athletes);
+            })
+            .collect(toList());
     }
 
-    private List<ClubResultData> getResults(Result<Record2<String, BigDecimal>> records) {
-        return records.stream()
-            .map(record -> new ClubResultData(record.get(CLUB.NAME), record.get(sum(RESULT.POINTS))))
+    private SeriesRankingAthlete getAthlete(Result<? extends Record> athleteRecords) {
+        var results = athleteRecords.stream()
+            .map(record -> new SeriesRankingResult(record.get(ATHLETE.ID), record.get(COMPETITION.ID),
+                record.get(COMPETITION.NAME), record.get(COMPETITION.COMPETITION_DATE), record.get(ATHLETE_POINTS.POINTS)))
             .collect(toList());
+
+        var record = athleteRecords.get(0);
+        return new SeriesRankingAthlete(record.get(ATHLETE_RANK, Integer.class), record.get(ATHLETE.ID),
+            record.get(ATHLETE.FIRST_NAME), record.get(ATHLETE.LAST_NAME), record.get(ATHLETE.YEAR_OF_BIRTH),
+            record.get(ATHLETE.CLUB_ID), record.get(TOTAL_POINTS, Integer.class), results);
+    }
+
+    private Long getOrganizationId(Long seriesId) {
+        return dsl
+            .select(SERIES.ORGANIZATION_ID)
+            .from(SERIES)
+            .where(SERIES.ID.eq(seriesId))
+            .fetchOne(SERIES.ORGANIZATION_ID);
     }
 
     private Map<Long, String> getClubs() {
-        return dsl.
-            select(CLUB.ID, CLUB.ABBREVIATION)
+        return reportCache.get("clubs", 0L, dataVersions.getClubsVersion(), () -> dsl
+            .select(CLUB.ID, CLUB.ABBREVIATION)
             .from(CLUB)
             .stream()
-            .collect(toMap(club -> club.get(CLUB.ID), club -> club.get(CLUB.ABBREVIATION)));
+            .collect(toMap(club -> club.get(CLUB.ID), club -> club.get(CLUB.ABBREVIATION))));
     }
 }
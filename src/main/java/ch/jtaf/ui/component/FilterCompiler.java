@@ -0,0 +1,81 @@
+package ch.jtaf.ui.component;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.jooq.impl.DSL.escape;
+import static org.jooq.impl.DSL.falseCondition;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.or;
+
+/**
+ * Turns the input of a filter field into a condition that can use an index. Every word of the input has to match: a
+ * word is the beginning of one of the text columns, and a number may also be equal to one of the number columns. The
+ * case is ignored by the collation of the database.
+ */
+public class FilterCompiler {
+
+    private static final char ESCAPE = '!';
+
+    private final List<Field<?>> numberFields = new ArrayList<>();
+    private final List<Field<String>> textFields = new ArrayList<>();
+
+    /**
+     * The primary key is the number column and all the text columns are searched.
+     */
+    @SuppressWarnings("unchecked")
+    public static FilterCompiler of(Table<?> table) {
+        var filterCompiler = new FilterCompiler();
+        if (table.getPrimaryKey() != null) {
+            filterCompiler.numbers(table.getPrimaryKey().getFieldsArray());
+        }
+        for (Field<?> field : table.fields()) {
+            if (field.getType() == String.class) {
+                filterCompiler.text((Field<String>) field);
+            }
+        }
+        return filterCompiler;
+    }
+
+    public FilterCompiler numbers(Field<?>... fields) {
+        numberFields.addAll(Arrays.asList(fields));
+        return this;
+    }
+
+    public FilterCompiler text(Field<String> field) {
+        textFields.add(field);
+        return this;
+    }
+
+    public Condition compile(String filter) {
+        Condition condition = noCondition();
+        for (String word : StringUtils.split(StringUtils.trimToEmpty(filter))) {
+            condition = condition.and(compileWord(word));
+        }
+        return condition;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Condition compileWord(String word) {
+        List<Condition> conditions = new ArrayList<>();
+        // Longer numbers don't fit into a column and are searched as text
+        if (StringUtils.isNumeric(word) && word.length() < 19) {
+            long number = Long.parseLong(word);
+            for (Field<?> field : numberFields) {
+                conditions.add(((Field<Object>) field).eq(field.getDataType().convert(number)));
+            }
+        }
+        // Numbers are searched in the text columns too, a name may contain a year
+        var prefix = escape(word, ESCAPE) + "%";
+        for (Field<String> field : textFields) {
+            conditions.add(field.like(prefix, ESCAPE));
+        }
+        return conditions.isEmpty() ? falseCondition() : or(conditions);
+    }
+}
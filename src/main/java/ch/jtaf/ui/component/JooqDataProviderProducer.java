@@ -1,6 +1,7 @@
 package ch.jtaf.ui.component;
 
 import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
+import com.vaadin.flow.data.provider.DataChangeEvent;
 import com.vaadin.flow.data.provider.DataProvider;
 import com.vaadin.flow.data.provider.Query;
 import com.vaadin.flow.data.provider.QuerySortOrder;
@@ -11,81 +12,301 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.SortField;
 import org.jooq.Table;
+import org.jooq.impl.DSL;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-import static org.jooq.impl.DSL.noCondition;
-import static org.jooq.impl.DSL.upper;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
 
 public class JooqDataProviderProducer<R extends Record> {
 
+    // The page size of the grid, the first page is selected together with the count
+    private static final int FIRST_PAGE_SIZE = 50;
+    private static final long COUNT_TTL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final int MAXIMUM_SEEK_KEYS = 100;
+    private static final Field<Integer> TOTAL = DSL.count().over().as("total");
+
+    // Shared by all sessions, an entry is removed when its grid is refreshed
+    private static final Map<String, CachedCount> COUNTS = new ConcurrentHashMap<>();
+
     private final DSLContext dsl;
     private final Table<R> table;
     private final ConfigurableFilterDataProvider<R, Void, String> dataProvider;
     private final Supplier<Condition> initialCondition;
     private final Supplier<SortField<?>[]> initialSort;
 
+    private final Map<String, Field<?>> aggregates = new LinkedHashMap<>();
+    // The aggregates of the fetched rows by primary key
+    private final Map<Record, Record> aggregateValues = new HashMap<>();
+
+    // The sort values of the last row before an offset
+    private final Map<Integer, Object[]> seekKeys = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Object[]> eldest) {
+            return size() > MAXIMUM_SEEK_KEYS;
+        }
+    };
+    private String seekKeysSignature;
+    private List<QuerySortOrder> lastSortOrders = List.of();
+    private Page firstPage;
+    private FilterCompiler filterCompiler;
+
     public JooqDataProviderProducer(DSLContext dsl, Table<R> table, Supplier<Condition> initialCondition,
                                     Supplier<SortField<?>[]> initialSort) {
         this.dsl = dsl;
         this.table = table;
         this.initialCondition = initialCondition;
         this.initialSort = initialSort;
+        this.filterCompiler = FilterCompiler.of(table);
 
         this.dataProvider = DataProvider.fromFilteringCallbacks(this::fetch, this::count).withConfigurableFilter();
+        // Refreshing a single item doesn't change the count
+        this.dataProvider.addDataProviderListener(event -> {
+            if (!(event instanceof DataChangeEvent.DataRefreshEvent)) {
+                invalidate();
+            }
+        });
     }
 
     public ConfigurableFilterDataProvider<R, Void, String> getDataProvider() {
         return dataProvider;
     }
 
+    /**
+     * Replaces the default filter, which compares numbers with the primary key and searches all text columns.
+     */
+    public JooqDataProviderProducer<R> setFilterCompiler(FilterCompiler filterCompiler) {
+        this.filterCompiler = filterCompiler;
+        return this;
+    }
+
+    /**
+     * Adds a value that is derived from other tables, like the number of athletes of a series. The value is selected
+     * together with the rows of a page, so a column never has to query the database for each row. The name can be used
+     * as sort property of the column.
+     *
+     * @param aggregate a scalar subquery that is correlated with the table
+     */
+    public <T> Aggregate<R, T> addAggregate(String name, Field<T> aggregate) {
+        aggregates.put(name, aggregate.as(name));
+        return new Aggregate<>(this, field(name(name), aggregate.getType()));
+    }
+
     private Stream<R> fetch(Query<R, String> query) {
-        return dsl.selectFrom(table).where(createCondition(query)).orderBy(createOrderBy(query))
-            .offset(query.getOffset()).limit(query.getLimit()).stream();
+        lastSortOrders = query.getSortOrders();
+        var condition = createCondition(query);
+        var orderBy = createOrderBy(query.getSortOrders());
+        var signature = useSignature(condition, orderBy);
+
+        List<R> rows = new ArrayList<>();
+        int offset = query.getOffset();
+        int limit = query.getLimit();
+        if (offset == 0 && firstPage != null && firstPage.signature.equals(signature)) {
+            rows.addAll(firstPage.rows.subList(0, Math.min(limit, firstPage.rows.size())));
+            if (firstPage.rows.size() < FIRST_PAGE_SIZE) {
+                // There are no more rows
+                limit = rows.size();
+            }
+            offset = rows.size();
+            limit -= rows.size();
+        }
+        firstPage = null;
+        if (limit > 0) {
+            rows.addAll(select(condition, orderBy, offset, limit, false).rows);
+        }
+        return rows.stream();
     }
 
+    /**
+     * The count is cached for a short time and shared by all sessions. Otherwise it is selected together with the first
+     * page, which is kept for the fetch that follows.
+     */
     private int count(Query<R, String> query) {
-        return dsl.selectCount().from(table).where(createCondition(query)).fetchOneInto(Integer.class);
+        var condition = createCondition(query);
+        var key = getCountKey(condition);
+        firstPage = null;
+
+        var cachedCount = COUNTS.get(key);
+        if (cachedCount != null && !cachedCount.isExpired()) {
+            return cachedCount.count;
+        }
+
+        // The size query has no sort orders, the grid is still sorted like on the last fetch
+        var orderBy = createOrderBy(lastSortOrders);
+        var signature = useSignature(condition, orderBy);
+        var page = select(condition, orderBy, 0, FIRST_PAGE_SIZE, true);
+        firstPage = page;
+        page.signature = signature;
+
+        long now = System.currentTimeMillis();
+        COUNTS.values().removeIf(CachedCount::isExpired);
+        COUNTS.put(key, new CachedCount(page.count, now + COUNT_TTL_MILLIS));
+        return page.count;
     }
 
-    private Condition createCondition(Query<R, String> query) {
-        Condition condition = noCondition();
-        Optional<String> filter = query.getFilter();
-        if (filter.isPresent()) {
-            for (Field<?> field : table.fields()) {
-                if (field.getType() == String.class) {
-                    //noinspection unchecked
-                    condition = condition
-                        .or(upper((Field<String>) field).like(upper("%" + filter.get() + "%")));
-                } else {
-                    condition = condition.or(field.like("%" + filter.get() + "%"));
-                }
+    private Page select(Condition condition, List<SortField<?>> orderBy, int offset, int limit, boolean withCount) {
+        if (offset == 0) {
+            aggregateValues.clear();
+        }
+        Field<?>[] aggregateFields = aggregates.values().toArray(new Field<?>[0]);
+        var select = dsl.select(table.fields()).select(aggregateFields);
+        if (withCount) {
+            select = select.select(TOTAL);
+        }
+        var ordered = select.from(table).where(condition).orderBy(orderBy);
+
+        // Continues after the last row of the previous page instead of skipping the offset, if the page was fetched
+        var seekFields = getSeekFields(orderBy);
+        var seekKey = offset > 0 && seekFields != null ? seekKeys.get(offset) : null;
+        var result = seekKey != null
+            ? ordered.seek(seekKey).limit(limit).fetch()
+            : ordered.offset(offset).limit(limit).fetch();
+
+        var page = new Page();
+        for (var record : result) {
+            R tableRecord = record.into(table);
+            tableRecord.changed(false);
+            if (!aggregates.isEmpty()) {
+                aggregateValues.put(getKey(tableRecord), record.into(aggregateFields));
             }
+            page.rows.add(tableRecord);
         }
-        condition = condition.and(initialCondition.get());
-        return condition;
+        if (withCount) {
+            page.count = result.isEmpty() ? 0 : result.get(0).get(TOTAL);
+        }
+        if (seekFields != null && !result.isEmpty()) {
+            seekKeys.put(offset + result.size(), result.get(result.size() - 1).into(seekFields).intoArray());
+        }
+        return page;
+    }
+
+    /**
+     * The seek keys are only valid for the condition and order they were fetched with.
+     */
+    private String useSignature(Condition condition, List<SortField<?>> orderBy) {
+        var signature = condition + " " + orderBy;
+        if (!signature.equals(seekKeysSignature)) {
+            seekKeys.clear();
+            seekKeysSignature = signature;
+        }
+        return signature;
     }
 
-    private SortField<?>[] createOrderBy(Query<R, String> query) {
-        if (query.getSortOrders().isEmpty()) {
-            return initialSort.get();
+    /**
+     * @return the fields of the order if they are all NOT NULL columns of the table, otherwise the rows can't be seeked.
+     * The seek predicate is never true for null, so the rows with null would be skipped.
+     */
+    private Field<?>[] getSeekFields(List<SortField<?>> orderBy) {
+        Field<?>[] fields = new Field<?>[orderBy.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = table.field(orderBy.get(i).getName());
+            if (fields[i] == null || fields[i].getDataType().nullable()) {
+                return null;
+            }
+        }
+        return fields;
+    }
+
+    private Record getKey(R record) {
+        return table.getPrimaryKey() == null ? record : record.into(table.getPrimaryKey().getFieldsArray());
+    }
+
+    private String getCountKey(Condition condition) {
+        // The condition contains the organization and the filter
+        return table.getName() + ":" + condition;
+    }
+
+    private void invalidate() {
+        COUNTS.keySet().removeIf(key -> key.startsWith(table.getName() + ":"));
+        seekKeys.clear();
+        firstPage = null;
+    }
+
+    private Condition createCondition(Query<R, String> query) {
+        return filterCompiler.compile(query.getFilter().orElse(null)).and(initialCondition.get());
+    }
+
+    private List<SortField<?>> createOrderBy(List<QuerySortOrder> sortOrders) {
+        List<SortField<?>> sortFields = new ArrayList<>();
+        if (sortOrders.isEmpty()) {
+            sortFields.addAll(Arrays.asList(initialSort.get()));
         } else {
-            List<SortField<?>> sortFields = new ArrayList<>();
-            for (QuerySortOrder sortOrder : query.getSortOrders()) {
+            for (QuerySortOrder sortOrder : sortOrders) {
                 String column = sortOrder.getSorted();
                 SortDirection sortDirection = sortOrder.getDirection();
                 Field<?> field = table.field(column);
+                if (field == null) {
+                    field = field(name(column));
+                }
                 if (sortDirection == SortDirection.DESCENDING) {
                     sortFields.add(field.desc());
                 } else {
                     sortFields.add(field.asc());
                 }
             }
-            return sortFields.toArray(new SortField<?>[0]);
+        }
+        // The primary key makes the order unique, which the pages and the seek keys rely on
+        if (table.getPrimaryKey() != null) {
+            for (Field<?> field : table.getPrimaryKey().getFields()) {
+                if (sortFields.stream().noneMatch(sortField -> sortField.getName().equals(field.getName()))) {
+                    sortFields.add(field.asc());
+                }
+            }
+        }
+        return sortFields;
+    }
+
+    /**
+     * A derived value of the rows of a page, see {@link #addAggregate(String, Field)}.
+     */
+    public static class Aggregate<R extends Record, T> {
+
+        private final JooqDataProviderProducer<R> producer;
+        private final Field<T> field;
+
+        private Aggregate(JooqDataProviderProducer<R> producer, Field<T> field) {
+            this.producer = producer;
+            this.field = field;
+        }
+
+        /**
+         * @return the value of a fetched row, null if the row wasn't fetched by the data provider
+         */
+        public T get(R record) {
+            var values = producer.aggregateValues.get(producer.getKey(record));
+            return values == null ? null : values.get(field);
+        }
+    }
+
+    private class Page {
+
+        private final List<R> rows = new ArrayList<>();
+        private int count;
+        private String signature;
+    }
+
+    private static class CachedCount {
+
+        private final int count;
+        private final long expiresAt;
+
+        private CachedCount(int count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
         }
     }
 }
@@ -0,0 +1,38 @@
+package ch.jtaf.ui.component;
+
+import ch.jtaf.service.LogoService;
+import ch.jtaf.ui.controller.LogoController;
+import com.vaadin.flow.component.html.Image;
+
+/**
+ * Shows the small thumbnail of a logo with the given height. The width is calculated from the stored dimensions, so
+ * the layout doesn't move when the image is loaded. Without a hash nothing is shown.
+ */
+public class Logo extends Image {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient LogoService logoService;
+    private final int height;
+
+    public Logo(LogoService logoService, String hash, int height) {
+        this.logoService = logoService;
+        this.height = height;
+        setHeight(height + "px");
+        setHash(hash);
+    }
+
+    public void setHash(String hash) {
+        if (hash == null) {
+            getElement().removeAttribute("src");
+            setVisible(false);
+            return;
+        }
+
+        setSrc(LogoController.getUrl(hash, LogoService.Size.SMALL));
+        logoService.getDimensions(hash, LogoService.Size.SMALL).ifPresentOrElse(
+            dimensions -> setWidth(Math.round((double) height * dimensions.getWidth() / dimensions.getHeight()) + "px"),
+            () -> setWidth(null));
+        setVisible(true);
+    }
+}
@@ -0,0 +1,91 @@
+package ch.jtaf.ui.controller;
+
+import ch.jtaf.service.ArtifactService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+
+/**
+ * Serves the stored reports of locked competitions and series. Browsers revalidate with the ETag, so an unchanged
+ * report is answered with 304 Not Modified. A report that hasn't been rendered yet is answered with 404 Not Found.
+ */
+@Controller
+public class ArtifactController {
+
+    public static final String PATH = "/artifacts/";
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ArtifactService artifactService;
+
+    public ArtifactController(ArtifactService artifactService) {
+        this.artifactService = artifactService;
+    }
+
+    public static String getUrl(ArtifactService.Report report, Long id) {
+        return PATH + report.getName() + "/" + id;
+    }
+
+    /**
+     * @return the patterns of the reports that can be downloaded without login
+     */
+    public static String[] getPublicPatterns() {
+        return Arrays.stream(ArtifactService.Report.values())
+            .filter(ArtifactService.Report::isPublic)
+            .map(report -> PATH + report.getName() + "/*")
+            .toArray(String[]::new);
+    }
+
+    @GetMapping(PATH + "{report}/{id}")
+    public void getArtifact(@PathVariable String report, @PathVariable Long id,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var artifact = ArtifactService.Report.of(report).flatMap(r -> artifactService.getArtifact(r, id, request.getRemoteUser()));
+        if (artifact.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(artifact.get().getEtag())) {
+            return;
+        }
+
+        var path = artifact.get().getPath();
+        response.setContentType(APPLICATION_PDF_VALUE);
+        response.setContentLengthLong(artifact.get().getSize());
+        response.setHeader(CONTENT_DISPOSITION, ContentDisposition.inline().filename(report + "_" + id + ".pdf").build().toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat sends the file with sendfile, so the content is never copied into the JVM
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, artifact.get().getSize());
+        } else {
+            try (var channel = FileChannel.open(path, READ)) {
+                var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                var out = Channels.newChannel(response.getOutputStream());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+        }
+    }
+}
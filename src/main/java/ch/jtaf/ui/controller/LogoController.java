@@ -0,0 +1,95 @@
+package ch.jtaf.ui.controller;
+
+import ch.jtaf.service.LogoService;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+/**
+ * Serves the logos by their hash. The content behind a hash never changes, so browsers may cache a logo forever and
+ * share it between sessions.
+ */
+@Controller
+public class LogoController {
+
+    public static final String PATH = "/logos/";
+
+    private static final String X_CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+    private static final String CACHE_FOREVER = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().getHeaderValue() + ", immutable";
+
+    private final LogoService logoService;
+
+    public LogoController(LogoService logoService) {
+        this.logoService = logoService;
+    }
+
+    public static String getUrl(String hash) {
+        return PATH + hash;
+    }
+
+    public static String getUrl(String hash, LogoService.Size size) {
+        return PATH + hash + "/" + size.getName();
+    }
+
+    @GetMapping(PATH + "{hash}")
+    public void getLogo(@PathVariable String hash, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(CACHE_CONTROL, CACHE_FOREVER);
+        // The hash is the ETag, so a revalidation doesn't need the database
+        if (new ServletWebRequest(request, response).checkNotModified("\"" + hash + "\"")) {
+            return;
+        }
+
+        var logo = logoService.getLogo(hash);
+        if (logo.isEmpty()) {
+            response.setHeader(CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        write(response, logo.get().getContent(), logo.get().getContentType());
+    }
+
+    @GetMapping(PATH + "{hash}/{size}")
+    public void getThumbnail(@PathVariable String hash, @PathVariable String size,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        var thumbnailSize = LogoService.Size.of(size);
+        if (thumbnailSize.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        var thumbnail = logoService.getThumbnail(hash, thumbnailSize.get());
+        if (thumbnail.isPresent()) {
+            response.setHeader(CACHE_CONTROL, CACHE_FOREVER);
+            if (!new ServletWebRequest(request, response).checkNotModified("\"" + hash + "-" + size + "\"")) {
+                write(response, thumbnail.get().getContent(), thumbnail.get().getContentType());
+            }
+        } else {
+            // Not created yet or not a readable image, the original is served but must not be cached as the thumbnail
+            var logo = logoService.getLogo(hash);
+            if (logo.isEmpty()) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            response.setHeader(CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+            write(response, logo.get().getContent(), logo.get().getContentType());
+        }
+    }
+
+    private void write(HttpServletResponse response, byte[] content, String contentType) throws IOException {
+        // Logos are public, so the browser must never take one for anything else than an image
+        response.setHeader(X_CONTENT_TYPE_OPTIONS, "nosniff");
+        response.setContentType(LogoService.isImage(contentType) ? contentType : APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+}
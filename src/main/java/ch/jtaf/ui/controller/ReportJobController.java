@@ -0,0 +1,49 @@
+package ch.jtaf.ui.controller;
+
+import ch.jtaf.service.ReportJobService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.MediaType.APPLICATION_PDF;
+
+/**
+ * Serves the reports that were created in the background by the {@link ReportJobService}.
+ */
+@Controller
+public class ReportJobController {
+
+    public static final String PATH = "/reports/";
+
+    private final ReportJobService reportJobService;
+
+    public ReportJobController(ReportJobService reportJobService) {
+        this.reportJobService = reportJobService;
+    }
+
+    public static String getUrl(ReportJobService.Job job) {
+        return PATH + job.getId();
+    }
+
+    @GetMapping(PATH + "{id}")
+    public void getReport(@PathVariable String id, HttpServletResponse response) throws IOException {
+        var job = reportJobService.getJob(id).filter(j -> j.getStatus() == ReportJobService.Status.DONE);
+        if (job.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        var path = job.get().getPath();
+        response.setContentType(MediaTypeFactory.getMediaType(job.get().getFileName()).orElse(APPLICATION_PDF).toString());
+        response.setContentLengthLong(Files.size(path));
+        response.setHeader(CONTENT_DISPOSITION, ContentDisposition.inline().filename(job.get().getFileName()).build().toString());
+        Files.copy(path, response.getOutputStream());
+    }
+}
@@ -2,6 +2,7 @@ package ch.jtaf.ui.dialog;
 
 import ch.jtaf.db.tables.records.CompetitionRecord;
 import ch.jtaf.ui.validator.NotEmptyValidator;
+import com.vaadin.flow.component.checkbox.Checkbox;
 import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.textfield.TextField;
 
@@ -28,6 +29,11 @@ public class CompetitionDialog extends EditDialog<CompetitionRecord> {
         binder.forField(date)
             .bind(CompetitionRecord::getCompetitionDate, CompetitionRecord::setCompetitionDate);
 
-        formLayout.add(name, date);
+        Checkbox locked = new Checkbox(getTranslation("Locked"));
+
+        binder.forField(locked)
+            .bind(CompetitionRecord::getLocked, CompetitionRecord::setLocked);
+
+        formLayout.add(name, date, locked);
     }
 }
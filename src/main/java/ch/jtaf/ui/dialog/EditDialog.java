@@ -68,6 +68,7 @@ public abstract class EditDialog<R extends UpdatableRecord<?>> extends Dialog {
             TransactionTemplate transactionTemplate = ApplicationContextHolder.getBean(TransactionTemplate.class);
             transactionTemplate.executeWithoutResult((transactionStatus) -> {
                 dsl.attach(binder.getBean());
+                beforeStore(binder.getBean());
                 binder.getBean().store();
 
                 if (afterSave != null) {
@@ -91,6 +92,12 @@ public abstract class EditDialog<R extends UpdatableRecord<?>> extends Dialog {
 
     public abstract void createForm();
 
+    /**
+     * Called in the transaction before the record is stored, while it still knows its original values.
+     */
+    void beforeStore(R record) {
+    }
+
     @SuppressWarnings("unchecked")
     public void open(UpdatableRecord<?> record, Callback afterSave) {
         binder.setBean((R) record);
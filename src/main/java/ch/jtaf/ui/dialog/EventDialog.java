@@ -1,13 +1,21 @@
 package ch.jtaf.ui.dialog;
 
+import ch.jtaf.context.ApplicationContextHolder;
 import ch.jtaf.db.tables.records.EventRecord;
 import ch.jtaf.model.EventType;
 import ch.jtaf.model.Gender;
+import ch.jtaf.service.PointsRecalculationService;
 import ch.jtaf.ui.validator.NotEmptyValidator;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.converter.StringToDoubleConverter;
 
+import java.util.Objects;
+
+import static ch.jtaf.db.tables.Event.EVENT;
+
 @SuppressWarnings("DuplicatedCode")
 public class EventDialog extends EditDialog<EventRecord> {
 
@@ -73,4 +81,38 @@ public class EventDialog extends EditDialog<EventRecord> {
 
         formLayout.add(abbreviation, name, gender, eventType, a, b, c);
     }
+
+    @Override
+    void beforeStore(EventRecord event) {
+        if (event.getId() != null && isScoringChanged(event)) {
+            UI ui = UI.getCurrent();
+            // Opened when the recalculation starts after the commit and updated after every chunk
+            Notification notification = new Notification();
+            notification.setDuration(0);
+            notification.setPosition(Notification.Position.BOTTOM_START);
+
+            ApplicationContextHolder.getBean(PointsRecalculationService.class)
+                .recalculateAfterCommit(event.getId(), progress -> ui.access(() -> {
+                    notification.setText(getTranslation("Points.Recalculation.Progress",
+                        progress.getProcessed(), progress.getTotal()));
+                    notification.open();
+                }))
+                .whenComplete((progress, e) -> ui.access(() -> {
+                    notification.close();
+                    if (progress != null) {
+                        Notification.show(getTranslation("Points.Recalculation.Finished",
+                            progress.getProcessed(), progress.getElapsedMillis(), progress.getThroughput()));
+                    } else {
+                        Notification.show(getTranslation("Points.Recalculation.Failed"));
+                    }
+                }));
+        }
+    }
+
+    private boolean isScoringChanged(EventRecord event) {
+        return !Objects.equals(event.original(EVENT.EVENT_TYPE), event.getEventType())
+            || !Objects.equals(event.original(EVENT.A), event.getA())
+            || !Objects.equals(event.original(EVENT.B), event.getB())
+            || !Objects.equals(event.original(EVENT.C), event.getC());
+    }
 }
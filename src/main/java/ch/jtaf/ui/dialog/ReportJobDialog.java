@@ -0,0 +1,78 @@
+package ch.jtaf.ui.dialog;
+
+import ch.jtaf.service.ReportJobService;
+import ch.jtaf.ui.controller.ReportJobController;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+
+import java.util.function.Consumer;
+
+/**
+ * Shows the progress of a report that is created in the background and links to it when it is ready. The progress is
+ * pushed to the browser.
+ */
+public class ReportJobDialog extends Dialog {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ReportJobService.Job job;
+    private final transient Consumer<ReportJobService.Job> listener;
+
+    private final Paragraph status = new Paragraph();
+    private final ProgressBar progressBar = new ProgressBar();
+    private final Anchor download;
+
+    public ReportJobDialog(String title, ReportJobService.Job job) {
+        this.job = job;
+
+        setWidth("400px");
+
+        download = new Anchor(ReportJobController.getUrl(job), getTranslation("Download"));
+        download.setTarget("_blank");
+        download.setVisible(false);
+
+        Button close = new Button(getTranslation("Close"));
+        close.addClickListener(event -> close());
+
+        add(new H2(title), status, progressBar, new HorizontalLayout(download, close));
+
+        listener = changedJob -> getUI().ifPresent(ui -> ui.access(this::update));
+        addAttachListener(event -> {
+            job.addListener(listener);
+            update();
+        });
+        addDetachListener(event -> job.removeListener(listener));
+    }
+
+    private void update() {
+        switch (job.getStatus()) {
+            case QUEUED:
+                status.setText(getTranslation("Report.Queued"));
+                progressBar.setIndeterminate(true);
+                break;
+            case RUNNING:
+                status.setText(getTranslation("Report.Pages", job.getPages(), job.getTotalPages()));
+                progressBar.setIndeterminate(job.getTotalPages() == 0);
+                progressBar.setValue(job.getTotalPages() == 0 ? 0 : Math.min(1.0, (double) job.getPages() / job.getTotalPages()));
+                break;
+            case DONE:
+                status.setText(getTranslation("Report.Done", job.getPages()));
+                progressBar.setIndeterminate(false);
+                progressBar.setValue(1.0);
+                download.setVisible(true);
+                break;
+            case REJECTED:
+                status.setText(getTranslation("Report.Busy"));
+                progressBar.setVisible(false);
+                break;
+            default:
+                status.setText(getTranslation("Report.Failed"));
+                progressBar.setVisible(false);
+        }
+    }
+}
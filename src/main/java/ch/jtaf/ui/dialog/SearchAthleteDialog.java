@@ -1,8 +1,10 @@
 package ch.jtaf.ui.dialog;
 
+import ch.jtaf.context.ApplicationContextHolder;
 import ch.jtaf.db.tables.records.AthleteRecord;
 import ch.jtaf.db.tables.records.ClubRecord;
 import ch.jtaf.db.tables.records.OrganizationRecord;
+import ch.jtaf.service.AthleteSearchService;
 import ch.jtaf.ui.component.JooqDataProviderProducer;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.dialog.Dialog;
@@ -32,16 +34,24 @@ public class SearchAthleteDialog extends Dialog {
 
     public static final String FULLSCREEN = "fullscreen";
 
+    private static final int MAXIMUM_RESULTS = 50;
+
     private boolean isFullScreen = false;
     private final Div content;
     private final Button max;
 
     private final Map<Long, ClubRecord> clubRecordMap;
     private final ConfigurableFilterDataProvider<AthleteRecord, Void, String> dataProvider;
+    private final transient AthleteSearchService athleteSearchService;
+    private final Long organizationId;
+    private final Grid<AthleteRecord> grid;
     private AthleteRecord selectedAthleteRecord;
 
     public SearchAthleteDialog(DSLContext dsl, OrganizationRecord organizationRecord,
                                Consumer<AthleteRecord> onSelect) {
+        this.athleteSearchService = ApplicationContextHolder.getBean(AthleteSearchService.class);
+        this.organizationId = organizationRecord.getId();
+
         getElement().getThemeList().add("jtaf-dialog");
         getElement().setAttribute("aria-labelledby", "dialog-title");
 
@@ -74,8 +84,8 @@ public class SearchAthleteDialog extends Dialog {
             () -> new SortField<?>[]{ATHLETE.GENDER.asc(), ATHLETE.YEAR_OF_BIRTH.asc(), ATHLETE.LAST_NAME.asc(),
                 ATHLETE.FIRST_NAME.asc()}).getDataProvider();
 
-        Grid<AthleteRecord> grid = new Grid<>();
-        grid.setDataProvider(dataProvider);
+        grid = new Grid<>();
+        grid.setItems(dataProvider);
         grid.getStyle().set("height", "calc(100% - 300px");
 
         grid.addColumn(AthleteRecord::getLastName).setHeader(getTranslation("Last.Name")).setSortable(true);
@@ -85,7 +95,7 @@ public class SearchAthleteDialog extends Dialog {
         grid.addColumn(athleteRecord -> athleteRecord.getClubId() == null ? null
             : clubRecordMap.get(athleteRecord.getClubId()).getAbbreviation()).setHeader(getTranslation("Club"));
 
-        addActionColumnAndSetSelectionListener(grid, dialog, dataProvider::refreshAll, () -> {
+        addActionColumnAndSetSelectionListener(grid, dialog, () -> search(filter.getValue()), () -> {
             AthleteRecord newRecord = ATHLETE.newRecord();
             newRecord.setOrganizationId(organizationRecord.getId());
             return newRecord;
@@ -94,7 +104,7 @@ public class SearchAthleteDialog extends Dialog {
             close();
         });
 
-        filter.addValueChangeListener(event -> dataProvider.setFilter(event.getValue()));
+        filter.addValueChangeListener(event -> search(event.getValue()));
 
         content = new Div(filter, grid);
         content.addClassName("dialog-content");
@@ -105,6 +115,18 @@ public class SearchAthleteDialog extends Dialog {
         filter.focus();
     }
 
+    /**
+     * Without a search all athletes are shown page by page, otherwise the best matches are searched in memory.
+     */
+    private void search(String search) {
+        if (search == null || search.isBlank()) {
+            grid.setItems(dataProvider);
+            dataProvider.refreshAll();
+        } else {
+            grid.setItems(athleteSearchService.search(organizationId, search, MAXIMUM_RESULTS));
+        }
+    }
+
     private void initialSize() {
         max.setIcon(VaadinIcon.EXPAND_SQUARE.create());
         getElement().getThemeList().remove(FULLSCREEN);
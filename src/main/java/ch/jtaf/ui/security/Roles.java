@@ -4,4 +4,5 @@ public class Roles {
 
     public static final String ADMIN = "ADMIN";
     public static final String USER = "USER";
+    public static final String ACTUATOR = "ACTUATOR";
 }
@@ -1,6 +1,8 @@
 package ch.jtaf.ui.security;
 
 import ch.jtaf.security.UserDetailsServiceImpl;
+import ch.jtaf.ui.controller.ArtifactController;
+import ch.jtaf.ui.controller.LogoController;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -69,8 +71,13 @@ public class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
             // Health Check
             .antMatchers("/actuator/health").permitAll()
 
+            // Metrics
+            .antMatchers("/actuator/**").hasRole(Roles.ACTUATOR)
+
             // Public
             .antMatchers("/").permitAll()
+            .antMatchers(ArtifactController.getPublicPatterns()).permitAll()
+            .antMatchers(LogoController.PATH + "**").permitAll()
 
             // Allow all requests by logged in users.
             .anyRequest().authenticated()
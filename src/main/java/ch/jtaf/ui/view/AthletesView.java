@@ -2,6 +2,7 @@ package ch.jtaf.ui.view;
 
 import ch.jtaf.db.tables.records.AthleteRecord;
 import ch.jtaf.db.tables.records.ClubRecord;
+import ch.jtaf.ui.component.FilterCompiler;
 import ch.jtaf.ui.dialog.AthleteDialog;
 import ch.jtaf.ui.layout.MainLayout;
 import com.vaadin.flow.component.html.H1;
@@ -29,6 +30,10 @@ public class AthletesView extends ProtectedGridView<AthleteRecord> {
 
     public AthletesView(DSLContext dsl) {
         super(dsl, ATHLETE);
+        dataProviderProducer.setFilterCompiler(new FilterCompiler()
+            .numbers(ATHLETE.ID, ATHLETE.YEAR_OF_BIRTH)
+            .text(ATHLETE.LAST_NAME)
+            .text(ATHLETE.FIRST_NAME));
 
         setHeightFull();
 
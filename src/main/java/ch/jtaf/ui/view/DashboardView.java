@@ -1,14 +1,19 @@
 package ch.jtaf.ui.view;
 
+import ch.jtaf.service.ArtifactService;
 import ch.jtaf.service.CompetitionRankingService;
+import ch.jtaf.service.DashboardService;
+import ch.jtaf.service.LogoService;
 import ch.jtaf.service.SeriesRankingService;
+import ch.jtaf.ui.component.Logo;
+import ch.jtaf.ui.controller.ArtifactController;
 import ch.jtaf.ui.layout.MainLayout;
 import ch.jtaf.ui.security.SecurityContext;
+import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H1;
 import com.vaadin.flow.component.html.H2;
-import com.vaadin.flow.component.html.Image;
 import com.vaadin.flow.component.html.Paragraph;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
@@ -16,83 +21,103 @@ import com.vaadin.flow.router.HasDynamicTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouterLink;
 import com.vaadin.flow.server.StreamResource;
-import org.jooq.DSLContext;
-import org.jooq.impl.DSL;
-
-import java.io.ByteArrayInputStream;
-
-import static ch.jtaf.db.tables.Competition.COMPETITION;
-import static ch.jtaf.db.tables.Series.SERIES;
-import static ch.jtaf.util.LogoUtil.resizeLogo;
+import java.util.List;
 
 @Route(value = "", layout = MainLayout.class)
 public class DashboardView extends VerticalLayout implements HasDynamicTitle {
 
     private static final long serialVersionUID = 1L;
 
-    public DashboardView(DSLContext dsl, SeriesRankingService seriesRankingService, CompetitionRankingService competitionRankingService) {
+    // Series shown at once, older ones are added on demand
+    private static final int PAGE_SIZE = 10;
+
+    private final transient SeriesRankingService seriesRankingService;
+    private final transient CompetitionRankingService competitionRankingService;
+    private final transient LogoService logoService;
+    private final transient ArtifactService artifactService;
+
+    private final transient List<DashboardService.Series> allSeries;
+    private final VerticalLayout verticalLayout = new VerticalLayout();
+    private final Button showMore = new Button(getTranslation("Show.More"));
+    private int shown;
+
+    public DashboardView(DashboardService dashboardService, SeriesRankingService seriesRankingService,
+                         CompetitionRankingService competitionRankingService, LogoService logoService,
+                         ArtifactService artifactService) {
+        this.seriesRankingService = seriesRankingService;
+        this.competitionRankingService = competitionRankingService;
+        this.logoService = logoService;
+        this.artifactService = artifactService;
+
         add(new H1(getTranslation("Dashboard")));
 
-        VerticalLayout verticalLayout = new VerticalLayout();
         verticalLayout.setWidthFull();
         add(verticalLayout);
 
-        dsl.selectFrom(SERIES)
-            .orderBy(DSL.field(dsl.select(DSL.max(COMPETITION.COMPETITION_DATE)).from(COMPETITION).where(COMPETITION.SERIES_ID.eq(SERIES.ID))).desc())
-            .fetch()
-            .forEach(series -> {
-                HorizontalLayout seriesLayout = new HorizontalLayout();
-                seriesLayout.setDefaultVerticalComponentAlignment(Alignment.END);
-
-                verticalLayout.add(seriesLayout);
-
-                Image logo = resizeLogo(series);
-                Div divLogo = new Div(logo);
-                divLogo.setWidth("100px");
-                seriesLayout.add(divLogo);
-
-                H2 h2SeriesName = new H2(series.getName());
-                h2SeriesName.setWidth("400px");
-                seriesLayout.add(h2SeriesName);
-
-                Anchor seriesRanking = new Anchor(new StreamResource("series_ranking" + series.getId() + ".pdf",
-                    () -> {
-                        byte[] pdf = seriesRankingService.getSeriesRankingAsPdf(series.getId());
-                        return new ByteArrayInputStream(pdf);
-                    }), getTranslation("Series.Ranking"));
-                seriesRanking.setTarget("_blank");
-
-                seriesLayout.add(new Paragraph(seriesRanking));
-
-                dsl.selectFrom(COMPETITION)
-                    .where(COMPETITION.SERIES_ID.eq(series.getId()))
-                    .fetch()
-                    .forEach(competition -> {
-                        HorizontalLayout competitionLayout = new HorizontalLayout();
-                        verticalLayout.add(competitionLayout);
-
-                        Paragraph pCompetition = new Paragraph(competition.getName() + " " + competition.getCompetitionDate());
-                        pCompetition.setWidth("515px");
-                        competitionLayout.add(pCompetition);
-
-                        Anchor competitionRanking = new Anchor(new StreamResource("competition_ranking" + competition.getId() + ".pdf",
-                            () -> {
-                                byte[] pdf = competitionRankingService.getCompetitionRankingAsPdf(competition.getId());
-                                return new ByteArrayInputStream(pdf);
-                            }), getTranslation("Competition.Ranking"));
-                        competitionRanking.setTarget("_blank");
-
-                        HorizontalLayout links = new HorizontalLayout(competitionRanking);
-
-                        if (SecurityContext.isUserLoggedIn()) {
-                            RouterLink enterResults = new RouterLink(getTranslation("Enter.Results"),
-                                ResultCapturingView.class, competition.getId().toString());
-                            links.add(enterResults);
-                        }
-
-                        competitionLayout.add(links);
-                    });
-            });
+        showMore.addClickListener(event -> showNextPage());
+        add(showMore);
+
+        allSeries = dashboardService.getSeries();
+        showNextPage();
+    }
+
+    private void showNextPage() {
+        int end = Math.min(shown + PAGE_SIZE, allSeries.size());
+        allSeries.subList(shown, end).forEach(this::addSeries);
+        shown = end;
+        showMore.setVisible(shown < allSeries.size());
+    }
+
+    private void addSeries(DashboardService.Series series) {
+        HorizontalLayout seriesLayout = new HorizontalLayout();
+        seriesLayout.setDefaultVerticalComponentAlignment(Alignment.END);
+
+        verticalLayout.add(seriesLayout);
+
+        Div divLogo = new Div(new Logo(logoService, series.getLogoHash(), 60));
+        divLogo.setWidth("100px");
+        seriesLayout.add(divLogo);
+
+        H2 h2SeriesName = new H2(series.getName());
+        h2SeriesName.setWidth("400px");
+        seriesLayout.add(h2SeriesName);
+
+        // The reports of locked series and competitions are stored and served by the ArtifactController once rendered
+        Anchor seriesRanking = series.isLocked() && artifactService.isStored(ArtifactService.Report.SERIES_RANKING, series.getId())
+            ? new Anchor(ArtifactController.getUrl(ArtifactService.Report.SERIES_RANKING, series.getId()), getTranslation("Series.Ranking"))
+            : new Anchor(new StreamResource("series_ranking" + series.getId() + ".pdf",
+            (outputStream, session) -> seriesRankingService.writeSeriesRankingAsPdf(series.getId(), outputStream)),
+            getTranslation("Series.Ranking"));
+        seriesRanking.setTarget("_blank");
+
+        seriesLayout.add(new Paragraph(seriesRanking));
+
+        series.getCompetitions().forEach(competition -> {
+            HorizontalLayout competitionLayout = new HorizontalLayout();
+            verticalLayout.add(competitionLayout);
+
+            Paragraph pCompetition = new Paragraph(competition.getName() + " " + competition.getCompetitionDate());
+            pCompetition.setWidth("515px");
+            competitionLayout.add(pCompetition);
+
+            Anchor competitionRanking = (series.isLocked() || competition.isLocked())
+                && artifactService.isStored(ArtifactService.Report.COMPETITION_RANKING, competition.getId())
+                ? new Anchor(ArtifactController.getUrl(ArtifactService.Report.COMPETITION_RANKING, competition.getId()), getTranslation("Competition.Ranking"))
+                : new Anchor(new StreamResource("competition_ranking" + competition.getId() + ".pdf",
+                (outputStream, session) -> competitionRankingService.writeCompetitionRankingAsPdf(competition.getId(), outputStream)),
+                getTranslation("Competition.Ranking"));
+            competitionRanking.setTarget("_blank");
+
+            HorizontalLayout links = new HorizontalLayout(competitionRanking);
+
+            if (SecurityContext.isUserLoggedIn()) {
+                RouterLink enterResults = new RouterLink(getTranslation("Enter.Results"),
+                    ResultCapturingView.class, competition.getId().toString());
+                links.add(enterResults);
+            }
+
+            competitionLayout.add(links);
+        });
     }
 
     @Override
@@ -14,6 +14,7 @@ public abstract class ProtectedGridView<R extends Record> extends ProtectedView
     private static final long serialVersionUID = 1L;
 
     final Table<R> table;
+    final JooqDataProviderProducer<R> dataProviderProducer;
     final ConfigurableFilterDataProvider<R, Void, String> dataProvider;
     final Grid<R> grid;
 
@@ -21,7 +22,8 @@ public abstract class ProtectedGridView<R extends Record> extends ProtectedView
         super(dsl);
         this.table = table;
 
-        dataProvider = new JooqDataProviderProducer<>(dsl, table, this::initialCondition, this::initialSort).getDataProvider();
+        dataProviderProducer = new JooqDataProviderProducer<>(dsl, table, this::initialCondition, this::initialSort);
+        dataProvider = dataProviderProducer.getDataProvider();
 
         grid = new Grid<>();
         grid.setHeightFull();
@@ -3,7 +3,11 @@ package ch.jtaf.ui.view;
 import ch.jtaf.db.tables.records.EventRecord;
 import ch.jtaf.db.tables.records.ResultRecord;
 import ch.jtaf.model.EventType;
+import ch.jtaf.service.AthleteSearchService;
+import ch.jtaf.service.DataVersions;
+import ch.jtaf.service.ScoringService;
 import ch.jtaf.ui.layout.MainLayout;
+import ch.jtaf.util.ResultParser;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.formlayout.FormLayout;
 import com.vaadin.flow.component.grid.Grid;
@@ -18,15 +22,15 @@ import com.vaadin.flow.router.BeforeEvent;
 import com.vaadin.flow.router.HasDynamicTitle;
 import com.vaadin.flow.router.HasUrlParameter;
 import com.vaadin.flow.router.Route;
-import org.apache.commons.lang3.StringUtils;
-import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record4;
-import org.jooq.Result;
-import org.jooq.impl.DSL;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static ch.jtaf.db.tables.Athlete.ATHLETE;
 import static ch.jtaf.db.tables.Category.CATEGORY;
@@ -35,33 +39,43 @@ import static ch.jtaf.db.tables.CategoryEvent.CATEGORY_EVENT;
 import static ch.jtaf.db.tables.Competition.COMPETITION;
 import static ch.jtaf.db.tables.Event.EVENT;
 import static ch.jtaf.db.tables.Result.RESULT;
+import static ch.jtaf.db.tables.Series.SERIES;
 
 @Route(layout = MainLayout.class)
 public class ResultCapturingView extends VerticalLayout implements HasDynamicTitle, HasUrlParameter<String> {
 
     private static final long serialVersionUID = 1L;
 
+    private static final int MAXIMUM_RESULTS = 50;
+
     private final Grid<Record4<Long, String, String, Long>> grid = new Grid<>();
     private final ConfigurableFilterDataProvider<Record4<Long, String, String, Long>, Void, String> dataProvider;
     private TextField resultTextField;
 
+    private final transient DSLContext dsl;
+    private final transient AthleteSearchService athleteSearchService;
+    private final transient DataVersions dataVersions;
+
     private long competitionId;
+    private Long seriesId;
+    private Long organizationId;
+    // Reloaded when athletes are assigned to the categories of the series, an athlete can be in more than one
+    private final Map<Long, List<Long>> categoryIdsOfAthletes = new HashMap<>();
+    private long categoriesVersion = -1;
+
+    public ResultCapturingView(DSLContext dsl, TransactionTemplate transactionTemplate, ScoringService scoringService,
+                               AthleteSearchService athleteSearchService, DataVersions dataVersions) {
+        this.dsl = dsl;
+        this.athleteSearchService = athleteSearchService;
+        this.dataVersions = dataVersions;
 
-    public ResultCapturingView(DSLContext dsl, TransactionTemplate transactionTemplate) {
         add(new H1(getTranslation("Enter.Results")));
 
         CallbackDataProvider<Record4<Long, String, String, Long>, String> callbackDataProvider = new CallbackDataProvider<>(
             query -> {
-                Result<Record4<Long, String, String, Long>> records = dsl
-                    .select(ATHLETE.ID, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME, CATEGORY.ID)
-                    .from(ATHLETE)
-                    .join(CATEGORY_ATHLETE).on(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
-                    .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
-                    .join(COMPETITION).on(COMPETITION.SERIES_ID.eq(CATEGORY.SERIES_ID))
-                    .where(COMPETITION.ID.eq(competitionId).and(createCondition(query)))
-                    .orderBy(ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME)
-                    .offset(query.getOffset()).limit(query.getLimit())
-                    .fetch();
+                List<Record4<Long, String, String, Long>> records = search(query).stream()
+                    .skip(query.getOffset()).limit(query.getLimit())
+                    .collect(Collectors.toList());
                 if (records.size() == 1) {
                     grid.select(records.get(0));
                     if (resultTextField != null) {
@@ -70,15 +84,9 @@ public class ResultCapturingView extends VerticalLayout implements HasDynamicTit
                 }
                 return records.stream();
             },
-            query -> dsl
-                .selectCount()
-                .from(ATHLETE)
-                .join(CATEGORY_ATHLETE).on(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
-                .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
-                .join(COMPETITION).on(COMPETITION.SERIES_ID.eq(CATEGORY.SERIES_ID))
-                .where(COMPETITION.ID.eq(competitionId).and(createCondition(query)))
-                .fetchOneInto(Integer.class),
-            record -> record.get(ATHLETE.ID)
+            query -> search(query).size(),
+            // An athlete in two categories has two rows
+            record -> List.of(record.get(ATHLETE.ID), record.get(CATEGORY.ID))
         );
         dataProvider = callbackDataProvider.withConfigurableFilter();
 
@@ -137,11 +145,14 @@ public class ResultCapturingView extends VerticalLayout implements HasDynamicTit
                     points.setValue(resultRecord.getPoints() == null ? "" : resultRecord.getPoints().toString());
                     formLayout.add(points);
 
+                    EventType eventType = EventType.valueOf(eventRecord.getEventType());
                     result.addValueChangeListener(ve ->
                         transactionTemplate.executeWithoutResult(ts -> {
                             String resultValue = ve.getValue();
+                            long value = eventType.parseResult(resultValue);
                             resultRecord.setResult(resultValue);
-                            resultRecord.setPoints(calculatePoints(eventRecord, resultValue));
+                            resultRecord.setResultValue(value == ResultParser.INVALID ? null : value);
+                            resultRecord.setPoints(scoringService.score(eventRecord, value));
                             points.setValue(resultRecord.getPoints() == null ? "" : resultRecord.getPoints().toString());
 
                             resultRecord.store();
@@ -151,18 +162,25 @@ public class ResultCapturingView extends VerticalLayout implements HasDynamicTit
         });
     }
 
-    private Condition createCondition(Query<?, ?> query) {
-        if (query.getFilter().isPresent()) {
-            String filterString = (String) query.getFilter().get();
-            if (StringUtils.isNumeric(filterString)) {
-                return ATHLETE.ID.eq(Long.valueOf(filterString));
-            } else {
-                return ATHLETE.LAST_NAME.like(filterString + "%")
-                    .or(ATHLETE.FIRST_NAME.like(filterString + "%"));
-            }
-        } else {
-            return DSL.condition("1 = 2");
+    /**
+     * Searches the athletes of the series in memory, so typing doesn't query the database. A number is the start number,
+     * so it only matches the id.
+     */
+    private List<Record4<Long, String, String, Long>> search(Query<?, String> query) {
+        if (organizationId == null || query.getFilter().isEmpty()) {
+            return List.of();
         }
+        loadCategoriesOfAthletes();
+        return athleteSearchService.search(organizationId, query.getFilter().get(), categoryIdsOfAthletes::containsKey,
+                false, MAXIMUM_RESULTS)
+            .stream()
+            // One row per category, the results are entered for each category of the athlete
+            .flatMap(athlete -> categoryIdsOfAthletes.get(athlete.getId()).stream().map(categoryId -> {
+                var record = dsl.newRecord(ATHLETE.ID, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME, CATEGORY.ID);
+                record.values(athlete.getId(), athlete.getLastName(), athlete.getFirstName(), categoryId);
+                return record;
+            }))
+            .collect(Collectors.toList());
     }
 
     @Override
@@ -177,28 +195,35 @@ public class ResultCapturingView extends VerticalLayout implements HasDynamicTit
         } else {
             competitionId = Long.parseLong(parameter);
 
+            var series = dsl
+                .select(SERIES.ID, SERIES.ORGANIZATION_ID)
+                .from(COMPETITION)
+                .join(SERIES).on(SERIES.ID.eq(COMPETITION.SERIES_ID))
+                .where(COMPETITION.ID.eq(competitionId))
+                .fetchOne();
+            seriesId = series == null ? null : series.get(SERIES.ID);
+            organizationId = series == null ? null : series.get(SERIES.ORGANIZATION_ID);
+            categoriesVersion = -1;
+
             dataProvider.refreshAll();
         }
     }
 
-    private int calculatePoints(EventRecord event, String result) {
-        double points = 0.0d;
-        if (result != null && Double.parseDouble(result) > 0) {
-            if (EventType.valueOf(event.getEventType()) == EventType.RUN) {
-                points = event.getA() * Math.pow((event.getB() - Double.parseDouble(result) * 100) / 100, event.getC());
-            } else if (EventType.valueOf(event.getEventType()) == EventType.RUN_LONG) {
-                String[] parts = result.split("\\.");
-                double time;
-                if (parts.length == 1) {
-                    time = Double.parseDouble(parts[0]) * 60;
-                } else {
-                    time = Double.parseDouble(parts[0]) * 60 + Double.parseDouble(parts[1]);
-                }
-                points = event.getA() * Math.pow((event.getB() - time * 100) / 100, event.getC());
-            } else if (EventType.valueOf(event.getEventType()) == EventType.JUMP_THROW) {
-                points = event.getA() * Math.pow((Double.parseDouble(result) * 100 - event.getB()) / 100, event.getC());
-            }
+    private void loadCategoriesOfAthletes() {
+        // The version is read first, so a change while loading is loaded again with the next search
+        long version = dataVersions.getSeriesDataVersion(seriesId);
+        if (version == categoriesVersion) {
+            return;
         }
-        return (int) Math.round(points);
+        categoryIdsOfAthletes.clear();
+        dsl.select(CATEGORY_ATHLETE.ATHLETE_ID, CATEGORY.ID)
+            .from(CATEGORY_ATHLETE)
+            .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
+            .where(CATEGORY.SERIES_ID.eq(seriesId))
+            .orderBy(CATEGORY.ABBREVIATION)
+            .fetch()
+            .forEach(record -> categoryIdsOfAthletes.computeIfAbsent(record.value1(), athleteId -> new ArrayList<>())
+                .add(record.value2()));
+        categoriesVersion = version;
     }
 }
@@ -1,8 +1,9 @@
 package ch.jtaf.ui.view;
 
 import ch.jtaf.db.tables.records.SeriesRecord;
+import ch.jtaf.service.LogoService;
+import ch.jtaf.ui.component.Logo;
 import ch.jtaf.ui.layout.MainLayout;
-import ch.jtaf.util.LogoUtil;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
@@ -27,7 +28,7 @@ public class SeriesListView extends ProtectedGridView<SeriesRecord> {
 
     private static final long serialVersionUID = 1L;
 
-    public SeriesListView(DSLContext dsl) {
+    public SeriesListView(DSLContext dsl, LogoService logoService) {
         super(dsl, SERIES);
 
         setHeightFull();
@@ -37,13 +38,15 @@ public class SeriesListView extends ProtectedGridView<SeriesRecord> {
         Button add = new Button(getTranslation("Add"));
         add.addClickListener(event -> UI.getCurrent().navigate(SeriesView.class));
 
-        grid.addComponentColumn(LogoUtil::resizeLogo).setHeader(getTranslation("Logo"));
+        grid.addComponentColumn(seriesRecord -> new Logo(logoService, seriesRecord.getLogoHash(), 60)).setHeader(getTranslation("Logo"));
         grid.addColumn(SeriesRecord::getName).setHeader(getTranslation("Name")).setSortable(true);
 
-        grid.addColumn(seriesRecord -> dsl.select(DSL.count(CATEGORY_ATHLETE.ATHLETE_ID)).from(CATEGORY_ATHLETE)
-            .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
-            .where(CATEGORY.SERIES_ID.eq(seriesRecord.getId())).fetchOneInto(Integer.class))
-            .setHeader(getTranslation("Number.of.Athletes"));
+        var numberOfAthletes = dataProviderProducer.addAggregate("number_of_athletes",
+            DSL.field(DSL.select(DSL.count(CATEGORY_ATHLETE.ATHLETE_ID)).from(CATEGORY_ATHLETE)
+                .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
+                .where(CATEGORY.SERIES_ID.eq(SERIES.ID))));
+        grid.addColumn(numberOfAthletes::get).setHeader(getTranslation("Number.of.Athletes"))
+            .setSortable(true).setSortProperty("number_of_athletes");
 
         grid.addComponentColumn(seriesRecord -> {
             Checkbox hidden = new Checkbox();
@@ -3,12 +3,17 @@ package ch.jtaf.ui.view;
 import ch.jtaf.context.ApplicationContextHolder;
 import ch.jtaf.db.tables.records.AthleteRecord;
 import ch.jtaf.db.tables.records.CategoryRecord;
-import ch.jtaf.db.tables.records.ClubRecord;
 import ch.jtaf.db.tables.records.CompetitionRecord;
 import ch.jtaf.db.tables.records.SeriesRecord;
+import ch.jtaf.service.LogoService;
 import ch.jtaf.service.NumberAndSheetsService;
+import ch.jtaf.service.ReportBusyException;
+import ch.jtaf.service.ReportJobService;
+import ch.jtaf.ui.component.JooqDataProviderProducer;
+import ch.jtaf.ui.component.Logo;
 import ch.jtaf.ui.dialog.CategoryDialog;
 import ch.jtaf.ui.dialog.CompetitionDialog;
+import ch.jtaf.ui.dialog.ReportJobDialog;
 import ch.jtaf.ui.dialog.SearchAthleteDialog;
 import ch.jtaf.ui.layout.MainLayout;
 import ch.jtaf.ui.validator.NotEmptyValidator;
@@ -21,12 +26,16 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.Anchor;
 import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
 import com.vaadin.flow.data.binder.Binder;
+import com.vaadin.flow.data.provider.ConfigurableFilterDataProvider;
 import com.vaadin.flow.data.renderer.ComponentRenderer;
 import com.vaadin.flow.router.BeforeEvent;
 import com.vaadin.flow.router.HasUrlParameter;
@@ -34,13 +43,17 @@ import com.vaadin.flow.router.OptionalParameter;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.server.StreamResource;
 import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.SortField;
 import org.jooq.UpdatableRecord;
+import org.jooq.impl.DSL;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.io.ByteArrayInputStream;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static ch.jtaf.context.ApplicationContextHolder.getBean;
 import static ch.jtaf.db.tables.Athlete.ATHLETE;
@@ -56,24 +69,32 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
 
     private static final long serialVersionUID = 1L;
     private static final String BLANK = "_blank";
+    private static final int MAX_LOGO_SIZE = 2 * 1024 * 1024;
 
     private final transient NumberAndSheetsService numberAndSheetsService;
+    private final transient ReportJobService reportJobService;
+    private final transient LogoService logoService;
 
     private SeriesRecord seriesRecord;
+    private final Logo logo;
 
     private Grid<CompetitionRecord> competitionsGrid;
     private Grid<CategoryRecord> categoriesGrid;
     private Grid<AthleteRecord> athletesGrid;
+    private JooqDataProviderProducer<AthleteRecord> athletesDataProviderProducer;
 
     final Tabs sectionTabs = new Tabs();
+    private final Map<Tab, Section<?>> sections = new LinkedHashMap<>();
 
     private final transient Binder<SeriesRecord> binder = new Binder<>();
 
-    private Map<Long, ClubRecord> clubRecordMap;
-
-    public SeriesView(DSLContext dsl, NumberAndSheetsService numberAndSheetsService) {
+    public SeriesView(DSLContext dsl, NumberAndSheetsService numberAndSheetsService, ReportJobService reportJobService,
+                      LogoService logoService) {
         super(dsl);
         this.numberAndSheetsService = numberAndSheetsService;
+        this.reportJobService = reportJobService;
+        this.logoService = logoService;
+        this.logo = new Logo(logoService, null, 60);
 
         H3 h3Title = new H3(getTranslation("Series"));
         h3Title.getStyle().set("margin-top", "0px");
@@ -102,6 +123,28 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
         binder.forField(locked)
             .bind(SeriesRecord::getLocked, SeriesRecord::setLocked);
 
+        // The logo is stored right away, the series references it after saving
+        MemoryBuffer buffer = new MemoryBuffer();
+        Upload upload = new Upload(buffer);
+        upload.setAcceptedFileTypes("image/png", "image/jpeg", "image/gif");
+        upload.setMaxFileSize(MAX_LOGO_SIZE);
+        upload.addSucceededListener(event -> {
+            try (var inputStream = buffer.getInputStream()) {
+                var hash = logoService.store(inputStream.readAllBytes());
+                if (hash.isPresent()) {
+                    binder.getBean().setLogoHash(hash.get());
+                    logo.setHash(hash.get());
+                } else {
+                    Notification.show(getTranslation("Logo.Invalid"));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        HorizontalLayout logoLayout = new HorizontalLayout(logo, upload);
+        logoLayout.setDefaultVerticalComponentAlignment(Alignment.CENTER);
+        formLayout.add(logoLayout);
+
         Button save = new Button(getTranslation("Save"));
         save.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
         save.addClickListener(event -> {
@@ -132,44 +175,29 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
         Tab tabAthletes = new Tab(getTranslation("Athletes"));
         sectionTabs.add(tabAthletes);
 
-        Map<Tab, Grid<? extends UpdatableRecord<?>>> tabsToGrids = new HashMap<>();
-        tabsToGrids.put(tabCompetitions, competitionsGrid);
-        tabsToGrids.put(tabCategories, categoriesGrid);
-        tabsToGrids.put(tabAthletes, athletesGrid);
+        // A tab loads its rows when it is selected for the first time, and then only the pages that are shown
+        sections.put(tabCompetitions, new Section<>(competitionsGrid, new JooqDataProviderProducer<>(dsl, COMPETITION,
+            () -> COMPETITION.SERIES_ID.eq(seriesRecord.getId()),
+            () -> new SortField<?>[]{COMPETITION.COMPETITION_DATE.asc()})));
+        sections.put(tabCategories, new Section<>(categoriesGrid, new JooqDataProviderProducer<>(dsl, CATEGORY,
+            () -> CATEGORY.SERIES_ID.eq(seriesRecord.getId()),
+            () -> new SortField<?>[]{CATEGORY.ABBREVIATION.asc()})));
+        sections.put(tabAthletes, new Section<>(athletesGrid, athletesDataProviderProducer));
 
         categoriesGrid.setVisible(false);
         athletesGrid.setVisible(false);
 
         sectionTabs.addSelectedChangeListener(event -> {
-            tabsToGrids.values().forEach(grid -> grid.setVisible(false));
+            sections.values().forEach(section -> section.grid.setVisible(false));
 
-            var selectedGrid = tabsToGrids.get(sectionTabs.getSelectedTab());
-            selectedGrid.setVisible(true);
+            sections.get(sectionTabs.getSelectedTab()).show();
         });
     }
 
     @Override
     protected void refreshAll() {
-        var competitionRecords = dsl.selectFrom(COMPETITION).where(COMPETITION.SERIES_ID.eq(seriesRecord.getId()))
-            .orderBy(COMPETITION.COMPETITION_DATE).fetch();
-        competitionsGrid.setItems(competitionRecords);
-
-        var categoryRecords = dsl.selectFrom(CATEGORY).where(CATEGORY.SERIES_ID.eq(seriesRecord.getId()))
-            .orderBy(CATEGORY.ABBREVIATION).fetch();
-        categoriesGrid.setItems(categoryRecords);
-
-        var clubs = dsl.selectFrom(CLUB).where(CLUB.ORGANIZATION_ID.eq(organizationRecord.getId())).fetch();
-        clubRecordMap = clubs.stream().collect(Collectors.toMap(ClubRecord::getId, clubRecord -> clubRecord));
-
-        var athleteRecords = dsl
-            .select()
-            .from(ATHLETE)
-            .join(CATEGORY_ATHLETE).on(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
-            .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
-            .where(CATEGORY.SERIES_ID.eq(seriesRecord.getId()))
-            .orderBy(CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME)
-            .fetchInto(ATHLETE);
-        athletesGrid.setItems(athleteRecords);
+        sections.values().forEach(Section::refresh);
+        sections.get(sectionTabs.getSelectedTab()).show();
     }
 
     @Override
@@ -182,6 +210,7 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
             seriesRecord = dsl.selectFrom(SERIES).where(SERIES.ID.eq(seriesId)).fetchOne();
         }
         binder.setBean(seriesRecord);
+        logo.setHash(seriesRecord.getLogoHash());
     }
 
     @Override
@@ -194,42 +223,37 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
 
         competitionsGrid = new Grid<>();
         competitionsGrid.setHeightFull();
-        competitionsGrid.addColumn(CompetitionRecord::getName).setHeader(getTranslation("Name")).setSortable(true);
-        competitionsGrid.addColumn(CompetitionRecord::getCompetitionDate).setHeader(getTranslation("Date")).setSortable(true);
+        competitionsGrid.addColumn(CompetitionRecord::getName).setHeader(getTranslation("Name"))
+            .setSortable(true).setSortProperty(COMPETITION.NAME.getName());
+        competitionsGrid.addColumn(CompetitionRecord::getCompetitionDate).setHeader(getTranslation("Date"))
+            .setSortable(true).setSortProperty(COMPETITION.COMPETITION_DATE.getName());
         competitionsGrid.addColumn(new ComponentRenderer<>(competition -> {
-            Anchor sheetsOrderedByAthlete = new Anchor(new StreamResource("sheets_orderby_athlete" + competition.getId() + ".pdf",
-                () -> {
-                    byte[] pdf = numberAndSheetsService.createSheets(competition.getId(),
-                        CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME);
-                    return new ByteArrayInputStream(pdf);
-                }), getTranslation("Sheets"));
-            sheetsOrderedByAthlete.setTarget(BLANK);
-
-            Anchor sheetsOrderedByClub = new Anchor(new StreamResource("sheets_orderby_club" + competition.getId() + ".pdf",
-                () -> {
-                    byte[] pdf = numberAndSheetsService.createSheets(competition.getId(),
-                        CLUB.ABBREVIATION, CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME);
-                    return new ByteArrayInputStream(pdf);
-                }), getTranslation("Ordered.by.club"));
-            sheetsOrderedByClub.setTarget(BLANK);
-
-            Anchor numbersOrderedByAthlete = new Anchor(new StreamResource("numbers_orderby_athlete" + competition.getId() + ".pdf",
-                () -> {
-                    byte[] pdf = numberAndSheetsService.createNumbers(competition.getId(),
-                        CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME);
-                    return new ByteArrayInputStream(pdf);
-                }), getTranslation("Numbers"));
-            numbersOrderedByAthlete.setTarget(BLANK);
-
-            Anchor numbersOrderedByClub = new Anchor(new StreamResource("numbers_orderby_club" + competition.getId() + ".pdf",
-                () -> {
-                    byte[] pdf = numberAndSheetsService.createNumbers(competition.getId(),
-                        CLUB.ABBREVIATION, CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME);
-                    return new ByteArrayInputStream(pdf);
-                }), getTranslation("Ordered.by.club"));
-            numbersOrderedByClub.setTarget(BLANK);
-
-            return new HorizontalLayout(sheetsOrderedByAthlete, sheetsOrderedByClub, numbersOrderedByAthlete, numbersOrderedByClub);
+            // Sheets, numbers and diplomas take a while for large series, so they are created in the background
+            Button sheetsOrderedByAthlete = createReportJobButton(getTranslation("Sheets"),
+                () -> reportJobService.submitSheets(competition.getId(), CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME));
+
+            Button sheetsOrderedByClub = createReportJobButton(getTranslation("Ordered.by.club"),
+                () -> reportJobService.submitSheets(competition.getId(),
+                    CLUB.ABBREVIATION, CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME));
+
+            Button numbersOrderedByAthlete = createReportJobButton(getTranslation("Numbers"),
+                () -> reportJobService.submitNumbers(competition.getId(), CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME));
+
+            Button numbersOrderedByClub = createReportJobButton(getTranslation("Ordered.by.club"),
+                () -> reportJobService.submitNumbers(competition.getId(),
+                    CLUB.ABBREVIATION, CATEGORY.ABBREVIATION, ATHLETE.LAST_NAME, ATHLETE.FIRST_NAME));
+
+            Button diplomas = createReportJobButton(getTranslation("Diploma"),
+                () -> reportJobService.submitDiplomas(competition.getId()));
+
+            Button bundle = createReportJobButton(getTranslation("Bundle"),
+                () -> reportJobService.submitBundle(competition.getId(), false));
+
+            Button bundlePerClub = createReportJobButton(getTranslation("Bundle.Per.club"),
+                () -> reportJobService.submitBundle(competition.getId(), true));
+
+            return new HorizontalLayout(sheetsOrderedByAthlete, sheetsOrderedByClub, numbersOrderedByAthlete, numbersOrderedByClub,
+                diplomas, bundle, bundlePerClub);
         }));
 
         addActionColumnAndSetSelectionListener(competitionsGrid, dialog, this::refreshAll, () -> {
@@ -239,21 +263,35 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
         });
     }
 
+    private Button createReportJobButton(String text, Supplier<ReportJobService.Job> submit) {
+        Button button = new Button(text);
+        button.addThemeVariants(ButtonVariant.LUMO_TERTIARY_INLINE);
+        button.addClickListener(event -> {
+            try {
+                new ReportJobDialog(text, submit.get()).open();
+            } catch (ReportBusyException e) {
+                Notification.show(getTranslation("Report.Busy"));
+            }
+        });
+        return button;
+    }
+
     private void createCategoriesSection() {
         CategoryDialog dialog = new CategoryDialog(getTranslation("Category"));
 
         categoriesGrid = new Grid<>();
         categoriesGrid.setHeightFull();
-        categoriesGrid.addColumn(CategoryRecord::getAbbreviation).setHeader(getTranslation("Abbreviation")).setSortable(true);
-        categoriesGrid.addColumn(CategoryRecord::getName).setHeader(getTranslation("Name")).setSortable(true);
-        categoriesGrid.addColumn(CategoryRecord::getYearFrom).setHeader(getTranslation("Year.From")).setSortable(true);
-        categoriesGrid.addColumn(CategoryRecord::getYearTo).setHeader(getTranslation("Year.To")).setSortable(true);
+        categoriesGrid.addColumn(CategoryRecord::getAbbreviation).setHeader(getTranslation("Abbreviation"))
+            .setSortable(true).setSortProperty(CATEGORY.ABBREVIATION.getName());
+        categoriesGrid.addColumn(CategoryRecord::getName).setHeader(getTranslation("Name"))
+            .setSortable(true).setSortProperty(CATEGORY.NAME.getName());
+        categoriesGrid.addColumn(CategoryRecord::getYearFrom).setHeader(getTranslation("Year.From"))
+            .setSortable(true).setSortProperty(CATEGORY.YEAR_FROM.getName());
+        categoriesGrid.addColumn(CategoryRecord::getYearTo).setHeader(getTranslation("Year.To"))
+            .setSortable(true).setSortProperty(CATEGORY.YEAR_TO.getName());
         categoriesGrid.addColumn(new ComponentRenderer<>(category -> {
             Anchor sheet = new Anchor(new StreamResource("sheet" + category.getId() + ".pdf",
-                () -> {
-                    byte[] pdf = numberAndSheetsService.createEmptySheets(seriesRecord.getId(), category.getId());
-                    return new ByteArrayInputStream(pdf);
-                }), getTranslation("Sheets"));
+                (outputStream, session) -> numberAndSheetsService.createEmptySheets(seriesRecord.getId(), category.getId(), outputStream)), getTranslation("Sheets"));
             sheet.setTarget(BLANK);
 
             return new HorizontalLayout(sheet);
@@ -267,14 +305,29 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
     }
 
     private void createAthletesSection() {
+        athletesDataProviderProducer = new JooqDataProviderProducer<>(dsl, ATHLETE,
+            () -> ATHLETE.ID.in(DSL.select(CATEGORY_ATHLETE.ATHLETE_ID).from(CATEGORY_ATHLETE)
+                .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
+                .where(CATEGORY.SERIES_ID.eq(seriesRecord.getId()))),
+            () -> new SortField<?>[]{DSL.field(DSL.select(DSL.min(CATEGORY.ABBREVIATION)).from(CATEGORY_ATHLETE)
+                .join(CATEGORY).on(CATEGORY.ID.eq(CATEGORY_ATHLETE.CATEGORY_ID))
+                .where(CATEGORY_ATHLETE.ATHLETE_ID.eq(ATHLETE.ID))
+                .and(CATEGORY.SERIES_ID.eq(seriesRecord.getId()))).asc(),
+                ATHLETE.LAST_NAME.asc(), ATHLETE.FIRST_NAME.asc()});
+        var club = athletesDataProviderProducer.addAggregate("club",
+            DSL.field(DSL.select(CLUB.ABBREVIATION).from(CLUB).where(CLUB.ID.eq(ATHLETE.CLUB_ID))));
+
         athletesGrid = new Grid<>();
         athletesGrid.setHeightFull();
-        athletesGrid.addColumn(AthleteRecord::getLastName).setHeader(getTranslation("Last.Name")).setSortable(true);
-        athletesGrid.addColumn(AthleteRecord::getFirstName).setHeader(getTranslation("First.Name")).setSortable(true);
-        athletesGrid.addColumn(AthleteRecord::getGender).setHeader(getTranslation("Gender")).setSortable(true);
-        athletesGrid.addColumn(AthleteRecord::getYearOfBirth).setHeader(getTranslation("Year")).setSortable(true);
-        athletesGrid.addColumn(athleteRecord -> athleteRecord.getClubId() == null ? null
-            : clubRecordMap.get(athleteRecord.getClubId()).getAbbreviation()).setHeader(getTranslation("Club"));
+        athletesGrid.addColumn(AthleteRecord::getLastName).setHeader(getTranslation("Last.Name"))
+            .setSortable(true).setSortProperty(ATHLETE.LAST_NAME.getName());
+        athletesGrid.addColumn(AthleteRecord::getFirstName).setHeader(getTranslation("First.Name"))
+            .setSortable(true).setSortProperty(ATHLETE.FIRST_NAME.getName());
+        athletesGrid.addColumn(AthleteRecord::getGender).setHeader(getTranslation("Gender"))
+            .setSortable(true).setSortProperty(ATHLETE.GENDER.getName());
+        athletesGrid.addColumn(AthleteRecord::getYearOfBirth).setHeader(getTranslation("Year"))
+            .setSortable(true).setSortProperty(ATHLETE.YEAR_OF_BIRTH.getName());
+        athletesGrid.addColumn(club::get).setHeader(getTranslation("Club"));
 
         Button assign = new Button(athletesGrid.getTranslation("Assign.Athlete"));
         assign.addClickListener(event -> {
@@ -307,4 +360,32 @@ public class SeriesView extends ProtectedView implements HasUrlParameter<String>
                 .in(dsl.select(CATEGORY.ID).from(CATEGORY).where(CATEGORY.SERIES_ID.eq(seriesRecord.getId()))));
     }
 
+    /**
+     * The grid of a tab, which gets its data provider when the tab is shown for the first time.
+     */
+    private static class Section<R extends Record> {
+
+        private final Grid<R> grid;
+        private final ConfigurableFilterDataProvider<R, Void, String> dataProvider;
+        private boolean loaded;
+
+        private Section(Grid<R> grid, JooqDataProviderProducer<R> dataProviderProducer) {
+            this.grid = grid;
+            this.dataProvider = dataProviderProducer.getDataProvider();
+        }
+
+        private void show() {
+            if (!loaded) {
+                grid.setItems(dataProvider);
+                loaded = true;
+            }
+            grid.setVisible(true);
+        }
+
+        private void refresh() {
+            if (loaded) {
+                dataProvider.refreshAll();
+            }
+        }
+    }
 }
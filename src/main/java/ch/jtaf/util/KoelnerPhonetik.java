@@ -0,0 +1,89 @@
+package ch.jtaf.util;
+
+/**
+ * Encodes German names with the "Kölner Phonetik", so names that sound alike get the same digits, for example "Müller",
+ * "Mueller" and "Miller" are all "657". Umlauts are vowels, "ß" is an "S" and other letters with accents count as the
+ * letter without the accent. Characters that are not letters are ignored.
+ */
+public final class KoelnerPhonetik {
+
+    private static final char IGNORED = '-';
+
+    private KoelnerPhonetik() {
+    }
+
+    public static String encode(CharSequence name) {
+        var letters = toLetters(name);
+        var codes = new StringBuilder(letters.length() * 2);
+        for (int i = 0; i < letters.length(); i++) {
+            char previous = i > 0 ? letters.charAt(i - 1) : 0;
+            char next = i < letters.length() - 1 ? letters.charAt(i + 1) : 0;
+            appendCode(codes, letters.charAt(i), previous, next, i == 0);
+        }
+
+        // Repeated digits are collapsed, then the vowels are removed except at the beginning
+        var result = new StringBuilder(codes.length());
+        char last = 0;
+        for (int i = 0; i < codes.length(); i++) {
+            char code = codes.charAt(i);
+            if (code != last && code != IGNORED && (code != '0' || result.length() == 0 && i == 0)) {
+                result.append(code);
+            }
+            last = code;
+        }
+        return result.toString();
+    }
+
+    private static void appendCode(StringBuilder codes, char letter, char previous, char next, boolean first) {
+        switch (letter) {
+            case 'A', 'E', 'I', 'J', 'O', 'U', 'Y' -> codes.append('0');
+            case 'H' -> codes.append(IGNORED);
+            case 'B' -> codes.append('1');
+            case 'P' -> codes.append(next == 'H' ? '3' : '1');
+            case 'D', 'T' -> codes.append(isOneOf(next, "CSZ") ? '8' : '2');
+            case 'F', 'V', 'W' -> codes.append('3');
+            case 'G', 'K', 'Q' -> codes.append('4');
+            case 'C' -> {
+                boolean hard = first
+                    ? isOneOf(next, "AHKLOQRUX")
+                    : isOneOf(next, "AHKOQUX") && !isOneOf(previous, "SZ");
+                codes.append(hard ? '4' : '8');
+            }
+            case 'X' -> codes.append(isOneOf(previous, "CKQ") ? "8" : "48");
+            case 'L' -> codes.append('5');
+            case 'M', 'N' -> codes.append('6');
+            case 'R' -> codes.append('7');
+            case 'S', 'Z' -> codes.append('8');
+            default -> {
+                // Not a letter
+            }
+        }
+    }
+
+    private static boolean isOneOf(char c, String letters) {
+        return c != 0 && letters.indexOf(c) >= 0;
+    }
+
+    private static StringBuilder toLetters(CharSequence name) {
+        var letters = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toUpperCase(name.charAt(i));
+            switch (c) {
+                case 'Ä', 'À', 'Á', 'Â', 'Ã', 'Å' -> letters.append('A');
+                case 'Ö', 'Ò', 'Ó', 'Ô', 'Õ', 'Ø' -> letters.append('O');
+                case 'Ü', 'Ù', 'Ú', 'Û' -> letters.append('U');
+                case 'È', 'É', 'Ê', 'Ë' -> letters.append('E');
+                case 'Ì', 'Í', 'Î', 'Ï' -> letters.append('I');
+                case 'Ç' -> letters.append('C');
+                case 'Ñ' -> letters.append('N');
+                case 'ß' -> letters.append('S');
+                default -> {
+                    if (c >= 'A' && c <= 'Z') {
+                        letters.append(c);
+                    }
+                }
+            }
+        }
+        return letters;
+    }
+}
@@ -0,0 +1,104 @@
+package ch.jtaf.util;
+
+/**
+ * Parses the results as they are entered into hundredths, so centimetres for distances and centiseconds for times.
+ * The parser works directly on the characters and does not allocate, it accepts "12.34" for distances and short
+ * runs and "2.15.30" (minutes, seconds, hundredths) for long runs. A comma may be used instead of a dot.
+ */
+public final class ResultParser {
+
+    public static final long INVALID = -1;
+
+    private static final long MAX_WHOLE = 1_000_000_000L;
+
+    private ResultParser() {
+    }
+
+    /**
+     * Parses a decimal result like "12.34" or a time with minutes like "2.15.30".
+     *
+     * @return the result in hundredths or {@link #INVALID}
+     */
+    public static long parse(CharSequence result) {
+        return parse(result, false);
+    }
+
+    /**
+     * Parses a time where the first part are minutes, so "2.15" means two minutes and fifteen seconds.
+     *
+     * @return the result in hundredths or {@link #INVALID}
+     */
+    public static long parseClock(CharSequence result) {
+        return parse(result, true);
+    }
+
+    private static long parse(CharSequence result, boolean clock) {
+        if (result == null) {
+            return INVALID;
+        }
+
+        int start = 0;
+        int end = result.length();
+        while (start < end && Character.isWhitespace(result.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(result.charAt(end - 1))) {
+            end--;
+        }
+
+        int part = 0;
+        long whole = 0;
+        int wholeDigits = 0;
+        // Only the first two digits of the following parts are kept, more digits than hundredths are cut off
+        int second = 0;
+        int secondDigits = 0;
+        int third = 0;
+        int thirdDigits = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = result.charAt(i);
+            if (c >= '0' && c <= '9') {
+                int digit = c - '0';
+                if (part == 0) {
+                    whole = whole * 10 + digit;
+                    if (whole > MAX_WHOLE) {
+                        return INVALID;
+                    }
+                    wholeDigits++;
+                } else if (part == 1) {
+                    if (secondDigits < 2) {
+                        second = second * 10 + digit;
+                    }
+                    secondDigits++;
+                } else {
+                    if (thirdDigits < 2) {
+                        third = third * 10 + digit;
+                    }
+                    thirdDigits++;
+                }
+            } else if ((c == '.' || c == ',') && part < 2) {
+                part++;
+            } else {
+                return INVALID;
+            }
+        }
+
+        if (wholeDigits == 0 || (part >= 1 && secondDigits == 0) || (part == 2 && thirdDigits == 0)) {
+            return INVALID;
+        }
+
+        if (part == 0) {
+            return clock ? whole * 6000 : whole * 100;
+        } else if (part == 1 && !clock) {
+            return whole * 100 + hundredths(second, secondDigits);
+        } else if (secondDigits > 2 || second >= 60) {
+            return INVALID;
+        } else {
+            return whole * 6000 + second * 100L + (part == 2 ? hundredths(third, thirdDigits) : 0);
+        }
+    }
+
+    private static long hundredths(int fraction, int digits) {
+        return digits == 1 ? fraction * 10L : fraction;
+    }
+}
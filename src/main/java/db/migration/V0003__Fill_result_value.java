@@ -0,0 +1,44 @@
+package db.migration;
+
+import ch.jtaf.model.EventType;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Types;
+
+import static ch.jtaf.util.ResultParser.INVALID;
+
+/**
+ * Fills the numeric result value of the existing results. The parsing can't be done in SQL, so this runs in Java.
+ */
+public class V0003__Fill_result_value extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        var connection = context.getConnection();
+        try (var select = connection.prepareStatement(
+            "SELECT r.id, r.result, e.event_type FROM result r JOIN event e ON e.id = r.event_id");
+             var update = connection.prepareStatement("UPDATE result SET result_value = ? WHERE id = ?");
+             var resultSet = select.executeQuery()) {
+
+            int count = 0;
+            while (resultSet.next()) {
+                long value = EventType.valueOf(resultSet.getString(3)).parseResult(resultSet.getString(2));
+                if (value == INVALID) {
+                    update.setNull(1, Types.BIGINT);
+                } else {
+                    update.setLong(1, value);
+                }
+                update.setLong(2, resultSet.getLong(1));
+                update.addBatch();
+
+                if (++count % BATCH_SIZE == 0) {
+                    update.executeBatch();
+                }
+            }
+            update.executeBatch();
+        }
+    }
+}
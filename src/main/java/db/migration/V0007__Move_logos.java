@@ -0,0 +1,44 @@
+package db.migration;
+
+import ch.jtaf.util.Sha256;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.io.ByteArrayInputStream;
+import java.net.URLConnection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Moves the logos of the series into the table logo. The hash is calculated in Java, because MySQL and H2 don't share
+ * a function for SHA-256.
+ */
+public class V0007__Move_logos extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        var connection = context.getConnection();
+        Set<String> hashes = new HashSet<>();
+        try (var select = connection.prepareStatement("SELECT id, logo FROM series WHERE logo IS NOT NULL");
+             var insert = connection.prepareStatement("INSERT INTO logo (hash, content, content_type) VALUES (?, ?, ?)");
+             var update = connection.prepareStatement("UPDATE series SET logo_hash = ? WHERE id = ?");
+             var resultSet = select.executeQuery()) {
+
+            while (resultSet.next()) {
+                byte[] content = resultSet.getBytes(2);
+                String hash = Sha256.hash(content);
+                if (hashes.add(hash)) {
+                    insert.setString(1, hash);
+                    insert.setBytes(2, content);
+                    insert.setString(3, Objects.requireNonNullElse(
+                        URLConnection.guessContentTypeFromStream(new ByteArrayInputStream(content)), "application/octet-stream"));
+                    insert.executeUpdate();
+                }
+                update.setString(1, hash);
+                update.setLong(2, resultSet.getLong(1));
+                update.executeUpdate();
+            }
+        }
+    }
+}
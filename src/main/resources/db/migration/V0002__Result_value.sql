@@ -0,0 +1,5 @@
+--
+-- Numeric value of the result in hundredths, centimetres for distances and centiseconds for times
+--
+ALTER TABLE result ADD result_value bigint(20) DEFAULT NULL;
+
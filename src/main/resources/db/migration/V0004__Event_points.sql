@@ -0,0 +1,19 @@
+--
+-- Table structure for table event_points
+--
+-- Points tables as published by federations. If an event has entries here, its results are scored by looking up the
+-- table instead of calculating the formula with A, B and C. result_value is in hundredths like result.result_value.
+--
+
+CREATE TABLE event_points (
+  event_id bigint(20) NOT NULL,
+  result_value bigint(20) NOT NULL,
+
+  points int(11) NOT NULL
+);
+
+--
+-- Indexes for table event_points
+--
+ALTER TABLE event_points ADD PRIMARY KEY (event_id, result_value);
+ALTER TABLE event_points ADD CONSTRAINT fk_event_points_event FOREIGN KEY (event_id) REFERENCES event (id);
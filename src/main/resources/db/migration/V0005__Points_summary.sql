@@ -0,0 +1,53 @@
+--
+-- Table structure for table athlete_points
+--
+-- Total points of an athlete per category and competition, maintained whenever a result is stored or deleted
+--
+
+CREATE TABLE athlete_points (
+  athlete_id bigint(20) NOT NULL,
+  category_id bigint(20) NOT NULL,
+  competition_id bigint(20) NOT NULL,
+
+  points int(11) NOT NULL
+);
+
+-- --------------------------------------------------------
+
+--
+-- Table structure for table club_points
+--
+-- Total points of the athletes of a club per competition
+--
+
+CREATE TABLE club_points (
+  club_id bigint(20) NOT NULL,
+  competition_id bigint(20) NOT NULL,
+
+  points int(11) NOT NULL
+);
+
+--
+-- Indexes for table athlete_points
+--
+ALTER TABLE athlete_points ADD PRIMARY KEY (competition_id, category_id, athlete_id);
+ALTER TABLE athlete_points ADD CONSTRAINT fk_athlete_points_athlete FOREIGN KEY (athlete_id) REFERENCES athlete (id);
+ALTER TABLE athlete_points ADD CONSTRAINT fk_athlete_points_category FOREIGN KEY (category_id) REFERENCES category (id);
+ALTER TABLE athlete_points ADD CONSTRAINT fk_athlete_points_competition FOREIGN KEY (competition_id) REFERENCES competition (id);
+
+--
+-- Indexes for table club_points
+--
+ALTER TABLE club_points ADD PRIMARY KEY (competition_id, club_id);
+ALTER TABLE club_points ADD CONSTRAINT fk_club_points_club FOREIGN KEY (club_id) REFERENCES club (id);
+ALTER TABLE club_points ADD CONSTRAINT fk_club_points_competition FOREIGN KEY (competition_id) REFERENCES competition (id);
+
+--
+-- Data for the existing results
+--
+INSERT INTO athlete_points (athlete_id, category_id, competition_id, points)
+SELECT athlete_id, category_id, competition_id, SUM(points) FROM result GROUP BY athlete_id, category_id, competition_id;
+
+INSERT INTO club_points (club_id, competition_id, points)
+SELECT a.club_id, ap.competition_id, SUM(ap.points) FROM athlete_points ap JOIN athlete a ON a.id = ap.athlete_id
+WHERE a.club_id IS NOT NULL GROUP BY a.club_id, ap.competition_id;
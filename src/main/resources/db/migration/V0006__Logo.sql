@@ -0,0 +1,20 @@
+--
+-- Table structure for table logo
+--
+-- Logos are stored once per content and referenced by the SHA-256 hash of the content, so they never change and can
+-- be cached by browsers forever
+--
+
+CREATE TABLE logo (
+  hash char(64) NOT NULL PRIMARY KEY,
+
+  content longblob NOT NULL,
+  content_type varchar(255) NOT NULL
+);
+
+ALTER TABLE series ADD logo_hash char(64) DEFAULT NULL;
+
+--
+-- Indexes for table series
+--
+ALTER TABLE series ADD CONSTRAINT fk_series_logo FOREIGN KEY (logo_hash) REFERENCES logo (hash);
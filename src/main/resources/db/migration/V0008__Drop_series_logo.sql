@@ -0,0 +1,4 @@
+--
+-- The logos have been moved to the table logo by V0007__Move_logos
+--
+ALTER TABLE series DROP COLUMN logo;
@@ -0,0 +1,29 @@
+--
+-- Dimensions of the logo in pixels, NULL if it hasn't been processed yet or isn't a readable image
+--
+ALTER TABLE logo ADD width int(11) DEFAULT NULL;
+ALTER TABLE logo ADD height int(11) DEFAULT NULL;
+
+-- --------------------------------------------------------
+
+--
+-- Table structure for table logo_thumbnail
+--
+-- Scaled down copies of a logo in the fixed sizes of LogoService.Size, created when the logo is stored
+--
+
+CREATE TABLE logo_thumbnail (
+  hash char(64) NOT NULL,
+  size varchar(20) NOT NULL,
+
+  content longblob NOT NULL,
+  content_type varchar(255) NOT NULL,
+  width int(11) NOT NULL,
+  height int(11) NOT NULL
+);
+
+--
+-- Indexes for table logo_thumbnail
+--
+ALTER TABLE logo_thumbnail ADD PRIMARY KEY (hash, size);
+ALTER TABLE logo_thumbnail ADD CONSTRAINT fk_logo_thumbnail_logo FOREIGN KEY (hash) REFERENCES logo (hash);
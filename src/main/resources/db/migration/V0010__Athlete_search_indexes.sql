@@ -0,0 +1,10 @@
+--
+-- Indexes for table athlete
+--
+-- The athlete grids are filtered by organization and by the beginning of the last or first name, or by the year of
+-- birth, see FilterCompiler. Unfiltered, they are sorted by gender, year of birth and name.
+--
+CREATE INDEX idx_athlete_organization_last_name ON athlete (organization_id, last_name, first_name);
+CREATE INDEX idx_athlete_organization_first_name ON athlete (organization_id, first_name);
+CREATE INDEX idx_athlete_organization_year_of_birth ON athlete (organization_id, year_of_birth);
+CREATE INDEX idx_athlete_organization_order ON athlete (organization_id, gender, year_of_birth, last_name, first_name);
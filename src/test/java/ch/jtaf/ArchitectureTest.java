@@ -34,7 +34,7 @@ public class ArchitectureTest {
             .whereLayer(SERVICE).mayOnlyBeAccessedByLayers(UI)
             .whereLayer(REPORTING).mayOnlyBeAccessedByLayers(SERVICE)
             .whereLayer(DB).mayOnlyBeAccessedByLayers(UI, SERVICE, SECURITY, REPORTING, UTIL)
-            .whereLayer(MODEL).mayOnlyBeAccessedByLayers(UI, REPORTING)
+            .whereLayer(MODEL).mayOnlyBeAccessedByLayers(UI, SERVICE, REPORTING)
 
             .check(classes);
     }
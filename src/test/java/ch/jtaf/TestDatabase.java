@@ -0,0 +1,29 @@
+package ch.jtaf;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+/**
+ * In-memory H2 databases with the schema and the test data of the Flyway migrations. Every test class uses its own
+ * name, so the tests don't see the changes of the others.
+ */
+public final class TestDatabase {
+
+    private TestDatabase() {
+    }
+
+    public static JdbcDataSource migrate(String name) {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        return dataSource;
+    }
+
+    public static DSLContext dsl(String name) {
+        return DSL.using(migrate(name), SQLDialect.H2);
+    }
+}
@@ -0,0 +1,83 @@
+package ch.jtaf.reporting.report;
+
+import ch.jtaf.reporting.data.NumbersAndSheetsAthlete;
+import ch.jtaf.reporting.data.NumbersAndSheetsCompetition;
+import ch.jtaf.reporting.data.NumbersAndSheetsEvent;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SheetsReportTest {
+
+    private static byte[] logo;
+
+    @BeforeClass
+    public static void createLogo() throws IOException {
+        // Random pixels don't compress, so every embedded copy of the logo would be clearly visible in the file size
+        var image = new BufferedImage(300, 300, BufferedImage.TYPE_INT_RGB);
+        var random = new Random(42);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        try (var baos = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "png", baos);
+            logo = baos.toByteArray();
+        }
+    }
+
+    @Test
+    public void logoIsEmbeddedOnce() {
+        var pdf = createSheets(50);
+
+        assertEquals(1, countImages(pdf));
+    }
+
+    @Test
+    public void sizeGrowsByPageContentOnly() {
+        var tenPages = createSheets(10);
+        var hundredPages = createSheets(100);
+
+        long bytesPerPage = (hundredPages.length - tenPages.length) / 90;
+        assertTrue("Each page adds " + bytesPerPage + " bytes, the logo has " + logo.length + " bytes",
+            bytesPerPage < logo.length / 10);
+    }
+
+    private static byte[] createSheets(int numberOfAthletes) {
+        var competition = new NumbersAndSheetsCompetition(1L, "Test", LocalDate.of(2021, 6, 1));
+        List<NumbersAndSheetsAthlete> athletes = new ArrayList<>();
+        for (int i = 0; i < numberOfAthletes; i++) {
+            var athlete = new NumbersAndSheetsAthlete((long) i, "First " + i, "Last " + i, 2010, "A", "TV");
+            athlete.getEvents().add(new NumbersAndSheetsEvent("60", "60 m", "m", "RUN", 1));
+            athlete.getEvents().add(new NumbersAndSheetsEvent("WE", "Weitsprung", "m", "JUMP_THROW", 2));
+            athletes.add(athlete);
+        }
+        return new SheetsReport(competition, athletes, logo, new Locale("de", "CH")).create();
+    }
+
+    private static int countImages(byte[] pdf) {
+        // Object dictionaries are not compressed, so every image XObject shows up in the raw bytes
+        var content = new String(pdf, StandardCharsets.ISO_8859_1);
+        int count = 0;
+        int index = content.indexOf("/Subtype/Image");
+        while (index >= 0) {
+            count++;
+            index = content.indexOf("/Subtype/Image", index + 1);
+        }
+        return count;
+    }
+}
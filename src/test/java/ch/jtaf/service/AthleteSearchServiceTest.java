@@ -0,0 +1,124 @@
+package ch.jtaf.service;
+
+import ch.jtaf.TestDatabase;
+import ch.jtaf.db.tables.records.AthleteRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.DSLContext;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AthleteSearchServiceTest {
+
+    private static final Long ORGANIZATION_ID = 1L;
+    // An athlete whose id is a year of birth of other athletes, like a start number
+    private static final Long START_NUMBER = 2012L;
+
+    private static DSLContext dsl;
+
+    private AthleteSearchService athleteSearchService;
+
+    @BeforeClass
+    public static void migrate() {
+        dsl = TestDatabase.dsl("athlete-search");
+
+        dsl.insertInto(ATHLETE)
+            .set(ATHLETE.ID, START_NUMBER)
+            .set(ATHLETE.FIRST_NAME, "Anna")
+            .set(ATHLETE.LAST_NAME, "Start")
+            .set(ATHLETE.GENDER, "F")
+            .set(ATHLETE.YEAR_OF_BIRTH, 2009)
+            .set(ATHLETE.ORGANIZATION_ID, ORGANIZATION_ID)
+            .execute();
+    }
+
+    @Before
+    public void createService() {
+        athleteSearchService = new AthleteSearchService(dsl, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void beginningOfANameIsFound() {
+        assertEquals(1L, (long) search("Zimmer").get(0));
+    }
+
+    @Test
+    public void umlautsAndSimilarSpellingsAreFound() {
+        assertTrue(search("Mueller").containsAll(List.of(30L, 31L)));
+        assertTrue(search("Muller").containsAll(List.of(30L, 31L)));
+        assertTrue(search("Miller").containsAll(List.of(30L, 31L)));
+    }
+
+    @Test
+    public void everyWordMustMatch() {
+        // Max Müller first, Maya Müller is similar
+        assertEquals(List.of(31L, 171L), search("Müller Max"));
+        assertEquals(List.of(31L, 171L), search("max, müller"));
+        assertTrue(search("Müller Zimmermann").isEmpty());
+    }
+
+    @Test
+    public void numberIsTheIdOrTheYearOfBirth() {
+        var found = search(START_NUMBER.toString());
+
+        assertEquals(START_NUMBER, found.get(0));
+        assertTrue(found.size() > 1);
+        assertTrue(search("30").contains(30L));
+    }
+
+    @Test
+    public void numberIsOnlyTheIdIfYearsOfBirthAreNotSearched() {
+        var found = athleteSearchService.search(ORGANIZATION_ID, START_NUMBER.toString(), id -> true, false, 50);
+
+        assertEquals(List.of(START_NUMBER), ids(found));
+        assertTrue(athleteSearchService.search(ORGANIZATION_ID, "2011", id -> true, false, 50).isEmpty());
+    }
+
+    @Test
+    public void filterAndLimitAreApplied() {
+        assertEquals(List.of(171L), ids(athleteSearchService.search(ORGANIZATION_ID, "Müller Max", id -> id != 31L, true, 50)));
+        assertEquals(2, athleteSearchService.search(ORGANIZATION_ID, "Müller", 2).size());
+    }
+
+    @Test
+    public void otherOrganizationsAreNotSearched() {
+        assertTrue(athleteSearchService.search(-1L, "Müller", 50).isEmpty());
+    }
+
+    @Test
+    public void storedAndDeletedAthletesAreApplied() {
+        // Loads the index
+        assertTrue(search("Zwahlenberger").isEmpty());
+
+        var athlete = dsl.newRecord(ATHLETE);
+        athlete.setFirstName("Nina");
+        athlete.setLastName("Zwahlenberger");
+        athlete.setGender("F");
+        athlete.setYearOfBirth(2010);
+        athlete.setOrganizationId(ORGANIZATION_ID);
+        athlete.store();
+        athleteSearchService.onDataChange(new DataChangeEvent(ATHLETE, athlete, false));
+
+        assertEquals(List.of(athlete.getId()), search("Zwahlenb"));
+
+        athlete.delete();
+        athleteSearchService.onDataChange(new DataChangeEvent(ATHLETE, athlete, true));
+
+        assertTrue(search("Zwahlenberger").isEmpty());
+    }
+
+    private List<Long> search(String search) {
+        return ids(athleteSearchService.search(ORGANIZATION_ID, search, 50));
+    }
+
+    private List<Long> ids(List<AthleteRecord> athletes) {
+        return athletes.stream().map(AthleteRecord::getId).collect(Collectors.toList());
+    }
+}
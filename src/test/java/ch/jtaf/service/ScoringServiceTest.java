@@ -0,0 +1,78 @@
+package ch.jtaf.service;
+
+import ch.jtaf.TestDatabase;
+import ch.jtaf.db.tables.records.EventRecord;
+import org.jooq.DSLContext;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static ch.jtaf.db.tables.Event.EVENT;
+import static ch.jtaf.db.tables.EventPoints.EVENT_POINTS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ScoringServiceTest {
+
+    private static DSLContext dsl;
+
+    @BeforeClass
+    public static void migrate() {
+        dsl = TestDatabase.dsl("scoring");
+    }
+
+    @Test
+    public void runsAreScoredWithTheFormula() {
+        var scoringService = new ScoringService(dsl);
+        // 80 m, as in the test data
+        var event = dsl.selectFrom(EVENT).where(EVENT.ID.eq(9L)).fetchOne();
+
+        assertEquals(158, scoringService.score(event, 1415));
+        assertEquals(0, scoringService.score(event, 0));
+    }
+
+    @Test
+    public void jumpsAndThrowsAreScoredWithTheFormula() {
+        var scoringService = new ScoringService(dsl);
+        // Weitsprung, as in the test data
+        var event = dsl.selectFrom(EVENT).where(EVENT.ID.eq(16L)).fetchOne();
+
+        assertArrayEquals(new int[]{219, 0}, scoringService.score(event, new long[]{284, -1}));
+    }
+
+    @Test
+    public void changedCoefficientsAreScoredWithoutStoring() {
+        var scoringService = new ScoringService(dsl);
+        var event = dsl.selectFrom(EVENT).where(EVENT.ID.eq(16L)).fetchOne();
+        assertEquals(219, scoringService.score(event, 284));
+
+        event.setA(event.getA() * 2);
+
+        assertEquals(438, scoringService.score(event, 284));
+    }
+
+    @Test
+    public void eventsWithoutCoefficientsHaveNoPoints() {
+        var event = new EventRecord();
+        event.setEventType("RUN");
+
+        assertEquals(0, new ScoringService(dsl).score(event, 1000));
+    }
+
+    @Test
+    public void pointsTablesAreLookedUp() {
+        // 60 m and Ball of the second organization
+        dsl.insertInto(EVENT_POINTS, EVENT_POINTS.EVENT_ID, EVENT_POINTS.RESULT_VALUE, EVENT_POINTS.POINTS)
+            .values(18L, 800L, 500).values(18L, 900L, 400).values(18L, 1000L, 300)
+            .values(22L, 1000L, 100).values(22L, 2000L, 200).values(22L, 3000L, 300)
+            .execute();
+        var scoringService = new ScoringService(dsl);
+
+        // A run gets the points of the slowest entry it is faster than or equal to
+        var run = dsl.selectFrom(EVENT).where(EVENT.ID.eq(18L)).fetchOne();
+        assertArrayEquals(new int[]{500, 500, 400, 300, 0}, scoringService.score(run, new long[]{700, 800, 850, 1000, 1001}));
+
+        // A throw gets the points of the longest entry it reaches
+        var ball = dsl.selectFrom(EVENT).where(EVENT.ID.eq(22L)).fetchOne();
+        assertArrayEquals(new int[]{0, 100, 100, 300}, scoringService.score(ball, new long[]{999, 1000, 1999, 3500}));
+    }
+}
@@ -0,0 +1,81 @@
+package ch.jtaf.ui.component;
+
+import ch.jtaf.TestDatabase;
+import org.jooq.DSLContext;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static ch.jtaf.db.tables.Athlete.ATHLETE;
+import static ch.jtaf.db.tables.Competition.COMPETITION;
+import static ch.jtaf.db.tables.Series.SERIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FilterCompilerTest {
+
+    private static DSLContext dsl;
+
+    @BeforeClass
+    public static void migrate() {
+        dsl = TestDatabase.dsl("filter");
+    }
+
+    @Test
+    public void emptyFilterMatchesAll() {
+        assertEquals(4, findSeries(" ").size());
+    }
+
+    @Test
+    public void wordIsTheBeginningOfATextColumn() {
+        assertEquals(List.of(1L, 3L), findSeries("CIS"));
+        assertEquals(List.of(2L, 4L), findSeries("Jugend"));
+    }
+
+    @Test
+    public void everyWordMustMatch() {
+        assertEquals(List.of(1L), findSeries("CIS 1"));
+        assertTrue(findSeries("CIS Jugend").isEmpty());
+    }
+
+    @Test
+    public void numberMatchesTheIdAndTheBeginningOfTheName() {
+        // Competition 3 is "38. Jugendmeisterschaft" and 6 is "39. Jugendmeisterschaft"
+        assertEquals(List.of(3L, 6L), findCompetitions("3"));
+        assertEquals(List.of(3L), findCompetitions("38"));
+    }
+
+    @Test
+    public void wildcardsAreSearchedLiterally() {
+        assertTrue(findSeries("%").isEmpty());
+        assertTrue(findSeries("_IS").isEmpty());
+    }
+
+    @Test
+    public void onlyTheGivenColumnsAreSearched() {
+        var filterCompiler = new FilterCompiler()
+            .numbers(ATHLETE.ID, ATHLETE.YEAR_OF_BIRTH)
+            .text(ATHLETE.LAST_NAME);
+
+        assertEquals(List.of(2L), dsl.select(ATHLETE.ID).from(ATHLETE)
+            .where(filterCompiler.compile("Lachat")).and(ATHLETE.FIRST_NAME.eq("Elodie"))
+            .orderBy(ATHLETE.ID).fetch(ATHLETE.ID));
+        assertTrue(dsl.fetchExists(ATHLETE, filterCompiler.compile("2011").and(ATHLETE.ID.eq(1L))));
+        assertEquals(0, dsl.fetchCount(ATHLETE, filterCompiler.compile("Kendall")));
+    }
+
+    private List<Long> findSeries(String filter) {
+        return dsl.select(SERIES.ID).from(SERIES)
+            .where(FilterCompiler.of(SERIES).compile(filter))
+            .orderBy(SERIES.ID)
+            .fetch(SERIES.ID);
+    }
+
+    private List<Long> findCompetitions(String filter) {
+        return dsl.select(COMPETITION.ID).from(COMPETITION)
+            .where(FilterCompiler.of(COMPETITION).compile(filter))
+            .orderBy(COMPETITION.ID)
+            .fetch(COMPETITION.ID);
+    }
+}
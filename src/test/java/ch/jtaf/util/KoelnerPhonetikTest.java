@@ -0,0 +1,54 @@
+package ch.jtaf.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class KoelnerPhonetikTest {
+
+    @Test
+    public void encodesTheKnownExamples() {
+        assertEquals("3412", KoelnerPhonetik.encode("Wikipedia"));
+        assertEquals("65752682", KoelnerPhonetik.encode("Müller-Lüdenscheidt"));
+        assertEquals("17863", KoelnerPhonetik.encode("Breschnew"));
+    }
+
+    @Test
+    public void namesThatSoundAlikeHaveTheSameCode() {
+        assertEquals("657", KoelnerPhonetik.encode("Müller"));
+        assertEquals("657", KoelnerPhonetik.encode("Mueller"));
+        assertEquals("657", KoelnerPhonetik.encode("Miller"));
+        assertEquals(KoelnerPhonetik.encode("Meier"), KoelnerPhonetik.encode("Mayer"));
+        assertEquals(KoelnerPhonetik.encode("Schmidt"), KoelnerPhonetik.encode("Schmitt"));
+    }
+
+    @Test
+    public void vowelIsKeptAtTheBeginningOnly() {
+        assertEquals("05172", KoelnerPhonetik.encode("Albert"));
+        assertEquals("03", KoelnerPhonetik.encode("Eva"));
+    }
+
+    @Test
+    public void cDependsOnItsNeighbours() {
+        // Hard at the beginning before A, H, K, L, O, Q, R, U and X
+        assertEquals("4", KoelnerPhonetik.encode("Ca"));
+        assertEquals("8", KoelnerPhonetik.encode("Ce"));
+        // Otherwise hard before A, H, K, O, Q, U and X, but not after S and Z
+        assertEquals("54", KoelnerPhonetik.encode("Lco"));
+        assertEquals("8", KoelnerPhonetik.encode("Sco"));
+    }
+
+    @Test
+    public void accentsAndSharpSAreTheLettersWithoutThem() {
+        assertEquals(KoelnerPhonetik.encode("Strasse"), KoelnerPhonetik.encode("Straße"));
+        assertEquals(KoelnerPhonetik.encode("Rene"), KoelnerPhonetik.encode("René"));
+        assertEquals(KoelnerPhonetik.encode("Francois"), KoelnerPhonetik.encode("François"));
+    }
+
+    @Test
+    public void charactersThatAreNotLettersAreIgnored() {
+        assertEquals("", KoelnerPhonetik.encode(""));
+        assertEquals("", KoelnerPhonetik.encode("123 -"));
+        assertEquals(KoelnerPhonetik.encode("Meier"), KoelnerPhonetik.encode("Mei-er 2"));
+    }
+}
@@ -0,0 +1,48 @@
+package ch.jtaf.util;
+
+import org.junit.Test;
+
+import static ch.jtaf.util.ResultParser.INVALID;
+import static org.junit.Assert.assertEquals;
+
+public class ResultParserTest {
+
+    @Test
+    public void parseDistancesAndShortRuns() {
+        assertEquals(1234, ResultParser.parse("12.34"));
+        assertEquals(1234, ResultParser.parse("12,34"));
+        assertEquals(1230, ResultParser.parse("12.3"));
+        assertEquals(1200, ResultParser.parse("12"));
+        assertEquals(1234, ResultParser.parse(" 12.34 "));
+        // More digits than hundredths are cut off
+        assertEquals(1234, ResultParser.parse("12.345"));
+    }
+
+    @Test
+    public void parseTimesWithMinutes() {
+        assertEquals(15586, ResultParser.parse("2.35.86"));
+        assertEquals(15580, ResultParser.parse("2.35.8"));
+        assertEquals(INVALID, ResultParser.parse("2.60.00"));
+    }
+
+    @Test
+    public void parseClock() {
+        assertEquals(13500, ResultParser.parseClock("2.15"));
+        assertEquals(13530, ResultParser.parseClock("2.15.30"));
+        assertEquals(12000, ResultParser.parseClock("2"));
+        assertEquals(INVALID, ResultParser.parseClock("2.75"));
+    }
+
+    @Test
+    public void invalidResults() {
+        assertEquals(INVALID, ResultParser.parse(null));
+        assertEquals(INVALID, ResultParser.parse(""));
+        assertEquals(INVALID, ResultParser.parse("  "));
+        assertEquals(INVALID, ResultParser.parse("abc"));
+        assertEquals(INVALID, ResultParser.parse("12."));
+        assertEquals(INVALID, ResultParser.parse(".34"));
+        assertEquals(INVALID, ResultParser.parse("1.2.3.4"));
+        assertEquals(INVALID, ResultParser.parse("-12.34"));
+        assertEquals(INVALID, ResultParser.parse("12345678901"));
+    }
+}
@@ -0,0 +1,58 @@
+package db.migration;
+
+import ch.jtaf.TestDatabase;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class V0003__Fill_result_valueTest {
+
+    @Test
+    public void resultValuesAreFilledFromTheResults() throws Exception {
+        var dataSource = TestDatabase.migrate("fill_result_value");
+
+        try (var connection = dataSource.getConnection()) {
+            // The test data is inserted after the migration, so its result values are still empty
+            assertNull(getResultValue(connection, 6));
+
+            new V0003__Fill_result_value().migrate(new Context() {
+                @Override
+                public Configuration getConfiguration() {
+                    return Flyway.configure().dataSource(dataSource);
+                }
+
+                @Override
+                public Connection getConnection() {
+                    return connection;
+                }
+            });
+
+            // Weitsprung
+            assertEquals(Long.valueOf(284), getResultValue(connection, 6));
+            // 600 m, minutes, seconds and hundredths
+            assertEquals(Long.valueOf(15586), getResultValue(connection, 8));
+            // 80 m
+            assertEquals(Long.valueOf(1415), getResultValue(connection, 5));
+            // Not entered yet
+            assertNull(getResultValue(connection, 1));
+        }
+    }
+
+    private static Long getResultValue(Connection connection, long id) throws SQLException {
+        try (var statement = connection.prepareStatement("SELECT result_value FROM result WHERE id = ?")) {
+            statement.setLong(1, id);
+            try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                long value = resultSet.getLong(1);
+                return resultSet.wasNull() ? null : value;
+            }
+        }
+    }
+}
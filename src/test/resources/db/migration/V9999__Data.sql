@@ -2266,10 +2266,13 @@ INSERT INTO security_group (id, name) VALUES(1, 'ADMIN');
 
 INSERT INTO security_user (id, first_name, last_name, email, secret, confirmation_id, confirmed) VALUES(2, 'Simon', 'Martinelli', 'simon@martinelli.ch', '$2a$10$rl7Y1jTlFgmNGrI9WOIChuRMOnfXf/wDqhQP4Aw1guF2oSRk0yI6O', '', '1');
 
-INSERT INTO series (id, name, logo, hidden, locked, organization_id) VALUES(1, 'CIS 2018', 0x89504e470d0a1a0a0000000d49484452000001d60000021c0802000000c4e31842000000097048597300002e2300002e230178a53f760000000774494d4507de05080c2c2b75231bea000020004944415478daed9d6f685bf7d9f7cfd23f28c8586a59d1e12956346c166d58965e7502c9c6dc3cd422728ac1d9889505fb8d876577e094b5b6473b4a1b6ab91b4d20b565e6373669e4b0bb06d35845ee8b1b631f83d757c756e8941b99290a2d274f6e1a9d2053ddd9d23c2f4eeba64e2ccbfa73ceefcff74319599a3a3aff3ebacef5bb7ed7f593870f1f0a0000008ce0084e01000040c10000000503000080820100000a0600000005030000140c0000000a0600002818000000140c0000503000000028180000a0600000005030000040c1000000bee7699c024038d99c92cd29dfffe2b6f69b6a219f54d2a5ff1097d86431d569bfb65b6d76ab280882c554e7129b70868181fc042ddb0121481959100429b3b9abd7f5cca63e7f75b3d86831d5d9ada2dd2a5a4c6697d8a4fd1a170540c18059e16a51adf68b5bdf87b744a1a9d9eff0685e7e349406000a06349154d252464e2adb49257d5dd9a6f4281aac36bb55f43b3c2eb1510b96716501140cc80d75a5cca69491754b29e84cbdc9ec129b3423fb1d1ec4c8000a06c647bbf1d43ac3da2d1e23efea180b7d000a063aa116f2f194246536e329e95e610727440b90fd0e8fdfe1868e01140c6a4236a7c453524c5ea637b7ab6774ec77b8834e3f9215000a0630af61348b8d41a73fe8f421340650303874b621262f7398e4ad5d681c74fa824e3fce06140cc0be481939262fcfcbcb3815b5a0de64d6e262b8180a06e007b23925262fc7e40499fb26e06200050384bda0562e0e7bbb912f8682015fc4e444746301eb6c84d060b5853c8190a703dbf0a060c0326a211fdd5840ce81584e387d214f07121450306053bed18d8fb1a50241318082817e64734a64650efbd968a4c7d311f274f81d1e9c0a28185019f98e2526b1da463b3e873be4e908790238155030a046be483b304683d536dade0b1143c100f20586516f3287bda7c2de6ef4a080820171c4e44464650ed50e1031808281ae481939b23287ae0e1c8a78b4bd17a7020a0686a1153c60cd8d5b9023868281614456e690f6059a88a7ba4650be0605039d9032f25862123b8cc1a3f81ceef1c0103a4e40c1a086a0da171467c0db3ddade8b953a2818549f784a1a5c9c40e60114a7de641e0f0c21410c05836a06bf838b139fa6d6712a4089202f01050304bfc06046da7b51b806050304bfc0309ac5c6a9ae1184c35030381c52463e73f52d04bf00e130140cf4662c3139bdb180f300100e43c14057924a7a70710235bfa016d49bcca3edbd61ef299c0a28183c81989c184b4c22f9006aca09a76faa6b04b5c35030f801ecb9007ad260b55d39fd2e921250301004241f8041bc17184452020ae61d94fd0203e9f1748c0786909480823905950fc0709ac5c62ba7dfc5c06628982fd442feccd5b7d0671d9040bdc9bcd47701a96128981790fc050432d9f5069afb40c1ec836d6f805806bcdde381219c0728985962726268f17d9c07402c3d9e8ea9ae119c0728984106172750f90bc8c7e7705f39fd2eca24aac5119c02c3d17a9ec1bf800ad6339b313981f3502d9ec62930dcbf9db3e7b0f80668a1de64c6ba1ca260f8170063c0660d44c18c9054d29db3e750fc0028a2c16a43088c2818fe05c018d0d91d0a867f0140080c0503f81770062a82a160f8170063f039dc7e8707e7010a867f0130006481a160f8170084c05030807f0167200b5c3b50170cff324bb3d878e02602b590c7d698e2f4783ad0b21d0a867fc113a837995d6293dd2adaada2dd6ab35b458ba9aeece6e24925ad16f26a219f54b6d5423ea9a4b339e556ee36e7271959e09a824e69f02f6581ad4b6c727df7bf4dfaec94d55c9c54b6934a3aa9a4b99232ba5342c1b4a216f22d177be0dfcad1d682fc0eb76ece3df0ca4a1939a96c4b1999ede152f526f3d6f03c3a4240c154fa17fd772aa1c16a0b3afd7e87dbeff010ae80a4929632723cb5ce9e8e47da7b91858082e15feecc1bf274503a2c329e92a4cc663c253190ac40080c05d30afaaff366de2786c63179996a1723048682e15ff6e9f174049dbea0d3cfea016a2e8ec909ba56051aacb6b5811984c050306560fe66e94f78c813087bbbf979c8637222262fd3922fc6c87a28983ea48c7c72f6359c87e2348b8d616f37b78f7736a74456e6087f4f6ab0dab686e771af42c194bd6fa204b8383e877bb4bd17ad060441500bf9e8c64274e363326f1884c050307d4f144a20205f3644dc2c36ae0dcce0ea40c134d1397b8eed127dc8971f115febfb00d70b0aa689b1c4e4f4c602cec31e1aacb6d1f65ebccf962ee2b1c4a4e139629fc3bdd4770197030aa686784afaedd53fe13c3c4abdc91cf69e424969192495f45862d2c0372a84c05030650f0c96e0f670c2e91b0f0ca1b76185dfeb838b13fadf570881a160cade1cb104b727f330d5358218aa5a775764654ee704d7e6700cdf9dfa83a91965329698847f7719f076af0dccc0bfd5c262aa1b0f0c5debfba0c16ad3e76f445f7644c134815d70bb348b8d535d23ccf476e0361c46080c05530352c08f06bfa3edbde824506ba48c7ce6ea5bb5bbe506bcdde381219c6728980e5aa7fb9182a83799af9c7e1799073dc3e13357dfaa45b1049a521a0b72c18703296041107c0ef7d6f03cfcab271653dd52df85911a94fa85bda7e05f44c1d4bc0fa2110fdac81a7e135631298110185130656f829c271faef57d00ff1a8bdfe1d91a9e6f161b110243c17c6148b53c39348b8d483e10829694e8f17454f873b44de4389f503005c453d2a7a9756e0fbfc7d381190aa45978aa6ba4c2d430fc4b02c8051f0ce7e3e8d13d9664ca2e51475f7644c1d4c06d0a424bfec2bf2413f2045607fe5a6f3223048682d984db1444bdc9bcd47701c95ff271894d4b7d170e65619fc38d6f56289802d4427e707182c303d716dfb0ed982e0b975e268110180aa683b1c42487298866b171a9ef0216df58b5b0cfe1c6cb0d144c015246267cd26d2de8f174c0bf94a215ab1d686184c050301d709882e8f1744c758dc0bf0c5bf884d38710180aa680c8cadcaddc6d0efd8b4bcfb685d1110d0aa6806c4e995899837f016316465f7628980e784b41c0bfac5a784fa51ab2c05030054819d9c011b6f02fa8918507bcdd088109041b94f7d272b1879f2c30fccb3cda90174110d094924c9ec6297814ae56e1b4b16fb8e86ce3129ba6ba4692ca36fc8b289874b86ac783fd1700900072c13fc0cf5eb806ab0dfe05000a26886c4ee1642f9c367913fe05000a262b04e6e44897fa2ea0ff0e00503041481999938e94935d6fc0bf0040c16411e1632fdc80b71b5d62018082890b8179d88be173b8d11f000028983878c80237586d574ebf8b6b0d00144c163139715dd966fe3051020100144c223c6481b1040700144c6808ccfc76e41e4f0796e000808211021b4083d586253800a06084c0c6801430005030a1443716d83ec091f65ea4800180824944cac86c1742f81c6e8c4800000a2614b6b3c0f526331a01030005931b02b3bd1d6eb4bd17236a0080820985ed2cb0cfe10e7b4fe1ce06000a26916c4e61b8291a52100040c144c3761638ec3d851404005030a1a8857c3c25b17a74cd6223aa20008082c925bab1c0f074386c8403000a269a989c60f5d07a3c1d7e87073734005030b9fe65754772bdc98c10180028987005333b2039ec3d855e100040c1e492cd29ac6ec768b0dab00a0700144c340c6fc7400a02007a799a8783540b795617e27c0e77d0e9e7e77e7da0e6be496ee5a5d5fbd99bda3fffcade7cfc8f3d633ff6acfdd85316cb5197fba8abe5a8cbfdacfd189e7600051b433c25b15a8bc6490a428d7f929756f3d26a21b955ca9fffd7f76abe17bff6ddeb9ec552e76fabf3b75982af40c7801c7ef2f0e143e60fb273f61c9389e0134e1fdb7391f3d2ead7b1cb6afc936f55b58a3ff619fb314bf0e4f3a1b3475d6e280040c1b5259b53dc17434c1edae6708cc9edc80fd4dcd7b1cb77a21f3e31c9505d17bf107ef5f9d0d9a72c56b8001802fbcb71ac2ec4f5783ad8f3ef0335a744ce7fd172fcabb1d76bed5f4110fe95bdf9d5d8ebd78f89d9c1fefbb5ffeb00e0310a3e1639c9642298b110f8819abb13fdf04ef45275730e87e2b9d05971f44d648a01a2e0aac1ea421c6321b01affe446ebaf6e47ce1be85f4110eec62effa3e57876b0ff819a831a00145c0558dd11c74c21c40335f7cf33bfce9cf9cdbf88c903dc8d5dfea2e5f8d7b1cbb00380822b8bad0a7926bbb3331302e7a5d52f5a8eefd68d91c3b7aa7a6bb03fddf932c2610005970fabad81439e0e068ee24ef4d276e7cbc6661e8ab323ad7ed1723c2fad4213000a2e07266b217c0e37034d29b383fd5f8dbd4efee7fc5655b73b5f5622e7610a00051ff221cf29d7956df68e8bf62cf00335971decbf4b55a6f576e47c76b01fb200b580d90dca4c66211aac36da43e07f9ef9cd0e85aff6da77c68be37fc6260e8028b82498ac85a03d04ce0ef6ef509b5abd1bbb8c053a000597f6a8b39885a83799439e00d5febd4b79a55721b9f5250d296c00051b0c935908aafdfb75ecf25d262a6defc62e232f0ca0e00360320b11f67653fac9bf496e7e39f607662ec4ddd8e53bd14b70078082f779e165310b71c2e9a3773b4676b09fe4fadf32f86aec75d40b0328f8c9309a85a0753b8612395f629f75baf8e7995f63690e40c14f80bd2c4483d546e974a2fbd99bb719ddd7f0adaa22290ca0e0bda8853c7b59087aa7c3b194027e9c7bf16be8e603a0e01fc1641682d285b8bcb44a600b9eaa7fc7201d01a0e04715cc5a6bb466b191d285381e5a2b7cabaaa8140650f00fb0d79d92d210f89be4e60e1f3503776397bf496e0a0040c14c6621284d04df897ec8cf5384401840c1822008127393ea4f387d16531d751ffb819abbcbd33ad58eb48a32610005331805079d3e1a3f36877502e8290c7857705249dfcadd66e9dad0db97874305ef48abf789197f07a06003903232732130addb3198dc0e7720681c013857306b89604ab3106afc133e9f256cd3005c2b98bd72344aa36095f5ed18fbf1adaa72fbf5037857307b5988137486c08220ec705c1bc0edd70fe05dc1710643602a15cc796d16a2608028981905539985e05cc1dfaa2a76ca01ee14cc5e77b466b191c61d1982204040d8a301b853307b2130bd0dda511bfb0d970579806b0527996b10ec777828fde405ee0584f7008028986e1aac3697d88410185f42000aa68375b63665d01b0243c11a68e20e3852307b8960bfc38dfb926a900e061c2938a9a419bb24f44e8a0300701805339585a0b71c4d4022020044c1b4436f22581084a72c163c510070a460b59067ac4730d589e0a72c563c510070a460f612c19496a30100a060ea69b0da289d570f00e053c14ced8ba33d04aef3b7e189c279001c29389b53a060b2ee27acc801c08f8299db1747fda68ca32edef795981102034e14cc58082c0802038960bc833f6b3f06ad0028180a362a0a6ee1fc89c21900bc2898b172081f13ad211005e30c005e14ac167670fd48e3298bb53e7892dfc7c96241361cf0a260c67aa451bd351961208e1d70a7604026cf87ce727bec96e02bb801002f0a46451a99f09c8b40140c100503e37921fc7b0e8fdae46a41451ae045c1ec35e8612c187c863f19f1f9c5033855b05ac833762598598ed31047dfe4eb41b2582c1c978200ee140c08e7f9d059ae02614bf015b44b061c2998b179454cf2e2f89ff93958dea27e80281850101872d2b3e6b9d0592cc4012818201046080ca0605d606f398e498ebadc36d6f5841018f0a86014a55114219ad86d1e76c462e12ae50da060401ff6a91956a76988a36fa2100240c180688ebadc2f8eff85bde332fbdbb01d0340c180029e0f9d7d8eadf63d472c969f5df91bae2c8082011dd8a76658aa51fbd995ff440a0240c1ecc0c302e3cfaefc8d8da5b986a919344503503053f05066f794c5dab4f419ed167e2e7496e79ec8000a06b0b091feb54fcde03a02289835f8e97a41af85e15f000503462c7c7ced73ba6a241aa666e05f0005330b87fbfdec53330d3448ed88c5e2b8f237e47f0114cc327c76bd783e74f6e76b7f27392961f6b71d5ffb1c73390114cc38ebbc76403eea721f5ffb9ccc6e3eb6d1379b963e43171e0005ef85b1313f1a3cf71e1247dffcc5d60d72f66e98fd6dbfd8ba812e94000ae6886c4ee1f9f09fb51f6b5afaac71e9336345fc8cfd58e3d267087e0114cc1d49651b27a1cedf6694889fb11f6b989af9e5d60dec7c0350f001d8ad36f62e86949171473e2ae25f6cddf869f8551d1a5dd6074f362e7df6cbad1b287b003af393870f1f526aab93b3afb1773deebefd5fb8291f478d7fa2c6afa9f14fbe55d52afe5893abe5f9d0594bf015e41c80513c8d5340da570b932b8d156209be6209be220833796955fb67475aad24e6adf3b7c1bc000a2e1f563d256536a1e022d4f9db7613b57969f59be4e60355cd4bab8220ec27652da75ce76f7bd67eeca8abe5a8cb8dd308a060b06f142c08bd380f87d531009442714584cfc16038b39ed9c4706800a060606c200c008082c986d59c693cb58efb1200289874982c0d1604219e92705f02c009142fc7d9ad229397e45e61279e92824e3fee4e403e6a215fa4b789dd2ab2fa9c42c102c3c55b3179190a060692cd29d99ca216f2daa6f9473d9b54d2f70a3b65fccc7a93d9253609826031d569bff03bdc6c3fc8a540ebee388dd6e9feeb8cf655c88c7e6231d5c105a0d648195953ada6ddb20d5b099a9db590d9ef7073153bd35d17ec129b5855704c4e84bda7200850f5f036a9a493cab69491b339e556ee36099fea5e61673db3b92e6c0a8230f1fd6ffa1c6e97d864b7da5c6213c39132dd517074e3e33f26a698bc300d56dbd6f03c94012a44cb2148994d29231b12e1568b66b1d1eff0b8c446bfc3c3528c4c7d14ccea93732b771b8b72a06ced4a1959d32e33af89d795eddd63a93799fd0e8fdfe1f63b3cb44b80ee28581084e7defe0f561f249fc3bdd477014201259254d2f1d47a3c255de7a9f134ed3aa65ec19db3e7189ebab63af05786237d5015e22949332fbd49862aea38e8f4fb1deea0d34fcb6a36f50a8eaccc4dacccb17a4bf5783aa6ba46601900f31e9666b131e8f4079d3ec28318ea15cc6aeff65d368763286e078fdef0317919e63d6c681c74fafc0e0f81a131f50a1604e158e424c3b723026120084236a7c453527463819032324a39e1f4059d3ea2d2142c28f8ccd5b73e65bab50d32c29c87bdd18d854fd1bca9aa348b8d214f47d0e937fc15930505c7e4c4d0e2fb0cdf2e288de010b5908fa7a4c8ca1cc25eb65dcc8282d542de117985ed1be5a3d3efa046981ff9463716a21b1f23dbabb38bc3de6efd73142c285860bd344d108406ab6d6d60065d23d8269b5362f232e46b2c3ae78b195130c33b957719f0768f0786f084b01af94656e6a63716702a0861b78ea2d66f9f8c2898875c84807539a41d80112fa041a73fecedae51b29811050b1cd4450882d02c362ef55d403a8219222b73902f454f5f2d92c54fbdfdf6db6c9ca0fffdf77de615fcfff2770bffbeff7f9b5ec2f3403bf19474eaa3914f53ebfffbef7fe16cd0f2f47d9a5abf28cd67738ac55457ada0989d28582de45b2ef6f01050a03a826ab23965707182edd5631e68b0dab4a0b84217b3a3604110061727e6e565e6af7dbdc9bcd4770149611aa384e8c602c32d4df8e484d3a7551643c1425249b74dff8e87ab8ea43075481979707102fb2cd80e8a439ec0619f4aa6142c705020bc0bb6cc5114fca2e08c1f7a3c1da3edbda567278e3076fc214f0727577a3db339b838813b9efce0b775ba1ffee5ea8a1f2a3bcc9e82030d561b27177b5e5e868549662c317972f635241fb862b4bdf7507ffe087ba720e409f073bd616132492a6904bf1cd260b51dd63f0c2a38ecedae3799616160143139d1397b8eab016ea0bc10984d055b4c7561ef29ae2e3c2c4c086a213fb83831b4f83e36bc2104e657c11c06c29a85cf5c7d4b2de4f124184536a774ce9ee3a1321d542b046656c11c06c282207c9a5aef9c3d97cd297818f4474bfe22f98010180ae637101604e1bab2dd3add1f4f497824f4242627daa67f87e40342602898f7405810847b859ddf5efdd35862124f853e4456e6d89e9b056a1702b3ac60ed7b899f1ae13d4c6f2cb44ef72795341e8f9a32b838819e0fa0ec109871050b82c0f39889ebca76dbf4ef222b7358a3ab9d7fb1f8062a0981d95770d0e9f739dc3cdf1f132b73c80e571db59047f103a83c0416d86bd3f338fcb44f2b8ecfe11e6deff53b3c381555f12f8a1f8016026f0dcf57f2138e307f8e5c62d380b71bf7ca7a66f3e4ec6b67aebe85047185c0bfa05a21301751b016b6b44ef7a35b0a22e2e237899491fd0e4ff17eafc8ff822a86c0bc2858100429239f9c7d0d37cd9e1ba8bc26d3cc90cd2949252d6536a58c7c5dd91e69ef2d1ed4c0bfe051aef57d50791cc38b82053e462c9747859357e822a9a4a58c9c54b6a58cfce88bd1812df0c71293e87c064abf61a060a4230e47bdc9ec7778824e5fd5c7741beedca4924e2adb4925bddf44957a93796b78bec851c7e404f65f80aa87c07c2918e988d269161bfd0e8fdfe13e30374ae655cee694e2cedd43f1a1d428aa01350a81b953305e27cbd3b14b6c72898d2eb189b4153cb5904f2ae96c4ec9e66e6be62de32d67c0db5d640b4f36a7b44ef7a3ff03a84508cca38205414047ab4a68b0daec56d1eff0d8ad36bb55d4fed147b5822048994d2dce1504a12a735a1bacb6b5819922913eee1650bb1098530523aea93af526b34b6c1204c12536693ab37cff3b87ba2ed9ef63d8a492d6f6552795744daf54f17006ef4ca0a62130a70a1604219e927e7bf54fb89938e784d377e5f4bbb849805121b0c0c3eeb8271274fab1650e917b9114b03682086709eca1f2ed7050f0778c078638efe0c33961efa92259ecc1c509a4aac0e32170d557a48ff07c42af9c7eb7596cc48dc5210d565b9170262627b08b07e81002f3ae608ba96eaa6b84c3f946a0c8b3a416f2983902f409817957b020082eb1a9bac975403ecd6263911edb638949a420803e21b020084fe3ccbac4a6c9ae37b0fd941f8aacc24919198d784aff267bbc9e5a2de4992ca3ae51080c057f871613c1c2789d8c6010dc8fd9dd89b35be85dba89b41d345266339b53b239a52a5b69180b81a1e01f5938a96ca30e9f79c2fb1723c6e404d59aa8eeb794dfe1dedd68531e9aac1f55b6d63249eb0e4a51c3acda85c002b75b33f6030d61998fe98af4d86eb9d8c36d23bd06ab2de8f4fb1d6edd7a9666734a3c2549994df28b4faabb1d0e517031a6ba460441808559a578211a87fead3799834e7fd8db7dd8dde49563b78a61efa9b0f7945ac8c753523cb54ea68b6b1a02230a462ccc976e6e8e5e4308acd12c366a3353c8f9489a8ba31b0b442de8d5340446148c5898238ae886ab1098d8c98116535dc813087902d99c1259998ba724c3ab034f387db53e518882f725baf1f11f1353380fccb0391cdb6f47322721305d635bd5423e2627a21b0b065e9a22f70ca2e09a13f69eb298ea50a9c68c7df67b96e85a9d2f8f06ab6d3c3044d778408ba94e4b16c7e44464654eff6bd4e3e9d0a11736147cf0ab2bb64b3171293bf67fdd61bc12f1c0c9d0e43f86214f407f11eb73d290883898a492ee9c3d070bd34b91e99cd99ce2be1862f5c09bc5c6a9ae11fdab1d6a876e22eef174686b42b5e6089ecf0371894d6b0333e8a9462f456642c7d85d741df076af0dccb0e45f2d22de1a9e9fec7aa3d6ddb5747b6f80824bc26e1597fa2e9c70fa702ae854b0af4854c564d43fd9f5469156186c8878a46696d4270b8c4444394456e626d0468036eebefd5f4ffc7d29239f9c7d8d3dff2ef55d602cf8dd8f6c4e194b4c567d4f870e85108882cb7f3db9d6f7015a0c53c4896221306b5908aefcabbd9e5e39fdeeb5be0f1aac361a436028b81cfc0ecfd6f03c861e31908588a724f8978d47726d60a65a79099dab47a0e072b098ea96fa2e8cd05ce8c3d5f3f9c4df4f2a69c6aa5cae9c7e9743ffee3e92a3edbdab037fad70d95ce710180aae4252a28a6f40a0ea68ed6e79c842bc1718a465db5bedd08a972a898df42fa08682abf00634b07f0b5a60741662dffd605a43713638e1f485bda770b977355a5e38ac7f080c0557e70d683c30847098d4b0e8c9cf214bf375ea4d667d3611d0150e2ff55d386c6c64c81e422818e130e3d785f910783c3054c96c0be663a312eb970c0981a1e0ea5ff2ca170440b528920896581950d460b511d5f397c0efe012eb978c6aa3010557ff0d686d60e6bdc0206a8749b816fbfd2b66a2e05194e594101b1d58bf6454080c05d78ab0f7d4d6f03cf212c42a988d443042e0437d5715494a18f84d0605d7362fb1391cc3260ee35e42dd6c87c0617cc71fee7ef06c0dcf3f9e2734300486826b8ed6dfe75adf0710b12127ff89bf9f54d26c1c205d2dd809098cd606667a1e691e5d6f321b9bcc818275fafa5deabbf0d1e97750b846868259c842348b8d06c66e5433d53532d9f5c6f76f12a78c3d8d50b0ae318bd6ea1422d68122af1dd99c82109873429ec0eac05f1bac36c3933950b001d77e6b78fea3d3ef203561146c2422fcb87f2a432b5e32bca41a0a362c84418eb8c686dab761021bdd79b8edc8534548d8d202051bac89a5be0b9bc3b11e4f07ea88f581997208ec88630328d878ec5671aa6b646b78febdc020d2c4784f2f05bc3c41c1a0fa418db6a1e3a3d3ef60485d2da3e04d9c04400e4fe3149046d0e90f3afd6a211f9313d18d051de675b3fa6e8193001005834a83e2d581bf0e78bb9129ae9682d9a848035030d00997d8341e18ba397aeda3d3ef60d5ae72a06040144844508396a0108491784a8aa7d6e32989b1d1670040c18026174b19597331f2c57b60beb0442de47195a16060307e87c7eff08c0786b239450b8dd7b1dc2f0842d1b53836b6c63133750940c18c1827ec3da50d708ca72429b32965643ca54f8499ec4d524963831c140c88e3fb3485a016f25246868e5945cac85030140cc8c562aadba3e3a4b22d6564242b5851f02606d743c1803a1df76aefb049252d6536934a1a0132a57c9a5a570b79748a8082017db8c42697d8b43b764ccac8d99c9254b63535a3d68d16e22909b3e3a060a007e9ce971fa8b9e743672dc1579eb51fabee0fdfd3d7512de435176773b7934a3a9b5350f44626d18d052898767ef2f0e1439c05c2b913bdf4d5d8ebbbffd7e46ab1045fb1044f1e75e9d72e2ba9a4d5425eeb71a3f57b24365e6eb0da824eff7860e889fff6b9b7ff83a57be35adf07453a2303281854ca0335f745cbf16f55f5f17ff58cfd589dbfcd123c59e76f7bca6235e4e365738ab6e537a9a4d5c2ceaeac2c7918c90000180249444154b57f5bf5a5bf06ab6db7e6d7253669995097d8a8fda21419b55cec6129a8f739dc4b7d17f09840c1a0668e1becbf1bbb7ce01f33fbdb341deb191a1f9632daa5ef7ab65a74ce9e63ac26e4a3d3ef608e1c140c6a425e5addee7cf950ffc9118ba5cedfa6fd43b28e8d823d0537586d24cc4003503083dc687da990dc2afb3f3f62b11c75b9778d8cf32908c299ab6f7d9a5a67eca07a3c1d535d23b8b834828a0872b913bd54897f0541f8565577a4d51d6955cb7d9a5c2d5a687cd4d5c26d80ec129bd853f0bcbc1c74fa908e808241d5b89fbda944ce57f76716925b8f3addec6fd35cfcacfd183f31b285d186cb838b134b7d22b62c231101aac33fcffcfa5efc9a9e7fa3c9d5f2acfd9816236bbf60f2c44a19f9e4ec6b4c1e5ab3d8b8d4770149612818544a19ab70b5e019fbb167edc78eba5a9eb258b530998160399b53dc1743acde39b030140caac0172dc7ff95bd49ecc733fbdb044178d67e4cdba7a779f9298b8596c099b1dd19b030140caa8912397fbbda5960431cada105d18ffedba72c965a6cb32e1df6ead2606128185487fbd99bff6839cef6311eb1587eb975c3a8ed7c82208c2526a73716d83ec9b030358f034e01516407fb993f4671f44d03fd2b08824b6c64fe245f57b63b67cf61c41c140c0e811aff64475a65fb184dae9617c2bf37f63370d2d7e6bab2dd72b1878d59795030a8390fd4dc978fb4436315fbd48cf19fc12a323f6259e35e61a773f65c4c4ee0f98282c1012891f324574154859f865f25a46a829f8d64f70a3b438bef0f2e4ee0118382c1be7c93dcfc9fe8878cdf6a168b38fa26211fc6efe06b7ff6bcbcdc3add8fa404140c9e0c0f298817c7ff62ec2adc9e28b89ed19dcafba12dd045373ec6e30605831ff175ec32f3ab70667fdbf3a1b3447d240e9bdadc2becfc3131d5397b4eebb20fa060a0adc2fd81f9c3246115ee3105fbf8bce5d6339badd3fd0887a160200882f0e5d8eb4f1c4ac412b6d1370ddc0b57240ae62d17b1271c4676180ae69dbcb45aca5022aa79c67eec85f0ab647e36cec70f5f57b6dba67f379698c40e0e03c1066523a97028061538aefccd127c85cccfc676d7b4d2a9379947db7bc3de533815888239a2f2a118143cdbc193c4fa571004bb553cc16b46f851b4bc44cbc59e32e6ab0244c1545264343d3b5fef16cbf1b5cf09cc023f0ac31ddccbc3e7708fb6f772b2871b5130bf6407fb995f857b21fc7bc2fd2b0882dfe1f1393067fa07d6339b27675f3b73f52d14ae210a6616428662d49467ecc77eb975838a8f8a40783f7a3c1da3edbd76ab885301053305e14331aa42e3d267144d3962be893b444c2c4844e80d0fed789e0b9da56bcadc687b2feeccfd989797dd1743838b13484d200aa69efbd99b375a5f627e15ced8a118e571e6ea5b9fa6d6718b22224614cc323cacc2193e14a33cc60343dc6e9643440c0573018662908cdd2a626fc2a1448c6d75550189089d78a0e66eb4fe8af92cf0cfd7fe4ecb28fb27d23add7f5dd9c6ed5a22f52673d87b2aecedc69c5044c1a47327fa21866290cf54d708eed5d2b957d89958996bb9d813599943448c28985cbe496efe77ebaf18ff32a77315ee71222b73132b73b869111143c1ec90ee7c99f92c70c3d40c694dd9cb06e9880a458c223f289820be8e5dbe35d8cff6319afd6d4d4b9f317338d99cd23add7fafb083bbb7ccef63ab6db4bd97f35ea0503011f0d08e47a07f15ee71e229e9b757ff841b1822ae35588eab2d4ae43c0f433118f3af200841a77f046fd395712b777b68f1fd968b3df19484b38128d8003869c7737cedef0cacc23d91c1c5897979197772e5a00726146c00188a413b6a21df397b0e4b731031144c1f77a297be1a7b9ded63646c150e16d64dc4535d2368340105d7100cc560091448d40274fcf9ee39c2ad500b78184d4fc5508caa60b78a4b7d17d0c4a7baa0d104a2e05a81a1184c9254d29db3e7100b571dceb7d541c1d5074331606150868847db7b396c5687444495e16128467df02487fe1504c12536ad0dcc348b8db8cfabcebdc2ce1f13532d177b627202513028130cc5e001d448d41aae6ad7100557932fc7fe80a118cc6331d52df55de8f174e086af11eb99cd93b3af75ce9ee3613607a2e0ea0547f14f32677ec3f6319a5c2dc7d73ec7b5d6405b4b1de8f1748c0786185ea98382ab03274331f85c852b424c4e8c2526b1405753d82e994022a23a70321403fedd43c81358eabb8005ba9aa2cde6689dee6772a50e517015b89fbdf98f96e36c1f2356e18aa016f263894934f4d101f6363743c155004331802008f19434b83881a4840e8cb4f7323398030aae140cc500bb6473cae0e2c47a6613a7a2d6348b8d535d232eb1090ae61a0cc5008f13ddf838b2328770b8d6b0b1a10ecb711581a118e071c2de535bc3f3279c3e9c8a9aa26da83b73f52daa1bfd200a2e1f1e46d3b33d14a3d64819797071e256ee364e454d69b0daae9c7e97d2a404145c3e188a014a21b23217ddf81879899a526f324f758d049d7e289817301403940eaad6f4e1bdc02075a96128b81c385985fbc5d60d4e9ab2eb4352498f2526512f51537a3c1d535d23147d602cc795030f43316ca36fc2bfd5c525362df55db8d6f74183d586b35123e6e5e5c1c50944c12c83a118a072d05c02b130145c263cacc2a11d8f0ea8857c7463012b759c5b188988c3a144ce33ef5f6e8762e88cc55437dadebb363083d6c3b580968c04a2e043c0c9500c4e46d313057636731b0b230a3e049c0cc5807ff5c76e15b5953af4bdac7a2c1c21bbad3ea2e052e161150e433148202627222b73d853574526bbde0879025030c5602806d019eca9ab2eab037f25730733121125c1c3508ce74267e15f72186defdd1a9e1f69efad379971362aa773f61c99dd7c10051f0c86620003c9e694c8ca1c3637574eb3d8b83630832898c26780f58eec8220bc38fe17f8974cec5671aa6b647338e673a06568455c57b6c712938882298387d1f468c7430b52468eaccca176ad12aef57de07778a0603ac0500c40a688d186b86cea4de6ade1798ba98e90cf8344443178188af1d3f0abf02f5df81d9eade1f9c9ae37d0eea70cee157688da358728785f301403900f6ad7cae3a3d3ef10d2df1d0ade171e46d363280603a0dd4f1934586d6b033324a4239088783277a29798f7afd9df06ff3280d6ee676b787ec0db8db35122b772b7a31b0b88820905433100a5a088f8506c0ec7ec5611513071602806a094dd22e2134e1fcec68190d0c10751f05e301403b0018a88a9088411053f1e02ff81fd58696a06179a79fc0e8fd60013dbea480e84a1e01f81a1188049117f74fa1d14113f917979399b530cfc004844fc00866200b64127e22762ec640d44c13fc0c3508c17c2bf877fb925e409605bdde3c45392817d2c11057f078662007ec06e8e3d183856030afe8e2f5a8e632806e04dc49195b969327628188b81ad8491881004415022e7311403f086c554371e184227624110ae2bdb462dca210ac6500c0084784a1a4b4cf2bc52f75e6030ec3d8528d80078188a218ebe09ff8222049dfeb581199ebb4cc40cdad5cd7b148ca118003c4a52490f2e4e5c57b6393c764376ca711d053f50735f8ebdcefc61be38fe67980594884b6ce2361c9632b2fe7f29d70ae661150e433140198c0786aef57d506f3273a66003fa69f09b88e061280656e14025a885fc99ab6ff1d3e8a7c16adb1a9e4714ac133ca420ec5333f02f281b8ba96ea9ef023f49895bb9dbfa97a671aae0af63973114038052180f0c4d76bdc1c9c1269534145c731ea83974a404a074429ec0eac05f79480d27752f05e151c1188a01c06171894d4b7d1798b7b0fe4511dc29382fadde8d5d66fb189fb11f7b21fc2aac0160e1c3a27fcb34ee14cc490a02ab7000162e83eb4844d4943bd14b188a0140e51666f800752e8ae048c1f7b33795c879b68ff188c5f2e2f85fa009506b0b335c230105d70a0cc500a05a843c019e7bfa40c187262fadde8b5f63fb184dae1671f44ddcd3401fc60343cd62237bc7a57369302f0ae6a12325521040670c9c7a593b547d873971a1600cc500a016b8c426a423a0e003b89fbd79277a89f1ab68b1a023253084d1f65ede1aaa41c187233bd8cffc2a1c866200a3b098ea0c99f70305d3811aff8487763c2f847f8f5b191845d8db8d40180a7e02188a01803e8170d0e9c7798082f77227fa21866200a00341a70f27010afe11df24376f73b0170e85c0800c05fb918b80827f041f2988bf60150e1082dfe1c1498082bf8393a118cf87cee20e0684e0129b7012a06041c0500c008c8982b12601050b8220084ae43c86620000ca0c6eac3628b87cf2d2eaff443f64fb16c1500c4020cc2422ec56110a2e1f1e52102f8eff19ab7080342ca63a9c04de15ccc9500c8ca607000a268e076a0e4331000015a273751d3b0ae6a11d0f86620062d1b9d339a260b2e06128c633f663d80b078845fff1efb5a041df72087614ccc3500c14020350f3a74cdf720846148ca11800181f06e93b78180a26050cc500800c05df86827954300fa3e9311403900f1bcb712edd6742d3ad6035fe090fa3e9311403d01005b39088d07f8309c50ae664280656e10005c150217f5dd966e040f46fb949b18231140300429032320347a17f451ac50abe9fbd89a1180010a3e04d068ec2904e43b42a988742600cc5008882a16012c1500c508a145aa7fbd95823223d1eca29ac24820d48fad1a7600cc500a5105999bbae6cb74ef7a37741ad89a724360e045170496028063890989c58cf6c0a8270afb0d3397b8e1947904974638181a368b0da0c69794c9982bf496e622806288e5ac88f252677ffefbdc2ce6faffe29262770666a8194916f31b12fcea809d09429988f55380cc5a83428bb57d8d9f39b438bef0f2e4ee0e4549dc8ca1c1b0762d4f8519a14ccc3500cb3bf0d43312afa92ce2913fb48615e5e6e9dee67a3a72239677b9d89723444c107c3c9500cacc25548f150170b747a9e6d8a68b0daf46fd0439982bf1c7b1d43314071a48c7c6050762b77bb6dfa77480deb73b66921e8f41b1678517182f2d2eaddd865b66f680cc5d03328d352c3484a54c2a36b9ef467210c6b034087823114031c4874e3e3432dcdcfcbcb9db3e79094280fadec9a8d63a937991105178387a118f5c193188a51096a215fc6d2fc7565bb73f61c92128725a9a42758298430360b41818239198a8110b8f297e2c70bd14ae15e616768f1fd3357df4252a2f46f3bc6cafb824e1f14bc2f188a014a09cae6e5e54a7ec2a7a9f5d6e97e367acde8f06dc74c0ac2f02c04e90ae661343d866254450a95ff905bb9db27675f1b4b4c221c2e426465aec26f3b6421a851f00335c749474a3cd895b0db0ea22a4c6f2c201c2e72aa594a016b84bddd50f093e164280656e12aa1bc553884c3e5f97768f17dc60eaac16a33a43b1a050ac6500c500ad18d851af58899de5868b9d883166b0cfb978410985c0563280638f826d9bf1d4455d05aac75ce9ee3bcef7b64658e49ffd69bcc214f000a7ed2db65fc130cc50007a2cfeeacf5cca6fb6288cfbc84567fc65efe5723e8f41bd220780f3f79f8f02151e7e5819afba2e538f385683f5ffb3b4623578294914fcebea673d014f69e1a6defe5e40c2795f4e0e2044bf5677bd81c8e19d59a87e8289893a118f02f1521f09ebcc4c4ca5ccbc51e1e76d345373eee9c3dc7b07f7b3c1d24f897b828f89be4e67fb7fe8aed9bfb19fbb1e36b7f4716b84241fc313165e00768b0da46db7b49c824569d6c4e194b4c7e9a5a67fb16bad6f781510d82895670baf365e6b3c08e2b7f4353f64a500bf9968b3de56d4786880ffc6e8baccc91706e6b8acfe15eeabb40c8872148c177a297be1a7b9ded6b6ff6b7352d7d068d5698829826695ea496230e7bbb4958db291b29230f2e4eb031058ea210982005f3b00a77c46239bef6399ab257425249b74dff8ecccfd6e3e9087bbb0d2ff52f43be919539669aaf977299a6ba46c8f93c4f13f23930140394180213fbd9e6e5e57979b9596c0c793a429e00f941714c4ec4e4657ee4ab415a4d0b1151705e5addee7c99ed0bff8cfdd82fb76ec0a195104f49bfbdfa275a3eed09a72fe8f411527cfa28d99c12939763728293b4c3a30c78bbc7034350f05e6eb4bec4fc68e4c6a5cfd00ea212d442be75ba9f466b682ef63b3cc65641a9857c3c25c553ebcc573bec47bdc9bc353c4fda37a2f1890825729e79ff622846e5d4ae1d44adf9f47beb358b8d7e87c7ef70fb1d1edd4420656429b3194f490c17f996c8786088c0ec90c151f0fdeccd1bad2f61150e1cf8eedc3addcf52b154b3d8e8129b5cdffd6f5315d59054d2d99c9254b6599a705c394415a211140573321403fead90b2e71211cb7565fbbab23dffc83bb24b6cb25b45bb55b498ccbb6515daef3c9e52d89d3aaa16f249655b8b76d5421ea1ee7e2908a2aa20485130866280125fa5994f5fde2becac6736d70504ad3521ec3d45c876e427bc251bf97689a118a0b41018270154928220b9b992610ae66134fd73a1b35885ab90989cc0cb35281b9253101ac62cc7ddcfdefc47cb71b6affd118be5975b37d08ea712c86907012865b2eb0dc29b7818130563280628051e5ac680dad1e3e920bf8992010ac6500c50d2f7744e21aa1d0fa08b66b191b48d704428f8819afb92f576688220bc38fe673c031532b838819300caa3de64be72fa5d2a7ad7e9ad601e56e17e1a7e1543312a249e92b0ad0094cd95d3ef125b85b6075d97e33014039448cbc51e0e9bc880aa40fe129c615130272908f8b742222b73f02f280f2a96e08c51f0d7b1cb3cacc26128518564734a74e3639c07509e7f09af02364cc10fd4dc97637f60fe0eb04fcde031a83c0446211a28039fc34d9d7ff553300f43316c68c7533152469e9797711ec06169161baf9c7e97c64faec7721c86628012e99c3d87420850867f97fa2e503a3e558f28182908500a313901ff02aefcab8782ef442f6128063810b590474734c09b7f6baee0fbd99b4ae43cdb37c1118b051d292b27bab180553870284e387db4fb57a875cb760cc500a590cd29132b73380fa07468ac3fd35bc1188a014a04ed20c0a12070163d890ac6500c500a9832090e055dfb8f0d533086620084c0a0ba68fdcffc0e0f4b07551305dfcfdebc13bdc4f6dd70c4624147caca413b085022dae60b5afa9f19ace0ec603f0fab7068c753216a218f7610a0147a3c1de38121da8b1f745230274331b00a573963894914a28103792f3018f69e62f5e8aaac600cc500259254d26807018ad32c364e758db8c426868fb1ca0abe13fd10433140890aae3799110583fd18f0768fb6f732997c78946ab6e9e161280646d35711b5908faccc614627d843bdc93cd5351274fa7938d86a2a38ddf932f35960c795bfa1297b75c9e694c8ca1c921240e384d337d535c27cf05b7d057f1dbb7c8bf5bd18667f5bd3d26778486a819491232b73d8a381e09793e0b7ca0a7ea0e6be6839ce7c21da2fb66ea01d04440c6a012799dfc7a9ce729c12398fa118a072fc0ecf529f0722e68a66b1713c30c4d89e375da3604e866260343d226250f5ccc3687b2fc335bf3a29f846eb4bcc37656f5cfa0ced20206280cc03710abe13bdf415eb7b31ea83277f76e53ff1cc184852494737165035c1063d9e8ed1f65ef6ba3d18a0601e56e18e582cc7d73e47169804b4f2b5784ac2860e4af139dce38121b677bbe9aae07f9ef935f34dd96da36f8aa36fe2462107b5908fc989e8c6025aacd125dfd1f65e6ed7dc6aa2601e56e14cae96e36b9fe32e2193784a8a6e2c204d4c7eda21e4e9807cabafe02f5a8e33df0e02ab70e493cd29d18d85989c40768240f922e75b2b052b91f3b7591f8dfc5ce8ac7d6a06b7082dc4e4444c5e46506c380d565bc813087bbb51ed502b05dfcfdebcd1fa12f3ab7068c74369501c93976372029962fdf139dc616f376f3b8c0d50300fab70ff67fccf68ca4e355a1d1bca27740b7b439e0ee41cf450b01aff2473e6376c9f14b4e36189784a8aa7d6e1e2aa536f32079d7e2cb5e9aae0076aee46ebaf985f85fbf9dadfd1941d2e0645cc1b74fa90703040c13cacc2fd34fcea8be37fc19dc13049251d9397a58c7c5dd9c6d98079a951f0fdeccd7fb41c67fb7460158e2bb23945cac8f1d4ba9491111a3f9166b151332fb6b419af601e8662344ccd3c1f3a8bdb82cfd0587331cada9ac546bfc3e377b8fd0e0f0acb4851308662007e90327252494b99cda492e6a4b8cde770fb1d1e97d808ed12aae03bd14bcc4f47c6500cf038d99c9254d249655bf33233f90a9fc3ed129b5c62a34b6c4292818e44842008797613114f592ca88200a518399b53a4cca6f60b5ab2163e87db6e15ed5651732e0a7869553000600f6a219f54d2d99c92cdddd6bc9ccd2946a52f7c0eb720082eb1c962aa73898d16539df66b5c26281800ee9032f2f78efeaefa2da9a4d542fed13f53248eae37991f4f113caa544db27b7e1340c10000004ae2084e01000040c10000000503000080820100000a060000502bfe3f993423a762aee87a0000000049454e44ae426082, '0', '0', 1);
-INSERT INTO series (id, name, logo, hidden, locked, organization_id) VALUES(2, 'Jugendmeisterschaft 2018', 0x89504e470d0a1a0a0000000d49484452000005280000034308020000002110667c000000097048597300002e2300002e230178a53f760000000774494d4507de05080f1b27eed449ac000020004944415478daecdddd79dadcba3650f25deb1c52014a05c81520576052814505c6151857105c814505810a2c2ab0a820a2824815e43b602f6fb6ed38985f09c63878afc4af4df00424dd7ae67ce6973f7ffe340038b8344d2f2f2f977fee76bb2f5f6fb55a6118befc350cc356abb5fc7310044110183a00807af92278031c451cc7e3f1f8533ff2f8f818c7b1a10300a897ff6708000e2fcbb2cfa6ee46a35114459aa64551184000801a51f1063882288a66b3d9663ffbf4f4144591310400a80b156f8023188d46cd6673b39fcdf3dc00020008de007c240cc3c9642278030008de00ec4b14458f8f8fc6010040f006605fe238bebebe360e0000823700fb9224c9ea26de000008de00ecd86432d9b8d11a0000823700ff48dd61189665b9fe8fa4696adc00006ae43f8600e028b22c1b0c061befe60d0080e00dc0fb8aa2180c06e3f1d85000009c0353cd010e6a381c0641207503009c0f156f80c3c9b2ecfefede3800009c15156f80c30982e0e6e666cb07298ac2480200d4c8973f7ffe1805808349d3f4f2f272cb0771e80600a811156f000000d823156f80a379d9913bcbb2e504f23ccff33c5ffe61b158fced071dba0100046f0076a3288a288ae6f3b9e00d005053a69a03545aabd56ab55ac6010040f006e070b22c33080000823700fb8ad97614030010bc01d899b22c0d020080e00d00000008de000000207803f0316bbc0100046f007623cff3b75fd4d51c00a046fe630800aaa6288ac96492a6699ee7ef66ec24491a8d461004711c1b2e00808afbf2e7cf1fa300501d49924c2693e974faf1b7359bcdb22c3b9dce64320982c0b8010008de00fcdb6834babdbd5dfffb97f1fbf1f151e91b00a0b2acf106a88a344d9773c8d7b7dce27b3299bcbb141c00802ab0c61ba02a922499cfe71bfce0743a6db55a9f0ded00001c868a3740558461b8d90f369b4dcbbc0100046f00fe6132996cf68365596efcb3000008de00e762381c763a9dcd7e56c51b00a0b2743507a88a3ccfc3305cf64bfbacdfbf7fb75a2d63080050412ade005511044192245757579ffaa976bbfde3c70fa91b00a0b2743507a8905eaf1704415114799e2f168b7f7e7fb3d94c92248a224307005059a69a0354519ee793c964341a7d10bfefeeee0683815a370080e00dc0a6c7e82f5f3ef8bf4f4f4f6add0000d5678d3700000008de00bc91659941000010bc01d857ae2e8ac228010008de006c48ae060010bc0190cc010010bc01ea29cff38fbfc11a6f0000c11b803d066f0000046f00000010bc01a8a47f2ee136d51c0040f0066073ffccd565591a250000c11b000000046f00ea4903360000c11b800dcd6633c11b0040f006000000046f00000010bc0178b1e65661699a1a2b0000c11b804ffbe726de000008de00000080e00d50496bb62bd7d51c0040f00640f0060010bc01000000c11be07cacd95c4d0f360000c11b804dacb99dd87c3e37560000823700000008de000000c01e7cf9f3e78f5100a8dcd1f9cb9735bff3f9f9390c4323060050592ade00f5a6bf1a0080e00d00000082370095b1664bf325156f0000c11b80cff95496fe544a070040f006000000c11b807dcaf3dc20000008de00ec4b9224eb7f739aa6460c0040f006e013417a369b19070000c11b80bd188d469ffafed96ca6b1390080e00dc05af23c9f4ea79ffda9c96462e80000046f00fe6d381c6ef05382370040957df9f3e78f5100a882a228be7efdbad9cffefefdbbd56a194300800a52f106a88acfaeee5ef5a946e800001c928a374025144511044159969bfd78a7d3c9b2cc30020054908a3740252449b271ea6e341af3f93ccf73c30800207803f0be6de6992f69b10600207803f0be2449168bc5f60f622401002ac81a6f80e30bc3703e9f6fff38bf7efd0a82c0780200548a8a37c091a569ba93d4dd30db1c00a09254bc018e2c8aa2d96cb693876ab7db5aac0100548d8a37c0316559b6abd4dd6834168b854dc50000046f00fed7f6cdcc5fd1620d00a06a4c3507389a3ccfbf7dfbb6dbc734db1c00a06a54bc018e66e7e5ee86d9e600008237004b4551ec695ab8d9e600008237008dd1685496e53e1ed9a662000095628d37c071b45aad3d05ef46a3f1f4f4144591410600a802156f80234892647fa9bb61b639004095a878031c4110048bc5627f8fdf6c368ba230ce000055a0e20d706893c964afa9bbd168946569a5370080e00d70a6f6b18bd8bbf1de5003005481a9e6000795a6e9e5e5e501fe21b3cd01002a42c51be0a00e53ee6e986d0e002078039ca13ccfa7d3e9c1fe39c11b00a00a4c3507389c388ec7e3f121ffc5dfbf7fb75a2d230f0070442ade00075214c581537743d11b0040f006381f075bdd2d780300548aa9e60087501445100465591efe9f36db1c00e0b854bc010e214992a3a4ee86a2370080e00d700e8e32cf5cf0060010bc01ce4292248bc5e258fffa743acdf3dcab00002078039cac2396bb9714bd0100046f809395a6e97c3e3fee734892c40b0100702cba9a03ec571445b3d9ece84fe3d7af5f4110783900000e4fc51b608fb22cab42ea6e986d0e002078039ca4a3afee7e61b63900c0b1986a0eb02f799e7ffbf6ad3acfc76c730080a350f106d897ea94bb9714bd01008e42c51b602f8aa20882a02ccbea3ca576bb6d436f0080c353f106d88bd16854a9d4dd6834168b4596655e1a0000c11be0448277059f95d9e600008237c0294892a46ae5ee259b8a01001c9e35de00bb1704c162b1a8e6737b7e7e0ec3d06b040070302ade003b36994c2a9bba1b669b03001c9c8a37c08e4551349bcd2afbf4f43607003830156f805d4ad37427a9bbd3e9ece9192e160b2bbd0100046f80badad544ee56abb5bf272978030008de00b594e7f9783caefef314bc01000ee93f8680ba984c2645512cff1bc771a3d1e8f57a7bad0ac2670d87c35a3ccfb22c279349afd7f392010008ded068341a59964d2693fbfbfb97af1445319fcf0783419aa63646a2228aa2d861b97bdf3795046f00808331d59caa4bd3f4e2e2e2d5bad9f97cbefcc370381c8d4646892ad8ed5b71df7794cc36070010bce1ff84997777452ecb723a9d0ade5441511455782b369bcd35bf7339dbdc0b0700207873eeb22c4bd3f4e3ef09c3b0280a63c5714d2693b22c8ffe34cab25c3f7befaa013b00008237355614c53fc3cc743afd6738877dab4e5bb5f517874fa75337ad0000046fce5d1445cfcfcf1f7c43b3d9bcb9b90982c05871444992bcbb1a62639d4ee700c1bb61a5370080e00d8dffce86fddbecd9b22ca328d2d89ce3daf9eaee83ed93277803001c80edc4a841a469b55a799ebfbb5153a7d389a2c8287144699abeb4d9af823ccf3b9dce9a4f6939dbfc60391f00e03ca9785303c3e1308ee36eb7fb6ee6911938fafb731f0fbbf1eaebb22ccd36070010bce1d3a2281a0c06c681aac9f37c369bede391b32cdbf867056f0000c11b769643b60927b0bd3d95bbb75c40f1a9e03d9d4ef33cf752020008def0fecc5b9b2171447f6b3d50850f4bbbdd5efffb15bd0100046f683454bca99e9d3733dfe187e55335f3e5de01000008de001552144565f3ea62b1f8d4e6f6f3f9dc6c730000c11b1aefb6b04ad3d4c87014a3d1a82ccb3d3df8a762f3bb3edbeddf6c730000c11ba05af65aeede3e781745d16c362bf2eb00009cb9ff18026ae16f95ed3dede404ff8ca98bc5a2cacf70b9cc7b3a9daef9fdcbd9e6db077ea0ca07ae2449c2305cce8879f94310043efb00823740e5ec6917b1dd06efc160b07ef05e5e9457fff702365314459aa6b3d9ec831bd6cd66330cc3e59f5f1a3486611886a1640e207873163e58cb9da6e9969b1ec3a74c26938a97bb1b9fefaf2678c3c907ef7fb67228cbf22596afe6f31f3f7e0c06036308b00d6bbc013ee700bb88ede45ed267fbab2d160bfbf3c1a9caf37c9b7e904992d8fb0040f0e6f42f173ea8780f874369818359ced5accb53ed76bb9fbdb6f612c3496ab55a9f3d20bcb8bdbdedf7fb823780e0cd291b8d4683c1e083a8339bcd2e2e2e2693495114868b7dab51345df657fbd48fd8540c76ebcb972f6118f67abde17098a6e911cf536118a669fae3c78f8d1fc1fe9d005b9d11fefcf96314a8acc160f0f0f0b0ce77763a9de565c167a7d7c2faf23cfff6eddb01fea13f7ffe4451b46569bddd6e2749727979f9a99f7a7e7e7ee9ae046c63341adddedebefd602edb95455174b076e245512c5b9acfe7f38d1fe4eeee4e1b0800c19bd30c396118aebf26add96c6659a6f32afb13c7f1783cdef7bfd26eb7f33cdf3e782f03fc972f5f3ef5233737370758c40e27af288aaf5fbfae73e65a86f0bd360fdfc9b14bf006d886a9e654d77038fc54279856ab2530b0d7cbe803a4ee46a3b1c32bef344d979341d667b639ecc49ae7a36523f1fbfbfbefdfbf7ffbf6add56aedbc6b499aa66e490308def05751147daa138c9ecc54e132ba523658e6bd582c646fd8de7038bcbebefeec4f9565b98f05533bd928c11a6f00c19bd31404c1a78274a7d37159c09e14457126c1bba1e80d3b9224c906d93b8ee3dd66ef9da46e00b6f41f4340958377a3d168369b6b4e389fcfe75996e90bc53e4c26936db6c03d62f0dee07e81e00d3bccde8d46e353ab54f6b1616118864f4f4f59961545b16caebe4d973500046f4e2d78675916c7f13a5721d7d7d7cbe634c68d7d38644ba11d96a7e6f379abd56ab7db8bc562fd9f2acb723299f47a3daf3b1c257bef5cabd58aa2e8d5b125cff33ccfb32c7bf9efa70e140008de9c54f6fee73edecbd43d1c0e358f617fd7cdf5bd1e4dd3348aa2cf5ef40bde7062d9fbdd336c1004afd2f86a553c4dd3d5c2f83e4af100823754451886699a7ebc25d2f29a06f6a4d6ddf297cbbc3708de5e77d895a228c230fcd4c7b0288a7d74595be79cdbf8efbc9b344d2f2f2fbd7c003ba1b91aa720cf7383c09ebcaaf9d434787ff6a796b3cdbdfab0fd07308ee320086e6f6f3ffb83460f40f006c19b7371c8d5dd4bcb45134551eceaba3f088276bbfdd91f349104b69124491445171717e3f1b88ead191bf60f0310bc010e23cff3c32f6b5c06ef5d95d9978fb341dfc1e974baabf00f6765d973a4dfef9fdea268757800c11b602f17d027f05b2cfbab6df083669bc3066add8ef1636ec60108de9c3553cdd9d3fbaa6a5d8837b3d9326fc11b3613c7b1410040f046f086b5d4ba99f9ab0f481886cd66f3b33f68b6396c60b3fb5caff8e80108de00a7af288a637517db603df6c796cb3215bde1305aad56a7d3d9c9c7b66aacf106d8987dbcd999c160e094ccc9188d46c76a44bcf3cd7b971d9ec2309c4ea71b046ff366e153c2305c3d1b6659b62c5f1745f1f2f5d52fd668c342757800c19b63cab22ccff32ccb8ed5c1d5547376eec436d35a2ef3bebfbfffec0f4ea7d33ccf978dd681cd72f8cb9f7bbddedfbe6d381c6ef00915b301eac254737660381c7efffefd88fba608deec3c759f5853e28dfbab35cc36877365161b80e04db5b829ce8939e22e621bb4405bff02badbed6ef0b32756fc072957140710bc018e6c32991cb1dcbdf3ce6aab97cb9b15bde7f3b94925b06faf6e6157f38eb6fbec00823767cd3d7876e86476115bb55c0962b63938af012078c3868ed57d9ad393a6e911bb15ecfb3a7ee372bad9e600008237c06e9c70c2ccb26ce3ed85cd36873339000e068356abf5e5cb972f5fbebcbd0b399bcd96ff2b8ee3d168e4b0002078037c5a9ee7e3f1f8b8cf614f6bbc1bdb2df36e287ac3499b4c265114f5fbfd8787877526918dc7e3dbdbdb300c1d1900046fce8be5706cef88cdcc5fb45a2dc11b3870eade6c4fd0b22cfbfdfe60303086008237e742ab55b67f0b9d760bb12dfbab2d160bb7b7e0246ddf51d29c7300c11b60dd4bcf93efd297e779abd56ab7db9bfdb8a2371cccc1ba3c4e26932dffad87878793dc0c0240f006d8b1a2282a72e1b8bfa9e68dad679bdb540c4e4f1004cd66739b4768369b669b0308de9c0b9360d9c66432a948b97b7fcdd5b60fde669bc3499e3db73cfa956559850619008237a72f8ee3bbbbbb8de7afee8435de6ce34cae1ad334dd267837cc368793d3ebf5aeaeaeb679846eb71bc7b1910410bc3944f01e0e874110180aea284992c562710ebfe9b25e1d04c1c6b7c9cc36873d39567fb256abb58ccd1b4f380fc3709bdb790082377c3a7edfddddddddddedf661978f79dc723a271fbccfe4372dcb727971bff184f6c562217bc33e1cf1f65fafd7fbf9f3e706e1b9d96c3e3e3eeaac06b08e2f7ffefc310aecf85df5e5cb0e1f6df9168da2e8e3b6abdd6e77398d163e254dd3cbcbcbea3c9fdfbf7f2ffbabedf673f4e2e7cf9fbd5e6f341adddede6ef608d7d7d7269cc3014e9d4f4f4f87ac24e7793e1a8dd2349dcfe7fffce676bb1d45511cc76add006bfa8f2100ce59d55677efb5ab79a3d1c8b2acd7eb6d73adace20d2729088297da759aa65996bd7b7beee9e9290cc37d1fa900046f38b4344df33c3fd6e2374e5b9ee707db2cf7b36ffbbd3e721886cd6673b356c665594e26935eafe7fd03a7ea837b734adc008237c7cf30fb98805aa969c09c9833dc02e7653fb0288aa6d3e9660f2278030008de1ce76abe288afbfbfb633d816ad62da9b23ccfc7e3f1b9fdd6cbfe6a41108461b84df0f6fe0100589faee6ec26c0445174f4d2b4adbcf9940a7608eb76bb07f8579645ef6de68b2e679b7b0b010008de1c34786fb65874b7a22892bd5953511467bb05cef6c1bb714e7bb0c1713faa0008de502df3f9dcba53d6341a8daa70b7e8b857f3db14d8a7d3a9fb5cb0573e6200823754d46c368be3d838f04fe75cb05dedafb6cde3986d0e00207873a6c6e3b1eccd3f53f762b1a8e0130b82e000ffca62b15856d2046f0000c11b646ff6a2b2bb881d267837fe5bf40ec3709b0731db1cb69124c960300882e0cb972f5fbe7c79fb0df7f7f7cbffd5ebf586c3619ee7060d40f086ca65efb36d9dc5c7d234ad66b9fbc083d068345aad56a7d3d9e67114bd6103cb2dfdfafdfe9ab36fa6d3e9fdfdfdb76fdf46a391bb5d00823754cbededadc6cbbc55d972f72159e60dc79224c9b76fdf9679fbb32d1e87c3a1fd3b00046fa89c653dc138f0224dd3d96c661c7615bca7d3a9e9afb0bea2280683c1c63f5e96e57c3e5fce580140f0866a656f45395e54fc46cc9631787dbbeaafd650f4864f7ec65badd6368fd06c36078381cf1d80e0cdd9d9f2fefd01c471fc52dfe39ce5793e1e8f8dc3d2f243d16ab5daedf6368f635209ac7f089acfe75bf69828cb72b15838a90108de9c5dea8ea2683e9f57f9499665194591cb14acee5ef5325b75cba2f77c3e37db1cd6d16ab5eeeeeeb67f9c4ea763e70e00c11ba95bf6a6a26f57933357ed6a9977c36c7358dbfdfdfdf60f329fcf7de800046fa4ee4a676fcd60cfd66834fa6c03e1c33bd83edebb0dde669bc33a5aadd6cdcdcd967bf8edea630b80e08dd42d7bb3fb776c2df6753f64f07e59681a04c196cbbccd3687350d87c3ed3f2c37373761181a4c00c19bd317c771ed52f74b4290bdcfd06432a97eb9fbf05e96796f7f11afe80deb68b55a699a6e7cababd96c5e5f5fd7e236220082373b48ddd3e9b4becf5ff63e43daaabdcb6c7338bc300cf33cbfbebe5e06e9757e6419d4dbedf66432f1590310bc3997d47d021b32cde7f38a6f81c60e2549b2e5fe3d82f73fd9df083e7b5cfaf5eb579224d7d7d7dd6ef76f0bbfbbdd6eb7db8de3f8e9e929cf734bbb01eaeb3f8680734bdd4bcb5f44e9e04c2e706bf13cbbddeeb182771886cd6673cbd9f8499298010beb0b822008825eafd76834d234bdbcbc7cfb3d2feb4100a83b156fce3175bf646f5ba19ebc344d67b3997178d76aa7069b8a010008de48ddfbcadee69c9f36abbb3fb6c3fe6a669b030008de48ddef7b787830e1fc54e5795ed372f7c1e697ee709977c3da0d0000c19bcd0c87c3134edd4bfd7e5f6038d5776f8d9eed2137f116bc0100046faa224992fbfbfb73f84d65efd393e779bdee191d37783776d1ddad2c4b2bbd0100046f3e97bafbfdfef9fcbefd7edf0ad5137b031b847fda6d7fb586166b0000823752f7c7a22892bd4f435114b6b65ad3cb7a72c11b78e16c0820782375ef4b5996b2f769188d465bee4a7d8697d7db37366f986d0e3597e7f960300882e0f6f6f66f5708460940f046ea96bda9eba5e14e72ef36c1bbd56a753a9ded1f50f086da298a224992300cbf7dfbf6f0f0b0582cfef69dfd7edf369c00823752f76eb2771cc74551783fd4f76dfcc1556365b55aada3fcbb799ebffcd96c7338c3c81dc7711004fd7e7fb5e9c3071e1e1ee23836740082371b4ad354ea5e9acfe75114c9de3555af5dc48e6e75abf39d04efb22c4d4685ba1c2dbf7efd3a1e8f3fbb36673c1ecbde0082379bc8b2acd7eb1907d9bbee2693491dcbdd47fff8ef30783714bda10e9ffa300cb7d93154f60610bcd9e4041c459166546fb3b79b11b553df66e6c79a6adef8bfcbbcdbedf6f60f389d4eddb4826a2a8a62381c5e5c5cac39b15cf60610bc91baf76e369bb9aaa891344d57274ed7cbb19aab35feefbe418ade70c247c8388ebf7efdba4da15bf60610bc91baf7c255458d585a2c7803af1445311a8d8220b8bcbc1c8fc77b3a4b9ae402f0b1ff1802a95bea5ee7aa42a8abbe3ccff7714d790e76de5fadf1dfd9e6479c3f0f671eb6b32c4bd3f430f380c6e3f1f29ff39107f81b156fa95bea5ef7aaa2be8b87cf8466e65b1e10967f08826027cbbc1b8ade7070799e8f46a3300cbf7efd7a7979797f7f7fb0d5373a92027c4cc5fb7ccfcd52f767dddedeb65a2dd3ceaba9288a5ac7bc4ea773f4e0fdb2c83c0cc39d74864f92c4e70576f8217d37d6665996e779966559961df7b4beccdeeade008237ff1b517abd9ed4bd81e53ee7b244058d46a35abfa58f7e9dfa6a99f7743addfe3167b3599ee74110787fc2c69645ecc964d26ab5b6ef432e7b031c8ba9e6e798baa328aafec9bbcad9db62ef6a066f83b0c3e0bdab8735db1cb611c7f1b76fdf1e1e1e168b455d4edce69c0308de48ddbb31180c56530a47972489191c5b5a5d081a8661b3d9dcd54b636c6163356d18297b0308de52b7d4bd0365594651247b57c709b455abc2b4cc7d14bde7f3799ee7dea2706ee6f37918864e940082b7d48dec7d229224d94927b0e37a696c7644ab097987cfc76c73384f8bc5c2891240f096bad94df63695ae0ac1db20ecc49e96797b81e0cc4f94b23780e02d75237bd75b9aa607dba5f61c06731fc1db6c73f8a76534dd556f05d91b40f0e608068381d4bd3f5ac81c9766e63bbff47fd1ed76bd4c7000711cdfdede9ef02f287b0308de67713aaf694f54d99b7fcaf37c27db4d57c1ab35d547b9422dcb72b5346d5331d8b7e594b497d3f409efce207b0308de5237bbc9de711c1b87033b8166e62f5e75353fd67d9c3d2df35e2c16abf3d88146a391e7791445e7b3586699bd1d0a00c11ba99bad4ca753d9fbc0d7acdee17b0ddebb6db4deebf514bb60f5b31686e1b92d042bcbf2f2f252c34540f046ea662be3f158f63e18976efbb05a8c6ab55a9d4e678717dc511479d56079f8bab8b838e189e51febf7fb0e0580e08dd4cdb6d97b301818877d2b8a42bfae7d785594dee16cf365f6eef7fb5e38cedc6030e8f7fb673e08b23720782375b3ad878707d713fb9624c989158b761b71b7c9c67beaaff6e2f6f6d6c410ce535114711c3f3c3c180ad91b10bca97d1a91ba5d4f9c0355d3fdd9537fb555e3f1d846009c61ea5e6d608e7325207853e3d46df69aeb893379ab2f160be37080e0dd6ab5daedf63efe95d96c1645d16a751d4efb631504c1b9b55273ae0410bca56e0e743d61df947d38a55dc42ae8d59b767f73e0e7f37918865a9d730e27e8288aceb695da3ae74abd5100c11ba99badd842691fb1f0f4cadd7baa2a6fe655157aaf8bcfb53ae7e48d46a37ebf2f757fece1e141eb0740f046ea66db5c217befd04996bb8320a8ce93592c16ababaff7ddf56dd9ea5cf6e624c5717c7b7b6b1cd6613f4e40f046ea46f6ae8a2ccb66b3997138c038afde14384041bedfefbbe6e69414451186a1566ab23780e02d7573d0ec1dc7b11ecedbd3ccfc305e2df30ec3f030d7dcbd5ecfc7841390655914455aa9c9de0082f7899cd7a5ee1a99cfe7f64fda529ee7ca47073bbcacfef5607b8c4fa7531f13ea2e4d53a95bf60610bc4fe7b2f86097c2c8de1571c2cdccabf6713e56f05e7e4c8220b034839a4a92e4f2f2522bb5edb3b7f92f80e04d5552b7f37a7db3b771d840511493c9c4381cc6abfe6a6118369bcd83fdebcbb6085e6e6a278e6333d176c5fc1740f046ea66dbec6d12dd0646a391b7fd21bd5ae6ddebf50ef9af9765f9fdfb77adcea98ba2287abd9eb5303b3f5dcade80e08dd4cde62c60db2c781b84437a55701e0c06877f0e5a9d530b799e4751349d4e0d85ec0d20784bddc8de359624c969bff32bb58ff74bf07e35dbfc009b8abdfb49b1d4938a9f9ac330d44a4df60610bca56eaa9bbd5571d774c26dd52a1bbccbb2ac42d1bb61a927159624c9c5c58553b3ec0d20789f88a228a4ee93747b7b6b15eb3a97b68bc5c2381cdeabe07de065deaf2ebbb53aa76a86c3a1566ab23780e02d75530ffd7e5ff6fe67f0360847319d4e572f738320b8baba3ad693d1ea9c4a9d97e338bebfbf371407cede6ec0018237fb4ddd168fc9de672b4dd3d96c661c8ea53a45ef8656e754e9bcac81f9b10e025114c9de404d7df9f3e78f5190ba39ae66b399a669188686e2955eaf770ebd82df1e87a328aac21d874ea7f3ea1ab7d56a1d7d02cecdcd8dfe081c857e2bce98001b53f196ba393e77f1df95e7f9d9eed0539137c37c3ecff37cf52bc72d7a2f3d3c3cc4716cb5270736994ca46e674c00c15beac695c4a939f966e61fbf1faa133656ff7aacdee6af8cc7639d9638a4d168f4fdfb77a9db19136063a69a4bdd5448b3d9ccf3bcd56a198a3ccfbf7dfb7626bfecdbe3f0972f5f2af2dcdece360f82a0227de6dbedf6643231e3947d8be3d8a2ee6a9e31cd39076a44c5bb727abd9ed47db69677f1d5f11ae7d4ccbcd96c56f9e9cde7f357c1bb2245ef46a3b1582ca2284ad3d4e7853d298a220c43a9bbca674c9b1d0082379b88e3580fe73367b7d2e5c5eef974cfaa7eb9e6d54d902a2cf35ebdf2bebcbcd4ea9c7d58b652732bbce2d9db66076ed683e0cd26a9db6d7564ef65d2b396b23a5e15948ebba1f7bbfafd7e75eaf09c86344da5eeba38cf5d399324591ef77abd9efbf5500f7fa886ebeb6bef46565d5d5d9dedc7a1dd6e9fcf0b7d7373f3ead77f7a7aaada937c7e7e5e7d868f8f8f151cc9ebebebdfbf7f3b9bb0bd6abec3f9d8e3e3e3f9bc459f9f9f97cb945e162b753a9d57076aa06a54bc2b41ad9bb7a6d3691cc767f88b27495291de5d871104c1abaf549e8d826d0000200049444154b070f16ae67f1cc7155c9aaed539bb3a23f7fb7de3503be753f72e8aa2d7eb2de785bdcc0e5bce95d3f302aa4cf096baa9aef1787c86d9fbdc76117bbbc6bb827be4bc6d5f54a995de2fe6f37918863619629b3ce38c2c7b575cafd77bf7f6b49e1720782375b355f63eabc5ab699a9e55b9fbdde09de779d59e645996d5dcd0fbad65ab73d99bcfcaf33c8aa2e9746a2864ef2a1b0c061f77e1edf7fbe7395d0e046ffe71f494baf9a7878787f3b9817d6ee5ee66b3f976dbf60a06efc69ba2771886955d8a5f96e5c5c585b20febcbb22c0c43add44e267b9f6af24c92e4e1e1e19fdf66dd0d549465ee7ab7500be7d036e6f9f9f9dc5ed66eb7fb761caab9b377b3d97cd5baecc78f1f151fdebbbb3be71a9c8ecfd3f5f5f5a936545b93766ba0b91aff73cf52ef163e7b0bffe42b78e7b377f78b7737f1aee6566a6f679b577399f7aafbfb7b532ef9d87038743a3e4927d62465b5a1da9ab45b83aa11bca56eea94bd4ff80c9ae7f919aebc78dbd2bcca2f71f537f47ef7e23b0c43532e7937c9c4717c7f7f6f2864efeafb5b43b58f69b70682b7d42d75b3f9a9f754bb469ddbeaeea55a74567b319d4e5f25d8ea17bd1bff2dfb68b7c6abd41d4591362bb2772dfcb3a1dac7b45b03c15bea864f2bcbf224234451146f37ac3a076f2bde550ede8d3745ef6a6ee82d7bf3b12ccb8220d04a4df6aecba5e33a0dd5fe3908daad81e02d7583ecdd188d46d55cd87cf8e05df157f6ed3afc5a14bd1b5a9df35f93c9248aa2f33ce09c73f6eef57a758c9d5996ed6aefc6d96ce6fe231c99fe729aa652479d4ee7558be95aab45d574e7de6d69deed762bfeb47ffdfa55eb5ef45a9d9fb3eab7e2c779f3c5efdfbf77be6b63b3d97c7a7a7228005dcd4fd60e6f58c2d272eaec694c1b4b9244b97bb52851f1a75da30dbddfa5d5f9d98ae3f8f6f6d638386fd6e5096fd650ed63cb766be7b9b60b8e4ef03e44ea36ab0dd7101f38cfb66aef06ef5abc9a6f679bd7eec6a256e7e7a6288a300cb552a35ee7cd77f79bdc5ebbdd8ea2c89b01046fa91b3e7d0d51eb5f2149929ddfd1af8bb7af5d2d56df2d168b57cfb32ecbbcdf7e762adeca8e1d9e88b552a35ed93bcff35eaf777d7dbd8f63b8db8e20784bddb0c93544ddfbb59eed6b57bb96e67f7bd56ab1a1f7bb9f9d300cb51a3a6d699a4addd4317b07411045d1bb2b92b6f4f4f4b48f8705046fa99bd357dfbd52d234adfe9266c1fbadb7eb03eb58f46efc778f00adce4f5592249797974ec4d4347b371a8d388e7755f47efaaf3dcd6007fe4d7fb97d787e7e3ecf2ecd1cd1f5f575ed3e269d4ee76c5faf775b9ad7a86efcb62f6ead0f7a3f7efc70e63a31fb98a3cb8969369bcfcfcf157f27dfddddb9e0075dcdab224dd32008aa53b250ebe628c6e3718dba940d87c38b8b8b739efff9ee4cbf1a2d397e7bc8ad69d17be9f6f656abf393511445afd7d34a8d7f5ace79b1de04389013b879f05234eb743a47df9cf0f7efdfe75cc4e3e81e1f1f15ba6be1dddda46bf4fc9bcde6db57b6ee2f4ab7dbadd736bfbcf5ebd72f47183e7b34ab72ddfbe9e96927bf66f56bfba0e25d754992bc14cde6f3f9e5e5e5603038d6a29da2283471e1b8fafd7e9517ac2a74bf78dbd2bc5e1db6cbb2acfb86de6fcd6633adce6b2dcbb2300c1d61f8ecd1ec1ceade3a99c3d1d53e78bfedf1f3f0f0709403a8d48decfdcf0be2fbfb7b2fd0527d3bab7d70f8addd86de6f69755e5f49925c5c5c58e785ec0d5454dd4bf6bf7fffbebbbb7bdbd4a7d96cdeddddfdfaf5cb0c73ce50d526ceedaa37cc691f7b7ffcf851bbdfe2d5c4ec5fbf7e9dcc27a8faab367090e1b44f9dbb5d85f4f3e74f070a38f267f9347e8ddfbf7fffad1b70a7d3b9b9b9d9ebe146eac6058415dd9ff26e4bf33a2687b7e9b48e1b7aff8d56e775b900d0c09cd3bee9b6935fedddc62280e0bda19f3f7f7ebc9fcdd5d5d5ce13b8d48decad06f559efeefdd6ed766bf78b5c5d5dbdfa2d1e1f1f4fec168932d12b2fbb013f3e3edefd57f7bf9667e1776f2db9f14d7d6f291ed74e366b14bce1e8befca9551fdd7fcaf3bcd7eb7dbcd0badd6e8f46a39dec7c635d37d5cfde4992b45aad03ffbb45510c87431f8d0f2e80deeefd56d3a650bf7fff7ef5066bb55a27b6ceb6dd6ef77abdc160f0ee2670e723cff356ab1586e162b1f8f83b3b9d4eafd79b4c267b5d346bf34ef69abdabb3c5601445b3d96c1fe71de0a04ef276c2e3e363a7d3f9f806e1f5f5f5f6dbc69cd2a44ae060de2da2d6f477793b1ffb84e7fd76bbddc7c7c7f3dc72ecf7efdfcd66b3dd6e7faa77fdfe2a87ff9ce306db67ef8a7cfa76321feaed0425c054f39df9f5ebd7e3e3e3f5f5f5dfcecded76fbc78f1f1b3760b3a80cd8ccdb2500f56d4bd6e9745efd2e27b0a1f7c79acde6f5f5f5b96d8abbd9a57fbbdddec793a963274264efe396790eb6000438c7e0fdea42f0e6e6e683047e7d7dfda93a86d40d6ceced21e5e9e9a9bebfcedbdb9775dfd07bfd54f9e3c78f7328806fd3af61e7d1c5f99773cbde3b6998227883e07d50bf7fffbeb9b9f967f5e69f09dc591fd8d8db12f19f9a37a27b3bdbfcdc0a92fbe8dc591d5bde15da61d15b2b352a7288ab63f0ded3f41340f0fec8cf9f3fff598d69369b7fbb8a92ba812d43dadb03cb3fef0956d9dbebb993d9d0fbb3e3707373b3f1f2a5cadeb0de7e29f54e6a86f626e488dedd8ae26076752b53ec01c1fb385712cb066c9f3dce4addc096deddd3a58e7b89ad7abbe0f99c7b4f9e520fb69dbc33b72fb53d3d3d69a5c6d966ef5dad45127b40f03e7202fff9f3e7cdcdcddf42f8ea7156ea06b6f7ee6c9aba2f8aee743aaf72e6896de8bd8113e8c1b6c31510db14bdbd9738f3ec2d7883e07d6a7efdfaf5e3c78fb797bfcbe36cad576002d5f16e123b81dfeb6df6d67afa6564ead8836db70dff362e7abbe58decbdabad229e9e9e5ced83e05d2d6f4ff34efcc0aeecefa2eae85e2d5f7f7e7e363df845b3d9acd774b09dbf769f2d7afffefdfb9c172c207beffce6ace00d82773db237c0f6de6d695eebbdc43ebe2495bd8f7bb1beb17d341df854d1fbd7af5f5aa9e1e32c78c329f97f8e9eef4a9244f606762e0882b75f4cd3f4647ec1f1783c180c5efe1a86619aa6b2f7f2554e92a4164f75381cce66b39d3fec62b1587304b22c0bc3703e9f7bdb50d9035d144545511cec5fdc491f903ccfbd76704482f747d9dbed7660b7c2303cf98ba1878787d57cb5ccde5efac562311c0e6b7183e0fefe7e7f917e9d93efc5c5455996de3354d96c363b64f67ef7a6ade00d82f749656f8300ec3b784f269313fb35fbfdfeabecad31752dce294551f47abdfd3dfe3f8bdec3e1b0dfef7bab500bf3f9fcc0756f40f03e596e0d02fb0ede59969d6471afdfef6759f6f2d7388ecf3c7bdfdcdc445154f127d9ebf5f6fd6efc5bb02f8a228ee3fd15dba1d6d97b27156f40f0aeaed5ab46802d753a9db7174f273cb3268a22d97ba9d96c567f9ef99e9676afbab9b969b55aefa6ee288ac6e3b1a304b2f7fe82b7553f2078039c85388ecfea4aa82ccb288a56a70e9d6df64e92e4ddc0591d7b5ddafd62341abdfd629665411068a586ec0d08de00ecc0db49b6799e9f76de28cbb2d7ebad5e8f9e61f6bebabadaebc2e95d05effd3df8f5f5f5f3f3f3bb5b224d2693288ab452e334b2f7fe96289a6a0e82f78973980376e5dd79e6a7d756ed6fd7a3afb2f78f1f3fcee7a5affed2ee46a3311c0ef7f7a2c471fc6e5bc1d168f4fdfb77a99b9339d68561b8a7558a3bb922b5821204efea7af742016057e9eb4c56dccde7f357d3ec0783c1f5f5f599bcf47599807ae0535e1cc7b7b7b78e0c9c92e5fa9acae65b37b9e0b8fe63083ebe0ab9bebed6ee85b3727d7d3d994c9c9ef71133dee6b1e9747a26bffe743a8de378b593dcf2cf0eb0d51104c1ddddddf2cf699aeeb0d1daab62ddb2959a45dd9c6af6beb8b8300ec03bfef0a1e7e7e74ea7e37dc23968369b3f7ffefcf3e7cfaf5fbfbced77abdd6ebf3dbcfcfcf9f3dcc6e1e6e6e6d5209c64ddbbd3e9b4dbed97bf5e5f5fd7eedcf792c0777ea5e1ac0a47f4fbf76fd7f6702ca69aff4318864992349b4d43c1c94b9264d9022a08822ccb767be57de6deedad750e0bbc5f79787878b57d5a92242796bdefeeeeb22c5b9de0b0bf7e4bb593a6a95a371c9165de704482f75ad93bcff36eb76b28386dafb63b1a0e874f4f4fab853b04efedf5fbfd53cdde9d4ee7f9f9b9fafb751f7e585e5ee8cbcb4bcb580010bcf92890a469faf4f464821c6765d924e6fafadaa48f6d349bcdb79dd5b22c3bdb04d2eff75f555d9224b9babaaaf52fb52c74bfdb9feccc2bdecb3b7a711cf7fb7d470300046fd60d218f8f8f6a809cd5457392245996dddcdc88df9b79b7dcfdaaea7b9e87d3570352d33b9bef16ba576fb52c168b737ead8ba2e8f57abae84115986a0e82779dc4719ce7b9e5af9c6416fadbff0a8260341a1545f1f8f868d9c54e82f7996c24f637cb4d7756f7d95a4e2caa51f65ede87faa0d0cdd27c3e3f9feefd507175d9dd10046ffed770387c7e7e5600e4dcc4719ca6e9af5fbf14c0d78f676f83779ee7fa4bd53d7b8f46a3f55774ebaf060082371b5a365d33ed9c33a400be3e6dd53e309fcfeb92bd9bcd66b7dbbdbbbbfbf9f3e7f3f3f39f3f7fe238fea0d0fd6afe88e00d548163111cd17f0cc1365aadd6643289a2489b56ce531cc7cbc517a3d12849121f847f06b0a5339f67fe2a7b0f0683e58af73ccf97178555d871aad3e9846118044114456118beeaf90f2078039ff2e5cf9f3f46614bc3e1f0fefede385077db1f0d9224994c26d673aefafdfbf7abcc5614c5d7af5f8d4ca5349bcdf0bf96617b07e7d72f5f5efefcf8f8b8bab3b7f31a7014dd6ed79d5f10bc6bac288a2008d4fa10bc5f3e1193c944026f341a5757576f67954f2693efdfbf7bbf1d57bbdd0e570441b0f37f228aa2d96cf6ea8b9d4ee7d58d985721bfd56abd9ac11e04c13e9e9ee00d82372078d78f6b14046f09fc63cb9a6aa3d1c8f3fcccf7973ad6e56610042f497bdf53c78ba208c3704f2ff406e9fded579cd4c0b91e10bceb47d11b2763099cea58dee688a2e8256c1ff809f47abd8abfdbdbedf6ab42faeafd88344ddf96eb01e77a40f03e3ef5016aadd3e96459b6ef7f4502675741f1550977f5af47ef8536180c1e1e1ebc6480e00d08de7b49148aded4d781d77d49e067e5edd4e8b7eb96d7f94a2d2449d2eff7bde84035fdfaf5ab8e875610bcf93f46a3d1ededad7140f0de2081675966e5738dc2f3eaa2e257c5e79a06e69dc8b2cc069340953d3d3ded64e30640f03eb277dbd882e0bd7e6e298a6219c85fa6bebf6cefbcfc06a9467eaea6bd36540310bca1d6fe6308766b329998700e1b5b0d7ebd5eefe390f36e32ffdbed83bfc5c877d7037fb605f4663717defadb935ffd65df253f5741afd793ba818afbdb090810bc6ba6d56aa569eaf20b0ef059abe93dfb0f22bd2a447d0d0603d39d80eacbb2ece3fbdac09efc3f43b08fabea2ccbbaddaea1003807499268630e0008de87b6ac7bfff8f1a3d96c1a0d801396659936e60080e07d3483c120cff3bbbb3b4341f51d77df63a8a9a2282c10006ae4e38e2180e05de330331c0e7ffdfa757d7d6d34a8b2fdf512831316c7b16e9a40bd82b7ec0d82f7c90a82204912f11be0941445a14711502f8bc5e2e2e2228aa224498c0608de271ebfafaeae8c0640dd59dd0dd4d46c36ebf7fb41100c87431b8c81e07db2f17b3299fcfcf953df3500008e65b158dcdfdf7ffdfa358e63f3cf41f03e4dbd5e2fcbb24ea76328000038a2f1786cfe3908de272b0882344d656f00008eee65fef9683432ff1c04ef93b2dcee5bf60600a00a168bc5eded6d1004711ce7796e4040f03e9dec3d994cacf70600a022cab21c8fc7dfbe7d8ba2683299181010bc4fc1b2dbb971e0b8ece30d00bc329bcdbe7fff6efe3908de27a2d7ebdddcdc18078ea8d56a190400e02df3cf41f03e1dc3e1b0dd6e1b0700002ae865fe79afd74bd3d48080e05d4bad56cb847300002a6e3a9d5e5e5e2e174b9a7f0e8277fd4451747575651c0000a8b8c562b1dc7e6c3018987f0e8277cd8c4623830000402d9465f9f0f060fe3908de351304c1dddd9d710000a04656e79f1b0d10bc6b603018e8b2060040ed2ce79fb75aade17068fe3908de95d66ab54c38e7286f3c8300006caf2ccbfbfbfb6fdfbec5716cfe3908ded5d5ebf5aeafaf8d03871486a141000076683c1e5f5e5e866168fe3908de15351a8d4c380700a0eee6f3b9f9e720785754abd59a4c26c601008013b03aff3ccb320382e04d558461f8f8f8681c00003819e3f1f8e2e2228a22f3cf11bca98a388e656f00004ecc6c36ebf7fb41100c87c3a2280c088237c7cfde3f7ffe6c369b8602008053b2582ceeefef2dfc46f0a6127abd5e9aa6b237000027a6dd6e07419024499665455108e19caaff18825a08c3304dd3288acab2341a00009c86c562f1f5ebd746a3717575d56834d2341d8d46711c1b194e8c8a77cdb2b7ba37fbd0e9740c02007044d3e9743a9d9665d9eff7e338b6f01bc19b63666fed1fd98756ab651000808a188fc75114d9750cc19ba3e9f57a373737c601e0e82c4404d89ff97c1e45d16834321408de1cc768346ab7dbc601e0b8946200f6aa2ccbdbdbdb5eaf67da398237c7311c0e0d0280e00d70f2a6d36918860eb908de1c411cc7baac011cd76c3633080007b0582c2e2e2e4c3b47f0e6087abd9e41003816b517800333ed1cc19b2308c3d0200008de00e7633a9d064190a6a9a140f046f0a67e6c27068237402d9465797979a9e111823707124591416057dcc701c11ba046eeefefa32832ed1cc19b43e8743a0601e02874560338fa71380882c964622810bcd92f456f80a350ee06a882b22cbf7fff3e180c0c0582377b14c7b14100383c7d7d00aae3e1e1210cc33ccf0d0582377b118661b7db350e0007a6e20d5029f3f93c0c43d3ce11bcd997d168641000046f8033f732ed5cc735046f762f0cc3c7c747e3007048f3f9dc200054d0c3c34314456e8f2278b37b711ccbde00ff34994ce238de7e79b605de0055369fcfa3284a92c4502078b3fbecfdf4f4d46eb70d059bb18f37279fb75badd6f7efdfc7e3f1f697620a29c08969369b373737bf7efd3a99e6416559f6fbfd388e4d3b47f066c796936a6e6e6e0c051b68b55a0681d3cedb65592ebf3e1e8fbf7cf9b2cd7b5ef0064e46b7db7d7c7c2c8a62341a05417062bfdd783c36ed1cc19bbd64a7d168f4fcfc7c7575653400797b356fbff2b7af0bdec039782971a7697adadbd3cee7f38b8b0bdd88a9822f7ffefc310aa727cff3d16834994c168b85d1e09f9e9e9ea228320e9c80300cd7ec7cb6f1e9efcb972fc619a8a96eb71bc7f1dfc2761445b3d9ec247ff1ababab24494cf1e38854bc4f531004a3d128cff39f3f7f5e5f5f379b4d63029cb6a228d2347db76141b3d9bcbebebebbbbdbfe5fd1590da8a3f32971ffcd743a0dc3d09425046ff6a5d7eb25495214c532816bc0069caa2ccb2e2f2fc7e3f1abbcfdf3e7cfa22892247935ad63b38e3b93c9c450033572daabb83f65b15898768ee0cd8112789ee7cfcfcf373737123870da5ef276afd75b7ee555317c83bac7f2018d2d507d4adc7f737b7b1b45916ee708deec5d18862fb3d04f66d30880575ef2f68bed97f64d26936dbab2011c8012f73fcd66b320082c1d42f0e67057a5699a3e3f3f8bdfe83502eb304111a82c25ee4f29cbf2f2f272381c1a0a046f0e240cc3344d7ffefca901db99bf0d0c027c2ccbb235fba5031c9212f7c6eeefef4d3b47f0e6a096d56fd91b381f799e7feafb95bb814a51e2de89e5b4738d3311bc399c65e95bf6064ed8eaca9a4f05efa2285c9601d539942971ef505996dfbf7f1f0c068602c19bc3656f5796006f69ab061c9d12f75e3d3c3c8461f8d9c9502078b3a1288a7efcf8611c005699670e1c9112f761cce7735528046f0e6730185c5f5f1b07e0342c67890f87c3288a36d8bbbba1ad1a70244adc87f732ed5cc73576ee3f8680b746a3910b4de0048e63699a2e168b772f67d7bfa852ee060eacdbedc6712c6c1fcbc3c3439aa64992d8f6851dfaf2e7cf1fa3c05b45518461f8ee052ba7c771801390a6e9e5e5e53adfd9e974d62f7d174511048105dec001349bcd388e0783c1b1e6934751349bcdbc102f2fc7683472fb835d31d59cf7b55aadc964a2c9f939e8743a0681b3f2a9e93cdaaaede4e2b5dbed3aa1c007ace2aea0b22cfbfd7e1cc7a69db313a69af357cb0dc6a22872d179da5aad9641e004044170777797e7f9783c7efb7fdbed76188651142dffbbfec39a67be7dea4ed3f4dde99a5996bdba9ccdf3fc554be177bf623616a7f401396e899b7f1a8fc759969976cef64c35e71f8aa288a2c87aef13d6ed76d334350e9ccc21ebebd7af2fefed97b0bdd945edfad3d7f96ceadeed8bfe6aedc03a5f69341aa6d472dc936f0557719b6afe811f3f7ed8eb9b6da878f30fad562b4dd3c160f06e1109a06a87ac1f3f7e2cc3f6f68f96248921ad78ea5ebee86f6731f47abd0d1eeaed5dc875be926599a961acffb950e2aea9dbdbdb65c7355305d98c8a37eb9a4c2683c1c004bfd3a3e20def5a2d9eb381e7e7e7b39d99f97616fd9af3ea9d644ffb6c5bfd46e52adeffd46eb727938969e76c40c59b75f57abd288a86c3e1c3c383d1004e9e72f7361e1f1fcff9c2f4edeffea9ce021f84f335e7d55b20561d4adc2766b1585c5c5c9876ce0654bcf9b4344d7bbd9e69752743c51bde150481f2e3c6a9db063c95f2ee12f77566d12b7e6e797aaddd5edc2ade9f7a7d27938969e708deecfd14aee39ae00d274c5b35a99b77ad338bfedd79f5e7731babd6256ec1fbb3aff56432d96c3e0b67c8547336b1ecb8267b9fccab6910e015f3cca56edeb5bf59f4eb7ca56ab3e897bbd30f0683fbfbfb463d4bdc6ca32ccbcbcbcbbbbbbbe170683410bcd96ff60e82c09cf3d3bb8a82335714857d1ca46ef62a08829d14845fcda21f0c062fc9bcdbedbedc14d8c72cfa76bb1d86e170385c9e46e338b68afb3cdddfdfa7696ada3982377bcfde5114c9dec02951eedec0f5f5b5d4cd512e45564beeabc967d91176fd877a77a3b80f66d12f53f7f2cf0a9e676e369b05419024c9661b192278c3bf8561381a8dfafdbea10004ef734edd068dba7b3b67deda5dd65796e5f7efdf6f6e6e46a391d1e05dffcf10b0a5388eafafaf8d03701af23cd7bd42eaa6be9f5f83c0113d3c3c8461e87d88e0cdbe8c46a376bb6d1c8013a0c9bfd44d7dadf64e57afe628e6f379188693c9c4502078b37bad56cb851720784bdd002ca79d0f0683573d0210bc6107a228bab9b9310e40dd2953aca9d3e948dd007ff3f0f01045d16ad77d046fd88de170b8dcd012a0a6b22cb34dc39aa9dbd400808fcde7f3288adca344f066c75aadd66030300eb5631f6f78214cae69381cdab196aa31ad970a2acbb2dfefc771ecfd89edc4d8a5c1609024c96a6b13aacfd53308de9f956599ed6aa9e0db72f5af9aab511de3f1f8e5b0d96ab5566b1edea882376c18e186c3a16dbd01c1fbb4d92c07e053e6f3f93ff7aaec743a2fe5902008822078b9c05ecdea6118aa9a08ded088e378341ad90517a81d0bbc056f80e386f3973fcf66b3757ea4dd6e2ff3b91bc7d5678d37bb371a8d0c02503bfa997fa0d96c5e5d5d1907804a592c16b3d9ac288a344d5d810bde9c9d288a5c9f01b5a35cf041ea4ed37475a2a32e415490b725676b3e9f5f5e5ededede9a8e24787376922469b7dbc601a89135e7f59d6dea5e0dded6135141abcdd53a9d8e01e10c0d8743832078735e5aadd66432b1ad375017cadd1fa7ee861d10a8db758841e00c8dc763456fc19bb31386619aa6eadeae4e40f0aef5b0ac16ba01a838456fc19b33cdde93c9c474afeabf4c060174567bebf1f171f5f8f0ea26ddab3d9301a802456fc19bf30d755996fdf8f1c3b473a0b28aa2b068f96dea8ee3f8d5f1fcd5a01925aaf6413608d050f416bc396783c120cff31f3f7e98790e549079e6ff4cdd507dabb3304ce6e29c297a0bde9cb556abb58cdf8f8f8fe2372078d73d75ab2e52f1ab0e83b02573156b6d30181804c19b7317c7f1b2faed800e08def54adddd6ef7e5cfd678c3698ba2c8a55a7d4da753a736c11b1a8d466330182449621c80a3b3c0fbc5f5f5b519e6c0529ee765591a87fab2d25bf086ffd1ebf5aeafaf8d03705cfa99bfa46ef74381d5ebb4e7e76745effab2cc5bf086ffe5561c7074711c3f3f3f5f5d5d49ddfffcb620085efe6c122355339bcd5efeacb9da4e846198a6a9ec5d47ed76db6576d5fcc71070444110743a1d933c8fc82eebb0bcb80cc3703a9d4addabb22c2b8aa2288ae572ee344dd54fa80bcdd5769bbda32832edbc5e9224f12910bce1ff88a248f0766902553816adfe35cff3b72133cff3c5627126a9bbd1680c0683d51222207b1b8d6ababbbb7bf595200856e728217843238aa2878707e3001cfd58f42a7bafe9a520fccf2f36fe323dfb88e1b6d3e96cb0aebbd96c4e2613977454cdd3d3d36a563420b2f7f930ab5cf086b50ee50601a8af56abf56e62eff57adb3cec729af73a5fdca6383f9fcfa3287a7b3b60381cdedfdfffeda7cab2dcec2605ec95b7a5ec0d8237fc551004ed76fbf4666f026c798dbbf35cf152874f92643c1eafff83cbedbb9713175bad961ba670aa3e6e9a287b83e04dbd4551f4a94b400036f0529cff5443f26eb7ab8139207bc3966c27462582b7410000a84bf6b6c71808de08de0000c8de2078c38a2008960b0839cae01b040040f606c19bd317c7b14110bc0100d91b046fd863f0ee743ac6010040f606c11bf665341a19040000d91b046fd897288aeeeeee8c030080eccdfaf23c370882377cc27038bcbebe360e0000b2376bfaf6ed5b1cc74551180ac11bd6952489ec0db057c3e1f0cf7fa5696a4000d9bbeec6e3711004c3e150fc16bce113d95ba3350000d99bf59565797f7f2f7e0bdef009699ab6db6de30070144ae280ec5debf81d866192244643f0867f68b55a0e168711459141000064ef53b2582cfafd7e1004aea8056ff87720bcb9b9310e0000b2371bc7efe5cb6134046ff8abe170e8900d00207bb3b1f97c7e7979194591f82d78c3fb5aadd66030300e0000b237db98cd66cbf86dd36fc11bde21780300c8deec2a7e2f37fd16bf056ff83f5aadd6d5d595710000a86ff6b65b4da58cc763f15bf086778ed7060100a0bed7725996753a1d4351b5f81d86a14dbf056ff81f411018040080fa6ab55a699acade55b3dcf43b0802f15bf08646966506617fdcd70000646ff1dba6df8237e7cece077be5ee2600207b539665bfdf17bff7e7cb9f3f7f8c029595e7f9b76fdf8cc3fe74bb5db736008083298a228aa2f97c6e282aabdd6e2749e035032b0000200049444154124591a1d821156f2a6d32991884bd9acd66ee6b020007a3ee5d7d8bc562b9e9b7f2cc0ea97853696118ba21ba6fcd6633cff356ab65280080c350f7ae8b6eb73b1a8d6c33b43d156faa2bcf7387e30328cb72381c1a0700e060d4bdeb62369b5d5c5cd8f45bf0e69499dc72300f0f0fbac70300b237ef1a8fc7dfbe7d13bf056f4e930ff6210d0603830000c8de7c1cbf6dfa2d782378b3395dd60000d99b7f5a6efa2d7e7f96e66a54571445b3d9cc381c8c2e6b00c051e8b556d34bc7e17068d6e49a54bc81ff5196e56834320e00c081a97bd7f4d2f1f6f6360802b326d7a1e2fd3fd234cdb22ccff397165361180641104591eef9c7321c0eefefef8dc381fdfaf52b0802e300001c98ba777db5dbed2449a22832147ff39f33ff6c4f2693c964329d4edffedf9749cecd66b3d7eb0d0603099c7310c7b17ef200c0e12debdeb2771d2d160bed993e76be53cd87c3611004fd7effddd4bdaa2ccbf1787c717111459140c2c99bcd6693c9c4380000c7cadee69cd7511004b6a715bcff8f2ccb8220b8bfbf2fcbf2b381e4f2f2328e631dfc386d83c1c09b1c0090bd595f511426080bdeff6bb9f660b158fced1b3a9d4eb7dbbdbabaea76bbef7ec3783c763be7602f9641388ac562a1cb1a00207bb33ef9e863e7d55c2dcbb2288ade16ba9bcde6bb5fecf57aad56ab288af178fcf6d11e1f1fe338f61eda93d168747b7b6b1c8e48973500e088f45aab0b9dd504efd71fdd300c5fd5badbedf607d5efa56eb7bb6c37f5367ecbde7b92e77918869f5d0bc06e75bb5d4d0d0000d99b0fdcdcdc0c87c356ab65283e764653cd87c3e16ac66e369beba4ee46a3319bcd068341abd57a7a7a6ab7dbabffabdfef6b43b50f711c4bdd47a7cb1a00705ce69c5759bbdd7e7a7a1a8d4652f73acea5e29de7f9b76fdfb67c90ebebebd168f4eaae5bb3d9ccf3dcbb6d87d234bdbcbc340e55d06c36d334d5270300382275ef0a52e8feac73a9780f87c3ed1f643c1e0f06832ccbaeafaf5fbe5896e56030f04eda216dbdaaa32ccb288a74b903008e48ddbb5214ba37731615ef9d94bb5ffcf8f1238ee3d5bb6eed763bcb32efbc9d288ae2ebd7afc6a16aeeeeee7672f70a0060e3ab4475efa353e8ded85954bc775b415dc68fd5c72c8a42f7fc5d3192d5747f7faf8f20007044cbbaf7d5d595a1380a856ec1fbdf76db20aa2ccbe54aef97466b65596afeccc91b8fc761181645612800806365efc964b2baea93c3b8b9b9596ecc6c2804efbfcab26c9dd6e59fb22c77af769c12bc3907f3f93c0c43b3120080234a9244f63e18856ec1fb139fcc9d3f66599693c944abe77d0882c02054d962b188a2c836630080ec7df214ba05ef4fd85342103cf617bcbbddae71a8b2b22cbf7fffaef93c00207b9f2a856ec1fb73f23cdff93cf32573cbf747f7ec5ab8bdbdd56e0d0090bd4f8f42b7e05da178bca73c4fa3d188a2c831b416c6e3711445daad0100b2f76950e816bc37b4d72e50669befcf683432e1bc1666b3591445daad0100b277dd29740bde150ddef3f9fce5cf1aadedd672af884ea76328aa6f3e9f475164f10500207bd79442b7e0bdadd96c76b0a0e8cdb4f3214dd354f6ae85b22c2f2f2ff7b183000080ecbd570add82f7b60eb9f4d43b754fd93bcbb29b9b1b43510bfd7e5ff6060064efba50e816bc77c3bad3d3301a8d7efefcd96c360d45f58fddbd5e4faf350040f6ae3e856ec1bb96848dbdeaf57a799e5f5d5d198a2a5b2c165fbf7e75c30b0090bdab4ca1fb28fe73c2bfdbbe0340b3d92ccb72f9e7344d7bbd9ef7d3fe2cdbadc5713c1e8f57bf7e7d7d1d04c1c1de5107bbc3b2bf2de8f72d4d53b74e0180e366ef46a3f1eaa291a59b9b9be17028720bdebbb4d78cd46c367bbddecbe77932998c4623efa7031c46f33c5fed9937994cd234d5557ecb909fe7f9368f30180c569bfc0300c8de55d36eb79324512011bc6b268aa2d5e0bd582cb22c13ff0e6032994451f412f3cab2ecf57a5996b96fb7b12008b69c35b03af8965d0000b277d528741f9d35de1b0ac3f0d5dc72fb181fc6729bb176bbfdf295c562114591bc77dc8fc3cb9fadf1e6ada2282693897100e0f0d9db7a6f2bba05ef7a5b4ed2e876bb82f751b2f7643259ed733e9fcfadb13fee2b6210f8c07038fcfefdbba6f700c8de07a675b9e07d52f17bc905e521856198a6e96af69ecd66711c1b99a3db72b938a7274dd387878746a3319d4e8320b0d93b00b2f70128740bde87e34d76f2d9fb5543bbf1781c0481a90787b77a07aaa6cdd8d993a22856ef889565d9eff7a32872830600d97b7f14ba05ef4307b3d5bfae5647390d711c3f3e3eae7e65b1585c5e5e2ef7fd363e50056f9781cc66b3b737ce0040f6de9e42b7e07dfce07db0dd9e3970f6beb9b9797557653a9d7efbf62d8e63f1fb280c3b2f5aadd66834faf9f3e7ab0f695996b7b7b74adf00c8de3ba4d02d781fed82afd3e9ec35d56be05c05a3d168341abd9dd1301e8fc5efc378757c37e0bcb29c84b2da8d7249e91b00d97b2714ba05efe35fedbdfc793e9fafee41b57daa2f8a623a9dfe2d7b7048cb74fdee617419bf454138aee546803f7efc78f575a56f0064ef2d29740bde95c863ab7fdd55e3f16521fd5595c6765647bfac4f92e4f9f9f96d55addbed5a68b06fab330ecc04e16f0683c1f3f3f3db7ba0b3d9ecdbb76fc3e1d01001207baf4fa15bf0ae8a5771ab2ccb5de5f93ccf578377a7d379b5a49ca3586e33f6f4f4b41abf5dcd1f66e45ffe6c6b3d3e7eab6459f6eee5cefdfdfdf2ff1a25000e90bdefeeee6afd2b28740bdea7afd7eb0d0683d5183f180c0c4b754451f412bfbbddaee31154ca727ecadb8e6b8d46633e9f5f5c5cb85906c0010c87c357fbe3d48542771d7df9f3e7cf09ff7a83c1e0e1e161b78f797d7dddebf5be7ffffef2956eb76bef689cba8aa2581efd7bbd9e0920ac23cff3ffcfded99ea7aab46fdfb58ffd1d5605900a20158015402a002b8054005620a900ac40ac00ac40ac40ac40a820cf87f96f9eb9f125460698c1f3f7611f4956b6511866aef37a755d77b7db5dfe93a66949926021010000e89b2449168b85406fd8f3bc300c21b921bc79a1aa2adbb6afda731dd96c36aeeb36e16e4992f23c8775080000cf1186e172b9bcfa4f411020fa0d000000da9ba0284a9224c8e584f0e688a2286cdb3e9d4ecc5fd9b2acb22c0f8703ec4200001860d3d6342d8a2218190000005e5c7b23d00de12d8601e7384e9aa6dd9bab499244bf88a669799ee3010000808e5455e5ba2e3da311d60600000068ef1902dd536182cdd55cd76da9ee388e555565d2d29c7e11499292248121080000dd9165394dd3388e2f3baecd66b3afaf2f32b300170a0000407f2282c35e6b685d3e19a616f16ed50a92026c555559096f9a2ccbf00c0000005bcab2b46d9baee869d91f087d030000e80f7ee2de08744f8c4945bc5bb3b59bb667add15fdd912469bfdfe331000000e6a8aa5a14c5add9aa087d030000e8154ee2de08744378734d1886b4c026a368d2345dafd70cff8a65594551a08d390000f4ba9f6759a628cae53f9d4ea7f97ceefb7e5555b85000000026a6bd31a37baa4c27d53ccff3f97cde7c4b666b134711db70f7b4279f0300003fdcefb8461a6dd8b68d0b0500008039a3e49ca3a20ac25b00745da76b028fc7a32ccba669de2a147c9ae3f1a8aa2a960e00000c431445ad84261acbb2d0e712000080e8da1b15dd936722a9e66118d202db719c9e54f76c364bd314eb06000006c3f7fd3ccf354dbbfaafdbed565555eccc000000983358ce392aba5f812944bc8ba2787f7f6fbe9524898cf2ee4375cf66334dd38aa2c0d2010080e115f8d7d7d7ad7f350c234d5384be010000b0a5d7b83702dd10dec25055552bb21dc77114453da96e0206890100c028e4796edbf6adb473547d03f0e2144591a629197c509625a90ddced76647f6875c6d5755d9665327416761d18457ba3a21bc25b245a0110c330aaaaea5575cf6633c7719224c1ea010080e1a9aacab66d62495f0555df00bc20699ab60a0f7f8b6559a669baae8bdd030ca0bd11e886f0166f93fdf8f8682de2d3e934c09f468b3500001891288a3e3f3f6ffd2b42df00bc0ef7c71ffc1649927cdf0fc3101716f4a7bd11e886f0168cb22c755d673b2aec570f4c14455840000030164551b8ae7b27c005cb0600ec03cfa1695a9ee7d83d0073ed8d403784b7785c96760f8c24496559624706008071cf02dff7d7eb354c1c005e7307d075bda7544745518aa280a507186a6fb8835f1c51c789f9be3fa2ea9ecd66755d637a0d00008c8b2ccb49926c361b4992aefec2e9749acfe7beef575585cb05c0c454b7699afd15189e4e27f8ecc0559e9831a6284a966551144175bf324246bc879c657f07cc15030080e1212d8b8ba228cbf2719b5bd3b424495a3d8d0100e262db36abbaee3bac562bdff771b541173d824037105578b7a6768fcb7ebf871907000003509665188677b2ca1f210802f44c0260025cb6d7ed094992902f039ed6de2877023482a59a9765c9d5da457f3500001880300cdfdede3aaaeed96cb65c2e755d47b21200a2335814baae6b4c9005b7b89f73ee795e511450dd4048e14d66b78ed5c6fc2aebf51a7e500000e8dbb2592e97ac5eed7038bcbfbfc36d0a80b8244932ccec58027afa8007b5b7a228cd17a8e8069788946a6e9ae66eb7e3ed5da1f8070000faa3bff222c3309224515515171900b150557548e18d6c73f02349921445114591aeeba669a2a21b882dbc5dd7ed9e64d80768b1060000fd118621c370f7a53d1d86219ca70008c428bd7ed0d30700d01d3152cdbb37d4e98fc3e100e10d00003dd16b75655dd79f9f9fa669229c0500f684fb6a1f571e00307de19d24497fe10e26a056100000fa200cc301124a77bb9daaaa28e3044008f23c87f006008808efa9e6838d8be8028a7f00006002fbbf65594992a0300f006ea9aaeaefdfbfc3ff5dd4150200bac375c4bb280ad775f9bf88755d2354020000a2efffdbed16a16f0038df1946f9bb87c301211600c0648537197cc7d5f0b03bc05003000086fbff58c323ebbafef8f8f07d1f4636001c5296252c3d000084374baaaa725d5714d53dc3406f000060b7ffdbb63d4069b72449b7fee9ebeb4bd7f5514a4901007c0a6f6c080080090aefaaaa4cd33c1c0e625d4ab8420100a03bc3a8eed96c26cbf26ab5ba25bf4fa7d37c3e47e81b0000330f00304de1dd9fea9624c9b22cecc80000c0b369bbdbed86f95ba7d3c934cd3ccf354dbbf53b5f5f5fa669a2a91200a0aeeb512699010020bc7b81d4753357dd922405415096659aa6770cac8e6cb75bac270000e882effb43feb93ccf755d2f8a2208825bbf73381cdedfdfc330c4dd01e0c5c1f858004017fee54d7533afeb56144555555dd7c984985e93d8d334b56d1bab0a00009edb42874932a7cf1df2451886b66dbbae7beb80582e97699a2649a2eb3aee1400afc9e170c8f3dc344d5c0a302e25c5e5bf12d583850ae17d932449168b451faf2ccbf26eb7dbed76711cbbaeabaa2adbd79724a97116e4790ee10d00001d65f090b60b6da9e4791e86e1d7d7d72d9bfbfdfd7db55a0d1c9607003430b7e27e4b1886e8b2064621ff8fa2281e8c535a96457ccab87a9c307eaa795555beeff7a4ba89a944bef07dbf2ccb5e8315d88b411fc2a0288aa228d0e10980be9165398aa22ccb1445b9f53b9f9f9fa6698ed85a190008ef11d9ed7668fa0006b6035dd79565793e9f2f97cbdd6ef77876f076bb5d2c1618d201e1fd7fa469aaaaeaadf0025beabaeea3ff19c9606f443ed41160029963acaaeadbdb9beffbefefef7ffffe5555d5b66d1cf90030b4a12f7f48baa9dd69c6b9dbed745d47b52700af093a3e806120b1c9b7b7b7f57adda514f77038cce773b406e4813fdfdfdf232ea6f57a3de41fb52c2b4dd33f7ffe307c4d4551e8a2c4cd66836c73d05172bbae5b55d5d5625732fa48d7f524494677fc03c0dc9c5d2e9703ffd13b87609aa6aeebde31770cc348d39476bf02007ab75c995a71cf713c1e7104835e29cbd234cddff63d51144596e55bcd4af6fb3dda948ccb38116f12e8ee5b752b8a9265d96ab56a7eb2dd6e9947a4abaaa29312118d041d85c7fbfbfbe170b8b5d5d6755dd73509b8c1790940afd8b65d96a56118b77e61b7dba9aa8a5992000cc99d4a90210f6bdc08d01f4551e8ba7e690a92e8cb1d4ea7932ccb5996edf7fb20085abf8f06252f27bc49a0fbe3e38379f7f2d6ba8ce398f88a5af167e616525dd7b4d7134514a0cb41fef8fa24034591ec0a4017eee493136459cef37cb55add3277eabafef8f8b06d1b7546000c030fbd9ad1e501f4aa956cdb6e0925c330822078245ebddbede6f37951146118966549cf51deed76d0292f24bcc9c0b05e2bba9b91dd4d073f555569e7689ee777c2174f3f21f467c4aa024f90e7f972b9a4b3832449f23c2fcbb2f3f97c3c1e379b8de779adbdf5f3f3134b0e80bef17dbf288a3b67c776bb45e81b8061e0a1a00f0526a03f5cd7a563dd92246d369b288aa228bada97e42a8bc522491259965b0713922547e67b282e131e98e338cef178bcfcd3b45c511485b9f0a69d49b3d9ecea7b00e00ee7f3b9953b6718c6d585b4dfef5beb4dd3345c40300de8caa0610882e0b707d9fd17f43cef7c3ee35602d02b7ddb933f926519ee02e8832ccb5a01c5fd7ebfdfef9f5bf364a13a8e43eb205ce4111922e24dba402d97cbfed2cb0dc3d8eff7b7da4dd15949a4f8a1d7cf8b0824f82d799ed3de4dcbb2f23cbfba98755d6f45dec8bc315c433001860f22fd3667350cc34be717cdd7d71706b700c0db93cbd0dab42c2bcb321ed2ddc12469b50f48d354d7f5fb6d3eef408abae92491d3e984428931e94fd31f8fc701a2dc9224ad56ab1fc389f4ff72c7667a1a3a5cf9db100a008aa2344f8a24493f46cc8ec763f3fb248903d7104ccfd3cf3c3be9f2f878faadb6ea3e2ef13c0f3714809ed86c3613b3990120d61dbdde1cc7f9fefe8ee3b8cba28de3b8a58390af31a988775555499298a6f9f6f6d66b949b48e8a2287eecd127cb322db6fb08aaa0cc1b74593ca7d3a97952a228fa7189aaaada7431389d4e5872609251acbea79e340fd11344519465d99deeca24f48d6713803ec0dc5630495af5d824faddb1857e1886b22cb7da5de1528f0503e15d14459ee75114b9aeabebfadfbf7f178bc5e3d5ff4f13044151140fce51a47fad0f4b88564a48e100bf7d82ee688f47cc8ebaaed151198c4b59965114d9b6adebfa9f6b98a6699aa6effba47bffad7d986e339ea669af41ef8e83554cd32c8ae24ee8fb7038bcbfbf63ec10007dd077460c00c343773eb32c4b55d5a2287e3bcabbc5e97422539c9b9fc0621c917f9fd309c46c2acbf2d688f65e91242949925ff93b755ddf6eb7c3bcbd51ae099886f09624e9415f522b18484606e06282e149d3f49156abe4175abfa6288aaaaaa669aaaa4abe705db7d9ab4fa7537f416fcff31e7cd6ee20cb721445e46ddf4aef5a2e97699a2649d277001f8097c234cd01623c90fa6048680541640e936119447837cf0b52b18411de646ef0b8c252d3b43ccf7f9b2e6e9ae672b9245fd7752d4912db1cf8963b8a0cbec7f2020fdaee9aa691c7eaf1854dffa66118186d028687cc1aed62fb9e4ea7d3e944bf422b79bb280ae6dbf56c369324896120dab66d32c3f2967bf7703898a6198661c7183b006044babbea00b8432b039c445398a485a769daa5b40a30e4d154f3aaaa4cd35c2c16e3aa6ecff38aa27842630c2c8391c5017e25bc9bc7ea743a3db878e8bd78b7db4178838121953ecc234e2d2766c714bb5b90e9a66c9fe2344de338bed54fb4aeebcfcf4fd334518b0480a020a002fa3e559baf9bfc472647465dd7f4eb20e2cdbbf0ee1ed6e84e333efe69ab880ea4f4daf26d86be05a0c359fee0e269ed9bf0c48381ed03d334fbde487bdaae1dc7e9a93393ebbaad697f2d76bb9daeeb4f1f64008086e17d5810de60b025dd2c3656de67da681ce6ec06cf0bef300cc755dda47b79475369c81d13ce247087aaaaf23cf77d9fb49b6ae5ff3c92015b55156dbba3f00c4c5575f7719ad0dd6b98a3aa6a9ee7abd5ea8e1fe1f3f3d3b66d244601d00526b5afbf028d54c060da81681686c7444bc023f78a5fe15d96e5d7d7d7886f91a497770fe80d29bc615181abe479eebaaeaaaaf3f9fcebeb6bf71ff4ef1c0e871fb5771886cd1eaa280a0a47c1909b9b6ddbe2aaee61d2917cdfdfeff7f418cb16dbed5655d5e1950300d320491244edc0f48ed7e66b520cd55f180fc29b5fe1dd4a8abb6349304792a42ccb5865e50de9aa1c37410070080912cee7f3f57afda3b9b05c2e6f69efaaaa7cdf6ff9c2e0860783e1ba6e4f75d7c3a8eec1ba219021de4110dcfa85baae3f3e3e10fa06e0097d32bcbb199965a06fe82e5a7d070b71ee8cc5cf5dcd6997bc6118434a4a928bcbd00cc2fd067d6f644551d0ff6dfee9b70fce72b94c92c4755d5a81a769eafb7e4bf6306f1305c02da2281a6c2ea3d0aabb210c43dbb66ddbbee5ad6842df709f01f020a394bae09c05535a6fdd0b78412fc2bbaa2ada5c202e46e6dadb300c121ca05f599224b61e4dd25f6db0584d9ee730a45e4a7247515496e57abd7eee15483364da98389d4ecbe572b95c6a9ad67a121b2d41aac471fdc1001445c17004d7c08ce89f22a75b1886b78ab6eaba9ecfe79ee7856108e31e80fbb8ae3bca781d046fc0c4ac565c8451f8e7474b8bfed6344de6cd934983595dd75b7abe0f1304fb26e883344d755d5f2e975d2a36ebbabef5701d0e87ab0e23d334d11e190c7648bbae2b6e51e5b89bbf2ccb51146559766bd8d86c36fbfafad2751d133100b8bf0b3dedddee826118e8a5027aa5b5f91383b0bf1a6f3481e65478b7a46f14455114b12df326f77eb158d03fb42cab8f3d6ec8d820d6f42b5096a5699a1f1f1f4418779425a378f1017884300c855e9fadd901a34086785b9675eb174ea7d37c3e877d0fc0add37614d54de243c84601434284777f716988144e85b7aeebf4f8ebe572a9ebba699a77dcf64f888dcfcf4ffa27fd8d7b195278238b63f2e4797e99a93124c4fd8f1019e89b344dc79d6dd19df57a4d74efb86f4396e5344d379bcd8fa16f584500344451a4ebfac0be3f49920cc30882c0f77db8c3c0c4a8eb1aa70c8fc27b761128389d4e5f5f5ffd251cf6da020713c500433b603e9f8f9b79bb5eafd7eb350fa13c3061887f67021f64b7dbe9bacec3042fdbb6cbb2bcd324f97038bcbfbf8b5b510f002b92245155f5f3f373b0d3565194388e8fc7635555799e8761882a45304910b6e154788761e879de30ef6680c6b3830d84802769da3aa495a63122a7d30995dea05795389979b9fc4cf0926539cff3d56a7527f44d52cc709480d73c6789e45e2c1643ce2f5414a5280ad77599f7330200c21b3c24bc67b3591445711c334c2fbf8ae3384551f45d4503cf25e8b84f8d5566d6204992e779f4f3188621322c401f8461386231454f90095e3d1534fd0adff78ba2b8d336e57038a087227829d23425ba7760c9ddfc75d472831761bbdd8e5e7ef582fcf9fefe7ef057abaa4ad3344dd3a22898ef86abd56a98129a344d3f3e3e06f8438661c0993431c9cdb308f13c0fd639604b5114efefef13fe808ee3f020bf67b3591886cbe5f2fe81420280589660aabb4d922449928c985f130401ea3bc08846e67c3e6fbe25eaecc7a3a12396653d577e55962511edcd170db22c931867f305785278b74892c4f7fdee5ba42449699a0ed6f66c30535251147892a6415996aeebf21ff73b1e8fb0cb012baaaad2757df888d3c00c50dff4f8d9747f40b124496118a2c913989ede4ed374f4ad86249923dc0db812de5114f55dd818c7f18f6d5c8aa2288aa22ccb3ccfcbb2fcd5d3aa288aaaaa3ac5abdfe9efa788e398c95f370ce37c3e7f0f0be7d71670451004a23ccb4110e07e0156388ef32287a0a669c31f4357399fcf3f7654b12c8b93770bc0d3ecf77bcff3e8a139a3936519ee0b18912ccb2e1544eb873de1380ebdfe8fc7639665711c7b9ed747632cc33056abd57ebf7fcd1bfd4cc4dbf77d26a365c64a8e354d7398e8e590221f0c1f80e20d245900560c5692c38ff6e624ee4de21eaeebde092948929424896ddb58a840ac805e9ee74551e479ce5bbf46d406021e1e90cb8877eb8713435114d3346ddb7ea9e3ecd7c2db75ddee9da5c6b51b987c0408efc90b0fd7752f8d0349929eb61824499265b9d7843a649b83ee5455a5aaea643a998ba8bdabaaf27dfffe396559569224c88c053c437253d334e5506cd364593658c123008f0b6f213aadb4a2e245513cf1b05b964514f8f40fb5e1930f0dc3381e8faf903c8ccc1941b95a496159d6d32bc7b2accd66733e9fefb42f66421cc7b87da0234fa7969167c4308cbe4760f4a7bdb9cae2de6c36f7afa42449c88f057c66920741d0f779c70acbb270cbc0e89ccfe7963388fc9cab87851c49a448e4fe592f4912fdaf8f5b059665c5713ce18aaad9e30b82c91eca4319ea30251310de82b2d96c2eb78fd56af5745f83e650b72cabef25e7791eee20e8c26ab57a6e919363b2f5f808a7c079d3dee7f3f9c77dc3f33c547d034ef4b6e338c23df5f05e015e24d9b5388a280eacc775fb8b2bf087c4619665dd77524dd338a9a43f1e8f10dee0d6da68ed719aa6913e134fef32cdae3140b72a086fd0d16e7e62d5398e43fe77564d37a1bd2fbd21f78f604551201ec088e7266f9dd21e475114dc41c00974ba996118e4873f76dc9c3c1353e0b31f2537938e7641107075c920bcc1555ada9898e0fbfdfe69c7d36ab56a34099d96d353bd43b35303f05b9e4b6b6a123aee87cafbe88cdaabf6e6ade1eaf178fcf11ac2ef060626cbb20132b97aa539a301189d966548dca983050bf987b4431fb75ab92fe17d3e9f894e98a405f33d54e6063611e16c884bd5dda5c88276a5d3fb29d93b20bc01cf5ea7c783c3e7f3f9f2ffb52c8b7e705adf0a9111b7d96c78bb473fee1b7c1eb8607a3ce2091202946900ae1eabd67e4e7e8ea0f7e549e7799ea0795eb34bbdcdca7f492a63f9fcd8c31c18d84484161ee491eeb2dfd101a896f0ee29e28d9017788e27b2c42549daeff797d5198db940ab44499206eb6ac9101e9a92b4d8eff73fba30387cdb60329042eec998efb8a18067439454729dcf67414b390670913b8e13c7b14061f0594f3b29a98ce5f66343788316ad7e9264b3eb98e14347cc5ac2bb27ff25bab382e72ce9278a29369b4d1cc797ffa3e3382488d4aa1817d467dff48de38a1fbd18087d833e9858e4edb72eaae3f11804411004abd50aa172d0932dda3a554997b52e358f2f82a2289ee7911142bc0b6fe6ce4bfeddedc31c1ea2d721bc14ad6ecce4defdf6d1501485de196f194d1708f60000200049444154ca8661f4e4fae13039160877cc3f421cc75777d156ce05fdcae2d6822a8ac2a188cdb2ec7e0c84e7a4332022930974b7f2da1ea4951644527eb02a40dfe6e86c36232bedb9eea72f9b8bbe5aadf87c4267571305bb94980aa13687497a449b59411df9a436fb8970376d07b7caad0710de9224e13e82dfaaee27f6ffd56a75b9802549ba1c23dfead12a743e1b8722f67c3effe84416e55006021d912f28bcaf4e369124090f1718e0716bbc3c3db5079a7618dc711cae8252fff8be5f96252bbb24cf73555571a781701445d17c6d9ae66c364bd3f4b72f5255d5881fc1f77ddc47f02b5cd73d1c0ebfdde79324d9ed762def725114aeebb67e9f3e0e5aff8b58d475fdf9f9a9aa6a1445e33ee634b22c4751b4d96ceee42cec763b5dd79324c16a074f93e7f9d7d7d78b6f9557b7051cbba00fa228a27de2755d9ba6591485effbd3686a3818a7d369bd5e7f7c7cc8b26cdbf6748e42e17cea88788376ee070509dc75dcdd868f78a3e40cfc8adf268e6a9a1604c1d5a2ee4776da29990b8ee370b5bd9fcfe71f33f9f92c56074230555bffc1a7f86ab81b961e18381f8d8c11c174b1ab2101f2df47eae6483fb61163e0ff74fcb48aa26c361b04ba81d0d0e1eed9ff86e99e78229a405318868305c70cc3906519b7123c1ec059afd7bf5a60aaaa2e97cbbaae5b5eaa178ca6aed7ebf97cce4f245996e5344def87beb7dbadaaaa4f24f28017a72c4ba1d355ba73ff310fc3108b04f4b1abe7794e17301e0e07d33455559d5eb7858e10b3a4aeebbaae49afa53b47615dd74d0c9c55d2f770044120a8071d116f40d36a9a721903ef28890dc368957f330f20a0c01bf417eb9efde7516ef9987edce2a61af16e3de0fc74707964ba3242dfe0574cb8acf44123edc7301a2abd414f5c36330f82005dd6981fe2971d6ab88b781353230c4341836cc3c421755dc782166e3d34b93dac74c26eb7dbed76a7d3a9f909a92167eef0cbf31cb712fcc86f63ddb447997e4cf23cff7125d307442baf6432ec76bbf7f7774e4a3d5555cdf37cb55add0f7debba8eed023cc88497ca23166c9aa6adddef92288ab04e404f3aa2f5004651841463e687f862b19065799834d55f0b6f4551e238cef35c5c555914c530e97648fd1551783777ad8fadcdb22c4dd3745def23b90549a4e0c7756edbf613aabb85e7790f9617d1c7445dd713ee0af3f5f5a5eb3a27ce05dff7f33cbfd3affe743acde773dff7f969140784381fa7a76a981cac7063815e57299d7552d775922468b1c69cbaae97cbe5dfbf7f5dd7edf528ff9df0f63cef6aeb5a51c8f3dc75ddf7f7773afc08c055fa884bcbb22ccbf2c7c7471f2b30491298d1e08ef56c9ae676bbedf22224bd3c8a2278152f2105789c547d132fc0fda22ae22c806600a0a3a83e1c0e82558a02a1f07d9f2e574c9264aa19643cb05eafdfdfdf4dd31cff700c8240e84a8981a7509259d040b89a7fba1b39bdd30981e80f2918ac3fea131bda134550ad6ec02fe2a4bfd3e67d9412c11f6f3df60d7087093fb6bfedff7207f4f401bdf2f852046ca55c1cc76cbba23cfab7254912ba1dcbf03d005bd3a400cf645946fb651a81b1d96cc4da23447f4ec130dd597eb5a2ba8cce7a4de13de3ac81d9f97cfed1efac691a3f2de200843727c2fb71e73b8437e8154c111bd7b40e8280550fc54753cd7ddf1737b7d0f7fdee658dbf05cd0f048274246abe5d2c16248dc7b6ed8113253a52d735babc009aa2284cd3fcb139d055d7611cc755552549c2aaece27576c5ed766b9a2627d980b22c47519465d91d1571381cdedfdf3118095cc261431f49923ccfbbdf44b03b49923c5e1486920d004d213a8ee35c0dd392f2efb7b737dbb687eba624eeb084cba0256970d5f71543f29ed03911922435f11fb1462622e80de8e4b4270cd347e6843d17f11e668e23570fe36ab5e2673d9ccf67cbb2eebf674dd3301b09d0f0364ecc300c72c6b5b6972736bafb0fcbaf364f987c00116fd1217bc2f178741ce7fee36f59d66ab57ace527a749b1377a5b6ae1d499b1ce0fe21ef48385aee1871b5372c00f0fd6c4998e3380c1d37adcd56acfc11863a812b29bbd96cee9b14bcf90bc0b80c63323d48b332ef677074b76c7feb25c4b10b383cd0c16f853731fbb32cfbd149ddb8aa8320f895d5f4d05b1972b0385b5ab549a4e7cd30220a4103e1389fcfad839cd6de02ed7a087a83e78254ccbb829dcfe796a5fbb227fa6fcfe6bef7ba1fef056ffe0230229c3c44c4167da4674147e17d19b381f0065cc919d093f19c65191189bff2eb9122f0078ff8291bf1ad24734dd3cee7f330d91a68692e2857db5035cda51ee90fcc099665e16ebe2ccff9167beac50de14d1fa68ee36c361b7ebc333f86bec575bb03863c18fc192012b5d96c584d1bb923bc9ff8bc7852006f9e74fed1348d246cc771cc8975dda56dc483f2bbbdb55dbe90e77982aed4d6c721bbf630e16ec89e89696f72486f361b56bef601e0c7be0743f2dcfaecaf9ea81514824fbdb9e041106c369b717b891f8fc71fbd215c756807a3306ec217a97fc9b28cade7eed6a6f75c6a3daa0bc1c046e904684e169e9df28aa2388e431c0459960541e0388e6118b76e8aa669f7cdef9fffde34c2dd240b68b0e60428909bc03677f5a12233fdb22ce37f1f44c2f90bf29cc9d8eb5281f07ef016188641d47810046493c9b26c9864ef1fef8b244970e4bd32bfed34c6501beff77be692fb4e54e9b2e2ec415097017a7af458a578f02cbce91c13720e5a966518c6af3ebba228e41865f5f67e0c5f5fdd9ac85679270566b24133fa2e3666e560661f06a28acef178bc1339d434edf1d60b23226eba0a788ee7327a7adde721bc5939dd8dffb02c2ba0c8fe97a7bd8d8f64fa1193425114cbb210e2c3ded26b51c6f178ec4972d3f19896c8793adf152b04f4a1ba45296f7c8ee610a1cde956caf0f97cde6c3641103cb8155896453cd7711c3b8ef3dc05fc559955966557ffcaad10ec2ccbb2cb815ba27bb85b916d223f0673d9a2c07b4af2fb96b5411aff3e37ae69947d0dbc025c2599437873154b370cc3719c46ae6f369b2ccb5aeefcdfd629689a062ff3eb9c86032c5762347f3f36fa8eadf0deeff74f8716c51dfd03a0ba47a4790669db40d3b43b9765b3d9388ef3c8a34afa8d6f369be3f118c7b165590f9aeb745be5c789e3f8f25d5d6d9d33fbbec84e24e9ec42a7cdb4fa1090cf325873028419a76770789e77f58925611f9e1381e0067a1df82c4d84f01622964e52fb9e70233e67a300116115f426462649d6a0a58524498d061ec0a34d0bef8e45ece8ac06d822502bdf8e8eb6464eff367f64bfdf7b9ef7a0f9ad691aa9d3f63c8f3ee914459124a9f5225d44dce52679a9bd67c4add264a94da34c854e48687c2783a923582153f53e064170690d9022109eb748741c80f01e3143b2b5142174a707c27dafe383ee987ce1791e6d20b5c60d120b75b056528d5aeee850403b15c05c754fb59bdae5b373756ff9553ce0570abcd1db8aa2689a46eab65aa95e1d85f0e57ed232c2a7599772f98107ebc98900e3e42d8f4b8d4db4f79025703ffaf6e85d1b660184f78fc7de30bbf173ae01c03f7037bf084fa77f4b927469ceb6c25c24297430c9418cfbee0737fa0e02b6e7f88ba8eed6d9417feacbfe0b8f2bf08e61b0fb89ee4f6b6fda95f0cff4ee629ee7f4b7a669ce66b3244986f9ebb66dc3089b30aaaa1645d1ca985d2e9755552549c289f63e1c0e511435dfd6754d7f0b4083aeebb808a03b699ae222bc024f5b38a669aaaa7a67d9489264dbb6ebba755d0ff6715cd75dafd75d6cf42ccb60f501562449329fcf877c0446a7280a5aac5dd5718fdb3351141545713c1e57ab9565594f643a33799c2fe5401886ffff9be9b98b5ac16de20519de7903a64d2b69b649b6e4447b5f569e63d80922de975cedfc818837f82dad3eb460aa3cdda4f66a3d027d48398e33f0b4f0a7fba54b921404018e54c0167eb22687a429a86e19d5acae2ae9ace679de83cf3b43a3a8951fd4d4b64c5078d3d148b2d70fb69a9167fe52b41ee3e6a1e2a1de9bf4ad19586201e184f773095d10dee06af40f5204f2e071eba81511d96c3642cc2b46277fc09cab358c2f42e3926b99073d3d65644821a9eb360ce3f2b2336c59d22a9c69f6c0090a6f5a0e11b13158bd04fa99bfda5ed9f2829352ea21abd4ee180797ae018c1683f06e3140752284f7eb40862ce249c43ef3c86ed3aad81a38dcfdb4471b0b00b065b3d9bc5451f7e5a971d55a18725200bd17b10da0b67639723efe33ed3baaaa6a9aa683d54bd0250a60f2a8aa4a3f54755dbbae4b7efe3fe51c6370381caaaa6abd8dc13a1d0081d6302e0260455dd79f9f9fa669966589ab31554cd37c2e34dd3a80e8026fcbb2f86f1310c7f1e8273b98125555f9befff1f1f15245dd97a746735ed0f1e7e7cabcbb6bb7d3e9c4f0957ddfa7bd2a6497fb67f23775b09b475a83602b7929c230a4778aed764b0e66dff747cf9a4bd3d4344d3a2d70bd5ec32006340337571bf2287d0e5268fab2597f4cd8ed76baaec3cd3761888bf9b76cb7dbe6002acbf27038d01bd176bbe5f9235b96f5dca706e09685a6ebfad7d7172e45b32dd002b869ba26b46c946599ee6d5c96659ee71314debbddaef99a44bc87f9bb0877bf26ad86e1cbe592589cbeef8fbeadcf5aad142fbe05af0ce4e525beefbbaedbb445c5257a8ebaae178b856ddb5555e16a40783734ee989669cbff3ac16410c050679aa6f9f1f1c136b82a2e8dc6a62301b4636e00f9463742636bbdd3bb25b9e3138f78cbb23cd8ca86f07e4d4cd3f43c8ffec962b1288a62f4f487ed765b5595aaaadd83de5555e53740085d5c304b4c51143a33455194e69aa8aaeafb3e1478c72d485555fed31cc06f5155f5b981de8df06e0d12e3fc1c711c075539a03ba400f0eded8d0e1082e6f16fd924439e1df4037e381cd8666cd1d9e645514cb0b91afd695b8aa857d0d0158d5e690bfe7c3e8f6eac93460ead2670bf6a6f7e3c1e0dc3688d79b8dc53866c83011eecf6f723c3dc35fa2fb61a8d8c4e6b61df6f0cb6dfef3dcf13a2f1f2d31886e1384e1004411058966518c6adcf6b18461004fbfd3ecbb21f3b03799e471a4f822975847a6e8d916d87fe8965599c3797827507bab35aad5eb989dafd7367f4fe6aad41896c5bacd17d8e832098a0f01e45ed9026d2e065b994d98ee38c3e95b1d93be87742f7907cb0d9e68fa70599cd00eb842bb72327d6e4589ed0470440abedff831764b3d9388e332513cab2ac2efdedcfe7f38ff14f0c619a1ecf39a10cc3688976cec717631227e8481cc7d3f6d8b2b2545b1a75e04151adc000c31106ad615b131f273618182406cee7736b6fe5c19e20f6746b00cc2346769665bf3d2a60a008b4fb3dee7fe9c2e530797e8ce9d6f8a227566f96659ee7099a852e49926559711cb38a453f321407d398a6c4d3092cad47862b7fdc2518c30920b9fba6b962b491c070a4f673363cab903bbd551a86f1e7b74112fe314d73f8f2892ccb50e30df23c9fcfe7b41b6ff4e6198661903a1955559b37e338cefd0a96b22c755d7f62c4c57ebf47e5f0884451f4f9f9795565cd6633fa860e33bfa7f5440441b05c2e47bf4a9aa6e579aeaa6a73414895a92ccb5d3e296979509665af07902449cf3d62aaaa9232365dd75555ede339adaacab6edfb1fdf308c244950313b01480f918e93901445715d97876de1d6db431f13f0044992846188f6690f723c1ec9a140db3092240ddc76314992c562d1d2deddc719d8b64da63648929424c9bfd3bb7fbaae0f2fbca1ba015906866134cb8f873d77b7dbe5796e9aa66ddbcde08a1f15579ee7b439a5288aaaaa978f15891936fbd428c92680c675ddabc2fbd2381ea5f91f0f26ac2449699adab64d5f13dff7bba86ef2ecd3a7405555a4532b91e2cdcf8ba2b86f4934f2b839cec81b6bbee0195996f33c8fa2280cc35b7a8c0c1b0bc370f4b90fa0fbedb66d7bbd5e777c70786e698e1162e0b7e4791e8621daa7fdd63668fcc2b4ddd2fc7cb0e7bd2c4bda0f48ecdb2efb405555cdacc4baaef33c9f21fd8909c8a80157736b7980a4ebecf77bfa87f7b3cde9dfd434ed56012769abd6ea1b8135c0ff06489aff0df0665ac59ca3bb662449daeff7ad8c7774e8600e69ca78ff5e5896858e6b13b8d11d1fc9cd66c3b3c7168d4bc0af1e87e7bafd83c6743c9fcff4cf872ff4b8da17b94bce79aba86dbfdf4f709cd8286181c1a68503ce21416faede12097aebba4e97afdc59b1ad7ff27dbf71d7b5a8ebdaf77d8ceae58a300cefd74c4a921445d130fb64339f93e8dbd1974a1445699ab662746c078780d96c46a688ddefe24b868de1e814fd46773cef469fbb79df678d9a08f0f8c9abebfa2d636914144511a50b49931726cb327d6a0c3f8d92e46db52eda62b108c3f00903a6aaaa288ae83ba2ebfa0485f72825a618550a1a384c4e0bc3b065e2dc59b1f43ffd58634372819a5f8699c2035114c5717cf5b825e5cda318bbb22c1f0e87112f0b713cb7aa49e3384657829e2083d0ef08b3baae3f3e3ee0bc13fd2e3ffdff721e1e449e397850349aa6b95c2e3bf63b60cee974fafafab26d3bcb32ce2b01e9822cfa441ea53cedaaf65e2e97aaaafe4a7e5755659a266df6fcdf6e895c5f2620591130ccbeeb4975b4f27e6fe579d289b88ee3fcaae5ecfd49c86060c898e586e1337b69c37adc833f8ee356c6d70c7df8b9297f501405c3c6c4e5e9becda40c8a4f4930ccdc073001c5c1ff68494dd38ec7e323832746e4ea79317063f33bc630bd330441f0a335b5dfefe9ab2d4992e338a474659ac5c9a32c1ad40281060e773745515a1e815bc533ad9aed5f5945b09ec1adb534a279ed384ecbeb04d53dbc0fe8c78c47748810944b97d6e30441c0e71c6fcc8805bdae7c5618861150dcca2d27fd4d8ec723b799e78d865aad56fcf8bf3ccfbb6acf13211d044196658ddd4bbc1b9ee75db5761a931bc29b1988f581ab7a83aba037bd83dc5ab14f0b6f8408400b3a14369637ca719c96ef19394a63f163e89b446670a1847ed29f500e3ccb0000ae42ebc3e1d3318837f98ea3f3ea63459a84f1e9ea6a74692b6d79f427f1c161ec772c1cd287f8ff4b54c81e565896859d08f02cbc1545a1dfd8ad88dfd3c21b214470c707dac53467aebad14f7b2c7e0c7d4b92042fb670f010fa63bb6fe09e823b8ca55d2dcbba3f92a6f5545eaa41a2007f55423870f072f4c6e65de4f7a51427b906ff631741f63004c61ce05978b7c48fa2286c853727fb23e047628d6e3d9fcf67a86e0ef931f46d18066e93588ce259eb3bf806000faa5b5194d56af5c49678d5d149b4376fce32bab8833eb5b92a4122f2fbc1f43dc3303ccfbb8cd84f53780f36cabba5491e774401086f6eb3e99e13de08118016ad84b18153cd89ea6ed91c50dd5cf965ee4b35499270a40ac46482dee3f6730250ddadd5d86588f4f7ddc1d45c3db3f473f7486ee6b88717b18d5ba1ace60bc77156abd5ad9e4710de9dd86c36f47547b639104b785fddd09f13de3091c158fbf083aafb32e30b8ccbf97cfe31e391dc4a5c2b219846d01bbb04e04175933a29563bedadd3902bed7dd578e0bf21cb7ebfdffcc723a7d53485f76013c5be2f2a256022008184f7555722fde66fb5677c44c003d82823aeead68860a86e9ecfebfb824d5114a4fe0ac10482de48dd02a39f68cddc29b65ece5bda9b9f5e6bcd19ddda4926b690fe99816e79e6a669d23f4cd314570688429ee7973fa4977451143fbec86ab5725d171713b428cb7214bb398a22dbb6b7db2dfdf32449745dc74de110d3348ba2b813fa3e9d4ef3f93c0c435c2bce715d5714a7f3552449c23203b7d6f67abd1e46722749a2aa2adb57966539cf735a7bd7756ddb765555499270a2bd1b83b375585fb554c505c2fb79aaaab26dbbb5209224c19501a2703a9d3aaa2345517cdfc7950497ec76bb81ffa26118511499a6d952dd711cdbb68d3bc22db22c4751743ff4bd5c2e755d7fc41508464468e1eafb3e73c103a0bac795dc77b4f7e97422276392243cccf7be25bca7b6ed4f352764804bd7748a6ffd1ce31f01edf51f6b7cf1835c6689d3d535adee119760f00fb8caf02dcd1545391e8fb7bac80021389fcfad1a81cb63177b0ee7dcbf83dcc27f2929986486791f89e5f78fe696514ada895f4e0019f719a4ade889f5cf42c4fb79eaba6efe4b83a037a0113dc1f5743addf9570412c17dd7f590d12ad3340f87434b75a30e422064594ed374b3d9dc3201ebbafefcfc344d73944206f008511471ee6ebef5b671ef408b5e63dd8661ecf7fb5ea3dc572dd256a2eed7d7579224241e3eeed53e1c0e555591af7f5bf3281010deec81f00634ad2e00bc71df7ebdffaf9aa621310f5c65e0235cd3b4300c5b4e22a86e41b16dbb2ccb3b81d3dd6ea7eb3a3aaaf089aaaac2d51f799ec7f9490da6a4ba0dc3c8b22ccff3510233baaeb7ba972d168ba228745d5fad569c580ef495e95e1409e13d04238eb5389d4e3008406b9315f49ddf0f7743d5805b0cbc07565545271f917ead589fe2f248e8fbe3e3833407c2e5e28d300c051a2da6691ac2dd6018d5dd48ee711d3daeebb652e8c95eeafbfeb8a5228df06e5d9f29f5579bacf01e3710874d1cd088956dde78167fb49cd0261adc3a3b2f6b707a85f610499234562401b0e5c7d0f776bbbdcc9c043c204aea9fa669583f8086344e66aeba3991dcf413da6ab4465cd549928c582ad23c8cb22cd36f0fc21bfcc06eb743051a9476b35f08948f9d244973dedc0f77cfb8cfa2072f687343754f0c12fa8ee3f8962d48868d61b6026f98a6c97f9735a2ba6559c6fd0284b22c2fe7624c4c72d3d629bdaf6eb7db300c65591ef1043f1c0e8d7aa22fd794f28821bcfb02d3205fdc58bca5c37983ee5a9124c962b178f07f142893100c49555503cc3bbd634940754f0fd7758ba2b853b3f3f5f5856163bcc179ea9fe33850dde0f2f86875e89ca4e46e2cd596a05d2e97699adab63da2d7ac794bf445abeb7a32db3b84778f4b07b5674014e19d2489aeeb8fabeed9d8d51c00d6f6259ee741754f155555f33c5fad56b742df87c3e1fdfd1d755efcc06db6b924499bcd867472c66d02cdc9359fcf591549712eb91b4cd36c3554735db72ccb11671334fb466b68ce641a57437833decd9bafebba467b7340e0f9743f9d4eaaaa2e168bdf7a7991670e2ea9aa6a2ce5234912f28c268feffbf743df183686ade0fe2e11044159961884091a487af9e7e7279357531465b3d9f02fb9e94d956eb456d7b56ddbb22c8f759e1e0e8726b84d07de2753e60de1cd92baae69ed0dd73b68e0b9b1f98fb5dc10dee041a2281ab8ad1a6d3d207ef50afc18fa26c3c6e0f87ed9ade0961c8ae3b82c4b52c58a1b049a85aaebfa6eb7ebfe5292249135269c5b278a22ba93d9e170f07ddff77dfa8703bf1ff2057d2569412e36df13652c9dd3fabb9bcde61bbc1e4110d04be2fbfbbb35b941742449c25d062dcee7f388dd50cfe7336ec14bb1dfefefdb8596656155bce056d0c2719c2ccb7053408b2ccb180acb200884de6df6fb7deb995dad5659968d6561928b793e9f5b0a6b020b0f116fc6c8b28ca037b81aa599d2c7419e1eb8c475ddb1625c8661208af56a906e6ab497b3c576bb25e1715cabe103563c84bb354d3b1e8f4992203f0bd090dcf2f97ccea48f9ae338c7e351f44c8acb2ca1cfcf4f599647091ad5754dd453eb0dec763b32f34c68262bbcc76a6c561405bd2c76bb1dfaac82d9e412b321bc418b344dd98e60f9add1805bf09a84617827f45dd7351936865ea7435a5f3c841cc864413401050d799e274962dbf6dbdb1b93dc7222b9932499c632b36ddbf3bcd64fc69ad4184511d9b45ba5e6ebf55af4e37eb2c29be13c805f713a9d5a120b416f309b56c45b9224041040cbd41ed70f8d70f72bf363e8fbebebcb344d38c187214dd3cb70f7f099e7685afee247529224511499a629cbf29f3f7ffefcf9339fcf178b051307f1c424372d58e882d9d3e9e4fbfe9dadb53feaba269a5f55d5cd66436f2087c34168ed8d5473f6946549a746acd76b74580503efce9aa6f567e8a08b156861db366d6a0fdf62039e20703ff44d868da1effd3037e2eaa931e4b6601806d2b25e16a287178bc5e7e7e76eb7635bf53055c9dd90a6296d3dee76bbb22c4769d9b05eaf49a1906ddbad10e6e1701037e77c9ac27bdca4b224495a0b02ed555f596633c968fa15411014455155559665cceb7324491a2bf508706b67d38b5c5114f865c02890d0772b5b9266b95c62d858df56fbad3119437a3de06179e5f368b158306f314006d14d5b721364596ef5c558afd7637de4464cb9ae1bc771eb5d899a503cd55e85e35ed5e3f1483b7715454103c957eb9679f9940db3f6e87ee3e7f359d3347a106277e238c6fd050d9bcde672850cbfe5a26b3168edc08aa2dcd92457ab15ae521fdc0a6b0741f03dd4b89969b43e069c18ff4472bfda7c84d56ad5ba0863e929b275105ad6852449c7e3115dcdc16c369be5794e07bd4fa7539aa6b82c2fce303b175dfa5214c5e17060d8f24a519409b49404ac68f5929ccd66abd50a093e60744845f7add0775dd79f9f9fb66da3e31a5bcab2bc95e1452266c304a211ee7e595a96b6a2289ee7054170c70d77df668be3b8aaaa179cfdeefb3e9d2f39e29082e572d9b4e7705d972e38afeb5ac4877d9ac27bf4f121699abaae8bb962e0962416f4418041031a484335fa3c761c47d7f5e16b2b00b84496e5288aee84bec9b031f8c41972c7ce21c2db34cdbe83de8aa2a0e3c32b431bde24e875a7fce10e41109465f9ca9186288a18ce39efe805a0ad50fa5d89d8450b11ef5ed86eb7ad36bfa43f01aeccebd87cf4b76375d365fb77354d43b81b34d8b64d0f8fd0342d8a22ac10c0153f86be3f3e3e306c8c158f64bbf41d8480ea86e945733a9d7e3be4c8b2ac09cce566723193241931c99c1650f4ded2da43840b0821e2dd17699ab67a5021e8fd3ab482db435a75b47f8716dedd774f2c60d0e0ba2e1dd9962489cc6e7922b00040dfe6631445ad8134345f5f5fa42b1bae5547d57d271fd5755d7282e8badeeb742208ef57260c4355559f8ed33a8e9365599aa618ffde98b29c187eb47bb4953893a6a9589e537435eff110525595ee6b85943630008df2a9aa8a56411d67ab388e0383063447e07abda67f4236b7e572898b03f8c4b6edb22c6f759a3c9d4e1836d691fb16cee974fafcfc241931beeff797c28a73eac5298a42d7f5c7230d8661789eb7d96cbebfbf9324c1fa69e1ba2ef3e1384f50d735ed02a0f7eabaaec5ea2cf367b066cb837eaa3f7f78781bc7e331cff3c562d1fc24cb323cd52f02bd08c97d374d7398f2d7f3f92ccb729aa61f1f1ff40fd334a557638324492452d17ca1691a9d9d25b9e978d400002000494441544952599698110566b3599224ad5514c7b1ebbabaaeff36a38f21d85ac1e3fab0d59b8046d334c4bb9ea0aaaabf7fff3ef29b8ee324495214c5fbfb3bf3b7a1280a6afa40a3c0abaaba4c80956599e424e2c878fce9364d73c4f3fdaa214a9b1c9aa68994b2244afbf5f3f91cc7b16559b41f8b742cdceff7addfe4e4da7a9ef7fdfd4dbf61c77130efe145682993c126a9ccfe1bad7475a0ddd5514f8ee3789e6718461cc7711c6759d6f2161367300097eb878cfab8333979c8350fc083e6c49d218b1836c66467b8033950fa4838b72c0bf70200e6ecf77b1e5415bd33b7f61c81e68a89916a4e3cd08bc562bbddd28eead3e99424c9fbfbbb6ddb8db7831fb707497ea0537c916dfe3ad0ba77781f7c6bac4be3d9755df7d24222cf1749dd298ac2b66dfa29b32cab639a3a980697b16ec771c2304cd3f4ebeb0bd70788024908ba55f54d868d99a6898e6bbf32d21eff65d775cbb2ece3f20e3f3a04805740d7751e12cee96cf3965d2a92bce2dc31703c1e1f8c139219f7bff5bcf64d1cc79bcd86fe0982872f02bd6ec9ca1c32e2ddda225bbec0cb98f62d2ccb3a9fcfb89be0725f25c1a5e3f1c843d75344bcc173a1ef3bdbb2244938af1fbc8cbf7d602dcb7a6eb4f27d70bf00e8899696190bfa19a75b45188681883703488f8407cb6249e53de95fcacf4788a2c8b66dfa8041d01bf44d599674ef2bc7715a258ba669e679fea3dd23491279a670495f9ccb58b7a6694d46cf9d56c68381e02478025996f33c5fad56b742df1f1f1faeeb6275dde709ab66bbddf6310101a71500d33e64e93e6aad99cda25c497e85f765caeb23dabbaeebd11b00d01c0e873ccf916d0ef36ec83fd7eacd7b75b432199fa3699a2449ad72474551344dd334ad2c4b3419025755779ee7b22cbbaecbc97e8b5950e0697cdf2f8ae256e87bbd5eebbacec38c526ec1c50160f2d0e2a5bfa9043fb2dd6e9be2cd567b3c51cc004e85775114a6694e63246c1886f4e2a8eb1adafbd518d853483f388661dc6add49a23d799ed375718661a8aa4a7e8ee801b8a3ba9324690d15034050c8a6772bf47d3a9de6f339868d417803f0b2cff876bba5374c1e5c00ad9e0ea26c44dc09efb22cc3307c7f7fe7217d9109bbdd4e9665fa38c729f50ad0be37a26047f1c65d0d77d36f4cd7f5300c9be29346724375833baabb288aaba3e97878dc00788efba1efe57249128570a15a8fde3462240080ab5455d5b224c715de74b6f9b86d8c8514de6559e6799e24491886b66dabaafaf6f6b65c2e27b66a49a577f32d22deaf00ed39d275bd2ccbe17d498aa2dc17de003ca1baabaae2add13daa70011348e8fbd6a4abc3e1609a26577d647810de7833004c5875b712900dc3a0a5eff01c0e874663d3416fa49adf54da511499a6a9ebfa9f3f7fdededee6f3f962b1582e973d35dbe081ed764bfb874ea793288e19f0f43a6ffd64943407dff7712f005bd53d9bcd38ac0382f0060c09c370bfdf5fad636c868de1101ff168bb451445d80a00600529fb6d757219258c746bdba17333058e7837daf8cf7f98a64952b03a1a46b66dbfbdbd7d7e7eee763bae5aa0dd47d3b4d56ad57df9d2df22e8fd52c29b74111ff83d489284703778ee48bb54dd455190138e9f866a34021d2840084856f9add0f76eb7d3751de7f88cb328d3e97482bb19005696c0a5ea9efd6f17a1d1b71dba879130b1dbd63046cff3eefcb2a228abd5ea89b9befbfd9e8759afcf41c6d5761fc24c4f6f22af095e64e0e1f1781c7edd92e1e10074dcab354d6bf6fccb69de7c9e6500307c22eeb4f0b52ceb098b684a70b815689a763c1eb17401781a9ecffa1935b53bcb32fae742ecc6335a2a3cae8d1dc7f9d5bef6e3c4609e59ad56dfdfdfc7e391adef000ff684a1e3249aa6398e33fcbaddeff7b811e0579ccfe73baa7bbfdff3bc516759863b0806d8d22f5dea2fbbf65a562f3f4892442c3700c06f19c564fded03de182dc29901ffccfe6b58f7f1f1f178d6fe7abd7e7b7bd3753d49921f2b6a7cdf6f25008815fd26b5fbaaaab24d61426ff309d37a2846c9486c0d5a00e0c7456b9a267d0ad075dd6559de9a4b07c0e409c330cbb2ab2104326cec35339cb92daa24a5f8a4551e562f008f9b01baaef33f28b43154449cbff30f31b62eafb26118711c675916c7b1655957a5f2e170582c16aaaabaae7b475ad0edef2449daeff70348028631f6f97caeebbaebba6c9b76e03c9830f4cd3d1c0ec337a2b8931b09c0555ac5db922435aa9b74e8e07cc4239a2a815e314db3288a5be5785f5f5f2f386c8cf36e46c427824e78003c425114aaaaa2614aef9ccfe7968d7e356fea7c3ec7717cbfce599224cbb256ab15fdbfb7b213c93f75af97fe11fe33259a12053031e88aeeb1923bd0440074c9a4251e528112cf66686a0006ccafbee3d97fa90c67217606ec0f00fc08e745dd973426caa5c6e43dd5dcb66d3a50e0795e1445799ebbae6b9aa6699ab66d8761184591aaaa699aeef7fb5b5b6d5dd7dbedf6f3f3733e9ffff9f3475555dbb65b132fc954addd6e3780739a7fdf12fc3e93844ef1182b48883c73f038799e2f974bfa275114354b280c43fe13cf00188cfba1ef971a3626d0c75c2e97c83c07e02abeefb74699f0cf4472dc1445f93140a7288ae3384110789ef7443ab7611844baf71a095414a5d5569a394cde3fda5f4d121e5a096e361bdc08f008970dd5e8905ddf1b294310d102fc84be25498ae378f2576080ec45e6789e87a50b40630088f814cfa8e0f6d51ff2ccbff43b7e6406dae9746aa21f8aa2689a465c9e0f46f676bbddfbfbbb2449bd460219965ac5712ccb725114c4515a14455dd786613009dae7798ec8e4c4705d9787598224b504801f69156f5b96d5b4892a8a02a3e001b805097dbbaebbdd6e5bff54d7f562b148d334491211dbff4c38e8f4f5f595e7799224b0bec08b5396a56ddb28ea1e987fbbfccfa7d389680c499288df5796e5476e61dff9b7a669b23a0f4cd3545595a4dc93d7ccf39c55936a649b4f09628135ebbf6fefd27d6052804708c390f6212a8ad2144a08d150ad6543e08682819165394dd3344d5dd7bd7c58b6db2da9d19bea4400414df6c3e1f0fefe1e0441188658c3e0654dd6d61c132080f0a68534b979a7d349d3345dd749c02dcf73122266f5762549d2755dd7755996cbb22c8ae2eabe6f9a265d67dbe5cfcd6633dff7c9ab315fa010de531230ad2ad911b733b434078f7059da9da669139db36d9b87dc0d086fc03fb66d9765792bf43d9fcf3dcf0bc370c2a16f11592e97c469820431f06a2449e2fb3e54f7d49024c9719c388ef7fbfd66b30982e0b94202a27ec978b3cb5cf9e3f11804015da348e6aa33295ad034adef7addf3f98c22137483640b5a9a83472abb5a9b1b5dda2d50b3e206cc8900a3b3d96c6ef57fd1346d7a5d5da661a9be42353e00dc9aaccf41cab9e929423351ba9af77751eaba5eafd78bc5e2fdfd9de4f3846148c6925996f5abd72127599aa6a4bf7a9ee74d26b9aaaa2d47b26ddb0c43287dc77c10f4169d288ac2306cb97ec67d4bc833073fe2fb3ebdb9d1a5dd4992a08d39004f4042df572d1c92de8cdc66de20d5f8adf93e004c952449846b607e5fa6d1df4eb5a8a72b866104419065599665cfb5466f5014c5308c56622de9e72ccad540275ed1c3862d996d18c6ad31335854809fb81cbd6024496a526fb22c13f764c19d059cb05aad6e79600dc3381e8fd3f8983c8cf06085a2284284cb00e8b22f4de681254f6bcb9841a2d043a692e7796438996559dd438524cf7cbfdfc35804031004414bf15e4a71086fc09bb7a8652e37e6e67ebf1f7df576013717f0c3f178bc55f22649125dd9212e820e22c2e9095e10112bc87e14deb411ae699a1037e2df712fdc6eb76b7aea92c669aaaa565545727e9e68cc16451149a51065e920d55c5caaaa22ebadf197876128562368f08284614827997b9e47b2b3aaaabada991900f004aaaae6794e6a915a8f555dd79f9f9f64a8153aae71c572b924936b705fc094705d7792156474aa399e590618d7b8fa9b92241986e1388e88a91493c93a7bf170771cc79cb4ac80cf1edca29549ae284a93643e81e01532458170a16f521c87181a57489284cd044cd5589d06e409a56b8d45317dffe5f9b2d203661bc8553e1c0ecd9c64923649dc1e7ffefc116ef5144581691622bad95ae16ed334d1d50c704ed3418d1045117112bbae7b75bf15d7f90d0027dc0f7d7f7c7c883b6c6caaa60b19028741df60022449d29a1b3a25e891d2a26c47ff887895c9856e0eb0d37f086a3822db5c445a2654144548d3059c1345117d4a59964566404ca68d39f652c02dbeefe779deea054bf8fafad2755dc4d53bed98c172b9344d13ddce81d0aa7b4a3dcc696459cef39cfe8928a1af7fb02e6f3158e2258c45e128cb92162a866114453181802198305555d1d11b4992482f8c3ccf277330b78e6100b882a8ebab699fa7d349c46163934ff2daed76aaaac2480350dd1c6e3ef4894fda8441788b4d2b27b3578318575bb8ed8cfed6b6ed0967f280691045119d9141525babaa22416fb6388e13fc87e77957a37c7d70381cb09d02ce09c370bfdf5f7d2896cba5aeeb02554cbc4275555dd7efefef74651900fc332597fa2d688f98407b1184f74d6cdb1ea6710822a5c291a669f3b5a669389201e75c76e0278e45d334d9d647689a763e9f9324f17d9f94b6e6792ecbb26118c3c86ffad904805bbd7a2bf47d381c745d17e84c99de44b1ab7c7e7ebaae0bbf1e104591f6e152e7d0b9d07c4d86b3008121e6e3f97c1ee65041d345b15ad4d2f78ec3b9c7e86a0e7eecc0fffdfded791edb85d7f448df6c3692245d3e1a772653b082ccb60040086e85bec9c3d24c1ce0991711de8d6588313480ff5d851fbb5492a4e3f1c83c8aa9695a6b448b406308fef9f192398e13c77196655996ad562bcbb238541acc391c0e7ffffe45b37170dfc736a39afc01c02d747184a228aeebe679fef5f5c5fcafc8b29c24c9c7c7475dd7978fc66eb72bcbd2b2acfe3e2922de40204899e2551718a92ee67f3dbf54a089e423a0e41b704b55555c35fab56d5b55d52449c8fc2956c8b24cef8d922409bf11699ae679de1dffc166b3f13cef1514784fb496205c7402d1ab6c600222dea0b55dd3cb238ee3f3f9ccf6149ccd669ee77d7f7f3f38cade308cfe8e8ffd7e8f9b0ec422cbb25b8f24e7eb79922382ef234912491a02803706eba8f2dbe3f841dbe0412ccba23fa9655902dda3b6de5ead56bf4aa4d96c368ee34081ff0ac3305aa630360b81e07fb54378031a3acb4b92a43e6c659264dedad6c8991204c1d534b3feec03ac7f2022e7f3f932f4cdbf41d94af87c1d88ab11003ecf7a4e82b8370567375a9f542c47d82ca078ba76e57c3ec771cc9ba3854f47691004adf3555114ec17a220849101e1016eb98a3ccf6b352960429665977565a45306790f776a59fb3eec0110eb886942df9224f15fe6bddfef5f398822441d3e780556ab156f0fc86ab522efed783c1e8f4786fd205ac686588f21e3582ba9a19f4000fc7c3e67591604816559dd7332494ba12008b22c8be3b8e5aa112b47e2c561de8f0ac21bf44a2b0abddfef993bc53dcfbbafba1bffec60fe78344002e2d2b8e6379b8d1876e46b475304eaea0426ecb0e353497d7f7f1b866159d66ab5625ee026a8abbd972467d103e09721e8e3f14804731f1f0ac5420221c4aa86f006575d45c446647ee63da2ba07f6ca635305a22350ab02141b36913d004671d571f80c9209234d94bbbf7728dcd3d76f75f17ebf17b107dbfd103429650c8280497f2064450a441f39ba10de60305791e3386c63cea4c9d0e3aa9bc0b6c9ca9d231f0030002f3551ecce9e83b4738007904eafbb6cfb8204b7ef1fc7897544d7f5288aaaaa223dd87a4a33e8e36ddff95759966ddb0ec330cff3aaaa8ec7e3d33adc308cd66c2ac033b85940380e8703bdb3add76b862feefbbeeffbf4e4124dd3f23c9765f9ceffe5ba6edf39e77854010043b25eaf4dd3c4a43130306118ee763bdede956118aaaabaaedbf71f521445b8c1cfff0ef3676cdbb66d7b369b154591a6699ee71c2e940785770b55555555259f6e369b55555514455996655916455155555996a7d389fe5f344d334dd3b6ed971a8039014419115c96256e16b8d49f6ce5a865595114d1aa5b922432cafbc7ff3749923ccf5b1b23434ea7535114bfdac90100a00b87c3c134cd344d61da8161288a62b95c72f8c67cdf1f669c7823be20bcef69dac618caffa3280a7ea6bdcf66b32e9ba62ccbd87327495996dbed16c21b88752af724bc4964bba5baf33c7f5ceb8661b8582c7a753a4078030086a4aeebf97c1ec7f100b13e007cdfa7bf95248907316518465114c318cc223e68ff8cf8b74dd36c12b69b2ee23d3530fb9541f948c406bc1aa284bb016868b960181ec987c3a18bea26e7255d9bc3bc1508b2cd0100a3b0582c9224c17500bdd2ca1de6a7f5afaeebc3c4e1154511d1bdfe2f27ef83048ae95871511424673bcff3cb6cedfe809f125c05e728108e610a0e9f50dd04d3341ba7b8aaaa74397a7744c94f01004c527b97651986212e05e889d6ead2759ded19fab418fefafa1ae66f8998673e1b37e27d1f5dd75dd72521f1b22cbfbfbfb32c5bad568ee3b0eae04726cbb5bc4482de48d0b780e1614703e0575455c5adea9efd6f378db22c99775c43d01b800160952438b1b164cbe512fe7ad013ad70b7e7799c64655ef6b4eaef19173450fa8f40efd5344ddff749571e32ab6cb55a5996f5c88d5414c5b2ac388eb32ccbb28c4cc824af460b2ac77184eb8f070640ace37300b90584a06f6f5117d53dfbdf6e1a755d33ef8e01e10dc000b0caf6344d338e637e3266bb839c73d01374b89b8820ae5a6535922a8aa23ef68a99b079e6b3d96c368d2976c7e3318e63cbb27efcbc9aa659966518c6e56c334992841b07078641384f3c6e19e87becbca228c483c9ea1d6659c6f641d3340dcb0080be098280d533bbd96c4858c5f3bcc968a4388eb1480043f6fb3dbdc03ccfe3705ab3e338dfdfdf711cd33f643872dcf33c416fdf3fd3d8d7c8bcb8344dbfbfbfc9ccf05b06dce170d86eb7bbddae950e4106e120dc0d2e49d39443572200f7e9b5b9bda669dde775b5f6dbb22cd956faa03c0400b1205d9a755d9f52d19feffb98ef0d18d20a23abaa3a581bacc75531c9f5a0ed10c33018e6638adb90eb9fe9ad48dbb69324a9aa6ab3d93c12036f5437aabbc155902a0644a43f538fcc126352d849fbbfcbb2649e6d8e61040008c4e974221b57cb6f6818c683e61c87d4758daebd80155555d1e79ae3385c15554992b4d96c5aae810656de7081f3cc2729bc69059ea6e9f178bceca0462f91200898475ac094f638b44706822e5dce55f7e51b66be0fa3cc1b80be61ebe32392bb25bcc3304cd3f47c3edf31e778e67038c0090898d0cac1b46d9b1f1bd5719c61f494d092ed9fc9af515555499ecff178dc6c3641105896e5795e10049bcd86cc7bc0e06e700b41c3dde8af06fad09ccc5537edb42e8a429665b65635843700621d3744c6b7c43cd92864596ecc39cff3c4eabd722b0608c0d346a9a2289c187b8ee31c8fc724495ae6414f6f4fe814927f5f67b1aaaaaaaa2a22dbe01584775114ccb37681706b80f9c9cafc71a00f697242b31d467a381caaaa826b150071c5bc2449ad475855d5288aa2284a92248a2221ba39ec76bbb22cd14808747c2ee82962beef8f9b49a1699aebbab66ddf5ad8b41da2eb3afde69f46922471f3cc67af10f106e069cab2447f2620e8d265db11b00fd53dfbdffe6ae459c350310040cb5ebff56baeeb1645916599e338fc7f28ec4580ed12b26d7b94456559d66ab53a1e8f4551f8beffa03b8995075cf4002a84370037416e189880d9caadea9e5d6b6ccedc938dd24a008483f61bfeb82798a69924c9f178bc33d106c21b4c4c78933cf3c166ee10b14d6688a669fab8de66befe4517deff621d0300931d4cf878e65675cf2ee2db7d343687b10b8058b4fc860fdaf7aaaa928936240b9dc321a0d88b00c347c334cdbec7d4298a62dbb66ddb5c952e8a5e47898837003755376fa3110118d8c2d3346df8bc0fb6fdd54ea753af23cd01000c5155b5d590e9575930b22c87615855551cc78aa270f5d1b017818ed035d2a669f6b79c0cc3c8b2ac2ccb288ab812ba866188deb405c21b809bc21bba0b8808c3de04699af67dc8d1c63159b7c83607e0958577ebfc7a7c43288a228a22d2ea69b15870e83a87f0064fd372485d3e290c25779ee7ccf53693c53f810ed910de005cdfe0d6eb35ae031011568771100403f4e0a5ff04399899ff51086f00fa8349a7625a66d306baa6693ffafec85c585555dfdfdf3f3f3fb7db2db7d96a7de70683097375c61e432449da6c366c2537fd524c9eca09cceb81f00600963a80f06ea3284a188603bc5bfa1c258605737b62b7db61b23d00fca3288a2ccbb4f0bebf1b9465e9baeedbdbdb72b914a2340c1b1160852ccb0c7d5e96659565c9793c59f4416210de00407803acdeeb0ca3ba67d7268af51166c7130d00ff10371c2d276ed9d98de4162b376d02f13a3016ad96e60cd56c1cc7039495e1f181f006e0a10d0e00b15477f776be8aa2b8ae3bbcf09ecd664551f4e1d286f006a00fd8162dfbbeff6381775555224a6e82e87da10027b0724f1b865114457fc73d5ba93c81703784370057288a629849248aa2b06de04c7f04dcc79715de4cccdfc1de70eb60264bd7300cb67f65bbdd22c913009e85b76118baaeb78437bd3f5455456ab905edc0328d4459c009dde343711ce7793e40271700e10d40bfdbd923073019d55014c5f178741c87edeb4363bc2655557517de92240d16ee26d0ee27f2f4f5610a208d05009e45699224ade7b471c035927bb95c7238a0fb4126d090194c86fd7e3fc041cfd6d3348da10010de000c6da04b9244f78d5455354992388e71e5414798e499bbae3b703e241dd4224f5f1fa55c48030180e7bd8b4cf0be9c54ecbaaee892bbd95a71a3010fb2d3f3bc61922fd8da12d3281983f0066068e19d24c9e596e7ba6e10041c6ed0402ce3b5fb8b0c99677e29bc4fa7535114887803f022c725196244360112f4a65f9cd4728b2eb967b3996118e8ac0658d9751dd7d290c9170c0bc7eaba9e80f6fe174b19009abe0bbc2dcb22656c55553521385555755d0fc330cf7326f3218418ac02989fcadbedb6e38b388e337cc557cb0848d3b48f9eea887803c01b9aa6d19ee8288ae87f653b217c449a447a005e0d5dd7193ec84992885eb201e10dc0ac65f4f7fafab22c2749b25c2e5bc607f165c2230e9ea665b33ec758c9909665355e832449c230d4348d4c1763455dd73db54c07003ca1457ddfa75d6c799e4fd5651c45115a5801aec4b0a07f6bbbdd966529f4d384547300fe87bef351d7ebf5a5403a1c0e755dd775bddd6e59f539477cefd5e8ee331a311992f661936cf33edec960c3c90178119e2b6bf23caf2c4bfa794c9264f8229761701c07d5dd802b866ce3c2fc2867126380f006801706c86dbb9fcaceaa3c1b8dcd5f8a2449ba078b46347c5bc9635114f521bcb7db2d2c60004614de8ee31c8fc7288a88e95f1485effbb22c2f160bb6192efca86e24990326d0a163815a96a8aaaa280a5b6b07c21b808930f05ea6699a61188661d0bb12ab0a7308ef5713de1d5f415194114ba76459a687eaa569da532edc7abd364d138dd600181e4551489772d3344dd3fcf3e7cffbfbfbd7d7d7047aa75dc5f33ca86ec0f09414f49db3352d446fb106e10dc0d0c25b92a4fd7efffdfd5d14459ee7799e9765b9d96c244962f857906afe3a1445d13d5363f43c4f3a164d4e565665172d76bbdd7c3ed7753d4912f8a700188cd3e9b4a398b68b21cb32d1736201e05078cf04cf3687f0066050e14d86785f46f36cdb866b1c8c75084992347a0eb6699ab4d2ee29dbbce170382c168bbf7fff9aa619451126f001009848eed56a5596255aa502d01cee6c034bbbdd4edc231bc21b80ff7998fbfe137772686ddb6638f01042e245a8aa6abd5e777c11dbb6794863a3a3ee83f537deed769f9f9f6f6f6fbaae475184541100c013188611c771599653ed120740171b83ed0b8adb2a15c21b80ff638070f76ab5baef0567b8374178bf084c72ae3839c36cdba6fde20357621f0e87cfcfcff7f777a2c0f10401f023d3ce187f0445518220381e8f799ea3772300c308ef344d05ad1483f00660202bdf719c1f1de1484e03bfa2aaaaeec2dbb22c4ea662cab24c1fcf87c3a1a732ef4714781303471d3800577965e794a2289ee7edf77b32170d63ba01b82fbcd9f63617b7c51a84370043086f4dd31e1148baaeb3aa844120e21548d3b47b4360ae12235bb1f771270c1105fef7ef5fdbb6d1081d00086f4dd356abd5f1782ccb328aa29e862f007009eddc11d1c0639e0f22688b35086f007adfc824494ad3f4c11a5a04bdc1d332f5090cc3e06ac9a9aa4acf15e384ed763b9fcf5555450744001a5ea721826559711c9fcf6732781cf16d30aef01611dff7d9b6583b1c0e226e4110de00cc663d87bb7f9587c65005a14875da2449d2bd0319871d4ab8ad933c9d4e8bc502f21b80173962144589e3f8783ca669eabaaeb8839401181d599699a7d78918f486f006a05fe1ad69daaff69a560b8a2e35ae8216c080c78577c757e02ddc4d304db3d5de9fad9b1cf21b00264c35e22d495253bfedba2ee2db0030c1f77db695deebf55ab8262c10de00f42bbc7feb90535595de98ba949041184c7bc5762f8ee0d65bdcf25571584809f90d5e9cb22ca7d749c4b2accd66439a56a27e1b70452be14244b7972ccbcc0342c21dc110de00cc66bd15783b8ef3444491fe5ff23c7fbae4f5703820db7caa744f11f73c8f5bcbb2d50175b7db0541c0e1fb84fc062f8ba09d8d6ee96d52c29da629f3b9470030a1755e3f1de9651b737ee253b03dcd85db8820bc01e82bdc2d49d2733b027df09f4ea72e7600b2cda7ba623bba8a1445e1b0bafbce699aa66996655ce59cb7e4b7aeebe87c0e5e84b22c27e06ca2f5364ab8c18b307ae94418860c07859e4e27b182ff10de00f4a54ec3307cee20b76d9b1618799eb74a5e47f72980d1cfadee6b9e732bd3b66d7ad91f0e872449cab2b42c8bcf377c381ce6f3b9699a78e8c0e4715db7fb20c3515014c5719ccd66f3fdfd0dbd0dc028b075db0916f4fe06e0e5e923f1c6308c2e6f894e2f571425cbb2a7dfc9f97cc62d9e12c7e3b1e3e25cad56427cd2fd7edf7a360dc3389fcf9bcd86cfd07783e338c7e3116b154c72ffe1d6f975ff445ead56fbfd1e7710880b7df03dfd1876b44e59e1791eaba75b9224816e2222dee0d5298aa2fb4c26e61eb856b6b92ccb4f7b07906d3e313a86bb2dcb623ed2a327745d6f7dd8dd6ea7eb7afc2aab1500001b0149444154555565590641c0adfc5eafd7976f1e00a1a9aa2a0cc3b7b7b7ed76cbffbb9524c9308c2008b22cfbfefecef3dcf77df44b0342432fe0a76bbc3949f108c390d5095ed7b540952f10dee0d5e94397ae56ab8e077c2bdb3c4992a78d7808ef2991e7f97abdee628c8a5599e9baee6ab5a27fd2145457559524c9d3ad07fba6aeebe572a9aa2a32cfc134761e5dd797cb25cf32dbb22ca2b48fc7635555799e8761c8e1c444003851ef2322cb32c31471810c9b3fdfdfdf5885e09509c3308a2286e56a966531d1baaeeb36124b5194a22854557dee7d9ecf6794b14d03d334bbb455db6c3622f6ec4dd3f4e3e3e396c1adeb3ae7638d3ccf9b520b68f06a2449b2582c7850d74433102dadaaaaaaaab22c238e0d5e04da2c7c9a2008f8c9c652559555cee9f1781cbd6fdc23fc8b750c5e9c3ccf19aa6e45515839de6cdb6e76d8d3e994e7b9ebba5f5f5fcfe916d77571af45a7e3e05ccbb2049d9463dbf67ebf374df3f251adeb9aff61c25f5f5f799ee7790eff1780eafef10c25d6b37a01ee057871983c055c1d434992cce773562f2544791722dee0a509c3906deedc7ebf67e87d9765b9511a86612449f2f6f6f69ce242c2f904e812ee9624a92c4bd1851ff3fc9421912489e4eb62250351c8f39c95597c89e338b66debba0e510dc0234451f4f9f9d9f145b22ce3aafea2631e5f83a2286559f27f1351e30d5e94aaaa9857ac752fed6e4137c1daed764fcf52da6eb74ff7e100fc58c05d0ea7244926106e0dc3b0aaaacd66635916e78dcd2fa9ebda344d212c0300c829d95f8e8ce3384992d8b60dd50dc0834cd26fcb2a4b549481de10dee045ed09d3340f87035b338279b3e8567e7814454fff09b15a6a81ab9af3e9ff57dc24f3abd8b69da66955555996799ea7699a40dadbb66d78c100ff1445a1eb7a7fd92553da9100188649162ba9aaca6ab49810bd54906a0e5ed19e705d97adea360ca3a7dec5ad5e1ac7e3d134cd277a5188928403aed225e1539224d2996fc2d7a72ccb344d932461fb5cf7044a3f00e790b620bdd674b02dcb02e045f8f3e74fc757e0b0db6e55554f370f6e593bfcfbb511f1062fa7ba99c7ba354debcf8c6ec539c3307c2ee84ddab36101084a9770771886934fe65455d5f7fda2288ec7e36ab5e23c06bedd6ed1e41c704b92241f1f1f7d775280ea066014380c9bcbb2cca42f5a5dd7fc3bb511f1062fa7bad9da1303f4acb26d7bbbdd36dfde6aeffc23a4a60ecb40385ae16e49921ebffbfde562704e5555699ae6799ea62987cdd8a6d1eb0e4c0fdff79f9b9df12b908105c073746f45c6adeed375bd7b548c7f4317116f00d5ddc97a1e6044502bc49da6e973d571ebf51ac5a522d2f204ff6abdbdacab459665d7759324a9aa6abfdf07416018063f6fafae6b4cf803bcf1f4c4cadf82866a00e0d969c124118cff4803843780eaeef4840f902f679a26ad19a2287ada6447c45b38d234a5dddb8aa23c5ee11f04010cdcd96ca6eb7a1886799e9fcfe7388e1dc7e1a123fa76bb45f507e04a75d3fd44201e0080f01e12d3341dc7e9f822fcf73687f006afa8ba354deb5e051ac7f160556a74d0bbaeeba2289e7bffa82c150efad64b92f4f8a1ab280af336fba24387c1c94cb271df0f93aa3600982cc5c154378437004f33ede608611876778b23d51c80314992e4fdfdbda5ba6ddbee58491204c19099a2b66d2b8a427fa8e7fefae974fa7fedddef55abcadbc6f1b8d6790fbf0ac00ac8a900ac2058015841b002d815042bc85881a402b102b1024905920a7c5eb09e2c0e6e15863f19e0fb79b5b7c7e46c312173cd3d730fed9427248ee36a7ddb75dde69bbbe238660bf1cfefa924493e3e3ec230acbeb9c6f4f2f242d11b1797a6e99f3f7f080f80fae63d6955f649edf8248a8f7209de9879eabebbbbab7ec5b2ac288a3a0e326cdb1ebf5455bd19bdbdbd490f5c586d3e154551545f66adcec9b06d9b63729b289ba9e679fefcfc7c914de014bd71f1fbccf8ed06981304e4cc7ed22a08828e53e1c7e351e5de8d046f2c2b7597c79376795a4dd32e329d56fb67274922b750f67038d04e7612e238aeaed4f07dbfdadcfed7173f17b015c771d2347d7f7f1f790738456f5c561445cddb46f4f876e3ca0372143f2fb3a35e8e1653b9e84df0c63c2549f23575a769eafb7ec7166b49925c64b65ed7f56ad2ee3283402a535f5114d50df98661342f776fb75bb650ca314d530891e7f998ebcf5dd78de3384d5366c430b2344dc769630ea02fb32f7afbbedff1f357e5512ec11b3394e7796d974899bae338ee78fee176bbbde0547d75f17059a3902bcd11bcd5170441addcddb0f591a669ac5eeee8bcfe7cbfdf8f505b389d4ef7f7f7373737d7d7d7575757ebf5da75ddb20d3bbf0b0ce7228bcc0174b48489f58ec3d4b7b737654fcfbd52f62075409ae338d5805da6ee2ccb6e6e6eba3cad6559173fa540d7f5731ef33caf288ae6cb8fab5e5f5f696fa3ac344dabaf55cbb2745d6f3867b4dfef194cf7feeb10428cd9f3b9cab6ed328ab33a17fd0a82e022e56edbb6995402a42549727b7b2bfdf0a9e4beda48be2d65c74254bc31374288afa97bf5df72b1844b6dedaea9fe148f8f8fd263717a9b2b3e20aefdd21b7efc188641ea1ee2e35f08f1fefebedd6ec73f00fce5e5e5e1e1e1e6e6e6eaeaaaecc4ce6f04dd6559c62273608a16d29bb0e3da3d6567f708de9895a2286aa14508511ededb716b7714452a2cefa9fd74d26b6918bef7fe0951d6247ddf8fa24808217dd38fa2a87ad69d6ddbcdd75cb1c87c38a669c6715c14c57ebfbf48fff3d56a75381c6e6f6fd7ebf5c597de60eaba9fd903e02216b2fac9719c2e1fb5ca066f969a63565cd7ad2ebd0ec3308aa2388eefefefbb3ced66b35127a99aa6796e426bdb769ee7723d693f3e3e38d3a5bb24498220288ae2af333b8661acd7ebf57aed388e699abfceddd416996b9a669a66c333e70dc3a03bd768b22c8be33849928e337a72344d4bd394dd2290f3f5c88f31b1d41ce81adeaeaea41f3ba1dcd7f14ef5fefeaee07e788237e6a3165aca1c926599e3385d06c79aa6e579ae4e46ad9d436edbb6dc3698a7a7278e7aeea8ec3d5e3bf7ebd7785c7e12acd7ebaf2faa564f55534e33f14b19ff05208418ff4026c330b22c63ee0c122f5ad3342f3261c49d0ae84597fdcfd3ca7dd552535b8a6ef3fe04e6a276fcc0f3f3f3e7e767f7a6c4afafaf4afd98efefefd57f9edc69deabd5caf33c5e331dedf77b756ee61f1f1ffc462ef84a18edf831dec2e862bbdd5ef64e158621bf05a08b2e6bb0a7f593ee76bb997d44b2c71b33512b3a95e77ed5b6cbca4d98a9b69ed334cdea105f7a9b37db44fba569daf8d1ab3aff42f1f3827cdf2f8f1f1bb3fbdae3e3239b0bd0f6b67ff19e6a4b380c0918d4720eb9e852b25673944bf0c64cc4717cfeb36118e531bcd52fcaa56e357b4457e702a4e356c729099417df308c326b9d4ea7f1d71b9fb16b409df81d86e168ff4796eca215157aaa11bc01341f65492f5c5573944bf0c61c6459567d830541d0bd93b9cae7215783779665172cb42e9ce338dfb5551b93a6699c22a6ce28218aa2d7d7d7ee9b5c9aa0e88de66a676daaf0f905406eecb19c1fb6cbf046c13e8e046fcc41adb2edfb7e92245d46182aa7eedac0e5783c5240b86ccabaf83f8372b782efd02ccbba6c4e6b95a6b8e0f85551142adcac0cc360530c80e6bacc322838314df0c61cc613d5b3be3ccfd375bdcb823ac553f7ea4bc5806dde17140481e77997fd3750ee56f6b5f1fafa3af4ae6f82379a88e3f8827b61befbf002c0fb68b81f96e00df4af7694aeeffb5d4ef709c350fd18532b714b076fe907a2967c2e98bd0dc358d4aab3c98d18d2341d347b1f8f474e45c6afa3cf8e1d4f080c803a96b66c44ba8bbb82e525823726afd656ad6c662ef7549ee74da55951f536447e56217b5fea901ecaddea67efa18bd214bdf1b3288a066d45d17c6a897d3100da92de50a9e0f098e08d69cbf3bcd6562d4d53b972b7e779131dbfb2c75b05711c8fd9ce9ae03d21aeeb0e3a2f53dd6b03d4a469faf8f838dcf37b9ed770cd85611854bc815e8cd3bf73eaa35c969a03fda79dda0057ae646ddbf6b4527775f8227d64022b54fb1545d1c8d9dbf33ca65da672a71a6e9c743a9de8d7801fee4b83de8284100de334e56ea02f34296c4285c616046fcc4a352d6f369bd56a25d1cc5cd3b4c9958caaf7dca1bb37a1d51877bfdf8ff6bfa3dc3dad9bd5706f558adef8ee8531dc1162d565624d4eb554e11471009333a759068237a63da4a8b555939bda4fd37472efea6a9df3e2e748a31686c7c9deb66dd3566d42d6ebf5700dae58bd8291b36e6d73d6af456f96e700030d0297f0e929fd58d5968311bc31ede07dfeb3a6698ee348947d76bbdd14779df572cfa52bdb70d97b845e6b53690488ea0b63a006f8c35535315d5d0ef86895ba570dcedae57e0510bcc7a7da4097e08d9904eff214b1b6b5dfcd6633d1c56fbd94e8d9173a9c388e073d638c53c4a6fbc21868b3b7825d6470d9e1e6409f6e7f6d44faf3feed300cc9090040f0c654e5795e8dd9aeebb65dc66918c6748fe1a137acfa063ddf9bf2d144e9ba9e24c9109bbd09dea88ae378885d48df1dff619ae677b73bdbb6b95f0100c11b1356abd61645d16a4d5dd9506dd20d1be8a9b6d8ecad691a6dd5a6cb34cd217aa1b1cd1bd50fc4211a0aec76bb1f66abe338fefaa9b4dd6ee9fc0700046fcc27784bd4aee3389e7ad1b8fbbf9f3dde13cdde34079e3ac77176bb1dd701030982a0f772f77ebffff9cea3eb7a9665e5f122abd56ab3d93c3f3fc771ccb947c0a063604ce842fdc3af0413552defe8ba7e381c9a3f76bbdd52305c7538001c6db3f76ab57a7c7c3c7f45d334d334a5af3fafde7944a32ccbaaaf8a1e6f8958b23ccf7b7c5d9d537793dbce40ab3900d4503899e885a2e28da9aa4e62b50a30b66d0f77a8cf987ae955c3a4e9386a2db54ea7539ee7729dcf399567368410e7f220d097de37548761c8641fa0144eb29828823726a9d659ad39c33066331f4ff09e105dd7d334ad656f214418866df7ea33029e59f61ea8c93996294dd37ecbdd6118d21a0d500aeb4a08dec0a8a4e3a2106296fbcda41bad11bc47ceded5dfd4e974faf3e78feffbb66d377c12dbb639456c7eaf0ab237fad26f48f63c8fd40dcc26784fb429ef9c863d046f2c28786f369b39bd7bab3fcbe97492bb9f12bc2f9bbd57abd5c3c3439ee7b66d7f8ddf8661d4be425bb559be2a84101c5280eed234ed7101ea772787019868f0e624da8ba3b91aa63abc9078d43cb676ff90c35b75982bb14d6864ebf53a4d53d775aba7df1d8fc7f2af65e553ff7fb5d7b96ddbaeeb720de7faaaf8f7df7fb914e8a2c7eaf466b32175030a1242f47e660108dec04ff23c6ffb90300c67d692aab6665e7a097d96654c828e9cb2b22c735df7ebacc70f6d02354d9bf7cc11af8afd7e7f7777c7a5809c1ecbdd966591ba013555e7d7caa552e4f00961a939a6a7288a6ab5b0094dd3e6b746b79696a557d1b3da7c7c65357bb7db355f603c8393e7f133dff7e51add03abfecadd9665a569cae1db80828410d501b0699aa4ee9f4914ea08de40d7a018c7f1128611722d9a08de971204419ee761187eddcb5da569dad3d313cdcc17929d7e7e31fc8043e696acaf7237a91b505651145fcbddad2cf0ad4df0067a1861b4fa7edbb6e71a5aaaedb8d23495fb3109de17a4eb7a1445799ebfbfbfeff77bcff36cdb2e2750ca766bbbdd2ecf73b6762feaf550fdca76bb6d38baa2ddfd9287e3bd7cc6699a962409a91b50531445b572f70fdbd3fe8a7573046f60f0e03de3d350aaf7d02ccbe4c65ef4575381699abeef0b21d234cdb2ecf3f3334dd3344d8320601cbc28beef578bde499234dcdbcf888ae178c7d49da629eb26003509211e1e1eaa5f51ad960b8237e6a95585d6f3bc191782aa43edb7b7375dd73dcf1bfa9202183a479dff7c3c1e8ba208c3f0e787589645f05ea6344d6bc371e9d4cd4b085076dcfbb5f5a6c4eeeea228267a05e4b65212bc811eee3ecdef359aa6cdb8dcbdfab2b8344d53b99f97e00da8a356f48ea22808829fe7d438e07d99fa5a644eef4640594288be0e9b9cee606f364bff08de985ef06efecdebf57ade0be74cd3aceeff2c170a4a14bd09de8052aa41fa743a95db10be7b6b6b9a461780c5be4eba2f32f73c8fde8d809ae238eef198c9e956bc6783e08d89e170d1af930bb5fc1c4551db5e97046f40b540555d5977381c84104288dd6ef7f59ba328a211c002f9befff8f8d8f1492ccb6ad84400c0988aa2705df7fefebec7e76cdb8c0d046f2c5a9ee7ad3a812da1cd6ff5672cf3b3699a6dd79dd25f0d504d2d0edddddde9ba9e2449eddb6cdb669d39a95b8ea6694208666d000553b7e33887c3814b41f00654198962f5df8a77d98769b55a054140d11b9834c771b6db6df52ba7d3a93647560627ae15a95bfa2395addd806ab22c5bafd70355a719ec11bc81a6da0e3197b09be56b7fb5d56aa5eb7adb490aeec5806ae238de6c36dffd574dd3b22ce3fc2752b71cb676036aa66ec771baf76e58f2c098e00df4204992b667272c214ceaba5e3bf5f73c38ab7e9d6b054cf4beb7dbed6a27a91886615916a72e2f4dd9c3bc97d4cdd66e40cd1bbee33812e78481e00df48c64f81dd775cf0bcb1f1f1ff33c2fffdc6a8140592a07a09a2008d2347d7e7e7e7a7a0ac3f0e9e9294992722d22176739d234751ca797d4ad695a92246ced06942284b8bdbd1d3a75f3c6bfac7fb80498d0b0838bf05df07e787838ff358aa232723b8e631846c3054bf4ba0494a5eb7ab9a98463c316a8288a20087a89dce7f13d6b2500d552778fc786fd60a233b6d2f305aa4d3450f1c664d079fb3b8ee3d8b67dfe6bb5e81d4551f3e7616a0300d491e7791445a669f698bab7db2dd33780528220182775ffd0344471d2f305aa4d3410bc3199f1c7688f9aa25ac03effb5ba0afd572ce60700153eefca7ee3d7d7d77ffefce971e9295bbb01a594c78655172d0e8a493782373060261cae2da46abe2b7aebbadefc3e4bc51b002e4b08717d7d7d7f7fdffbf69f726b375718506764eb38ce68cb392dcb9aee410654bc81511545d1f660eaa5a915bdcfb7d7e6c19b8a37005c90effb4110f4feb4e5a767b96a9d8b0c2832acf57d7fb4f63a9ee74dbab8227def52eda647f0c634e4792eb7dc6e3927163a8e53ddbdf3f2f2522e29745db7e1b962c7e391031e01e022d2347d7c7c1ca8a7f16eb71b22d203901304c138a9db308cfd7e2f8498743ff3f57addea88dcf3cf4ec51b904c95720f5c5415378ee3eaba80fbfbfb728293a2370028ae552fccb6437c5237a08e2ccb7aec98f85796656db7dbd7d7d73ccfa7bbc2bc4a6283ba823f38c11bd3c0c1834d98a6591b5db9ae5b1405dbbc0140f181f8105b3d2dcb7a7d7d1d2ed20390507b4b567bf474611886e779fbfdfee3e323cbb2b247e36c2e5adbd943cbb214bcf511bc310d73ba770c7d37af2e383f9d4eaeeb3a8ed370873cc11b00c63744dbb37257279f9e806a0e87c3f9cf611876d987ac69da66b3d9eff7efefef799e0b217cdf9f65b1ca34cdfd7edffcb2a8d94b92e08dc9909b115c609214425477c2bcbcbc0441d070ad3e4bcd01607cbd7f54ed76bba9efea0496f0662f5377dbfec19665ed76bbd7d7d7a2289224f17d7f09ad137ddf6f92bd379b4d9ee76a5e108237268369fb86745dafcdf33d3c3c341c7e9d4ea7e51c7e0e00b3e4791e9bba01650769d5eac8dddd5df3ae8a96659d57920741b0c081b1effbefefefdbedd6b2acd57f272ccedbda93245176cef11fde002078cff25aedf7fbbbbbbbf3579a2fb9c9b28c23670060e4b178bf63532e29a0ec08cd34cde3f1d8ea51e56c1a23e1d56a659a66796acf1451f106c17b9e7cdff73ceffcd7e647d4b0cd1b0046267d72078019bfdf0dc308c3f0e3e34308c1307806ae3e3f3fb90a98ccebf5eaaaed436cdb5e6c922c8ae27ffffb5fdb475996c54e6f0018539ee7d7d7d77d3ddb76bb9d6e4508580221449224699ad6ea229aa69525f1f57aed380e619be00d5c8ce3386d0f5c5972f05ead56beef4b9c15f9f1f1414b1e0050ff76fd579aa61545c1250500a5b0d41c53c2dee3b6e4faebb0da1c004616c771d92ea8bbd3e92484e0920200c11b90c4921b892b263192237803c0c8745def717d7814455c520020780304eff14814bd9bb7400700f4c5711cdbb67b79aae3f148d11b0008de80fca0848bd096effbd5730e1b8ed838cd1b002671c7fe0e53a80040f006e4f5b5056e6923b9b60f61b539005ce476ddd714f3e170e07a0200c11b90c46a730912abcd09de0070114288bea698b9930300c11b20788fc734cdcd66c3700d00d4a7eb7a9aa6bd646f0e150300823740f01e55dbd5e6c7e331cb32ae1b005c247b0b21ba6ff6e6360e00046f4052dbcd6f1cfd2d77dd5614bd01e072d6eb759aa61db337156f00207803f25a2dc0237897745d6f7b4a0dc11b002e9bbd3b7626a7e20d00046fa0d358848b20a16dd1fb7038502d0180cbdeb7f7fb3dd7010008de00c17b325cd76dfb108e810580cbf27d5f3a7be779ce05040082373078f0d634adaf0351e771ddda6e1764b53900a890bdc3309478e0f178e4ea0100c11b90e4388e61184dbef3743a511eaf6a5bf4a6e20d002a88a2c8f33c89070a21b87a0040f006e4b377936fdb6c36baae73b9da5eb7b3d3e944f6060045b2b7c4a3eeeeee1cc761cd390010bc8101c71f12bb9a09de559aa6d15f0d0054609aa6dc82f3979797ebeb6bdff789df0040f0065a8f3f7e5d74671886effb5cabda756bf5fda7d389811a0028228aa2863badbe7a7c7c247e0300c11b90197f74fc060000a6a5e34aae327ebbae4bef4c002078038d98a669dbf65fff936118966551ee0600cc8ceffb725dd6aa0e87c3cdcd8d699a74f100008237f0bb2008fefaf5a22898cb0700cccf7abdeeeb98cce3f1787b7beb380ebd3c0080e00dfcc4755dcff39e9e9ece5fb12c4bd3b4344d69660e0098a55e8ade672f2f2f7d25790000c11bb32584386f78330c238aa22ccb38bbbb474c610080829f7dfbfdbeaf677b7b7be3b86f00207803bffbfcfcfcfcfcccf3dc75ddb68dbb97260c434dd39a7f3fb31800a020dff79f9f9fa59b9cd7b0d91b0008de00fa94e7f9e974e23a00c0d4398e936559dbe9d4bf62ce1a0008de00fad4f69435969a0380b2745d8fa228cff38ef1bbe3296500805f5d7d7e7e72158045711ce7e5e5a5e137738b008049288a4208912449f33b7cc9f33cf6780300c11b40cfd234bdb9b969f29d8661e479ce1503806925f02ccbd2342dffb05aadbe8be2655352dff7b9680040f006d03fd7750f87c3afdfb6d96ce8b80300335046f12ccbcae954dff7d7eb35ed330180e00d60d81198e338bf7659dbeff7544200000000823700194288bbbbbb1fbe41d3b4a228b850000000404774350716caf7fded76fbf337709500000080eea878038bf6d7cdde9aa6f9be1f040127bb02000000dd51f106164d0861dbb6655965de360c63b55a9d4e27c77148dd000000402fa8780358f9be5ff6b9751ca7288ab2db2d9705000000207803e8539665baae53e806000000faf57fe9c48889b79b65810000000049454e44ae426082, '0', '0', 2);
-INSERT INTO series (id, name, logo, hidden, locked, organization_id) VALUES(3, 'CIS 2019', 0x89504e470d0a1a0a0000000d49484452000000340000003c0802000000a6490ed1000007254944415478dacd9a7954547514c7fdafac4e09b8946996db71494573a1ce09131742057754c4d40acb95944acb8d4d44904dc4a152403637401444c7101150201586611b16d9f761c0196098f5d13d871ae7ccbbf3de9be191cdf9fd37bff77e9fb9bffbbbf77eef6f86f4fd8f3f43d87a91a8475cda56cd6b2a2f6a79de24695713ea570cd7206e0b797c7d7dd4a1f1deab869d58a43d4679585b729c0e24f92716a74b643dff29dcd3861287d8a3a6ae8b7598d0f1ae87f58e6b6e8f6bf8830ed7d6ddf16d9ca7c9092b26583ac336e260514be560c1dd2bcf99e8b3c6082ccd18e1bed42f235a4d102cc305655d61b88fb4e32897c3269ce7fd8b4c569d707af5eca02d1ffb6f1ce9be9462da1dc123d6e0c066142b99b92e76bc72ec66f14388269a47546a55716b159ce5cf394e3af3ad2fec23d8da56f0338addb48b382868aba1781c28924b33c196fdf34d4e2ccaace6b173205abb3af49d00200ec88c6568834ea9644de44ff0d4baa843ac9dd66fe23c50b2e16e4be20bd30c3ae90a9572eb95e3f98d65ecc0e5d4169ab8e2f12ce2699211a1dbd09c460507fe8492ed4df479c5891fec6f82914d39b35e2ceb7ec570fb6ffaa266bbf42c19d9afeeae9633de650b3f2d9e3eb1c2c64ac80956f74a070bae57291f77ca964c36cdcf5eae52e84c56b6b696ce9bc97be735ed21b098a3686e1a14b8bb65d9a8d9bcd2c2c8936bb63be890f58fca95cbfa98051ac3e05c9203513872bc55894405666fa27030ba7373d887b308d9412683a449f4e95aa23b375b1f190c61e83996e1a48a5e88b164b89df12711ef2c2da180135d0a6319ae5c5887ee29142658ee2404f367e1702643e5d5552cc33da92f41e1bc1f44a0afe8ca482f18fe1619aede7937fba715f4010a77303940df5b24a95c88702fc94cdf68707126e472f6e16a3a9a50b885a13ba94a23854292962ae49c134545c8eb6a072b4328d5aab15e2bb01ac9aa5c68fcaa759d2d614f6eed493c0dc5a679e096c9be6ba7f96d5818fa1dc8a5f3d9d7f9cd15e4508087928d31bfa2c673c20e2ced0742fa8af01f68051bb0fe9c72163c9e062ea1e801fa3c2c7099c7658e55dbd9b2ea928ba1f2c7e2dc8e8af63abd70b0b3f383b7e92b3303332fc3045ab2ac1ade47de76466833f34007a55a4955953caccaa3900ee034105932aaf29a2442a812644a85482a064573ab24e3645a58f8d3a4bc46c1e89336c609c798fcbbf4c5a6efc348235e3dc66b05f8feec20477d13def3fcd292e3b43ccc795ef036f2ef9f13e4a8d9962194c28970fdf37743e10ea50487e6c4a35fcd0a7488e3df97295fc63f617727273b6eba9fbd668eb64fd34b43983dd66b2573b8ec5abe65e84ed4cd4183a14b481532f7d40b666e4be69eddaad2f26646a21a1c6b4fa2cf08b7a5b464705cdaba3b4d315904ee48bd4a6675feedd22c237b258de2369ff4c8cf42bea6809beab7a1b0b992612dc8729749cacb9316e437be688d2bbc7ffc5ee8e6d823e0daa0e641784ff2590b210094696e5d110a778d9f3a8870ea9e9e92199321af174d1853b5795db3975bc7d5582849a4457cf84a33ad52d480c2cd0cd8dc2c691f2cb826b76368dd56623e555b6b81729ea4a78301a6d5ce4eacc1c9ca040523de46e1c4dc3b3a9329029099ebe2bd377dea5eb4b007471095765fa264d55becc9d35ff4764dffb7ad848e91eecb7ebc1d44bbcb8ce03aaf5f45c9f8a34df5956e054de5b48975b4a70dd8187e89f1702ab1b878ca87285c6b802fc583a045c89d43f2187f7a35e4627231c708aee1b00b4a26986f4e5b884396845406cbd322eebae1ad52ab0d8393f279b8661ef63a0411868709360eb60ff2bda15d6c4a38b5ba62d917a8d96a9db61b1a511bc542e75b675045ac6995eab416a9e04491e12859e10723152dcdc629092871fbfbafe80085c1084e296a2f1aff3ede64f82d64209a8a20f4566210a519c1d5efdf8d9295595a104ae500351f9c4d5bac6d3ae6e472edd62c0ed7f3570ecf6428da6180af58d1a4a1390964b871a76cb5dbf3081ca15296592e40cd56bf7f175b2dd5c0accb64b8b9c15fd16c2bb8144a062e088e48bd64496b5574de1d26706bb163b1fd9a1b151c1c43388c783f2b329c76c97e957a20c9bf5bde4b318d5b9e8d5e2244e7a550c1410043c920e0f5a9696e11924b3335cbcc08d804e243a15292ae2288c867b721ab92c9201777c97bf4c241d087d04f26832401a982a6a652ca41cceaac07e5f1de449f3f726f2414a645e5a51ce3723e39bb555f90e3e4c4ebcd1084422e58608e9a0dd22bed86fa67c40ce4067663cc2fe4fb9d97705062a06450924061424d0695198428a3c92067a03efa0f9cbcbe0e8a33140e8a395ab3c1ae8df2b036020bb42a648bfece885eb86a477bfc2ec1ce86e15d0208c72377cfa3572b78c3cad5ca3efa30bfb982a61296a4725132100d201d0c0aadbd4a796271faf709a766f86fd2f7370eeb8bfb40ff56b6d733d3106a352193214331a0a66e8754fcac41c02dcf01dc14c1a3ac6ade73510393de99e6f337c6d2386d99a234bc0000000049454e44ae426082, '0', '0', 1);
-INSERT INTO series (id, name, logo, hidden, locked, organization_id) VALUES(4, 'Jugendmeisterschaft 2019', 0x89504e470d0a1a0a0000000d49484452000005280000034308020000002110667c000000097048597300002e2300002e230178a53f760000000774494d4507de05080f1b27eed449ac000020004944415478daecdddd79dadcba3650f25deb1c52014a05c81520576052814505c6151857105c814505810a2c2ab0a820a2824815e43b602f6fb6ed38985f09c63878afc4af4df00424dd7ae67ce6973f7ffe340038b8344d2f2f2f977fee76bb2f5f6fb55a6118befc350cc356abb5fc7310044110183a00807af92278031c451cc7e3f1f8533ff2f8f818c7b1a10300a897ff6708000e2fcbb2cfa6ee46a35114459aa64551184000801a51f1063882288a66b3d9663ffbf4f4144591310400a80b156f8023188d46cd6673b39fcdf3dc00020008de007c240cc3c9642278030008de00ec4b14458f8f8fc6010040f006605fe238bebebe360e0000823700fb9224c9ea26de000008de00ecd86432d9b8d11a0000823700ff48dd61189665b9fe8fa4696adc00006ae43f8600e028b22c1b0c061befe60d0080e00dc0fb8aa2180c06e3f1d85000009c0353cd010e6a381c0641207503009c0f156f80c3c9b2ecfefede3800009c15156f80c30982e0e6e666cb07298ac2480200d4c8973f7ffe1805808349d3f4f2f272cb0771e80600a811156f000000d823156f80a379d9913bcbb2e504f23ccff33c5ffe61b158fced071dba0100046f0076a3288a288ae6f3b9e00d005053a69a03545aabd56ab55ac6010040f006e070b22c33080000823700fb8ad97614030010bc01d899b22c0d020080e00d00000008de000000207803f0316bbc0100046f007623cff3b75fd4d51c00a046fe630800aaa6288ac96492a6699ee7ef66ec24491a8d461004711c1b2e00808afbf2e7cf1fa300501d49924c2693e974faf1b7359bcdb22c3b9dce64320982c0b8010008de00fcdb6834babdbd5dfffb97f1fbf1f151e91b00a0b2acf106a88a344d9773c8d7b7dce27b3299bcbb141c00802ab0c61ba02a922499cfe71bfce0743a6db55a9f0ded00001c868a3740558461b8d90f369b4dcbbc0100046f00fe6132996cf68365596efcb3000008de00e762381c763a9dcd7e56c51b00a0b2743507a88a3ccfc3305cf64bfbacdfbf7fb75a2d63080050412ade005511044192245757579ffaa976bbfde3c70fa91b00a0b2743507a8905eaf1704415114799e2f168b7f7e7fb3d94c92248a224307005059a69a0354519ee793c964341a7d10bfefeeee0683815a370080e00dc0a6c7e82f5f3ef8bf4f4f4f6add0000d5678d3700000008de00bc91659941000010bc01d857ae2e8ac228010008de006c48ae060010bc0190cc010010bc01ea29cff38fbfc11a6f0000c11b803d066f0000046f00000010bc01a8a47f2ee136d51c0040f0066073ffccd565591a250000c11b000000046f00ea4903360000c11b800dcd6633c11b0040f006000000046f00000010bc0178b1e65661699a1a2b0000c11b804ffbe726de000008de00000080e00d50496bb62bd7d51c0040f00640f0060010bc01000000c11be07cacd95c4d0f360000c11b804dacb99dd87c3e37560000823700000008de000000c01e7cf9f3e78f5100a8dcd1f9cb9735bff3f9f9390c4323060050592ade00f5a6bf1a0080e00d00000082370095b1664bf325156f0000c11b80cff95496fe544a070040f006000000c11b807dcaf3dc20000008de00ec4b9224eb7f739aa6460c0040f006e013417a369b19070000c11b80bd188d469ffafed96ca6b1390080e00dc05af23c9f4ea79ffda9c96462e80000046f00fe6d381c6ef05382370040957df9f3e78f5100a882a228be7efdbad9cffefefdbbd56a194300800a52f106a88acfaeee5ef5a946e800001c928a374025144511044159969bfd78a7d3c9b2cc30020054908a3740252449b271ea6e341af3f93ccf73c30800207803f0be6de6992f69b10600207803f0be2449168bc5f60f622401002ac81a6f80e30bc3703e9f6fff38bf7efd0a82c0780200548a8a37c091a569ba93d4dd30db1c00a09254bc018e2c8aa2d96cb693876ab7db5aac0100548d8a37c0316559b6abd4dd6834168b854dc50000046f00fed7f6cdcc5fd1620d00a06a4c3507389a3ccfbf7dfbb6dbc734db1c00a06a54bc018e66e7e5ee86d9e600008237004b4551ec695ab8d9e600008237008dd1685496e53e1ed9a662000095628d37c071b45aad3d05ef46a3f1f4f4144591410600a802156f80234892647fa9bb61b639004095a878031c4110048bc5627f8fdf6c368ba230ce000055a0e20d706893c964afa9bbd168946569a5370080e00d70a6f6b18bd8bbf1de5003005481a9e6000795a6e9e5e5e501fe21b3cd01002a42c51be0a00e53ee6e986d0e002078039ca13ccfa7d3e9c1fe39c11b00a00a4c3507389c388ec7e3f121ffc5dfbf7fb75a2d230f0070442ade00075214c581537743d11b0040f006381f075bdd2d780300548aa9e60087501445100465591efe9f36db1c00e0b854bc010e214992a3a4ee86a2370080e00d700e8e32cf5cf0060010bc01ce4292248bc5e258fffa743acdf3dcab00002078039cac2396bb9714bd0100046f809395a6e97c3e3fee734892c40b0100702cba9a03ec571445b3d9ece84fe3d7af5f4110783900000e4fc51b608fb22cab42ea6e986d0e002078039ca4a3afee7e61b63900c0b1986a0eb02f799e7ffbf6ad3acfc76c730080a350f106d897ea94bb9714bd01008e42c51b602f8aa20882a02ccbea3ca576bb6d436f0080c353f106d88bd16854a9d4dd6834168b4596655e1a0000c11be0448277059f95d9e600008237c0294892a46ae5ee259b8a01001c9e35de00bb1704c162b1a8e6737b7e7e0ec3d06b040070302ade003b36994c2a9bba1b669b03001c9c8a37c08e4551349bcd2afbf4f43607003830156f805d4ad37427a9bbd3e9ece9192e160b2bbd0100046f80badad544ee56abb5bf272978030008de00b594e7f9783caefef314bc01000ee93f8680ba984c2645512cff1bc771a3d1e8f57a7bad0ac2670d87c35a3ccfb22c279349afd7f392010008ded068341a59964d2693fbfbfb97af1445319fcf0783419aa63646a2228aa2d861b97bdf3795046f00808331d59caa4bd3f4e2e2e2d5bad9f97cbefcc370381c8d4646892ad8ed5b71df7794cc36070010bce1ff84997777452ecb723a9d0ade5441511455782b369bcd35bf7339dbdc0b0700207873eeb22c4bd3f4e3ef09c3b0280a63c5714d2693b22c8ffe34cab25c3f7befaa013b00008237355614c53fc3cc743afd6738877dab4e5bb5f517874fa75337ad0000046fce5d1445cfcfcf1f7c43b3d9bcb9b90982c05871444992bcbb1a62639d4ee700c1bb61a5370080e00d8dffce86fddbecd9b22ca328d2d89ce3daf9eaee83ed93277803001c80edc4a841a469b55a799ebfbb5153a7d389a2c8287144699abeb4d9af823ccf3b9dce9a4f6939dbfc60391f00e03ca9785303c3e1308ee36eb7fb6ee6911938fafb731f0fbbf1eaebb22ccd36070010bce1d3a2281a0c06c681aac9f37c369bede391b32cdbf867056f0000c11b769643b60927b0bd3d95bbb75c40f1a9e03d9d4ef33cf752020008def0fecc5b9b2171447f6b3d50850f4bbbdd5efffb15bd0100046f683454bca99e9d3733dfe187e55335f3e5de01000008de001552144565f3ea62b1f8d4e6f6f3f9dc6c730000c11b1aefb6b04ad3d4c87014a3d1a82ccb3d3df8a762f3bb3edbeddf6c730000c11ba05af65aeede3e781745d16c362bf2eb00009cb9ff18026ae16f95ed3dede404ff8ca98bc5a2cacf70b9cc7b3a9daef9fdcbd9e6db077ea0ca07ae2449c2305cce8879f94310043efb00823740e5ec6917b1dd06efc160b07ef05e5e9457fff702365314459aa6b3d9ec831bd6cd66330cc3e59f5f1a3486611886a1640e207873163e58cb9da6e9969b1ec3a74c26938a97bb1b9fefaf2678c3c907ef7fb67228cbf22596afe6f31f3f7e0c06036308b00d6bbc013ee700bb88ede45ed267fbab2d160bfbf3c1a9caf37c9b7e904992d8fb0040f0e6f42f173ea8780f874369818359ced5accb53ed76bb9fbdb6f612c3496ab55a9f3d20bcb8bdbdedf7fb823780e0cd291b8d4683c1e083a8339bcd2e2e2e2693495114868b7dab51345df657fbd48fd8540c76ebcb972f6118f67abde17098a6e911cf536118a669fae3c78f8d1fc1fe9d005b9d11fefcf96314a8acc160f0f0f0b0ce77763a9de565c167a7d7c2faf23cfff6eddb01fea13f7ffe4451b46569bddd6e2749727979f9a99f7a7e7e7ee9ae046c63341adddedebefd602edb95455174b076e245512c5b9acfe7f38d1fe4eeee4e1b0800c19bd30c396118aebf26add96c6659a6f32afb13c7f1783cdef7bfd26eb7f33cdf3e782f03fc972f5f3ef5233737370758c40e27af288aaf5fbfae73e65a86f0bd360fdfc9b14bf006d886a9e654d77038fc54279856ab2530b0d7cbe803a4ee46a3b1c32bef344d979341d667b639ecc49ae7a36523f1fbfbfbefdfbf7ffbf6add56aedbc6b499aa66e490308def05751147daa138c9ecc54e132ba523658e6bd582c646fd8de7038bcbebefeec4f9565b98f05533bd928c11a6f00c19bd31404c1a78274a7d37159c09e14457126c1bba1e80d3b9224c906d93b8ee3dd66ef9da46e00b6f41f4340958377a3d168369b6b4e389fcfe75996e90bc53e4c26936db6c03d62f0dee07e81e00d3bccde8d46e353ab54f6b1616118864f4f4f59961545b16caebe4d973500046f4e2d78675916c7f13a5721d7d7d7cbe634c68d7d38644ba11d96a7e6f379abd56ab7db8bc562fd9f2acb723299f47a3daf3b1c257bef5cabd58aa2e8d5b125cff33ccfb32c7bf9efa70e140008de9c54f6fee73edecbd43d1c0e358f617fd7cdf5bd1e4dd3348aa2cf5ef40bde7062d9fbdd336c1004afd2f86a553c4dd3d5c2f83e4af100823754451886699a7ebc25d2f29a06f6a4d6ddf297cbbc3708de5e77d895a228c230fcd4c7b0288a7d74595be79cdbf8efbc9b344d2f2f2fbd7c003ba1b91aa720cf7383c09ebcaaf9d434787ff6a796b3cdbdfab0fd07308ee320086e6f6f3ffb83460f40f006c19b7371c8d5dd4bcb45134551eceaba3f088276bbfdd91f349104b69124491445171717e3f1b88ead191bf60f0310bc010e23cff3c32f6b5c06ef5d95d9978fb341dfc1e974baabf00f6765d973a4dfef9fdea268757800c11b602f17d027f05b2cfbab6df083669bc3066add8ef1636ec60108de9c3553cdd9d3fbaa6a5d8837b3d9326fc11b3613c7b1410040f046f086b5d4ba99f9ab0f481886cd66f3b33f68b6396c60b3fb5caff8e80108de00a7af288a637517db603df6c796cb3215bde1305aad56a7d3d9c9c7b66aacf106d8987dbcd999c160e094ccc9188d46c76a44bcf3cd7b971d9ec2309c4ea71b046ff366e153c2305c3d1b6659b62c5f1745f1f2f5d52fd668c342757800c19b63cab22ccff32ccb8ed5c1d5547376eec436d35a2ef3bebfbfffec0f4ea7d33ccf978dd681cd72f8cb9f7bbddedfbe6d381c6ef00915b301eac254737660381c7efffefd88fba608deec3c759f5853e28dfbab35cc36877365161b80e04db5b829ce8939e22e621bb4405bff02badbed6ef0b32756fc072957140710bc018e6c32991cb1dcbdf3ce6aab97cb9b15bde7f3b94925b06faf6e6157f38eb6fbec00823767cd3d7876e86476115bb55c0962b63938af012078c3868ed57d9ad393a6e911bb15ecfb3a7ee372bad9e600008237c06e9c70c2ccb26ce3ed85cd36873339000e068356abf5e5cb972f5fbebcbd0b399bcd96ff2b8ee3d168e4b0002078037c5a9ee7e3f1f8b8cf614f6bbc1bdb2df36e287ac3499b4c265114f5fbfd8787877526918dc7e3dbdbdb300c1d1900046fce8be5706cef88cdcc5fb45a2dc11b3870eade6c4fd0b22cfbfdfe60303086008237e742ab55b67f0b9d760bb12dfbab2d160bb7b7e0246ddf51d29c7300c11b60dd4bcf93efd297e779abd56ab7db9bfdb8a2371cccc1ba3c4e26932dffad87878793dc0c0240f006d8b1a2282a72e1b8bfa9e68dad679bdb540c4e4f1004cd66739b4768369b669b0308de9c0b9360d9c66432a948b97b7fcdd5b60fde669bc3499e3db73cfa956559850619008237a72f8ee3bbbbbb8de7afee8435de6ce34cae1ad334dd267837cc368793d3ebf5aeaeaeb679846eb71bc7b1910410bc3944f01e0e874110180aea284992c562710ebfe9b25e1d04c1c6b7c9cc36873d39567fb256abb58ccd1b4f380fc3709bdb790082377c3a7edfddddddddddedf661978f79dc723a271fbccfe4372dcb727971bff184f6c562217bc33e1cf1f65fafd7fbf9f3e706e1b9d96c3e3e3eeaac06b08e2f7ffefc310aecf85df5e5cb0e1f6df9168da2e8e3b6abdd6e77398d163e254dd3cbcbcbea3c9fdfbf7f2ffbabedf673f4e2e7cf9fbd5e6f341adddede6ef608d7d7d7269cc3014e9d4f4f4f87ac24e7793e1a8dd2349dcfe7fffce676bb1d45511cc76add006bfa8f2100ce59d55677efb5ab79a3d1c8b2acd7eb6d73adace20d2729088297da759aa65996bd7b7beee9e9290cc37d1fa900046f38b4344df33c3fd6e2374e5b9ee707db2cf7b36ffbbd3e721886cd6673b356c665594e26935eafe7fd03a7ea837b734adc008237c7cf30fb98805aa969c09c9833dc02e7653fb0288aa6d3e9660f2278030008de1ce76abe288afbfbfb633d816ad62da9b23ccfc7e3f1b9fdd6cbfe6a41108461b84df0f6fe0100589faee6ec26c0445174f4d2b4adbcf9940a7608eb76bb07f8579645ef6de68b2e679b7b0b010008de1c34786fb65874b7a22892bd5953511467bb05cef6c1bb714e7bb0c1713faa0008de502df3f9dcba53d6341a8daa70b7e8b857f3db14d8a7d3a9fb5cb0573e6200823754d46c368be3d838f04fe75cb05dedafb6cde3986d0e00207873a6c6e3b1eccd3f53f762b1a8e0130b82e000ffca62b15856d2046f0000c11b646ff6a2b2bb881d267837fe5bf40ec3709b0731db1cb69124c960300882e0cb972f5fbe7c79fb0df7f7f7cbffd5ebf586c3619ee7060d40f086ca65efb36d9dc5c7d234ad66b9fbc083d068345aad56a7d3d9e67114bd6103cb2dfdfafdfe9ab36fa6d3e9fdfdfdb76fdf46a391bb5d00823754cbededadc6cbbc55d972f72159e60dc79224c9b76fdf9679fbb32d1e87c3a1fd3b00046fa89c653dc138f0224dd3d96c661c7615bca7d3a9e9afb0bea2280683c1c63f5e96e57c3e5fce580140f0866a656f45395e54fc46cc9631787dbbeaafd650f4864f7ec65badd6368fd06c36078381cf1d80e0cdd9d9f2fefd01c471fc52dfe39ce5793e1e8f8dc3d2f243d16ab5daedf6368f635209ac7f089acfe75bf69828cb72b15838a90108de9c5dea8ea2683e9f57f9499665194591cb14acee5ef5325b75cba2f77c3e37db1cd6d16ab5eeeeeeb67f9c4ea763e70e00c11ba95bf6a6a26f57933357ed6a9977c36c7358dbfdfdfdf60f329fcf7de800046fa4ee4a676fcd60cfd66834fa6c03e1c33bd83edebb0dde669bc33a5aadd6cdcdcd967bf8edea630b80e08dd42d7bb3fb776c2df6753f64f07e59681a04c196cbbccd3687350d87c3ed3f2c37373761181a4c00c19bd317c771ed52f74b4290bdcfd06432a97eb9fbf05e96796f7f11afe80deb68b55a699a6e7cababd96c5e5f5fd7e236220082373b48ddd3e9b4becf5ff63e43daaabdcb6c7338bc300cf33cbfbebe5e06e9757e6419d4dbedf66432f1590310bc3997d47d021b32cde7f38a6f81c60e2549b2e5fe3d82f73fd9df083e7b5cfaf5eb579224d7d7d7dd6ef76f0bbfbbdd6eb7db8de3f8e9e929cf734bbb01eaeb3f8680734bdd4bcb5f44e9e04c2e706bf13cbbddeeb182771886cd6673cbd9f8499298010beb0b822008825eafd76834d234bdbcbc7cfb3d2feb4100a83b156fce3175bf646f5ba19ebc344d67b3997178d76aa7069b8a010008de48ddfbcadee69c9f36abbb3fb6c3fe6a669b030008de48ddef7b787830e1fc54e5795ed372f7c1e697ee709977c3da0d0000c19bcd0c87c3134edd4bfd7e5f6038d5776f8d9eed2137f116bc0100046faa224992fbfbfb73f84d65efd393e779bdee191d37783776d1ddad2c4b2bbd0100046f3e97bafbfdfef9fcbefd7edf0ad5137b031b847fda6d7fb586166b0000823752f7c7a22892bd4f435114b6b65ad3cb7a72c11b78e16c0820782375ef4b5996b2f769188d465bee4a7d8697d7db37366f986d0e3597e7f960300882e0f6f6f66f5708460940f046ea96bda9eba5e14e72ef36c1bbd56a753a9ded1f50f086da298a224992300cbf7dfbf6f0f0b0582cfef69dfd7edf369c00823752f76eb2771cc74551783fd4f76dfcc1556365b55aada3fcbb799ebffcd96c7338c3c81dc7711004fd7e7fb5e9c3071e1e1ee23836740082371b4ad354ea5e9acfe75114c9de3555af5dc48e6e75abf39d04efb22c4d4685ba1c2dbf7efd3a1e8f3fbb36673c1ecbde0082379bc8b2acd7eb1907d9bbee2693491dcbdd47fff8ef30783714bda10e9ffa300cb7d93154f60610bcd9e4041c459166546fb3b79b11b553df66e6c79a6adef8bfcbbcdbedf6f60f389d4eddb4826a2a8a62381c5e5c5cac39b15cf60610bc91baf76e369bb9aaa891344d57274ed7cbb19aab35feefbe418ade70c247c8388ebf7efdba4da15bf60610bc91baf7c255458d585a2c7803af1445311a8d8220b8bcbc1c8fc77b3a4b9ae402f0b1ff1802a95bea5ee7aa42a8abbe3ccff7714d790e76de5fadf1dfd9e6479c3f0f671eb6b32c4bd3f430f380c6e3f1f29ff39107f81b156fa95bea5ef7aaa2be8b87cf8466e65b1e10967f08826027cbbc1b8ade7070799e8f46a3300cbf7efd7a7979797f7f7fb0d5373a92027c4cc5fb7ccfcd52f767dddedeb65a2dd3ceaba9288a5ac7bc4ea773f4e0fdb2c83c0cc39d74864f92c4e70576f8217d37d6665996e779966559961df7b4beccdeeade008237ff1b517abd9ed4bd81e53ee7b244058d46a35abfa58f7e9dfa6a99f7743addfe3167b3599ee74110787fc2c69645ecc964d26ab5b6ef432e7b031c8ba9e6e798baa328aafec9bbcad9db62ef6a066f83b0c3e0bdab8735db1cb611c7f1b76fdf1e1e1e168b455d4edce69c0308de48ddbb31180c56530a47972489191c5b5a5d081a8661b3d9dcd54b636c6163356d18297b0308de52b7d4bd0365594651247b57c709b455abc2b4cc7d14bde7f3799ee7dea2706ee6f37918864e940082b7d48dec7d229224d94927b0e37a696c7644ab097987cfc76c73384f8bc5c2891240f096bad94df63695ae0ac1db20ecc49e96797b81e0cc4f94b23780e02d75237bd75b9aa607dba5f61c06731fc1db6c73f8a76534dd556f05d91b40f0e608068381d4bd3f5ac81c9766e63bbff47fd1ed76bd4c7000711cdfdede9ef02f287b0308de67713aaf694f54d99b7fcaf37c27db4d57c1ab35d547b9422dcb72b5346d5331d8b7e594b497d3f409efce207b0308de5237bbc9de711c1b87033b8166e62f5e75353fd67d9c3d2df35e2c16abf3d88146a391e7791445e7b3586699bd1d0a00c11ba99bad4ca753d9fbc0d7acdee17b0ddebb6db4deebf514bb60f5b31686e1b92d042bcbf2f2f252c34540f046ea662be3f158f63e18976efbb05a8c6ab55a9d4e678717dc511479d56079f8bab8b838e189e51febf7fb0e0580e08dd4cdb6d97b301818877d2b8a42bfae7d785594dee16cf365f6eef7fb5e38cedc6030e8f7fb673e08b23720782375b3ad878707d713fb9624c989158b761b71b7c9c67beaaff6e2f6f6d6c410ce535114711c3f3c3c180ad91b10bca97d1a91ba5d4f9c0355d3fdd9537fb555e3f1d846009c61ea5e6d608e7325207853e3d46df69aeb893379ab2f160be37080e0dd6ab5daedf63efe95d96c1645d16a751d4efb631504c1b9b55273ae0410bca56e0e743d61df947d38a55dc42ae8d59b767f73e0e7f37918865a9d730e27e8288aceb695da3ae74abd5100c11ba99badd842691fb1f0f4cadd7baa2a6fe655157aaf8bcfb53ae7e48d46a37ebf2f757fece1e141eb0740f046ea66db5c217befd04996bb8320a8ce93592c16ababaff7ddf56dd9ea5cf6e624c5717c7b7b6b1cd6613f4e40f046ea46f6ae8a2ccb66b3997138c038afde14384041bedfefbbe6e69414451186a1566ab23780e02d7573d0ec1dc7b11ecedbd3ccfc305e2df30ec3f030d7dcbd5ecfc7841390655914455aa9c9de0082f7899cd7a5ee1a99cfe7f64fda529ee7ca47073bbcacfef5607b8c4fa7531f13ea2e4d53a95bf60610bc4fe7b2f86097c2c8de1571c2cdccabf6713e56f05e7e4c8220b034839a4a92e4f2f2522bb5edb3b7f92f80e04d5552b7f37a7db3b771d840511493c9c4381cc6abfe6a6118369bcd83fdebcbb6085e6e6a278e6333d176c5fc1740f046ea66dbec6d12dd0646a391b7fd21bd5ae6ddebf50ef9af9765f9fdfb77adcea98ba2287abd9eb5303b3f5dcade80e08dd4cde62c60db2c781b84437a55701e0c06877f0e5a9d530b799e4751349d4e0d85ec0d20784bddc8de359624c969bff32bb58ff74bf07e35dbfc009b8abdfb49b1d4938a9f9ac330d44a4df60610bca56eaa9bbd5571d774c26dd52a1bbccbb2ac42d1bb61a927159624c9c5c58553b3ec0d20789f88a228a4ee93747b7b6b15eb3a97b68bc5c2381cdeabe07de065deaf2ebbb53aa76a86c3a1566ab23780e02d75530ffd7e5ff6fe67f0360847319d4e572f738320b8baba3ad693d1ea9c4a9d97e338bebfbf371407cede6ec0018237fb4ddd168fc9de672b4dd3d96c661c8ea53a45ef8656e754e9bcac81f9b10e025114c9de404d7df9f3e78f5190ba39ae66b399a669188686e2955eaf770ebd82df1e87a328aac21d874ea7f3ea1ab7d56a1d7d02cecdcd8dfe081c857e2bce98001b53f196ba393e77f1df95e7f9d9eed0539137c37c3ecff37cf52bc72d7a2f3d3c3cc4716cb5270736994ca46e674c00c15beac695c4a939f966e61fbf1faa133656ff7aacdee6af8cc7639d9638a4d168f4fdfb77a9db19136063a69a4bdd5448b3d9ccf3bcd56a198a3ccfbf7dfb7626bfecdbe3f0972f5f2af2dcdece360f82a0227de6dbedf6643231e3947d8be3d8a2ee6a9e31cd39076a44c5bb727abd9ed47db69677f1d5f11ae7d4ccbcd96c56f9e9cde7f357c1bb2245ef46a3b1582ca2284ad3d4e7853d298a220c43a9bbca674c9b1d0082379b88e3580fe73367b7d2e5c5eef974cfaa7eb9e6d54d902a2cf35ebdf2bebcbcd4ea9c7d58b652732bbce2d9db66076ed683e0cd26a9db6d7564ef65d2b396b23a5e15948ebba1f7bbfafd7e75eaf09c86344da5eeba38cf5d399324591ef77abd9efbf5500f7fa886ebeb6bef46565d5d5d9dedc7a1dd6e9fcf0b7d7373f3ead77f7a7aaada937c7e7e5e7d868f8f8f151cc9ebebebdfbf7f3b9bb0bd6abec3f9d8e3e3e3f9bc459f9f9f97cb945e162b753a9d57076aa06a54bc2b41ad9bb7a6d3691cc767f88b27495291de5d871104c1abaf549e8d826d0000200049444154b070f16ae67f1cc7155c9aaed539bb3a23f7fb7de3503be753f72e8aa2d7eb2de785bdcc0e5bce95d3f302aa4cf096baa9aef1787c86d9fbdc76117bbbc6bb827be4bc6d5f54a995de2fe6f37918863619629b3ce38c2c7b575cafd77bf7f6b49e1720782375b355f63eabc5ab699a9e55b9fbdde09de779d59e645996d5dcd0fbad65ab73d99bcfcaf33c8aa2e9746a2864ef2a1b0c061f77e1edf7fbe7395d0e046ffe71f494baf9a7878787f3b9817d6ee5ee66b3f976dbf60a06efc69ba2771886955d8a5f96e5c5c585b20febcbb22c0c43add44e267b9f6af24c92e4e1e1e19fdf66dd0d549465ee7ab7500be7d036e6f9f9f9dc5ed66eb7fb761caab9b377b3d97cd5baecc78f1f151fdebbbb3be71a9c8ecfd3f5f5f5a936545b93766ba0b91aff73cf52ef163e7b0bffe42b78e7b377f78b7737f1aee6566a6f679b577399f7aafbfb7b532ef9d87038743a3e4927d62465b5a1da9ab45b83aa11bca56eea94bd4ff80c9ae7f919aebc78dbd2bcca2f71f537f47ef7e23b0c43532e7937c9c4717c7f7f6f2864efeafb5b43b58f69b70682b7d42d75b3f9a9f754bb469ddbeaeea55a74567b319d4e5f25d8ea17bd1bff2dfb68b7c6abd41d4591362bb2772dfcb3a1dac7b45b03c15bea864f2bcbf224234451146f37ac3a076f2bde550ede8d3745ef6a6ee82d7bf3b12ccb8220d04a4df6aecba5e33a0dd5fe3908daad81e02d7583ecdd188d46d55cd87cf8e05df157f6ed3afc5a14bd1b5a9df35f93c9248aa2f33ce09c73f6eef57a758c9d5996ed6aefc6d96ce6fe231c99fe729aa652479d4ee7558be95aab45d574e7de6d69deed762bfeb47ffdfa55eb5ef45a9d9fb3eab7e2c779f3c5efdfbf77be6b63b3d97c7a7a7228005dcd4fd60e6f58c2d272eaec694c1b4b9244b97bb52851f1a75da30dbddfa5d5f9d98ae3f8f6f6d638386fd6e5096fd650ed63cb766be7b9b60b8e4ef03e44ea36ab0dd7101f38cfb66aef06ef5abc9a6f679bd7eec6a256e7e7a6288a300cb552a35ee7cd77f79bdc5ebbdd8ea2c89b01046fa91b3e7d0d51eb5f2149929ddfd1af8bb7af5d2d56df2d168b57cfb32ecbbcdf7e762adeca8e1d9e88b552a35ed93bcff35eaf777d7dbd8f63b8db8e20784bddb0c93544ddfbb59eed6b57bb96e67f7bd56ab1a1f7bb9f9d300cb51a3a6d699a4addd4317b07411045d1bb2b92b6f4f4f4b48f8705046fa99bd357dfbd52d234adfe9266c1fbadb7eb03eb58f46efc778f00adce4f5592249797974ec4d4347b371a8d388e7755f47efaaf3dcd6007fe4d7fb97d787e7e3ecf2ecd1cd1f5f575ed3e269d4ee76c5faf775b9ad7a86efcb62f6ead0f7a3f7efc70e63a31fb98a3cb8969369bcfcfcf157f27dfddddb9e0075dcdab224dd32008aa53b250ebe628c6e3718dba940d87c38b8b8b739efff9ee4cbf1a2d397e7bc8ad69d17be9f6f656abf393511445afd7d34a8d7f5ace79b1de04389013b879f05234eb743a47df9cf0f7efdfe75cc4e3e81e1f1f15ba6be1dddda46bf4fc9bcde6db57b6ee2f4ab7dbadd736bfbcf5ebd72f47183e7b34ab72ddfbe9e96927bf66f56bfba0e25d754992bc14cde6f3f9e5e5e5603038d6a29da2283471e1b8fafd7e9517ac2a74bf78dbd2bc5e1db6cbb2acfb86de6fcd6633adce6b2dcbb2300c1d61f8ecd1ec1ceade3a99c3d1d53e78bfedf1f3f0f0709403a8d48decfdcf0be2fbfb7b2fd0527d3bab7d70f8addd86de6f69755e5f49925c5c5c58e785ec0d5454dd4bf6bf7fffbebbbb7bdbd4a7d96cdeddddfdfaf5cb0c73ce50d526ceedaa37cc691f7b7ffcf851bbdfe2d5c4ec5fbf7e9dcc27a8faab367090e1b44f9dbb5d85f4f3e74f070a38f267f9347e8ddfbf7fffad1b70a7d3b9b9b9d9ebe146eac6058415dd9ff26e4bf33a2687b7e9b48e1b7aff8d56e775b900d0c09cd3bee9b6935fedddc62280e0bda19f3f7f7ebc9fcdd5d5d5ce13b8d48decad06f559efeefdd6ed766bf78b5c5d5dbdfa2d1e1f1f4fec168932d12b2fbb013f3e3edefd57f7bf9667e1776f2db9f14d7d6f291ed74e366b14bce1e8befca9551fdd7fcaf3bcd7eb7dbcd0badd6e8f46a39dec7c635d37d5cfde4992b45aad03ffbb45510c87431f8d0f2e80deeefd56d3a650bf7fff7ef5066bb55a27b6ceb6dd6ef77abdc160f0ee2670e723cff356ab1586e162b1f8f83b3b9d4eafd79b4c267b5d346bf34ef69abdabb3c5601445b3d96c1fe71de0a04ef276c2e3e363a7d3f9f806e1f5f5f5f6dbc69cd2a44ae060de2da2d6f477793b1ffb84e7fd76bbddc7c7c7f3dc72ecf7efdfcd66b3dd6e7faa77fdfe2a87ff9ce306db67ef8a7cfa76321feaed0425c054f39df9f5ebd7e3e3e3f5f5f5dfcecded76fbc78f1f1b3760b3a80cd8ccdb2500f56d4bd6e9745efd2e27b0a1f7c79acde6f5f5f5b96d8abbd9a57fbbdddec793a963274264efe396790eb6000438c7e0fdea42f0e6e6e683047e7d7dfda93a86d40d6ceced21e5e9e9a9bebfcedbdb9775dfd07bfd54f9e3c78f7328806fd3af61e7d1c5f99773cbde3b6998227883e07d50bf7fffbeb9b9f967f5e69f09dc591fd8d8db12f19f9a37a27b3bdbfcdc0a92fbe8dc591d5bde15da61d15b2b352a7288ab63f0ded3f41340f0fec8cf9f3fff598d69369b7fbb8a92ba812d43dadb03cb3fef0956d9dbebb993d9d0fbb3e3707373b3f1f2a5cadeb0de7e29f54e6a86f626e488dedd8ae26076752b53ec01c1fb385712cb066c9f3dce4addc096deddd3a58e7b89ad7abbe0f99c7b4f9e520fb69dbc33b72fb53d3d3d69a5c6d966ef5dad45127b40f03e7202fff9f3e7cdcdcddf42f8ea7156ea06b6f7ee6c9aba2f8aee743aaf72e6896de8bd8113e8c1b6c31510db14bdbd9738f3ec2d7883e07d6a7efdfaf5e3c78fb797bfcbe36cad576002d5f16e123b81dfeb6df6d67afa6564ead8836db70dff362e7abbe58decbdabad229e9e9e5ced83e05d2d6f4ff34efcc0aeecefa2eae85e2d5f7f7e7e363df845b3d9acd774b09dbf769f2d7afffefdfb9c172c207beffce6ace00d82773db237c0f6de6d695eebbdc43ebe2495bd8f7bb1beb17d341df854d1fbd7af5f5aa9e1e32c78c329f97f8e9eef4a9244f606762e0882b75f4cd3f4647ec1f1783c180c5efe1a86619aa6b2f7f2554e92a4164f75381cce66b39d3fec62b1587304b22c0bc3703e9f7bdb50d9035d144545511cec5fdc491f903ccfbd76704482f747d9dbed7660b7c2303cf98ba1878787d57cb5ccde5efac562311c0e6b7183e0fefe7e7f917e9d93efc5c5455996de3354d96c363b64f67ef7a6ade00d82f749656f8300ec3b784f269313fb35fbfdfeabecad31752dce294551f47abdfd3dfe3f8bdec3e1b0dfef7bab500bf3f9fcc0756f40f03e596e0d02fb0ede59969d6471afdfef6759f6f2d7388ecf3c7bdfdcdc445154f127d9ebf5f6fd6efc5bb02f8a228ee3fd15dba1d6d97b27156f40f0aeaed5ab46802d753a9db7174f273cb3268a22d97ba9d96c567f9ef99e9676afbab9b969b55aefa6ee288ac6e3b1a304b2f7fe82b7553f2078039c85388ecfea4aa82ccb288a56a70e9d6df64e92e4ddc0591d7b5ddafd62341abdfd629665411068a586ec0d08de00ecc0db49b6799e9f76de28cbb2d7ebad5e8f9e61f6bebabadaebc2e95d05effd3df8f5f5f5f3f3f3bb5b224d2693288ab452e334b2f7fe96289a6a0e82f78973980376e5dd79e6a7d756ed6fd7a3afb2f78f1f3fcee7a5affed2ee46a3311c0ef7f7a2c471fc6e5bc1d168f4fdfb77a99b9339d68561b8a7558a3bb922b5821204efea7af742016057e9eb4c56dccde7f357d3ec0783c1f5f5f599bcf47599807ae0535e1cc7b7b7b78e0c9c92e5fa9acae65b37b9e0b8fe63083ebe0ab9bebed6ee85b3727d7d3d994c9c9ef71133dee6b1e9747a26bffe743a8de378b593dcf2cf0eb0d51104c1ddddddf2cf699aeeb0d1daab62ddb2959a45dd9c6af6beb8b8300ec03bfef0a1e7e7e74ea7e37dc23968369b3f7ffefcf3e7cfaf5fbfbced77abdd6ebf3dbcfcfcf9f3dcc6e1e6e6e6d5209c64ddbbd3e9b4dbed97bf5e5f5fd7eedcf792c0777ea5e1ac0a47f4fbf76fd7f6702ca69aff4318864992349b4d43c1c94b9264d9022a08822ccb767be57de6deedad750e0bbc5f79787878b57d5a92242796bdefeeeeb22c5b9de0b0bf7e4bb593a6a95a371c9165de704482f75ad93bcff36eb76b28386dafb63b1a0e874f4f4fab853b04efedf5fbfd53cdde9d4ee7f9f9b9fafb751f7e585e5ee8cbcb4bcb580010bcf92890a469faf4f464821c6765d924e6fafadaa48f6d349bcdb79dd5b22c3bdb04d2eff75f555d9224b9babaaaf52fb52c74bfdb9feccc2bdecb3b7a711cf7fb7d470300046fd60d218f8f8f6a809cd5457392245996dddcdc88df9b79b7dcfdaaea7b9e87d3570352d33b9bef16ba576fb52c168b737ead8ba2e8f57abae84115986a0e82779dc4719ce7b9e5af9c6416fadbff0a8260341a1545f1f8f868d9c54e82f7996c24f637cb4d7756f7d95a4e2caa51f65ede87faa0d0cdd27c3e3f9feefd507175d9dd10046ffed770387c7e7e5600e4dcc4719ca6e9af5fbf14c0d78f676f83779ee7fa4bd53d7b8f46a3f55774ebaf060082371b5a365d33ed9c33a400be3e6dd53e309fcfeb92bd9bcd66b7dbbdbbbbfbf9f3e7f3f3f39f3f7fe238fea0d0fd6afe88e00d548163111cd17f0cc1365aadd6643289a2489b56ce531cc7cbc517a3d12849121f847f06b0a5339f67fe2a7b0f0683e58af73ccf97178555d871aad3e9846118044114456118beeaf90f2078039ff2e5cf9f3f46614bc3e1f0fefede385077db1f0d9224994c26d673aefafdfbf7abcc5614c5d7af5f8d4ca5349bcdf0bf96617b07e7d72f5f5efefcf8f8b8bab3b7f31a7014dd6ed79d5f10bc6bac288a2008d4fa10bc5f3e1193c944026f341a5757576f67954f2693efdfbf7bbf1d57bbdd0e570441b0f37f228aa2d96cf6ea8b9d4ee7d58d985721bfd56abd9ac11e04c13e9e9ee00d82372078d78f6b14046f09fc63cb9a6aa3d1c8f3fcccf7973ad6e56610042f497bdf53c78ba208c3704f2ff406e9fded579cd4c0b91e10bceb47d11b2763099cea58dee688a2e8256c1ff809f47abd8abfdbdbedf6ab42faeafd88344ddf96eb01e77a40f03e3ef5016aadd3e96459b6ef7f4502675741f1550977f5af47ef8536180c1e1e1ebc6480e00d08de7b49148aded4d781d77d49e067e5edd4e8b7eb96d7f94a2d2449d2eff7bde84035fdfaf5ab8e875610bcf93f46a3d1ededad7140f0de2081675966e5738dc2f3eaa2e257c5e79a06e69dc8b2cc069340953d3d3ded64e30640f03eb277dbd882e0bd7e6e298a6219c85fa6bebf6cefbcfc06a9467eaea6bd36540310bca1d6fe6308766b329998700e1b5b0d7ebd5eefe390f36e32ffdbed83bfc5c877d7037fb605f4663717defadb935ffd65df253f5741afd793ba818afbdb090810bc6ba6d56aa569eaf20b0ef059abe93dfb0f22bd2a447d0d0603d39d80eacbb2ece3fbdac09efc3f43b08fabea2ccbbaddaea1003807499268630e0008de87b6ac7bfff8f1a3d96c1a0d801396659936e60080e07d3483c120cff3bbbb3b4341f51d77df63a8a9a2282c10006ae4e38e2180e05de330331c0e7ffdfa757d7d6d34a8b2fdf512831316c7b16e9a40bd82b7ec0d82f7c90a82204912f11be0941445a14711502f8bc5e2e2e2228aa224498c0608de271ebfafaeae8c0640dd59dd0dd4d46c36ebf7fb41100c87431b8c81e07db2f17b3299fcfcf953df3500008e65b158dcdfdf7ffdfa358e63f3cf41f03e4dbd5e2fcbb24ea76328000038a2f1786cfe3908de272b0882344d656f00008eee65fef9683432ff1c04ef93b2dcee5bf60600a00a168bc5eded6d1004711ce7796e4040f03e9dec3d994cacf70600a022cab21c8fc7dfbe7d8ba2683299181010bc4fc1b2dbb971e0b8ece30d00bc329bcdbe7fff6efe3908de27a2d7ebdddcdc18078ea8d56a190400e02df3cf41f03e1dc3e1b0dd6e1b0700002ae865fe79afd74bd3d48080e05d4bad56cb847300002a6e3a9d5e5e5e2e174b9a7f0e8277fd4451747575651c0000a8b8c562b1dc7e6c3018987f0e8277cd8c4623830000402d9465f9f0f060fe3908de351304c1dddd9d710000a04656e79f1b0d10bc6b603018e8b2060040ed2ce79fb75aade17068fe3908de95d66ab54c38e7286f3c8300006caf2ccbfbfbfb6fdfbec5716cfe3908ded5d5ebf5aeafaf8d03871486a141000076683c1e5f5e5e866168fe3908de15351a8d4c380700a0eee6f3b9f9e720785754abd59a4c26c601008013b03aff3ccb320382e04d558461f8f8f8681c00003819e3f1f8e2e2228a22f3cf11bca98a388e656f00004ecc6c36ebf7fb41100c87c3a2280c088237c7cfde3f7ffe6c369b8602008053b2582ceeefef2dfc46f0a6127abd5e9aa6b237000027a6dd6e07419024499665455108e19caaff18825a08c3304dd3288acab2341a00009c86c562f1f5ebd746a3717575d56834d2341d8d46711c1b194e8c8a77cdb2b7ba37fbd0e9740c02007044d3e9743a9d9665d9eff7e338b6f01bc19b63666fed1fd98756ab651000808a188fc75114d9750cc19ba3e9f57a373737c601e0e82c4404d89ff97c1e45d16834321408de1cc768346ab7dbc601e0b8946200f6aa2ccbdbdbdb5eaf67da398237c7311c0e0d0280e00d70f2a6d36918860eb908de1c411cc7baac011cd76c3633080007b0582c2e2e2e4c3b47f0e6087abd9e41003816b517800333ed1cc19b2308c3d0200008de00e7633a9d064190a6a9a140f046f0a67e6c27068237402d9465797979a9e111823707124591416057dcc701c11ba046eeefefa32832ed1cc19b43e8743a0601e02874560338fa71380882c964622810bcd92f456f80a350ee06a882b22cbf7fff3e180c0c0582377b14c7b14100383c7d7d00aae3e1e1210cc33ccf0d0582377b118661b7db350e0007a6e20d5029f3f93c0c43d3ce11bcd997d168641000046f8033f732ed5cc735046f762f0cc3c7c747e3007048f3f9dc200054d0c3c34314456e8f2278b37b711ccbde00ff34994ce238de7e79b605de0055369fcfa3284a92c4502078b3fbecfdf4f4d46eb70d059bb18f37279fb75badd6f7efdfc7e3f1f697620a29c08969369b373737bf7efd3a99e6416559f6fbfd388e4d3b47f066c796936a6e6e6e0c051b68b55a0681d3cedb65592ebf3e1e8fbf7cf9b2cd7b5ef0064e46b7db7d7c7c2c8a62341a05417062bfdd783c36ed1cc19bbd64a7d168f4fcfc7c7575653400797b356fbff2b7af0bdec039782971a7697adadbd3cee7f38b8b0bdd88a9822f7ffefc310aa727cff3d16834994c168b85d1e09f9e9e9ea228320e9c80300cd7ec7cb6f1e9efcb972fc619a8a96eb71bc7f1dfc2761445b3d9ec247ff1ababab24494cf1e38854bc4f531004a3d128cff39f3f7f5e5f5f379b4d63029cb6a228d2347db76141b3d9bcbebebebbbbdbfe5fd1590da8a3f32971ffcd743a0dc3d09425046ff6a5d7eb25495214c532816bc0069caa2ccb2e2f2fc7e3f1abbcfdf3e7cfa22892247935ad63b38e3b93c9c450033572daabb83f65b15898768ee0cd8112789ee7cfcfcf373737123870da5ef276afd75b7ee555317c83bac7f2018d2d507d4adc7f737b7b1b45916ee708deec5d18862fb3d04f66d30880575ef2f68bed97f64d26936dbab2011c8012f73fcd66b320082c1d42f0e67057a5699a3e3f3f8bdfe83502eb304111a82c25ee4f29cbf2f2f272381c1a0a046f0e240cc3344d7ffefca901db99bf0d0c027c2ccbb235fba5031c9212f7c6eeefef4d3b47f0e6a096d56fd91b381f799e7feafb95bb814a51e2de89e5b4738d3311bc399c65e95bf6064ed8eaca9a4f05efa2285c9601d539942971ef505996dfbf7f1f0c068602c19bc3656f5796006f69ab061c9d12f75e3d3c3c8461f8d9c9502078b3a1288a7efcf8611c005699670e1c9112f761cce7735528046f0e6730185c5f5f1b07e0342c67890f87c3288a36d8bbbba1ad1a70244adc87f732ed5cc73576ee3f8680b746a3910b4de0048e63699a2e168b772f67d7bfa852ee060eacdbedc6712c6c1fcbc3c3439aa64992d8f6851dfaf2e7cf1fa3c05b45518461f8ee052ba7c771801390a6e9e5e5e53adfd9e974d62f7d174511048105dec001349bcd388e0783c1b1e6934751349bcdbc102f2fc7683472fb835d31d59cf7b55aadc964a2c9f939e8743a0681b3f2a9e93cdaaaede4e2b5dbed3aa1c007ace2aea0b22cfbfd7e1cc7a69db313a69af357cb0dc6a22872d179da5aad9641e004044170777797e7f9783c7efb7fdbed76188651142dffbbfec39a67be7dea4ed3f4dde99a5996bdba9ccdf3fc554be177bf623616a7f401396e899b7f1a8fc759969976cef64c35e71f8aa288a2c87aef13d6ed76d334350e9ccc21ebebd7af2fefed97b0bdd945edfad3d7f96ceadeed8bfe6aedc03a5f69341aa6d472dc936f0557719b6afe811f3f7ed8eb9b6da878f30fad562b4dd3c160f06e1109a06a87ac1f3f7e2cc3f6f68f96248921ad78ea5ebee86f6731f47abd0d1eeaed5dc875be926599a961acffb950e2aea9dbdbdb65c7355305d98c8a37eb9a4c2683c1c004bfd3a3e20def5a2d9eb381e7e7e7b39d99f97616fd9af3ea9d644ffb6c5bfd46e52adeffd46eb727938969e76c40c59b75f57abd288a86c3e1c3c383d1004e9e72f7361e1f1fcff9c2f4edeffea9ce021f84f335e7d55b20561d4adc2766b1585c5c5c9876ce0654bcf9b4344d7bbd9e69752743c51bde150481f2e3c6a9db063c95f2ee12f77566d12b7e6e797aaddd5edc2ade9f7a7d27938969e708deecfd14aee39ae00d274c5b35a99b77ad338bfedd79f5e7731babd6256ec1fbb3aff56432d96c3e0b67c8547336b1ecb8267b9fccab6910e015f3cca56edeb5bf59f4eb7ca56ab3e897bbd30f0683fbfbfb463d4bdc6ca32ccbcbcbcbbbbbbbe170683410bcd96ff60e82c09cf3d3bb8a82335714857d1ca46ef62a08829d14845fcda21f0c062fc9bcdbedbedc14d8c72cfa76bb1d86e170385c9e46e338b68afb3cdddfdfa7696ada3982377bcfde5114c9dec02951eedec0f5f5b5d4cd512e45564beeabc967d91176fd877a77a3b80f66d12f53f7f2cf0a9e676e369b05419024c9661b192278c3bf8561381a8dfafdbea10004ef734edd068dba7b3b67deda5dd65796e5f7efdf6f6e6e46a391d1e05dffcf10b0a5388eafafaf8d03701af23cd7bd42eaa6be9f5f83c0113d3c3c8461e87d88e0cdbe8c46a376bb6d1c8013a0c9bfd44d7dadf64e57afe628e6f379188693c9c4502078b37bad56cb851720784bdd002ca79d0f0683573d0210bc6107a228bab9b9310e40dd2953aca9d3e948dd007ff3f0f01045d16ad77d046fd88de170b8dcd012a0a6b22cb34dc39aa9dbd400808fcde7f3288adca344f066c75aadd66030300eb5631f6f78214cae69381cdab196aa31ad970a2acbb2dfefc771ecfd89edc4d8a5c1609024c96a6b13aacfd53308de9f956599ed6aa9e0db72f5af9aab511de3f1f8e5b0d96ab5566b1edea882376c18e186c3a16dbd01c1fbb4d92c07e053e6f3f93ff7aaec743a2fe5902008822078b9c05ecdea6118aa9a08ded088e378341ad90517a81d0bbc056f80e386f3973fcf66b3757ea4dd6e2ff3b91bc7d5678d37bb371a8d0c02503bfa997fa0d96c5e5d5d1907804a592c16b3d9ac288a344d5d810bde9c9d288a5c9f01b5a35cf041ea4ed37475a2a32e415490b725676b3e9f5f5e5ededede9a8e24787376922469b7dbc601a89135e7f59d6dea5e0dded6135141abcdd53a9d8e01e10c0d8743832078735e5aadd66432b1ad375017cadd1fa7ee861d10a8db758841e00c8dc763456fc19bb31386619aa6eadeae4e40f0aef5b0ac16ba01a838456fc19b33cdde93c9c474afeabf4c060174567bebf1f171f5f8f0ea26ddab3d9301a802456fc19bf30d755996fdf8f1c3b473a0b28aa2b068f96dea8ee3f8d5f1fcd5a01925aaf6413608d050f416bc396783c120cff31f3f7e98790e549079e6ff4cdd507dabb3304ce6e29c297a0bde9cb556abb58cdf8f8f8fe2372078d73d75ab2e52f1ab0e83b02573156b6d30181804c19b7317c7f1b2faed800e08def54adddd6ef7e5cfd678c3698ba2c8a55a7d4da753a736c11b1a8d466330182449621c80a3b3c0fbc5f5f5b519e6c0529ee765591a87fab2d25bf086ffd1ebf5aeafaf8d03705cfa99bfa46ef74381d5ebb4e7e76745effab2cc5bf086ffe5561c7074711c3f3f3f5f5d5d49ddfffcb620085efe6c122355339bcd5efeacb9da4e846198a6a9ec5d47ed76db6576d5fcc71070444110743a1d933c8fc82eebb0bcb80cc3703a9d4addabb22c2b8aa2288ae572ee344dd54fa80bcdd5769bbda32832edbc5e9224f12910bce1ff88a248f0766902553816adfe35cff3b72133cff3c5627126a9bbd1680c0683d51222207b1b8d6ababbbb7bf595200856e728217843238aa2878707e3001cfd58f42a7bafe9a520fccf2f36fe323dfb88e1b6d3e96cb0aebbd96c4e2613977454cdd3d3d36a563420b2f7f930ab5cf086b50ee50601a8af56abf56e62eff57adb3cec729af73a5fdca6383f9fcfa3287a7b3b60381cdedfdfffeda7cab2dcec2605ec95b7a5ec0d8237fc551004ed76fbf4666f026c798dbbf35cf152874f92643c1eafff83cbedbb9713175bad961ba670aa3e6e9a287b83e04dbd4551f4a94b400036f0529cff5443f26eb7ab8139207bc3966c27462582b7410000a84bf6b6c71808de08de0000c8de2078c38a2008960b0839cae01b040040f606c19bd317c7b14110bc0100d91b046fd863f0ee743ac6010040f606c11bf665341a19040000d91b046fd897288aeeeeee8c030080eccdfaf23c370882377cc27038bcbebe360e0000b2376bfaf6ed5b1cc74551180ac11bd6952489ec0db057c3e1f0cf7fa5696a4000d9bbeec6e3711004c3e150fc16bce113d95ba3350000d99bf59565797f7f2f7e0bdef009699ab6db6de30070144ae280ec5debf81d866192244643f0867f68b55a0e168711459141000064ef53b2582cfafd7e1004aea8056ff87720bcb9b9310e0000b2371bc7efe5cb6134046ff8abe170e8900d00207bb3b1f97c7e7979194591f82d78c3fb5aadd66030300e0000b237db98cd66cbf86dd36fc11bde21780300c8deec2a7e2f37fd16bf056ff83f5aadd6d5d595710000a86ff6b65b4da58cc763f15bf086778ed7060100a0bed7725996753a1d4351b5f81d86a14dbf056ff81f411018040080fa6ab55a699acade55b3dcf43b0802f15bf08646966506617fdcd70000646ff1dba6df8237e7cece077be5ee2600207b539665bfdf17bff7e7cb9f3f7f8c029595e7f9b76fdf8cc3fe74bb5db736008083298a228aa2f97c6e282aabdd6e2749e035032b0000200049444154124591a1d821156f2a6d32991884bd9acd66ee6b020007a3ee5d7d8bc562b9e9b7f2cc0ea97853696118ba21ba6fcd6633cff356ab65280080c350f7ae8b6eb73b1a8d6c33b43d156faa2bcf7387e30328cb72381c1a0700e060d4bdeb62369b5d5c5cd8f45bf0e69499dc72300f0f0fbac70300b237ef1a8fc7dfbe7d13bf056f4e930ff6210d0603830000c8de7c1cbf6dfa2d782378b3395dd60000d99b7f5a6efa2d7e7f96e66a54571445b3d9cc381c8c2e6b00c051e8b556d34bc7e17068d6e49a54bc81ff5196e56834320e00c081a97bd7f4d2f1f6f6360802b326d7a1e2fd3fd234cdb22ccff397165361180641104591eef9c7321c0eefefef8dc381fdfaf52b0802e300001c98ba777db5dbed2449a22832147ff39f33ff6c4f2693c964329d4edffedf9749cecd66b3d7eb0d0603099c7310c7b17ef200c0e12debdeb2771d2d160bed993e76be53cd87c3611004fd7effddd4bdaa2ccbf1787c717111459140c2c99bcd6693c9c4380000c7cadee69cd7511004b6a715bcff8f2ccb8220b8bfbf2fcbf2b381e4f2f2328e631dfc386d83c1c09b1c0090bd595f511426080bdeff6bb9f660b158fced1b3a9d4eb7dbbdbabaea76bbef7ec3783c763be7602f9641388ac562a1cb1a00207bb33ef9e863e7d55c2dcbb2288ade16ba9bcde6bb5fecf57aad56ab288af178fcf6d11e1f1fe338f61eda93d168747b7b6b1c8e48973500e088f45aab0b9dd504efd71fdd300c5fd5badbedf607d5efa56eb7bb6c37f5367ecbde7b92e77918869f5d0bc06e75bb5d4d0d0000d99b0fdcdcdc0c87c356ab65283e764653cd87c3e16ac66e369beba4ee46a3319bcd068341abd57a7a7a6ab7dbabffabdfef6b43b50f711c4bdd47a7cb1a00705ce69c5759bbdd7e7a7a1a8d4652f73acea5e29de7f9b76fdfb67c90ebebebd168f4eaae5bb3d9ccf3dcbb6d87d234bdbcbc340e55d06c36d334d5270300382275ef0a52e8feac73a9780f87c3ed1f643c1e0f06832ccbaeafaf5fbe5896e56030f04eda216dbdaaa32ccb288a74b903008e48ddbb5214ba37731615ef9d94bb5ffcf8f1238ee3d5bb6eed763bcb32efbc9d288ae2ebd7afc6a16aeeeeee7672f70a0060e3ab4475efa353e8ded85954bc775b415dc68fd5c72c8a42f7fc5d3192d5747f7faf8f20007044cbbaf7d5d595a1380a856ec1fbdf76db20aa2ccbe54aef97466b65596afeccc91b8fc761181645612800806365efc964b2baea93c3b8b9b9596ecc6c2804efbfcab26c9dd6e59fb22c77af769c12bc3907f3f93c0c43b3120080234a9244f63e18856ec1fb139fcc9d3f66599693c944abe77d0882c02054d962b188a2c836630080ec7df214ba05ef4fd85342103cf617bcbbddae71a8b2b22cbf7fffaef93c00207b9f2a856ec1fb73f23cdff93cf32573cbf747f7ec5ab8bdbdd56e0d0090bd4f8f42b7e05da178bca73c4fa3d188a2c831b416c6e3711445daad0100b2f76950e816bc37b4d72e50669befcf683432e1bc1666b3591445daad0100b277dd29740bde150ddef3f9fce5cf1aadedd672af884ea76328aa6f3e9f475164f10500207bd79442b7e0bdadd96c76b0a0e8cdb4f3214dd354f6ae85b22c2f2f2ff7b183000080ecbd570add82f7b60eb9f4d43b754fd93bcbb29b9b1b43510bfd7e5ff6060064efba50e816bc77c3bad3d3301a8d7efefcd96c360d45f58fddbd5e4faf350040f6ae3e856ec1bb96848dbdeaf57a799e5f5d5d198a2a5b2c165fbf7e75c30b0090bdab4ca1fb28fe73c2bfdbbe0340b3d92ccb72f9e7344d7bbd9ef7d3fe2cdbadc5713c1e8f57bf7e7d7d1d04c1c1de5107bbc3b2bf2de8f72d4d53b74e0180e366ef46a3f1eaa291a59b9b9be17028720bdebbb4d78cd46c367bbddecbe77932998c4623efa7031c46f33c5fed9937994cd234d5557ecb909fe7f9368f30180c569bfc0300c8de55d36eb79324512011bc6b268aa2d5e0bd582cb22c13ff0e6032994451f412f3cab2ecf57a5996b96fb7b12008b69c35b03af8965d0000b277d528741f9d35de1b0ac3f0d5dc72fb181fc6729bb176bbfdf295c562114591bc77dc8fc3cb9fadf1e6ada2282693897100e0f0d9db7a6f2bba05ef7a5b4ed2e876bb82f751b2f7643259ed733e9fcfadb13fee2b6210f8c07038fcfefdbba6f700c8de07a675b9e07d52f17bc905e521856198a6e96af69ecd66711c1b99a3db72b938a7274dd387878746a3319d4e8320b0d93b00b2f70128740bde87e34d76f2d9fb5543bbf1781c0481a90787b77a07aaa6cdd8d993a22856ef889565d9eff7a32872830600d97b7f14ba05ef4307b3d5bfae5647390d711c3f3e3eae7e65b1585c5e5e2ef7fd363e50056f9781cc66b3b737ce0040f6de9e42b7e07dfce07db0dd9e3970f6beb9b9797557653a9d7efbf62d8e63f1fb280c3b2f5aadd66834faf9f3e7ab0f695996b7b7b74adf00c8de3ba4d02d781fed82afd3e9ec35d56be05c05a3d168341abd9dd1301e8fc5efc378757c37e0bcb29c84b2da8d7249e91b00d97b2714ba05efe35fedbdfc793e9fafee41b57daa2f8a623a9dfe2d7b7048cb74fdee617419bf454138aee546803f7efc78f575a56f0064ef2d29740bde95c863ab7fdd55e3f16521fd5595c6765647bfac4f92e4f9f9f96d55addbed5a68b06fab330ecc04e16f0683c1f3f3f3db7ba0b3d9ecdbb76fc3e1d01001207baf4fa15bf0ae8a5771ab2ccb5de5f93ccf578377a7d379b5a49ca3586e33f6f4f4b41abf5dcd1f66e45ffe6c6b3d3e7eab6459f6eee5cefdfdfdf2ff1a25000e90bdefeeee6afd2b28740bdea7afd7eb0d0683d5183f180c0c4b754451f412bfbbddaee31154ca727ecadb8e6b8d46633e9f5f5c5cb85906c0010c87c357fbe3d48542771d7df9f3e7cf09ff7a83c1e0e1e161b78f797d7dddebf5be7ffffef2956eb76bef689cba8aa2581efd7bbd9e0920ac23cff3ffcfded99ea7aab46fdfb58ffd1d5605900a20158015402a002b8054005620a900ac40ac00ac40ac40ac40a820cf87f96f9eb9f125460698c1f3f7611f4956b6511866aef37a755d77b7db5dfe93a66949926021010000e89b2449168b85406fd8f3bc300c21b921bc79a1aa2adbb6afda731dd96c36aeeb36e16e4992f23c8775080000cf1186e172b9bcfa4f411020fa0d000000da9ba0284a9224c8e584f0e688a2286cdb3e9d4ecc5fd9b2acb22c0f8703ec4200001860d3d6342d8a2218190000005e5c7b23d00de12d8601e7384e9aa6dd9bab499244bf88a669799ee3010000808e5455e5ba2e3da311d60600000068ef1902dd536182cdd55cd76da9ee388e555565d2d29c7e11499292248121080000dd9165394dd3388e2f3baecd66b3afaf2f32b300170a0000407f2282c35e6b685d3e19a616f16ed50a92026c555559096f9a2ccbf00c0000005bcab2b46d9baee869d91f087d030000e80f7ee2de08744f8c4945bc5bb3b59bb667add15fdd912469bfdfe331000000e6a8aa5a14c5add9aa087d030000e8154ee2de08744378734d1886b4c026a368d2345dafd70cff8a65594551a08d390000f4ba9f6759a628cae53f9d4ea7f97ceefb7e5555b85000000026a6bd31a37baa4c27d53ccff3f97cde7c4b666b134711db70f7b4279f0300003fdcefb8461a6dd8b68d0b0500008039a3e49ca3a20ac25b00745da76b028fc7a32ccba669de2a147c9ae3f1a8aa2a960e00000c431445ad84261acbb2d0e712000080e8da1b15dd936722a9e66118d202db719c9e54f76c364bd314eb06000006c3f7fd3ccf354dbbfaafdbed565555eccc000000983358ce392aba5f812944bc8ba2787f7f6fbe9524898cf2ee4375cf66334dd38aa2c0d2010080e115f8d7d7d7ad7f350c234d5384be010000b0a5d7b83702dd10dec25055552bb21dc77114453da96e0206890100c028e4796edbf6adb473547d03f0e2144591a629197c509625a90ddced76647f6875c6d5755d9665327416761d18457ba3a21bc25b245a0110c330aaaaea5575cf6633c7719224c1ea010080e1a9aacab66d62495f0555df00bc20699ab60a0f7f8b6559a669baae8bdd030ca0bd11e886f0166f93fdf8f8682de2d3e934c09f468b3500001891288a3e3f3f6ffd2b42df00bc0ef7c71ffc1649927cdf0fc3101716f4a7bd11e886f0168cb22c755d673b2aec570f4c14455840000030164551b8ae7b27c005cb0600ec03cfa1695a9ee7d83d0073ed8d403784b7785c96760f8c24496559624706008071cf02dff7d7eb354c1c005e7307d075bda7544745518aa280a507186a6fb8835f1c51c789f9be3fa2ea9ecd66755d637a0d00008c8b2ccb49926c361b4992aefec2e9749acfe7beef575585cb05c0c454b7699afd15189e4e27f8ecc0559e9831a6284a966551144175bf324246bc879c657f07cc15030080e1212d8b8ba228cbf2719b5bd3b424495a3d8d0100e262db36abbaee3bac562bdff771b541173d824037105578b7a6768fcb7ebf871907000003509665188677b2ca1f210802f44c0260025cb6d7ed094992902f039ed6de2877023482a59a9765c9d5da457f3500001880300cdfdede3aaaeed96cb65c2e755d47b21200a2335814baae6b4c9005b7b89f73ee795e511450dd4048e14d66b78ed5c6fc2aebf51a7e500000e8dbb2592e97ac5eed7038bcbfbfc36d0a80b8244932ccec58027afa8007b5b7a228cd17a8e8069788946a6e9ae66eb7e3ed5da1f8070000faa3bff222c3309224515515171900b150557548e18d6c73f02349921445114591aeeba669a2a21b882dbc5dd7ed9e64d80768b1060000fd118621c370f7a53d1d86219ca70008c428bd7ed0d30700d01d3152cdbb37d4e98fc3e100e10d00003dd16b75655dd79f9f9fa669229c0500f684fb6a1f571e00307de19d24497fe10e26a056100000fa200cc301124a77bb9daaaa28e3044008f23c87f006008808efa9e6838d8be8028a7f00006002fbbf65594992a0300f006ea9aaeaefdfbfc3ff5dd4150200bac375c4bb280ad775f9bf88755d2354020000a2efffdbed16a16f0038df1946f9bb87c301211600c0648537197cc7d5f0b03bc05003000086fbff58c323ebbafef8f8f07d1f4636001c5296252c3d000084374baaaa725d5714d53dc3406f000060b7ffdbb63d4069b72449b7fee9ebeb4bd7f5514a4901007c0a6f6c080080090aefaaaa4cd33c1c0e625d4ab8420100a03bc3a8eed96c26cbf26ab5ba25bf4fa7d37c3e47e81b0000330f00304de1dd9fea9624c9b22cecc80000c0b369bbdbed86f95ba7d3c934cd3ccf354dbbf53b5f5f5fa669a2a91200a0aeeb512699010020bc7b81d4753357dd922405415096659aa6770cac8e6cb75bac270000e882effb43feb93ccf755d2f8a2208825bbf73381cdedfdfc330c4dd01e0c5c1f858004017fee54d7533afeb56144555555dd7c984985e93d8d334b56d1bab0a00009edb42874932a7cf1df2451886b66dbbae7beb80582e97699a2649a2eb3aee1400afc9e170c8f3dc344d5c0a302e25c5e5bf12d583850ae17d932449168b451faf2ccbf26eb7dbed76711cbbaeabaa2adbd79724a97116e4790ee10d00001d65f090b60b6da9e4791e86e1d7d7d72d9bfbfdfd7db55a0d1c9607003430b7e27e4b1886e8b2064621ff8fa2281e8c535a96457ccab87a9c307eaa795555beeff7a4ba89a944bef07dbf2ccb5e8315d88b411fc2a0288aa228d0e10980be9165398aa22ccb1445b9f53b9f9f9fa6698ed85a190008ef11d9ed7668fa0006b6035dd79565793e9f2f97cbdd6ef77876f076bb5d2c1618d201e1fd7fa469aaaaeaadf0025beabaeea3ff19c9606f443ed41160029963acaaeadbdb9beffbefefef7ffffe5555d5b66d1cf90030b4a12f7f48baa9dd69c6b9dbed745d47b52700af093a3e806120b1c9b7b7b7f57adda514f77038cce773b406e4813fdfdfdf232ea6f57a3de41fb52c2b4dd33f7ffe307c4d4551e8a2c4cd66836c73d05172bbae5b55d5d5625732fa48d7f524494677fc03c0dc9c5d2e9703ffd13b87609aa6aeebde31770cc348d39476bf02007ab75c995a71cf713c1e7104835e29cbd234cddff63d51144596e55bcd4af6fb3dda948ccb38116f12e8ee5b752b8a9265d96ab56a7eb2dd6e9947a4abaaa29312118d041d85c7fbfbfbe170b8b5d5d6755dd73509b8c1790940afd8b65d96a56118b77e61b7dba9aa8a5992000cc99d4a90210f6bdc08d01f4551e8ba7e690a92e8cb1d4ea7932ccb5996edf7fb20085abf8f06252f27bc49a0fbe3e38379f7f2d6ba8ce398f88a5af167e616525dd7b4d7134514a0cb41fef8fa24034591ec0a4017eee493136459cef37cb55add3277eabafef8f8b06d1b7546000c030fbd9ad1e501f4aa956cdb6e0925c330822078245ebddbede6f37951146118966549cf51deed76d0292f24bcc9c0b05e2bba9b91dd4d073f555569e7689ee777c2174f3f21f467c4aa024f90e7f972b9a4b3832449f23c2fcbb2f3f97c3c1e379b8de779adbdf5f3f3134b0e80bef17dbf288a3b67c776bb45e81b8061e0a1a00f0526a03f5cd7a563dd92246d369b288aa228bada97e42a8bc522491259965b0713922547e67b282e131e98e338cef178bcfcd3b45c511485b9f0a69d49b3d9ecea7b00e00ee7f3b9953b6718c6d585b4dfef5beb4dd3345c40300de8caa0610882e0b707d9fd17f43cef7c3ee35602d02b7ddb933f926519ee02e8832ccb5a01c5fd7ebfdfef9f5bf364a13a8e43eb205ce4111922e24dba402d97cbfed2cb0dc3d8eff7b7da4dd15949a4f8a1d7cf8b0824f82d799ed3de4dcbb2f23cbfba98755d6f45dec8bc315c433001860f22fd3667350cc34be717cdd7d71706b700c0db93cbd0dab42c2bcb321ed2ddc12469b50f48d354d7f5fb6d3eef408abae92491d3e984428931e94fd31f8fc701a2dc9224ad56ab1fc389f4ff72c7667a1a3a5cf9db100a008aa2344f8a24493f46cc8ec763f3fb248903d7104ccfd3cf3c3be9f2f878faadb6ea3e2ef13c0f3714809ed86c3613b3990120d61dbdde1cc7f9fefe8ee3b8cba28de3b8a58390af31a988775555499298a6f9f6f6d66b949b48e8a2287eecd127cb322db6fb08aaa0cc1b74593ca7d3a97952a228fa7189aaaada7431389d4e5872609251acbea79e340fd11344519465d99deeca24f48d6713803ec0dc5630495af5d824faddb1857e1886b22cb7da5de1528f0503e15d14459ee75114b9aeabebfadfbf7f178bc5e3d5ff4f13044151140fce51a47fad0f4b88564a48e100bf7d82ee688f47cc8ebaaed151198c4b59965114d9b6adebfa9f6b98a6699aa6effba47bffad7d986e339ea669af41ef8e83554cd32c8ae24ee8fb7038bcbfbf63ec10007dd077460c00c343773eb32c4b55d5a2287e3bcabbc5e97422539c9b9fc0621c917f9fd309c46c2acbf2d688f65e91242949925ff93b755ddf6eb7c3bcbd51ae099886f09624e9415f522b18484606e06282e149d3f49156abe4175abfa6288aaaaaa669aaaa4abe705db7d9ab4fa7537f416fcff31e7cd6ee20cb721445e46ddf4aef5a2e97699a2649d277001f8097c234cd01623c90fa6048680541640e936119447837cf0b52b18411de646ef0b8c252d3b43ccf7f9b2e6e9ae672b9245fd7752d4912db1cf8963b8a0cbec7f2020fdaee9aa691c7eaf1854dffa66118186d028687cc1aed62fb9e4ea7d3e944bf422b79bb280ae6dbf56c369324896120dab66d32c3f2967bf7703898a6198661c7183b006044babbea00b8432b039c445398a485a769daa5b40a30e4d154f3aaaa4cd35c2c16e3aa6ecff38aa27842630c2c8391c5017e25bc9bc7ea743a3db878e8bd78b7db4178838121953ecc234e2d2766c714bb5b90e9a66c9fe2344de338bed54fb4aeebcfcf4fd334518b0480a020a002fa3e559baf9bfc472647465dd7f4eb20e2cdbbf0ee1ed6e84e333efe69ab880ea4f4daf26d86be05a0c359fee0e269ed9bf0c48381ed03d334fbde487bdaae1dc7e9a93393ebbaad697f2d76bb9daeeb4f1f64008086e17d5810de60b025dd2c3656de67da681ce6ec06cf0bef300cc755dda47b79475369c81d13ce247087aaaaf23cf77d9fb49b6ae5ff3c92015b55156dbba3f00c4c5575f7719ad0dd6b98a3aa6a9ee7abd5ea8e1fe1f3f3d3b66d244601d00526b5afbf028d54c060da81681686c7444bc023f78a5fe15d96e5d7d7d7886f91a497770fe80d29bc615181abe479eebaaeaaaaf3f9fcebeb6bf71ff4ef1c0e871fb5771886cd1eaa280a0a47c1909b9b6ddbe2aaee61d2917cdfdfeff7f418cb16dbed5655d5e1950300d320491244edc0f48ed7e66b520cd55f180fc29b5fe1dd4a8abb6349304792a42ccb5865e50de9aa1c37410070080912cee7f3f57afda3b9b05c2e6f69efaaaa7cdf6ff9c2e0860783e1ba6e4f75d7c3a8eec1ba219021de4110dcfa85baae3f3e3e10fa06e0097d32bcbb199965a06fe82e5a7d070b71ee8cc5cf5dcd6997bc6118434a4a928bcbd00cc2fd067d6f644551d0ff6dfee9b70fce72b94c92c4755d5a81a769eafb7e4bf6306f1305c02da2281a6c2ea3d0aabb210c43dbb66ddbbee5ad6842df709f01f020a394bae09c05535a6fdd0b78412fc2bbaa2ada5c202e46e6dadb300c121ca05f599224b61e4dd25f6db0584d9ee730a45e4a7247515496e57abd7eee15483364da98389d4ecbe572b95c6a9ad67a121b2d41aac471fdc1001445c17004d7c08ce89f22a75b1886b78ab6eaba9ecfe79ee7856108e31e80fbb8ae3bca781d046fc0c4ac565c8451f8e7474b8bfed6344de6cd934983595dd75b7abe0f1304fb26e883344d755d5f2e975d2a36ebbabef5701d0e87ab0e23d334d11e190c7648bbae2b6e51e5b89bbf2ccb51146559766bd8d86c36fbfafad2751d133100b8bf0b3dedddee826118e8a5027aa5b5f91383b0bf1a6f3481e65478b7a46f14455114b12df326f77eb158d03fb42cab8f3d6ec8d820d6f42b5096a5699a1f1f1f4418779425a378f1017884300c855e9fadd901a34086785b9675eb174ea7d37c3e877d0fc0add37614d54de243c84601434284777f716988144e85b7aeebf4f8ebe572a9ebba699a77dcf64f888dcfcf4ffa27fd8d7b195278238b63f2e4797e99a93124c4fd8f1019e89b344dc79d6dd19df57a4d74efb86f4396e5344d379bcd8fa16f584500344451a4ebfac0be3f49920cc30882c0f77db8c3c0c4a8eb1aa70c8fc27b761128389d4e5f5f5ffd251cf6da020713c500433b603e9f8f9b79bb5eafd7eb350fa13c3061887f67021f64b7dbe9bacec3042fdbb6cbb2bcd324f97038bcbfbf8b5b510f002b92245155f5f3f373b0d3565194388e8fc7635555799e8761882a45304910b6e154788761e879de30ef6680c6b3830d84802769da3aa495a63122a7d30995dea05795389979b9fc4cf0926539cff3d56a7527f44d52cc709480d73c6789e45e2c1643ce2f5414a5280ad77599f7330200c21b3c24bc67b3591445711c334c2fbf8ae3384551f45d4503cf25e8b84f8d5566d6204992e779f4f3188621322c401f8461386231454f90095e3d1534fd0adff78ba2b8d336e57038a087227829d23425ba7760c9ddfc75d472831761bbdd8e5e7ef582fcf9fefe7ef057abaa4ad3344dd3a22898ef86abd56a98129a344d3f3e3e06f8438661c0993431c9cdb308f13c0fd639604b5114efefef13fe808ee3f020bf67b3591886cbe5f2fe81420280589660aabb4d922449928c985f130401ea3bc08846e67c3e6fbe25eaecc7a3a12396653d577e55962511edcd170db22c931867f305785278b74892c4f7fdee5ba42449699a0ed6f66c30535251147892a6415996aeebf21ff73b1e8fb0cb012baaaad2757df888d3c00c50dff4f8d9747f40b124496118a2c913989ede4ed374f4ad86249923dc0db812de5114f55dd818c7f18f6d5c8aa2288aa22ccb3ccfcbb2fcd5d3aa288aaaaa3ac5abdfe9efa788e398c95f370ce37c3e7f0f0be7d71670451004a23ccb4110e07e0156388ef32287a0a669c31f4357399fcf3f7654b12c8b93770bc0d3ecf77bcff3e8a139a3936519ee0b18912ccb2e1544eb873de1380ebdfe8fc7639665711c7b9ed747632cc33056abd57ebf7fcd1bfd4cc4dbf77d26a365c64a8e354d7398e8e590221f0c1f80e20d245900560c5692c38ff6e624ee4de21eaeebde092948929424896ddb58a840ac805e9ee74551e479ce5bbf46d406021e1e90cb8877eb8713435114d3346ddb7ea9e3ecd7c2db75ddee9da5c6b51b987c0408efc90b0fd7752f8d0349929eb61824499265b9d7843a649b83ee5455a5aaea643a998ba8bdabaaf27dfffe396559569224c88c053c437253d334e5506cd364593658c123008f0b6f213aadb4a2e245513cf1b05b964514f8f40fb5e1930f0dc3381e8faf903c8ccc1941b95a496159d6d32bc7b2accd66733e9fefb42f66421cc7b87da0234fa7969167c4308cbe4760f4a7bdb9cae2de6c36f7afa42449c88f057c66920741d0f779c70acbb270cbc0e89ccfe7963388fc9cab87851c49a448e4fe592f4912fdaf8f5b059665c5713ce18aaad9e30b82c91eca4319ea30251310de82b2d96c2eb78fd56af5745f83e650b72cabef25e7791eee20e8c26ab57a6e919363b2f5f808a7c079d3dee7f3f9c77dc3f33c547d034ef4b6e338c23df5f05e015e24d9b5388a280eacc775fb8b2bf087c4619665dd77524dd338a9a43f1e8f10dee0d6da68ed719aa6913e134fef32cdae3140b72a086fd0d16e7e62d5398e43fe77564d37a1bd2fbd21f78f604551201ec088e7266f9dd21e475114dc41c00974ba996118e4873f76dc9c3c1353e0b31f2537938e7641107075c920bcc1555ada9898e0fbfdfe69c7d36ab56a34099d96d353bd43b35303f05b9e4b6b6a123aee87cafbe88cdaabf6e6ade1eaf178fcf11ac2ef060626cbb20132b97aa539a301189d966548dca983050bf987b4431fb75ab92fe17d3e9f894e98a405f33d54e6063611e16c884bd5dda5c88276a5d3fb29d93b20bc01cf5ea7c783c3e7f3f9f2ffb52c8b7e705adf0a9111b7d96c78bb473fee1b7c1eb8607a3ce2091202946900ae1eabd67e4e7e8ea0f7e549e7799ea0795eb34bbdcdca7f492a63f9fcd8c31c18d84484161ee491eeb2dfd101a896f0ee29e28d9017788e27b2c42549daeff797d5198db940ab44499206eb6ac9101e9a92b4d8eff73fba30387cdb60329042eec998efb8a18067439454729dcf67414b390670913b8e13c7b14061f0594f3b29a98ce5f66343788316ad7e9264b3eb98e14347cc5ac2bb27ff25bab382e72ce9278a29369b4d1cc797ffa3e3382488d4aa1817d467dff48de38a1fbd18087d833e9858e4edb72eaae3f11804411004abd50aa172d0932dda3a554997b52e358f2f82a2289ee7911142bc0b6fe6ce4bfeddedc31c1ea2d721bc14ad6ecce4defdf6d1501485de196f194d1708f60000200049444154ca8661f4e4fae13039160877cc3f421cc75777d156ce05fdcae2d6822a8ac2a188cdb2ec7e0c84e7a4332022930974b7f2da1ea4951644527eb02a40dfe6e86c36232bedb9eea72f9b8bbe5aadf87c4267571305bb94980aa13687497a449b59411df9a436fb8970376d07b7caad0710de9224e13e82dfaaee27f6ffd56a75b9802549ba1c23dfead12a743e1b8722f67c3effe84416e55006021d912f28bcaf4e369124090f1718e0716bbc3c3db5079a7618dc711cae8252fff8be5f96252bbb24cf73555571a781701445d17c6d9ae66c364bd3f4b72f5255d5881fc1f77ddc47f02b5cd73d1c0ebfdde79324d9ed762def725114aeebb67e9f3e0e5aff8b58d475fdf9f9a9aa6a1445e33ee634b22c4751b4d96ceee42cec763b5dd79324c16a074f93e7f9d7d7d78b6f9557b7051cbba00fa228a27de2755d9ba6591485effbd3686a3818a7d369bd5e7f7c7cc8b26cdbf6748e42e17cea88788376ee070509dc75dcdd868f78a3e40cfc8adf268e6a9a1604c1d5a2ee4776da29990b8ee370b5bd9fcfe71f33f9f92c56074230555bffc1a7f86ab81b961e18381f8d8c11c174b1ab2101f2df47eae6483fb61163e0ff74fcb48aa26c361b04ba81d0d0e1eed9ff86e99e78229a405318868305c70cc3906519b7123c1ec059afd7bf5a60aaaa2e97cbbaae5b5eaa178ca6aed7ebf97cce4f245996e5344def87beb7dbadaaaa4f24f28017a72c4ba1d355ba73ff310fc3108b04f4b1abe7794e17301e0e07d33455559d5eb7858e10b3a4aeebbaae49afa53b47615dd74d0c9c55d2f770044120a8071d116f40d36a9a721903ef28890dc368957f330f20a0c01bf417eb9efde7516ef9987edce2a61af16e3de0fc74707964ba3242dfe0574cb8acf44123edc7301a2abd414f5c36330f82005dd6981fe2971d6ab88b781353230c4341836cc3c421755dc782166e3d34b93dac74c26eb7dbed76a7d3a9f909a92167eef0cbf31cb712fcc86f63ddb447997e4cf23cff7125d307442baf6432ec76bbf7f7774e4a3d5555cdf37cb55add0f7debba8eed023cc88497ca23166c9aa6adddef92288ab04e404f3aa2f5004651841463e687f862b19065799834d55f0b6f4551e238cef35c5c555914c530e97648fd1551783777ad8fadcdb22c4dd3745def23b90549a4e0c7756edbf613aabb85e7790f9617d1c7445dd713ee0af3f5f5a5eb3a27ce05dff7f33cbfd3affe743acde773dff7f969140784381fa7a76a981cac7063815e57299d7552d775922468b1c69cbaae97cbe5dfbf7f5dd7edf528ff9df0f63cef6aeb5a51c8f3dc75ddf7f7773afc08c055fa884bcbb22ccbf2c7c7471f2b30491298d1e08ef56c9ae676bbedf22224bd3c8a2278152f2105789c547d132fc0fda22ae22c806600a0a3a83e1c0e82558a02a1f07d9f2e574c9264aa19643cb05eafdfdfdf4dd31cff700c8240e84a8981a7509259d040b89a7fba1b39bdd30981e80f2918ac3fea131bda134550ad6ec02fe2a4bfd3e67d9412c11f6f3df60d7087093fb6bfedff7207f4f401bdf2f852046ca55c1cc76cbba23cfab7254912ba1dcbf03d005bd3a400cf645946fb651a81b1d96cc4da23447f4ec130dd597eb5a2ba8cce7a4de13de3ac81d9f97cfed1efac691a3f2de200843727c2fb71e73b8437e8154c111bd7b40e8280550fc54753cd7ddf1737b7d0f7fdee658dbf05cd0f048274246abe5d2c16248dc7b6ed8113253a52d735babc009aa2284cd3fcb139d055d7611cc755552549c2aaece27576c5ed766b9a2627d980b22c47519465d91d1571381cdedfdf3118095cc261431f49923ccfbbdf44b03b49923c5e1486920d004d213a8ee35c0dd392f2efb7b737dbb687eba624eeb084cba0256970d5f71543f29ed03911922435f11fb1462622e80de8e4b4270cd347e6843d17f11e668e23570fe36ab5e2673d9ccf67cbb2eebf674dd3301b09d0f0364ecc300c72c6b5b6972736bafb0fcbaf364f987c00116fd1217bc2f178741ce7fee36f59d66ab57ace527a749b1377a5b6ae1d499b1ce0fe21ef48385aee1871b5372c00f0fd6c4998e3380c1d37adcd56acfc11863a812b29bbd96cee9b14bcf90bc0b80c63323d48b332ef677074b76c7feb25c4b10b383cd0c16f853731fbb32cfbd149ddb8aa8320f895d5f4d05b1972b0385b5ab549a4e7cd30220a4103e1389fcfad839cd6de02ed7a087a83e78254ccbb829dcfe796a5fbb227fa6fcfe6bef7ba1fef056ffe0230229c3c44c4167da4674147e17d19b381f0065cc919d093f19c65191189bff2eb9122f0078ff8291bf1ad24734dd3cee7f330d91a68692e2857db5035cda51ee90fcc099665e16ebe2ccff9167beac50de14d1fa68ee36c361b7ebc333f86bec575bb03863c18fc192012b5d96c584d1bb923bc9ff8bc7852006f9e74fed1348d246cc771cc8975dda56dc483f2bbbdb55dbe90e77982aed4d6c721bbf630e16ec89e89696f72486f361b56bef601e0c7be0743f2dcfaecaf9ea81514824fbdb9e041106c369b717b891f8fc71fbd215c756807a3306ec217a97fc9b28cade7eed6a6f75c6a3daa0bc1c046e904684e169e9df28aa2388e431c0459960541e0388e6118b76e8aa669f7cdef9fffde34c2dd240b68b0e60428909bc03677f5a12233fdb22ce37f1f44c2f90bf29cc9d8eb5281f07ef016188641d47810046493c9b26c9864ef1fef8b244970e4bd32bfed34c6501beff77be692fb4e54e9b2e2ec415097017a7af458a578f02cbce91c13720e5a966518c6af3ebba228e41865f5f67e0c5f5fdd9ac85679270566b24133fa2e3666e560661f06a28acef178bc1339d434edf1d60b23226eba0a788ee7327a7adde721bc5939dd8dffb02c2ba0c8fe97a7bd8d8f64fa1193425114cbb210e2c3ded26b51c6f178ec4972d3f19896c8793adf152b04f4a1ba45296f7c8ee610a1cde956caf0f97cde6c3641103cb8155896453cd7711c3b8ef3dc05fc559955966557ffcaad10ec2ccbb2cb815ba27bb85b916d223f0673d9a2c07b4af2fb96b5411aff3e37ae69947d0dbc025c2599437873154b370cc3719c46ae6f369b2ccb5aeefcdfd629689a062ff3eb9c86032c5762347f3f36fa8eadf0deeff74f8716c51dfd03a0ba47a4790669db40d3b43b9765b3d9388ef3c8a34afa8d6f369be3f118c7b165590f9aeb745be5c789e3f8f25d5d6d9d33fbbec84e24e9ec42a7cdb4fa1090cf325873028419a76770789e77f58925611f9e1381e0067a1df82c4d84f01622964e52fb9e70233e67a300116115f426462649d6a0a58524498d061ec0a34d0bef8e45ece8ac06d822502bdf8e8eb6464eff367f64bfdf7b9ef7a0f9ad691aa9d3f63c8f3ee914459124a9f5225d44dce52679a9bd67c4add264a94da34c854e48687c2783a923582153f53e064170690d9022109eb748741c80f01e3143b2b5142174a707c27dafe383ee987ce1791e6d20b5c60d120b75b056528d5aeee850403b15c05c754fb59bdae5b373756ff9553ce0570abcd1db8aa2689a46eab65aa95e1d85f0e57ed232c2a7599772f98107ebc98900e3e42d8f4b8d4db4f79025703ffaf6e85d1b660184f78fc7de30bbf173ae01c03f7037bf084fa77f4b927469ceb6c25c24297430c9418cfbee0737fa0e02b6e7f88ba8eed6d9417feacbfe0b8f2bf08e61b0fb89ee4f6b6fda95f0cff4ee629ee7f4b7a669ce66b3244986f9ebb66dc3089b30aaaa1645d1ca985d2e9755552549c289f63e1c0e511435dfd6754d7f0b4083aeebb808a03b699ae222bc024f5b38a669aaaa7a67d9489264dbb6ebba755d0ff6715cd75dafd75d6cf42ccb60f501562449329fcf877c0446a7280a5aac5dd5718fdb3351141545713c1e57ab9565594f643a33799c2fe5401886ffff9be9b98b5ac16de20519de7903a64d2b69b649b6e4447b5f569e63d80922de975cedfc818837f82dad3eb460aa3cdda4f66a3d027d48398e33f0b4f0a7fba54b921404018e54c0167eb22687a429a86e19d5acae2ae9ace679de83cf3b43a3a8951fd4d4b64c5078d3d148b2d70fb69a9167fe52b41ee3e6a1e2a1de9bf4ad19586201e184f773095d10dee06af40f5204f2e071eba81511d96c3642cc2b46277fc09cab358c2f42e3926b99073d3d65644821a9eb360ce3f2b2336c59d22a9c69f6c0090a6f5a0e11b13158bd04fa99bfda5ed9f2829352ea21abd4ee180797ae018c1683f06e3140752284f7eb40862ce249c43ef3c86ed3aad81a38dcfdb4471b0b00b065b3d9bc5451f7e5a971d55a18725200bd17b10da0b67639723efe33ed3baaaa6a9aa683d54bd0250a60f2a8aa4a3f54755dbbae4b7efe3fe51c6370381caaaa6abd8dc13a1d0081d6302e0260455dd79f9f9fa669966589ab31554cd37c2e34dd3a80e8026fcbb2f86f1310c7f1e8273b98125555f9befff1f1f15245dd97a746735ed0f1e7e7cabcbb6bb7d3e9c4f0957ddfa7bd2a6497fb67f23775b09b475a83602b7929c230a4778aed764b0e66dff747cf9a4bd3d4344d3a2d70bd5ec32006340337571bf2287d0e5268fab2597f4cd8ed76baaec3cd3761888bf9b76cb7dbe6002acbf27038d01bd176bbe5f9235b96f5dca706e09685a6ebfad7d7172e45b32dd002b869ba26b46c946599ee6d5c96659ee71314debbddaef99a44bc87f9bb0877bf26ad86e1cbe592589cbeef8fbeadcf5aad142fbe05af0ce4e525beefbbaedbb445c5257a8ebaae178b856ddb5555e16a40783734ee989669cbff3ac16410c050679aa6f9f1f1c136b82a2e8dc6a62301b4636e00f9463742636bbdd3bb25b9e3138f78cbb23cd8ca86f07e4d4cd3f43c8ffec962b1288a62f4f487ed765b5595aaaadd83de5555e53740085d5c304b4c51143a33455194e69aa8aaeafb3e1478c72d485555fed31cc06f5155f5b981de8df06e0d12e3fc1c711c075539a03ba400f0eded8d0e1082e6f16fd924439e1df4037e381cd8666cd1d9e645514cb0b91afd695b8aa857d0d0158d5e690bfe7c3e8f6eac93460ead2670bf6a6f7e3c1e0dc3688d79b8dc53866c83011eecf6f723c3dc35fa2fb61a8d8c4e6b61df6f0cb6dfef3dcf13a2f1f2d31886e1384e1004411058966518c6adcf6b18461004fbfd3ecbb21f3b03799e471a4f822975847a6e8d916d87fe8965599c3797827507bab35aad5eb989dafd7367f4fe6aad41896c5bacd17d8e832098a0f01e45ed9026d2e065b994d98ee38c3e95b1d93be87742f7907cb0d9e68fa70599cd00eb842bb72327d6e4589ed0470440abedff831764b3d9388e332513cab2ac2efdedcfe7f38ff14f0c619a1ecf39a10cc3688976cec717631227e8481cc7d3f6d8b2b2545b1a75e04151adc000c31106ad615b131f273618182406cee7736b6fe5c19e20f6746b00cc2346769665bf3d2a60a008b4fb3dee7fe9c2e530797e8ce9d6f8a227566f96659ee7099a852e49926559711cb38a453f321407d398a6c4d3092cad47862b7fdc2518c30920b9fba6b962b491c070a4f673363cab903bbd551a86f1e7b74112fe314d73f8f2892ccb50e30df23c9fcfe7b41b6ff4e6198661903a1955559b37e338cefd0a96b22c755d7f62c4c57ebf47e5f0884451f4f9f9795565cd6633fa860e33bfa7f5440441b05c2e47bf4a9aa6e579aeaa6a73414895a92ccb5d3e296979509665af07902449cf3d62aaaa9232365dd75555ede339adaacab6edfb1fdf308c244950313b01480f918e93901445715d97876de1d6db431f13f0044992846188f6690f723c1ec9a140db3092240ddc76314992c562d1d2deddc719d8b64da63648929424c9bfd3bb7fbaae0f2fbca1ba015906866134cb8f873d77b7dbe5796e9aa66ddbcde08a1f15579ee7b439a5288aaaaa978f15891936fbd428c92680c675ddabc2fbd2381ea5f91f0f26ac2449699adab64d5f13dff7bba86ef2ecd3a7405555a4532b91e2cdcf8ba2b86f4934f2b839cec81b6bbee0195996f33c8fa2280cc35b7a8c0c1b0bc370f4b90fa0fbedb66d7bbd5e777c70786e698e1162e0b7e4791e8621daa7fdd63668fcc2b4ddd2fc7cb0e7bd2c4bda0f48ecdb2efb405555cdacc4baaef33c9f21fd8909c8a80157736b7980a4ebecf77bfa87f7b3cde9dfd434ed56012769abd6ea1b8135c0ff06489aff0df0665ac59ca3bb662449daeff7ad8c7774e8600e69ca78ff5e5896858e6b13b8d11d1fc9cd66c3b3c7168d4bc0af1e87e7bafd83c6743c9fcff4cf872ff4b8da17b94bce79aba86dbfdf4f709cd8286181c1a68503ce21416faede12097aebba4e97afdc59b1ad7ff27dbf71d7b5a8ebdaf77d8ceae58a300cefd74c4a921445d130fb64339f93e8dbd1974a1445699ab662746c078780d96c46a688ddefe24b868de1e814fd46773cef469fbb79df678d9a08f0f8c9abebfa2d636914144511a50b49931726cb327d6a0c3f8d92e46db52eda62b108c3f00903a6aaaa288ae83ba2ebfa0485f72825a618550a1a384c4e0bc3b065e2dc59b1f43ffd58634372819a5f8699c2035114c5717cf5b825e5cda318bbb22c1f0e87112f0b713cb7aa49e3384657829e2083d0ef08b3baae3f3e3ee0bc13fd2e3ffdff721e1e449e397850349aa6b95c2e3bf63b60cee974fafafab26d3bcb32ce2b01e9822cfa441ea53cedaaf65e2e97aaaafe4a7e5755659a266df6fcdf6e895c5f2620591130ccbeeb4975b4f27e6fe579d289b88ee3fcaae5ecfd49c86060c898e586e1337b69c37adc833f8ee356c6d70c7df8b9297f501405c3c6c4e5e9becda40c8a4f4930ccdc073001c5c1ff68494dd38ec7e323832746e4ea79317063f33bc630bd330441f0a335b5dfefe9ab2d4992e338a474659ac5c9a32c1ad40281060e773745515a1e815bc533ad9aed5f5945b09ec1adb534a279ed384ecbeb04d53dbc0fe8c78c47748810944b97d6e30441c0e71c6fcc8805bdae7c5618861150dcca2d27fd4d8ec723b799e78d865aad56fcf8bf3ccfbb6acf13211d044196658ddd4bbc1b9ee75db5761a931bc29b1988f581ab7a83aba037bd83dc5ab14f0b6f8408400b3a14369637ca719c96ef19394a63f163e89b446670a1847ed29f500e3ccb0000ae42ebc3e1d3318837f98ea3f3ea63459a84f1e9ea6a74692b6d79f427f1c161ec772c1cd287f8ff4b54c81e565896859d08f02cbc1545a1dfd8ad88dfd3c21b214470c707dac53467aebad14f7b2c7e0c7d4b92042fb670f010fa63bb6fe09e823b8ca55d2dcbba3f92a6f5545eaa41a2007f55423870f072f4c6e65de4f7a51427b906ff631741f63004c61ce05978b7c48fa2286c853727fb23e047628d6e3d9fcf67a86e0ef931f46d18066e93588ce259eb3bf806000faa5b5194d56af5c49678d5d149b4376fce32bab8833eb5b92a4122f2fbc1f43dc3303ccfbb8cd84f53780f36cabba5491e774401086f6eb3e99e13de08118016ad84b18153cd89ea6ed91c50dd5cf965ee4b35499270a40ac46482dee3f6730250ddadd5d86588f4f7ddc1d45c3db3f473f7486ee6b88717b18d5ba1ace60bc77156abd5ad9e4710de9dd86c36f47547b639104b785fddd09f13de3091c158fbf083aafb32e30b8ccbf97cfe31e391dc4a5c2b219846d01bbb04e04175933a29563bedadd3902bed7dd578e0bf21cb7ebfdffcc723a7d53485f76013c5be2f2a256022008184f7555722fde66fb5677c44c003d82823aeead68860a86e9ecfebfb824d5114a4fe0ac10482de48dd02a39f68cddc29b65ece5bda9b9f5e6bcd19ddda4926b690fe99816e79e6a669d23f4cd314570688429ee7973fa4977451143fbec86ab5725d171713b428cb7214bb398a22dbb6b7db2dfdf32449745dc74de110d3348ba2b813fa3e9d4ef3f93c0c435c2bce715d5714a7f3552449c23203b7d6f67abd1e46722749a2aa2adb57966539cf735a7bd7756ddb765555499270a2bd1b83b375585fb554c505c2fb79aaaab26dbbb5209224c19501a2703a9d3aaa2345517cdfc7950497ec76bb81ffa26118511499a6d952dd711cdbb68d3bc22db22c4751743ff4bd5c2e755d7fc41508464468e1eafb3e73c103a0bac795dc77b4f7e97422276392243cccf7be25bca7b6ed4f352764804bd7748a6ffd1ce31f01edf51f6b7cf1835c6689d3d535adee119760f00fb8caf02dcd1545391e8fb7bac80021389fcfad1a81cb63177b0ee7dcbf83dcc27f2929986486791f89e5f78fe696514ada895f4e0019f719a4ade889f5cf42c4fb79eaba6efe4b83a037a0113dc1f5743addf9570412c17dd7f590d12ad3340f87434b75a30e422064594ed374b3d9dc3201ebbafefcfc344d73944206f008511471ee6ebef5b671ef408b5e63dd8661ecf7fb5ea3dc572dd256a2eed7d7579224241e3eeed53e1c0e555591af7f5bf3281010deec81f00634ad2e00bc71df7ebdffaf9aa621310f5c65e0235cd3b4300c5b4e22a86e41b16dbb2ccb3b81d3dd6ea7eb3a3aaaf089aaaac2d51f799ec7f9490da6a4ba0dc3c8b22ccff3510233baaeb7ba972d168ba228745d5fad569c580ef495e95e1409e13d04238eb5389d4e3008406b9315f49ddf0f7743d5805b0cbc07565545271f917ead589fe2f248e8fbe3e3833407c2e5e28d300c051a2da6691ac2dd6018d5dd48ee711d3daeebb652e8c95eeafbfeb8a5228df06e5d9f29f5579bacf01e3710874d1cd088956dde78167fb49cd0261adc3a3b2f6b707a85f610499234562401b0e5c7d0f776bbbdcc9c043c204aea9fa669583f8086344e66aeba3991dcf413da6ab4465cd549928c582ad23c8cb22cd36f0fc21bfcc06eb743051a9476b35f08948f9d244973dedc0f77cfb8cfa2072f687343754f0c12fa8ee3f8962d48868d61b6026f98a6c97f9735a2ba6559c6fd0284b22c2fe7624c4c72d3d629bdaf6eb7db300c65591ef1043f1c0e8d7aa22fd794f28821bcfb02d3205fdc58bca5c37983ee5a9124c962b178f07f142893100c49555503cc3bbd634940754f0fd7758ba2b853b3f3f5f5856163bcc179ea9fe33850dde0f2f86875e89ca4e46e2cd596a05d2e97699adab63da2d7ac794bf445abeb7a32db3b84778f4b07b5674014e19d2489aeeb8fabeed9d8d51c00d6f6259ee741754f155555f33c5fad56b742df87c3e1fdfd1d755efcc06db6b924499bcd867472c66d02cdc9359fcf591549712eb91b4cd36c3554735db72ccb11671334fb466b68ce641a57437833decd9bafebba467b7340e0f9743f9d4eaaaa2e168bdf7a7991670e2ea9aa6a2ce5234912f28c268feffbf743df183686ade0fe2e11044159961884091a487af9e7e7279357531465b3d9f02fb9e94d956eb456d7b56ddbb22c8f759e1e0e8726b84d07de2753e60de1cd92baae69ed0dd73b68e0b9b1f98fb5dc10dee041a2281ab8ad1a6d3d207ef50afc18fa26c3c6e0f87ed9ade0961c8ae3b82c4b52c58a1b049a85aaebfa6eb7ebfe5292249135269c5b278a22ba93d9e170f07ddff77dfa8703bf1ff2057d2569412e36df13652c9dd3fabb9bcde61bbc1e4110d04be2fbfbbb35b941742449c25d062dcee7f388dd50cfe7336ec14bb1dfefefdb8596656155bce056d0c2719c2ccb7053408b2ccb180acb200884de6df6fb7deb995dad5659968d6561928b793e9f5b0a6b020b0f116fc6c8b28ca037b81aa599d2c7419e1eb8c475ddb1625c8661208af56a906e6ab497b3c576bb25e1715cabe103563c84bb354d3b1e8f4992203f0bd090dcf2f97ccea48f9ae338c7e351f44c8acb2ca1cfcf4f599647091ad5754dd453eb0dec763b32f34c68262bbcc76a6c561405bd2c76bb1dfaac82d9e412b321bc418b344dd98e60f9add1805bf09a84617827f45dd7351936865ea7435a5f3c841cc864413401050d799e274962dbf6dbdb1b93dc7222b9932499c632b36ddbf3bcd64fc69ad4184511d9b45ba5e6ebf55af4e37eb2c29be13c805f713a9d5a120b416f309b56c45b9224041040cbd41ed70f8d70f72bf363e8fbebebcb344d38c187214dd3cb70f7f099e7685afee247529224511499a629cbf29f3f7ffefcf9339fcf178b051307f1c424372d58e882d9d3e9e4fbfe9dadb53feaba269a5f55d5cd66436f2087c34168ed8d5473f6946549a746acd76b74580503efce9aa6f567e8a08b156861db366d6a0fdf62039e20703ff44d868da1effd3037e2eaa931e4b6601806d2b25e16a287178bc5e7e7e76eb7635bf53055c9dd90a6296d3dee76bbb22c4769d9b05eaf49a1906ddbad10e6e1701037e77c9ac27bdca4b224495a0b02ed555f596633c968fa15411014455155559665cceb7324491a2bf508706b67d38b5c5114f865c02890d0772b5b9266b95c62d858df56fbad3119437a3de06179e5f368b158306f314006d14d5b721364596ef5c558afd7637de4464cb9ae1bc771eb5d899a503cd55e85e35ed5e3f1483b7715454103c957eb9679f9940db3f6e87ee3e7f359d3347a106277e238c6fd050d9bcde672850cbfe5a26b3168edc08aa2dcd92457ab15ae521fdc0a6b0741f03dd4b89969b43e069c18ff4472bfda7c84d56ad5ba0863e929b275105ad6852449c7e3115dcdc16c369be5794e07bd4fa7539aa6b82c2fce303b175dfa5214c5e17060d8f24a519409b49404ac68f5929ccd66abd50a093e60744845f7add0775dd79f9f9fb66da3e31a5bcab2bc95e1452266c304a211ee7e595a96b6a2289ee7054170c70d77df668be3b8aaaa179cfdeefb3e9d2f39e29082e572d9b4e7705d972e38afeb5ac4877d9ac27bf4f121699abaae8bb962e0962416f4418041031a484335fa3c761c47d7f5e16b2b00b84496e5288aee84bec9b031f8c41972c7ce21c2db34cdbe83de8aa2a0e3c32b431bde24e875a7fce10e41109465f9ca9186288a18ce39efe805a0ad50fa5d89d8450b11ef5ed86eb7ad36bfa43f01aeccebd87cf4b76375d365fb77354d43b81b34d8b64d0f8fd0342d8a22ac10c0153f86be3f3e3e306c8c158f64bbf41d8480ea86e945733a9d7e3be4c8b2ac09cce566723193241931c99c1650f4ded2da43840b0821e2dd17699ab67a5021e8fd3ab482db435a75b47f8716dedd774f2c60d0e0ba2e1dd9962489cc6e7922b00040dfe6631445ad8134345f5f5fa42b1bae5547d57d271fd5755d7282e8badeeb742208ef57260c4355559f8ed33a8e9365599aa618ffde98b29c187eb47bb4953893a6a9589e537435eff110525595ee6b85943630008df2a9aa8a56411d67ab388e0383063447e07abda67f4236b7e572898b03f8c4b6edb22c6f759a3c9d4e1836d691fb16cee974fafcfc241931beeff797c28a73eac5298a42d7f5c7230d8661789eb7d96cbebfbf9324c1fa69e1ba2ef3e1384f50d735ed02a0f7eabaaec5ea2cf367b066cb837eaa3f7f78781bc7e331cff3c562d1fc24cb323cd52f02bd08c97d374d7398f2d7f3f92ccb729aa61f1f1ff40fd334a557638324492452d17ca1691a9d9d25b9e978d400002000494441544952599698110566b3599224ad5514c7b1ebbabaaeff36a38f21d85ac1e3fab0d59b8046d334c4bb9ea0aaaabf7fff3ef29b8ee324495214c5fbfb3bf3b7a1280a6afa40a3c0abaaba4c80956599e424e2c878fce9364d73c4f3fdaa214a9b1c9aa68994b2244afbf5f3f91cc7b16559b41f8b742cdceff7addfe4e4da7a9ef7fdfd4dbf61c77130efe145682993c126a9ccfe1bad7475a0ddd5514f8ee3789e6718461cc7711c6759d6f2161367300097eb878cfab8333979c8350fc083e6c49d218b1836c66467b8033950fa4838b72c0bf70200e6ecf77b1e5415bd33b7f61c81e68a89916a4e3cd08bc562bbddd28eead3e99424c9fbfbbb6ddb8db7831fb707497ea0537c916dfe3ad0ba77781f7c6bac4be3d9755df7d24222cf1749dd298ac2b66dfa29b32cab639a3a980697b16ec771c2304cd3f4ebeb0bd70788024908ba55f54d868d99a6898e6bbf32d21eff65d775cbb2ece3f20e3f3a04805740d7751e12cee96cf3965d2a92bce2dc31703c1e1f8c139219f7bff5bcf64d1cc79bcd86fe0982872f02bd6ec9ca1c32e2ddda225bbec0cb98f62d2ccb3a9fcfb89be0725f25c1a5e3f1c843d75344bcc173a1ef3bdbb2244938af1fbc8cbf7d602dcb7a6eb4f27d70bf00e8899696190bfa19a75b45188681883703488f8407cb6249e53de95fcacf4788a2c8b66dfa8041d01bf44d599674ef2bc7715a258ba669e679fea3dd23491279a670495f9ccb58b7a6694d46cf9d56c68381e02478025996f33c5fad56b742df1f1f1faeeb6275dde709ab66bbddf6310101a71500d33e64e93e6aad99cda25c497e85f765caeb23dabbaeebd11b00d01c0e873ccf916d0ef36ec83fd7eacd7b75b432199fa3699a2449ad72474551344dd334ad2c4b3419025755779ee7b22cbbaecbc97e8b5950e0697cdf2f8ae256e87bbd5eebbacec38c526ec1c50160f2d0e2a5bfa9043fb2dd6e9be2cd567b3c51cc004e85775114a6694e63246c1886f4e2a8eb1adafbd518d853483f388661dc6add49a23d799ed375718661a8aa4a7e8ee801b8a3ba9324690d15034050c8a6772bf47d3a9de6f339868d417803f0b2cff876bba5374c1e5c00ad9e0ea26c44dc09efb22cc3307c7f7fe7217d9109bbdd4e9665fa38c729f50ad0be37a26047f1c65d0d77d36f4cd7f5300c9be29346724375833baabb288aaba3e97878dc00788efba1efe57249128570a15a8fde3462240080ab5455d5b224c715de74b6f9b86d8c8514de6559e6799e24491886b66dabaafaf6f6b65c2e27b66a49a577f32d22deaf00ed39d275bd2ccbe17d498aa2dc17de003ca1baabaae2add13daa70011348e8fbd6a4abc3e1609a26577d647810de7833004c5875b712900dc3a0a5eff01c0e874663d3416fa49adf54da511499a6a9ebfa9f3f7fdededee6f3f962b1582e973d35dbe081ed764bfb874ea793288e19f0f43a6ffd64943407dff7712f005bd53d9bcd38ac0382f0060c09c370bfdf5fad636c868de1101ff168bb451445d80a00600529fb6d757219258c746bdba17333058e7837daf8cf7f98a64952b03a1a46b66dbfbdbd7d7e7eee763bae5aa0dd47d3b4d56ad57df9d2df22e8fd52c29b74111ff83d489284703778ee48bb54dd455190138e9f866a34021d2840084856f9add0f76eb7d3751de7f88cb328d3e97482bb19005696c0a5ea9efd6f17a1d1b71dba879130b1dbd63046cff3eefcb2a228abd5ea89b9befbfd9e8759afcf41c6d5761fc24c4f6f22af095e64e0e1f1781c7edd92e1e10074dcab354d6bf6fccb69de7c9e6500307c22eeb4f0b52ceb098b684a70b815689a763c1eb17401781a9ecffa1935b53bcb32fae742ecc6335a2a3cae8d1dc7f9d5bef6e3c4609e59ad56dfdfdfc7e391adef000ff684a1e3249aa6398e33fcbaddeff7b811e0579ccfe73baa7bbfdff3bc516759863b0806d8d22f5dea2fbbf65a562f3f4892442c3700c06f19c564fded03de182dc29901ffccfe6b58f7f1f1f178d6fe7abd7e7b7bd3753d49921f2b6a7cdf6f25008815fd26b5fbaaaab24d61426ff309d37a2846c9486c0d5a00e0c7456b9a267d0ad075dd6559de9a4b07c0e409c330cbb2ab2104326cec35339cb92daa24a5f8a4551e562f008f9b01baaef33f28b43154449cbff30f31b62eafb26118711c675916c7b1655957a5f2e170582c16aaaabaae7b475ad0edef2449daeff70348028631f6f97caeebbaebba6c9b76e03c9830f4cd3d1c0ec337a2b8931b09c0555ac5db922435aa9b74e8e07cc4239a2a815e314db3288a5be5785f5f5f2f386c8cf36e46c427824e78003c425114aaaaa2614aef9ccfe7968d7e356fea7c3ec7717cbfce599224cbb256ab15fdbfb7b213c93f75af97fe11fe33259a12053031e88aeeb1923bd0440074c9a4251e528112cf66686a0006ccafbee3d97fa90c67217606ec0f00fc08e745dd973426caa5c6e43dd5dcb66d3a50e0795e1445799ebbae6b9aa6699ab66d8761184591aaaa699aeef7fb5b5b6d5dd7dbedf6f3f3733e9ffff9f3475555dbb65b132fc954addd6e3780739a7fdf12fc3e93844ef1182b48883c73f038799e2f974bfa275114354b280c43fe13cf00188cfba1ef971a3626d0c75c2e97c83c07e02abeefb74699f0cf4472dc1445f93140a7288ae3384110789ef7443ab7611844baf71a095414a5d5569a394cde3fda5f4d121e5a096e361bdc08f008970dd5e8905ddf1b294310d102fc84be25498ae378f2576080ec45e6789e87a50b40630088f814cfa8e0f6d51ff2ccbff43b7e6406dae9746aa21f8aa2689a465c9e0f46f676bbddfbfbbb2449bd460219965ac5712ccb725114c4515a14455dd786613009dae7798ec8e4c4705d9787598224b504801f69156f5b96d5b4892a8a02a3e001b805097dbbaebbdd6e5bff54d7f562b148d334491211dbff4c38e8f4f5f595e7799224b0bec08b5396a56ddb28ea1e987fbbfccfa7d389680c499288df5796e5476e61dff9b7a669b23a0f4cd3545595a4dc93d7ccf39c55936a649b4f09628135ebbf6fefd27d6052804708c390f6212a8ad2144a08d150ad6543e08682819165394dd3344d5dd7bd7c58b6db2da9d19bea4400414df6c3e1f0fefe1e0441188658c3e0654dd6d61c132080f0a68534b979a7d349d3345dd749c02dcf73122266f5762549d2755dd7755996cbb22c8ae2eabe6f9a265d67dbe5cfcd6633dff7c9ab315fa010de531230ad2ad911b733b434078f7059da9da669139db36d9b87dc0d086fc03fb66d9765792bf43d9fcf3dcf0bc370c2a16f11592e97c469820431f06a2449e2fb3e54f7d49024c9719c388ef7fbfd66b30982e0b94202a27ec978b3cb5cf9e3f11804015da348e6aa33295ad034adef7addf3f98c22137483640b5a9a83472abb5a9b1b5dda2d50b3e206cc8900a3b3d96c6ef57fd1346d7a5d5da661a9be42353e00dc9aaccf41cab9e929423351ba9af77751eaba5eafd78bc5e2fdfd9de4f3846148c6925996f5abd72127599aa6a4bf7a9ee74d26b9aaaa2d47b26ddb0c43287dc77c10f4169d288ac2306cb97ec67d4bc833073fe2fb3ebdb9d1a5dd4992a08d39004f4042df572d1c92de8cdc66de20d5f8adf93e004c952449846b607e5fa6d1df4eb5a8a72b866104419065599665cfb5466f5014c5308c56622de9e72ccad540275ed1c3862d996d18c6ad31335854809fb81cbd6024496a526fb22c13f764c19d059cb05aad6e79600dc3381e8fd3f8983c8cf06085a2284284cb00e8b22f4de681254f6bcb9841a2d043a692e7796438996559dd438524cf7cbfdfc35804031004414bf15e4a71086fc09bb7a8652e37e6e67ebf1f7df576013717f0c3f178bc55f22649125dd9212e820e22c2e9095e10112bc87e14deb411ae699a1037e2df712fdc6eb76b7aea92c669aaaa565545727e9e68cc16451149a51065e920d55c5caaaa22ebadf197876128562368f08284614827997b9e47b2b3aaaabada991900f004aaaae6794e6a915a8f555dd79f9f9f64a8153aae71c572b924936b705fc094705d7792156474aa399e590618d7b8fa9b92241986e1388e88a91493c93a7bf170771cc79cb4ac80cf1edca29549ae284a93643e81e01532458170a16f521c87181a57489284cd044cd5589d06e409a56b8d45317dffe5f9b2d203661bc8553e1c0ecd9c64923649dc1e7ffefc116ef5144581691622bad95ae16ed334d1d50c704ed3418d1045117112bbae7b75bf15d7f90d0027dc0f7d7f7c7c883b6c6caaa60b19028741df60022449d29a1b3a25e891d2a26c47ff887895c9856e0eb0d37f086a3822db5c445a2654144548d3059c1345117d4a59964566404ca68d39f652c02dbeefe779deea054bf8fafad2755dc4d53bed98c172b9344d13ddce81d0aa7b4a3dcc696459cef39cfe8928a1af7fb02e6f3158e2258c45e128cb92162a866114453181802198305555d1d11b4992482f8c3ccf277330b78e6100b882a8ebab699fa7d349c46163934ff2daed76aaaac2480350dd1c6e3ef4894fda8441788b4d2b27b3578318575bb8ed8cfed6b6ed0967f280691045119d9141525babaa22416fb6388e13fc87e77957a37c7d70381cb09d02ce09c370bfdf5f7d2896cba5aeeb02554cbc4275555dd7efefef74651900fc332597fa2d688f98407b1184f74d6cdb1ea6710822a5c291a669f3b5a669389201e75c76e0278e45d334d9d647689a763e9f9324f17d9f94b6e6792ecbb26118c3c86ffad904805bbd7a2bf47d381c745d17e84c99de44b1ab7c7e7ebaae0bbf1e104591f6e152e7d0b9d07c4d86b3008121e6e3f97c1ee65041d345b15ad4d2f78ec3b9c7e86a0e7eecc0fffdfded791edb85d7f448df6c3692245d3e1a772653b082ccb60040086e85bec9c3d24c1ce0991711de8d6588313480ff5d851fbb5492a4e3f1c83c8aa9695a6b448b406308fef9f192398e13c77196655996ad562bcbb238541acc391c0e7ffffe45b37170dfc736a39afc01c02d747184a228aeebe679fef5f5c5fcafc8b29c24c9c7c7475dd7978fc66eb72bcbd2b2acfe3e2922de40204899e2551718a92ee67f3dbf54a089e423a0e41b704b55555c35fab56d5b55d52449c8fc2956c8b24cef8d922409bf11699ae679de1dffc166b3f13cef1514784fb496205c7402d1ab6c600222dea0b55dd3cb238ee3f3f9ccf6149ccd669ee77d7f7f3f38cade308cfe8e8ffd7e8f9b0ec422cbb25b8f24e7eb79922382ef234912491a02803706eba8f2dbe3f841dbe0412ccba23fa9655902dda3b6de5ead56bf4aa4d96c368ee34081ff0ac3305aa630360b81e07fb54378031a3acb4b92a43e6c659264dedad6c8991204c1d534b3feec03ac7f2022e7f3f932f4cdbf41d94af87c1d88ab11003ecf7a4e82b8370567375a9f542c47d82ca078ba76e57c3ec771cc9ba3854f47691004adf3555114ec17a220849101e1016eb98a3ccf6b352960429665977565a45306790f776a59fb3eec0110eb886942df9224f15fe6bddfef5f398822441d3e780556ab156f0fc86ab522efed783c1e8f4786fd205ac686588f21e3582ba9a19f4000fc7c3e67591604816559dd7332494ba12008b22c8be3b8e5aa112b47e2c561de8f0ac21bf44a2b0abddfef993bc53dcfbbafba1bffec60fe78344002e2d2b8e6379b8d1876e46b475304eaea0426ecb0e353497d7f7f1b866159d66ab5625ee026a8abbd972467d103e09721e8e3f14804731f1f0ac5420221c4aa86f006575d45c446647ee63da2ba07f6ca635305a22350ab02141b36913d004671d571f80c9209234d94bbbf7728dcd3d76f75f17ebf17b107dbfd103429650c8280497f2064450a441f39ba10de60305791e3386c63cea4c9d0e3aa9bc0b6c9ca9d231f0030002f3551ecce9e83b4738007904eafbb6cfb8204b7ef1fc7897544d7f5288aaaaa223dd87a4a33e8e36ddff95759966ddb0ec330cff3aaaa8ec7e3d33adc308cd66c2ac033b85940380e8703bdb3add76b862feefbbeeffbf4e4124dd3f23c9765f9ceffe5ba6edf39e77854010043b25eaf4dd3c4a43130306118ee763bdede956118aaaabaaedbf71f521445b8c1cfff0ef3676cdbb66d7b369b154591a6699ee71c2e940785770b55555555259f6e369b55555514455996655916455155555996a7d389fe5f344d334dd3b6ed971a8039014419115c96256e16b8d49f6ce5a865595114d1aa5b922432cafbc7ff3749923ccf5b1b23434ea7535114bfdac90100a00b87c3c134cd344d61da8161288a62b95c72f8c67cdf1f669c7823be20bcef69dac618caffa3280a7ea6bdcf66b32e9ba62ccbd87327495996dbed16c21b88752af724bc4964bba5baf33c7f5ceb8661b8582c7a753a4078030086a4aeebf97c1ec7f100b13e007cdfa7bf95248907316518465114c318cc223e68ff8cf8b74dd36c12b69b2ee23d3530fb9541f948c406bc1aa284bb016868b960181ec987c3a18bea26e7255d9bc3bc1508b2cd0100a3b0582c9224c17500bdd2ca1de6a7f5afaeebc3c4e1154511d1bdfe2f27ef83048ae95871511424673bcff3cb6cedfe809f125c05e728108e610a0e9f50dd04d3341ba7b8aaaa74397a7744c94f01004c527b97651986212e05e889d6ead2759ded19fab418fefafa1ae66f8998673e1b37e27d1f5dd75dd72521f1b22cbfbfbfb32c5bad568ee3b0eae04726cbb5bc4482de48d0b780e1614703e0575455c5adea9efd6f378db22c99775c43d01b800160952438b1b164cbe512fe7ad013ad70b7e7799c64655ef6b4eaef19173450fa8f40efd5344ddff749571e32ab6cb55a5996f5c88d5414c5b2ac388eb32ccbb28c4cc824af460b2ac77184eb8f070640ace37300b90584a06f6f5117d53dfbdf6e1a755d33ef8e01e10dc000b0caf6344d338e637e3266bb839c73d01374b89b8820ae5a6535922a8aa23ef68a99b079e6b3d96c368d2976c7e3318e63cbb27efcbc9aa659966518c6e56c334992841b07078641384f3c6e19e87becbca228c483c9ea1d6659c6f641d3340dcb0080be098280d533bbd96c4858c5f3bcc968a4388eb1480043f6fb3dbdc03ccfe3705ab3e338dfdfdf711cd33f643872dcf33c416fdf3fd3d8d7c8bcb8344dbfbfbfc9ccf05b06dce170d86eb7bbddae950e4106e120dc0d2e49d39443572200f7e9b5b9bda669dde775b5f6dbb22cd956faa03c0400b1205d9a755d9f52d19feffb98ef0d18d20a23abaa3a581bacc75531c9f5a0ed10c33018e6638adb90eb9fe9ad48dbb69324a9aa6ab3d93c12036f5437aabbc155902a0644a43f538fcc126352d849fbbfcbb2649e6d8e61040008c4e974221b57cb6f6818c683e61c87d4758daebd80155555d1e79ae3385c15554992b4d96c5aae810656de7081f3cc2729bc69059ea6e9f178bceca0462f91200898475ac094f638b44706822e5dce55f7e51b66be0fa3cc1b80be61ebe32392bb25bcc3304cd3f47c3edf31e778e67038c0090898d0cac1b46d9b1f1bd5719c61f494d092ed9fc9af515555499ecff178dc6c3641105896e5795e10049bcd86cc7bc0e06e700b41c3dde8af06fad09ccc5537edb42e8a429665b65635843700621d3744c6b7c43cd92864596ecc39cff3c4eabd722b0608c0d346a9a2289c187b8ee31c8fc724495ae6414f6f4fe814927f5f67b1aaaaaaaa2a22dbe01584775114ccb37681706b80f9c9cafc71a00f697242b31d467a381caaaa826b150071c5bc2449ad475855d5288aa2284a92248a2221ba39ec76bbb22cd14808747c2ee82962beef8f9b49a1699aebbab66ddf5ad8b41da2eb3afde69f46922471f3cc67af10f106e069cab2447f2620e8d265db11b00fd53dfbdffe6ae459c350310040cb5ebff56baeeb1645916599e338fc7f28ec4580ed12b26d7b94456559d66ab53a1e8f4551f8beffa03b8995075cf4002a84370037416e189880d9caadea9e5d6b6ccedc938dd24a008483f61bfeb82798a69924c9f178bc33d106c21b4c4c78933cf3c166ee10b14d6688a669fab8de66befe4517deff621d0300931d4cf878e65675cf2ee2db7d343687b10b8058b4fc860fdaf7aaaa928936240b9dc321a0d88b00c347c334cdbec7d4298a62dbb66ddb5c952e8a5e47898837003755376fa3110118d8c2d3346df8bc0fb6fdd54ea753af23cd01000c5155b5d590e9575930b22c87615855551cc78aa270f5d1b017818ed035d2a669f6b79c0cc3c8b2ac2ccb288ab812ba866188deb405c21b809bc21bba0b8808c3de04699af67dc8d1c63159b7c83607e0958577ebfc7a7c43288a228a22d2ea69b15870e83a87f0064fd372485d3e290c25779ee7ccf53693c53f810ed910de005cdfe0d6eb35ae031011568771100403f4e0a5ff04399899ff51086f00fa8349a7625a66d306baa6693ffafec85c585555dfdfdf3f3f3fb7db2db7d96a7de70683097375c61e432449da6c366c2537fd524c9eca09cceb81f00600963a80f06ea3284a188603bc5bfa1c258605737b62b7db61b23d00fca3288a2ccbb4f0bebf1b9465e9baeedbdbdb72b914a2340c1b1160852ccb0c7d5e96659565c9793c59f4416210de00407803acdeeb0ca3ba67d7268af51166c7130d00ff10371c2d276ed9d98de4162b376d02f13a3016ad96e60cd56c1cc7039495e1f181f006e0a10d0e00b15477f776be8aa2b8ae3bbcf09ecd664551f4e1d286f006a00fd8162dfbbeff6381775555224a6e82e87da10027b0724f1b865114457fc73d5ba93c81703784370057288a629849248aa2b06de04c7f04dcc79715de4cccdfc1de70eb60264bd7300cb67f65bbdd22c913009e85b76118baaeb78437bd3f5455456ab905edc0328d4459c009dde343711ce7793e40271700e10d40bfdbd923073019d55014c5f178741c87edeb4363bc2655557517de92240d16ee26d0ee27f2f4f5610a208d05009e45699224ade7b471c035927bb95c7238a0fb4126d090194c86fd7e3fc041cfd6d3348da10010de000c6da04b9244f78d5455354992388e71e5414798e499bbae3b703e241dd4224f5f1fa55c48030180e7bd8b4cf0be9c54ecbaaee892bbd95a71a3010fb2d3f3bc61922fd8da12d3281983f0066068e19d24c9e596e7ba6e10041c6ed0402ce3b5fb8b0c99677e29bc4fa7535114887803f022c725196244360112f4a65f9cd4728b2eb967b3996118e8ac0658d9751dd7d290c9170c0bc7eaba9e80f6fe174b19009abe0bbc2dcb22656c55553521385555755d0fc330cf7326f3218418ac02989fcadbedb6e38b388e337cc557cb0848d3b48f9eea887803c01b9aa6d19ee8288ae87f653b217c449a447a005e0d5dd7193ec84992885eb201e10dc0ac65f4f7fafab22c2749b25c2e5bc607f165c2230e9ea665b33ec758c9909665355e832449c230d4348d4c1763455dd73db54c07003ca1457ddfa75d6c799e4fd5651c45115a5801aec4b0a07f6bbbdd966529f4d384547300fe87bef351d7ebf5a5403a1c0e755dd775bddd6e59f539477cefd5e8ee331a311992f661936cf33edec960c3c90178119e2b6bf23caf2c4bfa794c9264f8229761701c07d5dd802b866ce3c2fc2867126380f006801706c86dbb9fcaceaa3c1b8dcd5f8a2449ba078b46347c5bc9635114f521bcb7db2d2c60004614de8ee31c8fc7288a88e95f1485effbb22c2f160bb6192efca86e24990326d0a163815a96a8aaaa280a5b6b07c21b808930f05ea6699a61188661d0bb12ab0a7308ef5713de1d5f415194114ba76459a687eaa569da532edc7abd364d138dd600181e4551489772d3344dd3fcf3e7cffbfbfbd7d7d7047aa75dc5f33ca86ec0f09414f49db3352d446fb106e10dc0d0c25b92a4fd7efffdfd5d14459ee7799e9765b9d96c244962f857906afe3a1445d13d5363f43c4f3a164d4e565665172d76bbdd7c3ed7753d4912f8a700188cd3e9b4a398b68b21cb32d1736201e05078cf04cf3687f0066050e14d86785f46f36cdb866b1c8c75084992347a0eb6699ab4d2ee29dbbce170382c168bbf7fff9aa619451126f001009848eed56a5596255aa502d01cee6c034bbbdd4edc231bc21b80ff7998fbfe137772686ddb6638f01042e245a8aa6abd5e777c11dbb6794863a3a3ee83f537deed769f9f9f6f6f6fbaae475184541100c013188611c771599653ed120740171b83ed0b8adb2a15c21b80ff638070f76ab5baef0567b8374178bf084c72ae3839c36cdba6fde20357621f0e87cfcfcff7f777a2c0f10401f023d3ce187f0445518220381e8f799ea3772300c308ef344d05ad1483f00660202bdf719c1f1de1484e03bfa2aaaaeec2dbb22c4ea662cab24c1fcf87c3a1a732ef4714781303471d3800577965e794a2289ee7edf77b32170d63ba01b82fbcd9f63617b7c51a84370043086f4dd31e1148baaeb3aa844120e21548d3b47b4360ae12235bb1f771270c1105fef7ef5fdbb6d1081d00086f4dd356abd5f1782ccb328aa29e862f007009eddc11d1c0639e0f22688b35086f007adfc824494ad3f4c11a5a04bdc1d332f5090cc3e06ac9a9aa4acf15e384ed763b9fcf5555450744001a5ea721826559711c9fcf6732781cf16d30aef01611dff7d9b6583b1c0e226e4110de00cc663d87bb7f9587c65005a14875da2449d2bd0319871d4ab8ad933c9d4e8bc502f21b80173962144589e3f8783ca669eabaaeb8839401181d599699a7d78918f486f006a05fe1ad69daaff69a560b8a2e35ae8216c080c78577c757e02ddc4d304db3d5de9fad9b1cf21b00264c35e22d495253bfedba2ee2db0030c1f77db695deebf55ab8262c10de00f42bbc7feb90535595de98ba949041184c7bc5762f8ee0d65bdcf25571584809f90d5e9cb22ca7d749c4b2accd66439a56a27e1b70452be14244b7972ccbcc0342c21dc110de00cc66bd15783b8ef3444491fe5ff23c7fbae4f5703820db7caa744f11f73c8f5bcbb2d50175b7db0541c0e1fb84fc062f8ba09d8d6ee96d52c29da629f3b9470030a1755e3f1de9651b737ee253b03dcd85db8820bc01e82bdc2d49d2733b027df09f4ea72e7600b2cda7ba623bba8a1445e1b0bafbce699aa66996655ce59cb7e4b7aeebe87c0e5e84b22c27e06ca2f5364ab8c18b307ae94418860c07859e4e27b182ff10de00f4a54ec3307cee20b76d9b1618799eb74a5e47f72980d1cfadee6b9e732bd3b66d7ad91f0e872449cab2b42c8bcf377c381ce6f3b9699a78e8c0e4715db7fb20c3515014c5719ccd66f3fdfd0dbd0dc028b075db0916f4fe06e0e5e923f1c6308c2e6f894e2f571425cbb2a7dfc9f97cc62d9e12c7e3b1e3e25cad56427cd2fd7edf7a360dc3389fcf9bcd86cfd07783e338c7e3116b154c72ffe1d6f975ff445ead56fbfd1e7710880b7df03dfd1876b44e59e1791eaba75b9224816e2222dee0d5298aa2fb4c26e61eb856b6b92ccb4f7b07906d3e313a86bb2dcb623ed2a327745d6f7dd8dd6ea7eb7afc2aab1500001b0149444154555565590641c0adfc5eafd7976f1e00a1a9aa2a0cc3b7b7b7ed76cbffbb9524c9308c2008b22cfbfefecef3dcf77df44b0342432fe0a76bbc3949f108c390d5095ed7b540952f10dee0d5e94397ae56ab8e077c2bdb3c4992a78d7808ef2991e7f97abdee628c8a5599e9baee6ab5a27fd2145457559524c9d3ad07fba6aeebe572a9aa2a32cfc134761e5dd797cb25cf32dbb22ca2b48fc7635555799e8761c8e1c444003851ef2322cb32c31471810c9b3fdfdfdf5885e09509c3308a2286e56a966531d1baaeeb36124b5194a22854557dee7d9ecf6794b14d03d334bbb455db6c3622f6ec4dd3f4e3e3e396c1adeb3ae7638d3ccf9b520b68f06a2449b2582c7850d74433102dadaaaaaaaab22c238e0d5e04da2c7c9a2008f8c9c652559555cee9f1781cbd6fdc23fc8b750c5e9c3ccf19aa6e45515839de6cdb6e76d8d3e994e7b9ebba5f5f5fcfe916d77571af45a7e3e05ccbb2049d9463dbf67ebf374df3f251adeb9aff61c25f5f5f799ee7790eff1780eafef10c25d6b37a01ee057871983c055c1d434992cce773562f2544791722dee0a509c3906deedc7ebf67e87d9765b9511a86612449f2f6f6f69ce242c2f904e812ee9624a92c4bd1851ff3fc9421912489e4eb62250351c8f39c95597c89e338b66debba0e510dc0234451f4f9f9d9f145b22ce3aafea2631e5f83a2286559f27f1351e30d5e94aaaa9857ac752fed6e4137c1daed764fcf52da6eb74ff7e100fc58c05d0ea7244926106e0dc3b0aaaacd66635916e78dcd2fa9ebda344d212c0300c829d95f8e8ce3384992d8b60dd50dc0834cd26fcb2a4b549481de10dee045ed09d3340f87035b338279b3e8567e7814454fff09b15a6a81ab9af3e9ff57dc24f3abd8b69da66955555996799ea7699a40dadbb66d78c100ff1445a1eb7a7fd92553da9100188649162ba9aaca6ab49810bd54906a0e5ed19e705d97adea360ca3a7dec5ad5e1ac7e3d134cd277a5188928403aed225e1539224d2996fc2d7a72ccb344d932461fb5cf7044a3f00e790b620bdd674b02dcb02e045f8f3e74fc757e0b0db6e55554f370f6e593bfcfbb511f1062fa7ba99c7ba354debcf8c6ec539c3307c2ee84ddab36101084a9770771886934fe65455d5f7fda2288ec7e36ab5e23c06bedd6ed1e41c704b92241f1f1f7d775280ea066014380c9bcbb2cca42f5a5dd7fc3bb511f1062fa7bad9da1303f4acb26d7bbbdd36dfde6aeffc23a4a60ecb40385ae16e49921ebffbfde562704e5555699ae6799ea62987cdd8a6d1eb0e4c0fdff79f9b9df12b908105c073746f45c6adeed375bd7b548c7f4317116f00d5ddc97a1e6044502bc49da6e973d571ebf51ac5a522d2f204ff6abdbdacab459665d7759324a9aa6abfdf07416018063f6fafae6b4cf803bcf1f4c4cadf82866a00e0d969c124118cff4803843780eaeef4840f902f679a26ad19a2287ada6447c45b38d234a5dddb8aa23c5ee11f04010cdcd96ca6eb7a1886799e9fcfe7388e1dc7e1a123fa76bb45f507e04a75d3fd44201e0080f01e12d3341dc7e9f822fcf73687f006afa8ba354deb5e051ac7f160556a74d0bbaeeba2289e7bffa82c150efad64b92f4f8a1ab280af336fba24387c1c94cb271df0f93aa3600982cc5c154378437004f33ede608611876778b23d51c80314992e4fdfdbda5ba6ddbee58491204c19099a2b66d2b8a427fa8e7fefae974fa7fedddef55abcadbc6f1b8d6790fbf0ac00ac8a900ac2058015841b002d815042bc85881a402b102b1024905920a7c5eb09e2c0e6e15863f19e0fb79b5b7c7e46c312173cd3d730fed9427248ee36a7ddb75dde69bbbe238660bf1cfefa924493e3e3ec230acbeb9c6f4f2f242d11b1797a6e99f3f7f080f80fae63d6955f649edf8248a8f7209de9879eabebbbbab7ec5b2ac288a3a0e326cdb1ebf5455bd19bdbdbd490f5c586d3e154551545f66adcec9b06d9b63729b289ba9e679fefcfc7c914de014bd71f1fbccf8ed06981304e4cc7ed22a08828e53e1c7e351e5de8d046f2c2b7597c79376795a4dd32e329d56fb67274922b750f67038d04e7612e238aeaed4f07dbfdadcfed7173f17b015c771d2347d7f7f1f790738456f5c561445cddb46f4f876e3ca0372143f2fb3a35e8e1653b9e84df0c63c2549f23575a769eafb7ec7166b49925c64b65ed7f56ad2ee3283402a535f5114d50df98661342f776fb75bb650ca314d530891e7f998ebcf5dd78de3384d5366c430b2344dc769630ea02fb32f7afbbedff1f357e5512ec11b3394e7796d974899bae338ee78fee176bbbde0547d75f17059a3902bcd11bcd5170441addcddb0f591a669ac5eeee8bcfe7cbfdf8f505b389d4ef7f7f7373737d7d7d7575757ebf5da75ddb20d3bbf0b0ce7228bcc0174b48489f58ec3d4b7b737654fcfbd52f62075409ae338d5805da6ee2ccb6e6e6eba3cad6559173fa540d7f5731ef33caf288ae6cb8fab5e5f5f696fa3ac344dabaf55cbb2745d6f3867b4dfef194cf7feeb10428cd9f3b9cab6ed328ab33a17fd0a82e022e56edbb6995402a42549727b7b2bfdf0a9e4beda48be2d65c74254bc31374288afa97bf5df72b1844b6dedaea9fe148f8f8fd263717a9b2b3e20aefdd21b7efc188641ea1ee2e35f08f1fefebedd6ec73f00fce5e5e5e1e1e1e6e6e6eaeaaaecc4ce6f04dd6559c62273608a16d29bb0e3da3d6567f708de9895a2286aa14508511ededb716b7714452a2cefa9fd74d26b6918bef7fe0951d6247ddf8fa24808217dd38fa2a87ad69d6ddbcdd75cb1c87c38a669c6715c14c57ebfbf48fff3d56a75381c6e6f6fd7ebf5c597de60eaba9fd903e02216b2fac9719c2e1fb5ca066f969a63565cd7ad2ebd0ec3308aa2388eefefefbb3ced66b35127a99aa6796e426bdb769ee7723d693f3e3e38d3a5bb24498220288ae2af333b8661acd7ebf57aed388e699abfceddd416996b9a669a66c333e70dc3a03bd768b22c8be33849928e337a72344d4bd394dd2290f3f5c88f31b1d41ce81adeaeaea41f3ba1dcd7f14ef5fefeaee07e788237e6a3165aca1c926599e3385d06c79aa6e579ae4e46ad9d436edbb6dc3698a7a7278e7aeea8ec3d5e3bf7ebd7785c7e12acd7ebaf2faa564f55534e33f14b19ff05208418ff4026c330b22c63ee0c122f5ad3342f3261c49d0ae84597fdcfd3ca7dd552535b8a6ef3fe04e6a276fcc0f3f3f3e7e767f7a6c4afafaf4afd98efefefd57f9edc69deabd5caf33c5e331dedf77b756ee61f1f1ffc462ef84a18edf831dec2e862bbdd5ef64e158621bf05a08b2e6bb0a7f593ee76bb997d44b2c71b33512b3a95e77ed5b6cbca4d98a9b69ed334cdea105f7a9b37db44fba569daf8d1ab3aff42f1f3827cdf2f8f1f1bb3fbdae3e3239b0bd0f6b67ff19e6a4b380c0918d4720eb9e852b25673944bf0c64cc4717cfeb36118e531bcd52fcaa56e357b4457e702a4e356c729099417df308c326b9d4ea7f1d71b9fb16b409df81d86e168ff4796eca215157aaa11bc01341f65492f5c5573944bf0c61c6459567d830541d0bd93b9cae7215783779665172cb42e9ce338dfb5551b93a6699c22a6ce28218aa2d7d7d7ee9b5c9aa0e88de66a676daaf0f905406eecb19c1fb6cbf046c13e8e046fcc41adb2edfb7e92245d46182aa7eedac0e5783c5240b86ccabaf83f8372b782efd02ccbba6c4e6b95a6b8e0f85551142adcac0cc360530c80e6bacc322838314df0c61cc613d5b3be3ccfd375bdcb823ac553f7ea4bc5806dde17140481e77997fd3750ee56f6b5f1fafa3af4ae6f82379a88e3f8827b61befbf002c0fb68b81f96e00df4af7694aeeffb5d4ef709c350fd18532b714b076fe907a2967c2e98bd0dc358d4aab3c98d18d2341d347b1f8f474e45c6afa3cf8e1d4f080c803a96b66c44ba8bbb82e525823726afd656ad6c662ef7549ee74da55951f536447e56217b5fea901ecaddea67efa18bd214bdf1b3288a066d45d17c6a897d3100da92de50a9e0f098e08d69cbf3bcd6562d4d53b972b7e779131dbfb2c75b05711c8fd9ce9ae03d21aeeb0e3a2f53dd6b03d4a469faf8f838dcf37b9ed770cd85611854bc815e8cd3bf73eaa35c969a03fda79dda0057ae646ddbf6b4527775f8227d64022b54fb1545d1c8d9dbf33ca65da672a71a6e9c743a9de8d7801fee4b83de8284100de334e56ea02f34296c4285c616046fcc4a352d6f369bd56a25d1cc5cd3b4c9958caaf7dca1bb37a1d51877bfdf8ff6bfa3dc3dad9bd5706f558adef8ee8531dc1162d565624d4eb554e11471009333a759068237a63da4a8b555939bda4fd37472efea6a9df3e2e748a31686c7c9deb66dd3566d42d6ebf5700dae58bd8291b36e6d73d6af456f96e700030d0297f0e929fd58d5968311bc31ede07dfeb3a6698ee348947d76bbdd14779df572cfa52bdb70d97b845e6b53690488ea0b63a006f8c35535315d5d0ef86895ba570dcedae57e0510bcc7a7da4097e08d9904eff214b1b6b5dfcd6633d1c56fbd94e8d9173a9c388e073d638c53c4a6fbc21868b3b7825d6470d9e1e6409f6e7f6d44faf3feed300cc9090040f0c654e5795e8dd9aeebb65dc66918c6748fe1a137acfa063ddf9bf2d144e9ba9e24c9109bbd09dea88ae378885d48df1dff619ae677b73bdbb6b95f0100c11b1356abd61645d16a4d5dd9506dd20d1be8a9b6d8ecad691a6dd5a6cb34cd217aa1b1cd1bd50fc4211a0aec76bb1f66abe338fefaa9b4dd6ee9fc0700046fcc27784bd4aee3389e7ad1b8fbbf9f3dde13cdde34079e3ac77176bb1dd701030982a0f772f77ebffff9cea3eb7a9665e5f122abd56ab3d93c3f3fc771ccb947c0a063604ce842fdc3af0413552defe8ba7e381c9a3f76bbdd52305c7538001c6db3f76ab57a7c7c3c7f45d334d334a5af3fafde7944a32ccbaaaf8a1e6f8958b23ccf7b7c5d9d537793dbce40ab3900d4503899e885a2e28da9aa4e62b50a30b66d0f77a8cf987ae955c3a4e9386a2db54ea7539ee7729dcf399567368410e7f220d097de37548761c8641fa0144eb29828823726a9d659ad39c33066331f4ff09e105dd7d334ad656f214418866df7ea33029e59f61ea8c93996294dd37ecbdd6118d21a0d500aeb4a08dec0a8a4e3a2106296fbcda41bad11bc47ceded5dfd4e974faf3e78feffbb66d377c12dbb639456c7eaf0ab237fad26f48f63c8fd40dcc26784fb429ef9c863d046f2c28786f369b39bd7bab3fcbe97492bb9f12bc2f9bbd57abd5c3c3439ee7b66d7f8ddf8661d4be425bb559be2a84101c5280eed234ed7101ea772787019868f0e624da8ba3b91aa63abc9078d43cb676ff90c35b75982bb14d6864ebf53a4d53d775aba7df1d8fc7f2af65e553ff7fb5d7b96ddbaeeb720de7faaaf8f7df7fb914e8a2c7eaf466b32175030a1242f47e660108dec04ff23c6ffb90300c67d692aab6665e7a097d96654c828e9cb2b22c735df7ebacc70f6d02354d9bf7cc11af8afd7e7f7777c7a5809c1ecbdd966591ba013555e7d7caa552e4f00961a939a6a7288a6ab5b0094dd3e6b746b79696a557d1b3da7c7c65357bb7db355f603c8393e7f133dff7e51add03abfecadd9665a569cae1db80828410d501b0699aa4ee9f4914ea08de40d7a018c7f1128611722d9a08de971204419ee761187eddcb5da569dad3d313cdcc17929d7e7e31fc8043e696acaf7237a91b505651145fcbddad2cf0ad4df0067a1861b4fa7edbb6e71a5aaaedb8d23495fb3109de17a4eb7a1445799ebfbfbfeff77bcff36cdb2e2750ca766bbbdd2ecf73b6762feaf550fdca76bb6d38baa2ddfd9287e3bd7cc6699a962409a91b50531445b572f70fdbd3fe8a7573046f60f0e03de3d350aaf7d02ccbe4c65ef4575381699abeef0b21d234cdb2ecf3f3334dd3344d8320601cbc28beef578bde499234dcdbcf888ae178c7d49da629eb26003509211e1e1eaa5f51ad960b8237e6a95585d6f3bc191782aa43edb7b7375dd73dcf1bfa9202183a479dff7c3c1e8ba208c3f0e787589645f05ea6344d6bc371e9d4cd4b085076dcfbb5f5a6c4eeeea228267a05e4b65212bc811eee3ecdef359aa6cdb8dcbdfab2b8344d53b99f97e00da8a356f48ea22808829fe7d438e07d99fa5a644eef4640594288be0e9b9cee606f364bff08de985ef06efecdebf57ade0be74cd3aceeff2c170a4a14bd09de8052aa41fa743a95db10be7b6b6b9a461780c5be4eba2f32f73c8fde8d809ae238eef198c9e956bc6783e08d89e170d1af930bb5fc1c4551db5e97046f40b540555d5977381c84104288dd6ef7f59ba328a211c002f9befff8f8d8f1492ccb6ad84400c0988aa2705df7fefebec7e76cdb8c0d046f2c5a9ee7ad3a812da1cd6ff5672cf3b3699a6dd79dd25f0d504d2d0edddddde9ba9e2449eddb6cdb669d39a95b8ea6694208666d000553b7e33887c3814b41f00654198962f5df8a77d98769b55a054140d11b9834c771b6db6df52ba7d3a93647560627ae15a95bfa2395addd806ab22c5bafd70355a719ec11bc81a6da0e3197b09be56b7fb5d56aa5eb7adb490aeec5806ae238de6c36dffd574dd3b22ce3fc2752b71cb676036aa66ec771baf76e58f2c098e00df4204992b667272c214ceaba5e3bf5f73c38ab7e9d6b054cf4beb7dbed6a27a91886615916a72e2f4dd9c3bc97d4cdd66e40cd1bbee33812e78481e00df48c64f81dd775cf0bcb1f1f1ff33c2fffdc6a8140592a07a09a2008d2347d7e7e7e7a7a0ac3f0e9e9294992722d22176739d234751ca797d4ad695a92246ced06942284b8bdbd1d3a75f3c6bfac7fb80498d0b0838bf05df07e787838ff358aa232723b8e631846c3054bf4ba0494a5eb7ab9a98463c316a8288a20087a89dce7f13d6b2500d552778fc786fd60a233b6d2f305aa4d3450f1c664d079fb3b8ee3d8b67dfe6bb5e81d4551f3e7616a0300d491e7791445a669f698bab7db2dd33780528220182775ffd0344471d2f305aa4d3410bc3199f1c7688f9aa25ac03effb5ba0afd572ce60700153eefca7ee3d7d7d77ffefce971e9295bbb01a594c78655172d0e8a493782373060261cae2da46abe2b7aebbadefc3e4bc51b002e4b08717d7d7d7f7fdffbf69f726b375718506764eb38ce68cb392dcb9aee410654bc81511545d1f660eaa5a915bdcfb7d7e6c19b8a37005c90effb4110f4feb4e5a767b96a9d8b0c2832acf57d7fb4f63a9ee74dbab8227def52eda647f0c634e4792eb7dc6e3927163a8e53ddbdf3f2f2522e29745db7e1b962c7e391031e01e022d2347d7c7c1ca8a7f16eb71b22d203901304c138a9db308cfd7e2f8498743ff3f57addea88dcf3cf4ec51b904c95720f5c5415378ee3eaba80fbfbfb728293a2370028ae552fccb6437c5237a08e2ccb7aec98f85796656db7dbd7d7d73ccfa7bbc2bc4a6283ba823f38c11bd3c0c1834d98a6591b5db9ae5b1405dbbc0140f181f8105b3d2dcb7a7d7d1d2ed20390507b4b567bf474611886e779fbfdfee3e323cbb2b247e36c2e5adbd943cbb214bcf511bc310d73ba770c7d37af2e383f9d4eaeeb3a8ed370873cc11b00c63744dbb37257279f9e806a0e87c3f9cf611876d987ac69da66b3d9eff7efefef799e0b217cdf9f65b1ca34cdfd7edffcb2a8d94b92e08dc9909b115c609214425477c2bcbcbc0441d070ad3e4bcd01607cbd7f54ed76bba9efea0496f0662f5377dbfec19665ed76bbd7d7d7a2289224f17d7f09ad137ddf6f92bd379b4d9ee76a5e108237268369fb86745dafcdf33d3c3c341c7e9d4ea7e51c7e0e00b3e4791e9bba01650769d5eac8dddd5df3ae8a96659d57920741b0c081b1effbefefefdbedd6b2acd57f272ccedbda93245176cef11fde002078cff25aedf7fbbbbbbbf3579a2fb9c9b28c23670060e4b178bf63532e29a0ec08cd34cde3f1d8ea51e56c1a23e1d56a659a66796acf1451f106c17b9e7cdff73ceffcd7e647d4b0cd1b0046267d72078019bfdf0dc308c3f0e3e34308c1307806ae3e3f3fb90a98ccebf5eaaaed436cdb5e6c922c8ae27ffffb5fdb475996c54e6f0018539ee7d7d7d77d3ddb76bb9d6e4508580221449224699ad6ea229aa69525f1f57aed380e619be00d5c8ce3386d0f5c5972f05ead56beef4b9c15f9f1f1414b1e0050ff76fd579aa61545c1250500a5b0d41c53c2dee3b6e4faebb0da1c004616c771d92ea8bbd3e92484e0920200c11b90c4921b892b263192237803c0c8745def717d7814455c520020780304eff14814bd9bb7400700f4c5711cdbb67b79aae3f148d11b0008de80fca0848bd096effbd5730e1b8ed838cd1b002671c7fe0e53a80040f006e4f5b5056e6923b9b60f61b539005ce476ddd714f3e170e07a0200c11b90c46a730912abcd09de0070114288bea698b9930300c11b20788fc734cdcd66c3700d00d4a7eb7a9aa6bd646f0e150300823740f01e55dbd5e6c7e331cb32ae1b005c247b0b21ba6ff6e6360e00046f4052dbcd6f1cfd2d77dd5614bd01e072d6eb759aa61db337156f00207803f25a2dc0237897745d6f7b4a0dc11b002e9bbd3b7626a7e20d00046fa0d358848b20a16dd1fb7038502d0180cbdeb7f7fb3dd7010008de00c17b325cd76dfb108e810580cbf27d5f3a7be779ce05040082373078f0d634adaf0351e771ddda6e1764b53900a890bdc3309478e0f178e4ea0100c11b90e4388e61184dbef3743a511eaf6a5bf4a6e20d002a88a2c8f33c89070a21b87a0040f006e4b377936fdb6c36baae73b9da5eb7b3d3e944f6060045b2b7c4a3eeeeee1cc761cd390010bc8101c71f12bb9a09de559aa6d15f0d0054609aa6dc82f3979797ebeb6bdff789df0040f0065a8f3f7e5d74671886effb5cabda756bf5fda7d389811a0028228aa2863badbe7a7c7c247e0300c11b90197f74fc060000a6a5e34aae327ebbae4bef4c002078038d98a669dbf65fff936118966551ee0600cc8ceffb725dd6aa0e87c3cdcd8d699a74f100008237f0bb2008fefaf5a22898cb0700cccf7abdeeeb98cce3f1787b7beb380ebd3c0080e00dfcc4755dcff39e9e9ece5fb12c4bd3b4344d69660e0098a55e8ade672f2f2f7d25790000c11bb32584386f78330c238aa22ccb38bbbb474c610080829f7dfbfdbeaf677b7b7be3b86f00207803bffbfcfcfcfcfcccf3dc75ddb68dbb97260c434dd39a7f3fb31800a020dff79f9f9fa59b9cd7b0d91b0008de00fa94e7f9e974e23a00c0d4398e936559dbe9d4bf62ce1a0008de00fad4f69435969a0380b2745d8fa228cff38ef1bbe3296500805f5d7d7e7e72158045711ce7e5e5a5e137738b008049288a4208912449f33b7cc9f33cf6780300c11b40cfd234bdb9b969f29d8661e479ce1503806925f02ccbd2342dffb05aadbe8be2655352dff7b9680040f006d03fd7750f87c3afdfb6d96ce8b80300335046f12ccbcae954dff7d7eb35ed330180e00d60d81198e338bf7659dbeff7544200000000823700194288bbbbbb1fbe41d3b4a228b850000000404774350716caf7fded76fbf337709500000080eea878038bf6d7cdde9aa6f9be1f040127bb02000000dd51f106164d0861dbb6655965de360c63b55a9d4e27c77148dd000000402fa8780358f9be5ff6b9751ca7288ab2db2d9705000000207803e8539665baae53e806000000faf57fe9c48889b79b65810000000049454e44ae426082, '0', '0', 2);
+INSERT INTO logo (hash, content, content_type) VALUES('c19e2b507f89ac4d9e80e975f33f053e9d721e3d3972764c40021d4fef16e5f5', X'89504e470d0a1a0a0000000d49484452000001d60000021c0802000000c4e31842000000097048597300002e2300002e230178a53f760000000774494d4507de05080c2c2b75231bea000020004944415478daed9d6f685bf7d9f7cfd23f28c8586a59d1e12956346c166d58965e7502c9c6dc3cd422728ac1d9889505fb8d876577e094b5b6473b4a1b6ab91b4d20b565e6373669e4b0bb06d35845ee8b1b631f83d757c756e8941b99290a2d274f6e1a9d2053ddd9d23c2f4eeba64e2ccbfa73ceefcff74319599a3a3aff3ebacef5bb7ed7f593870f1f0a0000008ce0084e01000040c10000000503000080820100000a0600000005030000140c0000000a0600002818000000140c0000503000000028180000a0600000005030000040c1000000bee7699c024038d99c92cd29dfffe2b6f69b6a219f54d2a5ff1097d86431d569bfb65b6d76ab280882c554e7129b70868181fc042ddb0121481959100429b3b9abd7f5cca63e7f75b3d86831d5d9ada2dd2a5a4c6697d8a4fd1a170540c18059e16a51adf68b5bdf87b744a1a9d9eff0685e7e349406000a06349154d252464e2adb49257d5dd9a6f4281aac36bb55f43b3c2eb1510b96716501140cc80d75a5cca69491754b29e84cbdc9ec129b3423fb1d1ec4c8000a06c647bbf1d43ac3da2d1e23efea180b7d000a063aa116f2f194246536e329e95e610727440b90fd0e8fdfe1868e01140c6a4236a7c453524c5ea637b7ab6774ec77b8834e3f9215000a0630af61348b8d41a73fe8f421340650303874b621262f7398e4ad5d681c74fa824e3fce06140cc0be481939262fcfcbcb3815b5a0de64d6e262b8180a06e007b23925262fc7e40499fb26e06200050384bda0562e0e7bbb912f8682015fc4e444746301eb6c84d060b5853c8190a703dbf0a060c0326a211fdd5840ce81584e387d214f07121450306053bed18d8fb1a50241318082817e64734a64650efbd968a4c7d311f274f81d1e9c0a28185019f98e2526b1da463b3e873be4e908790238155030a046be483b304683d536dade0b1143c100f20586516f3287bda7c2de6ef4a080820171c4e44464650ed50e1031808281ae481939b23287ae0e1c8a78b4bd17a7020a0686a1153c60cd8d5b9023868281614456e690f6059a88a7ba4650be0605039d9032f25862123b8cc1a3f81ceef1c0103a4e40c1a086a0da171467c0db3ddade8b953a2818549f784a1a5c9c40e60114a7de641e0f0c21410c05836a06bf838b139fa6d6712a4089202f01050304bfc06046da7b51b806050304bfc0309ac5c6a9ae1184c35030381c52463e73f52d04bf00e130140cf4662c3139bdb180f300100e43c14057924a7a70710235bfa016d49bcca3edbd61ef299c0a28183c81989c184b4c22f9006aca09a76faa6b04b5c35030f801ecb9007ad260b55d39fd2e921250301004241f8041bc17184452020ae61d94fd0203e9f1748c0786909480823905950fc0709ac5c62ba7dfc5c06628982fd442feccd5b7d0671d9040bdc9bcd47701a96128981790fc050432d9f5069afb40c1ec836d6f805806bcdde381219c0728985962726268f17d9c07402c3d9e8ea9ae119c0728984106172750f90bc8c7e7705f39fd2eca24aac5119c02c3d17a9ec1bf800ad6339b313981f3502d9ec62930dcbf9db3e7b0f80668a1de64c6ba1ca260f8170063c0660d44c18c9054d29db3e750fc0028a2c16a43088c2818fe05c018d0d91d0a867f0140080c0503f81770062a82a160f8170063f039dc7e8707e7010a867f0130006481a160f8170084c05030807f0167200b5c3b50170cff324bb3d878e02602b590c7d698e2f4783ad0b21d0a867fc113a837995d6293dd2adaada2dd6ab35b458ba9aeece6e24925ad16f26a219f54b6d5423ea9a4b339e556ee36e7271959e09a824e69f02f6581ad4b6c727df7bf4dfaec94d55c9c54b6934a3aa9a4b99232ba5342c1b4a216f22d177be0dfcad1d682fc0eb76ece3df0ca4a1939a96c4b1999ede152f526f3d6f03c3a4240c154fa17fd772aa1c16a0b3afd7e87dbeff010ae80a4929632723cb5ce9e8e47da7b91858082e15feecc1bf274503a2c329e92a4cc663c253190ac40080c05d30afaaff366de2786c63179996a1723048682e15ff6e9f174049dbea0d3cfea016a2e8ec909ba56051aacb6b5811984c050306560fe66e94f78c813087bbbf979c8637222262fd3922fc6c87a28983ea48c7c72f6359c87e2348b8d616f37b78f7736a74456e6087f4f6ab0dab686e771af42c194bd6fa204b8383e877bb4bd17ad060441500bf9e8c64274e363326f1884c050307d4f144a20205f3644dc2c36ae0dcce0ea40c134d1397b8eed127dc8971f115febfb00d70b0aa689b1c4e4f4c602cec31e1aacb6d1f65ebccf962ee2b1c4a4e139629fc3bdd4770197030aa686784afaedd53fe13c3c4abdc91cf69e424969192495f45862d2c0372a84c05030650f0c96e0f670c2e91b0f0ca1b76185dfeb838b13fadf570881a160cade1cb104b727f330d5358218aa5a775764654ee704d7e6700cdf9dfa83a91965329698847f7719f076af0dccc0bfd5c262aa1b0f0c5debfba0c16ad3e76f445f7644c134815d70bb348b8d535d23ccf476e0361c46080c05530352c08f06bfa3edbde824506ba48c7ce6ea5bb5bbe506bcdde381219c6728980e5aa7fb9182a83799af9c7e1799073dc3e13357dfaa45b1049a521a0b72c18703296041107c0ef7d6f03cfcab271653dd52df85911a94fa85bda7e05f44c1d4bc0fa2110fdac81a7e135631298110185130656f829c271faef57d00ff1a8bdfe1d91a9e6f161b110243c17c6148b53c39348b8d483e10829694e8f17454f873b44de4389f503005c453d2a7a9756e0fbfc7d381190aa45978aa6ba4c2d430fc4b02c8051f0ce7e3e8d13d9664ca2e51475f7644c1d4c06d0a424bfec2bf2413f2045607fe5a6f3223048682d984db1444bdc9bcd47701c95ff271894d4b7d170e65619fc38d6f56289802d4427e707182c303d716dfb0ed982e0b975e268110180aa683b1c42487298866b171a9ef0216df58b5b0cfe1c6cb0d144c015246267cd26d2de8f174c0bf94a215ab1d686184c050301d709882e8f1744c758dc0bf0c5bf884d38710180aa680c8cadcaddc6d0efd8b4bcfb685d1110d0aa6806c4e995899837f016316465f7628980e784b41c0bfac5a784fa51ab2c05030054819d9c011b6f02fa8918507bcdd088109041b94f7d272b1879f2c30fccb3cda90174110d094924c9ec6297814ae56e1b4b16fb8e86ce3129ba6ba4692ca36fc8b289874b86ac783fd1700900072c13fc0cf5eb806ab0dfe05000a26886c4ee1642f9c367913fe05000a262b04e6e44897fa2ea0ff0e00503041481999938e94935d6fc0bf0040c16411e1632fdc80b71b5d62018082890b8179d88be173b8d11f000028983878c80237586d574ebf8b6b0d00144c163139715dd966fe3051020100144c223c6481b1040700144c6808ccfc76e41e4f0796e000808211021b4083d586253800a06084c0c6801430005030a1443716d83ec091f65ea4800180824944cac86c1742f81c6e8c4800000a2614b6b3c0f526331a01030005931b02b3bd1d6eb4bd17236a0080820985ed2cb0cfe10e7b4fe1ce06000a26916c4e61b8291a52100040c144c3761638ec3d851404005030a1a8857c3c25b17a74cd6223aa20008082c925bab1c0f074386c8403000a269a989c60f5d07a3c1d7e87073734005030b9fe65754772bdc98c10180028987005333b2039ec3d855e100040c1e492cd29ac6ec768b0dab00a0700144c340c6fc7400a02007a799a8783540b795617e27c0e77d0e9e7e77e7da0e6be496ee5a5d5fbd99bda3fffcade7cfc8f3d633ff6acfdd85316cb5197fba8abe5a8cbfdacfd189e7600051b433c25b15a8bc6490a428d7f929756f3d26a21b955ca9fffd7f76abe17bff6ddeb9ec552e76fabf3b75982af40c7801c7ef2f0e143e60fb273f61c9389e0134e1fdb7391f3d2ead7b1cb6afc936f55b58a3ff619fb314bf0e4f3a1b3475d6e280040c1b5259b53dc17434c1edae6708cc9edc80fd4dcd7b1cb77a21f3e31c9505d17bf107ef5f9d0d9a72c56b8001802fbcb71ac2ec4f5783ad8f3ef0335a744ce7fd172fcabb1d76bed5f4110fe95bdf9d5d8ebd78f89d9c1fefbb5ffeb00e0310a3e1639c9642298b110f8819abb13fdf04ef45275730e87e2b9d05971f44d648a01a2e0aac1ea421c6321b01affe446ebaf6e47ce1be85f4110eec62effa3e57876b0ff819a831a00145c0558dd11c74c21c40335f7cf33bfce9cf9cdbf88c903dc8d5dfea2e5f8d7b1cbb00380822b8bad0a7926bbb3331302e7a5d52f5a8eefd68d91c3b7aa7a6bb03fddf932c2610005970fabad81439e0e068ee24ef4d276e7cbc6661e8ab323ad7ed1723c2fad4213000a2e07266b217c0e37034d29b383fd5f8dbd4efee7fc5655b73b5f5622e7610a00051ff221cf29d7956df68e8bf62cf00335971decbf4b55a6f576e47c76b01fb200b580d90dca4c66211aac36da43e07f9ef9cd0e85aff6da77c68be37fc6260e8028b82498ac85a03d04ce0ef6ef509b5abd1bbb8c053a000597f6a8b39885a83799439e00d5febd4b79a55721b9f5250d296c00051b0c935908aafdfb75ecf25d262a6defc62e232f0ca0e00360320b11f67653fac9bf496e7e39f607662ec4ddd8e53bd14b70078082f779e165310b71c2e9a3773b4676b09fe4fadf32f86aec75d40b0328f8c9309a85a0753b8612395f629f75baf8e7995f63690e40c14f80bd2c4483d546e974a2fbd99bb719ddd7f0adaa22290ca0e0bda8853c7b59087aa7c3b194027e9c7bf16be8e603a0e01fc1641682d285b8bcb44a600b9eaa7fc7201d01a0e04715cc5a6bb466b191d285381e5a2b7cabaaa8140650f00fb0d79d92d210f89be4e60e1f3503776397bf496e0a0040c14c6621284d04df897ec8cf5384401840c1822008127393ea4f387d16531d751ffb819abbcbd33ad58eb48a32610005331805079d3e1a3f36877502e8290c7857705249dfcadd66e9dad0db97874305ef48abf789197f07a06003903232732130addb3198dc0e7720681c013857306b89604ab3106afc133e9f256cd3005c2b98bd72344aa36095f5ed18fbf1adaa72fbf5037857307b5988137486c08220ec705c1bc0edd70fe05dc1710643602a15cc796d16a2608028981905539985e05cc1dfaa2a76ca01ee14cc5e77b466b191c61d1982204040d8a301b853307b2130bd0dda511bfb0d970579806b0527996b10ec777828fde405ee0584f7008028986e1aac3697d88410185f42000aa68375b63665d01b0243c11a68e20e3852307b8960bfc38dfb926a900e061c2938a9a419bb24f44e8a0300701805339585a0b71c4d4022020044c1b4436f22581084a72c163c510070a460b59067ac4730d589e0a72c563c510070a460f612c19496a30100a060ea69b0da289d570f00e053c14ced8ba33d04aef3b7e189c279001c29389b53a060b2ee27acc801c08f8299db1747fda68ca32edef795981102034e14cc58082c0802038960bc833f6b3f06ad0028180a362a0a6ee1fc89c21900bc2898b172081f13ad211005e30c005e14ac167670fd48e3298bb53e7892dfc7c96241361cf0a260c67aa451bd351961208e1d70a7604026cf87ce727bec96e02bb801002f0a46451a99f09c8b40140c100503e37921fc7b0e8fdae46a41451ae045c1ec35e8612c187c863f19f1f9c5033855b05ac833762598598ed31047dfe4eb41b2582c1c978200ee140c08e7f9d059ae02614bf015b44b061c2998b179454cf2e2f89ff93958dea27e80281850101872d2b3e6b9d0592cc4012818201046080ca0605d606f398e498ebadc36d6f5841018f0a86014a55114219ad86d1e76c462e12ae50da060401ff6a91956a76988a36fa2100240c180688ebadc2f8eff85bde332fbdbb01d0340c180029e0f9d7d8eadf63d472c969f5df91bae2c8082011dd8a76658aa51fbd995ff440a0240c1ecc0c302e3cfaefc8d8da5b986a919344503503053f05066f794c5dab4f419ed167e2e7496e79ec8000a06b0b091feb54fcde03a02289835f8e97a41af85e15f000503462c7c7ced73ba6a241aa666e05f0005330b87fbfdec53330d3448ed88c5e2b8f237e47f0114cc327c76bd783e74f6e76b7f27392961f6b71d5ffb1c73390114cc38ebbc76403eea721f5ffb9ccc6e3eb6d1379b963e43171e0005ef85b1313f1a3cf71e1247dffcc5d60d72f66e98fd6dbfd8ba812e94000ae6886c4ee1f9f09fb51f6b5afaac71e9336345fc8cfd58e3d267087e0114cc1d49651b27a1cedf6694889fb11f6b989af9e5d60dec7c0350f001d8ad36f62e86949171473e2ae25f6cddf869f8551d1a5dd6074f362e7df6cbad1b287b003af393870f1f526aab93b3afb1773deebefd5fb8291f478d7fa2c6afa9f14fbe55d52afe5893abe5f9d0594bf015e41c80513c8d5340da570b932b8d156209be6209be220833796955fb67475aad24e6adf3b7c1bc000a2e1f563d256536a1e022d4f9db7613b57969f59be4e60355cd4bab8220ec27652da75ce76f7bd67eeca8abe5a8cb8dd308a060b06f142c08bd380f87d531009442714584cfc16038b39ed9c4706800a060606c200c008082c986d59c693cb58efb1200289874982c0d1604219e92705f02c009142fc7d9ad229397e45e61279e92824e3fee4e403e6a215fa4b789dd2ab2fa9c42c102c3c55b3179190a060692cd29d99ca216f2daa6f9473d9b54d2f70a3b65fccc7a93d9253609826031d569bff03bdc6c3fc8a540ebee388dd6e9feeb8cf655c88c7e6231d5c105a0d648195953ada6ddb20d5b099a9db590d9ef7073153bd35d17ec129b5855704c4e84bda7200850f5f036a9a493cab69491b339e556ee36099fea5e61673db3b92e6c0a8230f1fd6ffa1c6e97d864b7da5c6213c39132dd517074e3e33f26a698bc300d56dbd6f03c94012a44cb2148994d29231b12e1568b66b1d1eff0b8c446bfc3c3528c4c7d14ccea93732b771b8b72a06ced4a1959d32e33af89d795eddd63a93799fd0e8fdfe1f63b3cb44b80ee28581084e7defe0f561f249fc3bdd477014201259254d2f1d47a3c255de7a9f134ed3aa65ec19db3e7189ebab63af05786237d5015e22949332fbd49862aea38e8f4fb1deea0d34fcb6a36f50a8eaccc4dacccb17a4bf5783aa6ba46601900f31e9666b131e8f4079d3ec28318ea15cc6aeff65d368763286e078fdef0317919e63d6c681c74fafc0e0f81a131f50a1604e158e424c3b723026120084236a7c453527463819032324a39e1f4059d3ea2d2142c28f8ccd5b73e65bab50d32c29c87bdd18d854fd1bca9aa348b8d214f47d0e937fc15930505c7e4c4d0e2fb0cdf2e288de010b5908fa7a4c8ca1cc25eb65dcc8282d542de117985ed1be5a3d3efa046981ff9463716a21b1f23dbabb38bc3de6efd73142c285860bd344d108406ab6d6d60065d23d8269b5362f232e46b2c3ae78b195130c33b957719f0768f0786f084b01af94656e6a63716702a0861b78ea2d66f9f8c2898875c84807539a41d80112fa041a73fecedae51b29811050b1cd4450882d02c362ef55d403a8219222b73902f454f5f2d92c54fbdfdf6db6c9ca0fffdf77de615fcfff2770bffbeff7f9b5ec2f3403bf19474eaa3914f53ebfffbef7fe16cd0f2f47d9a5abf28cd67738ac55457ada0989d28582de45b2ef6f01050a03a826ab23965707182edd5631e68b0dab4a0b84217b3a3604110061727e6e565e6af7dbdc9bcd4770149611aa384e8c602c32d4df8e484d3a7551643c1425249b74dff8e87ab8ea43075481979707102fb2cd80e8a439ec0619f4aa6142c705020bc0bb6cc5114fca2e08c1f7a3c1da3edbda567278e3076fc214f0727577a3db339b838813b9efce0b775ba1ffee5ea8a1f2a3bcc9e82030d561b27177b5e5e868549662c317972f635241fb862b4bdf7507ffe087ba720e409f073bd616132492a6904bf1cd260b51dd63f0c2a38ecedae3799616160143139d1397b8eab016ea0bc10984d055b4c7561ef29ae2e3c2c4c086a213fb83831b4f83e36bc2104e657c11c06c29a85cf5c7d4b2de4f124184536a774ce9ee3a1321d542b046656c11c06c282207c9a5aef9c3d97cd297818f4474bfe22f98010180ae637101604e1bab2dd3add1f4f497824f4242627daa67f87e40342602898f7405810847b859ddf5efdd35862124f853e4456e6d89e9b056a1702b3ac60ed7b899f1ae13d4c6f2cb44ef72795341e8f9a32b838819e0fa0ec109871050b82c0f39889ebca76dbf4ef222b7358a3ab9d7fb1f8062a0981d95770d0e9f739dc3cdf1f132b73c80e571db59047f103a83c0416d86bd3f338fcb44f2b8ecfe11e6deff53b3c381555f12f8a1f8016026f0dcf57f2138e307f8e5c62d380b71bf7ca7a66f3e4ec6b67aebe85047185c0bfa05a21301751b016b6b44ef7a35b0a22e2e237899491fd0e4ff17eafc8ff822a86c0bc2858100429239f9c7d0d37cd9e1ba8bc26d3cc90cd2949252d6536a58c7c5dd91e69ef2d1ed4c0bfe051aef57d50791cc38b82053e462c9747859357e822a9a4a58c9c54b6a58cfce88bd1812df0c71293e87c064abf61a060a4230e47bdc9ec7778824e5fd5c7741beedca4924e2adb4925bddf44957a93796b78bec851c7e404f65f80aa87c07c2918e988d269161bfd0e8fdfe13e30374ae655cee694e2cedd43f1a1d428aa01350a81b953305e27cbd3b14b6c72898d2eb189b4153cb5904f2ae96c4ec9e66e6be62de32d67c0db5d640b4f36a7b44ef7a3ff03a84508cca38205414047ab4a68b0daec56d1eff0d8ad36bb55d4fed147b5822048994d2dce1504a12a735a1bacb6b5819922913eee1650bb1098530523aea93af526b34b6c1204c12536693ab37cff3b87ba2ed9ef63d8a492d6f6552795744daf54f17006ef4ca0a62130a70a1604219e927e7bf54fb89938e784d377e5f4bbb849805121b0c0c3eeb8271274fab1650e917b9114b03682086709eca1f2ed7050f0778c078638efe0c33961efa92259ecc1c509a4aac0e32170d557a48ff07c42af9c7eb7596cc48dc5210d565b9170262627b08b07e81002f3ae608ba96eaa6b84c3f946a0c8b3a416f2983902f409817957b020082eb1a9bac975403ecd6263911edb638949a420803e21b020084fe3ccbac4a6c9ae37b0fd941f8aacc24919198d784aff267bbc9e5a2de4992ca3ae51080c057f871613c1c2789d8c6010dc8fd9dd89b35be85dba89b41d345266339b53b239a52a5b69180b81a1e01f5938a96ca30e9f79c2fb1723c6e404d59aa8eeb794dfe1dedd68531e9aac1f55b6d63249eb0e4a51c3acda85c002b75b33f6030d61998fe98af4d86eb9d8c36d23bd06ab2de8f4fb1d6edd7a9666734a3c2549994df28b4faabb1d0e517031a6ba460441808559a578211a87fead3799834e7fd8db7dd8dde49563b78a61efa9b0f7945ac8c753523cb54ea68b6b1a02230a462ccc976e6e8e5e4308acd12c366a3353c8f9489a8ba31b0b442de8d5340446148c5898238ae886ab1098d8c98116535dc813087902d99c1259998ba724c3ab034f387db53e518882f725baf1f11f1353380fccb0391cdb6f47322721305d635bd5423e2627a21b0b065e9a22f70ca2e09a13f69eb298ea50a9c68c7df67b96e85a9d2f8f06ab6d3c3044d778408ba94e4b16c7e44464654eff6bd4e3e9d0a11736147cf0ab2bb64b3171293bf67fdd61bc12f1c0c9d0e43f86214f407f11eb73d290883898a492ee9c3d070bd34b91e99cd99ce2be1862f5c09bc5c6a9ae11fdab1d6a876e22eef174686b42b5e6089ecf0371894d6b0333e8a9462f456642c7d85d741df076af0dccb0e45f2d22de1a9e9fec7aa3d6ddb5747b6f80824bc26e1597fa2e9c70fa702ae854b0af4854c564d43fd9f5469156186c8878a46696d4270b8c4444394456e626d0468036eebefd5f4ffc7d29239f9c7d8d3dff2ef55d602cf8dd8f6c4e194b4c567d4f870e85108882cb7f3db9d6f7015a0c53c4896221306b5908aefcabbd9e5e39fdeeb5be0f1aac361a436028b81cfc0ecfd6f03c861e31908588a724f8978d47726d60a65a79099dab47a0e072b098ea96fa2e8cd05ce8c3d5f3f9c4df4f2a69c6aa5cae9c7e9743ffee3e92a3edbdab037fad70d95ce710180aae4252a28a6f40a0ea68ed6e79c842bc1718a465db5bedd08a972a898df42fa08682abf00634b07f0b5a60741662dffd605a43713638e1f485bda770b977355a5e38ac7f080c0557e70d683c30847098d4b0e8c9cf214bf375ea4d667d3611d0150e2ff55d386c6c64c81e422818e130e3d785f910783c3054c96c0be663a312eb970c0981a1e0ea5ff2ca170440b528920896581950d460b511d5f397c0efe012eb978c6aa3010557ff0d686d60e6bdc0206a8749b816fbfd2b66a2e05194e594101b1d58bf6454080c05d78ab0f7d4d6f03cf212c42a988d443042e0437d5715494a18f84d0605d7362fb1391cc3260ee35e42dd6c87c0617cc71fee7ef06c0dcf3f9e2734300486826b8ed6dfe75adf0710b12127ff89bf9f54d26c1c205d2dd809098cd606667a1e691e5d6f321b9bcc818275fafa5deabbf0d1e97750b846868259c842348b8d06c66e5433d53532d9f5c6f76f12a78c3d8d50b0ae318bd6ea1422d68122af1dd99c82109873429ec0eac05f1bac36c3933950b001d77e6b78fea3d3ef203561146c2422fcb87f2a432b5e32bca41a0a362c84418eb8c686dab761021bdd79b8edc8534548d8d202051bac89a5be0b9bc3b11e4f07ea88f581997208ec88630328d878ec5671aa6b646b78febdc020d2c4784f2f05bc3c41c1a0fa418db6a1e3a3d3ef60485d2da3e04d9c04400e4fe3149046d0e90f3afd6a211f9313d18d051de675b3fa6e8193001005834a83e2d581bf0e78bb9129ae9682d9a848035030d00997d8341e18ba397aeda3d3ef60d5ae72a06040144844508396a0108491784a8aa7d6e32989b1d1670040c18026174b19597331f2c57b60beb0442de47195a16060307e87c7eff08c0786b239450b8dd7b1dc2f0842d1b53836b6c63133750940c18c1827ec3da50d708ca72429b32965643ca54f8499ec4d524963831c140c88e3fb3485a016f25246868e5945cac85030140cc8c562aadba3e3a4b22d6564242b5851f02606d743c1803a1df76aefb049252d6536934a1a0132a57c9a5a570b79748a8082017db8c42697d8b43b764ccac8d99c9254b63535a3d68d16e22909b3e3a060a007e9ce971fa8b9e743672dc1579eb51fabee0fdfd3d7512de435176773b7934a3a9b5350f44626d18d052898767ef2f0e1439c05c2b913bdf4d5d8ebbbffd7e46ab1045fb1044f1e75e9d72e2ba9a4d5425eeb71a3f57b24365e6eb0da824eff7860e889fff6b9b7ff83a57be35adf07453a2303281854ca0335f745cbf16f55f5f17ff58cfd589dbfcd123c59e76f7bca6235e4e365738ab6e537a9a4d5c2ceaeac2c7918c90000180249444154b57f5bf5a5bf06ab6db7e6d7253669995097d8a8fda21419b55cec6129a8f739dc4b7d17f09840c1a0668e1becbf1bbb7ce01f33fbdb341deb191a1f9632daa5ef7ab65a74ce9e63ac26e4a3d3ef608e1c140c6a425e5addee7cf950ffc9118ba5cedfa6fd43b28e8d823d0537586d24cc4003503083dc687da990dc2afb3f3f62b11c75b9778d8cf32908c299ab6f7d9a5a67eca07a3c1d535d23b8b834828a0872b913bd54897f0541f8565577a4d51d6955cb7d9a5c2d5a687cd4d5c26d80ec129bd853f0bcbc1c74fa908e808241d5b89fbda944ce57f76716925b8f3addec6fd35cfcacfd183f31b285d186cb838b134b7d22b62c231101aac33fcffcfa5efc9a9e7fa3c9d5f2acfd9816236bbf60f2c44a19f9e4ec6b4c1e5ab3d8b8d4770149612818544a19ab70b5e019fbb167edc78eba5a9eb258b530998160399b53dc1743acde39b030140caac0172dc7ff95bd49ecc733fbdb044178d67e4cdba7a779f9298b8596c099b1dd19b030140caa8912397fbbda5960431cada105d18ffedba72c965a6cb32e1df6ead2606128185487fbd99bff6839cef6311eb1587eb975c3a8ed7c82208c2526a73716d83ec9b030358f034e01516407fb993f4671f44d03fd2b08824b6c64fe245f57b63b67cf61c41c140c0e811aff64475a65fb184dae9617c2bf37f63370d2d7e6bab2dd72b1878d59795030a8390fd4dc978fb4436315fbd48cf19fc12a323f6259e35e61a773f65c4c4ee0f98282c1012891f324574154859f865f25a46a829f8d64f70a3b438bef0f2e4ee0118382c1be7c93dcfc9fe8878cdf6a168b38fa26211fc6efe06b7ff6bcbcdc3add8fa404140c9e0c0f298817c7ff62ec2adc9e28b89ed19dcafba12dd045373ec6e30605831ff175ec32f3ab70667fdbf3a1b3447d240e9bdadc2becfc3131d5397b4eebb20fa060a0adc2fd81f9c3246115ee3105fbf8bce5d6339badd3fd0887a160200882f0e5d8eb4f1c4ac412b6d1370ddc0b57240ae62d17b1271c4676180ae69dbcb45aca5022aa79c67eec85f0ab647e36cec70f5f57b6dba67f379698c40e0e03c1066523a97028061538aefccd127c85cccfc676d7b4d2a9379947db7bc3de533815888239a2f2a118143cdbc193c4fa571004bb553cc16b46f851b4bc44cbc59e32e6ab0244c1545264343d3b5fef16cbf1b5cf09cc023f0ac31ddccbc3e7708fb6f772b2871b5130bf6407fb995f857b21fc7bc2fd2b0882dfe1f1393067fa07d6339b27675f3b73f52d14ae210a6616428662d49467ecc77eb975838a8f8a40783f7a3c1da3edbd76ab885301053305e14331aa42e3d267144d3962be893b444c2c4844e80d0fed789e0b9da56bcadc687b2feeccfd989797dd1743838b13484d200aa69efbd99b375a5f627e15ced8a118e571e6ea5b9fa6d6718b22224614cc323cacc2193e14a33cc60343dc6e9643440c0573018662908cdd2a626fc2a1448c6d75550189089d78a0e66eb4fe8af92cf0cfd7fe4ecb28fb27d23add7f5dd9c6ed5a22f52673d87b2aecedc69c5044c1a47327fa21866290cf54d708eed5d2b957d89958996bb9d813599943448c28985cbe496efe77ebaf18ff32a77315ee71222b73132b73b869111143c1ec90ee7c99f92c70c3d40c694dd9cb06e9880a458c223f289820be8e5dbe35d8cff6319afd6d4d4b9f317338d99cd23add7fafb083bbb7ccef63ab6db4bd97f35ea0503011f0d08e47a07f15ee71e229e9b757ff841b1822ae35588eab2d4ae43c0f433118f3af200841a77f046fd395712b777b68f1fd968b3df19484b38128d8003869c7737cedef0cacc23d91c1c5897979197772e5a00726146c00188a413b6a21df397b0e4b731031144c1f77a297be1a7b9ded63646c150e16d64dc4535d2368340105d7100cc560091448d40274fcf9ee39c2ad500b78184d4fc5508caa60b78a4b7d17d0c4a7baa0d104a2e05a81a1184c9254d29db3e7100b571dceb7d541c1d5074331606150868847db7b396c5687444495e16128467df02487fe1504c12536ad0dcc348b8db8cfabcebdc2ce1f13532d177b627202513028130cc5e001d448d41aae6ad7100557932fc7fe80a118cc6331d52df55de8f174e086af11eb99cd93b3af75ce9ee3613607a2e0ea0547f14f32677ec3f6319a5c2dc7d73ec7b5d6405b4b1de8f1748c0786185ea98382ab03274331f85c852b424c4e8c2526b1405753d82e994022a23a70321403fedd43c81358eabb8005ba9aa2cde6689dee6772a50e517015b89fbdf98f96e36c1f2356e18aa016f263894934f4d101f6363743c155004331802008f19434b83881a4840e8cb4f7323398030aae140cc500bb6473cae0e2c47a6613a7a2d6348b8d535d232eb1090ae61a0cc5008f13ddf838b2328770b8d6b0b1a10ecb711581a118e071c2de535bc3f3279c3e9c8a9aa26da83b73f52daa1bfd200a2e1f1e46d3b33d14a3d64819797071e256ee364e454d69b0daae9c7e97d2a404145c3e188a014a21b23217ddf81879899a526f324f758d049d7e289817301403940eaad6f4e1bdc02075a96128b81c385985fbc5d60d4e9ab2eb4352498f2526512f51537a3c1d535d23147d602cc795030f43316ca36fc2bfd5c525362df55db8d6f74183d586b35123e6e5e5c1c50944c12c83a118a072d05c02b130145c263cacc2a11d8f0ea8857c7463012b759c5b188988c3a144ce33ef5f6e8762e88cc55437dadebb363083d6c3b580968c04a2e043c0c9500c4e46d313057636731b0b230a3e049c0cc5807ff5c76e15b5953af4bdac7a2c1c21bbad3ea2e052e161150e433148202627222b73d853574526bbde0879025030c5602806d019eca9ab2eab037f25730733121125c1c3508ce74267e15f72186defdd1a9e1f69efad379971362aa773f61c99dd7c10051f0c86620003c9e694c8ca1c3637574eb3d8b83630832898c26780f58eec8220bc38fe17f8974cec5671aa6b647338e673a06568455c57b6c712938882298387d1f468c7430b52468eaccca176ad12aef57de07778a0603ac0500c40a688d186b86cea4de6ade1798ba98e90cf8344443178188af1d3f0abf02f5df81d9eade1f9c9ae37d0eea70cee157688da358728785f301403900f6ad7cae3a3d3ef10d2df1d0ade171e46d363280603a0dd4f1934586d6b033324a4239088783277a29798f7afd9df06ff3280d6ee676b787ec0db8db35122b772b7a31b0b88820905433100a5a088f8506c0ec7ec5611513071602806a094dd22e2134e1fcec68190d0c10751f05e301403b0018a88a9088411053f1e02ff81fd58696a06179a79fc0e8fd60013dbea480e84a1e01f81a1188049117f74fa1d14113f917979399b530cfc004844fc00866200b64127e22762ec640d44c13fc0c3508c17c2bf877fb925e409605bdde3c45392817d2c11057f078662007ec06e8e3d183856030afe8e2f5a8e632806e04dc49195b969327628188b81ad8491881004415022e7311403f086c554371e184227624110ae2bdb462dca210ac6500c0084784a1a4b4cf2bc52f75e6030ec3d8528d80078188a218ebe09ff8222049dfeb581199ebb4cc40cdad5cd7b148ca118003c4a52490f2e4e5c57b6393c764376ca711d053f50735f8ebdcefc61be38fe67980594884b6ce2361c9632b2fe7f29d70ae661150e433140198c0786aef57d506f3273a66003fa69f09b88e061280656e14025a885fc99ab6ff1d3e8a7c16adb1a9e4714ac133ca420ec5333f02f281b8ba96ea9ef023f49895bb9dbfa97a671aae0af63973114038052180f0c4d76bdc1c9c1269534145c731ea83974a404a074429ec0eac05f79480d27752f05e151c1188a01c06171894d4b7d1798b7b0fe4511dc29382fadde8d5d66fb189fb11f7b21fc2aac0160e1c3a27fcb34ee14cc490a02ab7000162e83eb4844d4943bd14b188a0140e51666f800752e8ae048c1f7b33795c879b68ff188c5f2e2f85fa009506b0b335c230105d70a0cc500a05a843c019e7bfa40c187262fadde8b5f63fb184dae1671f44ddcd3401fc60343cd62237bc7a57369302f0ae6a12325521040670c9c7a593b547d873971a1600cc500a016b8c426a423a0e003b89fbd79277a89f1ab68b1a023253084d1f65ede1aaa41c187233bd8cffc2a1c866200a3b098ea0c99f70305d3811aff8487763c2f847f8f5b191845d8db8d40180a7e02188a01803e8170d0e9c7798082f77227fa21866200a00341a70f27010afe11df24376f73b0170e85c0800c05fb918b80827f041f2988bf60150e1082dfe1c1498082bf8393a118cf87cee20e0684e0129b7012a06041c0500c008c8982b12601050b8220084ae43c86620000ca0c6eac3628b87cf2d2eaff443f64fb16c1500c4020cc2422ec56110a2e1f1e52102f8eff19ab7080342ca63a9c04de15ccc9500c8ca607000a268e076a0e4331000015a273751d3b0ae6a11d0f86620062d1b9d339a260b2e06128c633f663d80b078845fff1efb5a041df72087614ccc3500c14020350f3a74cdf720846148ca11800181f06e93b78180a26050cc500800c05df86827954300fa3e9311403900f1bcb712edd6742d3ad6035fe090fa3e9311403d01005b39088d07f8309c50ae664280656e10005c150217f5dd966e040f46fb949b18231140300429032320347a17f451ac50abe9fbd89a1180010a3e04d068ec2904e43b42a988742600cc5008882a16012c1500c508a145aa7fbd95823223d1eca29ac24820d48fad1a7600cc500a5105999bbae6cb74ef7a37741ad89a724360e045170496028063890989c58cf6c0a8270afb0d3397b8e1947904974638181a368b0da0c69794c9982bf496e622806288e5ac88f252677ffefbdc2ce6faffe29262770666a8194916f31b12fcea809d09429988f55380cc5a83428bb57d8d9f39b438bef0f2e4ee0e4549dc8ca1c1b0762d4f8519a14ccc3500cb3bf0d43312afa92ce2913fb48615e5e6e9dee67a3a72239677b9d89723444c107c3c9500cacc25548f150170b747a9e6d8a68b0daf46fd0439982bf1c7b1d43314071a48c7c6050762b77bb6dfa77480deb73b66921e8f41b1678517182f2d2eaddd865b66f680cc5d03328d352c3484a54c2a36b9ef467210c6b034087823114031c4874e3e3432dcdcfcbcb9db3e79094280fadec9a8d63a937991105178387a118f5c193188a51096a215fc6d2fc7565bb73f61c92128725a9a42758298430360b41818239198a8110b8f297e2c70bd14ae15e616768f1fd3357df4252a2f46f3bc6cafb824e1f14bc2f188a014a09cae6e5e54a7ec2a7a9f5d6e97e367acde8f06dc74c0ac2f02c04e90ae661343d866254450a95ff905bb9db27675f1b4b4c221c2e426465aec26f3b6421a851f00335c749474a3cd895b0db0ea22a4c6f2c201c2e72aa594a016b84bddd50f093e164280656e12aa1bc553884c3e5f97768f17dc60eaac16a33a43b1a050ac6500c500ad18d851af58899de5868b9d883166b0cfb978410985c0563280638f826d9bf1d4455d05aac75ce9ee3bcef7b64658e49ffd69bcc214f000a7ed2db65fc130cc50007a2cfeeacf5cca6fb6288cfbc84567fc65efe5723e8f41bd220780f3f79f8f02151e7e5819afba2e538f385683f5ffb3b4623578294914fcebea673d014f69e1a6defe5e40c2795f4e0e2044bf5677bd81c8e19d59a87e8289893a118f02f1521f09ebcc4c4ca5ccbc51e1e76d345373eee9c3dc7b07f7b3c1d24f897b828f89be4e67fb7fe8aed9bfb19fbb1e36b7f4716b84241fc313165e00768b0da46db7b49c824569d6c4e194b4c7e9a5a67fb16bad6f781510d82895670baf365e6b3c08e2b7f4353f64a500bf9968b3de56d4786880ffc6e8baccc91706e6b8acfe15eeabb40c8872148c177a297be1a7b9ded6b6ff6b7352d7d068d5698829826695ea496230e7bbb4958db291b29230f2e4eb031058ea210982005f3b00a77c46239bef6399ab257425249b74dff8ecccfd6e3e9087bbb0d2ff52f43be919539669aaf977299a6ba46c8f93c4f13f23930140394180213fbd9e6e5e57979b9596c0c793a429e00f941714c4ec4e4657ee4ab415a4d0b1151705e5addee7c99ed0bff8cfdd82fb76ec0a195104f49bfbdfa275a3eed09a72fe8f411527cfa28d99c12939763728293b4c3a30c78bbc7034350f05e6eb4bec4fc68e4c6a5cfd00ea212d442be75ba9f466b682ef63b3cc65641a9857c3c25c553ebcc573bec47bdc9bc353c4fda37a2f1890825729e79ff622846e5d4ae1d44adf9f47beb358b8d7e87c7ef70fb1d1edd4420656429b3194f490c17f996c8786088c0ec90c151f0fdeccd1bad2f61150e1cf8eedc3addcf52b154b3d8e8129b5cdffd6f5315d59054d2d99c9254b6599a705c394415a211140573321403fead90b2e71211cb7565fbbab23dffc83bb24b6cb25b45bb55b498ccbb6515daef3c9e52d89d3aaa16f249655b8b76d5421ea1ee7e2908a2aa20485130866280125fa5994f5fde2becac6736d70504ad3521ec3d45c876e427bc251bf97689a118a0b41018270154928220b9b992610ae66134fd73a1b35885ab90989cc0cb35281b9253101ac62cc7ddcfdefc47cb71b6affd118be5975b37d08ea712c86907012865b2eb0dc29b7818130563280628051e5ac680dad1e3e920bf8992010ac6500c50d2f7744e21aa1d0fa08b66b191b48d704428f8819afb92f576688220bc38fe673c031532b838819300caa3de64be72fa5d2a7ad7e9ad601e56e17e1a7e1543312a249e92b0ad0094cd95d3ef125b85b6075d97e33014039448cbc51e0e9bc880aa40fe129c615130272908f8b742222b73f02f280f2a96e08c51f0d7b1cb3cacc26128518564734a74e3639c07509e7f09af02364cc10fd4dc97637f60fe0eb04fcde031a83c0446211a28039fc34d9d7ff553300f43316c68c7533152469e9797711ec06169161baf9c7e97c64faec7721c86628012e99c3d87420850867f97fa2e503a3e558f28182908500a313901ff02aefcab8782ef442f6128063810b590474734c09b7f6baee0fbd99b4ae43cdb37c1118b051d292b27bab180553870284e387db4fb57a875cb760cc500a590cd29132b73380fa07468ac3fd35bc1188a014a04ed20c0a12070163d890ac6500c500a9832090e055dfb8f0d533086620084c0a0ba68fdcffc0e0f4b07551305dfcfdebc13bdc4f6dd70c4624147caca413b085022dae60b5afa9f19ace0ec603f0fab7068c753216a218f7610a0147a3c1de38121da8b1f745230274331b00a573963894914a28103792f3018f69e62f5e8aaac600cc500259254d26807018ad32c364e758db8c426868fb1ca0abe13fd10433140890aae3799110583fd18f0768fb6f732997c78946ab6e9e161280646d35711b5908faccc614627d843bdc93cd5351274fa7938d86a2a38ddf932f35960c795bfa1297b75c9e694c8ca1c921240e384d337d535c27cf05b7d057f1dbb7c8bf5bd18667f5bd3d26778486a819491232b73d8a381e09793e0b7ca0a7ea0e6be6839ce7c21da2fb66ea01d04440c6a012799dfc7a9ce729c12398fa118a072fc0ecf529f0722e68a66b1713c30c4d89e375da3604e866260343d226250f5ccc3687b2fc335bf3a29f846eb4bcc37656f5cfa0ced20206280cc03710abe13bdf415eb7b31ea83277f76e53ff1cc184852494737165035c1063d9e8ed1f65ef6ba3d18a0601e56e18e582cc7d73e47169804b4f2b5784ac2860e4af139dce38121b677bbe9aae07f9ef935f34dd96da36f8aa36fe2462107b5908fc989e8c6025aacd125dfd1f65e6ed7dc6aa2601e56e14cae96e36b9fe32e2193784a8a6e2c204d4c7eda21e4e9807cabafe02f5a8e33df0e02ab70e493cd29d18d85989c40768240f922e75b2b052b91f3b7591f8dfc5ce8ac7d6a06b7082dc4e4444c5e46506c380d565bc813087bbb51ed502b05dfcfdebcd1fa12f3ab7068c74369501c93976372029962fdf139dc616f376f3b8c0d50300fab70ff67fccf68ca4e355a1d1bca27740b7b439e0ee41cf450b01aff2473e6376c9f14b4e36189784a8aa7d6e1e2aa536f32079d7e2cb5e9aae0076aee46ebaf985f85fbf9dadfd1941d2e0645cc1b74fa90703040c13cacc2fd34fcea8be37fc19dc13049251d9397a58c7c5dd9c6d98079a951f0fdeccd7fb41c67fb7460158e2bb23945cac8f1d4ba9491111a3f9166b151332fb6b419af601e8662344ccd3c1f3a8bdb82cfd0587331cada9ac546bfc3e377b8fd0e0f0acb4851308662007e90327252494b99cda492e6a4b8cde770fb1d1e97d808ed12aae03bd14bcc4f47c6500cf038d99c9254d249655bf33233f90a9fc3ed129b5c62a34b6c4292818e44842008797613114f592ca88200a518399b53a4cca6f60b5ab2163e87db6e15ed5651732e0a7869553000600f6a219f54d2d99c92cdddd6bc9ccd2946a52f7c0eb720082eb1c962aa73898d16539df66b5c26281800ee9032f2f78efeaefa2da9a4d542fed13f53248eae37991f4f113caa544db27b7e1340c10000004ae2084e01000040c10000000503000080820100000a060000502bfe3f993423a762aee87a0000000049454e44ae426082', 'image/png');
+INSERT INTO logo (hash, content, content_type) VALUES('afef87b49bce550b4b2279ef9a70af770e8a8a86a2d3735dd575809701388a28', X'89504e470d0a1a0a0000000d49484452000005280000034308020000002110667c000000097048597300002e2300002e230178a53f760000000774494d4507de05080f1b27eed449ac000020004944415478daecdddd79dadcba3650f25deb1c52014a05c81520576052814505c6151857105c814505810a2c2ab0a820a2824815e43b602f6fb6ed38985f09c63878afc4af4df00424dd7ae67ce6973f7ffe340038b8344d2f2f2f977fee76bb2f5f6fb55a6118befc350cc356abb5fc7310044110183a00807af92278031c451cc7e3f1f8533ff2f8f818c7b1a10300a897ff6708000e2fcbb2cfa6ee46a35114459aa64551184000801a51f1063882288a66b3d9663ffbf4f4144591310400a80b156f8023188d46cd6673b39fcdf3dc00020008de007c240cc3c9642278030008de00ec4b14458f8f8fc6010040f006605fe238bebebe360e0000823700fb9224c9ea26de000008de00ecd86432d9b8d11a0000823700ff48dd61189665b9fe8fa4696adc00006ae43f8600e028b22c1b0c061befe60d0080e00dc0fb8aa2180c06e3f1d85000009c0353cd010e6a381c0641207503009c0f156f80c3c9b2ecfefede3800009c15156f80c30982e0e6e666cb07298ac2480200d4c8973f7ffe1805808349d3f4f2f272cb0771e80600a811156f000000d823156f80a379d9913bcbb2e504f23ccff33c5ffe61b158fced071dba0100046f0076a3288a288ae6f3b9e00d005053a69a03545aabd56ab55ac6010040f006e070b22c33080000823700fb8ad97614030010bc01d899b22c0d020080e00d00000008de000000207803f0316bbc0100046f007623cff3b75fd4d51c00a046fe630800aaa6288ac96492a6699ee7ef66ec24491a8d461004711c1b2e00808afbf2e7cf1fa300501d49924c2693e974faf1b7359bcdb22c3b9dce64320982c0b8010008de00fcdb6834babdbd5dfffb97f1fbf1f151e91b00a0b2acf106a88a344d9773c8d7b7dce27b3299bcbb141c00802ab0c61ba02a922499cfe71bfce0743a6db55a9f0ded00001c868a3740558461b8d90f369b4dcbbc0100046f00fe6132996cf68365596efcb3000008de00e762381c763a9dcd7e56c51b00a0b2743507a88a3ccfc3305cf64bfbacdfbf7fb75a2d63080050412ade005511044192245757579ffaa976bbfde3c70fa91b00a0b2743507a8905eaf1704415114799e2f168b7f7e7fb3d94c92248a224307005059a69a0354519ee793c964341a7d10bfefeeee0683815a370080e00dc0a6c7e82f5f3ef8bf4f4f4f6add0000d5678d3700000008de00bc91659941000010bc01d857ae2e8ac228010008de006c48ae060010bc0190cc010010bc01ea29cff38fbfc11a6f0000c11b803d066f0000046f00000010bc01a8a47f2ee136d51c0040f0066073ffccd565591a250000c11b000000046f00ea4903360000c11b800dcd6633c11b0040f006000000046f00000010bc0178b1e65661699a1a2b0000c11b804ffbe726de000008de00000080e00d50496bb62bd7d51c0040f00640f0060010bc01000000c11be07cacd95c4d0f360000c11b804dacb99dd87c3e37560000823700000008de000000c01e7cf9f3e78f5100a8dcd1f9cb9735bff3f9f9390c4323060050592ade00f5a6bf1a0080e00d00000082370095b1664bf325156f0000c11b80cff95496fe544a070040f006000000c11b807dcaf3dc20000008de00ec4b9224eb7f739aa6460c0040f006e013417a369b19070000c11b80bd188d469ffafed96ca6b1390080e00dc05af23c9f4ea79ffda9c96462e80000046f00fe6d381c6ef05382370040957df9f3e78f5100a882a228be7efdbad9cffefefdbbd56a194300800a52f106a88acfaeee5ef5a946e800001c928a374025144511044159969bfd78a7d3c9b2cc30020054908a3740252449b271ea6e341af3f93ccf73c30800207803f0be6de6992f69b10600207803f0be2449168bc5f60f622401002ac81a6f80e30bc3703e9f6fff38bf7efd0a82c0780200548a8a37c091a569ba93d4dd30db1c00a09254bc018e2c8aa2d96cb693876ab7db5aac0100548d8a37c0316559b6abd4dd6834168b854dc50000046f00fed7f6cdcc5fd1620d00a06a4c3507389a3ccfbf7dfbb6dbc734db1c00a06a54bc018e66e7e5ee86d9e600008237004b4551ec695ab8d9e600008237008dd1685496e53e1ed9a662000095628d37c071b45aad3d05ef46a3f1f4f4144591410600a802156f80234892647fa9bb61b639004095a878031c4110048bc5627f8fdf6c368ba230ce000055a0e20d706893c964afa9bbd168946569a5370080e00d70a6f6b18bd8bbf1de5003005481a9e6000795a6e9e5e5e501fe21b3cd01002a42c51be0a00e53ee6e986d0e002078039ca13ccfa7d3e9c1fe39c11b00a00a4c3507389c388ec7e3f121ffc5dfbf7fb75a2d230f0070442ade00075214c581537743d11b0040f006381f075bdd2d780300548aa9e60087501445100465591efe9f36db1c00e0b854bc010e214992a3a4ee86a2370080e00d700e8e32cf5cf0060010bc01ce4292248bc5e258fffa743acdf3dcab00002078039cac2396bb9714bd0100046f809395a6e97c3e3fee734892c40b0100702cba9a03ec571445b3d9ece84fe3d7af5f4110783900000e4fc51b608fb22cab42ea6e986d0e002078039ca4a3afee7e61b63900c0b1986a0eb02f799e7ffbf6ad3acfc76c730080a350f106d897ea94bb9714bd01008e42c51b602f8aa20882a02ccbea3ca576bb6d436f0080c353f106d88bd16854a9d4dd6834168b4596655e1a0000c11be0448277059f95d9e600008237c0294892a46ae5ee259b8a01001c9e35de00bb1704c162b1a8e6737b7e7e0ec3d06b040070302ade003b36994c2a9bba1b669b03001c9c8a37c08e4551349bcd2afbf4f43607003830156f805d4ad37427a9bbd3e9ece9192e160b2bbd0100046f80badad544ee56abb5bf272978030008de00b594e7f9783caefef314bc01000ee93f8680ba984c2645512cff1bc771a3d1e8f57a7bad0ac2670d87c35a3ccfb22c279349afd7f392010008ded068341a59964d2693fbfbfb97af1445319fcf0783419aa63646a2228aa2d861b97bdf3795046f00808331d59caa4bd3f4e2e2e2d5bad9f97cbefcc370381c8d4646892ad8ed5b71df7794cc36070010bce1ff84997777452ecb723a9d0ade5441511455782b369bcd35bf7339dbdc0b0700207873eeb22c4bd3f4e3ef09c3b0280a63c5714d2693b22c8ffe34cab25c3f7befaa013b00008237355614c53fc3cc743afd6738877dab4e5bb5f517874fa75337ad0000046fce5d1445cfcfcf1f7c43b3d9bcb9b90982c05871444992bcbb1a62639d4ee700c1bb61a5370080e00d8dffce86fddbecd9b22ca328d2d89ce3daf9eaee83ed93277803001c80edc4a841a469b55a799ebfbb5153a7d389a2c8287144699abeb4d9af823ccf3b9dce9a4f6939dbfc60391f00e03ca9785303c3e1308ee36eb7fb6ee6911938fafb731f0fbbf1eaebb22ccd36070010bce1d3a2281a0c06c681aac9f37c369bede391b32cdbf867056f0000c11b769643b60927b0bd3d95bbb75c40f1a9e03d9d4ef33cf752020008def0fecc5b9b2171447f6b3d50850f4bbbdd5efffb15bd0100046f683454bca99e9d3733dfe187e55335f3e5de01000008de001552144565f3ea62b1f8d4e6f6f3f9dc6c730000c11b1aefb6b04ad3d4c87014a3d1a82ccb3d3df8a762f3bb3edbeddf6c730000c11ba05af65aeede3e781745d16c362bf2eb00009cb9ff18026ae16f95ed3dede404ff8ca98bc5a2cacf70b9cc7b3a9daef9fdcbd9e6db077ea0ca07ae2449c2305cce8879f94310043efb00823740e5ec6917b1dd06efc160b07ef05e5e9457fff702365314459aa6b3d9ec831bd6cd66330cc3e59f5f1a3486611886a1640e207873163e58cb9da6e9969b1ec3a74c26938a97bb1b9fefaf2678c3c907ef7fb67228cbf22596afe6f31f3f7e0c06036308b00d6bbc013ee700bb88ede45ed267fbab2d160bfbf3c1a9caf37c9b7e904992d8fb0040f0e6f42f173ea8780f874369818359ced5accb53ed76bb9fbdb6f612c3496ab55a9f3d20bcb8bdbdedf7fb823780e0cd291b8d4683c1e083a8339bcd2e2e2e2693495114868b7dab51345df657fbd48fd8540c76ebcb972f6118f67abde17098a6e911cf536118a669fae3c78f8d1fc1fe9d005b9d11fefcf96314a8acc160f0f0f0b0ce77763a9de565c167a7d7c2faf23cfff6eddb01fea13f7ffe4451b46569bddd6e2749727979f9a99f7a7e7e7ee9ae046c63341adddedebefd602edb95455174b076e245512c5b9acfe7f38d1fe4eeee4e1b0800c19bd30c396118aebf26add96c6659a6f32afb13c7f1783cdef7bfd26eb7f33cdf3e782f03fc972f5f3ef5233737370758c40e27af288aaf5fbfae73e65a86f0bd360fdfc9b14bf006d886a9e654d77038fc54279856ab2530b0d7cbe803a4ee46a3b1c32bef344d979341d667b639ecc49ae7a36523f1fbfbfbefdfbf7ffbf6add56aedbc6b499aa66e490308def05751147daa138c9ecc54e132ba523658e6bd582c646fd8de7038bcbebefeec4f9565b98f05533bd928c11a6f00c19bd31404c1a78274a7d37159c09e14457126c1bba1e80d3b9224c906d93b8ee3dd66ef9da46e00b6f41f4340958377a3d168369b6b4e389fcfe75996e90bc53e4c26936db6c03d62f0dee07e81e00d3bccde8d46e353ab54f6b1616118864f4f4f59961545b16caebe4d973500046f4e2d78675916c7f13a5721d7d7d7cbe634c68d7d38644ba11d96a7e6f379abd56ab7db8bc562fd9f2acb723299f47a3daf3b1c257bef5cabd58aa2e8d5b125cff33ccfb32c7bf9efa70e140008de9c54f6fee73edecbd43d1c0e358f617fd7cdf5bd1e4dd3348aa2cf5ef40bde7062d9fbdd336c1004afd2f86a553c4dd3d5c2f83e4af100823754451886699a7ebc25d2f29a06f6a4d6ddf297cbbc3708de5e77d895a228c230fcd4c7b0288a7d74595be79cdbf8efbc9b344d2f2f2fbd7c003ba1b91aa720cf7383c09ebcaaf9d434787ff6a796b3cdbdfab0fd07308ee320086e6f6f3ffb83460f40f006c19b7371c8d5dd4bcb45134551eceaba3f088276bbfdd91f349104b69124491445171717e3f1b88ead191bf60f0310bc010e23cff3c32f6b5c06ef5d95d9978fb341dfc1e974baabf00f6765d973a4dfef9fdea268757800c11b602f17d027f05b2cfbab6df083669bc3066add8ef1636ec60108de9c3553cdd9d3fbaa6a5d8837b3d9326fc11b3613c7b1410040f046f086b5d4ba99f9ab0f481886cd66f3b33f68b6396c60b3fb5caff8e80108de00a7af288a637517db603df6c796cb3215bde1305aad56a7d3d9c9c7b66aacf106d8987dbcd999c160e094ccc9188d46c76a44bcf3cd7b971d9ec2309c4ea71b046ff366e153c2305c3d1b6659b62c5f1745f1f2f5d52fd668c342757800c19b63cab22ccff32ccb8ed5c1d5547376eec436d35a2ef3bebfbfffec0f4ea7d33ccf978dd681cd72f8cb9f7bbddedfbe6d381c6ef00915b301eac254737660381c7efffefd88fba608deec3c759f5853e28dfbab35cc36877365161b80e04db5b829ce8939e22e621bb4405bff02badbed6ef0b32756fc072957140710bc018e6c32991cb1dcbdf3ce6aab97cb9b15bde7f3b94925b06faf6e6157f38eb6fbec00823767cd3d7876e86476115bb55c0962b63938af012078c3868ed57d9ad393a6e911bb15ecfb3a7ee372bad9e600008237c06e9c70c2ccb26ce3ed85cd36873339000e068356abf5e5cb972f5fbebcbd0b399bcd96ff2b8ee3d168e4b0002078037c5a9ee7e3f1f8b8cf614f6bbc1bdb2df36e287ac3499b4c265114f5fbfd8787877526918dc7e3dbdbdb300c1d1900046fce8be5706cef88cdcc5fb45a2dc11b3870eade6c4fd0b22cfbfdfe60303086008237e742ab55b67f0b9d760bb12dfbab2d160bb7b7e0246ddf51d29c7300c11b60dd4bcf93efd297e779abd56ab7db9bfdb8a2371cccc1ba3c4e26932dffad87878793dc0c0240f006d8b1a2282a72e1b8bfa9e68dad679bdb540c4e4f1004cd66739b4768369b669b0308de9c0b9360d9c66432a948b97b7fcdd5b60fde669bc3499e3db73cfa956559850619008237a72f8ee3bbbbbb8de7afee8435de6ce34cae1ad334dd267837cc368793d3ebf5aeaeaeb679846eb71bc7b1910410bc3944f01e0e874110180aea284992c562710ebfe9b25e1d04c1c6b7c9cc36873d39567fb256abb58ccd1b4f380fc3709bdb790082377c3a7edfddddddddddedf661978f79dc723a271fbccfe4372dcb727971bff184f6c562217bc33e1cf1f65fafd7fbf9f3e706e1b9d96c3e3e3eeaac06b08e2f7ffefc310aecf85df5e5cb0e1f6df9168da2e8e3b6abdd6e77398d163e254dd3cbcbcbea3c9fdfbf7f2ffbabedf673f4e2e7cf9fbd5e6f341adddede6ef608d7d7d7269cc3014e9d4f4f4f87ac24e7793e1a8dd2349dcfe7fffce676bb1d45511cc76add006bfa8f2100ce59d55677efb5ab79a3d1c8b2acd7eb6d73adace20d2729088297da759aa65996bd7b7beee9e9290cc37d1fa900046f38b4344df33c3fd6e2374e5b9ee707db2cf7b36ffbbd3e721886cd6673b356c665594e26935eafe7fd03a7ea837b734adc008237c7cf30fb98805aa969c09c9833dc02e7653fb0288aa6d3e9660f2278030008de1ce76abe288afbfbfb633d816ad62da9b23ccfc7e3f1b9fdd6cbfe6a41108461b84df0f6fe0100589faee6ec26c0445174f4d2b4adbcf9940a7608eb76bb07f8579645ef6de68b2e679b7b0b010008de1c34786fb65874b7a22892bd5953511467bb05cef6c1bb714e7bb0c1713faa0008de502df3f9dcba53d6341a8daa70b7e8b857f3db14d8a7d3a9fb5cb0573e6200823754d46c368be3d838f04fe75cb05dedafb6cde3986d0e00207873a6c6e3b1eccd3f53f762b1a8e0130b82e000ffca62b15856d2046f0000c11b646ff6a2b2bb881d267837fe5bf40ec3709b0731db1cb69124c960300882e0cb972f5fbe7c79fb0df7f7f7cbffd5ebf586c3619ee7060d40f086ca65efb36d9dc5c7d234ad66b9fbc083d068345aad56a7d3d9e67114bd6103cb2dfdfafdfe9ab36fa6d3e9fdfdfdb76fdf46a391bb5d00823754cbededadc6cbbc55d972f72159e60dc79224c9b76fdf9679fbb32d1e87c3a1fd3b00046fa89c653dc138f0224dd3d96c661c7615bca7d3a9e9afb0bea2280683c1c63f5e96e57c3e5fce580140f0866a656f45395e54fc46cc9631787dbbeaafd650f4864f7ec65badd6368fd06c36078381cf1d80e0cdd9d9f2fefd01c471fc52dfe39ce5793e1e8f8dc3d2f243d16ab5daedf6368f635209ac7f089acfe75bf69828cb72b15838a90108de9c5dea8ea2683e9f57f9499665194591cb14acee5ef5325b75cba2f77c3e37db1cd6d16ab5eeeeeeb67f9c4ea763e70e00c11ba95bf6a6a26f57933357ed6a9977c36c7358dbfdfdfdf60f329fcf7de800046fa4ee4a676fcd60cfd66834fa6c03e1c33bd83edebb0dde669bc33a5aadd6cdcdcd967bf8edea630b80e08dd42d7bb3fb776c2df6753f64f07e59681a04c196cbbccd3687350d87c3ed3f2c37373761181a4c00c19bd317c771ed52f74b4290bdcfd06432a97eb9fbf05e96796f7f11afe80deb68b55a699a6e7cababd96c5e5f5fd7e236220082373b48ddd3e9b4becf5ff63e43daaabdcb6c7338bc300cf33cbfbebe5e06e9757e6419d4dbedf66432f1590310bc3997d47d021b32cde7f38a6f81c60e2549b2e5fe3d82f73fd9df083e7b5cfaf5eb579224d7d7d7dd6ef76f0bbfbbdd6eb7db8de3f8e9e929cf734bbb01eaeb3f8680734bdd4bcb5f44e9e04c2e706bf13cbbddeeb182771886cd6673cbd9f8499298010beb0b822008825eafd76834d234bdbcbc7cfb3d2feb4100a83b156fce3175bf646f5ba19ebc344d67b3997178d76aa7069b8a010008de48ddfbcadee69c9f36abbb3fb6c3fe6a669b030008de48ddef7b787830e1fc54e5795ed372f7c1e697ee709977c3da0d0000c19bcd0c87c3134edd4bfd7e5f6038d5776f8d9eed2137f116bc0100046faa224992fbfbfb73f84d65efd393e779bdee191d37783776d1ddad2c4b2bbd0100046f3e97bafbfdfef9fcbefd7edf0ad5137b031b847fda6d7fb586166b0000823752f7c7a22892bd4f435114b6b65ad3cb7a72c11b78e16c0820782375ef4b5996b2f769188d465bee4a7d8697d7db37366f986d0e3597e7f960300882e0f6f6f66f5708460940f046ea96bda9eba5e14e72ef36c1bbd56a753a9ded1f50f086da298a224992300cbf7dfbf6f0f0b0582cfef69dfd7edf369c00823752f76eb2771cc74551783fd4f76dfcc1556365b55aada3fcbb799ebffcd96c7338c3c81dc7711004fd7e7fb5e9c3071e1e1ee23836740082371b4ad354ea5e9acfe75114c9de3555af5dc48e6e75abf39d04efb22c4d4685ba1c2dbf7efd3a1e8f3fbb36673c1ecbde0082379bc8b2acd7eb1907d9bbee2693491dcbdd47fff8ef30783714bda10e9ffa300cb7d93154f60610bcd9e4041c459166546fb3b79b11b553df66e6c79a6adef8bfcbbcdbedf6f60f389d4eddb4826a2a8a62381c5e5c5cac39b15cf60610bc91baf76e369bb9aaa891344d57274ed7cbb19aab35feefbe418ade70c247c8388ebf7efdba4da15bf60610bc91baf7c255458d585a2c7803af1445311a8d8220b8bcbc1c8fc77b3a4b9ae402f0b1ff1802a95bea5ee7aa42a8abbe3ccff7714d790e76de5fadf1dfd9e6479c3f0f671eb6b32c4bd3f430f380c6e3f1f29ff39107f81b156fa95bea5ef7aaa2be8b87cf8466e65b1e10967f08826027cbbc1b8ade7070799e8f46a3300cbf7efd7a7979797f7f7fb0d5373a92027c4cc5fb7ccfcd52f767dddedeb65a2dd3ceaba9288a5ac7bc4ea773f4e0fdb2c83c0cc39d74864f92c4e70576f8217d37d6665996e779966559961df7b4beccdeeade008237ff1b517abd9ed4bd81e53ee7b244058d46a35abfa58f7e9dfa6a99f7743addfe3167b3599ee74110787fc2c69645ecc964d26ab5b6ef432e7b031c8ba9e6e798baa328aafec9bbcad9db62ef6a066f83b0c3e0bdab8735db1cb611c7f1b76fdf1e1e1e168b455d4edce69c0308de48ddbb31180c56530a47972489191c5b5a5d081a8661b3d9dcd54b636c6163356d18297b0308de52b7d4bd0365594651247b57c709b455abc2b4cc7d14bde7f3799ee7dea2706ee6f37918864e940082b7d48dec7d229224d94927b0e37a696c7644ab097987cfc76c73384f8bc5c2891240f096bad94df63695ae0ac1db20ecc49e96797b81e0cc4f94b23780e02d75237bd75b9aa607dba5f61c06731fc1db6c73f8a76534dd556f05d91b40f0e608068381d4bd3f5ac81c9766e63bbff47fd1ed76bd4c7000711cdfdede9ef02f287b0308de67713aaf694f54d99b7fcaf37c27db4d57c1ab35d547b9422dcb72b5346d5331d8b7e594b497d3f409efce207b0308de5237bbc9de711c1b87033b8166e62f5e75353fd67d9c3d2df35e2c16abf3d88146a391e7791445e7b3586699bd1d0a00c11ba99bad4ca753d9fbc0d7acdee17b0ddebb6db4deebf514bb60f5b31686e1b92d042bcbf2f2f252c34540f046ea662be3f158f63e18976efbb05a8c6ab55a9d4e678717dc511479d56079f8bab8b838e189e51febf7fb0e0580e08dd4cdb6d97b301818877d2b8a42bfae7d785594dee16cf365f6eef7fb5e38cedc6030e8f7fb673e08b23720782375b3ad878707d713fb9624c989158b761b71b7c9c67beaaff6e2f6f6d6c410ce535114711c3f3c3c180ad91b10bca97d1a91ba5d4f9c0355d3fdd9537fb555e3f1d846009c61ea5e6d608e7325207853e3d46df69aeb893379ab2f160be37080e0dd6ab5daedf63efe95d96c1645d16a751d4efb631504c1b9b55273ae0410bca56e0e743d61df947d38a55dc42ae8d59b767f73e0e7f37918865a9d730e27e8288aceb695da3ae74abd5100c11ba99badd842691fb1f0f4cadd7baa2a6fe655157aaf8bcfb53ae7e48d46a37ebf2f757fece1e141eb0740f046ea66db5c217befd04996bb8320a8ce93592c16ababaff7ddf56dd9ea5cf6e624c5717c7b7b6b1cd6613f4e40f046ea46f6ae8a2ccb66b3997138c038afde14384041bedfefbbe6e69414451186a1566ab23780e02d7573d0ec1dc7b11ecedbd3ccfc305e2df30ec3f030d7dcbd5ecfc7841390655914455aa9c9de0082f7899cd7a5ee1a99cfe7f64fda529ee7ca47073bbcacfef5607b8c4fa7531f13ea2e4d53a95bf60610bc4fe7b2f86097c2c8de1571c2cdccabf6713e56f05e7e4c8220b034839a4a92e4f2f2522bb5edb3b7f92f80e04d5552b7f37a7db3b771d840511493c9c4381cc6abfe6a6118369bcd83fdebcbb6085e6e6a278e6333d176c5fc1740f046ea66dbec6d12dd0646a391b7fd21bd5ae6ddebf50ef9af9765f9fdfb77adcea98ba2287abd9eb5303b3f5dcade80e08dd4cde62c60db2c781b84437a55701e0c06877f0e5a9d530b799e4751349d4e0d85ec0d20784bddc8de359624c969bff32bb58ff74bf07e35dbfc009b8abdfb49b1d4938a9f9ac330d44a4df60610bca56eaa9bbd5571d774c26dd52a1bbccbb2ac42d1bb61a927159624c9c5c58553b3ec0d20789f88a228a4ee93747b7b6b15eb3a97b68bc5c2381cdeabe07de065deaf2ebbb53aa76a86c3a1566ab23780e02d75530ffd7e5ff6fe67f0360847319d4e572f738320b8baba3ad693d1ea9c4a9d97e338bebfbf371407cede6ec0018237fb4ddd168fc9de672b4dd3d96c661c8ea53a45ef8656e754e9bcac81f9b10e025114c9de404d7df9f3e78f5190ba39ae66b399a669188686e2955eaf770ebd82df1e87a328aac21d874ea7f3ea1ab7d56a1d7d02cecdcd8dfe081c857e2bce98001b53f196ba393e77f1df95e7f9d9eed0539137c37c3ecff37cf52bc72d7a2f3d3c3cc4716cb5270736994ca46e674c00c15beac695c4a939f966e61fbf1faa133656ff7aacdee6af8cc7639d9638a4d168f4fdfb77a9db19136063a69a4bdd5448b3d9ccf3bcd56a198a3ccfbf7dfb7626bfecdbe3f0972f5f2af2dcdece360f82a0227de6dbedf6643231e3947d8be3d8a2ee6a9e31cd39076a44c5bb727abd9ed47db69677f1d5f11ae7d4ccbcd96c56f9e9cde7f357c1bb2245ef46a3b1582ca2284ad3d4e7853d298a220c43a9bbca674c9b1d0082379b88e3580fe73367b7d2e5c5eef974cfaa7eb9e6d54d902a2cf35ebdf2bebcbcd4ea9c7d58b652732bbce2d9db66076ed683e0cd26a9db6d7564ef65d2b396b23a5e15948ebba1f7bbfafd7e75eaf09c86344da5eeba38cf5d399324591ef77abd9efbf5500f7fa886ebeb6bef46565d5d5d9dedc7a1dd6e9fcf0b7d7373f3ead77f7a7aaada937c7e7e5e7d868f8f8f151cc9ebebebdfbf7f3b9bb0bd6abec3f9d8e3e3e3f9bc459f9f9f97cb945e162b753a9d57076aa06a54bc2b41ad9bb7a6d3691cc767f88b27495291de5d871104c1abaf549e8d826d0000200049444154b070f16ae67f1cc7155c9aaed539bb3a23f7fb7de3503be753f72e8aa2d7eb2de785bdcc0e5bce95d3f302aa4cf096baa9aef1787c86d9fbdc76117bbbc6bb827be4bc6d5f54a995de2fe6f37918863619629b3ce38c2c7b575cafd77bf7f6b49e1720782375b355f63eabc5ab699a9e55b9fbdde09de779d59e645996d5dcd0fbad65ab73d99bcfcaf33c8aa2e9746a2864ef2a1b0c061f77e1edf7fbe7395d0e046ffe71f494baf9a7878787f3b9817d6ee5ee66b3f976dbf60a06efc69ba2771886955d8a5f96e5c5c585b20febcbb22c0c43add44e267b9f6af24c92e4e1e1e19fdf66dd0d549465ee7ab7500be7d036e6f9f9f9dc5ed66eb7fb761caab9b377b3d97cd5baecc78f1f151fdebbbb3be71a9c8ecfd3f5f5f5a936545b93766ba0b91aff73cf52ef163e7b0bffe42b78e7b377f78b7737f1aee6566a6f679b577399f7aafbfb7b532ef9d87038743a3e4927d62465b5a1da9ab45b83aa11bca56eea94bd4ff80c9ae7f919aebc78dbd2bcca2f71f537f47ef7e23b0c43532e7937c9c4717c7f7f6f2864efeafb5b43b58f69b70682b7d42d75b3f9a9f754bb469ddbeaeea55a74567b319d4e5f25d8ea17bd1bff2dfb68b7c6abd41d4591362bb2772dfcb3a1dac7b45b03c15bea864f2bcbf224234451146f37ac3a076f2bde550ede8d3745ef6a6ee82d7bf3b12ccb8220d04a4df6aecba5e33a0dd5fe3908daad81e02d7583ecdd188d46d55cd87cf8e05df157f6ed3afc5a14bd1b5a9df35f93c9248aa2f33ce09c73f6eef57a758c9d5996ed6aefc6d96ce6fe231c99fe729aa652479d4ee7558be95aab45d574e7de6d69deed762bfeb47ffdfa55eb5ef45a9d9fb3eab7e2c779f3c5efdfbf77be6b63b3d97c7a7a7228005dcd4fd60e6f58c2d272eaec694c1b4b9244b97bb52851f1a75da30dbddfa5d5f9d98ae3f8f6f6d638386fd6e5096fd650ed63cb766be7b9b60b8e4ef03e44ea36ab0dd7101f38cfb66aef06ef5abc9a6f679bd7eec6a256e7e7a6288a300cb552a35ee7cd77f79bdc5ebbdd8ea2c89b01046fa91b3e7d0d51eb5f2149929ddfd1af8bb7af5d2d56df2d168b57cfb32ecbbcdf7e762adeca8e1d9e88b552a35ed93bcff35eaf777d7dbd8f63b8db8e20784bddb0c93544ddfbb59eed6b57bb96e67f7bd56ab1a1f7bb9f9d300cb51a3a6d699a4addd4317b07411045d1bb2b92b6f4f4f4b48f8705046fa99bd357dfbd52d234adfe9266c1fbadb7eb03eb58f46efc778f00adce4f5592249797974ec4d4347b371a8d388e7755f47efaaf3dcd6007fe4d7fb97d787e7e3ecf2ecd1cd1f5f575ed3e269d4ee76c5faf775b9ad7a86efcb62f6ead0f7a3f7efc70e63a31fb98a3cb8969369bcfcfcf157f27dfddddb9e0075dcdab224dd32008aa53b250ebe628c6e3718dba940d87c38b8b8b739efff9ee4cbf1a2d397e7bc8ad69d17be9f6f656abf393511445afd7d34a8d7f5ace79b1de04389013b879f05234eb743a47df9cf0f7efdfe75cc4e3e81e1f1f15ba6be1dddda46bf4fc9bcde6db57b6ee2f4ab7dbadd736bfbcf5ebd72f47183e7b34ab72ddfbe9e96927bf66f56bfba0e25d754992bc14cde6f3f9e5e5e5603038d6a29da2283471e1b8fafd7e9517ac2a74bf78dbd2bc5e1db6cbb2acfb86de6fcd6633adce6b2dcbb2300c1d61f8ecd1ec1ceade3a99c3d1d53e78bfedf1f3f0f0709403a8d48decfdcf0be2fbfb7b2fd0527d3bab7d70f8addd86de6f69755e5f49925c5c5c58e785ec0d5454dd4bf6bf7fffbebbbb7bdbd4a7d96cdeddddfdfaf5cb0c73ce50d526ceedaa37cc691f7b7ffcf851bbdfe2d5c4ec5fbf7e9dcc27a8faab367090e1b44f9dbb5d85f4f3e74f070a38f267f9347e8ddfbf7fffad1b70a7d3b9b9b9d9ebe146eac6058415dd9ff26e4bf33a2687b7e9b48e1b7aff8d56e775b900d0c09cd3bee9b6935fedddc62280e0bda19f3f7f7ebc9fcdd5d5d5ce13b8d48decad06f559efeefdd6ed766bf78b5c5d5dbdfa2d1e1f1f4fec168932d12b2fbb013f3e3edefd57f7bf9667e1776f2db9f14d7d6f291ed74e366b14bce1e8befca9551fdd7fcaf3bcd7eb7dbcd0badd6e8f46a39dec7c635d37d5cfde4992b45aad03ffbb45510c87431f8d0f2e80deeefd56d3a650bf7fff7ef5066bb55a27b6ceb6dd6ef77abdc160f0ee2670e723cff356ab1586e162b1f8f83b3b9d4eafd79b4c267b5d346bf34ef69abdabb3c5601445b3d96c1fe71de0a04ef276c2e3e363a7d3f9f806e1f5f5f5f6dbc69cd2a44ae060de2da2d6f477793b1ffb84e7fd76bbddc7c7c7f3dc72ecf7efdfcd66b3dd6e7faa77fdfe2a87ff9ce306db67ef8a7cfa76321feaed0425c054f39df9f5ebd7e3e3e3f5f5f5dfcecded76fbc78f1f1b3760b3a80cd8ccdb2500f56d4bd6e9745efd2e27b0a1f7c79acde6f5f5f5b96d8abbd9a57fbbdddec793a963274264efe396790eb6000438c7e0fdea42f0e6e6e683047e7d7dfda93a86d40d6ceced21e5e9e9a9bebfcedbdb9775dfd07bfd54f9e3c78f7328806fd3af61e7d1c5f99773cbde3b6998227883e07d50bf7fffbeb9b9f967f5e69f09dc591fd8d8db12f19f9a37a27b3bdbfcdc0a92fbe8dc591d5bde15da61d15b2b352a7288ab63f0ded3f41340f0fec8cf9f3fff598d69369b7fbb8a92ba812d43dadb03cb3fef0956d9dbebb993d9d0fbb3e3707373b3f1f2a5cadeb0de7e29f54e6a86f626e488dedd8ae26076752b53ec01c1fb385712cb066c9f3dce4addc096deddd3a58e7b89ad7abbe0f99c7b4f9e520fb69dbc33b72fb53d3d3d69a5c6d966ef5dad45127b40f03e7202fff9f3e7cdcdcddf42f8ea7156ea06b6f7ee6c9aba2f8aee743aaf72e6896de8bd8113e8c1b6c31510db14bdbd9738f3ec2d7883e07d6a7efdfaf5e3c78fb797bfcbe36cad576002d5f16e123b81dfeb6df6d67afa6564ead8836db70dff362e7abbe58decbdabad229e9e9e5ced83e05d2d6f4ff34efcc0aeecefa2eae85e2d5f7f7e7e363df845b3d9acd774b09dbf769f2d7afffefdfb9c172c207beffce6ace00d82773db237c0f6de6d695eebbdc43ebe2495bd8f7bb1beb17d341df854d1fbd7af5f5aa9e1e32c78c329f97f8e9eef4a9244f606762e0882b75f4cd3f4647ec1f1783c180c5efe1a86619aa6b2f7f2554e92a4164f75381cce66b39d3fec62b1587304b22c0bc3703e9f7bdb50d9035d144545511cec5fdc491f903ccfbd76704482f747d9dbed7660b7c2303cf98ba1878787d57cb5ccde5efac562311c0e6b7183e0fefe7e7f917e9d93efc5c5455996de3354d96c363b64f67ef7a6ade00d82f749656f8300ec3b784f269313fb35fbfdfeabecad31752dce294551f47abdfd3dfe3f8bdec3e1b0dfef7bab500bf3f9fcc0756f40f03e596e0d02fb0ede59969d6471afdfef6759f6f2d7388ecf3c7bdfdcdc445154f127d9ebf5f6fd6efc5bb02f8a228ee3fd15dba1d6d97b27156f40f0aeaed5ab46802d753a9db7174f273cb3268a22d97ba9d96c567f9ef99e9676afbab9b969b55aefa6ee288ac6e3b1a304b2f7fe82b7553f2078039c85388ecfea4aa82ccb288a56a70e9d6df64e92e4ddc0591d7b5ddafd62341abdfd629665411068a586ec0d08de00ecc0db49b6799e9f76de28cbb2d7ebad5e8f9e61f6bebabadaebc2e95d05effd3df8f5f5f5f3f3f3bb5b224d2693288ab452e334b2f7fe96289a6a0e82f78973980376e5dd79e6a7d756ed6fd7a3afb2f78f1f3fcee7a5affed2ee46a3311c0ef7f7a2c471fc6e5bc1d168f4fdfb77a99b9339d68561b8a7558a3bb922b5821204efea7af742016057e9eb4c56dccde7f357d3ec0783c1f5f5f599bcf47599807ae0535e1cc7b7b7b78e0c9c92e5fa9acae65b37b9e0b8fe63083ebe0ab9bebed6ee85b3727d7d3d994c9c9ef71133dee6b1e9747a26bffe743a8de378b593dcf2cf0eb0d51104c1ddddddf2cf699aeeb0d1daab62ddb2959a45dd9c6af6beb8b8300ec03bfef0a1e7e7e74ea7e37dc23968369b3f7ffefcf3e7cfaf5fbfbced77abdd6ebf3dbcfcfcf9f3dcc6e1e6e6e6d5209c64ddbbd3e9b4dbed97bf5e5f5fd7eedcf792c0777ea5e1ac0a47f4fbf76fd7f6702ca69aff4318864992349b4d43c1c94b9264d9022a08822ccb767be57de6deedad750e0bbc5f79787878b57d5a92242796bdefeeeeb22c5b9de0b0bf7e4bb593a6a95a371c9165de704482f75ad93bcff36eb76b28386dafb63b1a0e874f4f4fab853b04efedf5fbfd53cdde9d4ee7f9f9b9fafb751f7e585e5ee8cbcb4bcb580010bcf92890a469faf4f464821c6765d924e6fafadaa48f6d349bcdb79dd5b22c3bdb04d2eff75f555d9224b9babaaaf52fb52c74bfdb9feccc2bdecb3b7a711cf7fb7d470300046fd60d218f8f8f6a809cd5457392245996dddcdc88df9b79b7dcfdaaea7b9e87d3570352d33b9bef16ba576fb52c168b737ead8ba2e8f57abae84115986a0e82779dc4719ce7b9e5af9c6416fadbff0a8260341a1545f1f8f868d9c54e82f7996c24f637cb4d7756f7d95a4e2caa51f65ede87faa0d0cdd27c3e3f9feefd507175d9dd10046ffed770387c7e7e5600e4dcc4719ca6e9af5fbf14c0d78f676f83779ee7fa4bd53d7b8f46a3f55774ebaf060082371b5a365d33ed9c33a400be3e6dd53e309fcfeb92bd9bcd66b7dbbdbbbbfbf9f3e7f3f3f39f3f7fe238fea0d0fd6afe88e00d548163111cd17f0cc1365aadd6643289a2489b56ce531cc7cbc517a3d12849121f847f06b0a5339f67fe2a7b0f0683e58af73ccf97178555d871aad3e9846118044114456118beeaf90f2078039ff2e5cf9f3f46614bc3e1f0fefede385077db1f0d9224994c26d673aefafdfbf7abcc5614c5d7af5f8d4ca5349bcdf0bf96617b07e7d72f5f5efefcf8f8b8bab3b7f31a7014dd6ed79d5f10bc6bac288a2008d4fa10bc5f3e1193c944026f341a5757576f67954f2693efdfbf7bbf1d57bbdd0e570441b0f37f228aa2d96cf6ea8b9d4ee7d58d985721bfd56abd9ac11e04c13e9e9ee00d82372078d78f6b14046f09fc63cb9a6aa3d1c8f3fcccf7973ad6e56610042f497bdf53c78ba208c3704f2ff406e9fded579cd4c0b91e10bceb47d11b2763099cea58dee688a2e8256c1ff809f47abd8abfdbdbedf6ab42faeafd88344ddf96eb01e77a40f03e3ef5016aadd3e96459b6ef7f4502675741f1550977f5af47ef8536180c1e1e1ebc6480e00d08de7b49148aded4d781d77d49e067e5edd4e8b7eb96d7f94a2d2449d2eff7bde84035fdfaf5ab8e875610bcf93f46a3d1ededad7140f0de2081675966e5738dc2f3eaa2e257c5e79a06e69dc8b2cc069340953d3d3ded64e30640f03eb277dbd882e0bd7e6e298a6219c85fa6bebf6cefbcfc06a9467eaea6bd36540310bca1d6fe6308766b329998700e1b5b0d7ebd5eefe390f36e32ffdbed83bfc5c877d7037fb605f4663717defadb935ffd65df253f5741afd793ba818afbdb090810bc6ba6d56aa569eaf20b0ef059abe93dfb0f22bd2a447d0d0603d39d80eacbb2ece3fbdac09efc3f43b08fabea2ccbbaddaea1003807499268630e0008de87b6ac7bfff8f1a3d96c1a0d801396659936e60080e07d3483c120cff3bbbb3b4341f51d77df63a8a9a2282c10006ae4e38e2180e05de330331c0e7ffdfa757d7d6d34a8b2fdf512831316c7b16e9a40bd82b7ec0d82f7c90a82204912f11be0941445a14711502f8bc5e2e2e2228aa224498c0608de271ebfafaeae8c0640dd59dd0dd4d46c36ebf7fb41100c87431b8c81e07db2f17b3299fcfcf953df3500008e65b158dcdfdf7ffdfa358e63f3cf41f03e4dbd5e2fcbb24ea76328000038a2f1786cfe3908de272b0882344d656f00008eee65fef9683432ff1c04ef93b2dcee5bf60600a00a168bc5eded6d1004711ce7796e4040f03e9dec3d994cacf70600a022cab21c8fc7dfbe7d8ba2683299181010bc4fc1b2dbb971e0b8ece30d00bc329bcdbe7fff6efe3908de27a2d7ebdddcdc18078ea8d56a190400e02df3cf41f03e1dc3e1b0dd6e1b0700002ae865fe79afd74bd3d48080e05d4bad56cb847300002a6e3a9d5e5e5e2e174b9a7f0e8277fd4451747575651c0000a8b8c562b1dc7e6c3018987f0e8277cd8c4623830000402d9465f9f0f060fe3908de351304c1dddd9d710000a04656e79f1b0d10bc6b603018e8b2060040ed2ce79fb75aade17068fe3908de95d66ab54c38e7286f3c8300006caf2ccbfbfbfb6fdfbec5716cfe3908ded5d5ebf5aeafaf8d03871486a141000076683c1e5f5e5e866168fe3908de15351a8d4c380700a0eee6f3b9f9e720785754abd59a4c26c601008013b03aff3ccb320382e04d558461f8f8f8681c00003819e3f1f8e2e2228a22f3cf11bca98a388e656f00004ecc6c36ebf7fb41100c87c3a2280c088237c7cfde3f7ffe6c369b8602008053b2582ceeefef2dfc46f0a6127abd5e9aa6b237000027a6dd6e07419024499665455108e19caaff18825a08c3304dd3288acab2341a00009c86c562f1f5ebd746a3717575d56834d2341d8d46711c1b194e8c8a77cdb2b7ba37fbd0e9740c02007044d3e9743a9d9665d9eff7e338b6f01bc19b63666fed1fd98756ab651000808a188fc75114d9750cc19ba3e9f57a373737c601e0e82c4404d89ff97c1e45d16834321408de1cc768346ab7dbc601e0b8946200f6aa2ccbdbdbdb5eaf67da398237c7311c0e0d0280e00d70f2a6d36918860eb908de1c411cc7baac011cd76c3633080007b0582c2e2e2e4c3b47f0e6087abd9e41003816b517800333ed1cc19b2308c3d0200008de00e7633a9d064190a6a9a140f046f0a67e6c27068237402d9465797979a9e111823707124591416057dcc701c11ba046eeefefa32832ed1cc19b43e8743a0601e02874560338fa71380882c964622810bcd92f456f80a350ee06a882b22cbf7fff3e180c0c0582377b14c7b14100383c7d7d00aae3e1e1210cc33ccf0d0582377b118661b7db350e0007a6e20d5029f3f93c0c43d3ce11bcd997d168641000046f8033f732ed5cc735046f762f0cc3c7c747e3007048f3f9dc200054d0c3c34314456e8f2278b37b711ccbde00ff34994ce238de7e79b605de0055369fcfa3284a92c4502078b3fbecfdf4f4d46eb70d059bb18f37279fb75badd6f7efdfc7e3f1f697620a29c08969369b373737bf7efd3a99e6416559f6fbfd388e4d3b47f066c796936a6e6e6e0c051b68b55a0681d3cedb65592ebf3e1e8fbf7cf9b2cd7b5ef0064e46b7db7d7c7c2c8a62341a05417062bfdd783c36ed1cc19bbd64a7d168f4fcfc7c7575653400797b356fbff2b7af0bdec039782971a7697adadbd3cee7f38b8b0bdd88a9822f7ffefc310aa727cff3d16834994c168b85d1e09f9e9e9ea228320e9c80300cd7ec7cb6f1e9efcb972fc619a8a96eb71bc7f1dfc2761445b3d9ec247ff1ababab24494cf1e38854bc4f531004a3d128cff39f3f7f5e5f5f379b4d63029cb6a228d2347db76141b3d9bcbebebebbbbdbfe5fd1590da8a3f32971ffcd743a0dc3d09425046ff6a5d7eb25495214c532816bc0069caa2ccb2e2f2fc7e3f1abbcfdf3e7cfa22892247935ad63b38e3b93c9c450033572daabb83f65b15898768ee0cd8112789ee7cfcfcf373737123870da5ef276afd75b7ee555317c83bac7f2018d2d507d4adc7f737b7b1b45916ee708deec5d18862fb3d04f66d30880575ef2f68bed97f64d26936dbab2011c8012f73fcd66b320082c1d42f0e67057a5699a3e3f3f8bdfe83502eb304111a82c25ee4f29cbf2f2f272381c1a0a046f0e240cc3344d7ffefca901db99bf0d0c027c2ccbb235fba5031c9212f7c6eeefef4d3b47f0e6a096d56fd91b381f799e7feafb95bb814a51e2de89e5b4738d3311bc399c65e95bf6064ed8eaca9a4f05efa2285c9601d539942971ef505996dfbf7f1f0c068602c19bc3656f5796006f69ab061c9d12f75e3d3c3c8461f8d9c9502078b3a1288a7efcf8611c005699670e1c9112f761cce7735528046f0e6730185c5f5f1b07e0342c67890f87c3288a36d8bbbba1ad1a70244adc87f732ed5cc73576ee3f8680b746a3910b4de0048e63699a2e168b772f67d7bfa852ee060eacdbedc6712c6c1fcbc3c3439aa64992d8f6851dfaf2e7cf1fa3c05b45518461f8ee052ba7c771801390a6e9e5e5e53adfd9e974d62f7d174511048105dec001349bcd388e0783c1b1e6934751349bcdbc102f2fc7683472fb835d31d59cf7b55aadc964a2c9f939e8743a0681b3f2a9e93cdaaaede4e2b5dbed3aa1c007ace2aea0b22cfbfd7e1cc7a69db313a69af357cb0dc6a22872d179da5aad9641e004044170777797e7f9783c7efb7fdbed76188651142dffbbfec39a67be7dea4ed3f4dde99a5996bdba9ccdf3fc554be177bf623616a7f401396e899b7f1a8fc759969976cef64c35e71f8aa288a2c87aef13d6ed76d334350e9ccc21ebebd7af2fefed97b0bdd945edfad3d7f96ceadeed8bfe6aedc03a5f69341aa6d472dc936f0557719b6afe811f3f7ed8eb9b6da878f30fad562b4dd3c160f06e1109a06a87ac1f3f7e2cc3f6f68f96248921ad78ea5ebee86f6731f47abd0d1eeaed5dc875be926599a961acffb950e2aea9dbdbdb65c7355305d98c8a37eb9a4c2683c1c004bfd3a3e20def5a2d9eb381e7e7e7b39d99f97616fd9af3ea9d644ffb6c5bfd46e52adeffd46eb727938969e76c40c59b75f57abd288a86c3e1c3c383d1004e9e72f7361e1f1fcff9c2f4edeffea9ce021f84f335e7d55b20561d4adc2766b1585c5c5c9876ce0654bcf9b4344d7bbd9e69752743c51bde150481f2e3c6a9db063c95f2ee12f77566d12b7e6e797aaddd5edc2ade9f7a7d27938969e708deecfd14aee39ae00d274c5b35a99b77ad338bfedd79f5e7731babd6256ec1fbb3aff56432d96c3e0b67c8547336b1ecb8267b9fccab6910e015f3cca56edeb5bf59f4eb7ca56ab3e897bbd30f0683fbfbfb463d4bdc6ca32ccbcbcbcbbbbbbbe170683410bcd96ff60e82c09cf3d3bb8a82335714857d1ca46ef62a08829d14845fcda21f0c062fc9bcdbedbedc14d8c72cfa76bb1d86e170385c9e46e338b68afb3cdddfdfa7696ada3982377bcfde5114c9dec02951eedec0f5f5b5d4cd512e45564beeabc967d91176fd877a77a3b80f66d12f53f7f2cf0a9e676e369b05419024c9661b192278c3bf8561381a8dfafdbea10004ef734edd068dba7b3b67deda5dd65796e5f7efdf6f6e6e46a391d1e05dffcf10b0a5388eafafaf8d03701af23cd7bd42eaa6be9f5f83c0113d3c3c8461e87d88e0cdbe8c46a376bb6d1c8013a0c9bfd44d7dadf64e57afe628e6f379188693c9c4502078b37bad56cb851720784bdd002ca79d0f0683573d0210bc6107a228bab9b9310e40dd2953aca9d3e948dd007ff3f0f01045d16ad77d046fd88de170b8dcd012a0a6b22cb34dc39aa9dbd400808fcde7f3288adca344f066c75aadd66030300eb5631f6f78214cae69381cdab196aa31ad970a2acbb2dfefc771ecfd89edc4d8a5c1609024c96a6b13aacfd53308de9f956599ed6aa9e0db72f5af9aab511de3f1f8e5b0d96ab5566b1edea882376c18e186c3a16dbd01c1fbb4d92c07e053e6f3f93ff7aaec743a2fe5902008822078b9c05ecdea6118aa9a08ded088e378341ad90517a81d0bbc056f80e386f3973fcf66b3757ea4dd6e2ff3b91bc7d5678d37bb371a8d0c02503bfa997fa0d96c5e5d5d1907804a592c16b3d9ac288a344d5d810bde9c9d288a5c9f01b5a35cf041ea4ed37475a2a32e415490b725676b3e9f5f5e5ededede9a8e24787376922469b7dbc601a89135e7f59d6dea5e0dded6135141abcdd53a9d8e01e10c0d8743832078735e5aadd66432b1ad375017cadd1fa7ee861d10a8db758841e00c8dc763456fc19bb31386619aa6eadeae4e40f0aef5b0ac16ba01a838456fc19b33cdde93c9c474afeabf4c060174567bebf1f171f5f8f0ea26ddab3d9301a802456fc19bf30d755996fdf8f1c3b473a0b28aa2b068f96dea8ee3f8d5f1fcd5a01925aaf6413608d050f416bc396783c120cff31f3f7e98790e549079e6ff4cdd507dabb3304ce6e29c297a0bde9cb556abb58cdf8f8f8fe2372078d73d75ab2e52f1ab0e83b02573156b6d30181804c19b7317c7f1b2faed800e08def54adddd6ef7e5cfd678c3698ba2c8a55a7d4da753a736c11b1a8d466330182449621c80a3b3c0fbc5f5f5b519e6c0529ee765591a87fab2d25bf086ffd1ebf5aeafaf8d03705cfa99bfa46ef74381d5ebb4e7e76745effab2cc5bf086ffe5561c7074711c3f3f3f5f5d5d49ddfffcb620085efe6c122355339bcd5efeacb9da4e846198a6a9ec5d47ed76db6576d5fcc71070444110743a1d933c8fc82eebb0bcb80cc3703a9d4addabb22c2b8aa2288ae572ee344dd54fa80bcdd5769bbda32832edbc5e9224f12910bce1ff88a248f0766902553816adfe35cff3b72133cff3c5627126a9bbd1680c0683d51222207b1b8d6ababbbb7bf595200856e728217843238aa2878707e3001cfd58f42a7bafe9a520fccf2f36fe323dfb88e1b6d3e96cb0aebbd96c4e2613977454cdd3d3d36a563420b2f7f930ab5cf086b50ee50601a8af56abf56e62eff57adb3cec729af73a5fdca6383f9fcfa3287a7b3b60381cdedfdfffeda7cab2dcec2605ec95b7a5ec0d8237fc551004ed76fbf4666f026c798dbbf35cf152874f92643c1eafff83cbedbb9713175bad961ba670aa3e6e9a287b83e04dbd4551f4a94b400036f0529cff5443f26eb7ab8139207bc3966c27462582b7410000a84bf6b6c71808de08de0000c8de2078c38a2008960b0839cae01b040040f606c19bd317c7b14110bc0100d91b046fd863f0ee743ac6010040f606c11bf665341a19040000d91b046fd897288aeeeeee8c030080eccdfaf23c370882377cc27038bcbebe360e0000b2376bfaf6ed5b1cc74551180ac11bd6952489ec0db057c3e1f0cf7fa5696a4000d9bbeec6e3711004c3e150fc16bce113d95ba3350000d99bf59565797f7f2f7e0bdef009699ab6db6de30070144ae280ec5debf81d866192244643f0867f68b55a0e168711459141000064ef53b2582cfafd7e1004aea8056ff87720bcb9b9310e0000b2371bc7efe5cb6134046ff8abe170e8900d00207bb3b1f97c7e7979194591f82d78c3fb5aadd66030300e0000b237db98cd66cbf86dd36fc11bde21780300c8deec2a7e2f37fd16bf056ff83f5aadd6d5d595710000a86ff6b65b4da58cc763f15bf086778ed7060100a0bed7725996753a1d4351b5f81d86a14dbf056ff81f411018040080fa6ab55a699acade55b3dcf43b0802f15bf08646966506617fdcd70000646ff1dba6df8237e7cece077be5ee2600207b539665bfdf17bff7e7cb9f3f7f8c029595e7f9b76fdf8cc3fe74bb5db736008083298a228aa2f97c6e282aabdd6e2749e035032b0000200049444154124591a1d821156f2a6d32991884bd9acd66ee6b020007a3ee5d7d8bc562b9e9b7f2cc0ea97853696118ba21ba6fcd6633cff356ab65280080c350f7ae8b6eb73b1a8d6c33b43d156faa2bcf7387e30328cb72381c1a0700e060d4bdeb62369b5d5c5cd8f45bf0e69499dc72300f0f0fbac70300b237ef1a8fc7dfbe7d13bf056f4e930ff6210d0603830000c8de7c1cbf6dfa2d782378b3395dd60000d99b7f5a6efa2d7e7f96e66a54571445b3d9cc381c8c2e6b00c051e8b556d34bc7e17068d6e49a54bc81ff5196e56834320e00c081a97bd7f4d2f1f6f6360802b326d7a1e2fd3fd234cdb22ccff397165361180641104591eef9c7321c0eefefef8dc381fdfaf52b0802e300001c98ba777db5dbed2449a22832147ff39f33ff6c4f2693c964329d4edffedf9749cecd66b3d7eb0d0603099c7310c7b17ef200c0e12debdeb2771d2d160bed993e76be53cd87c3611004fd7effddd4bdaa2ccbf1787c717111459140c2c99bcd6693c9c4380000c7cadee69cd7511004b6a715bcff8f2ccb8220b8bfbf2fcbf2b381e4f2f2328e631dfc386d83c1c09b1c0090bd595f511426080bdeff6bb9f660b158fced1b3a9d4eb7dbbdbabaea76bbef7ec3783c763be7602f9641388ac562a1cb1a00207bb33ef9e863e7d55c2dcbb2288ade16ba9bcde6bb5fecf57aad56ab288af178fcf6d11e1f1fe338f61eda93d168747b7b6b1c8e48973500e088f45aab0b9dd504efd71fdd300c5fd5badbedf607d5efa56eb7bb6c37f5367ecbde7b92e77918869f5d0bc06e75bb5d4d0d0000d99b0fdcdcdc0c87c356ab65283e764653cd87c3e16ac66e369beba4ee46a3319bcd068341abd57a7a7a6ab7dbabffabdfef6b43b50f711c4bdd47a7cb1a00705ce69c5759bbdd7e7a7a1a8d4652f73acea5e29de7f9b76fdfb67c90ebebebd168f4eaae5bb3d9ccf3dcbb6d87d234bdbcbc340e55d06c36d334d5270300382275ef0a52e8feac73a9780f87c3ed1f643c1e0f06832ccbaeafaf5fbe5896e56030f04eda216dbdaaa32ccb288a74b903008e48ddbb5214ba37731615ef9d94bb5ffcf8f1238ee3d5bb6eed763bcb32efbc9d288ae2ebd7afc6a16aeeeeee7672f70a0060e3ab4475efa353e8ded85954bc775b415dc68fd5c72c8a42f7fc5d3192d5747f7faf8f20007044cbbaf7d5d595a1380a856ec1fbdf76db20aa2ccbe54aef97466b65596afeccc91b8fc761181645612800806365efc964b2baea93c3b8b9b9596ecc6c2804efbfcab26c9dd6e59fb22c77af769c12bc3907f3f93c0c43b3120080234a9244f63e18856ec1fb139fcc9d3f66599693c944abe77d0882c02054d962b188a2c836630080ec7df214ba05ef4fd85342103cf617bcbbddae71a8b2b22cbf7fffaef93c00207b9f2a856ec1fb73f23cdff93cf32573cbf747f7ec5ab8bdbdd56e0d0090bd4f8f42b7e05da178bca73c4fa3d188a2c831b416c6e3711445daad0100b2f76950e816bc37b4d72e50669befcf683432e1bc1666b3591445daad0100b277dd29740bde150ddef3f9fce5cf1aadedd672af884ea76328aa6f3e9f475164f10500207bd79442b7e0bdadd96c76b0a0e8cdb4f3214dd354f6ae85b22c2f2f2ff7b183000080ecbd570add82f7b60eb9f4d43b754fd93bcbb29b9b1b43510bfd7e5ff6060064efba50e816bc77c3bad3d3301a8d7efefcd96c360d45f58fddbd5e4faf350040f6ae3e856ec1bb96848dbdeaf57a799e5f5d5d198a2a5b2c165fbf7e75c30b0090bdab4ca1fb28fe73c2bfdbbe0340b3d92ccb72f9e7344d7bbd9ef7d3fe2cdbadc5713c1e8f57bf7e7d7d1d04c1c1de5107bbc3b2bf2de8f72d4d53b74e0180e366ef46a3f1eaa291a59b9b9be17028720bdebbb4d78cd46c367bbddecbe77932998c4623efa7031c46f33c5fed9937994cd234d5557ecb909fe7f9368f30180c569bfc0300c8de55d36eb79324512011bc6b268aa2d5e0bd582cb22c13ff0e6032994451f412f3cab2ecf57a5996b96fb7b12008b69c35b03af8965d0000b277d528741f9d35de1b0ac3f0d5dc72fb181fc6729bb176bbfdf295c562114591bc77dc8fc3cb9fadf1e6ada2282693897100e0f0d9db7a6f2bba05ef7a5b4ed2e876bb82f751b2f7643259ed733e9fcfadb13fee2b6210f8c07038fcfefdbba6f700c8de07a675b9e07d52f17bc905e521856198a6e96af69ecd66711c1b99a3db72b938a7274dd387878746a3319d4e8320b0d93b00b2f70128740bde87e34d76f2d9fb5543bbf1781c0481a90787b77a07aaa6cdd8d993a22856ef889565d9eff7a32872830600d97b7f14ba05ef4307b3d5bfae5647390d711c3f3e3eae7e65b1585c5e5e2ef7fd363e50056f9781cc66b3b737ce0040f6de9e42b7e07dfce07db0dd9e3970f6beb9b9797557653a9d7efbf62d8e63f1fb280c3b2f5aadd66834faf9f3e7ab0f695996b7b7b74adf00c8de3ba4d02d781fed82afd3e9ec35d56be05c05a3d168341abd9dd1301e8fc5efc378757c37e0bcb29c84b2da8d7249e91b00d97b2714ba05efe35fedbdfc793e9fafee41b57daa2f8a623a9dfe2d7b7048cb74fdee617419bf454138aee546803f7efc78f575a56f0064ef2d29740bde95c863ab7fdd55e3f16521fd5595c6765647bfac4f92e4f9f9f96d55addbed5a68b06fab330ecc04e16f0683c1f3f3f3db7ba0b3d9ecdbb76fc3e1d01001207baf4fa15bf0ae8a5771ab2ccb5de5f93ccf578377a7d379b5a49ca3586e33f6f4f4b41abf5dcd1f66e45ffe6c6b3d3e7eab6459f6eee5cefdfdfdf2ff1a25000e90bdefeeee6afd2b28740bdea7afd7eb0d0683d5183f180c0c4b754451f412bfbbddaee31154ca727ecadb8e6b8d46633e9f5f5c5cb85906c0010c87c357fbe3d48542771d7df9f3e7cf09ff7a83c1e0e1e161b78f797d7dddebf5be7ffffef2956eb76bef689cba8aa2581efd7bbd9e0920ac23cff3ffcfded99ea7aab46fdfb58ffd1d5605900a20158015402a002b8054005620a900ac40ac00ac40ac40ac40a820cf87f96f9eb9f125460698c1f3f7611f4956b6511866aef37a755d77b7db5dfe93a66949926021010000e89b2449168b85406fd8f3bc300c21b921bc79a1aa2adbb6afda731dd96c36aeeb36e16e4992f23c8775080000cf1186e172b9bcfa4f411020fa0d000000da9ba0284a9224c8e584f0e688a2286cdb3e9d4ecc5fd9b2acb22c0f8703ec4200001860d3d6342d8a2218190000005e5c7b23d00de12d8601e7384e9aa6dd9bab499244bf88a669799ee3010000808e5455e5ba2e3da311d60600000068ef1902dd536182cdd55cd76da9ee388e555565d2d29c7e11499292248121080000dd9165394dd3388e2f3baecd66b3afaf2f32b300170a0000407f2282c35e6b685d3e19a616f16ed50a92026c555559096f9a2ccbf00c0000005bcab2b46d9baee869d91f087d030000e80f7ee2de08744f8c4945bc5bb3b59bb667add15fdd912469bfdfe331000000e6a8aa5a14c5add9aa087d030000e8154ee2de08744378734d1886b4c026a368d2345dafd70cff8a65594551a08d390000f4ba9f6759a628cae53f9d4ea7f97ceefb7e5555b85000000026a6bd31a37baa4c27d53ccff3f97cde7c4b666b134711db70f7b4279f0300003fdcefb8461a6dd8b68d0b0500008039a3e49ca3a20ac25b00745da76b028fc7a32ccba669de2a147c9ae3f1a8aa2a960e00000c431445ad84261acbb2d0e712000080e8da1b15dd936722a9e66118d202db719c9e54f76c364bd314eb06000006c3f7fd3ccf354dbbfaafdbed565555eccc000000983358ce392aba5f812944bc8ba2787f7f6fbe9524898cf2ee4375cf66334dd38aa2c0d2010080e115f8d7d7d7ad7f350c234d5384be010000b0a5d7b83702dd10dec25055552bb21dc77114453da96e0206890100c028e4796edbf6adb473547d03f0e2144591a629197c509625a90ddced76647f6875c6d5755d9665327416761d18457ba3a21bc25b245a0110c330aaaaea5575cf6633c7719224c1ea010080e1a9aacab66d62495f0555df00bc20699ab60a0f7f8b6559a669baae8bdd030ca0bd11e886f0166f93fdf8f8682de2d3e934c09f468b3500001891288a3e3f3f6ffd2b42df00bc0ef7c71ffc1649927cdf0fc3101716f4a7bd11e886f0168cb22c755d673b2aec570f4c14455840000030164551b8ae7b27c005cb0600ec03cfa1695a9ee7d83d0073ed8d403784b7785c96760f8c24496559624706008071cf02dff7d7eb354c1c005e7307d075bda7544745518aa280a507186a6fb8835f1c51c789f9be3fa2ea9ecd66755d637a0d00008c8b2ccb49926c361b4992aefec2e9749acfe7beef575585cb05c0c454b7699afd15189e4e27f8ecc0559e9831a6284a966551144175bf324246bc879c657f07cc15030080e1212d8b8ba228cbf2719b5bd3b424495a3d8d0100e262db36abbaee3bac562bdff771b541173d824037105578b7a6768fcb7ebf871907000003509665188677b2ca1f210802f44c0260025cb6d7ed094992902f039ed6de2877023482a59a9765c9d5da457f3500001880300cdfdede3aaaeed96cb65c2e755d47b21200a2335814baae6b4c9005b7b89f73ee795e511450dd4048e14d66b78ed5c6fc2aebf51a7e500000e8dbb2592e97ac5eed7038bcbfbfc36d0a80b8244932ccec58027afa8007b5b7a228cd17a8e8069788946a6e9ae66eb7e3ed5da1f8070000faa3bff222c3309224515515171900b150557548e18d6c73f02349921445114591aeeba669a2a21b882dbc5dd7ed9e64d80768b1060000fd118621c370f7a53d1d86219ca70008c428bd7ed0d30700d01d3152cdbb37d4e98fc3e100e10d00003dd16b75655dd79f9f9fa669229c0500f684fb6a1f571e00307de19d24497fe10e26a056100000fa200cc301124a77bb9daaaa28e3044008f23c87f006008808efa9e6838d8be8028a7f00006002fbbf65594992a0300f006ea9aaeaefdfbfc3ff5dd4150200bac375c4bb280ad775f9bf88755d2354020000a2efffdbed16a16f0038df1946f9bb87c301211600c0648537197cc7d5f0b03bc05003000086fbff58c323ebbafef8f8f07d1f4636001c5296252c3d000084374baaaa725d5714d53dc3406f000060b7ffdbb63d4069b72449b7fee9ebeb4bd7f5514a4901007c0a6f6c080080090aefaaaa4cd33c1c0e625d4ab8420100a03bc3a8eed96c26cbf26ab5ba25bf4fa7d37c3e47e81b0000330f00304de1dd9fea9624c9b22cecc80000c0b369bbdbed86f95ba7d3c934cd3ccf354dbbf53b5f5f5fa669a2a91200a0aeeb512699010020bc7b81d4753357dd922405415096659aa6770cac8e6cb75bac270000e882effb43feb93ccf755d2f8a2208825bbf73381cdedfdfc330c4dd01e0c5c1f858004017fee54d7533afeb56144555555dd7c984985e93d8d334b56d1bab0a00009edb42874932a7cf1df2451886b66dbbae7beb80582e97699a2649a2eb3aee1400afc9e170c8f3dc344d5c0a302e25c5e5bf12d583850ae17d932449168b451faf2ccbf26eb7dbed76711cbbaeabaa2adbd79724a97116e4790ee10d00001d65f090b60b6da9e4791e86e1d7d7d72d9bfbfdfd7db55a0d1c9607003430b7e27e4b1886e8b2064621ff8fa2281e8c535a96457ccab87a9c307eaa795555beeff7a4ba89a944bef07dbf2ccb5e8315d88b411fc2a0288aa228d0e10980be9165398aa22ccb1445b9f53b9f9f9fa6698ed85a190008ef11d9ed7668fa0006b6035dd79565793e9f2f97cbdd6ef77876f076bb5d2c1618d201e1fd7fa469aaaaeaadf0025beabaeea3ff19c9606f443ed41160029963acaaeadbdb9beffbefefef7ffffe5555d5b66d1cf90030b4a12f7f48baa9dd69c6b9dbed745d47b52700af093a3e806120b1c9b7b7b7f57adda514f77038cce773b406e4813fdfdfdf232ea6f57a3de41fb52c2b4dd33f7ffe307c4d4551e8a2c4cd66836c73d05172bbae5b55d5d5625732fa48d7f524494677fc03c0dc9c5d2e9703ffd13b87609aa6aeebde31770cc348d39476bf02007ab75c995a71cf713c1e7104835e29cbd234cddff63d51144596e55bcd4af6fb3dda948ccb38116f12e8ee5b752b8a9265d96ab56a7eb2dd6e9947a4abaaa29312118d041d85c7fbfbfbe170b8b5d5d6755dd73509b8c1790940afd8b65d96a56118b77e61b7dba9aa8a5992000cc99d4a90210f6bdc08d01f4551e8ba7e690a92e8cb1d4ea7932ccb5996edf7fb20085abf8f06252f27bc49a0fbe3e38379f7f2d6ba8ce398f88a5af167e616525dd7b4d7134514a0cb41fef8fa24034591ec0a4017eee493136459cef37cb55add3277eabafef8f8b06d1b7546000c030fbd9ad1e501f4aa956cdb6e0925c330822078245ebddbede6f37951146118966549cf51deed76d0292f24bcc9c0b05e2bba9b91dd4d073f555569e7689ee777c2174f3f21f467c4aa024f90e7f972b9a4b3832449f23c2fcbb2f3f97c3c1e379b8de779adbdf5f3f3134b0e80bef17dbf288a3b67c776bb45e81b8061e0a1a00f0526a03f5cd7a563dd92246d369b288aa228bada97e42a8bc522491259965b0713922547e67b282e131e98e338cef178bcfcd3b45c511485b9f0a69d49b3d9ecea7b00e00ee7f3b9953b6718c6d585b4dfef5beb4dd3345c40300de8caa0610882e0b707d9fd17f43cef7c3ee35602d02b7ddb933f926519ee02e8832ccb5a01c5fd7ebfdfef9f5bf364a13a8e43eb205ce4111922e24dba402d97cbfed2cb0dc3d8eff7b7da4dd15949a4f8a1d7cf8b0824f82d799ed3de4dcbb2f23cbfba98755d6f45dec8bc315c433001860f22fd3667350cc34be717cdd7d71706b700c0db93cbd0dab42c2bcb321ed2ddc12469b50f48d354d7f5fb6d3eef408abae92491d3e984428931e94fd31f8fc701a2dc9224ad56ab1fc389f4ff72c7667a1a3a5cf9db100a008aa2344f8a24493f46cc8ec763f3fb248903d7104ccfd3cf3c3be9f2f878faadb6ea3e2ef13c0f3714809ed86c3613b3990120d61dbdde1cc7f9fefe8ee3b8cba28de3b8a58390af31a988775555499298a6f9f6f6d66b949b48e8a2287eecd127cb322db6fb08aaa0cc1b74593ca7d3a97952a228fa7189aaaada7431389d4e5872609251acbea79e340fd11344519465d99deeca24f48d6713803ec0dc5630495af5d824faddb1857e1886b22cb7da5de1528f0503e15d14459ee75114b9aeabebfadfbf7f178bc5e3d5ff4f13044151140fce51a47fad0f4b88564a48e100bf7d82ee688f47cc8ebaaed151198c4b59965114d9b6adebfa9f6b98a6699aa6effba47bffad7d986e339ea669af41ef8e83554cd32c8ae24ee8fb7038bcbfbf63ec10007dd077460c00c343773eb32c4b55d5a2287e3bcabbc5e97422539c9b9fc0621c917f9fd309c46c2acbf2d688f65e91242949925ff93b755ddf6eb7c3bcbd51ae099886f09624e9415f522b18484606e06282e149d3f49156abe4175abfa6288aaaaaa669aaaa4abe705db7d9ab4fa7537f416fcff31e7cd6ee20cb721445e46ddf4aef5a2e97699a2649d277001f8097c234cd01623c90fa6048680541640e936119447837cf0b52b18411de646ef0b8c252d3b43ccf7f9b2e6e9ae672b9245fd7752d4912db1cf8963b8a0cbec7f2020fdaee9aa691c7eaf1854dffa66118186d028687cc1aed62fb9e4ea7d3e944bf422b79bb280ae6dbf56c369324896120dab66d32c3f2967bf7703898a6198661c7183b006044babbea00b8432b039c445398a485a769daa5b40a30e4d154f3aaaa4cd35c2c16e3aa6ecff38aa27842630c2c8391c5017e25bc9bc7ea743a3db878e8bd78b7db4178838121953ecc234e2d2766c714bb5b90e9a66c9fe2344de338bed54fb4aeebcfcf4fd334518b0480a020a002fa3e559baf9bfc472647465dd7f4eb20e2cdbbf0ee1ed6e84e333efe69ab880ea4f4daf26d86be05a0c359fee0e269ed9bf0c48381ed03d334fbde487bdaae1dc7e9a93393ebbaad697f2d76bb9daeeb4f1f64008086e17d5810de60b025dd2c3656de67da681ce6ec06cf0bef300cc755dda47b79475369c81d13ce247087aaaaf23cf77d9fb49b6ae5ff3c92015b55156dbba3f00c4c5575f7719ad0dd6b98a3aa6a9ee7abd5ea8e1fe1f3f3d3b66d244601d00526b5afbf028d54c060da81681686c7444bc023f78a5fe15d96e5d7d7d7886f91a497770fe80d29bc615181abe479eebaaeaaaaf3f9fcebeb6bf71ff4ef1c0e871fb5771886cd1eaa280a0a47c1909b9b6ddbe2aaee61d2917cdfdfeff7f418cb16dbed5655d5e1950300d320491244edc0f48ed7e66b520cd55f180fc29b5fe1dd4a8abb6349304792a42ccb5865e50de9aa1c37410070080912cee7f3f57afda3b9b05c2e6f69efaaaa7cdf6ff9c2e0860783e1ba6e4f75d7c3a8eec1ba219021de4110dcfa85baae3f3e3e10fa06e0097d32bcbb199965a06fe82e5a7d070b71ee8cc5cf5dcd6997bc6118434a4a928bcbd00cc2fd067d6f644551d0ff6dfee9b70fce72b94c92c4755d5a81a769eafb7e4bf6306f1305c02da2281a6c2ea3d0aabb210c43dbb66ddbbee5ad6842df709f01f020a394bae09c05535a6fdd0b78412fc2bbaa2ada5c202e46e6dadb300c121ca05f599224b61e4dd25f6db0584d9ee730a45e4a7247515496e57abd7eee15483364da98389d4ecbe572b95c6a9ad67a121b2d41aac471fdc1001445c17004d7c08ce89f22a75b1886b78ab6eaba9ecfe79ee7856108e31e80fbb8ae3bca781d046fc0c4ac565c8451f8e7474b8bfed6344de6cd934983595dd75b7abe0f1304fb26e883344d755d5f2e975d2a36ebbabef5701d0e87ab0e23d334d11e190c7648bbae2b6e51e5b89bbf2ccb51146559766bd8d86c36fbfafad2751d133100b8bf0b3dedddee826118e8a5027aa5b5f91383b0bf1a6f3481e65478b7a46f14455114b12df326f77eb158d03fb42cab8f3d6ec8d820d6f42b5096a5699a1f1f1f4418779425a378f1017884300c855e9fadd901a34086785b9675eb174ea7d37c3e877d0fc0add37614d54de243c84601434284777f716988144e85b7aeebf4f8ebe572a9ebba699a77dcf64f888dcfcf4ffa27fd8d7b195278238b63f2e4797e99a93124c4fd8f1019e89b344dc79d6dd19df57a4d74efb86f4396e5344d379bcd8fa16f584500344451a4ebfac0be3f49920cc30882c0f77db8c3c0c4a8eb1aa70c8fc27b761128389d4e5f5f5ffd251cf6da020713c500433b603e9f8f9b79bb5eafd7eb350fa13c3061887f67021f64b7dbe9bacec3042fdbb6cbb2bcd324f97038bcbfbf8b5b510f002b92245155f5f3f373b0d3565194388e8fc7635555799e8761882a45304910b6e154788761e879de30ef6680c6b3830d84802769da3aa495a63122a7d30995dea05795389979b9fc4cf0926539cff3d56a7527f44d52cc709480d73c6789e45e2c1643ce2f5414a5280ad77599f7330200c21b3c24bc67b3591445711c334c2fbf8ae3384551f45d4503cf25e8b84f8d5566d6204992e779f4f3188621322c401f8461386231454f90095e3d1534fd0adff78ba2b8d336e57038a087227829d23425ba7760c9ddfc75d472831761bbdd8e5e7ef582fcf9fefe7ef057abaa4ad3344dd3a22898ef86abd56a98129a344d3f3e3e06f8438661c0993431c9cdb308f13c0fd639604b5114efefef13fe808ee3f020bf67b3591886cbe5f2fe81420280589660aabb4d922449928c985f130401ea3bc08846e67c3e6fbe25eaecc7a3a12396653d577e55962511edcd170db22c931867f305785278b74892c4f7fdee5ba42449699a0ed6f66c30535251147892a6415996aeebf21ff73b1e8fb0cb012baaaad2757df888d3c00c50dff4f8d9747f40b124496118a2c913989ede4ed374f4ad86249923dc0db812de5114f55dd818c7f18f6d5c8aa2288aa22ccb3ccfcbb2fcd5d3aa288aaaaa3ac5abdfe9efa788e398c95f370ce37c3e7f0f0be7d71670451004a23ccb4110e07e0156388ef32287a0a669c31f4357399fcf3f7654b12c8b93770bc0d3ecf77bcff3e8a139a3936519ee0b18912ccb2e1544eb873de1380ebdfe8fc7639665711c7b9ed747632cc33056abd57ebf7fcd1bfd4cc4dbf77d26a365c64a8e354d7398e8e590221f0c1f80e20d245900560c5692c38ff6e624ee4de21eaeebde092948929424896ddb58a840ac805e9ee74551e479ce5bbf46d406021e1e90cb8877eb8713435114d3346ddb7ea9e3ecd7c2db75ddee9da5c6b51b987c0408efc90b0fd7752f8d0349929eb61824499265b9d7843a649b83ee5455a5aaea643a998ba8bdabaaf27dfffe396559569224c88c053c437253d334e5506cd364593658c123008f0b6f213aadb4a2e245513cf1b05b964514f8f40fb5e1930f0dc3381e8faf903c8ccc1941b95a496159d6d32bc7b2accd66733e9fefb42f66421cc7b87da0234fa7969167c4308cbe4760f4a7bdb9cae2de6c36f7afa42449c88f057c66920741d0f779c70acbb270cbc0e89ccfe7963388fc9cab87851c49a448e4fe592f4912fdaf8f5b059665c5713ce18aaad9e30b82c91eca4319ea30251310de82b2d96c2eb78fd56af5745f83e650b72cabef25e7791eee20e8c26ab57a6e919363b2f5f808a7c079d3dee7f3f9c77dc3f33c547d034ef4b6e338c23df5f05e015e24d9b5388a280eacc775fb8b2bf087c4619665dd77524dd338a9a43f1e8f10dee0d6da68ed719aa6913e134fef32cdae3140b72a086fd0d16e7e62d5398e43fe77564d37a1bd2fbd21f78f604551201ec088e7266f9dd21e475114dc41c00974ba996118e4873f76dc9c3c1353e0b31f2537938e7641107075c920bcc1555ada9898e0fbfdfe69c7d36ab56a34099d96d353bd43b35303f05b9e4b6b6a123aee87cafbe88cdaabf6e6ade1eaf178fcf11ac2ef060626cbb20132b97aa539a301189d966548dca983050bf987b4431fb75ab92fe17d3e9f894e98a405f33d54e6063611e16c884bd5dda5c88276a5d3fb29d93b20bc01cf5ea7c783c3e7f3f9f2ffb52c8b7e705adf0a9111b7d96c78bb473fee1b7c1eb8607a3ce2091202946900ae1eabd67e4e7e8ea0f7e549e7799ea0795eb34bbdcdca7f492a63f9fcd8c31c18d84484161ee491eeb2dfd101a896f0ee29e28d9017788e27b2c42549daeff797d5198db940ab44499206eb6ac9101e9a92b4d8eff73fba30387cdb60329042eec998efb8a18067439454729dcf67414b390670913b8e13c7b14061f0594f3b29a98ce5f66343788316ad7e9264b3eb98e14347cc5ac2bb27ff25bab382e72ce9278a29369b4d1cc797ffa3e3382488d4aa1817d467dff48de38a1fbd18087d833e9858e4edb72eaae3f11804411004abd50aa172d0932dda3a554997b52e358f2f82a2289ee7911142bc0b6fe6ce4bfeddedc31c1ea2d721bc14ad6ecce4defdf6d1501485de196f194d1708f60000200049444154ca8661f4e4fae13039160877cc3f421cc75777d156ce05fdcae2d6822a8ac2a188cdb2ec7e0c84e7a4332022930974b7f2da1ea4951644527eb02a40dfe6e86c36232bedb9eea72f9b8bbe5aadf87c4267571305bb94980aa13687497a449b59411df9a436fb8970376d07b7caad0710de9224e13e82dfaaee27f6ffd56a75b9802549ba1c23dfead12a743e1b8722f67c3effe84416e55006021d912f28bcaf4e369124090f1718e0716bbc3c3db5079a7618dc711cae8252fff8be5f96252bbb24cf73555571a781701445d17c6d9ae66c364bd3f4b72f5255d5881fc1f77ddc47f02b5cd73d1c0ebfdde79324d9ed762def725114aeebb67e9f3e0e5aff8b58d475fdf9f9a9aa6a1445e33ee634b22c4751b4d96ceee42cec763b5dd79324c16a074f93e7f9d7d7d78b6f9557b7051cbba00fa228a27de2755d9ba6591485effbd3686a3818a7d369bd5e7f7c7cc8b26cdbf6748e42e17cea88788376ee070509dc75dcdd868f78a3e40cfc8adf268e6a9a1604c1d5a2ee4776da29990b8ee370b5bd9fcfe71f33f9f92c56074230555bffc1a7f86ab81b961e18381f8d8c11c174b1ab2101f2df47eae6483fb61163e0ff74fcb48aa26c361b04ba81d0d0e1eed9ff86e99e78229a405318868305c70cc3906519b7123c1ec059afd7bf5a60aaaa2e97cbbaae5b5eaa178ca6aed7ebf97cce4f245996e5344def87beb7dbadaaaa4f24f28017a72c4ba1d355ba73ff310fc3108b04f4b1abe7794e17301e0e07d33455559d5eb7858e10b3a4aeebbaae49afa53b47615dd74d0c9c55d2f770044120a8071d116f40d36a9a721903ef28890dc368957f330f20a0c01bf417eb9efde7516ef9987edce2a61af16e3de0fc74707964ba3242dfe0574cb8acf44123edc7301a2abd414f5c36330f82005dd6981fe2971d6ab88b781353230c4341836cc3c421755dc782166e3d34b93dac74c26eb7dbed76a7d3a9f909a92167eef0cbf31cb712fcc86f63ddb447997e4cf23cff7125d307442baf6432ec76bbf7f7774e4a3d5555cdf37cb55add0f7debba8eed023cc88497ca23166c9aa6adddef92288ab04e404f3aa2f5004651841463e687f862b19065799834d55f0b6f4551e238cef35c5c555914c530e97648fd1551783777ad8fadcdb22c4dd3745def23b90549a4e0c7756edbf613aabb85e7790f9617d1c7445dd713ee0af3f5f5a5eb3a27ce05dff7f33cbfd3affe743acde773dff7f969140784381fa7a76a981cac7063815e57299d7552d775922468b1c69cbaae97cbe5dfbf7f5dd7edf528ff9df0f63cef6aeb5a51c8f3dc75ddf7f7773afc08c055fa884bcbb22ccbf2c7c7471f2b30491298d1e08ef56c9ae676bbedf22224bd3c8a2278152f2105789c547d132fc0fda22ae22c806600a0a3a83e1c0e82558a02a1f07d9f2e574c9264aa19643cb05eafdfdfdf4dd31cff700c8240e84a8981a7509259d040b89a7fba1b39bdd30981e80f2918ac3fea131bda134550ad6ec02fe2a4bfd3e67d9412c11f6f3df60d7087093fb6bfedff7207f4f401bdf2f852046ca55c1cc76cbba23cfab7254912ba1dcbf03d005bd3a400cf645946fb651a81b1d96cc4da23447f4ec130dd597eb5a2ba8cce7a4de13de3ac81d9f97cfed1efac691a3f2de200843727c2fb71e73b8437e8154c111bd7b40e8280550fc54753cd7ddf1737b7d0f7fdee658dbf05cd0f048274246abe5d2c16248dc7b6ed8113253a52d735babc009aa2284cd3fcb139d055d7611cc755552549c2aaece27576c5ed766b9a2627d980b22c47519465d91d1571381cdedfdf3118095cc261431f49923ccfbbdf44b03b49923c5e1486920d004d213a8ee35c0dd392f2efb7b737dbb687eba624eeb084cba0256970d5f71543f29ed03911922435f11fb1462622e80de8e4b4270cd347e6843d17f11e668e23570fe36ab5e2673d9ccf67cbb2eebf674dd3301b09d0f0364ecc300c72c6b5b6972736bafb0fcbaf364f987c00116fd1217bc2f178741ce7fee36f59d66ab57ace527a749b1377a5b6ae1d499b1ce0fe21ef48385aee1871b5372c00f0fd6c4998e3380c1d37adcd56acfc11863a812b29bbd96cee9b14bcf90bc0b80c63323d48b332ef677074b76c7feb25c4b10b383cd0c16f853731fbb32cfbd149ddb8aa8320f895d5f4d05b1972b0385b5ab549a4e7cd30220a4103e1389fcfad839cd6de02ed7a087a83e78254ccbb829dcfe796a5fbb227fa6fcfe6bef7ba1fef056ffe0230229c3c44c4167da4674147e17d19b381f0065cc919d093f19c65191189bff2eb9122f0078ff8291bf1ad24734dd3cee7f330d91a68692e2857db5035cda51ee90fcc099665e16ebe2ccff9167beac50de14d1fa68ee36c361b7ebc333f86bec575bb03863c18fc192012b5d96c584d1bb923bc9ff8bc7852006f9e74fed1348d246cc771cc8975dda56dc483f2bbbdb55dbe90e77982aed4d6c721bbf630e16ec89e89696f72486f361b56bef601e0c7be0743f2dcfaecaf9ea81514824fbdb9e041106c369b717b891f8fc71fbd215c756807a3306ec217a97fc9b28cade7eed6a6f75c6a3daa0bc1c046e904684e169e9df28aa2388e431c0459960541e0388e6118b76e8aa669f7cdef9fffde34c2dd240b68b0e60428909bc03677f5a12233fdb22ce37f1f44c2f90bf29cc9d8eb5281f07ef016188641d47810046493c9b26c9864ef1fef8b244970e4bd32bfed34c6501beff77be692fb4e54e9b2e2ec415097017a7af458a578f02cbce91c13720e5a966518c6af3ebba228e41865f5f67e0c5f5fdd9ac85679270566b24133fa2e3666e560661f06a28acef178bc1339d434edf1d60b23226eba0a788ee7327a7adde721bc5939dd8dffb02c2ba0c8fe97a7bd8d8f64fa1193425114cbb210e2c3ded26b51c6f178ec4972d3f19896c8793adf152b04f4a1ba45296f7c8ee610a1cde956caf0f97cde6c3641103cb8155896453cd7711c3b8ef3dc05fc559955966557ffcaad10ec2ccbb2cb815ba27bb85b916d223f0673d9a2c07b4af2fb96b5411aff3e37ae69947d0dbc025c2599437873154b370cc3719c46ae6f369b2ccb5aeefcdfd629689a062ff3eb9c86032c5762347f3f36fa8eadf0deeff74f8716c51dfd03a0ba47a4790669db40d3b43b9765b3d9388ef3c8a34afa8d6f369be3f118c7b165590f9aeb745be5c789e3f8f25d5d6d9d33fbbec84e24e9ec42a7cdb4fa1090cf325873028419a76770789e77f58925611f9e1381e0067a1df82c4d84f01622964e52fb9e70233e67a300116115f426462649d6a0a58524498d061ec0a34d0bef8e45ece8ac06d822502bdf8e8eb6464eff367f64bfdf7b9ef7a0f9ad691aa9d3f63c8f3ee914459124a9f5225d44dce52679a9bd67c4add264a94da34c854e48687c2783a923582153f53e064170690d9022109eb748741c80f01e3143b2b5142174a707c27dafe383ee987ce1791e6d20b5c60d120b75b056528d5aeee850403b15c05c754fb59bdae5b373756ff9553ce0570abcd1db8aa2689a46eab65aa95e1d85f0e57ed232c2a7599772f98107ebc98900e3e42d8f4b8d4db4f79025703ffaf6e85d1b660184f78fc7de30bbf173ae01c03f7037bf084fa77f4b927469ceb6c25c24297430c9418cfbee0737fa0e02b6e7f88ba8eed6d9417feacbfe0b8f2bf08e61b0fb89ee4f6b6fda95f0cff4ee629ee7f4b7a669ce66b3244986f9ebb66dc3089b30aaaa1645d1ca985d2e9755552549c289f63e1c0e511435dfd6754d7f0b4083aeebb808a03b699ae222bc024f5b38a669aaaa7a67d9489264dbb6ebba755d0ff6715cd75dafd75d6cf42ccb60f501562449329fcf877c0446a7280a5aac5dd5718fdb3351141545713c1e57ab9565594f643a33799c2fe5401886ffff9be9b98b5ac16de20519de7903a64d2b69b649b6e4447b5f569e63d80922de975cedfc818837f82dad3eb460aa3cdda4f66a3d027d48398e33f0b4f0a7fba54b921404018e54c0167eb22687a429a86e19d5acae2ae9ace679de83cf3b43a3a8951fd4d4b64c5078d3d148b2d70fb69a9167fe52b41ee3e6a1e2a1de9bf4ad19586201e184f773095d10dee06af40f5204f2e071eba81511d96c3642cc2b46277fc09cab358c2f42e3926b99073d3d65644821a9eb360ce3f2b2336c59d22a9c69f6c0090a6f5a0e11b13158bd04fa99bfda5ed9f2829352ea21abd4ee180797ae018c1683f06e3140752284f7eb40862ce249c43ef3c86ed3aad81a38dcfdb4471b0b00b065b3d9bc5451f7e5a971d55a18725200bd17b10da0b67639723efe33ed3baaaa6a9aa683d54bd0250a60f2a8aa4a3f54755dbbae4b7efe3fe51c6370381caaaa6abd8dc13a1d0081d6302e0260455dd79f9f9fa669966589ab31554cd37c2e34dd3a80e8026fcbb2f86f1310c7f1e8273b98125555f9befff1f1f15245dd97a746735ed0f1e7e7cabcbb6bb7d3e9c4f0957ddfa7bd2a6497fb67f23775b09b475a83602b7929c230a4778aed764b0e66dff747cf9a4bd3d4344d3a2d70bd5ec32006340337571bf2287d0e5268fab2597f4cd8ed76baaec3cd3761888bf9b76cb7dbe6002acbf27038d01bd176bbe5f9235b96f5dca706e09685a6ebfad7d7172e45b32dd002b869ba26b46c946599ee6d5c96659ee71314debbddaef99a44bc87f9bb0877bf26ad86e1cbe592589cbeef8fbeadcf5aad142fbe05af0ce4e525beefbbaedbb445c5257a8ebaae178b856ddb5555e16a40783734ee989669cbff3ac16410c050679aa6f9f1f1c136b82a2e8dc6a62301b4636e00f9463742636bbdd3bb25b9e3138f78cbb23cd8ca86f07e4d4cd3f43c8ffec962b1288a62f4f487ed765b5595aaaadd83de5555e53740085d5c304b4c51143a33455194e69aa8aaeafb3e1478c72d485555fed31cc06f5155f5b981de8df06e0d12e3fc1c711c075539a03ba400f0eded8d0e1082e6f16fd924439e1df4037e381cd8666cd1d9e645514cb0b91afd695b8aa857d0d0158d5e690bfe7c3e8f6eac93460ead2670bf6a6f7e3c1e0dc3688d79b8dc53866c83011eecf6f723c3dc35fa2fb61a8d8c4e6b61df6f0cb6dfef3dcf13a2f1f2d31886e1384e1004411058966518c6adcf6b18461004fbfd3ecbb21f3b03799e471a4f822975847a6e8d916d87fe8965599c3797827507bab35aad5eb989dafd7367f4fe6aad41896c5bacd17d8e832098a0f01e45ed9026d2e065b994d98ee38c3e95b1d93be87742f7907cb0d9e68fa70599cd00eb842bb72327d6e4589ed0470440abedff831764b3d9388e332513cab2ac2efdedcfe7f38ff14f0c619a1ecf39a10cc3688976cec717631227e8481cc7d3f6d8b2b2545b1a75e04151adc000c31106ad615b131f273618182406cee7736b6fe5c19e20f6746b00cc2346769665bf3d2a60a008b4fb3dee7fe9c2e530797e8ce9d6f8a227566f96659ee7099a852e49926559711cb38a453f321407d398a6c4d3092cad47862b7fdc2518c30920b9fba6b962b491c070a4f673363cab903bbd551a86f1e7b74112fe314d73f8f2892ccb50e30df23c9fcfe7b41b6ff4e6198661903a1955559b37e338cefd0a96b22c755d7f62c4c57ebf47e5f0884451f4f9f9795565cd6633fa860e33bfa7f5440441b05c2e47bf4a9aa6e579aeaa6a73414895a92ccb5d3e296979509665af07902449cf3d62aaaa9232365dd75555ede339adaacab6edfb1fdf308c244950313b01480f918e93901445715d97876de1d6db431f13f0044992846188f6690f723c1ec9a140db3092240ddc76314992c562d1d2deddc719d8b64da63648929424c9bfd3bb7fbaae0f2fbca1ba015906866134cb8f873d77b7dbe5796e9aa66ddbcde08a1f15579ee7b439a5288aaaaa978f15891936fbd428c92680c675ddabc2fbd2381ea5f91f0f26ac2449699adab64d5f13dff7bba86ef2ecd3a7405555a4532b91e2cdcf8ba2b86f4934f2b839cec81b6bbee0195996f33c8fa2280cc35b7a8c0c1b0bc370f4b90fa0fbedb66d7bbd5e777c70786e698e1162e0b7e4791e8621daa7fdd63668fcc2b4ddd2fc7cb0e7bd2c4bda0f48ecdb2efb405555cdacc4baaef33c9f21fd8909c8a80157736b7980a4ebecf77bfa87f7b3cde9dfd434ed56012769abd6ea1b8135c0ff06489aff0df0665ac59ca3bb662449daeff7ad8c7774e8600e69ca78ff5e5896858e6b13b8d11d1fc9cd66c3b3c7168d4bc0af1e87e7bafd83c6743c9fcff4cf872ff4b8da17b94bce79aba86dbfdf4f709cd8286181c1a68503ce21416faede12097aebba4e97afdc59b1ad7ff27dbf71d7b5a8ebdaf77d8ceae58a300cefd74c4a921445d130fb64339f93e8dbd1974a1445699ab662746c078780d96c46a688ddefe24b868de1e814fd46773cef469fbb79df678d9a08f0f8c9abebfa2d636914144511a50b49931726cb327d6a0c3f8d92e46db52eda62b108c3f00903a6aaaa288ae83ba2ebfa0485f72825a618550a1a384c4e0bc3b065e2dc59b1f43ffd58634372819a5f8699c2035114c5717cf5b825e5cda318bbb22c1f0e87112f0b713cb7aa49e3384657829e2083d0ef08b3baae3f3e3ee0bc13fd2e3ffdff721e1e449e397850349aa6b95c2e3bf63b60cee974fafafab26d3bcb32ce2b01e9822cfa441ea53cedaaf65e2e97aaaafe4a7e5755659a266df6fcdf6e895c5f2620591130ccbeeb4975b4f27e6fe579d289b88ee3fcaae5ecfd49c86060c898e586e1337b69c37adc833f8ee356c6d70c7df8b9297f501405c3c6c4e5e9becda40c8a4f4930ccdc073001c5c1ff68494dd38ec7e323832746e4ea79317063f33bc630bd330441f0a335b5dfefe9ab2d4992e338a474659ac5c9a32c1ad40281060e773745515a1e815bc533ad9aed5f5945b09ec1adb534a279ed384ecbeb04d53dbc0fe8c78c47748810944b97d6e30441c0e71c6fcc8805bdae7c5618861150dcca2d27fd4d8ec723b799e78d865aad56fcf8bf3ccfbb6acf13211d044196658ddd4bbc1b9ee75db5761a931bc29b1988f581ab7a83aba037bd83dc5ab14f0b6f8408400b3a14369637ca719c96ef19394a63f163e89b446670a1847ed29f500e3ccb0000ae42ebc3e1d3318837f98ea3f3ea63459a84f1e9ea6a74692b6d79f427f1c161ec772c1cd287f8ff4b54c81e565896859d08f02cbc1545a1dfd8ad88dfd3c21b214470c707dac53467aebad14f7b2c7e0c7d4b92042fb670f010fa63bb6fe09e823b8ca55d2dcbba3f92a6f5545eaa41a2007f55423870f072f4c6e65de4f7a51427b906ff631741f63004c61ce05978b7c48fa2286c853727fb23e047628d6e3d9fcf67a86e0ef931f46d18066e93588ce259eb3bf806000faa5b5194d56af5c49678d5d149b4376fce32bab8833eb5b92a4122f2fbc1f43dc3303ccfbb8cd84f53780f36cabba5491e774401086f6eb3e99e13de08118016ad84b18153cd89ea6ed91c50dd5cf965ee4b35499270a40ac46482dee3f6730250ddadd5d86588f4f7ddc1d45c3db3f473f7486ee6b88717b18d5ba1ace60bc77156abd5ad9e4710de9dd86c36f47547b639104b785fddd09f13de3091c158fbf083aafb32e30b8ccbf97cfe31e391dc4a5c2b219846d01bbb04e04175933a29563bedadd3902bed7dd578e0bf21cb7ebfdffcc723a7d53485f76013c5be2f2a256022008184f7555722fde66fb5677c44c003d82823aeead68860a86e9ecfebfb824d5114a4fe0ac10482de48dd02a39f68cddc29b65ece5bda9b9f5e6bcd19ddda4926b690fe99816e79e6a669d23f4cd314570688429ee7973fa4977451143fbec86ab5725d171713b428cb7214bb398a22dbb6b7db2dfdf32449745dc74de110d3348ba2b813fa3e9d4ef3f93c0c435c2bce715d5714a7f3552449c23203b7d6f67abd1e46722749a2aa2adb57966539cf735a7bd7756ddb765555499270a2bd1b83b375585fb554c505c2fb79aaaab26dbbb5209224c19501a2703a9d3aaa2345517cdfc7950497ec76bb81ffa26118511499a6d952dd711cdbb68d3bc22db22c4751743ff4bd5c2e755d7fc41508464468e1eafb3e73c103a0bac795dc77b4f7e97422276392243cccf7be25bca7b6ed4f352764804bd7748a6ffd1ce31f01edf51f6b7cf1835c6689d3d535adee119760f00fb8caf02dcd1545391e8fb7bac80021389fcfad1a81cb63177b0ee7dcbf83dcc27f2929986486791f89e5f78fe696514ada895f4e0019f719a4ade889f5cf42c4fb79eaba6efe4b83a037a0113dc1f5743addf9570412c17dd7f590d12ad3340f87434b75a30e422064594ed374b3d9dc3201ebbafefcfc344d73944206f008511471ee6ebef5b671ef408b5e63dd8661ecf7fb5ea3dc572dd256a2eed7d7579224241e3eeed53e1c0e555591af7f5bf3281010deec81f00634ad2e00bc71df7ebdffaf9aa621310f5c65e0235cd3b4300c5b4e22a86e41b16dbb2ccb3b81d3dd6ea7eb3a3aaaf089aaaac2d51f799ec7f9490da6a4ba0dc3c8b22ccff3510233baaeb7ba972d168ba228745d5fad569c580ef495e95e1409e13d04238eb5389d4e3008406b9315f49ddf0f7743d5805b0cbc07565545271f917ead589fe2f248e8fbe3e3833407c2e5e28d300c051a2da6691ac2dd6018d5dd48ee711d3daeebb652e8c95eeafbfeb8a5228df06e5d9f29f5579bacf01e3710874d1cd088956dde78167fb49cd0261adc3a3b2f6b707a85f610499234562401b0e5c7d0f776bbbdcc9c043c204aea9fa669583f8086344e66aeba3991dcf413da6ab4465cd549928c582ad23c8cb22cd36f0fc21bfcc06eb743051a9476b35f08948f9d244973dedc0f77cfb8cfa2072f687343754f0c12fa8ee3f8962d48868d61b6026f98a6c97f9735a2ba6559c6fd0284b22c2fe7624c4c72d3d629bdaf6eb7db300c65591ef1043f1c0e8d7aa22fd794f28821bcfb02d3205fdc58bca5c37983ee5a9124c962b178f07f142893100c49555503cc3bbd634940754f0fd7758ba2b853b3f3f5f5856163bcc179ea9fe33850dde0f2f86875e89ca4e46e2cd596a05d2e97699adab63da2d7ac794bf445abeb7a32db3b84778f4b07b5674014e19d2489aeeb8fabeed9d8d51c00d6f6259ee741754f155555f33c5fad56b742df87c3e1fdfd1d755efcc06db6b924499bcd867472c66d02cdc9359fcf591549712eb91b4cd36c3554735db72ccb11671334fb466b68ce641a57437833decd9bafebba467b7340e0f9743f9d4eaaaa2e168bdf7a7991670e2ea9aa6a2ce5234912f28c268feffbf743df183686ade0fe2e11044159961884091a487af9e7e7279357531465b3d9f02fb9e94d956eb456d7b56ddbb22c8f759e1e0e8726b84d07de2753e60de1cd92baae69ed0dd73b68e0b9b1f98fb5dc10dee041a2281ab8ad1a6d3d207ef50afc18fa26c3c6e0f87ed9ade0961c8ae3b82c4b52c58a1b049a85aaebfa6eb7ebfe5292249135269c5b278a22ba93d9e170f07ddff77dfa8703bf1ff2057d2569412e36df13652c9dd3fabb9bcde61bbc1e4110d04be2fbfbbb35b941742449c25d062dcee7f388dd50cfe7336ec14bb1dfefefdb8596656155bce056d0c2719c2ccb7053408b2ccb180acb200884de6df6fb7deb995dad5659968d6561928b793e9f5b0a6b020b0f116fc6c8b28ca037b81aa599d2c7419e1eb8c475ddb1625c8661208af56a906e6ab497b3c576bb25e1715cabe103563c84bb354d3b1e8f4992203f0bd090dcf2f97ccea48f9ae338c7e351f44c8acb2ca1cfcf4f599647091ad5754dd453eb0dec763b32f34c68262bbcc76a6c561405bd2c76bb1dfaac82d9e412b321bc418b344dd98e60f9add1805bf09a84617827f45dd7351936865ea7435a5f3c841cc864413401050d799e274962dbf6dbdb1b93dc7222b9932499c632b36ddbf3bcd64fc69ad4184511d9b45ba5e6ebf55af4e37eb2c29be13c805f713a9d5a120b416f309b56c45b9224041040cbd41ed70f8d70f72bf363e8fbebebcb344d38c187214dd3cb70f7f099e7685afee247529224511499a629cbf29f3f7ffefcf9339fcf178b051307f1c424372d58e882d9d3e9e4fbfe9dadb53feaba269a5f55d5cd66436f2087c34168ed8d5473f6946549a746acd76b74580503efce9aa6f567e8a08b156861db366d6a0fdf62039e20703ff44d868da1effd3037e2eaa931e4b6601806d2b25e16a287178bc5e7e7e76eb7635bf53055c9dd90a6296d3dee76bbb22c4769d9b05eaf49a1906ddbad10e6e1701037e77c9ac27bdca4b224495a0b02ed555f596633c968fa15411014455155559665cceb7324491a2bf508706b67d38b5c5114f865c02890d0772b5b9266b95c62d858df56fbad3119437a3de06179e5f368b158306f314006d14d5b721364596ef5c558afd7637de4464cb9ae1bc771eb5d899a503cd55e85e35ed5e3f1483b7715454103c957eb9679f9940db3f6e87ee3e7f359d3347a106277e238c6fd050d9bcde672850cbfe5a26b3168edc08aa2dcd92457ab15ae521fdc0a6b0741f03dd4b89969b43e069c18ff4472bfda7c84d56ad5ba0863e929b275105ad6852449c7e3115dcdc16c369be5794e07bd4fa7539aa6b82c2fce303b175dfa5214c5e17060d8f24a519409b49404ac68f5929ccd66abd50a093e60744845f7add0775dd79f9f9fb66da3e31a5bcab2bc95e1452266c304a211ee7e595a96b6a2289ee7054170c70d77df668be3b8aaaa179cfdeefb3e9d2f39e29082e572d9b4e7705d972e38afeb5ac4877d9ac27bf4f121699abaae8bb962e0962416f4418041031a484335fa3c761c47d7f5e16b2b00b84496e5288aee84bec9b031f8c41972c7ce21c2db34cdbe83de8aa2a0e3c32b431bde24e875a7fce10e41109465f9ca9186288a18ce39efe805a0ad50fa5d89d8450b11ef5ed86eb7ad36bfa43f01aeccebd87cf4b76375d365fb77354d43b81b34d8b64d0f8fd0342d8a22ac10c0153f86be3f3e3e306c8c158f64bbf41d8480ea86e945733a9d7e3be4c8b2ac09cce566723193241931c99c1650f4ded2da43840b0821e2dd17699ab67a5021e8fd3ab482db435a75b47f8716dedd774f2c60d0e0ba2e1dd9962489cc6e7922b00040dfe6631445ad8134345f5f5fa42b1bae5547d57d271fd5755d7282e8badeeb742208ef57260c4355559f8ed33a8e9365599aa618ffde98b29c187eb47bb4953893a6a9589e537435eff110525595ee6b85943630008df2a9aa8a56411d67ab388e0383063447e07abda67f4236b7e572898b03f8c4b6edb22c6f759a3c9d4e1836d691fb16cee974fafcfc241931beeff797c28a73eac5298a42d7f5c7230d8661789eb7d96cbebfbf9324c1fa69e1ba2ef3e1384f50d735ed02a0f7eabaaec5ea2cf367b066cb837eaa3f7f78781bc7e331cff3c562d1fc24cb323cd52f02bd08c97d374d7398f2d7f3f92ccb729aa61f1f1ff40fd334a557638324492452d17ca1691a9d9d25b9e978d400002000494441544952599698110566b3599224ad5514c7b1ebbabaaeff36a38f21d85ac1e3fab0d59b8046d334c4bb9ea0aaaabf7fff3ef29b8ee324495214c5fbfb3bf3b7a1280a6afa40a3c0abaaba4c80956599e424e2c878fce9364d73c4f3fdaa214a9b1c9aa68994b2244afbf5f3f91cc7b16559b41f8b742cdceff7addfe4e4da7a9ef7fdfd4dbf61c77130efe145682993c126a9ccfe1bad7475a0ddd5514f8ee3789e6718461cc7711c6759d6f2161367300097eb878cfab8333979c8350fc083e6c49d218b1836c66467b8033950fa4838b72c0bf70200e6ecf77b1e5415bd33b7f61c81e68a89916a4e3cd08bc562bbddd28eead3e99424c9fbfbbb6ddb8db7831fb707497ea0537c916dfe3ad0ba77781f7c6bac4be3d9755df7d24222cf1749dd298ac2b66dfa29b32cab639a3a980697b16ec771c2304cd3f4ebeb0bd70788024908ba55f54d868d99a6898e6bbf32d21eff65d775cbb2ece3f20e3f3a04805740d7751e12cee96cf3965d2a92bce2dc31703c1e1f8c139219f7bff5bcf64d1cc79bcd86fe0982872f02bd6ec9ca1c32e2ddda225bbec0cb98f62d2ccb3a9fcfb89be0725f25c1a5e3f1c843d75344bcc173a1ef3bdbb2244938af1fbc8cbf7d602dcb7a6eb4f27d70bf00e8899696190bfa19a75b45188681883703488f8407cb6249e53de95fcacf4788a2c8b66dfa8041d01bf44d599674ef2bc7715a258ba669e679fea3dd23491279a670495f9ccb58b7a6694d46cf9d56c68381e02478025996f33c5fad56b742df1f1f1faeeb6275dde709ab66bbddf6310101a71500d33e64e93e6aad99cda25c497e85f765caeb23dabbaeebd11b00d01c0e873ccf916d0ef36ec83fd7eacd7b75b432199fa3699a2449ad72474551344dd334ad2c4b3419025755779ee7b22cbbaecbc97e8b5950e0697cdf2f8ae256e87bbd5eebbacec38c526ec1c50160f2d0e2a5bfa9043fb2dd6e9be2cd567b3c51cc004e85775114a6694e63246c1886f4e2a8eb1adafbd518d853483f388661dc6add49a23d799ed375718661a8aa4a7e8ee801b8a3ba9324690d15034050c8a6772bf47d3a9de6f339868d417803f0b2cff876bba5374c1e5c00ad9e0ea26c44dc09efb22cc3307c7f7fe7217d9109bbdd4e9665fa38c729f50ad0be37a26047f1c65d0d77d36f4cd7f5300c9be29346724375833baabb288aaba3e97878dc00788efba1efe57249128570a15a8fde3462240080ab5455d5b224c715de74b6f9b86d8c8514de6559e6799e24491886b66dabaafaf6f6b65c2e27b66a49a577f32d22deaf00ed39d275bd2ccbe17d498aa2dc17de003ca1baabaae2add13daa70011348e8fbd6a4abc3e1609a26577d647810de7833004c5875b712900dc3a0a5eff01c0e874663d3416fa49adf54da511499a6a9ebfa9f3f7fdededee6f3f962b1582e973d35dbe081ed764bfb874ea793288e19f0f43a6ffd64943407dff7712f005bd53d9bcd38ac0382f0060c09c370bfdf5fad636c868de1101ff168bb451445d80a00600529fb6d757219258c746bdba17333058e7837daf8cf7f98a64952b03a1a46b66dbfbdbd7d7e7eee763bae5aa0dd47d3b4d56ad57df9d2df22e8fd52c29b74111ff83d489284703778ee48bb54dd455190138e9f866a34021d2840084856f9add0f76eb7d3751de7f88cb328d3e97482bb19005696c0a5ea9efd6f17a1d1b71dba879130b1dbd63046cff3eefcb2a228abd5ea89b9befbfd9e8759afcf41c6d5761fc24c4f6f22af095e64e0e1f1781c7edd92e1e10074dcab354d6bf6fccb69de7c9e6500307c22eeb4f0b52ceb098b684a70b815689a763c1eb17401781a9ecffa1935b53bcb32fae742ecc6335a2a3cae8d1dc7f9d5bef6e3c4609e59ad56dfdfdfc7e391adef000ff684a1e3249aa6398e33fcbaddeff7b811e0579ccfe73baa7bbfdff3bc516759863b0806d8d22f5dea2fbbf65a562f3f4892442c3700c06f19c564fded03de182dc29901ffccfe6b58f7f1f1f178d6fe7abd7e7b7bd3753d49921f2b6a7cdf6f25008815fd26b5fbaaaab24d61426ff309d37a2846c9486c0d5a00e0c7456b9a267d0ad075dd6559de9a4b07c0e409c330cbb2ab2104326cec35339cb92daa24a5f8a4551e562f008f9b01baaef33f28b43154449cbff30f31b62eafb26118711c675916c7b1655957a5f2e170582c16aaaabaae7b475ad0edef2449daeff70348028631f6f97caeebbaebba6c9b76e03c9830f4cd3d1c0ec337a2b8931b09c0555ac5db922435aa9b74e8e07cc4239a2a815e314db3288a5be5785f5f5f2f386c8cf36e46c427824e78003c425114aaaaa2614aef9ccfe7968d7e356fea7c3ec7717cbfce599224cbb256ab15fdbfb7b213c93f75af97fe11fe33259a12053031e88aeeb1923bd0440074c9a4251e528112cf66686a0006ccafbee3d97fa90c67217606ec0f00fc08e745dd973426caa5c6e43dd5dcb66d3a50e0795e1445799ebbae6b9aa6699ab66d8761184591aaaa699aeef7fb5b5b6d5dd7dbedf6f3f3733e9ffff9f3475555dbb65b132fc954addd6e3780739a7fdf12fc3e93844ef1182b48883c73f038799e2f974bfa275114354b280c43fe13cf00188cfba1ef971a3626d0c75c2e97c83c07e02abeefb74699f0cf4472dc1445f93140a7288ae3384110789ef7443ab7611844baf71a095414a5d5569a394cde3fda5f4d121e5a096e361bdc08f008970dd5e8905ddf1b294310d102fc84be25498ae378f2576080ec45e6789e87a50b40630088f814cfa8e0f6d51ff2ccbff43b7e6406dae9746aa21f8aa2689a465c9e0f46f676bbddfbfbbb2449bd460219965ac5712ccb725114c4515a14455dd786613009dae7798ec8e4c4705d9787598224b504801f69156f5b96d5b4892a8a02a3e001b805097dbbaebbdd6e5bff54d7f562b148d334491211dbff4c38e8f4f5f595e7799224b0bec08b5396a56ddb28ea1e987fbbfccfa7d389680c499288df5796e5476e61dff9b7a669b23a0f4cd3545595a4dc93d7ccf39c55936a649b4f09628135ebbf6fefd27d6052804708c390f6212a8ad2144a08d150ad6543e08682819165394dd3344d5dd7bd7c58b6db2da9d19bea4400414df6c3e1f0fefe1e0441188658c3e0654dd6d61c132080f0a68534b979a7d349d3345dd749c02dcf73122266f5762549d2755dd7755996cbb22c8ae2eabe6f9a265d67dbe5cfcd6633dff7c9ab315fa010de531230ad2ad911b733b434078f7059da9da669139db36d9b87dc0d086fc03fb66d9765792bf43d9fcf3dcf0bc370c2a16f11592e97c469820431f06a2449e2fb3e54f7d49024c9719c388ef7fbfd66b30982e0b94202a27ec978b3cb5cf9e3f11804015da348e6aa33295ad034adef7addf3f98c22137483640b5a9a83472abb5a9b1b5dda2d50b3e206cc8900a3b3d96c6ef57fd1346d7a5d5da661a9be42353e00dc9aaccf41cab9e929423351ba9af77751eaba5eafd78bc5e2fdfd9de4f3846148c6925996f5abd72127599aa6a4bf7a9ee74d26b9aaaa2d47b26ddb0c43287dc77c10f4169d288ac2306cb97ec67d4bc833073fe2fb3ebdb9d1a5dd4992a08d39004f4042df572d1c92de8cdc66de20d5f8adf93e004c952449846b607e5fa6d1df4eb5a8a72b866104419065599665cfb5466f5014c5308c56622de9e72ccad540275ed1c3862d996d18c6ad31335854809fb81cbd6024496a526fb22c13f764c19d059cb05aad6e79600dc3381e8fd3f8983c8cf06085a2284284cb00e8b22f4de681254f6bcb9841a2d043a692e7796438996559dd438524cf7cbfdfc35804031004414bf15e4a71086fc09bb7a8652e37e6e67ebf1f7df576013717f0c3f178bc55f22649125dd9212e820e22c2e9095e10112bc87e14deb411ae699a1037e2df712fdc6eb76b7aea92c669aaaa565545727e9e68cc16451149a51065e920d55c5caaaa22ebadf197876128562368f08284614827997b9e47b2b3aaaabada991900f004aaaae6794e6a915a8f555dd79f9f9f64a8153aae71c572b924936b705fc094705d7792156474aa399e590618d7b8fa9b92241986e1388e88a91493c93a7bf170771cc79cb4ac80cf1edca29549ae284a93643e81e01532458170a16f521c87181a57489284cd044cd5589d06e409a56b8d45317dffe5f9b2d203661bc8553e1c0ecd9c64923649dc1e7ffefc116ef5144581691622bad95ae16ed334d1d50c704ed3418d1045117112bbae7b75bf15d7f90d0027dc0f7d7f7c7c883b6c6caaa60b19028741df60022449d29a1b3a25e891d2a26c47ff887895c9856e0eb0d37f086a3822db5c445a2654144548d3059c1345117d4a59964566404ca68d39f652c02dbeefe779deea054bf8fafad2755dc4d53bed98c172b9344d13ddce81d0aa7b4a3dcc696459cef39cfe8928a1af7fb02e6f3158e2258c45e128cb92162a866114453181802198305555d1d11b4992482f8c3ccf277330b78e6100b882a8ebab699fa7d349c46163934ff2daed76aaaac2480350dd1c6e3ef4894fda8441788b4d2b27b3578318575bb8ed8cfed6b6ed0967f280691045119d9141525babaa22416fb6388e13fc87e77957a37c7d70381cb09d02ce09c370bfdf5f7d2896cba5aeeb02554cbc4275555dd7efefef74651900fc332597fa2d688f98407b1184f74d6cdb1ea6710822a5c291a669f3b5a669389201e75c76e0278e45d334d9d647689a763e9f9324f17d9f94b6e6792ecbb26118c3c86ffad904805bbd7a2bf47d381c745d17e84c99de44b1ab7c7e7ebaae0bbf1e104591f6e152e7d0b9d07c4d86b3008121e6e3f97c1ee65041d345b15ad4d2f78ec3b9c7e86a0e7eecc0fffdfded791edb85d7f448df6c3692245d3e1a772653b082ccb60040086e85bec9c3d24c1ce0991711de8d6588313480ff5d851fbb5492a4e3f1c83c8aa9695a6b448b406308fef9f192398e13c77196655996ad562bcbb238541acc391c0e7ffffe45b37170dfc736a39afc01c02d747184a228aeebe679fef5f5c5fcafc8b29c24c9c7c7475dd7978fc66eb72bcbd2b2acfe3e2922de40204899e2551718a92ee67f3dbf54a089e423a0e41b704b55555c35fab56d5b55d52449c8fc2956c8b24cef8d922409bf11699ae679de1dffc166b3f13cef1514784fb496205c7402d1ab6c600222dea0b55dd3cb238ee3f3f9ccf6149ccd669ee77d7f7f3f38cade308cfe8e8ffd7e8f9b0ec422cbb25b8f24e7eb79922382ef234912491a02803706eba8f2dbe3f841dbe0412ccba23fa9655902dda3b6de5ead56bf4aa4d96c368ee34081ff0ac3305aa630360b81e07fb54378031a3acb4b92a43e6c659264dedad6c8991204c1d534b3feec03ac7f2022e7f3f932f4cdbf41d94af87c1d88ab11003ecf7a4e82b8370567375a9f542c47d82ca078ba76e57c3ec771cc9ba3854f47691004adf3555114ec17a220849101e1016eb98a3ccf6b352960429665977565a45306790f776a59fb3eec0110eb886942df9224f15fe6bddfef5f398822441d3e780556ab156f0fc86ab522efed783c1e8f4786fd205ac686588f21e3582ba9a19f4000fc7c3e67591604816559dd7332494ba12008b22c8be3b8e5aa112b47e2c561de8f0ac21bf44a2b0abddfef993bc53dcfbbafba1bffec60fe78344002e2d2b8e6379b8d1876e46b475304eaea0426ecb0e353497d7f7f1b866159d66ab5625ee026a8abbd972467d103e09721e8e3f14804731f1f0ac5420221c4aa86f006575d45c446647ee63da2ba07f6ca635305a22350ab02141b36913d004671d571f80c9209234d94bbbf7728dcd3d76f75f17ebf17b107dbfd103429650c8280497f2064450a441f39ba10de60305791e3386c63cea4c9d0e3aa9bc0b6c9ca9d231f0030002f3551ecce9e83b4738007904eafbb6cfb8204b7ef1fc7897544d7f5288aaaaa223dd87a4a33e8e36ddff95759966ddb0ec330cff3aaaa8ec7e3d33adc308cd66c2ac033b85940380e8703bdb3add76b862feefbbeeffbf4e4124dd3f23c9765f9ceffe5ba6edf39e77854010043b25eaf4dd3c4a43130306118ee763bdede956118aaaabaaedbf71f521445b8c1cfff0ef3676cdbb66d7b369b154591a6699ee71c2e940785770b55555555259f6e369b55555514455996655916455155555996a7d389fe5f344d334dd3b6ed971a8039014419115c96256e16b8d49f6ce5a865595114d1aa5b922432cafbc7ff3749923ccf5b1b23434ea7535114bfdac90100a00b87c3c134cd344d61da8161288a62b95c72f8c67cdf1f669c7823be20bcef69dac618caffa3280a7ea6bdcf66b32e9ba62ccbd87327495996dbed16c21b88752af724bc4964bba5baf33c7f5ceb8661b8582c7a753a4078030086a4aeebf97c1ec7f100b13e007cdfa7bf95248907316518465114c318cc223e68ff8cf8b74dd36c12b69b2ee23d3530fb9541f948c406bc1aa284bb016868b960181ec987c3a18bea26e7255d9bc3bc1508b2cd0100a3b0582c9224c17500bdd2ca1de6a7f5afaeebc3c4e1154511d1bdfe2f27ef83048ae95871511424673bcff3cb6cedfe809f125c05e728108e610a0e9f50dd04d3341ba7b8aaaa74397a7744c94f01004c527b97651986212e05e889d6ead2759ded19fab418fefafa1ae66f8998673e1b37e27d1f5dd75dd72521f1b22cbfbfbfb32c5bad568ee3b0eae04726cbb5bc4482de48d0b780e1614703e0575455c5adea9efd6f378db22c99775c43d01b800160952438b1b164cbe512fe7ad013ad70b7e7799c64655ef6b4eaef19173450fa8f40efd5344ddff749571e32ab6cb55a5996f5c88d5414c5b2ac388eb32ccbb28c4cc824af460b2ac77184eb8f070640ace37300b90584a06f6f5117d53dfbdf6e1a755d33ef8e01e10dc000b0caf6344d338e637e3266bb839c73d01374b89b8820ae5a6535922a8aa23ef68a99b079e6b3d96c368d2976c7e3318e63cbb27efcbc9aa659966518c6e56c334992841b07078641384f3c6e19e87becbca228c483c9ea1d6659c6f641d3340dcb0080be098280d533bbd96c4858c5f3bcc968a4388eb1480043f6fb3dbdc03ccfe3705ab3e338dfdfdf711cd33f643872dcf33c416fdf3fd3d8d7c8bcb8344dbfbfbfc9ccf05b06dce170d86eb7bbddae950e4106e120dc0d2e49d39443572200f7e9b5b9bda669dde775b5f6dbb22cd956faa03c0400b1205d9a755d9f52d19feffb98ef0d18d20a23abaa3a581bacc75531c9f5a0ed10c33018e6638adb90eb9fe9ad48dbb69324a9aa6ab3d93c12036f5437aabbc155902a0644a43f538fcc126352d849fbbfcbb2649e6d8e61040008c4e974221b57cb6f6818c683e61c87d4758daebd80155555d1e79ae3385c15554992b4d96c5aae810656de7081f3cc2729bc69059ea6e9f178bceca0462f91200898475ac094f638b44706822e5dce55f7e51b66be0fa3cc1b80be61ebe32392bb25bcc3304cd3f47c3edf31e778e67038c0090898d0cac1b46d9b1f1bd5719c61f494d092ed9fc9af515555499ecff178dc6c3641105896e5795e10049bcd86cc7bc0e06e700b41c3dde8af06fad09ccc5537edb42e8a429665b65635843700621d3744c6b7c43cd92864596ecc39cff3c4eabd722b0608c0d346a9a2289c187b8ee31c8fc724495ae6414f6f4fe814927f5f67b1aaaaaaaa2a22dbe01584775114ccb37681706b80f9c9cafc71a00f697242b31d467a381caaaa826b150071c5bc2449ad475855d5288aa2284a92248a2221ba39ec76bbb22cd14808747c2ee82962beef8f9b49a1699aebbab66ddf5ad8b41da2eb3afde69f46922471f3cc67af10f106e069cab2447f2620e8d265db11b00fd53dfbdffe6ae459c350310040cb5ebff56baeeb1645916599e338fc7f28ec4580ed12b26d7b94456559d66ab53a1e8f4551f8beffa03b8995075cf4002a84370037416e189880d9caadea9e5d6b6ccedc938dd24a008483f61bfeb82798a69924c9f178bc33d106c21b4c4c78933cf3c166ee10b14d6688a669fab8de66befe4517deff621d0300931d4cf878e65675cf2ee2db7d343687b10b8058b4fc860fdaf7aaaa928936240b9dc321a0d88b00c347c334cdbec7d4298a62dbb66ddb5c952e8a5e47898837003755376fa3110118d8c2d3346df8bc0fb6fdd54ea753af23cd01000c5155b5d590e9575930b22c87615855551cc78aa270f5d1b017818ed035d2a669f6b79c0cc3c8b2ac2ccb288ab812ba866188deb405c21b809bc21bba0b8808c3de04699af67dc8d1c63159b7c83607e0958577ebfc7a7c43288a228a22d2ea69b15870e83a87f0064fd372485d3e290c25779ee7ccf53693c53f810ed910de005cdfe0d6eb35ae031011568771100403f4e0a5ff04399899ff51086f00fa8349a7625a66d306baa6693ffafec85c585555dfdfdf3f3f3fb7db2db7d96a7de70683097375c61e432449da6c366c2537fd524c9eca09cceb81f00600963a80f06ea3284a188603bc5bfa1c258605737b62b7db61b23d00fca3288a2ccbb4f0bebf1b9465e9baeedbdbdb72b914a2340c1b1160852ccb0c7d5e96659565c9793c59f4416210de00407803acdeeb0ca3ba67d7268af51166c7130d00ff10371c2d276ed9d98de4162b376d02f13a3016ad96e60cd56c1cc7039495e1f181f006e0a10d0e00b15477f776be8aa2b8ae3bbcf09ecd664551f4e1d286f006a00fd8162dfbbeff6381775555224a6e82e87da10027b0724f1b865114457fc73d5ba93c81703784370057288a629849248aa2b06de04c7f04dcc79715de4cccdfc1de70eb60264bd7300cb67f65bbdd22c913009e85b76118baaeb78437bd3f5455456ab905edc0328d4459c009dde343711ce7793e40271700e10d40bfdbd923073019d55014c5f178741c87edeb4363bc2655557517de92240d16ee26d0ee27f2f4f5610a208d05009e45699224ade7b471c035927bb95c7238a0fb4126d090194c86fd7e3fc041cfd6d3348da10010de000c6da04b9244f78d5455354992388e71e5414798e499bbae3b703e241dd4224f5f1fa55c48030180e7bd8b4cf0be9c54ecbaaee892bbd95a71a3010fb2d3f3bc61922fd8da12d3281983f0066068e19d24c9e596e7ba6e10041c6ed0402ce3b5fb8b0c99677e29bc4fa7535114887803f022c725196244360112f4a65f9cd4728b2eb967b3996118e8ac0658d9751dd7d290c9170c0bc7eaba9e80f6fe174b19009abe0bbc2dcb22656c55553521385555755d0fc330cf7326f3218418ac02989fcadbedb6e38b388e337cc557cb0848d3b48f9eea887803c01b9aa6d19ee8288ae87f653b217c449a447a005e0d5dd7193ec84992885eb201e10dc0ac65f4f7fafab22c2749b25c2e5bc607f165c2230e9ea665b33ec758c9909665355e832449c230d4348d4c1763455dd73db54c07003ca1457ddfa75d6c799e4fd5651c45115a5801aec4b0a07f6bbbdd966529f4d384547300fe87bef351d7ebf5a5403a1c0e755dd775bddd6e59f539477cefd5e8ee331a311992f661936cf33edec960c3c90178119e2b6bf23caf2c4bfa794c9264f8229761701c07d5dd802b866ce3c2fc2867126380f006801706c86dbb9fcaceaa3c1b8dcd5f8a2449ba078b46347c5bc9635114f521bcb7db2d2c60004614de8ee31c8fc7288a88e95f1485effbb22c2f160bb6192efca86e24990326d0a163815a96a8aaaa280a5b6b07c21b808930f05ea6699a61188661d0bb12ab0a7308ef5713de1d5f415194114ba76459a687eaa569da532edc7abd364d138dd600181e4551489772d3344dd3fcf3e7cffbfbfbd7d7d7047aa75dc5f33ca86ec0f09414f49db3352d446fb106e10dc0d0c25b92a4fd7efffdfd5d14459ee7799e9765b9d96c244962f857906afe3a1445d13d5363f43c4f3a164d4e565665172d76bbdd7c3ed7753d4912f8a700188cd3e9b4a398b68b21cb32d1736201e05078cf04cf3687f0066050e14d86785f46f36cdb866b1c8c75084992347a0eb6699ab4d2ee29dbbce170382c168bbf7fff9aa619451126f001009848eed56a5596255aa502d01cee6c034bbbdd4edc231bc21b80ff7998fbfe137772686ddb6638f01042e245a8aa6abd5e777c11dbb6794863a3a3ee83f537deed769f9f9f6f6f6fbaae475184541100c013188611c771599653ed120740171b83ed0b8adb2a15c21b80ff638070f76ab5baef0567b8374178bf084c72ae3839c36cdba6fde20357621f0e87cfcfcff7f777a2c0f10401f023d3ce187f0445518220381e8f799ea3772300c308ef344d05ad1483f00660202bdf719c1f1de1484e03bfa2aaaaeec2dbb22c4ea662cab24c1fcf87c3a1a732ef4714781303471d3800577965e794a2289ee7edf77b32170d63ba01b82fbcd9f63617b7c51a84370043086f4dd31e1148baaeb3aa844120e21548d3b47b4360ae12235bb1f771270c1105fef7ef5fdbb6d1081d00086f4dd356abd5f1782ccb328aa29e862f007009eddc11d1c0639e0f22688b35086f007adfc824494ad3f4c11a5a04bdc1d332f5090cc3e06ac9a9aa4acf15e384ed763b9fcf5555450744001a5ea721826559711c9fcf6732781cf16d30aef01611dff7d9b6583b1c0e226e4110de00cc663d87bb7f9587c65005a14875da2449d2bd0319871d4ab8ad933c9d4e8bc502f21b80173962144589e3f8783ca669eabaaeb8839401181d599699a7d78918f486f006a05fe1ad69daaff69a560b8a2e35ae8216c080c78577c757e02ddc4d304db3d5de9fad9b1cf21b00264c35e22d495253bfedba2ee2db0030c1f77db695deebf55ab8262c10de00f42bbc7feb90535595de98ba949041184c7bc5762f8ee0d65bdcf25571584809f90d5e9cb22ca7d749c4b2accd66439a56a27e1b70452be14244b7972ccbcc0342c21dc110de00cc66bd15783b8ef3444491fe5ff23c7fbae4f5703820db7caa744f11f73c8f5bcbb2d50175b7db0541c0e1fb84fc062f8ba09d8d6ee96d52c29da629f3b9470030a1755e3f1de9651b737ee253b03dcd85db8820bc01e82bdc2d49d2733b027df09f4ea72e7600b2cda7ba623bba8a1445e1b0bafbce699aa66996655ce59cb7e4b7aeebe87c0e5e84b22c27e06ca2f5364ab8c18b307ae94418860c07859e4e27b182ff10de00f4a54ec3307cee20b76d9b1618799eb74a5e47f72980d1cfadee6b9e732bd3b66d7ad91f0e872449cab2b42c8bcf377c381ce6f3b9699a78e8c0e4715db7fb20c3515014c5719ccd66f3fdfd0dbd0dc028b075db0916f4fe06e0e5e923f1c6308c2e6f894e2f571425cbb2a7dfc9f97cc62d9e12c7e3b1e3e25cad56427cd2fd7edf7a360dc3389fcf9bcd86cfd07783e338c7e3116b154c72ffe1d6f975ff445ead56fbfd1e7710880b7df03dfd1876b44e59e1791eaba75b9224816e2222dee0d5298aa2fb4c26e61eb856b6b92ccb4f7b07906d3e313a86bb2dcb623ed2a327745d6f7dd8dd6ea7eb7afc2aab1500001b0149444154555565590641c0adfc5eafd7976f1e00a1a9aa2a0cc3b7b7b7ed76cbffbb9524c9308c2008b22cfbfefecef3dcf77df44b0342432fe0a76bbc3949f108c390d5095ed7b540952f10dee0d5e94397ae56ab8e077c2bdb3c4992a78d7808ef2991e7f97abdee628c8a5599e9baee6ab5a27fd2145457559524c9d3ad07fba6aeebe572a9aa2a32cfc134761e5dd797cb25cf32dbb22ca2b48fc7635555799e8761c8e1c444003851ef2322cb32c31471810c9b3fdfdfdf5885e09509c3308a2286e56a966531d1baaeeb36124b5194a22854557dee7d9ecf6794b14d03d334bbb455db6c3622f6ec4dd3f4e3e3e396c1adeb3ae7638d3ccf9b520b68f06a2449b2582c7850d74433102dadaaaaaaaab22c238e0d5e04da2c7c9a2008f8c9c652559555cee9f1781cbd6fdc23fc8b750c5e9c3ccf19aa6e45515839de6cdb6e76d8d3e994e7b9ebba5f5f5fcfe916d77571af45a7e3e05ccbb2049d9463dbf67ebf374df3f251adeb9aff61c25f5f5f799ee7790eff1780eafef10c25d6b37a01ee057871983c055c1d434992cce773562f2544791722dee0a509c3906deedc7ebf67e87d9765b9511a86612449f2f6f6f69ce242c2f904e812ee9624a92c4bd1851ff3fc9421912489e4eb62250351c8f39c95597c89e338b66debba0e510dc0234451f4f9f9d9f145b22ce3aafea2631e5f83a2286559f27f1351e30d5e94aaaa9857ac752fed6e4137c1daed764fcf52da6eb74ff7e100fc58c05d0ea7244926106e0dc3b0aaaacd66635916e78dcd2fa9ebda344d212c0300c829d95f8e8ce3384992d8b60dd50dc0834cd26fcb2a4b549481de10dee045ed09d3340f87035b338279b3e8567e7814454fff09b15a6a81ab9af3e9ff57dc24f3abd8b69da66955555996799ea7699a40dadbb66d78c100ff1445a1eb7a7fd92553da9100188649162ba9aaca6ab49810bd54906a0e5ed19e705d97adea360ca3a7dec5ad5e1ac7e3d134cd277a5188928403aed225e1539224d2996fc2d7a72ccb344d932461fb5cf7044a3f00e790b620bdd674b02dcb02e045f8f3e74fc757e0b0db6e55554f370f6e593bfcfbb511f1062fa7ba99c7ba354debcf8c6ec539c3307c2ee84ddab36101084a9770771886934fe65455d5f7fda2288ec7e36ab5e23c06bedd6ed1e41c704b92241f1f1f7d775280ea066014380c9bcbb2cca42f5a5dd7fc3bb511f1062fa7bad9da1303f4acb26d7bbbdd36dfde6aeffc23a4a60ecb40385ae16e49921ebffbfde562704e5555699ae6799ea62987cdd8a6d1eb0e4c0fdff79f9b9df12b908105c073746f45c6adeed375bd7b548c7f4317116f00d5ddc97a1e6044502bc49da6e973d571ebf51ac5a522d2f204ff6abdbdacab459665d7759324a9aa6abfdf07416018063f6fafae6b4cf803bcf1f4c4cadf82866a00e0d969c124118cff4803843780eaeef4840f902f679a26ad19a2287ada6447c45b38d234a5dddb8aa23c5ee11f04010cdcd96ca6eb7a1886799e9fcfe7388e1dc7e1a123fa76bb45f507e04a75d3fd44201e0080f01e12d3341dc7e9f822fcf73687f006afa8ba354deb5e051ac7f160556a74d0bbaeeba2289e7bffa82c150efad64b92f4f8a1ab280af336fba24387c1c94cb271df0f93aa3600982cc5c154378437004f33ede608611876778b23d51c80314992e4fdfdbda5ba6ddbee58491204c19099a2b66d2b8a427fa8e7fefae974fa7fedddef55abcadbc6f1b8d6790fbf0ac00ac8a900ac2058015841b002d815042bc85881a402b102b1024905920a7c5eb09e2c0e6e15863f19e0fb79b5b7c7e46c312173cd3d730fed9427248ee36a7ddb75dde69bbbe238660bf1cfefa924493e3e3ec230acbeb9c6f4f2f242d11b1797a6e99f3f7f080f80fae63d6955f649edf8248a8f7209de9879eabebbbbab7ec5b2ac288a3a0e326cdb1ebf5455bd19bdbdbd490f5c586d3e154551545f66adcec9b06d9b63729b289ba9e679fefcfc7c914de014bd71f1fbccf8ed06981304e4cc7ed22a08828e53e1c7e351e5de8d046f2c2b7597c79376795a4dd32e329d56fb67274922b750f67038d04e7612e238aeaed4f07dbfdadcfed7173f17b015c771d2347d7f7f1f790738456f5c561445cddb46f4f876e3ca0372143f2fb3a35e8e1653b9e84df0c63c2549f23575a769eafb7ec7166b49925c64b65ed7f56ad2ee3283402a535f5114d50df98661342f776fb75bb650ca314d530891e7f998ebcf5dd78de3384d5366c430b2344dc769630ea02fb32f7afbbedff1f357e5512ec11b3394e7796d974899bae338ee78fee176bbbde0547d75f17059a3902bcd11bcd5170441addcddb0f591a669ac5eeee8bcfe7cbfdf8f505b389d4ef7f7f7373737d7d7d7575757ebf5da75ddb20d3bbf0b0ce7228bcc0174b48489f58ec3d4b7b737654fcfbd52f62075409ae338d5805da6ee2ccb6e6e6eba3cad6559173fa540d7f5731ef33caf288ae6cb8fab5e5f5f696fa3ac344dabaf55cbb2745d6f3867b4dfef194cf7feeb10428cd9f3b9cab6ed328ab33a17fd0a82e022e56edbb6995402a42549727b7b2bfdf0a9e4beda48be2d65c74254bc31374288afa97bf5df72b1844b6dedaea9fe148f8f8fd263717a9b2b3e20aefdd21b7efc188641ea1ee2e35f08f1fefebedd6ec73f00fce5e5e5e1e1e1e6e6e6eaeaaaecc4ce6f04dd6559c62273608a16d29bb0e3da3d6567f708de9895a2286aa14508511ededb716b7714452a2cefa9fd74d26b6918bef7fe0951d6247ddf8fa24808217dd38fa2a87ad69d6ddbcdd75cb1c87c38a669c6715c14c57ebfbf48fff3d56a75381c6e6f6fd7ebf5c597de60eaba9fd903e02216b2fac9719c2e1fb5ca066f969a63565cd7ad2ebd0ec3308aa2388eefefefbb3ced66b35127a99aa6796e426bdb769ee7723d693f3e3e38d3a5bb24498220288ae2af333b8661acd7ebf57aed388e699abfceddd416996b9a669a66c333e70dc3a03bd768b22c8be33849928e337a72344d4bd394dd2290f3f5c88f31b1d41ce81adeaeaea41f3ba1dcd7f14ef5fefeaee07e788237e6a3165aca1c926599e3385d06c79aa6e579ae4e46ad9d436edbb6dc3698a7a7278e7aeea8ec3d5e3bf7ebd7785c7e12acd7ebaf2faa564f55534e33f14b19ff05208418ff4026c330b22c63ee0c122f5ad3342f3261c49d0ae84597fdcfd3ca7dd552535b8a6ef3fe04e6a276fcc0f3f3f3e7e767f7a6c4afafaf4afd98efefefd57f9edc69deabd5caf33c5e331dedf77b756ee61f1f1ffc462ef84a18edf831dec2e862bbdd5ef64e158621bf05a08b2e6bb0a7f593ee76bb997d44b2c71b33512b3a95e77ed5b6cbca4d98a9b69ed334cdea105f7a9b37db44fba569daf8d1ab3aff42f1f3827cdf2f8f1f1bb3fbdae3e3239b0bd0f6b67ff19e6a4b380c0918d4720eb9e852b25673944bf0c64cc4717cfeb36118e531bcd52fcaa56e357b4457e702a4e356c729099417df308c326b9d4ea7f1d71b9fb16b409df81d86e168ff4796eca215157aaa11bc01341f65492f5c5573944bf0c61c6459567d830541d0bd93b9cae7215783779665172cb42e9ce338dfb5551b93a6699c22a6ce28218aa2d7d7d7ee9b5c9aa0e88de66a676daaf0f905406eecb19c1fb6cbf046c13e8e046fcc41adb2edfb7e92245d46182aa7eedac0e5783c5240b86ccabaf83f8372b782efd02ccbba6c4e6b95a6b8e0f85551142adcac0cc360530c80e6bacc322838314df0c61cc613d5b3be3ccfd375bdcb823ac553f7ea4bc5806dde17140481e77997fd3750ee56f6b5f1fafa3af4ae6f82379a88e3f8827b61befbf002c0fb68b81f96e00df4af7694aeeffb5d4ef709c350fd18532b714b076fe907a2967c2e98bd0dc358d4aab3c98d18d2341d347b1f8f474e45c6afa3cf8e1d4f080c803a96b66c44ba8bbb82e525823726afd656ad6c662ef7549ee74da55951f536447e56217b5fea901ecaddea67efa18bd214bdf1b3288a066d45d17c6a897d3100da92de50a9e0f098e08d69cbf3bcd6562d4d53b972b7e779131dbfb2c75b05711c8fd9ce9ae03d21aeeb0e3a2f53dd6b03d4a469faf8f838dcf37b9ed770cd85611854bc815e8cd3bf73eaa35c969a03fda79dda0057ae646ddbf6b4527775f8227d64022b54fb1545d1c8d9dbf33ca65da672a71a6e9c743a9de8d7801fee4b83de8284100de334e56ea02f34296c4285c616046fcc4a352d6f369bd56a25d1cc5cd3b4c9958caaf7dca1bb37a1d51877bfdf8ff6bfa3dc3dad9bd5706f558adef8ee8531dc1162d565624d4eb554e11471009333a759068237a63da4a8b555939bda4fd37472efea6a9df3e2e748a31686c7c9deb66dd3566d42d6ebf5700dae58bd8291b36e6d73d6af456f96e700030d0297f0e929fd58d5968311bc31ede07dfeb3a6698ee348947d76bbdd14779df572cfa52bdb70d97b845e6b53690488ea0b63a006f8c35535315d5d0ef86895ba570dcedae57e0510bcc7a7da4097e08d9904eff214b1b6b5dfcd6633d1c56fbd94e8d9173a9c388e073d638c53c4a6fbc21868b3b7825d6470d9e1e6409f6e7f6d44faf3feed300cc9090040f0c654e5795e8dd9aeebb65dc66918c6748fe1a137acfa063ddf9bf2d144e9ba9e24c9109bbd09dea88ae378885d48df1dff619ae677b73bdbb6b95f0100c11b1356abd61645d16a4d5dd9506dd20d1be8a9b6d8ecad691a6dd5a6cb34cd217aa1b1cd1bd50fc4211a0aec76bb1f66abe338fefaa9b4dd6ee9fc0700046fcc27784bd4aee3389e7ad1b8fbbf9f3dde13cdde34079e3ac77176bb1dd701030982a0f772f77ebffff9cea3eb7a9665e5f122abd56ab3d93c3f3fc771ccb947c0a063604ce842fdc3af0413552defe8ba7e381c9a3f76bbdd52305c7538001c6db3f76ab57a7c7c3c7f45d334d334a5af3fafde7944a32ccbaaaf8a1e6f8958b23ccf7b7c5d9d537793dbce40ab3900d4503899e885a2e28da9aa4e62b50a30b66d0f77a8cf987ae955c3a4e9386a2db54ea7539ee7729dcf399567368410e7f220d097de37548761c8641fa0144eb29828823726a9d659ad39c33066331f4ff09e105dd7d334ad656f214418866df7ea33029e59f61ea8c93996294dd37ecbdd6118d21a0d500aeb4a08dec0a8a4e3a2106296fbcda41bad11bc47ceded5dfd4e974faf3e78feffbb66d377c12dbb639456c7eaf0ab237fad26f48f63c8fd40dcc26784fb429ef9c863d046f2c28786f369b39bd7bab3fcbe97492bb9f12bc2f9bbd57abd5c3c3439ee7b66d7f8ddf8661d4be425bb559be2a84101c5280eed234ed7101ea772787019868f0e624da8ba3b91aa63abc9078d43cb676ff90c35b75982bb14d6864ebf53a4d53d775aba7df1d8fc7f2af65e553ff7fb5d7b96ddbaeeb720de7faaaf8f7df7fb914e8a2c7eaf466b32175030a1242f47e660108dec04ff23c6ffb90300c67d692aab6665e7a097d96654c828e9cb2b22c735df7ebacc70f6d02354d9bf7cc11af8afd7e7f7777c7a5809c1ecbdd966591ba013555e7d7caa552e4f00961a939a6a7288a6ab5b0094dd3e6b746b79696a557d1b3da7c7c65357bb7db355f603c8393e7f133dff7e51add03abfecadd9665a569cae1db80828410d501b0699aa4ee9f4914ea08de40d7a018c7f1128611722d9a08de971204419ee761187eddcb5da569dad3d313cdcc17929d7e7e31fc8043e696acaf7237a91b505651145fcbddad2cf0ad4df0067a1861b4fa7edbb6e71a5aaaedb8d23495fb3109de17a4eb7a1445799ebfbfbfeff77bcff36cdb2e2750ca766bbbdd2ecf73b6762feaf550fdca76bb6d38baa2ddfd9287e3bd7cc6699a962409a91b50531445b572f70fdbd3fe8a7573046f60f0e03de3d350aaf7d02ccbe4c65ef4575381699abeef0b21d234cdb2ecf3f3334dd3344d8320601cbc28beef578bde499234dcdbcf888ae178c7d49da629eb26003509211e1e1eaa5f51ad960b8237e6a95585d6f3bc191782aa43edb7b7375dd73dcf1bfa9202183a479dff7c3c1e8ba208c3f0e787589645f05ea6344d6bc371e9d4cd4b085076dcfbb5f5a6c4eeeea228267a05e4b65212bc811eee3ecdef359aa6cdb8dcbdfab2b8344d53b99f97e00da8a356f48ea22808829fe7d438e07d99fa5a644eef4640594288be0e9b9cee606f364bff08de985ef06efecdebf57ade0be74cd3aceeff2c170a4a14bd09de8052aa41fa743a95db10be7b6b6b9a461780c5be4eba2f32f73c8fde8d809ae238eef198c9e956bc6783e08d89e170d1af930bb5fc1c4551db5e97046f40b540555d5977381c84104288dd6ef7f59ba328a211c002f9befff8f8d8f1492ccb6ad84400c0988aa2705df7fefebec7e76cdb8c0d046f2c5a9ee7ad3a812da1cd6ff5672cf3b3699a6dd79dd25f0d504d2d0edddddde9ba9e2449eddb6cdb669d39a95b8ea6694208666d000553b7e33887c3814b41f00654198962f5df8a77d98769b55a054140d11b9834c771b6db6df52ba7d3a93647560627ae15a95bfa2395addd806ab22c5bafd70355a719ec11bc81a6da0e3197b09be56b7fb5d56aa5eb7adb490aeec5806ae238de6c36dffd574dd3b22ce3fc2752b71cb676036aa66ec771baf76e58f2c098e00df4204992b667272c214ceaba5e3bf5f73c38ab7e9d6b054cf4beb7dbed6a27a91886615916a72e2f4dd9c3bc97d4cdd66e40cd1bbee33812e78481e00df48c64f81dd775cf0bcb1f1f1ff33c2fffdc6a8140592a07a09a2008d2347d7e7e7e7a7a0ac3f0e9e9294992722d22176739d234751ca797d4ad695a92246ced06942284b8bdbd1d3a75f3c6bfac7fb80498d0b0838bf05df07e787838ff358aa232723b8e631846c3054bf4ba0494a5eb7ab9a98463c316a8288a20087a89dce7f13d6b2500d552778fc786fd60a233b6d2f305aa4d3450f1c664d079fb3b8ee3d8b67dfe6bb5e81d4551f3e7616a0300d491e7791445a669f698bab7db2dd33780528220182775ffd0344471d2f305aa4d3410bc3199f1c7688f9aa25ac03effb5ba0afd572ce60700153eefca7ee3d7d7d77ffefce971e9295bbb01a594c78655172d0e8a493782373060261cae2da46abe2b7aebbadefc3e4bc51b002e4b08717d7d7d7f7fdffbf69f726b375718506764eb38ce68cb392dcb9aee410654bc81511545d1f660eaa5a915bdcfb7d7e6c19b8a37005c90effb4110f4feb4e5a767b96a9d8b0c2832acf57d7fb4f63a9ee74dbab8227def52eda647f0c634e4792eb7dc6e3927163a8e53ddbdf3f2f2522e29745db7e1b962c7e391031e01e022d2347d7c7c1ca8a7f16eb71b22d203901304c138a9db308cfd7e2f8498743ff3f57addea88dcf3cf4ec51b904c95720f5c5415378ee3eaba80fbfbfb728293a2370028ae552fccb6437c5237a08e2ccb7aec98f85796656db7dbd7d7d73ccfa7bbc2bc4a6283ba823f38c11bd3c0c1834d98a6591b5db9ae5b1405dbbc0140f181f8105b3d2dcb7a7d7d1d2ed20390507b4b567bf474611886e779fbfdfee3e323cbb2b247e36c2e5adbd943cbb214bcf511bc310d73ba770c7d37af2e383f9d4eaeeb3a8ed370873cc11b00c63744dbb37257279f9e806a0e87c3f9cf611876d987ac69da66b3d9eff7efefef799e0b217cdf9f65b1ca34cdfd7edffcb2a8d94b92e08dc9909b115c609214425477c2bcbcbc0441d070ad3e4bcd01607cbd7f54ed76bba9efea0496f0662f5377dbfec19665ed76bbd7d7d7a2289224f17d7f09ad137ddf6f92bd379b4d9ee76a5e108237268369fb86745dafcdf33d3c3c341c7e9d4ea7e51c7e0e00b3e4791e9bba01650769d5eac8dddd5df3ae8a96659d57920741b0c081b1effbefefefdbedd6b2acd57f272ccedbda93245176cef11fde002078cff25aedf7fbbbbbbbf3579a2fb9c9b28c23670060e4b178bf63532e29a0ec08cd34cde3f1d8ea51e56c1a23e1d56a659a66796acf1451f106c17b9e7cdff73ceffcd7e647d4b0cd1b0046267d72078019bfdf0dc308c3f0e3e34308c1307806ae3e3f3fb90a98ccebf5eaaaed436cdb5e6c922c8ae27ffffb5fdb475996c54e6f0018539ee7d7d7d77d3ddb76bb9d6e4508580221449224699ad6ea229aa69525f1f57aed380e619be00d5c8ce3386d0f5c5972f05ead56beef4b9c15f9f1f1414b1e0050ff76fd579aa61545c1250500a5b0d41c53c2dee3b6e4faebb0da1c004616c771d92ea8bbd3e92484e0920200c11b90c4921b892b263192237803c0c8745def717d7814455c520020780304eff14814bd9bb7400700f4c5711cdbb67b79aae3f148d11b0008de80fca0848bd096effbd5730e1b8ed838cd1b002671c7fe0e53a80040f006e4f5b5056e6923b9b60f61b539005ce476ddd714f3e170e07a0200c11b90c46a730912abcd09de0070114288bea698b9930300c11b20788fc734cdcd66c3700d00d4a7eb7a9aa6bd646f0e150300823740f01e55dbd5e6c7e331cb32ae1b005c247b0b21ba6ff6e6360e00046f4052dbcd6f1cfd2d77dd5614bd01e072d6eb759aa61db337156f00207803f25a2dc0237897745d6f7b4a0dc11b002e9bbd3b7626a7e20d00046fa0d358848b20a16dd1fb7038502d0180cbdeb7f7fb3dd7010008de00c17b325cd76dfb108e810580cbf27d5f3a7be779ce05040082373078f0d634adaf0351e771ddda6e1764b53900a890bdc3309478e0f178e4ea0100c11b90e4388e61184dbef3743a511eaf6a5bf4a6e20d002a88a2c8f33c89070a21b87a0040f006e4b377936fdb6c36baae73b9da5eb7b3d3e944f6060045b2b7c4a3eeeeee1cc761cd390010bc8101c71f12bb9a09de559aa6d15f0d0054609aa6dc82f3979797ebeb6bdff789df0040f0065a8f3f7e5d74671886effb5cabda756bf5fda7d389811a0028228aa2863badbe7a7c7c247e0300c11b90197f74fc060000a6a5e34aae327ebbae4bef4c002078038d98a669dbf65fff936118966551ee0600cc8ceffb725dd6aa0e87c3cdcd8d699a74f100008237f0bb2008fefaf5a22898cb0700cccf7abdeeeb98cce3f1787b7beb380ebd3c0080e00dfcc4755dcff39e9e9ece5fb12c4bd3b4344d69660e0098a55e8ade672f2f2f7d25790000c11bb32584386f78330c238aa22ccb38bbbb474c610080829f7dfbfdbeaf677b7b7be3b86f00207803bffbfcfcfcfcfcccf3dc75ddb68dbb97260c434dd39a7f3fb31800a020dff79f9f9fa59b9cd7b0d91b0008de00fa94e7f9e974e23a00c0d4398e936559dbe9d4bf62ce1a0008de00fad4f69435969a0380b2745d8fa228cff38ef1bbe3296500805f5d7d7e7e72158045711ce7e5e5a5e137738b008049288a4208912449f33b7cc9f33cf6780300c11b40cfd234bdb9b969f29d8661e479ce1503806925f02ccbd2342dffb05aadbe8be2655352dff7b9680040f006d03fd7750f87c3afdfb6d96ce8b80300335046f12ccbcae954dff7d7eb35ed330180e00d60d81198e338bf7659dbeff7544200000000823700194288bbbbbb1fbe41d3b4a228b850000000404774350716caf7fded76fbf337709500000080eea878038bf6d7cdde9aa6f9be1f040127bb02000000dd51f106164d0861dbb6655965de360c63b55a9d4e27c77148dd000000402fa8780358f9be5ff6b9751ca7288ab2db2d9705000000207803e8539665baae53e806000000faf57fe9c48889b79b65810000000049454e44ae426082', 'image/png');
+INSERT INTO logo (hash, content, content_type) VALUES('2a81d003dfe46e884736e5d5f489148585d8f7a571b90ad13642a135c57fff24', X'89504e470d0a1a0a0000000d49484452000000340000003c0802000000a6490ed1000007254944415478dacd9a7954547514c7fdafac4e09b8946996db71494573a1ce09131742057754c4d40acb95944acb8d4d44904dc4a152403637401444c7101150201586611b16d9f761c0196098f5d13d871ae7ccbbf3de9be191cdf9fd37bff77e9fb9bffbbbf77eef6f86f4fd8f3f43d87a91a8475cda56cd6b2a2f6a79de24695713ea570cd7206e0b797c7d7dd4a1f1deab869d58a43d4679585b729c0e24f92716a74b643dff29dcd3861287d8a3a6ae8b7598d0f1ae87f58e6b6e8f6bf8830ed7d6ddf16d9ca7c9092b26583ac336e260514be560c1dd2bcf99e8b3c6082ccd18e1bed42f235a4d102cc305655d61b88fb4e32897c3269ce7fd8b4c569d707af5eca02d1ffb6f1ce9be9462da1dc123d6e0c066142b99b92e76bc72ec66f14388269a47546a55716b159ce5cf394e3af3ad2fec23d8da56f0338addb48b382868aba1781c28924b33c196fdf34d4e2ccaace6b173205abb3af49d00200ec88c6568834ea9644de44ff0d4baa843ac9dd66fe23c50b2e16e4be20bd30c3ae90a9572eb95e3f98d65ecc0e5d4169ab8e2f12ce2699211a1dbd09c460507fe8492ed4df479c5891fec6f82914d39b35e2ceb7ec570fb6ffaa266bbf42c19d9afeeae9633de650b3f2d9e3eb1c2c64ac80956f74a070bae57291f77ca964c36cdcf5eae52e84c56b6b696ce9bc97be735ed21b098a3686e1a14b8bb65d9a8d9bcd2c2c8936bb63be890f58fca95cbfa98051ac3e05c9203513872bc55894405666fa27030ba7373d887b308d9412683a449f4e95aa23b375b1f190c61e83996e1a48a5e88b164b89df12711ef2c2da180135d0a6319ae5c5887ee29142658ee2404f367e1702643e5d5552cc33da92f41e1bc1f44a0afe8ca482f18fe1619aede7937fba715f4010a77303940df5b24a95c88702fc94cdf68707126e472f6e16a3a9a50b885a13ba94a23854292962ae49c134545c8eb6a072b4328d5aab15e2bb01ac9aa5c68fcaa759d2d614f6eed493c0dc5a679e096c9be6ba7f96d5818fa1dc8a5f3d9d7f9cd15e4508087928d31bfa2c673c20e2ced0742fa8af01f68051bb0fe9c72163c9e062ea1e801fa3c2c7099c7658e55dbd9b2ea928ba1f2c7e2dc8e8af63abd70b0b3f383b7e92b3303332fc3045ab2ac1ade47de76466833f34007a55a4955953caccaa3900ee034105932aaf29a2442a812644a85482a064573ab24e3645a58f8d3a4bc46c1e89336c609c798fcbbf4c5a6efc348235e3dc66b05f8feec20477d13def3fcd292e3b43ccc795ef036f2ef9f13e4a8d9962194c28970fdf37743e10ea50487e6c4a35fcd0a7488e3df97295fc63f617727273b6eba9fbd668eb64fd34b43983dd66b2573b8ec5abe65e84ed4cd4183a14b481532f7d40b666e4be69eddaad2f26646a21a1c6b4fa2cf08b7a5b464705cdaba3b4d315904ee48bd4a6675feedd22c237b258de2369ff4c8cf42bea6809beab7a1b0b992612dc8729749cacb9316e437be688d2bbc7ffc5ee8e6d823e0daa0e641784ff2590b210094696e5d110a778d9f3a8870ea9e9e92199321af174d1853b5795db3975bc7d5582849a4457cf84a33ad52d480c2cd0cd8dc2c691f2cb826b76368dd56623e555b6b81729ea4a78301a6d5ce4eacc1c9ca040523de46e1c4dc3b3a9329029099ebe2bd377dea5eb4b007471095765fa264d55becc9d35ff4764dffb7ad848e91eecb7ebc1d44bbcb8ce03aaf5f45c9f8a34df5956e054de5b48975b4a70dd8187e89f1702ab1b878ca87285c6b802fc583a045c89d43f2187f7a35e4627231c708aee1b00b4a26986f4e5b884396845406cbd322eebae1ad52ab0d8393f279b8661ef63a0411868709360eb60ff2bda15d6c4a38b5ba62d917a8d96a9db61b1a511bc542e75b675045ac6995eab416a9e04491e12859e10723152dcdc629092871fbfbafe80085c1084e296a2f1aff3ede64f82d64209a8a20f4566210a519c1d5efdf8d9295595a104ae500351f9c4d5bac6d3ae6e472edd62c0ed7f3570ecf6428da6180af58d1a4a1390964b871a76cb5dbf3081ca15296592e40cd56bf7f175b2dd5c0accb64b8b9c15fd16c2bb8144a062e088e48bd64496b5574de1d26706bb163b1fd9a1b151c1c43388c783f2b329c76c97e957a20c9bf5bde4b318d5b9e8d5e2244e7a550c1410043c920e0f5a9696e11924b3335cbcc08d804e243a15292ae2288c867b721ab92c9201777c97bf4c241d087d04f26832401a982a6a652ca41cceaac07e5f1de449f3f726f2414a645e5a51ce3723e39bb555f90e3e4c4ebcd1084422e58608e9a0dd22bed86fa67c40ce4067663cc2fe4fb9d97705062a06450924061424d0695198428a3c92067a03efa0f9cbcbe0e8a33140e8a395ab3c1ae8df2b036020bb42a648bfece885eb86a477bfc2ec1ce86e15d0208c72377cfa3572b78c3cad5ca3efa30bfb982a61296a4725132100d201d0c0aadbd4a796271faf709a766f86fd2f7370eeb8bfb40ff56b6d733d3106a352193214331a0a66e8754fcac41c02dcf01dc14c1a3ac6ade73510393de99e6f337c6d2386d99a234bc0000000049454e44ae426082', 'image/png');
+INSERT INTO series (id, name, logo_hash, hidden, locked, organization_id) VALUES(1, 'CIS 2018', 'c19e2b507f89ac4d9e80e975f33f053e9d721e3d3972764c40021d4fef16e5f5', '0', '0', 1);
+INSERT INTO series (id, name, logo_hash, hidden, locked, organization_id) VALUES(2, 'Jugendmeisterschaft 2018', 'afef87b49bce550b4b2279ef9a70af770e8a8a86a2d3735dd575809701388a28', '0', '0', 2);
+INSERT INTO series (id, name, logo_hash, hidden, locked, organization_id) VALUES(3, 'CIS 2019', '2a81d003dfe46e884736e5d5f489148585d8f7a571b90ad13642a135c57fff24', '0', '0', 1);
+INSERT INTO series (id, name, logo_hash, hidden, locked, organization_id) VALUES(4, 'Jugendmeisterschaft 2019', 'afef87b49bce550b4b2279ef9a70af770e8a8a86a2d3735dd575809701388a28', '0', '0', 2);
 
 INSERT INTO user_group (user_id, group_id) VALUES(2, 1);
 INSERT INTO user_group (user_id, group_id) VALUES(2, 2);
@@ -2277,5 +2280,16 @@ INSERT INTO user_group (user_id, group_id) VALUES(2, 2);
 INSERT INTO organization_user (organization_id, user_id) VALUES (1, 2);
 INSERT INTO organization_user (organization_id, user_id) VALUES (2, 2);
 
+--
+-- Points summaries of the test data, filled like V0005__Points_summary does for existing results
+--
+INSERT INTO athlete_points (athlete_id, category_id, competition_id, points)
+SELECT athlete_id, category_id, competition_id, SUM(points) FROM result GROUP BY athlete_id, category_id, competition_id;
+
+INSERT INTO club_points (club_id, competition_id, points)
+SELECT a.club_id, ap.competition_id, SUM(ap.points) FROM athlete_points ap JOIN athlete a ON a.id = ap.athlete_id
+WHERE a.club_id IS NOT NULL GROUP BY a.club_id, ap.competition_id;
+
 SET FOREIGN_KEY_CHECKS=1;
 COMMIT;
+